@@ -0,0 +1,1360 @@
+package org.jboss.errai.bus.client.framework;
+
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import org.jboss.errai.bus.client.api.CallableFuture;
+import org.jboss.errai.bus.client.api.base.MessageBuilder;
+import org.jboss.errai.bus.client.api.builder.RemoteCallSendable;
+import org.jboss.errai.bus.client.api.messaging.MessageBus;
+import org.jboss.errai.bus.client.tests.support.AbstractClassA;
+import org.jboss.errai.bus.client.tests.support.AsyncRPCService;
+import org.jboss.errai.bus.client.tests.support.Boron.Bean;
+import org.jboss.errai.bus.client.tests.support.BuilderEntity;
+import org.jboss.errai.bus.client.tests.support.ClassWithNestedClass;
+import org.jboss.errai.bus.client.tests.support.EntityWithClassFieldAndMap;
+import org.jboss.errai.bus.client.tests.support.EntityWithConstructorAndMethodMappedLong;
+import org.jboss.errai.bus.client.tests.support.EntityWithFactoryMethodAndMixedMappingTypes;
+import org.jboss.errai.bus.client.tests.support.EntityWithGenericCollections;
+import org.jboss.errai.bus.client.tests.support.EntityWithGoodParts;
+import org.jboss.errai.bus.client.tests.support.EntityWithInheritedTypeVariable;
+import org.jboss.errai.bus.client.tests.support.EntityWithInterfaceArrayField;
+import org.jboss.errai.bus.client.tests.support.EntityWithInterfaceField;
+import org.jboss.errai.bus.client.tests.support.EntityWithMapUsingAbstractKeyType;
+import org.jboss.errai.bus.client.tests.support.EntityWithMapUsingAbstractValueType;
+import org.jboss.errai.bus.client.tests.support.EntityWithMapUsingSubtypeValues;
+import org.jboss.errai.bus.client.tests.support.EntityWithMixedMappingTypes;
+import org.jboss.errai.bus.client.tests.support.EntityWithStringBufferAndStringBuilder;
+import org.jboss.errai.bus.client.tests.support.EntityWithSuperClassField;
+import org.jboss.errai.bus.client.tests.support.EntityWithTypesUsingNestedParameterizedTypes;
+import org.jboss.errai.bus.client.tests.support.EntityWithUnderscore_InClassName;
+import org.jboss.errai.bus.client.tests.support.EntityWithUnqualifiedFields;
+import org.jboss.errai.bus.client.tests.support.EnumContainerContainer;
+import org.jboss.errai.bus.client.tests.support.ErrorThrowingRPCService;
+import org.jboss.errai.bus.client.tests.support.FactoryEntity;
+import org.jboss.errai.bus.client.tests.support.GenericEntity;
+import org.jboss.errai.bus.client.tests.support.GenericEntitySubtypeInteger;
+import org.jboss.errai.bus.client.tests.support.GenericEntitySubtypeString;
+import org.jboss.errai.bus.client.tests.support.GenericEntityWithConstructorMapping;
+import org.jboss.errai.bus.client.tests.support.GenericServiceB;
+import org.jboss.errai.bus.client.tests.support.HibernateObject;
+import org.jboss.errai.bus.client.tests.support.HibernateRpc;
+import org.jboss.errai.bus.client.tests.support.ImmutableArrayContainer;
+import org.jboss.errai.bus.client.tests.support.ImmutableEnumContainer;
+import org.jboss.errai.bus.client.tests.support.ImplicitEnum;
+import org.jboss.errai.bus.client.tests.support.Koron;
+import org.jboss.errai.bus.client.tests.support.NeverDeclareAnArrayOfThisType;
+import org.jboss.errai.bus.client.tests.support.OtherHibernateObject;
+import org.jboss.errai.bus.client.tests.support.Outer;
+import org.jboss.errai.bus.client.tests.support.Outer2;
+import org.jboss.errai.bus.client.tests.support.Person;
+import org.jboss.errai.bus.client.tests.support.RpcBypassingInterceptor;
+import org.jboss.errai.bus.client.tests.support.RpcInterceptorOne;
+import org.jboss.errai.bus.client.tests.support.RpcInterceptorTwo;
+import org.jboss.errai.bus.client.tests.support.RpcParameterManipulatingInterceptor;
+import org.jboss.errai.bus.client.tests.support.RpcResultManipulatingInterceptor;
+import org.jboss.errai.bus.client.tests.support.SimpleRPCService;
+import org.jboss.errai.bus.client.tests.support.SlowService;
+import org.jboss.errai.bus.client.tests.support.SpecificEntity;
+import org.jboss.errai.bus.client.tests.support.Student;
+import org.jboss.errai.bus.client.tests.support.SubMoron;
+import org.jboss.errai.bus.client.tests.support.SubService;
+import org.jboss.errai.bus.client.tests.support.SuperInterface;
+import org.jboss.errai.bus.client.tests.support.TestEnumA;
+import org.jboss.errai.bus.client.tests.support.TestInterceptorRPCService;
+import org.jboss.errai.bus.client.tests.support.TestRPCService;
+import org.jboss.errai.bus.client.tests.support.TestSerializationRPCService;
+import org.jboss.errai.bus.client.tests.support.TestSerializationRPCService.DuplicateRemoteInterface;
+import org.jboss.errai.bus.client.tests.support.TestingTickCache;
+import org.jboss.errai.bus.client.tests.support.User;
+import org.jboss.errai.bus.client.tests.support.pkg.PortableType1;
+import org.jboss.errai.bus.client.tests.support.pkg.serializablesubpkg.PortableType2;
+import org.jboss.errai.common.client.api.ErrorCallback;
+import org.jboss.errai.common.client.api.RemoteCallback;
+import org.jboss.errai.common.client.api.interceptor.InterceptedCall;
+import org.jboss.errai.common.client.api.interceptor.RemoteCallContext;
+import org.jboss.errai.common.client.framework.CallContextStatus;
+import org.jboss.errai.common.client.framework.ProxyProvider;
+import org.jboss.errai.common.client.framework.RemoteServiceProxyFactory;
+import org.jboss.errai.common.client.util.AsyncBeanFactory;
+import org.jboss.errai.common.client.util.CreationalCallback;
+
+public class RpcProxyLoaderImpl implements RpcProxyLoader { public void loadProxies(final MessageBus bus) {
+    class org_jboss_errai_bus_client_tests_support_ErrorThrowingRPCServiceImpl extends AbstractRpcProxy implements ErrorThrowingRPCService { public Long currentTime() {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.ErrorThrowingRPCService").endpoint("currentTime:", qualifiers, new Object[] { }).respondTo(Long.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_ErrorThrowingRPCServiceImpl.this.sendRequest(bus, sendable);
+        return 0L;
+      }
+    }
+    RemoteServiceProxyFactory.addRemoteProxy(ErrorThrowingRPCService.class, new ProxyProvider() {
+      public Object getProxy() {
+        return new org_jboss_errai_bus_client_tests_support_ErrorThrowingRPCServiceImpl();
+      }
+    });
+    class org_jboss_errai_bus_client_tests_support_GenericServiceBImpl extends AbstractRpcProxy implements GenericServiceB { public String create(final SpecificEntity a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.GenericServiceB").endpoint("create:org.jboss.errai.bus.client.tests.support.SpecificEntity:", qualifiers, new Object[] { a0 }).respondTo(String.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_GenericServiceBImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+    }
+    RemoteServiceProxyFactory.addRemoteProxy(GenericServiceB.class, new ProxyProvider() {
+      public Object getProxy() {
+        return new org_jboss_errai_bus_client_tests_support_GenericServiceBImpl();
+      }
+    });
+    class org_jboss_errai_bus_client_tests_support_SimpleRPCServiceImpl extends AbstractRpcProxy implements SimpleRPCService { public Long currentTime() {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.SimpleRPCService").endpoint("currentTime:", qualifiers, new Object[] { }).respondTo(Long.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_SimpleRPCServiceImpl.this.sendRequest(bus, sendable);
+        return 0L;
+      }
+    }
+    RemoteServiceProxyFactory.addRemoteProxy(SimpleRPCService.class, new ProxyProvider() {
+      public Object getProxy() {
+        return new org_jboss_errai_bus_client_tests_support_SimpleRPCServiceImpl();
+      }
+    });
+    class org_jboss_errai_bus_client_tests_support_SubServiceImpl extends AbstractRpcProxy implements SubService { public int subServiceMethod() {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.SubService").endpoint("subServiceMethod:", qualifiers, new Object[] { }).respondTo(Integer.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_SubServiceImpl.this.sendRequest(bus, sendable);
+        return 0;
+      }
+
+      public int baseServiceMethod() {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.SubService").endpoint("baseServiceMethod:", qualifiers, new Object[] { }).respondTo(Integer.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_SubServiceImpl.this.sendRequest(bus, sendable);
+        return 0;
+      }
+    }
+    RemoteServiceProxyFactory.addRemoteProxy(SubService.class, new ProxyProvider() {
+      public Object getProxy() {
+        return new org_jboss_errai_bus_client_tests_support_SubServiceImpl();
+      }
+    });
+    class org_jboss_errai_bus_client_tests_support_TestInterceptorRPCServiceImpl extends AbstractRpcProxy implements TestInterceptorRPCService { public String interceptedRpc1() {
+        try {
+          final CallContextStatus status = new CallContextStatus(RpcBypassingInterceptor.class);
+          final RemoteCallContext callContext = new RemoteCallContext() {
+            public String getMethodName() {
+              return "interceptedRpc1";
+            }
+            public Class getReturnType() {
+              return String.class;
+            }
+            public Annotation[] getAnnotations() {
+              return new Annotation[] { };
+            }
+            public Annotation[] getTypeAnnotations() {
+              return new Annotation[] { };
+            }
+            public Object proceed() {
+              status.proceed();
+              if (status.getNextInterceptor() == null) {
+                RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestInterceptorRPCService").endpoint("interceptedRpc1:", qualifiers, getParameters()).respondTo(String.class, remoteCallback).errorsHandledBy(errorCallback);
+                org_jboss_errai_bus_client_tests_support_TestInterceptorRPCServiceImpl.this.sendRequest(bus, sendable);
+              } else if (status.getNextInterceptor() == RpcBypassingInterceptor.class) {
+                final RemoteCallContext ctx = this;
+                final CreationalCallback icc = new CreationalCallback() {
+                  public void callback(final Object beanInstance) {
+                    status.setProceeding(false);
+                    ((RpcBypassingInterceptor) beanInstance).aroundInvoke(ctx);
+                    if ((!status.isProceeding()) && (RpcBypassingInterceptor.class == status.getNextInterceptor())) {
+                      remoteCallback.callback(ctx.getResult());
+                    }
+                  }
+                };
+                AsyncBeanFactory.createBean(new RpcBypassingInterceptor(), icc);
+              }
+              return null;
+            }
+            public void proceed(final RemoteCallback interceptorCallback) {
+              final RemoteCallback providedCallback = org_jboss_errai_bus_client_tests_support_TestInterceptorRPCServiceImpl.this.remoteCallback;
+              remoteCallback = new RemoteCallback() {
+                public void callback(Object response) {
+                  RemoteCallback intCallback = interceptorCallback;
+                  setResult(response);
+                  intCallback.callback(getResult());
+                  providedCallback.callback(getResult());
+                }
+              };
+              proceed();
+            }
+            public void proceed(RemoteCallback interceptorCallback, final ErrorCallback interceptorErrorCallback) {
+              final ErrorCallback providedErrorCallback = org_jboss_errai_bus_client_tests_support_TestInterceptorRPCServiceImpl.this.errorCallback;
+              errorCallback = new ErrorCallback() {
+                public boolean error(Object message, Throwable throwable) {
+                  interceptorErrorCallback.error(message, throwable);
+                  if (getResult() != null) {
+                    remoteCallback.callback(getResult());
+                    return false;
+                  } else if (providedErrorCallback != null) {
+                    return providedErrorCallback.error(message, throwable);
+                  }
+                  return true;
+                }
+              };
+              proceed(interceptorCallback);
+            }
+          };
+          callContext.setParameters(new Object[] { });
+          callContext.proceed();
+        } catch (Throwable throwable) {
+          if (errorCallback != null) {
+            if (errorCallback.error(null, throwable)) {
+              invokeDefaultErrorHandlers(throwable);
+            }
+          } else {
+            invokeDefaultErrorHandlers(throwable);
+          }
+        }
+        return null;
+      }
+
+      public String interceptedRpc2() {
+        try {
+          final CallContextStatus status = new CallContextStatus(RpcBypassingInterceptor.class);
+          final RemoteCallContext callContext = new RemoteCallContext() {
+            public String getMethodName() {
+              return "interceptedRpc2";
+            }
+            public Class getReturnType() {
+              return String.class;
+            }
+            public Annotation[] getAnnotations() {
+              return new Annotation[] { };
+            }
+            public Annotation[] getTypeAnnotations() {
+              return new Annotation[] { };
+            }
+            public Object proceed() {
+              status.proceed();
+              if (status.getNextInterceptor() == null) {
+                RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestInterceptorRPCService").endpoint("interceptedRpc2:", qualifiers, getParameters()).respondTo(String.class, remoteCallback).errorsHandledBy(errorCallback);
+                org_jboss_errai_bus_client_tests_support_TestInterceptorRPCServiceImpl.this.sendRequest(bus, sendable);
+              } else if (status.getNextInterceptor() == RpcBypassingInterceptor.class) {
+                final RemoteCallContext ctx = this;
+                final CreationalCallback icc = new CreationalCallback() {
+                  public void callback(final Object beanInstance) {
+                    status.setProceeding(false);
+                    ((RpcBypassingInterceptor) beanInstance).aroundInvoke(ctx);
+                    if ((!status.isProceeding()) && (RpcBypassingInterceptor.class == status.getNextInterceptor())) {
+                      remoteCallback.callback(ctx.getResult());
+                    }
+                  }
+                };
+                AsyncBeanFactory.createBean(new RpcBypassingInterceptor(), icc);
+              }
+              return null;
+            }
+            public void proceed(final RemoteCallback interceptorCallback) {
+              final RemoteCallback providedCallback = org_jboss_errai_bus_client_tests_support_TestInterceptorRPCServiceImpl.this.remoteCallback;
+              remoteCallback = new RemoteCallback() {
+                public void callback(Object response) {
+                  RemoteCallback intCallback = interceptorCallback;
+                  setResult(response);
+                  intCallback.callback(getResult());
+                  providedCallback.callback(getResult());
+                }
+              };
+              proceed();
+            }
+            public void proceed(RemoteCallback interceptorCallback, final ErrorCallback interceptorErrorCallback) {
+              final ErrorCallback providedErrorCallback = org_jboss_errai_bus_client_tests_support_TestInterceptorRPCServiceImpl.this.errorCallback;
+              errorCallback = new ErrorCallback() {
+                public boolean error(Object message, Throwable throwable) {
+                  interceptorErrorCallback.error(message, throwable);
+                  if (getResult() != null) {
+                    remoteCallback.callback(getResult());
+                    return false;
+                  } else if (providedErrorCallback != null) {
+                    return providedErrorCallback.error(message, throwable);
+                  }
+                  return true;
+                }
+              };
+              proceed(interceptorCallback);
+            }
+          };
+          callContext.setParameters(new Object[] { });
+          callContext.proceed();
+        } catch (Throwable throwable) {
+          if (errorCallback != null) {
+            if (errorCallback.error(null, throwable)) {
+              invokeDefaultErrorHandlers(throwable);
+            }
+          } else {
+            invokeDefaultErrorHandlers(throwable);
+          }
+        }
+        return null;
+      }
+    }
+    RemoteServiceProxyFactory.addRemoteProxy(TestInterceptorRPCService.class, new ProxyProvider() {
+      public Object getProxy() {
+        return new org_jboss_errai_bus_client_tests_support_TestInterceptorRPCServiceImpl();
+      }
+    });
+    class org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl extends AbstractRpcProxy implements TestRPCService { public boolean isGreaterThan(final int a0, final int a1) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("isGreaterThan:int:int:", qualifiers, new Object[] { a0, a1 }).respondTo(Boolean.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+        return false;
+      }
+
+      public void exception() {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("exception:", qualifiers, new Object[] { }).respondTo(void.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+      }
+
+      public void nonPortableException() {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("nonPortableException:", qualifiers, new Object[] { }).respondTo(void.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+      }
+
+      public void returnVoid() {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("returnVoid:", qualifiers, new Object[] { }).respondTo(void.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+      }
+
+      public Person returnNull() {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("returnNull:", qualifiers, new Object[] { }).respondTo(Person.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public void rpcMethodAcceptingInterface(final SuperInterface a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("rpcMethodAcceptingInterface:org.jboss.errai.bus.client.tests.support.SuperInterface:", qualifiers, new Object[] { a0 }).respondTo(void.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+      }
+
+      public void rpcMethodAcceptingAbstractClass(final AbstractClassA a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("rpcMethodAcceptingAbstractClass:org.jboss.errai.bus.client.tests.support.AbstractClassA:", qualifiers, new Object[] { a0 }).respondTo(void.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+      }
+
+      public void rpcMethodAcceptingTypeVariable(final Object a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("rpcMethodAcceptingTypeVariable:java.lang.Object:", qualifiers, new Object[] { a0 }).respondTo(void.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+      }
+
+      public void rpcMethodAcceptingUpperBoundedParameterizedList(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("rpcMethodAcceptingUpperBoundedParameterizedList:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(void.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+      }
+
+      public void rpcMethodAcceptingUnboundedParameterizedList(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("rpcMethodAcceptingUnboundedParameterizedList:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(void.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+      }
+
+      public void rpcMethodAcceptingParameterizedList(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("rpcMethodAcceptingParameterizedList:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(void.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+      }
+
+      public void rpcMethodAcceptingUnoundedWildcardList(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("rpcMethodAcceptingUnoundedWildcardList:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(void.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+      }
+
+      public void rpcMethodAcceptingLowerBoundedWildcardList(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("rpcMethodAcceptingLowerBoundedWildcardList:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(void.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+      }
+
+      public void rpcMethodAcceptingUpperBoundedWildcardList(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("rpcMethodAcceptingUpperBoundedWildcardList:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(void.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+      }
+
+      public List rpcMethodWithTypeVariableNestedInGenericArgTypes(final GenericEntity a0, final List a1) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("rpcMethodWithTypeVariableNestedInGenericArgTypes:org.jboss.errai.bus.client.tests.support.GenericEntity:java.util.List:", qualifiers, new Object[] { a0, a1 }).respondTo(List.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public String interceptedRpcWithEndpointBypassing() {
+        try {
+          final CallContextStatus status = new CallContextStatus(RpcBypassingInterceptor.class);
+          final RemoteCallContext callContext = new RemoteCallContext() {
+            public String getMethodName() {
+              return "interceptedRpcWithEndpointBypassing";
+            }
+            public Class getReturnType() {
+              return String.class;
+            }
+            public Annotation[] getAnnotations() {
+              return new Annotation[] { new InterceptedCall() {
+                  public Class annotationType() {
+                    return InterceptedCall.class;
+                  }
+                  public String toString() {
+                    return "@org.jboss.errai.common.client.api.interceptor.InterceptedCall(value=[class org.jboss.errai.bus.client.tests.support.RpcBypassingInterceptor])";
+                  }
+                  public Class[] value() {
+                    return new Class[] { RpcBypassingInterceptor.class };
+                  }
+              } };
+            }
+            public Annotation[] getTypeAnnotations() {
+              return new Annotation[] { };
+            }
+            public Object proceed() {
+              status.proceed();
+              if (status.getNextInterceptor() == null) {
+                RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("interceptedRpcWithEndpointBypassing:", qualifiers, getParameters()).respondTo(String.class, remoteCallback).errorsHandledBy(errorCallback);
+                org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+              } else if (status.getNextInterceptor() == RpcBypassingInterceptor.class) {
+                final RemoteCallContext ctx = this;
+                final CreationalCallback icc = new CreationalCallback() {
+                  public void callback(final Object beanInstance) {
+                    status.setProceeding(false);
+                    ((RpcBypassingInterceptor) beanInstance).aroundInvoke(ctx);
+                    if ((!status.isProceeding()) && (RpcBypassingInterceptor.class == status.getNextInterceptor())) {
+                      remoteCallback.callback(ctx.getResult());
+                    }
+                  }
+                };
+                AsyncBeanFactory.createBean(new RpcBypassingInterceptor(), icc);
+              }
+              return null;
+            }
+            public void proceed(final RemoteCallback interceptorCallback) {
+              final RemoteCallback providedCallback = org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.remoteCallback;
+              remoteCallback = new RemoteCallback() {
+                public void callback(Object response) {
+                  RemoteCallback intCallback = interceptorCallback;
+                  setResult(response);
+                  intCallback.callback(getResult());
+                  providedCallback.callback(getResult());
+                }
+              };
+              proceed();
+            }
+            public void proceed(RemoteCallback interceptorCallback, final ErrorCallback interceptorErrorCallback) {
+              final ErrorCallback providedErrorCallback = org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.errorCallback;
+              errorCallback = new ErrorCallback() {
+                public boolean error(Object message, Throwable throwable) {
+                  interceptorErrorCallback.error(message, throwable);
+                  if (getResult() != null) {
+                    remoteCallback.callback(getResult());
+                    return false;
+                  } else if (providedErrorCallback != null) {
+                    return providedErrorCallback.error(message, throwable);
+                  }
+                  return true;
+                }
+              };
+              proceed(interceptorCallback);
+            }
+          };
+          callContext.setParameters(new Object[] { });
+          callContext.proceed();
+        } catch (Throwable throwable) {
+          if (errorCallback != null) {
+            if (errorCallback.error(null, throwable)) {
+              invokeDefaultErrorHandlers(throwable);
+            }
+          } else {
+            invokeDefaultErrorHandlers(throwable);
+          }
+        }
+        return null;
+      }
+
+      public String interceptedRpcWithResultManipulation() {
+        try {
+          final CallContextStatus status = new CallContextStatus(RpcResultManipulatingInterceptor.class);
+          final RemoteCallContext callContext = new RemoteCallContext() {
+            public String getMethodName() {
+              return "interceptedRpcWithResultManipulation";
+            }
+            public Class getReturnType() {
+              return String.class;
+            }
+            public Annotation[] getAnnotations() {
+              return new Annotation[] { new InterceptedCall() {
+                  public Class annotationType() {
+                    return InterceptedCall.class;
+                  }
+                  public String toString() {
+                    return "@org.jboss.errai.common.client.api.interceptor.InterceptedCall(value=[class org.jboss.errai.bus.client.tests.support.RpcResultManipulatingInterceptor])";
+                  }
+                  public Class[] value() {
+                    return new Class[] { RpcResultManipulatingInterceptor.class };
+                  }
+              } };
+            }
+            public Annotation[] getTypeAnnotations() {
+              return new Annotation[] { };
+            }
+            public Object proceed() {
+              status.proceed();
+              if (status.getNextInterceptor() == null) {
+                RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("interceptedRpcWithResultManipulation:", qualifiers, getParameters()).respondTo(String.class, remoteCallback).errorsHandledBy(errorCallback);
+                org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+              } else if (status.getNextInterceptor() == RpcResultManipulatingInterceptor.class) {
+                final RemoteCallContext ctx = this;
+                final CreationalCallback icc = new CreationalCallback() {
+                  public void callback(final Object beanInstance) {
+                    status.setProceeding(false);
+                    ((RpcResultManipulatingInterceptor) beanInstance).aroundInvoke(ctx);
+                    if ((!status.isProceeding()) && (RpcResultManipulatingInterceptor.class == status.getNextInterceptor())) {
+                      remoteCallback.callback(ctx.getResult());
+                    }
+                  }
+                };
+                AsyncBeanFactory.createBean(new RpcResultManipulatingInterceptor(), icc);
+              }
+              return null;
+            }
+            public void proceed(final RemoteCallback interceptorCallback) {
+              final RemoteCallback providedCallback = org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.remoteCallback;
+              remoteCallback = new RemoteCallback() {
+                public void callback(Object response) {
+                  RemoteCallback intCallback = interceptorCallback;
+                  setResult(response);
+                  intCallback.callback(getResult());
+                  providedCallback.callback(getResult());
+                }
+              };
+              proceed();
+            }
+            public void proceed(RemoteCallback interceptorCallback, final ErrorCallback interceptorErrorCallback) {
+              final ErrorCallback providedErrorCallback = org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.errorCallback;
+              errorCallback = new ErrorCallback() {
+                public boolean error(Object message, Throwable throwable) {
+                  interceptorErrorCallback.error(message, throwable);
+                  if (getResult() != null) {
+                    remoteCallback.callback(getResult());
+                    return false;
+                  } else if (providedErrorCallback != null) {
+                    return providedErrorCallback.error(message, throwable);
+                  }
+                  return true;
+                }
+              };
+              proceed(interceptorCallback);
+            }
+          };
+          callContext.setParameters(new Object[] { });
+          callContext.proceed();
+        } catch (Throwable throwable) {
+          if (errorCallback != null) {
+            if (errorCallback.error(null, throwable)) {
+              invokeDefaultErrorHandlers(throwable);
+            }
+          } else {
+            invokeDefaultErrorHandlers(throwable);
+          }
+        }
+        return null;
+      }
+
+      public String interceptedRpcWithParameterManipulation(final String a0) {
+        try {
+          final CallContextStatus status = new CallContextStatus(RpcParameterManipulatingInterceptor.class);
+          final RemoteCallContext callContext = new RemoteCallContext() {
+            public String getMethodName() {
+              return "interceptedRpcWithParameterManipulation";
+            }
+            public Class getReturnType() {
+              return String.class;
+            }
+            public Annotation[] getAnnotations() {
+              return new Annotation[] { new InterceptedCall() {
+                  public Class annotationType() {
+                    return InterceptedCall.class;
+                  }
+                  public String toString() {
+                    return "@org.jboss.errai.common.client.api.interceptor.InterceptedCall(value=[class org.jboss.errai.bus.client.tests.support.RpcParameterManipulatingInterceptor])";
+                  }
+                  public Class[] value() {
+                    return new Class[] { RpcParameterManipulatingInterceptor.class };
+                  }
+              } };
+            }
+            public Annotation[] getTypeAnnotations() {
+              return new Annotation[] { };
+            }
+            public Object proceed() {
+              status.proceed();
+              if (status.getNextInterceptor() == null) {
+                RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("interceptedRpcWithParameterManipulation:java.lang.String:", qualifiers, getParameters()).respondTo(String.class, remoteCallback).errorsHandledBy(errorCallback);
+                org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+              } else if (status.getNextInterceptor() == RpcParameterManipulatingInterceptor.class) {
+                final RemoteCallContext ctx = this;
+                final CreationalCallback icc = new CreationalCallback() {
+                  public void callback(final Object beanInstance) {
+                    status.setProceeding(false);
+                    ((RpcParameterManipulatingInterceptor) beanInstance).aroundInvoke(ctx);
+                    if ((!status.isProceeding()) && (RpcParameterManipulatingInterceptor.class == status.getNextInterceptor())) {
+                      remoteCallback.callback(ctx.getResult());
+                    }
+                  }
+                };
+                AsyncBeanFactory.createBean(new RpcParameterManipulatingInterceptor(), icc);
+              }
+              return null;
+            }
+            public void proceed(final RemoteCallback interceptorCallback) {
+              final RemoteCallback providedCallback = org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.remoteCallback;
+              remoteCallback = new RemoteCallback() {
+                public void callback(Object response) {
+                  RemoteCallback intCallback = interceptorCallback;
+                  setResult(response);
+                  intCallback.callback(getResult());
+                  providedCallback.callback(getResult());
+                }
+              };
+              proceed();
+            }
+            public void proceed(RemoteCallback interceptorCallback, final ErrorCallback interceptorErrorCallback) {
+              final ErrorCallback providedErrorCallback = org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.errorCallback;
+              errorCallback = new ErrorCallback() {
+                public boolean error(Object message, Throwable throwable) {
+                  interceptorErrorCallback.error(message, throwable);
+                  if (getResult() != null) {
+                    remoteCallback.callback(getResult());
+                    return false;
+                  } else if (providedErrorCallback != null) {
+                    return providedErrorCallback.error(message, throwable);
+                  }
+                  return true;
+                }
+              };
+              proceed(interceptorCallback);
+            }
+          };
+          callContext.setParameters(new Object[] { a0 });
+          callContext.proceed();
+        } catch (Throwable throwable) {
+          if (errorCallback != null) {
+            if (errorCallback.error(null, throwable)) {
+              invokeDefaultErrorHandlers(throwable);
+            }
+          } else {
+            invokeDefaultErrorHandlers(throwable);
+          }
+        }
+        return null;
+      }
+
+      public String interceptedRpcWithChainedInterceptors(final String a0) {
+        try {
+          final CallContextStatus status = new CallContextStatus(RpcInterceptorOne.class, RpcInterceptorTwo.class);
+          final RemoteCallContext callContext = new RemoteCallContext() {
+            public String getMethodName() {
+              return "interceptedRpcWithChainedInterceptors";
+            }
+            public Class getReturnType() {
+              return String.class;
+            }
+            public Annotation[] getAnnotations() {
+              return new Annotation[] { new InterceptedCall() {
+                  public Class annotationType() {
+                    return InterceptedCall.class;
+                  }
+                  public String toString() {
+                    return "@org.jboss.errai.common.client.api.interceptor.InterceptedCall(value=[class org.jboss.errai.bus.client.tests.support.RpcInterceptorOne, class org.jboss.errai.bus.client.tests.support.RpcInterceptorTwo])";
+                  }
+                  public Class[] value() {
+                    return new Class[] { RpcInterceptorOne.class, RpcInterceptorTwo.class };
+                  }
+              } };
+            }
+            public Annotation[] getTypeAnnotations() {
+              return new Annotation[] { };
+            }
+            public Object proceed() {
+              status.proceed();
+              if (status.getNextInterceptor() == null) {
+                RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("interceptedRpcWithChainedInterceptors:java.lang.String:", qualifiers, getParameters()).respondTo(String.class, remoteCallback).errorsHandledBy(errorCallback);
+                org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+              } else if (status.getNextInterceptor() == RpcInterceptorOne.class) {
+                final RemoteCallContext ctx = this;
+                final CreationalCallback icc = new CreationalCallback() {
+                  public void callback(final Object beanInstance) {
+                    status.setProceeding(false);
+                    ((RpcInterceptorOne) beanInstance).aroundInvoke(ctx);
+                    if ((!status.isProceeding()) && (RpcInterceptorOne.class == status.getNextInterceptor())) {
+                      remoteCallback.callback(ctx.getResult());
+                    }
+                  }
+                };
+                AsyncBeanFactory.createBean(new RpcInterceptorOne(), icc);
+              } else if (status.getNextInterceptor() == RpcInterceptorTwo.class) {
+                final RemoteCallContext ctx = this;
+                final CreationalCallback icc = new CreationalCallback() {
+                  public void callback(final Object beanInstance) {
+                    status.setProceeding(false);
+                    ((RpcInterceptorTwo) beanInstance).aroundInvoke(ctx);
+                    if ((!status.isProceeding()) && (RpcInterceptorTwo.class == status.getNextInterceptor())) {
+                      remoteCallback.callback(ctx.getResult());
+                    }
+                  }
+                };
+                AsyncBeanFactory.createBean(new RpcInterceptorTwo(), icc);
+              }
+              return null;
+            }
+            public void proceed(final RemoteCallback interceptorCallback) {
+              final RemoteCallback providedCallback = org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.remoteCallback;
+              remoteCallback = new RemoteCallback() {
+                public void callback(Object response) {
+                  RemoteCallback intCallback = interceptorCallback;
+                  setResult(response);
+                  intCallback.callback(getResult());
+                  providedCallback.callback(getResult());
+                }
+              };
+              proceed();
+            }
+            public void proceed(RemoteCallback interceptorCallback, final ErrorCallback interceptorErrorCallback) {
+              final ErrorCallback providedErrorCallback = org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.errorCallback;
+              errorCallback = new ErrorCallback() {
+                public boolean error(Object message, Throwable throwable) {
+                  interceptorErrorCallback.error(message, throwable);
+                  if (getResult() != null) {
+                    remoteCallback.callback(getResult());
+                    return false;
+                  } else if (providedErrorCallback != null) {
+                    return providedErrorCallback.error(message, throwable);
+                  }
+                  return true;
+                }
+              };
+              proceed(interceptorCallback);
+            }
+          };
+          callContext.setParameters(new Object[] { a0 });
+          callContext.proceed();
+        } catch (Throwable throwable) {
+          if (errorCallback != null) {
+            if (errorCallback.error(null, throwable)) {
+              invokeDefaultErrorHandlers(throwable);
+            }
+          } else {
+            invokeDefaultErrorHandlers(throwable);
+          }
+        }
+        return null;
+      }
+
+      public String testVarArgs(final String a0, final String[] a1) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestRPCService").endpoint("testVarArgs:java.lang.String:java.lang.String[]:", qualifiers, new Object[] { a0, a1 }).respondTo(String.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+    }
+    RemoteServiceProxyFactory.addRemoteProxy(TestRPCService.class, new ProxyProvider() {
+      public Object getProxy() {
+        return new org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl();
+      }
+    });
+    class org_jboss_errai_bus_client_tests_support_TestSerializationRPCService$DuplicateRemoteInterfaceImpl extends AbstractRpcProxy implements DuplicateRemoteInterface { }
+    RemoteServiceProxyFactory.addRemoteProxy(DuplicateRemoteInterface.class, new ProxyProvider() {
+      public Object getProxy() {
+        return new org_jboss_errai_bus_client_tests_support_TestSerializationRPCService$DuplicateRemoteInterfaceImpl();
+      }
+    });
+    class org_jboss_errai_bus_client_tests_support_TestRPCService$DuplicateRemoteInterfaceImpl extends AbstractRpcProxy implements org.jboss.errai.bus.client.tests.support.TestRPCService.DuplicateRemoteInterface { }
+    RemoteServiceProxyFactory.addRemoteProxy(org.jboss.errai.bus.client.tests.support.TestRPCService.DuplicateRemoteInterface.class, new ProxyProvider() {
+      public Object getProxy() {
+        return new org_jboss_errai_bus_client_tests_support_TestRPCService$DuplicateRemoteInterfaceImpl();
+      }
+    });
+    class org_jboss_errai_bus_client_tests_support_SlowServiceImpl extends AbstractRpcProxy implements SlowService { public long sleep(final long a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.SlowService").endpoint("sleep:long:", qualifiers, new Object[] { a0 }).respondTo(Long.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_SlowServiceImpl.this.sendRequest(bus, sendable);
+        return 0L;
+      }
+    }
+    RemoteServiceProxyFactory.addRemoteProxy(SlowService.class, new ProxyProvider() {
+      public Object getProxy() {
+        return new org_jboss_errai_bus_client_tests_support_SlowServiceImpl();
+      }
+    });
+    class org_jboss_errai_bus_client_tests_support_AsyncRPCServiceImpl extends AbstractRpcProxy implements AsyncRPCService { public CallableFuture doSomeTask() {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.AsyncRPCService").endpoint("doSomeTask:", qualifiers, new Object[] { }).respondTo(CallableFuture.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_AsyncRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+    }
+    RemoteServiceProxyFactory.addRemoteProxy(AsyncRPCService.class, new ProxyProvider() {
+      public Object getProxy() {
+        return new org_jboss_errai_bus_client_tests_support_AsyncRPCServiceImpl();
+      }
+    });
+    class org_jboss_errai_bus_client_tests_support_HibernateRpcImpl extends AbstractRpcProxy implements HibernateRpc { public HibernateObject getHibernateObject(final Integer a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.HibernateRpc").endpoint("getHibernateObject:java.lang.Integer:", qualifiers, new Object[] { a0 }).respondTo(HibernateObject.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_HibernateRpcImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public void addHibernateObject(final HibernateObject a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.HibernateRpc").endpoint("addHibernateObject:org.jboss.errai.bus.client.tests.support.HibernateObject:", qualifiers, new Object[] { a0 }).respondTo(void.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_HibernateRpcImpl.this.sendRequest(bus, sendable);
+      }
+
+      public OtherHibernateObject getOther(final Integer a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.HibernateRpc").endpoint("getOther:java.lang.Integer:", qualifiers, new Object[] { a0 }).respondTo(OtherHibernateObject.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_HibernateRpcImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+    }
+    RemoteServiceProxyFactory.addRemoteProxy(HibernateRpc.class, new ProxyProvider() {
+      public Object getProxy() {
+        return new org_jboss_errai_bus_client_tests_support_HibernateRpcImpl();
+      }
+    });
+    class org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl extends AbstractRpcProxy implements TestSerializationRPCService { public String testString(final String a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testString:java.lang.String:", qualifiers, new Object[] { a0 }).respondTo(String.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public int testInteger(final int a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testInteger:int:", qualifiers, new Object[] { a0 }).respondTo(Integer.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return 0;
+      }
+
+      public long testLong(final long a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testLong:long:", qualifiers, new Object[] { a0 }).respondTo(Long.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return 0L;
+      }
+
+      public EntityWithConstructorAndMethodMappedLong testConstructorAndMethodMappedLong(final EntityWithConstructorAndMethodMappedLong a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testConstructorAndMethodMappedLong:org.jboss.errai.bus.client.tests.support.EntityWithConstructorAndMethodMappedLong:", qualifiers, new Object[] { a0 }).respondTo(EntityWithConstructorAndMethodMappedLong.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public double testDouble(final double a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testDouble:double:", qualifiers, new Object[] { a0 }).respondTo(Double.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return 0.0d;
+      }
+
+      public float testFloat(final float a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testFloat:float:", qualifiers, new Object[] { a0 }).respondTo(Float.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return 0.0f;
+      }
+
+      public short testShort(final short a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testShort:short:", qualifiers, new Object[] { a0 }).respondTo(Short.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return 0;
+      }
+
+      public boolean testBoolean(final boolean a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testBoolean:boolean:", qualifiers, new Object[] { a0 }).respondTo(Boolean.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return false;
+      }
+
+      public char testCharacter(final char a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testCharacter:char:", qualifiers, new Object[] { a0 }).respondTo(Character.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return 0;
+      }
+
+      public byte testByte(final byte a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testByte:byte:", qualifiers, new Object[] { a0 }).respondTo(Byte.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return 0;
+      }
+
+      public String[] testStringArray(final String[] a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testStringArray:java.lang.String[]:", qualifiers, new Object[] { a0 }).respondTo(String[].class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public int[] testIntegerArray(final int[] a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testIntegerArray:int[]:", qualifiers, new Object[] { a0 }).respondTo(int[].class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public long[] testLongArray(final long[] a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testLongArray:long[]:", qualifiers, new Object[] { a0 }).respondTo(long[].class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public double[] testDoubleArray(final double[] a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testDoubleArray:double[]:", qualifiers, new Object[] { a0 }).respondTo(double[].class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public float[] testFloatArray(final float[] a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testFloatArray:float[]:", qualifiers, new Object[] { a0 }).respondTo(float[].class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public short[] testShortArray(final short[] a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testShortArray:short[]:", qualifiers, new Object[] { a0 }).respondTo(short[].class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public boolean[] testBooleanArray(final boolean[] a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testBooleanArray:boolean[]:", qualifiers, new Object[] { a0 }).respondTo(boolean[].class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public char[] testCharacterArray(final char[] a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testCharacterArray:char[]:", qualifiers, new Object[] { a0 }).respondTo(char[].class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public byte[] testByteArray(final byte[] a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testByteArray:byte[]:", qualifiers, new Object[] { a0 }).respondTo(byte[].class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public NeverDeclareAnArrayOfThisType[] testPortableArray(final NeverDeclareAnArrayOfThisType[] a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testPortableArray:org.jboss.errai.bus.client.tests.support.NeverDeclareAnArrayOfThisType[]:", qualifiers, new Object[] { a0 }).respondTo(NeverDeclareAnArrayOfThisType[].class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public List listOfLong(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("listOfLong:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(List.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public List listOfInteger(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("listOfInteger:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(List.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public List listOfFloat(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("listOfFloat:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(List.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public List listOfShort(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("listOfShort:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(List.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public List listOfByte(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("listOfByte:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(List.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public List listOfBoolean(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("listOfBoolean:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(List.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public List listOfCharacters(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("listOfCharacters:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(List.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Set setOfStrings(final Set a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("setOfStrings:java.util.Set:", qualifiers, new Object[] { a0 }).respondTo(Set.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Map mapOfLongToString(final Map a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("mapOfLongToString:java.util.Map:", qualifiers, new Object[] { a0 }).respondTo(Map.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Map mapOfLongToListOfStrings(final Map a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("mapOfLongToListOfStrings:java.util.Map:", qualifiers, new Object[] { a0 }).respondTo(Map.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Map mapOfStringToFloat(final Map a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("mapOfStringToFloat:java.util.Map:", qualifiers, new Object[] { a0 }).respondTo(Map.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Map mapOfStringToListOfDoubles(final Map a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("mapOfStringToListOfDoubles:java.util.Map:", qualifiers, new Object[] { a0 }).respondTo(Map.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Map mapOfListOfStringsToCustomType(final Map a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("mapOfListOfStringsToCustomType:java.util.Map:", qualifiers, new Object[] { a0 }).respondTo(Map.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Map mapOfCustomTypes(final Map a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("mapOfCustomTypes:java.util.Map:", qualifiers, new Object[] { a0 }).respondTo(Map.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public ClassWithNestedClass nestedClass(final ClassWithNestedClass a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("nestedClass:org.jboss.errai.bus.client.tests.support.ClassWithNestedClass:", qualifiers, new Object[] { a0 }).respondTo(ClassWithNestedClass.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithGenericCollections genericCollections(final EntityWithGenericCollections a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("genericCollections:org.jboss.errai.bus.client.tests.support.EntityWithGenericCollections:", qualifiers, new Object[] { a0 }).respondTo(EntityWithGenericCollections.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithStringBufferAndStringBuilder testStringBufferAndStringBuilder(final EntityWithStringBufferAndStringBuilder a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testStringBufferAndStringBuilder:org.jboss.errai.bus.client.tests.support.EntityWithStringBufferAndStringBuilder:", qualifiers, new Object[] { a0 }).respondTo(EntityWithStringBufferAndStringBuilder.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Throwable testSerializeThrowable(final Throwable a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testSerializeThrowable:java.lang.Throwable:", qualifiers, new Object[] { a0 }).respondTo(Throwable.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public AssertionError testSerializeAssertionError(final AssertionError a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testSerializeAssertionError:java.lang.AssertionError:", qualifiers, new Object[] { a0 }).respondTo(AssertionError.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public FactoryEntity testFactorySerialization(final FactoryEntity a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testFactorySerialization:org.jboss.errai.bus.client.tests.support.FactoryEntity:", qualifiers, new Object[] { a0 }).respondTo(FactoryEntity.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public BuilderEntity testBuilderSerializationWithPrivateConstructor(final BuilderEntity a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testBuilderSerializationWithPrivateConstructor:org.jboss.errai.bus.client.tests.support.BuilderEntity:", qualifiers, new Object[] { a0 }).respondTo(BuilderEntity.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Date testJavaUtilDate(final Date a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testJavaUtilDate:java.util.Date:", qualifiers, new Object[] { a0 }).respondTo(Date.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public java.sql.Date testJavaSqlDate(final java.sql.Date a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testJavaSqlDate:java.sql.Date:", qualifiers, new Object[] { a0 }).respondTo(java.sql.Date.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Timestamp testTimestampSerialization(final Timestamp a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testTimestampSerialization:java.sql.Timestamp:", qualifiers, new Object[] { a0 }).respondTo(Timestamp.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Time testTimeSerialization(final Time a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testTimeSerialization:java.sql.Time:", qualifiers, new Object[] { a0 }).respondTo(Time.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public BigDecimal testBigDecimalSerialization(final BigDecimal a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testBigDecimalSerialization:java.math.BigDecimal:", qualifiers, new Object[] { a0 }).respondTo(BigDecimal.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public BigInteger testBigIntegerSerialization(final BigInteger a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testBigIntegerSerialization:java.math.BigInteger:", qualifiers, new Object[] { a0 }).respondTo(BigInteger.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public List testListOfBytes(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testListOfBytes:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(List.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Queue testQueueSerialization(final Queue a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testQueueSerialization:java.util.Queue:", qualifiers, new Object[] { a0 }).respondTo(Queue.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public SortedMap testSortedMapSerialization(final SortedMap a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testSortedMapSerialization:java.util.SortedMap:", qualifiers, new Object[] { a0 }).respondTo(SortedMap.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public SortedSet testSortedSetSerialization(final SortedSet a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testSortedSetSerialization:java.util.SortedSet:", qualifiers, new Object[] { a0 }).respondTo(SortedSet.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public List testInheritedDefinitionFromExistingParent(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testInheritedDefinitionFromExistingParent:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(List.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public TestEnumA testNakedEnum(final TestEnumA a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testNakedEnum:org.jboss.errai.bus.client.tests.support.TestEnumA:", qualifiers, new Object[] { a0 }).respondTo(TestEnumA.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Bean testPortableInnerClass(final Bean a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testPortableInnerClass:org.jboss.errai.bus.client.tests.support.Boron.Bean:", qualifiers, new Object[] { a0 }).respondTo(Bean.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Koron testKoron(final Koron a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testKoron:org.jboss.errai.bus.client.tests.support.Koron:", qualifiers, new Object[] { a0 }).respondTo(Koron.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public SubMoron testSubMoron(final SubMoron a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testSubMoron:org.jboss.errai.bus.client.tests.support.SubMoron:", qualifiers, new Object[] { a0 }).respondTo(SubMoron.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public TestingTickCache testMoron(final TestingTickCache a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testMoron:org.jboss.errai.bus.client.tests.support.TestingTickCache:", qualifiers, new Object[] { a0 }).respondTo(TestingTickCache.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public List acceptTreeNodeContainers(final List a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("acceptTreeNodeContainers:java.util.List:", qualifiers, new Object[] { a0 }).respondTo(List.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithUnqualifiedFields testEntityWithUnqualifiedFieldTypes(final EntityWithUnqualifiedFields a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithUnqualifiedFieldTypes:org.jboss.errai.bus.client.tests.support.EntityWithUnqualifiedFields:", qualifiers, new Object[] { a0 }).respondTo(EntityWithUnqualifiedFields.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithGoodParts testEntityWithGoodParts(final EntityWithGoodParts a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithGoodParts:org.jboss.errai.bus.client.tests.support.EntityWithGoodParts:", qualifiers, new Object[] { a0 }).respondTo(EntityWithGoodParts.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public GenericEntity testGenericEntity(final GenericEntity a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testGenericEntity:org.jboss.errai.bus.client.tests.support.GenericEntity:", qualifiers, new Object[] { a0 }).respondTo(GenericEntity.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public GenericEntitySubtypeInteger testGenericEntitySubtypeInteger(final GenericEntitySubtypeInteger a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testGenericEntitySubtypeInteger:org.jboss.errai.bus.client.tests.support.GenericEntitySubtypeInteger:", qualifiers, new Object[] { a0 }).respondTo(GenericEntitySubtypeInteger.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public GenericEntitySubtypeString testGenericEntitySubtypeString(final GenericEntitySubtypeString a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testGenericEntitySubtypeString:org.jboss.errai.bus.client.tests.support.GenericEntitySubtypeString:", qualifiers, new Object[] { a0 }).respondTo(GenericEntitySubtypeString.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithSuperClassField testEntityWithSuperClassField(final EntityWithSuperClassField a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithSuperClassField:org.jboss.errai.bus.client.tests.support.EntityWithSuperClassField:", qualifiers, new Object[] { a0 }).respondTo(EntityWithSuperClassField.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public User testEntityWithNullField(final User a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithNullField:org.jboss.errai.bus.client.tests.support.User:", qualifiers, new Object[] { a0 }).respondTo(User.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public ImmutableEnumContainer testImmutableEntityWithEnum(final ImmutableEnumContainer a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testImmutableEntityWithEnum:org.jboss.errai.bus.client.tests.support.ImmutableEnumContainer:", qualifiers, new Object[] { a0 }).respondTo(ImmutableEnumContainer.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EnumContainerContainer testEntityWithEnumContainerContainer(final EnumContainerContainer a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithEnumContainerContainer:org.jboss.errai.bus.client.tests.support.EnumContainerContainer:", qualifiers, new Object[] { a0 }).respondTo(EnumContainerContainer.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithMapUsingAbstractValueType testEntityWithMapUsingAbstractValueType(final EntityWithMapUsingAbstractValueType a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithMapUsingAbstractValueType:org.jboss.errai.bus.client.tests.support.EntityWithMapUsingAbstractValueType:", qualifiers, new Object[] { a0 }).respondTo(EntityWithMapUsingAbstractValueType.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithMapUsingAbstractKeyType testEntityWithMapUsingAbstractKeyType(final EntityWithMapUsingAbstractKeyType a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithMapUsingAbstractKeyType:org.jboss.errai.bus.client.tests.support.EntityWithMapUsingAbstractKeyType:", qualifiers, new Object[] { a0 }).respondTo(EntityWithMapUsingAbstractKeyType.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithMapUsingSubtypeValues testEntityWithMapUsingSubtypeValues(final EntityWithMapUsingSubtypeValues a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithMapUsingSubtypeValues:org.jboss.errai.bus.client.tests.support.EntityWithMapUsingSubtypeValues:", qualifiers, new Object[] { a0 }).respondTo(EntityWithMapUsingSubtypeValues.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithTypesUsingNestedParameterizedTypes testEntityWithTypesUsingNestedParamTypes(final EntityWithTypesUsingNestedParameterizedTypes a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithTypesUsingNestedParamTypes:org.jboss.errai.bus.client.tests.support.EntityWithTypesUsingNestedParameterizedTypes:", qualifiers, new Object[] { a0 }).respondTo(EntityWithTypesUsingNestedParameterizedTypes.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public LinkedHashMap testLinkedHashMap(final LinkedHashMap a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testLinkedHashMap:java.util.LinkedHashMap:", qualifiers, new Object[] { a0 }).respondTo(LinkedHashMap.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public LinkedHashSet testLinkedHashSet(final LinkedHashSet a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testLinkedHashSet:java.util.LinkedHashSet:", qualifiers, new Object[] { a0 }).respondTo(LinkedHashSet.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public ImplicitEnum testImplicitEnum(final ImplicitEnum a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testImplicitEnum:org.jboss.errai.bus.client.tests.support.ImplicitEnum:", qualifiers, new Object[] { a0 }).respondTo(ImplicitEnum.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithInterfaceField testEntityWithInterfaceField(final EntityWithInterfaceField a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithInterfaceField:org.jboss.errai.bus.client.tests.support.EntityWithInterfaceField:", qualifiers, new Object[] { a0 }).respondTo(EntityWithInterfaceField.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithInterfaceArrayField testEntityWithInterfaceArrayField(final EntityWithInterfaceArrayField a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithInterfaceArrayField:org.jboss.errai.bus.client.tests.support.EntityWithInterfaceArrayField:", qualifiers, new Object[] { a0 }).respondTo(EntityWithInterfaceArrayField.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public ImmutableArrayContainer testImmutableEntityWithArray(final ImmutableArrayContainer a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testImmutableEntityWithArray:org.jboss.errai.bus.client.tests.support.ImmutableArrayContainer:", qualifiers, new Object[] { a0 }).respondTo(ImmutableArrayContainer.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithInheritedTypeVariable testEntityWithInheritedTypeVariable(final EntityWithInheritedTypeVariable a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithInheritedTypeVariable:org.jboss.errai.bus.client.tests.support.EntityWithInheritedTypeVariable:", qualifiers, new Object[] { a0 }).respondTo(EntityWithInheritedTypeVariable.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public GenericEntityWithConstructorMapping testGenericEntityWithConstructorMapping(final GenericEntityWithConstructorMapping a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testGenericEntityWithConstructorMapping:org.jboss.errai.bus.client.tests.support.GenericEntityWithConstructorMapping:", qualifiers, new Object[] { a0 }).respondTo(GenericEntityWithConstructorMapping.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Student testIncrediblyGenericRpcMethod(final GenericEntity a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testIncrediblyGenericRpcMethod:org.jboss.errai.bus.client.tests.support.GenericEntity:", qualifiers, new Object[] { a0 }).respondTo(Student.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithUnderscore_InClassName testEntityWithUnderscore_InClassName(final EntityWithUnderscore_InClassName a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithUnderscore_InClassName:org.jboss.errai.bus.client.tests.support.EntityWithUnderscore_InClassName:", qualifiers, new Object[] { a0 }).respondTo(EntityWithUnderscore_InClassName.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithMixedMappingTypes testEntityWithMixedMappingTypes(final EntityWithMixedMappingTypes a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithMixedMappingTypes:org.jboss.errai.bus.client.tests.support.EntityWithMixedMappingTypes:", qualifiers, new Object[] { a0 }).respondTo(EntityWithMixedMappingTypes.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithFactoryMethodAndMixedMappingTypes testEntityWithFactoryMethodAndMixedMappingTypes(final EntityWithFactoryMethodAndMixedMappingTypes a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithFactoryMethodAndMixedMappingTypes:org.jboss.errai.bus.client.tests.support.EntityWithFactoryMethodAndMixedMappingTypes:", qualifiers, new Object[] { a0 }).respondTo(EntityWithFactoryMethodAndMixedMappingTypes.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Outer testBackReferenceOrderingWithMapsTo(final Outer a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testBackReferenceOrderingWithMapsTo:org.jboss.errai.bus.client.tests.support.Outer:", qualifiers, new Object[] { a0 }).respondTo(Outer.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Outer2 testBackReferenceOrderingWithMapsToInverted(final Outer2 a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testBackReferenceOrderingWithMapsToInverted:org.jboss.errai.bus.client.tests.support.Outer2:", qualifiers, new Object[] { a0 }).respondTo(Outer2.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public EntityWithClassFieldAndMap testEntityWithClassField(final EntityWithClassFieldAndMap a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testEntityWithClassField:org.jboss.errai.bus.client.tests.support.EntityWithClassFieldAndMap:", qualifiers, new Object[] { a0 }).respondTo(EntityWithClassFieldAndMap.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public Object testMapSuperTypesPropertyCausesMarshallerMappingCreationForSuperType(final Object a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testMapSuperTypesPropertyCausesMarshallerMappingCreationForSuperType:java.lang.Object:", qualifiers, new Object[] { a0 }).respondTo(Object.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public PortableType1 testPortableTypeInSerializablePackage(final PortableType1 a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testPortableTypeInSerializablePackage:org.jboss.errai.bus.client.tests.support.pkg.PortableType1:", qualifiers, new Object[] { a0 }).respondTo(PortableType1.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+
+      public PortableType2 testPortableTypeInSerializableSubPackage(final PortableType2 a0) {
+        RemoteCallSendable sendable = MessageBuilder.createCall().call("org.jboss.errai.bus.client.tests.support.TestSerializationRPCService").endpoint("testPortableTypeInSerializableSubPackage:org.jboss.errai.bus.client.tests.support.pkg.serializablesubpkg.PortableType2:", qualifiers, new Object[] { a0 }).respondTo(PortableType2.class, remoteCallback).errorsHandledBy(errorCallback);
+        org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl.this.sendRequest(bus, sendable);
+        return null;
+      }
+    }
+    RemoteServiceProxyFactory.addRemoteProxy(TestSerializationRPCService.class, new ProxyProvider() {
+      public Object getProxy() {
+        return new org_jboss_errai_bus_client_tests_support_TestSerializationRPCServiceImpl();
+      }
+    });
+  }
+}
\ No newline at end of file
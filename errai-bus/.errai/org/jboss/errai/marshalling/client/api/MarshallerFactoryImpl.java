@@ -0,0 +1,366 @@
+package org.jboss.errai.marshalling.client.api;
+
+import com.google.gwt.core.shared.GWT;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import javax.enterprise.context.Dependent;
+import org.jboss.errai.marshalling.client.marshallers.BigDecimalMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.BigIntegerMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.BooleanMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.ByteMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.CharacterMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.ClientClassMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.DateMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.DoubleMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.FloatMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.IntegerMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.LinkedHashSetMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.LinkedListMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.LinkedMapMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.ListMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.LongMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.MapMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.ObjectMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.OptionalMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.PriorityQueueMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.QualifyingMarshallerWrapper;
+import org.jboss.errai.marshalling.client.marshallers.QueueMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.SQLDateMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.SetMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.ShortMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.SortedMapMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.SortedSetMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.StringBufferMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.StringBuilderMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.StringMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.TimeMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.TimestampMarshaller;
+@Dependent public class MarshallerFactoryImpl implements MarshallerFactory {
+  private Map<String, Marshaller> marshallers = new HashMap<String, Marshaller>();
+  abstract class Marshaller_for_java_lang_Throwable implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_lang_ArithmeticException implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_io_IOException implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_lang_IllegalArgumentException implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_util_EmptyStackException implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_lang_ArrayStoreException implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_lang_ClassCastException implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_util_ConcurrentModificationException implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_lang_IndexOutOfBoundsException implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_lang_NegativeArraySizeException implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_lang_NullPointerException implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_lang_StringIndexOutOfBoundsException implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_lang_UnsupportedOperationException implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_lang_AssertionError implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_lang_RuntimeException implements GeneratedMarshaller { }
+  abstract class Marshaller_for_java_lang_StackTraceElement implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_GenericEntity implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_TreeNodeContainer implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_TestEnumA implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_SubMoron implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_SType_erraiD_Place implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_BuilderEntity implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_TestException implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_PortableTypeWithListAndMap implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_Genie implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithConstructorAndMethodMappedLong implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_PortableChildReferencingSuperType implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_ClassWithNestedClass_erraiD_Nested implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_GenericEntitySubtypeInteger implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_OneDimensionalPrimitiveArrayPortable implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_BuilderEntity2 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_PortableParent implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_Group implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_TestingTickCache implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_GenericEntityWithConstructorMapping implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_common_client_PageRequest implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_GenericEntitySubtypeString implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EnumContainer implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithFactoryMethodAndMixedMappingTypes implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_Outer_erraiD_Nested implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_pkg_serializablesubpkg_PortableType2 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_Einor implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_NeverDeclareAnArrayOfThisType implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithMapUsingSubtypeValues implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithTypesUsingNestedParameterizedTypes implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_SpecificEntity implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_Person implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithGoodParts implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_SimpleEntity implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_User implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_TType implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_Outer2_erraiD_Nested implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithUnderscore_erraiU_InClassName implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithStringBufferAndStringBuilder implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_Moron implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_TestingTick implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_Outer2 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EnumContainerContainer implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EnumWithAbstractMethod implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_Koron implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_SubInterfaceImpl implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_SType implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_HibernateObject implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_pkg_PortableType1 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_ClassWithNestedClass implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EnumWithState implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithGenericCollections implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_Student implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithInheritedTypeVariable implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_Outer implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_FactoryEntity implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_AImpl2 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_AImpl1 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithMapUsingAbstractValueType implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_StudyTreeNodeContainer implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithClassFieldAndMap implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithInterfaceArrayField implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_OtherHibernateObject implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_ImplicitEnumContainer implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithMixedMappingTypes implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_ImmutableArrayContainer implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithSuperClassField implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithInterfaceField implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_Boron_erraiD_Bean implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithMapUsingAbstractKeyType implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_ImmutableEnumContainer implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithUnqualifiedFields implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_ConcreteNonPortableParent implements GeneratedMarshaller { }
+  abstract class Marshaller_for_org_jboss_errai_bus_client_tests_support_ImplicitEnum implements GeneratedMarshaller { }
+  public MarshallerFactoryImpl() {
+    final ObjectMarshaller java_lang_Object = new ObjectMarshaller();
+    marshallers.put("java.lang.Object", java_lang_Object);
+    final BigDecimalMarshaller java_math_BigDecimal = new BigDecimalMarshaller();
+    marshallers.put("java.math.BigDecimal", java_math_BigDecimal);
+    final QualifyingMarshallerWrapper<Map> java_util_Map = new QualifyingMarshallerWrapper(new MapMarshaller(), MapMarshaller.class);
+    marshallers.put("java.util.Map", java_util_Map);
+    marshallers.put("java.util.AbstractMap", java_util_Map);
+    marshallers.put("java.util.HashMap", java_util_Map);
+    marshallers.put("java.util.Collections$SynchronizedMap", java_util_Map);
+    marshallers.put("java.util.Collections$EmptyMap", java_util_Map);
+    marshallers.put("java.util.Collections$UnmodifiableMap", java_util_Map);
+    marshallers.put("java.util.Collections$SingletonMap", java_util_Map);
+    final QualifyingMarshallerWrapper<AbstractMap> java_util_AbstractMap = new QualifyingMarshallerWrapper(new MapMarshaller(), MapMarshaller.class);
+    marshallers.put("java.util.AbstractMap", java_util_AbstractMap);
+    final QualifyingMarshallerWrapper<HashMap> java_util_HashMap = new QualifyingMarshallerWrapper(new MapMarshaller(), MapMarshaller.class);
+    marshallers.put("java.util.HashMap", java_util_HashMap);
+    final BooleanMarshaller java_lang_Boolean = new BooleanMarshaller();
+    marshallers.put("java.lang.Boolean", java_lang_Boolean);
+    final DateMarshaller java_util_Date = new DateMarshaller();
+    marshallers.put("java.util.Date", java_util_Date);
+    final FloatMarshaller java_lang_Float = new FloatMarshaller();
+    marshallers.put("java.lang.Float", java_lang_Float);
+    final ByteMarshaller java_lang_Byte = new ByteMarshaller();
+    marshallers.put("java.lang.Byte", java_lang_Byte);
+    final QualifyingMarshallerWrapper<LinkedHashMap> java_util_LinkedHashMap = new QualifyingMarshallerWrapper(new LinkedMapMarshaller(), LinkedMapMarshaller.class);
+    marshallers.put("java.util.LinkedHashMap", java_util_LinkedHashMap);
+    final QualifyingMarshallerWrapper<SortedMap> java_util_SortedMap = new QualifyingMarshallerWrapper(new SortedMapMarshaller(), SortedMapMarshaller.class);
+    marshallers.put("java.util.SortedMap", java_util_SortedMap);
+    marshallers.put("java.util.TreeMap", java_util_SortedMap);
+    marshallers.put("java.util.Collections$SynchronizedSortedMap", java_util_SortedMap);
+    marshallers.put("java.util.Collections$UnmodifiableSortedMap", java_util_SortedMap);
+    final QualifyingMarshallerWrapper<TreeMap> java_util_TreeMap = new QualifyingMarshallerWrapper(new SortedMapMarshaller(), SortedMapMarshaller.class);
+    marshallers.put("java.util.TreeMap", java_util_TreeMap);
+    final DoubleMarshaller java_lang_Double = new DoubleMarshaller();
+    marshallers.put("java.lang.Double", java_lang_Double);
+    final BigIntegerMarshaller java_math_BigInteger = new BigIntegerMarshaller();
+    marshallers.put("java.math.BigInteger", java_math_BigInteger);
+    final SQLDateMarshaller java_sql_Date = new SQLDateMarshaller();
+    marshallers.put("java.sql.Date", java_sql_Date);
+    final StringMarshaller java_lang_String = new StringMarshaller();
+    marshallers.put("java.lang.String", java_lang_String);
+    final LinkedHashSetMarshaller java_util_LinkedHashSet = new LinkedHashSetMarshaller();
+    marshallers.put("java.util.LinkedHashSet", java_util_LinkedHashSet);
+    final StringBuilderMarshaller java_lang_StringBuilder = new StringBuilderMarshaller();
+    marshallers.put("java.lang.StringBuilder", java_lang_StringBuilder);
+    final IntegerMarshaller java_lang_Integer = new IntegerMarshaller();
+    marshallers.put("java.lang.Integer", java_lang_Integer);
+    final TimestampMarshaller java_sql_Timestamp = new TimestampMarshaller();
+    marshallers.put("java.sql.Timestamp", java_sql_Timestamp);
+    final SetMarshaller java_util_Set = new SetMarshaller();
+    marshallers.put("java.util.Set", java_util_Set);
+    marshallers.put("java.util.AbstractSet", java_util_Set);
+    marshallers.put("java.util.HashSet", java_util_Set);
+    marshallers.put("java.util.Collections$SynchronizedSet", java_util_Set);
+    marshallers.put("java.util.Collections$UnmodifiableSet", java_util_Set);
+    marshallers.put("java.util.Collections$SingletonSet", java_util_Set);
+    marshallers.put("java.util.Collections$EmptySet", java_util_Set);
+    final SetMarshaller java_util_AbstractSet = new SetMarshaller();
+    marshallers.put("java.util.AbstractSet", java_util_AbstractSet);
+    final SetMarshaller java_util_HashSet = new SetMarshaller();
+    marshallers.put("java.util.HashSet", java_util_HashSet);
+    final LinkedListMarshaller java_util_LinkedList = new LinkedListMarshaller();
+    marshallers.put("java.util.LinkedList", java_util_LinkedList);
+    final LongMarshaller java_lang_Long = new LongMarshaller();
+    marshallers.put("java.lang.Long", java_lang_Long);
+    final ClientClassMarshaller java_lang_Class = new ClientClassMarshaller();
+    marshallers.put("java.lang.Class", java_lang_Class);
+    final ListMarshaller java_util_List = new ListMarshaller();
+    marshallers.put("java.util.List", java_util_List);
+    marshallers.put("java.util.AbstractList", java_util_List);
+    marshallers.put("java.util.ArrayList", java_util_List);
+    marshallers.put("java.util.Vector", java_util_List);
+    marshallers.put("java.util.Stack", java_util_List);
+    marshallers.put("java.util.Collections$SynchronizedRandomAccessList", java_util_List);
+    marshallers.put("java.util.Collections$SynchronizedList", java_util_List);
+    marshallers.put("java.util.Collections$SingletonList", java_util_List);
+    marshallers.put("java.util.Collections$EmptyList", java_util_List);
+    marshallers.put("java.util.Collections$UnmodifiableRandomAccessList", java_util_List);
+    marshallers.put("java.util.Collections$UnmodifiableList", java_util_List);
+    marshallers.put("java.util.Arrays$ArrayList", java_util_List);
+    final ListMarshaller java_util_AbstractList = new ListMarshaller();
+    marshallers.put("java.util.AbstractList", java_util_AbstractList);
+    final ListMarshaller java_util_ArrayList = new ListMarshaller();
+    marshallers.put("java.util.ArrayList", java_util_ArrayList);
+    final ListMarshaller java_util_Vector = new ListMarshaller();
+    marshallers.put("java.util.Vector", java_util_Vector);
+    final ListMarshaller java_util_Stack = new ListMarshaller();
+    marshallers.put("java.util.Stack", java_util_Stack);
+    final QueueMarshaller java_util_Queue = new QueueMarshaller();
+    marshallers.put("java.util.Queue", java_util_Queue);
+    marshallers.put("java.util.AbstractQueue", java_util_Queue);
+    final QueueMarshaller java_util_AbstractQueue = new QueueMarshaller();
+    marshallers.put("java.util.AbstractQueue", java_util_AbstractQueue);
+    final ShortMarshaller java_lang_Short = new ShortMarshaller();
+    marshallers.put("java.lang.Short", java_lang_Short);
+    final OptionalMarshaller java_util_Optional = new OptionalMarshaller();
+    marshallers.put("java.util.Optional", java_util_Optional);
+    final CharacterMarshaller java_lang_Character = new CharacterMarshaller();
+    marshallers.put("java.lang.Character", java_lang_Character);
+    final StringBufferMarshaller java_lang_StringBuffer = new StringBufferMarshaller();
+    marshallers.put("java.lang.StringBuffer", java_lang_StringBuffer);
+    final TimeMarshaller java_sql_Time = new TimeMarshaller();
+    marshallers.put("java.sql.Time", java_sql_Time);
+    final SortedSetMarshaller java_util_SortedSet = new SortedSetMarshaller();
+    marshallers.put("java.util.SortedSet", java_util_SortedSet);
+    marshallers.put("java.util.TreeSet", java_util_SortedSet);
+    marshallers.put("java.util.Collections$UnmodifiableSortedSet", java_util_SortedSet);
+    marshallers.put("java.util.Collections$SynchronizedSortedSet", java_util_SortedSet);
+    final SortedSetMarshaller java_util_TreeSet = new SortedSetMarshaller();
+    marshallers.put("java.util.TreeSet", java_util_TreeSet);
+    final PriorityQueueMarshaller java_util_PriorityQueue = new PriorityQueueMarshaller();
+    marshallers.put("java.util.PriorityQueue", java_util_PriorityQueue);
+    final ListMarshaller org_jboss_errai_bus_client_tests_support_CustomList = new ListMarshaller();
+    marshallers.put("org.jboss.errai.bus.client.tests.support.CustomList", org_jboss_errai_bus_client_tests_support_CustomList);
+  }
+
+  private boolean putMarshaller(String fqcn, Marshaller m) {
+    marshallers.put(fqcn, m);
+    return true;
+  }
+
+  private boolean loadMarshaller0(String a0) {
+    switch (a0) {
+      case "java.lang.Throwable": return putMarshaller(a0, GWT.create(Marshaller_for_java_lang_Throwable.class));
+      case "java.lang.ArithmeticException": return putMarshaller(a0, GWT.create(Marshaller_for_java_lang_ArithmeticException.class));
+      case "java.io.IOException": return putMarshaller(a0, GWT.create(Marshaller_for_java_io_IOException.class));
+      case "java.lang.IllegalArgumentException": return putMarshaller(a0, GWT.create(Marshaller_for_java_lang_IllegalArgumentException.class));
+      case "java.util.EmptyStackException": return putMarshaller(a0, GWT.create(Marshaller_for_java_util_EmptyStackException.class));
+      case "java.lang.ArrayStoreException": return putMarshaller(a0, GWT.create(Marshaller_for_java_lang_ArrayStoreException.class));
+      case "java.lang.ClassCastException": return putMarshaller(a0, GWT.create(Marshaller_for_java_lang_ClassCastException.class));
+      case "java.util.ConcurrentModificationException": return putMarshaller(a0, GWT.create(Marshaller_for_java_util_ConcurrentModificationException.class));
+      case "java.lang.IndexOutOfBoundsException": return putMarshaller(a0, GWT.create(Marshaller_for_java_lang_IndexOutOfBoundsException.class));
+      case "java.lang.NegativeArraySizeException": return putMarshaller(a0, GWT.create(Marshaller_for_java_lang_NegativeArraySizeException.class));
+      case "java.lang.NullPointerException": return putMarshaller(a0, GWT.create(Marshaller_for_java_lang_NullPointerException.class));
+      case "java.lang.StringIndexOutOfBoundsException": return putMarshaller(a0, GWT.create(Marshaller_for_java_lang_StringIndexOutOfBoundsException.class));
+      case "java.lang.UnsupportedOperationException": return putMarshaller(a0, GWT.create(Marshaller_for_java_lang_UnsupportedOperationException.class));
+      case "java.lang.AssertionError": return putMarshaller(a0, GWT.create(Marshaller_for_java_lang_AssertionError.class));
+      case "java.lang.RuntimeException": return putMarshaller(a0, GWT.create(Marshaller_for_java_lang_RuntimeException.class));
+      case "java.lang.StackTraceElement": return putMarshaller(a0, GWT.create(Marshaller_for_java_lang_StackTraceElement.class));
+      case "org.jboss.errai.bus.client.tests.support.GenericEntity": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_GenericEntity.class));
+      case "org.jboss.errai.bus.client.tests.support.TreeNodeContainer": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_TreeNodeContainer.class));
+      case "org.jboss.errai.bus.client.tests.support.TestEnumA": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_TestEnumA.class));
+      case "org.jboss.errai.bus.client.tests.support.SubMoron": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_SubMoron.class));
+      case "org.jboss.errai.bus.client.tests.support.SType$Place": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_SType_erraiD_Place.class));
+      case "org.jboss.errai.bus.client.tests.support.BuilderEntity": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_BuilderEntity.class));
+      case "org.jboss.errai.bus.client.tests.support.TestException": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_TestException.class));
+      case "org.jboss.errai.bus.client.tests.support.PortableTypeWithListAndMap": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_PortableTypeWithListAndMap.class));
+      case "org.jboss.errai.bus.client.tests.support.Genie": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_Genie.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithConstructorAndMethodMappedLong": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithConstructorAndMethodMappedLong.class));
+      case "org.jboss.errai.bus.client.tests.support.PortableChildReferencingSuperType": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_PortableChildReferencingSuperType.class));
+      case "org.jboss.errai.bus.client.tests.support.ClassWithNestedClass$Nested": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_ClassWithNestedClass_erraiD_Nested.class));
+      case "org.jboss.errai.bus.client.tests.support.GenericEntitySubtypeInteger": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_GenericEntitySubtypeInteger.class));
+      case "org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_OneDimensionalPrimitiveArrayPortable.class));
+      case "org.jboss.errai.bus.client.tests.support.BuilderEntity2": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_BuilderEntity2.class));
+      case "org.jboss.errai.bus.client.tests.support.PortableParent": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_PortableParent.class));
+      case "org.jboss.errai.bus.client.tests.support.Group": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_Group.class));
+      case "org.jboss.errai.bus.client.tests.support.TestingTickCache": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_TestingTickCache.class));
+      case "org.jboss.errai.bus.client.tests.support.GenericEntityWithConstructorMapping": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_GenericEntityWithConstructorMapping.class));
+      case "org.jboss.errai.common.client.PageRequest": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_common_client_PageRequest.class));
+      case "org.jboss.errai.bus.client.tests.support.GenericEntitySubtypeString": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_GenericEntitySubtypeString.class));
+      case "org.jboss.errai.bus.client.tests.support.EnumContainer": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EnumContainer.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithFactoryMethodAndMixedMappingTypes": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithFactoryMethodAndMixedMappingTypes.class));
+      case "org.jboss.errai.bus.client.tests.support.Outer$Nested": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_Outer_erraiD_Nested.class));
+      case "org.jboss.errai.bus.client.tests.support.pkg.serializablesubpkg.PortableType2": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_pkg_serializablesubpkg_PortableType2.class));
+      case "org.jboss.errai.bus.client.tests.support.Einor": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_Einor.class));
+      case "org.jboss.errai.bus.client.tests.support.NeverDeclareAnArrayOfThisType": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_NeverDeclareAnArrayOfThisType.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithMapUsingSubtypeValues": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithMapUsingSubtypeValues.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithTypesUsingNestedParameterizedTypes": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithTypesUsingNestedParameterizedTypes.class));
+      case "org.jboss.errai.bus.client.tests.support.SpecificEntity": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_SpecificEntity.class));
+      case "org.jboss.errai.bus.client.tests.support.Person": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_Person.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithGoodParts": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithGoodParts.class));
+      case "org.jboss.errai.bus.client.tests.support.SimpleEntity": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_SimpleEntity.class));
+      case "org.jboss.errai.bus.client.tests.support.User": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_User.class));
+      case "org.jboss.errai.bus.client.tests.support.TType": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_TType.class));
+      case "org.jboss.errai.bus.client.tests.support.Outer2$Nested": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_Outer2_erraiD_Nested.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithUnderscore_InClassName": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithUnderscore_erraiU_InClassName.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithStringBufferAndStringBuilder": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithStringBufferAndStringBuilder.class));
+      case "org.jboss.errai.bus.client.tests.support.Moron": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_Moron.class));
+      case "org.jboss.errai.bus.client.tests.support.TestingTick": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_TestingTick.class));
+      case "org.jboss.errai.bus.client.tests.support.Outer2": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_Outer2.class));
+      case "org.jboss.errai.bus.client.tests.support.EnumContainerContainer": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EnumContainerContainer.class));
+      case "org.jboss.errai.bus.client.tests.support.EnumWithAbstractMethod": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EnumWithAbstractMethod.class));
+      case "org.jboss.errai.bus.client.tests.support.Koron": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_Koron.class));
+      case "org.jboss.errai.bus.client.tests.support.SubInterfaceImpl": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_SubInterfaceImpl.class));
+      case "org.jboss.errai.bus.client.tests.support.SType": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_SType.class));
+      case "org.jboss.errai.bus.client.tests.support.HibernateObject": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_HibernateObject.class));
+      case "org.jboss.errai.bus.client.tests.support.pkg.PortableType1": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_pkg_PortableType1.class));
+      case "org.jboss.errai.bus.client.tests.support.ClassWithNestedClass": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_ClassWithNestedClass.class));
+      case "org.jboss.errai.bus.client.tests.support.EnumWithState": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EnumWithState.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithGenericCollections": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithGenericCollections.class));
+      case "org.jboss.errai.bus.client.tests.support.Student": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_Student.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithInheritedTypeVariable": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithInheritedTypeVariable.class));
+      case "org.jboss.errai.bus.client.tests.support.Outer": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_Outer.class));
+      case "org.jboss.errai.bus.client.tests.support.FactoryEntity": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_FactoryEntity.class));
+      case "org.jboss.errai.bus.client.tests.support.AImpl2": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_AImpl2.class));
+      case "org.jboss.errai.bus.client.tests.support.AImpl1": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_AImpl1.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithMapUsingAbstractValueType": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithMapUsingAbstractValueType.class));
+      case "org.jboss.errai.bus.client.tests.support.StudyTreeNodeContainer": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_StudyTreeNodeContainer.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithClassFieldAndMap": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithClassFieldAndMap.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithInterfaceArrayField": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithInterfaceArrayField.class));
+      case "org.jboss.errai.bus.client.tests.support.OtherHibernateObject": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_OtherHibernateObject.class));
+      case "org.jboss.errai.bus.client.tests.support.ImplicitEnumContainer": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_ImplicitEnumContainer.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithMixedMappingTypes": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithMixedMappingTypes.class));
+      case "org.jboss.errai.bus.client.tests.support.ImmutableArrayContainer": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_ImmutableArrayContainer.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithSuperClassField": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithSuperClassField.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithInterfaceField": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithInterfaceField.class));
+      case "org.jboss.errai.bus.client.tests.support.Boron$Bean": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_Boron_erraiD_Bean.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithMapUsingAbstractKeyType": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithMapUsingAbstractKeyType.class));
+      case "org.jboss.errai.bus.client.tests.support.ImmutableEnumContainer": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_ImmutableEnumContainer.class));
+      case "org.jboss.errai.bus.client.tests.support.EntityWithUnqualifiedFields": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_EntityWithUnqualifiedFields.class));
+      case "org.jboss.errai.bus.client.tests.support.ConcreteNonPortableParent": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_ConcreteNonPortableParent.class));
+      case "org.jboss.errai.bus.client.tests.support.ImplicitEnum": return putMarshaller(a0, GWT.create(Marshaller_for_org_jboss_errai_bus_client_tests_support_ImplicitEnum.class));
+      default: return false;
+    }
+  }
+
+  public Marshaller getMarshaller(String a0) {
+    if (a0 == null) {
+      return null;
+    }
+    Marshaller m = marshallers.get(a0);
+    if (m != null) {
+      return m;
+    } else if (loadMarshaller0(a0)) {
+      return marshallers.get(a0);
+    }
+    return null;
+  }
+
+  public void registerMarshaller(String a0, Marshaller a1) {
+    marshallers.put(a0, a1);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package org.jboss.errai.marshalling.client.api;
+
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJArray;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_a_b_D1_1_Impl implements Marshaller<byte[]> {
+  private Marshaller<Byte> java_lang_Byte = null;
+  private Marshaller java_lang_Object = null;
+  public byte[][] getEmptyArray() {
+    return null;
+  }
+
+  public byte[] demarshall(EJValue a0, MarshallingSession a1) {
+    if (a0 == null) {
+      return null;
+    } else {
+      return this._demarshall1(a0.isArray(), a1);
+    }
+  }
+
+  private byte[] _demarshall1(EJArray a0, MarshallingSession a1) {
+    lazyInit();
+    byte[] newArray = new byte[a0.size()];
+    for (int i = 0; i < newArray.length; i++) {
+      newArray[i] = java_lang_Byte.demarshall(a0.get(i), a1);
+    }
+    return newArray;
+  }
+
+  private void _marshall1(StringBuilder buf, byte[] a0, MarshallingSession a1) {
+    lazyInit();
+    buf.append("[");
+    for (int i = 0; i < a0.length; i++) {
+      if (i > 0) {
+        buf.append(",");
+      }
+      MarshallUtil.marshall(buf, java_lang_Object, a0[i], a1);
+    }
+    buf.append("]");
+  }
+
+  public void marshall(StringBuilder buf, byte[] a0, MarshallingSession a1) {
+    if (a0 == null) {
+      buf.append("null");
+    } else {
+      this._marshall1(buf, a0, a1);
+    }
+  }
+
+  public String marshall(byte[] a0, MarshallingSession a1) {
+    if (a0 == null) {
+      return null;
+    }
+    final StringBuilder buf = new StringBuilder();
+    _marshall1(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (java_lang_Byte == null) {
+      java_lang_Byte = Marshalling.getMarshaller(Byte.class);
+    }
+    if (java_lang_Object == null) {
+      java_lang_Object = Marshalling.getMarshaller(Object.class);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package org.jboss.errai.marshalling.client.api;
+
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJArray;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_a_c_D2_Impl implements Marshaller<char[][]> {
+  private Marshaller<Character> java_lang_Character = null;
+  private Marshaller java_lang_Object = null;
+  public char[][][] getEmptyArray() {
+    return null;
+  }
+
+  public char[][] demarshall(EJValue a0, MarshallingSession a1) {
+    if (a0 == null) {
+      return null;
+    } else {
+      return this._demarshall2(a0.isArray(), a1);
+    }
+  }
+
+  private char[][] _demarshall2(EJArray a0, MarshallingSession a1) {
+    lazyInit();
+    char[][] newArray = new char[a0.size()][];
+    for (int i = 0; i < newArray.length; i++) {
+      newArray[i] = _demarshall1(a0.get(i).isArray(), a1);
+    }
+    return newArray;
+  }
+
+  private void _marshall2(StringBuilder buf, char[][] a0, MarshallingSession a1) {
+    lazyInit();
+    buf.append("[");
+    for (int i = 0; i < a0.length; i++) {
+      if (i > 0) {
+        buf.append(",");
+      }
+      _marshall1(buf, a0[i], a1);
+    }
+    buf.append("]");
+  }
+
+  private char[] _demarshall1(EJArray a0, MarshallingSession a1) {
+    lazyInit();
+    char[] newArray = new char[a0.size()];
+    for (int i = 0; i < newArray.length; i++) {
+      newArray[i] = java_lang_Character.demarshall(a0.get(i), a1);
+    }
+    return newArray;
+  }
+
+  private void _marshall1(StringBuilder buf, char[] a0, MarshallingSession a1) {
+    lazyInit();
+    buf.append("[");
+    for (int i = 0; i < a0.length; i++) {
+      if (i > 0) {
+        buf.append(",");
+      }
+      MarshallUtil.marshall(buf, java_lang_Object, a0[i], a1);
+    }
+    buf.append("]");
+  }
+
+  public void marshall(StringBuilder buf, char[][] a0, MarshallingSession a1) {
+    if (a0 == null) {
+      buf.append("null");
+    } else {
+      this._marshall2(buf, a0, a1);
+    }
+  }
+
+  public String marshall(char[][] a0, MarshallingSession a1) {
+    if (a0 == null) {
+      return null;
+    }
+    final StringBuilder buf = new StringBuilder();
+    _marshall2(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (java_lang_Character == null) {
+      java_lang_Character = Marshalling.getMarshaller(Character.class);
+    }
+    if (java_lang_Object == null) {
+      java_lang_Object = Marshalling.getMarshaller(Object.class);
+    }
+  }
+}
\ No newline at end of file
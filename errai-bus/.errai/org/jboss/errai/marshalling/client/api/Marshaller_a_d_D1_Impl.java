@@ -0,0 +1,69 @@
+package org.jboss.errai.marshalling.client.api;
+
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJArray;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_a_d_D1_Impl implements Marshaller<double[]> {
+  private Marshaller<Double> java_lang_Double = null;
+  private Marshaller java_lang_Object = null;
+  public double[][] getEmptyArray() {
+    return null;
+  }
+
+  public double[] demarshall(EJValue a0, MarshallingSession a1) {
+    if (a0 == null) {
+      return null;
+    } else {
+      return this._demarshall1(a0.isArray(), a1);
+    }
+  }
+
+  private double[] _demarshall1(EJArray a0, MarshallingSession a1) {
+    lazyInit();
+    double[] newArray = new double[a0.size()];
+    for (int i = 0; i < newArray.length; i++) {
+      newArray[i] = java_lang_Double.demarshall(a0.get(i), a1);
+    }
+    return newArray;
+  }
+
+  private void _marshall1(StringBuilder buf, double[] a0, MarshallingSession a1) {
+    lazyInit();
+    buf.append("[");
+    for (int i = 0; i < a0.length; i++) {
+      if (i > 0) {
+        buf.append(",");
+      }
+      MarshallUtil.marshall(buf, java_lang_Object, a0[i], a1);
+    }
+    buf.append("]");
+  }
+
+  public void marshall(StringBuilder buf, double[] a0, MarshallingSession a1) {
+    if (a0 == null) {
+      buf.append("null");
+    } else {
+      this._marshall1(buf, a0, a1);
+    }
+  }
+
+  public String marshall(double[] a0, MarshallingSession a1) {
+    if (a0 == null) {
+      return null;
+    }
+    final StringBuilder buf = new StringBuilder();
+    _marshall1(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (java_lang_Double == null) {
+      java_lang_Double = Marshalling.getMarshaller(Double.class);
+    }
+    if (java_lang_Object == null) {
+      java_lang_Object = Marshalling.getMarshaller(Object.class);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package org.jboss.errai.marshalling.client.api;
+
+import org.jboss.errai.bus.client.tests.support.SType;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJArray;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_a_o_j_e_b_c_t_s_SType_D1_Impl implements Marshaller<SType[]> {
+  private Marshaller<SType> org_jboss_errai_bus_client_tests_support_SType = null;
+  private Marshaller java_lang_Object = null;
+  public org.jboss.errai.bus.client.tests.support.SType[][] getEmptyArray() {
+    return null;
+  }
+
+  public SType[] demarshall(EJValue a0, MarshallingSession a1) {
+    if (a0 == null) {
+      return null;
+    } else {
+      return this._demarshall1(a0.isArray(), a1);
+    }
+  }
+
+  private SType[] _demarshall1(EJArray a0, MarshallingSession a1) {
+    lazyInit();
+    SType[] newArray = new SType[a0.size()];
+    for (int i = 0; i < newArray.length; i++) {
+      newArray[i] = org_jboss_errai_bus_client_tests_support_SType.demarshall(a0.get(i), a1);
+    }
+    return newArray;
+  }
+
+  private void _marshall1(StringBuilder buf, SType[] a0, MarshallingSession a1) {
+    lazyInit();
+    buf.append("[");
+    for (int i = 0; i < a0.length; i++) {
+      if (i > 0) {
+        buf.append(",");
+      }
+      MarshallUtil.marshall(buf, java_lang_Object, a0[i], a1);
+    }
+    buf.append("]");
+  }
+
+  public void marshall(StringBuilder buf, SType[] a0, MarshallingSession a1) {
+    if (a0 == null) {
+      buf.append("null");
+    } else {
+      this._marshall1(buf, a0, a1);
+    }
+  }
+
+  public String marshall(SType[] a0, MarshallingSession a1) {
+    if (a0 == null) {
+      return null;
+    }
+    final StringBuilder buf = new StringBuilder();
+    _marshall1(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_SType == null) {
+      org_jboss_errai_bus_client_tests_support_SType = Marshalling.getMarshaller(SType.class);
+    }
+    if (java_lang_Object == null) {
+      java_lang_Object = Marshalling.getMarshaller(Object.class);
+    }
+  }
+}
\ No newline at end of file
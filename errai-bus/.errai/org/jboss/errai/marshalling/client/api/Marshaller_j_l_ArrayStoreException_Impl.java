@@ -0,0 +1,92 @@
+package org.jboss.errai.marshalling.client.api;
+
+import com.google.gwt.core.shared.GWT;
+import java.util.Set;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.marshallers.QualifyingMarshallerWrapper;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_j_l_ArrayStoreException_Impl implements GeneratedMarshaller<ArrayStoreException> {
+  private ArrayStoreException[] EMPTY_ARRAY = new ArrayStoreException[0];
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  private Marshaller<Throwable> java_lang_Throwable = null;
+  private Marshaller<StackTraceElement[]> arrayOf_java_lang_StackTraceElement_D1 = null;
+  abstract class Marshaller_for_arrayOf_java_lang_StackTraceElement_D1 implements GeneratedMarshaller { }
+  public ArrayStoreException[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public ArrayStoreException demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(ArrayStoreException.class, objId);
+    }
+    final String c0 = java_lang_String.demarshall(obj.get("message"), a1);
+    ArrayStoreException entity = new ArrayStoreException(c0);
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "cause": entity.initCause(java_lang_Throwable.demarshall(objVal, a1));
+        break;
+        case "stackTrace": entity.setStackTrace(arrayOf_java_lang_StackTraceElement_D1.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, ArrayStoreException a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "java.lang.ArrayStoreException")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"stackTrace\":");
+    MarshallUtil.marshall(buf, arrayOf_java_lang_StackTraceElement_D1, a0.getStackTrace(), a1);
+    buf.append(",\"message\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getMessage(), a1);
+    buf.append(",\"cause\":");
+    MarshallUtil.marshall(buf, java_lang_Throwable, a0.getCause(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(ArrayStoreException a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(3968);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (java_lang_Throwable == null) {
+      java_lang_Throwable = Marshalling.getMarshaller(Throwable.class);
+    }
+    if (arrayOf_java_lang_StackTraceElement_D1 == null) {
+      arrayOf_java_lang_StackTraceElement_D1 = Marshalling.getMarshaller(StackTraceElement[].class, new DeferredMarshallerCreationCallback<StackTraceElement[]>() {
+        public Marshaller<StackTraceElement[]> create(Class type) {
+          return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_java_lang_StackTraceElement_D1.class), StackTraceElement[].class);
+        }
+      });
+    }
+  }
+}
\ No newline at end of file
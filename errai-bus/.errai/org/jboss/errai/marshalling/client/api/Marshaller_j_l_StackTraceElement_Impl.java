@@ -0,0 +1,67 @@
+package org.jboss.errai.marshalling.client.api;
+
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_j_l_StackTraceElement_Impl implements GeneratedMarshaller<StackTraceElement> {
+  private StackTraceElement[] EMPTY_ARRAY = new StackTraceElement[0];
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  private Marshaller<Integer> java_lang_Integer = Marshalling.getMarshaller(Integer.class);
+  public StackTraceElement[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public StackTraceElement demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(StackTraceElement.class, objId);
+    }
+    final String c2 = java_lang_String.demarshall(obj.get("fileName"), a1);
+    final String c1 = java_lang_String.demarshall(obj.get("methodName"), a1);
+    final Integer c3 = java_lang_Integer.demarshall(obj.get("lineNumber"), a1);
+    final String c0 = java_lang_String.demarshall(obj.get("declaringClass"), a1);
+    StackTraceElement entity = new StackTraceElement(c0, c1, c2, c3);
+    a1.recordObject(objId, entity);
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, StackTraceElement a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "java.lang.StackTraceElement")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"fileName\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getFileName(), a1);
+    buf.append(",\"methodName\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getMethodName(), a1);
+    buf.append(",\"lineNumber\":");
+    MarshallUtil.marshall(buf, java_lang_Integer, a0.getLineNumber(), a1);
+    buf.append(",\"declaringClass\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getClassName(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(StackTraceElement a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(640);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.AImpl1;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_AImpl1_Impl implements GeneratedMarshaller<AImpl1> {
+  private AImpl1[] EMPTY_ARRAY = new AImpl1[0];
+  private Marshaller<Integer> java_lang_Integer = Marshalling.getMarshaller(Integer.class);
+  public AImpl1[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public AImpl1 demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(AImpl1.class, objId);
+    }
+    AImpl1 entity = new AImpl1();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "value": entity.setValue(java_lang_Integer.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, AImpl1 a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.AImpl1")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"value\":");
+    MarshallUtil.marshall(buf, java_lang_Integer, a0.getValue(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(AImpl1 a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(256);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.AImpl2;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_AImpl2_Impl implements GeneratedMarshaller<AImpl2> {
+  private AImpl2[] EMPTY_ARRAY = new AImpl2[0];
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  public AImpl2[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public AImpl2 demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(AImpl2.class, objId);
+    }
+    AImpl2 entity = new AImpl2();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "value": entity.setValue(java_lang_String.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, AImpl2 a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.AImpl2")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"value\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getValue(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(AImpl2 a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(256);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.Boron.Bean;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_Boron_erraiD_Bean_Impl implements GeneratedMarshaller<Bean> {
+  private Bean[] EMPTY_ARRAY = new Bean[0];
+  private Marshaller<Integer> java_lang_Integer = Marshalling.getMarshaller(Integer.class);
+  public Bean[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public Bean demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(Bean.class, objId);
+    }
+    Bean entity = new Bean();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "x": entity.setX(java_lang_Integer.demarshall(objVal, a1));
+        break;
+        case "y": entity.setY(java_lang_Integer.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, Bean a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.Boron$Bean")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"x\":");
+    MarshallUtil.marshall(buf, java_lang_Integer, a0.getX(), a1);
+    buf.append(",\"y\":");
+    MarshallUtil.marshall(buf, java_lang_Integer, a0.getY(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(Bean a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(384);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
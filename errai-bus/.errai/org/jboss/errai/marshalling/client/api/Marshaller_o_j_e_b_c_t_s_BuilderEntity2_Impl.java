@@ -0,0 +1,66 @@
+package org.jboss.errai.marshalling.client.api;
+
+import org.jboss.errai.bus.client.tests.support.BuilderEntity2;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_BuilderEntity2_Impl implements GeneratedMarshaller<BuilderEntity2> {
+  private BuilderEntity2[] EMPTY_ARRAY = new BuilderEntity2[0];
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  private Marshaller<Integer> java_lang_Integer = Marshalling.getMarshaller(Integer.class);
+  public BuilderEntity2[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public native static BuilderEntity2 BuilderEntity2__String_int(String a0, int a1) /*-{
+    return @org.jboss.errai.bus.client.tests.support.BuilderEntity2::new(Ljava/lang/String;I)(a0, a1);
+  }-*/;
+
+  public BuilderEntity2 demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(BuilderEntity2.class, objId);
+    }
+    final String c0 = java_lang_String.demarshall(obj.get("name"), a1);
+    final Integer c1 = java_lang_Integer.demarshall(obj.get("age"), a1);
+    BuilderEntity2 entity = BuilderEntity2__String_int(c0, c1);
+    a1.recordObject(objId, entity);
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, BuilderEntity2 a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.BuilderEntity2")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"name\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getName(), a1);
+    buf.append(",\"age\":");
+    MarshallUtil.marshall(buf, java_lang_Integer, a0.getAge(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(BuilderEntity2 a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(384);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
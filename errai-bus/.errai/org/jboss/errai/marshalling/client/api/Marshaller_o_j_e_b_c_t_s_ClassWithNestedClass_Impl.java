@@ -0,0 +1,75 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.ClassWithNestedClass;
+import org.jboss.errai.bus.client.tests.support.ClassWithNestedClass.Nested;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_ClassWithNestedClass_Impl implements GeneratedMarshaller<ClassWithNestedClass> {
+  private ClassWithNestedClass[] EMPTY_ARRAY = new ClassWithNestedClass[0];
+  private Marshaller<Nested> org_jboss_errai_bus_client_tests_support_ClassWithNestedClass_erraiD_Nested = null;
+  public ClassWithNestedClass[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public ClassWithNestedClass demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(ClassWithNestedClass.class, objId);
+    }
+    ClassWithNestedClass entity = new ClassWithNestedClass();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "nested": entity.setNested(org_jboss_errai_bus_client_tests_support_ClassWithNestedClass_erraiD_Nested.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, ClassWithNestedClass a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.ClassWithNestedClass")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"nested\":");
+    MarshallUtil.marshall(buf, org_jboss_errai_bus_client_tests_support_ClassWithNestedClass_erraiD_Nested, a0.getNested(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(ClassWithNestedClass a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(384);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_ClassWithNestedClass_erraiD_Nested == null) {
+      org_jboss_errai_bus_client_tests_support_ClassWithNestedClass_erraiD_Nested = Marshalling.getMarshaller(Nested.class);
+    }
+  }
+}
\ No newline at end of file
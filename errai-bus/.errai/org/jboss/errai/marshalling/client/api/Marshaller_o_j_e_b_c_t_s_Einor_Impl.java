@@ -0,0 +1,75 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.Einor;
+import org.jboss.errai.bus.client.tests.support.Genie;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_Einor_Impl implements GeneratedMarshaller<Einor> {
+  private Einor[] EMPTY_ARRAY = new Einor[0];
+  private Marshaller<Genie> org_jboss_errai_bus_client_tests_support_Genie = null;
+  public Einor[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public Einor demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(Einor.class, objId);
+    }
+    Einor entity = new Einor();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "genie": entity.setGenie(org_jboss_errai_bus_client_tests_support_Genie.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, Einor a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.Einor")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"genie\":");
+    MarshallUtil.marshall(buf, org_jboss_errai_bus_client_tests_support_Genie, a0.getGenie(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(Einor a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(384);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_Genie == null) {
+      org_jboss_errai_bus_client_tests_support_Genie = Marshalling.getMarshaller(Genie.class);
+    }
+  }
+}
\ No newline at end of file
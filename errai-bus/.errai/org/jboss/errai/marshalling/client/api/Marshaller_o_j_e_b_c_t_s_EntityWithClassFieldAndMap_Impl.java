@@ -0,0 +1,89 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Map;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.EntityWithClassFieldAndMap;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EntityWithClassFieldAndMap_Impl implements GeneratedMarshaller<EntityWithClassFieldAndMap> {
+  private EntityWithClassFieldAndMap[] EMPTY_ARRAY = new EntityWithClassFieldAndMap[0];
+  private Marshaller<Class> java_lang_Class = Marshalling.getMarshaller(Class.class);
+  private Marshaller<Map> java_util_Map = Marshalling.getMarshaller(Map.class);
+  public EntityWithClassFieldAndMap[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static Map EntityWithClassFieldAndMap_Map_stuff(EntityWithClassFieldAndMap instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.EntityWithClassFieldAndMap::stuff;
+  }-*/;
+
+  native static void EntityWithClassFieldAndMap_Map_stuff(EntityWithClassFieldAndMap instance, Map value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.EntityWithClassFieldAndMap::stuff = value;
+  }-*/;
+
+  public EntityWithClassFieldAndMap demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EntityWithClassFieldAndMap.class, objId);
+    }
+    EntityWithClassFieldAndMap entity = new EntityWithClassFieldAndMap();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "clazz": entity.setClazz(java_lang_Class.demarshall(objVal, a1));
+        break;
+        case "stuff": a1.setAssumedMapKeyType("java.lang.String");
+        a1.setAssumedMapValueType("java.lang.Object");
+        EntityWithClassFieldAndMap_Map_stuff(entity, java_util_Map.demarshall(objVal, a1));
+        a1.resetAssumedTypes();
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EntityWithClassFieldAndMap a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EntityWithClassFieldAndMap")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"clazz\":");
+    MarshallUtil.marshall(buf, java_lang_Class, a0.getClazz(), a1);
+    buf.append(",\"stuff\":");
+    MarshallUtil.marshall(buf, java_util_Map, EntityWithClassFieldAndMap_Map_stuff(a0), a1);
+    buf.append("}");
+  }
+
+  public String marshall(EntityWithClassFieldAndMap a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(384);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package org.jboss.errai.marshalling.client.api;
+
+import com.google.gwt.core.client.UnsafeNativeLong;
+import org.jboss.errai.bus.client.tests.support.EntityWithConstructorAndMethodMappedLong;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EntityWithConstructorAndMethodMappedLong_Impl implements GeneratedMarshaller<EntityWithConstructorAndMethodMappedLong> {
+  private EntityWithConstructorAndMethodMappedLong[] EMPTY_ARRAY = new EntityWithConstructorAndMethodMappedLong[0];
+  private Marshaller<Long> java_lang_Long = Marshalling.getMarshaller(Long.class);
+  public EntityWithConstructorAndMethodMappedLong[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  @UnsafeNativeLong public native static EntityWithConstructorAndMethodMappedLong EntityWithConstructorAndMethodMappedLong__long(long a0) /*-{
+    return @org.jboss.errai.bus.client.tests.support.EntityWithConstructorAndMethodMappedLong::new(J)(a0);
+  }-*/;
+
+  public EntityWithConstructorAndMethodMappedLong demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EntityWithConstructorAndMethodMappedLong.class, objId);
+    }
+    final Long c0 = java_lang_Long.demarshall(obj.get("nativeLongValue"), a1);
+    EntityWithConstructorAndMethodMappedLong entity = EntityWithConstructorAndMethodMappedLong__long(c0);
+    a1.recordObject(objId, entity);
+    return entity;
+  }
+
+  @UnsafeNativeLong public native static long EntityWithConstructorAndMethodMappedLong_getNativeLongValue(EntityWithConstructorAndMethodMappedLong instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.EntityWithConstructorAndMethodMappedLong::getNativeLongValue()();
+  }-*/;
+
+  public void marshall(StringBuilder buf, EntityWithConstructorAndMethodMappedLong a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EntityWithConstructorAndMethodMappedLong")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"nativeLongValue\":");
+    MarshallUtil.marshall(buf, java_lang_Long, EntityWithConstructorAndMethodMappedLong_getNativeLongValue(a0), a1);
+    buf.append("}");
+  }
+
+  public String marshall(EntityWithConstructorAndMethodMappedLong a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(256);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.EntityWithFactoryMethodAndMixedMappingTypes;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EntityWithFactoryMethodAndMixedMappingTypes_Impl implements GeneratedMarshaller<EntityWithFactoryMethodAndMixedMappingTypes> {
+  private EntityWithFactoryMethodAndMixedMappingTypes[] EMPTY_ARRAY = new EntityWithFactoryMethodAndMixedMappingTypes[0];
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  public EntityWithFactoryMethodAndMixedMappingTypes[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static String EntityWithFactoryMethodAndMixedMappingTypes_String_fieldInjected(EntityWithFactoryMethodAndMixedMappingTypes instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.EntityWithFactoryMethodAndMixedMappingTypes::fieldInjected;
+  }-*/;
+
+  native static void EntityWithFactoryMethodAndMixedMappingTypes_String_fieldInjected(EntityWithFactoryMethodAndMixedMappingTypes instance, String value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.EntityWithFactoryMethodAndMixedMappingTypes::fieldInjected = value;
+  }-*/;
+
+  native static String EntityWithFactoryMethodAndMixedMappingTypes_String_factoryMethodInjected(EntityWithFactoryMethodAndMixedMappingTypes instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.EntityWithFactoryMethodAndMixedMappingTypes::factoryMethodInjected;
+  }-*/;
+
+  native static void EntityWithFactoryMethodAndMixedMappingTypes_String_factoryMethodInjected(EntityWithFactoryMethodAndMixedMappingTypes instance, String value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.EntityWithFactoryMethodAndMixedMappingTypes::factoryMethodInjected = value;
+  }-*/;
+
+  public EntityWithFactoryMethodAndMixedMappingTypes demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EntityWithFactoryMethodAndMixedMappingTypes.class, objId);
+    }
+    final String c0 = java_lang_String.demarshall(obj.get("factoryMethodInjected"), a1);
+    EntityWithFactoryMethodAndMixedMappingTypes entity = EntityWithFactoryMethodAndMixedMappingTypes.instance(c0);
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "fieldInjected": EntityWithFactoryMethodAndMixedMappingTypes_String_fieldInjected(entity, java_lang_String.demarshall(objVal, a1));
+        break;
+        case "factoryMethodInjected": EntityWithFactoryMethodAndMixedMappingTypes_String_factoryMethodInjected(entity, java_lang_String.demarshall(objVal, a1));
+        break;
+        case "methodInjected": entity.setMethodInjected(java_lang_String.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EntityWithFactoryMethodAndMixedMappingTypes a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EntityWithFactoryMethodAndMixedMappingTypes")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"fieldInjected\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getFieldInjected(), a1);
+    buf.append(",\"factoryMethodInjected\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getFactoryMethodInjected(), a1);
+    buf.append(",\"methodInjected\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getMethodInjected(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(EntityWithFactoryMethodAndMixedMappingTypes a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(512);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.List;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.EntityWithGenericCollections;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.marshallers.ObjectMarshaller;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EntityWithGenericCollections_Impl implements GeneratedMarshaller<EntityWithGenericCollections> {
+  private EntityWithGenericCollections[] EMPTY_ARRAY = new EntityWithGenericCollections[0];
+  private Marshaller<List> java_util_List = Marshalling.getMarshaller(List.class);
+  private Marshaller java_lang_Object = Marshalling.getMarshaller(Object.class);
+  public EntityWithGenericCollections[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static Object EntityWithGenericCollections_Object_o(EntityWithGenericCollections instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.EntityWithGenericCollections::o;
+  }-*/;
+
+  native static void EntityWithGenericCollections_Object_o(EntityWithGenericCollections instance, Object value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.EntityWithGenericCollections::o = value;
+  }-*/;
+
+  public EntityWithGenericCollections demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EntityWithGenericCollections.class, objId);
+    }
+    EntityWithGenericCollections entity = new EntityWithGenericCollections();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "listOfFloats": a1.setAssumedElementType("java.lang.Float");
+        entity.setListOfFloats(java_util_List.demarshall(objVal, a1));
+        break;
+        case "listWithLowerBoundWildcard": entity.setListWithLowerBoundWildcard(java_util_List.demarshall(objVal, a1));
+        break;
+        case "o": EntityWithGenericCollections_Object_o(entity, ((ObjectMarshaller) java_lang_Object).demarshall(Object.class, objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EntityWithGenericCollections a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EntityWithGenericCollections")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"listOfFloats\":");
+    MarshallUtil.marshall(buf, java_util_List, a0.getListOfFloats(), a1);
+    buf.append(",\"listWithLowerBoundWildcard\":");
+    MarshallUtil.marshall(buf, java_util_List, a0.getListWithLowerBoundWildcard(), a1);
+    buf.append(",\"o\":");
+    MarshallUtil.marshall(buf, java_lang_Object, EntityWithGenericCollections_Object_o(a0), a1);
+    buf.append("}");
+  }
+
+  public String marshall(EntityWithGenericCollections a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(512);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
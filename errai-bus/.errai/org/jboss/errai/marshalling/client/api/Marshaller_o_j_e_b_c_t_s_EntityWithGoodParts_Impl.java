@@ -0,0 +1,109 @@
+package org.jboss.errai.marshalling.client.api;
+
+import com.google.gwt.core.shared.GWT;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.EntityWithGoodParts;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.marshallers.QualifyingMarshallerWrapper;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EntityWithGoodParts_Impl implements GeneratedMarshaller<EntityWithGoodParts> {
+  private EntityWithGoodParts[] EMPTY_ARRAY = new EntityWithGoodParts[0];
+  private Marshaller<Double> java_lang_Double = Marshalling.getMarshaller(Double.class);
+  private Marshaller<Double[]> arrayOf_java_lang_Double_D1 = Marshalling.getMarshaller(Double[].class, new DeferredMarshallerCreationCallback<Double[]>() {
+    public Marshaller<Double[]> create(Class type) {
+      return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_java_lang_Double_D1.class), Double[].class);
+    }
+  });
+  private Marshaller<double[]> arrayOf_double_D1 = Marshalling.getMarshaller(double[].class, new DeferredMarshallerCreationCallback<double[]>() {
+    public Marshaller<double[]> create(Class type) {
+      return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_double_D1.class), double[].class);
+    }
+  });
+  private Marshaller<Float> java_lang_Float = Marshalling.getMarshaller(Float.class);
+  private Marshaller<Float[]> arrayOf_java_lang_Float_D1 = Marshalling.getMarshaller(Float[].class, new DeferredMarshallerCreationCallback<Float[]>() {
+    public Marshaller<Float[]> create(Class type) {
+      return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_java_lang_Float_D1.class), Float[].class);
+    }
+  });
+  abstract class Marshaller_for_arrayOf_java_lang_Double_D1 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_arrayOf_double_D1 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_arrayOf_java_lang_Float_D1 implements GeneratedMarshaller { }
+  public EntityWithGoodParts[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public EntityWithGoodParts demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EntityWithGoodParts.class, objId);
+    }
+    EntityWithGoodParts entity = new EntityWithGoodParts();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "doubleField": entity.setDoubleField(java_lang_Double.demarshall(objVal, a1));
+        break;
+        case "badDoubles": entity.setBadDoubles(arrayOf_java_lang_Double_D1.demarshall(objVal, a1));
+        break;
+        case "badPrimitiveDoubles": entity.setBadPrimitiveDoubles(arrayOf_double_D1.demarshall(objVal, a1));
+        break;
+        case "floatField": entity.setFloatField(java_lang_Float.demarshall(objVal, a1));
+        break;
+        case "badFloats": entity.setBadFloats(arrayOf_java_lang_Float_D1.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EntityWithGoodParts a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EntityWithGoodParts")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"doubleField\":");
+    MarshallUtil.marshall(buf, java_lang_Double, a0.getDoubleField(), a1);
+    buf.append(",\"badDoubles\":");
+    MarshallUtil.marshall(buf, arrayOf_java_lang_Double_D1, a0.getBadDoubles(), a1);
+    buf.append(",\"badPrimitiveDoubles\":");
+    MarshallUtil.marshall(buf, arrayOf_double_D1, a0.getBadPrimitiveDoubles(), a1);
+    buf.append(",\"floatField\":");
+    MarshallUtil.marshall(buf, java_lang_Float, a0.getFloatField(), a1);
+    buf.append(",\"badFloats\":");
+    MarshallUtil.marshall(buf, arrayOf_java_lang_Float_D1, a0.getBadFloats(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(EntityWithGoodParts a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(1920);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
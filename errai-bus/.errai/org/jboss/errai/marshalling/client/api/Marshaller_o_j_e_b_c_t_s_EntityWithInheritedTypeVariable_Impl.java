@@ -0,0 +1,85 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.List;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.EntityWithInheritedTypeVariable;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EntityWithInheritedTypeVariable_Impl implements GeneratedMarshaller<EntityWithInheritedTypeVariable> {
+  private EntityWithInheritedTypeVariable[] EMPTY_ARRAY = new EntityWithInheritedTypeVariable[0];
+  private Marshaller<List> java_util_List = Marshalling.getMarshaller(List.class);
+  public EntityWithInheritedTypeVariable[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static List EntityWithInheritedTypeVariable_List_fieldAccessedList(EntityWithInheritedTypeVariable instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.EntityWithInheritedTypeVariable::fieldAccessedList;
+  }-*/;
+
+  native static void EntityWithInheritedTypeVariable_List_fieldAccessedList(EntityWithInheritedTypeVariable instance, List value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.EntityWithInheritedTypeVariable::fieldAccessedList = value;
+  }-*/;
+
+  public EntityWithInheritedTypeVariable demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EntityWithInheritedTypeVariable.class, objId);
+    }
+    EntityWithInheritedTypeVariable entity = new EntityWithInheritedTypeVariable();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "list": entity.setList(java_util_List.demarshall(objVal, a1));
+        break;
+        case "fieldAccessedList": EntityWithInheritedTypeVariable_List_fieldAccessedList(entity, java_util_List.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EntityWithInheritedTypeVariable a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EntityWithInheritedTypeVariable")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"list\":");
+    MarshallUtil.marshall(buf, java_util_List, a0.getList(), a1);
+    buf.append(",\"fieldAccessedList\":");
+    MarshallUtil.marshall(buf, java_util_List, EntityWithInheritedTypeVariable_List_fieldAccessedList(a0), a1);
+    buf.append("}");
+  }
+
+  public String marshall(EntityWithInheritedTypeVariable a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(384);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
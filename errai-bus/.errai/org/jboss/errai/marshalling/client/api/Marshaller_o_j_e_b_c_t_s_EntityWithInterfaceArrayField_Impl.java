@@ -0,0 +1,82 @@
+package org.jboss.errai.marshalling.client.api;
+
+import com.google.gwt.core.shared.GWT;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.EntityWithInterfaceArrayField;
+import org.jboss.errai.bus.client.tests.support.SubInterface;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.marshallers.QualifyingMarshallerWrapper;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EntityWithInterfaceArrayField_Impl implements GeneratedMarshaller<EntityWithInterfaceArrayField> {
+  private EntityWithInterfaceArrayField[] EMPTY_ARRAY = new EntityWithInterfaceArrayField[0];
+  private Marshaller<SubInterface[]> arrayOf_org_jboss_errai_bus_client_tests_support_SubInterface_D1 = null;
+  abstract class Marshaller_for_arrayOf_org_jboss_errai_bus_client_tests_support_SubInterface_D1 implements GeneratedMarshaller { }
+  public EntityWithInterfaceArrayField[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public EntityWithInterfaceArrayField demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EntityWithInterfaceArrayField.class, objId);
+    }
+    EntityWithInterfaceArrayField entity = new EntityWithInterfaceArrayField();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "arrayField": entity.setArrayField(arrayOf_org_jboss_errai_bus_client_tests_support_SubInterface_D1.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EntityWithInterfaceArrayField a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EntityWithInterfaceArrayField")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"arrayField\":");
+    MarshallUtil.marshall(buf, arrayOf_org_jboss_errai_bus_client_tests_support_SubInterface_D1, a0.getArrayField(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(EntityWithInterfaceArrayField a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(128);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (arrayOf_org_jboss_errai_bus_client_tests_support_SubInterface_D1 == null) {
+      arrayOf_org_jboss_errai_bus_client_tests_support_SubInterface_D1 = Marshalling.getMarshaller(SubInterface[].class, new DeferredMarshallerCreationCallback<SubInterface[]>() {
+        public Marshaller<SubInterface[]> create(Class type) {
+          return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_org_jboss_errai_bus_client_tests_support_SubInterface_D1.class), SubInterface[].class);
+        }
+      });
+    }
+  }
+}
\ No newline at end of file
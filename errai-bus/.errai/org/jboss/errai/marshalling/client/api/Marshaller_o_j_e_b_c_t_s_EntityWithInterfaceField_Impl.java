@@ -0,0 +1,74 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.EntityWithInterfaceField;
+import org.jboss.errai.bus.client.tests.support.SubInterface;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.marshallers.ObjectMarshaller;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EntityWithInterfaceField_Impl implements GeneratedMarshaller<EntityWithInterfaceField> {
+  private EntityWithInterfaceField[] EMPTY_ARRAY = new EntityWithInterfaceField[0];
+  private Marshaller java_lang_Object = Marshalling.getMarshaller(Object.class);
+  public EntityWithInterfaceField[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public EntityWithInterfaceField demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EntityWithInterfaceField.class, objId);
+    }
+    EntityWithInterfaceField entity = new EntityWithInterfaceField();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "field": entity.setField((SubInterface) ((ObjectMarshaller) java_lang_Object).demarshall(SubInterface.class, objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EntityWithInterfaceField a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EntityWithInterfaceField")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"field\":");
+    MarshallUtil.marshall(buf, java_lang_Object, a0.getField(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(EntityWithInterfaceField a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(256);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Map;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.EntityWithMapUsingAbstractKeyType;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EntityWithMapUsingAbstractKeyType_Impl implements GeneratedMarshaller<EntityWithMapUsingAbstractKeyType> {
+  private EntityWithMapUsingAbstractKeyType[] EMPTY_ARRAY = new EntityWithMapUsingAbstractKeyType[0];
+  private Marshaller<Map> java_util_Map = Marshalling.getMarshaller(Map.class);
+  public EntityWithMapUsingAbstractKeyType[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public EntityWithMapUsingAbstractKeyType demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EntityWithMapUsingAbstractKeyType.class, objId);
+    }
+    EntityWithMapUsingAbstractKeyType entity = new EntityWithMapUsingAbstractKeyType();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "data": a1.setAssumedMapKeyType("org.jboss.errai.bus.client.tests.support.AbstractClassA");
+        a1.setAssumedMapValueType("java.lang.String");
+        entity.setData(java_util_Map.demarshall(objVal, a1));
+        a1.resetAssumedTypes();
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EntityWithMapUsingAbstractKeyType a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EntityWithMapUsingAbstractKeyType")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"data\":");
+    MarshallUtil.marshall(buf, java_util_Map, a0.getData(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(EntityWithMapUsingAbstractKeyType a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(256);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.EntityWithMixedMappingTypes;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EntityWithMixedMappingTypes_Impl implements GeneratedMarshaller<EntityWithMixedMappingTypes> {
+  private EntityWithMixedMappingTypes[] EMPTY_ARRAY = new EntityWithMixedMappingTypes[0];
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  public EntityWithMixedMappingTypes[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static String EntityWithMixedMappingTypes_String_fieldInjected(EntityWithMixedMappingTypes instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.EntityWithMixedMappingTypes::fieldInjected;
+  }-*/;
+
+  native static void EntityWithMixedMappingTypes_String_fieldInjected(EntityWithMixedMappingTypes instance, String value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.EntityWithMixedMappingTypes::fieldInjected = value;
+  }-*/;
+
+  public EntityWithMixedMappingTypes demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EntityWithMixedMappingTypes.class, objId);
+    }
+    final String c0 = java_lang_String.demarshall(obj.get("constructorInjected"), a1);
+    EntityWithMixedMappingTypes entity = new EntityWithMixedMappingTypes(c0);
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "fieldInjected": EntityWithMixedMappingTypes_String_fieldInjected(entity, java_lang_String.demarshall(objVal, a1));
+        break;
+        case "methodInjected": entity.setMethodInjected(java_lang_String.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EntityWithMixedMappingTypes a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EntityWithMixedMappingTypes")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"fieldInjected\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getFieldInjected(), a1);
+    buf.append(",\"constructorInjected\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getConstructorInjected(), a1);
+    buf.append(",\"methodInjected\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getMethodInjected(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(EntityWithMixedMappingTypes a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(512);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
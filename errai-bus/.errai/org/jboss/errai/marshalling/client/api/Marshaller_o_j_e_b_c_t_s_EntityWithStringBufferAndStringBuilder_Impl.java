@@ -0,0 +1,77 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.EntityWithStringBufferAndStringBuilder;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EntityWithStringBufferAndStringBuilder_Impl implements GeneratedMarshaller<EntityWithStringBufferAndStringBuilder> {
+  private EntityWithStringBufferAndStringBuilder[] EMPTY_ARRAY = new EntityWithStringBufferAndStringBuilder[0];
+  private Marshaller<StringBuffer> java_lang_StringBuffer = Marshalling.getMarshaller(StringBuffer.class);
+  private Marshaller<StringBuilder> java_lang_StringBuilder = Marshalling.getMarshaller(StringBuilder.class);
+  public EntityWithStringBufferAndStringBuilder[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public EntityWithStringBufferAndStringBuilder demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EntityWithStringBufferAndStringBuilder.class, objId);
+    }
+    EntityWithStringBufferAndStringBuilder entity = new EntityWithStringBufferAndStringBuilder();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "stringBuffer": entity.setStringBuffer(java_lang_StringBuffer.demarshall(objVal, a1));
+        break;
+        case "stringBuilder": entity.setStringBuilder(java_lang_StringBuilder.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EntityWithStringBufferAndStringBuilder a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EntityWithStringBufferAndStringBuilder")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"stringBuffer\":");
+    MarshallUtil.marshall(buf, java_lang_StringBuffer, a0.getStringBuffer(), a1);
+    buf.append(",\"stringBuilder\":");
+    MarshallUtil.marshall(buf, java_lang_StringBuilder, a0.getStringBuilder(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(EntityWithStringBufferAndStringBuilder a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(384);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
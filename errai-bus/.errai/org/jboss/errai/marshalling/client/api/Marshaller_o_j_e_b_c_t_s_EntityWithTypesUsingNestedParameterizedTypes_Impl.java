@@ -0,0 +1,90 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.EntityWithTypesUsingNestedParameterizedTypes;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EntityWithTypesUsingNestedParameterizedTypes_Impl implements GeneratedMarshaller<EntityWithTypesUsingNestedParameterizedTypes> {
+  private EntityWithTypesUsingNestedParameterizedTypes[] EMPTY_ARRAY = new EntityWithTypesUsingNestedParameterizedTypes[0];
+  private Marshaller<Map> java_util_Map = Marshalling.getMarshaller(Map.class);
+  private Marshaller<List> java_util_List = Marshalling.getMarshaller(List.class);
+  public EntityWithTypesUsingNestedParameterizedTypes[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public EntityWithTypesUsingNestedParameterizedTypes demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EntityWithTypesUsingNestedParameterizedTypes.class, objId);
+    }
+    EntityWithTypesUsingNestedParameterizedTypes entity = new EntityWithTypesUsingNestedParameterizedTypes();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "map": a1.setAssumedMapKeyType("java.lang.String");
+        a1.setAssumedMapValueType("java.util.Map");
+        entity.setMap(java_util_Map.demarshall(objVal, a1));
+        a1.resetAssumedTypes();
+        break;
+        case "mapWithDifferentTypes": a1.setAssumedMapKeyType("java.lang.Long");
+        a1.setAssumedMapValueType("java.util.Map");
+        entity.setMapWithDifferentTypes(java_util_Map.demarshall(objVal, a1));
+        a1.resetAssumedTypes();
+        break;
+        case "list": a1.setAssumedElementType("java.util.List");
+        entity.setList(java_util_List.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EntityWithTypesUsingNestedParameterizedTypes a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EntityWithTypesUsingNestedParameterizedTypes")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"map\":");
+    MarshallUtil.marshall(buf, java_util_Map, a0.getMap(), a1);
+    buf.append(",\"mapWithDifferentTypes\":");
+    MarshallUtil.marshall(buf, java_util_Map, a0.getMapWithDifferentTypes(), a1);
+    buf.append(",\"list\":");
+    MarshallUtil.marshall(buf, java_util_List, a0.getList(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(EntityWithTypesUsingNestedParameterizedTypes a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(512);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.EntityWithUnqualifiedFields;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.marshallers.ObjectMarshaller;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EntityWithUnqualifiedFields_Impl implements GeneratedMarshaller<EntityWithUnqualifiedFields> {
+  private EntityWithUnqualifiedFields[] EMPTY_ARRAY = new EntityWithUnqualifiedFields[0];
+  private Marshaller java_lang_Object = Marshalling.getMarshaller(Object.class);
+  public EntityWithUnqualifiedFields[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public EntityWithUnqualifiedFields demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EntityWithUnqualifiedFields.class, objId);
+    }
+    EntityWithUnqualifiedFields entity = new EntityWithUnqualifiedFields();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "field1": entity.setField1(((ObjectMarshaller) java_lang_Object).demarshall(Object.class, objVal, a1));
+        break;
+        case "field2": entity.setField2(((ObjectMarshaller) java_lang_Object).demarshall(Object.class, objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EntityWithUnqualifiedFields a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EntityWithUnqualifiedFields")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"field1\":");
+    MarshallUtil.marshall(buf, java_lang_Object, a0.getField1(), a1);
+    buf.append(",\"field2\":");
+    MarshallUtil.marshall(buf, java_lang_Object, a0.getField2(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(EntityWithUnqualifiedFields a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(384);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
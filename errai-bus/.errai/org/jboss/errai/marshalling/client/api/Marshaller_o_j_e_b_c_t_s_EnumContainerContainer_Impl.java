@@ -0,0 +1,93 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.EnumContainer;
+import org.jboss.errai.bus.client.tests.support.EnumContainerContainer;
+import org.jboss.errai.bus.client.tests.support.EnumWithAbstractMethod;
+import org.jboss.errai.bus.client.tests.support.TestEnumA;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EnumContainerContainer_Impl implements GeneratedMarshaller<EnumContainerContainer> {
+  private EnumContainerContainer[] EMPTY_ARRAY = new EnumContainerContainer[0];
+  private Marshaller<EnumContainer> org_jboss_errai_bus_client_tests_support_EnumContainer = null;
+  private Marshaller<TestEnumA> org_jboss_errai_bus_client_tests_support_TestEnumA = null;
+  private Marshaller<EnumWithAbstractMethod> org_jboss_errai_bus_client_tests_support_EnumWithAbstractMethod = null;
+  public EnumContainerContainer[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public EnumContainerContainer demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EnumContainerContainer.class, objId);
+    }
+    EnumContainerContainer entity = new EnumContainerContainer();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "enumContainer": entity.setEnumContainer(org_jboss_errai_bus_client_tests_support_EnumContainer.demarshall(objVal, a1));
+        break;
+        case "enumA": entity.setEnumA(objVal.isObject() != null ? Enum.valueOf(TestEnumA.class, objVal.isObject().get("^EnumStringValue").isString().stringValue()) : objVal.isString() != null ? Enum.valueOf(TestEnumA.class, objVal.isString().stringValue()) : null);
+        break;
+        case "enumWithAbstractMethod": entity.setEnumWithAbstractMethod(objVal.isObject() != null ? Enum.valueOf(EnumWithAbstractMethod.class, objVal.isObject().get("^EnumStringValue").isString().stringValue()) : objVal.isString() != null ? Enum.valueOf(EnumWithAbstractMethod.class, objVal.isString().stringValue()) : null);
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EnumContainerContainer a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EnumContainerContainer")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"enumContainer\":");
+    MarshallUtil.marshall(buf, org_jboss_errai_bus_client_tests_support_EnumContainer, a0.getEnumContainer(), a1);
+    buf.append(",\"enumA\":");
+    buf.append(a0.getEnumA() != null ? ((((((("{\"" + "^EncodedType") + "\":\"") + "org.jboss.errai.bus.client.tests.support.TestEnumA") + "\",\"") + "^EnumStringValue") + "\":\"") + a0.getEnumA().name()) + "\"}" : "null");
+    buf.append(",\"enumWithAbstractMethod\":");
+    buf.append(a0.getEnumWithAbstractMethod() != null ? ((((((("{\"" + "^EncodedType") + "\":\"") + "org.jboss.errai.bus.client.tests.support.EnumWithAbstractMethod") + "\",\"") + "^EnumStringValue") + "\":\"") + a0.getEnumWithAbstractMethod().name()) + "\"}" : "null");
+    buf.append("}");
+  }
+
+  public String marshall(EnumContainerContainer a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(1280);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_EnumContainer == null) {
+      org_jboss_errai_bus_client_tests_support_EnumContainer = Marshalling.getMarshaller(EnumContainer.class);
+    }
+    if (org_jboss_errai_bus_client_tests_support_TestEnumA == null) {
+      org_jboss_errai_bus_client_tests_support_TestEnumA = Marshalling.getMarshaller(TestEnumA.class);
+    }
+    if (org_jboss_errai_bus_client_tests_support_EnumWithAbstractMethod == null) {
+      org_jboss_errai_bus_client_tests_support_EnumWithAbstractMethod = Marshalling.getMarshaller(EnumWithAbstractMethod.class);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.EnumContainer;
+import org.jboss.errai.bus.client.tests.support.EnumWithState;
+import org.jboss.errai.bus.client.tests.support.TestEnumA;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_EnumContainer_Impl implements GeneratedMarshaller<EnumContainer> {
+  private EnumContainer[] EMPTY_ARRAY = new EnumContainer[0];
+  private Marshaller<TestEnumA> org_jboss_errai_bus_client_tests_support_TestEnumA = null;
+  private Marshaller<EnumWithState> org_jboss_errai_bus_client_tests_support_EnumWithState = null;
+  public EnumContainer[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public EnumContainer demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(EnumContainer.class, objId);
+    }
+    EnumContainer entity = new EnumContainer();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "enumA1": entity.setEnumA1(objVal.isObject() != null ? Enum.valueOf(TestEnumA.class, objVal.isObject().get("^EnumStringValue").isString().stringValue()) : objVal.isString() != null ? Enum.valueOf(TestEnumA.class, objVal.isString().stringValue()) : null);
+        break;
+        case "enumA2": entity.setEnumA2(objVal.isObject() != null ? Enum.valueOf(TestEnumA.class, objVal.isObject().get("^EnumStringValue").isString().stringValue()) : objVal.isString() != null ? Enum.valueOf(TestEnumA.class, objVal.isString().stringValue()) : null);
+        break;
+        case "enumA3": entity.setEnumA3(objVal.isObject() != null ? Enum.valueOf(TestEnumA.class, objVal.isObject().get("^EnumStringValue").isString().stringValue()) : objVal.isString() != null ? Enum.valueOf(TestEnumA.class, objVal.isString().stringValue()) : null);
+        break;
+        case "statefulEnum1": entity.setStatefulEnum1(objVal.isObject() != null ? Enum.valueOf(EnumWithState.class, objVal.isObject().get("^EnumStringValue").isString().stringValue()) : objVal.isString() != null ? Enum.valueOf(EnumWithState.class, objVal.isString().stringValue()) : null);
+        break;
+        case "statefulEnum2": entity.setStatefulEnum2(objVal.isObject() != null ? Enum.valueOf(EnumWithState.class, objVal.isObject().get("^EnumStringValue").isString().stringValue()) : objVal.isString() != null ? Enum.valueOf(EnumWithState.class, objVal.isString().stringValue()) : null);
+        break;
+        case "statefulEnum3": entity.setStatefulEnum3(objVal.isObject() != null ? Enum.valueOf(EnumWithState.class, objVal.isObject().get("^EnumStringValue").isString().stringValue()) : objVal.isString() != null ? Enum.valueOf(EnumWithState.class, objVal.isString().stringValue()) : null);
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EnumContainer a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.EnumContainer")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"enumA1\":");
+    buf.append(a0.getEnumA1() != null ? ((((((("{\"" + "^EncodedType") + "\":\"") + "org.jboss.errai.bus.client.tests.support.TestEnumA") + "\",\"") + "^EnumStringValue") + "\":\"") + a0.getEnumA1().name()) + "\"}" : "null");
+    buf.append(",\"enumA2\":");
+    buf.append(a0.getEnumA2() != null ? ((((((("{\"" + "^EncodedType") + "\":\"") + "org.jboss.errai.bus.client.tests.support.TestEnumA") + "\",\"") + "^EnumStringValue") + "\":\"") + a0.getEnumA2().name()) + "\"}" : "null");
+    buf.append(",\"enumA3\":");
+    buf.append(a0.getEnumA3() != null ? ((((((("{\"" + "^EncodedType") + "\":\"") + "org.jboss.errai.bus.client.tests.support.TestEnumA") + "\",\"") + "^EnumStringValue") + "\":\"") + a0.getEnumA3().name()) + "\"}" : "null");
+    buf.append(",\"statefulEnum1\":");
+    buf.append(a0.getStatefulEnum1() != null ? ((((((("{\"" + "^EncodedType") + "\":\"") + "org.jboss.errai.bus.client.tests.support.EnumWithState") + "\",\"") + "^EnumStringValue") + "\":\"") + a0.getStatefulEnum1().name()) + "\"}" : "null");
+    buf.append(",\"statefulEnum2\":");
+    buf.append(a0.getStatefulEnum2() != null ? ((((((("{\"" + "^EncodedType") + "\":\"") + "org.jboss.errai.bus.client.tests.support.EnumWithState") + "\",\"") + "^EnumStringValue") + "\":\"") + a0.getStatefulEnum2().name()) + "\"}" : "null");
+    buf.append(",\"statefulEnum3\":");
+    buf.append(a0.getStatefulEnum3() != null ? ((((((("{\"" + "^EncodedType") + "\":\"") + "org.jboss.errai.bus.client.tests.support.EnumWithState") + "\",\"") + "^EnumStringValue") + "\":\"") + a0.getStatefulEnum3().name()) + "\"}" : "null");
+    buf.append("}");
+  }
+
+  public String marshall(EnumContainer a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(896);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_TestEnumA == null) {
+      org_jboss_errai_bus_client_tests_support_TestEnumA = Marshalling.getMarshaller(TestEnumA.class);
+    }
+    if (org_jboss_errai_bus_client_tests_support_EnumWithState == null) {
+      org_jboss_errai_bus_client_tests_support_EnumWithState = Marshalling.getMarshaller(EnumWithState.class);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package org.jboss.errai.marshalling.client.api;
+
+import org.jboss.errai.bus.client.tests.support.EnumWithAbstractMethod;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+
+public class Marshaller_o_j_e_b_c_t_s_EnumWithAbstractMethod_Impl implements GeneratedMarshaller<EnumWithAbstractMethod> {
+  private EnumWithAbstractMethod[] EMPTY_ARRAY = new EnumWithAbstractMethod[0];
+  public EnumWithAbstractMethod[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public EnumWithAbstractMethod demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    EnumWithAbstractMethod entity = obj != null ? Enum.valueOf(EnumWithAbstractMethod.class, obj.get("^EnumStringValue").isString().stringValue()) : a0.isString() != null ? Enum.valueOf(EnumWithAbstractMethod.class, a0.isString().stringValue()) : null;
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, EnumWithAbstractMethod a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    buf.append(a0 != null ? ((((((("{\"" + "^EncodedType") + "\":\"") + "org.jboss.errai.bus.client.tests.support.EnumWithAbstractMethod") + "\",\"") + "^EnumStringValue") + "\":\"") + a0.name()) + "\"}" : "null");
+  }
+
+  public String marshall(EnumWithAbstractMethod a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(128);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
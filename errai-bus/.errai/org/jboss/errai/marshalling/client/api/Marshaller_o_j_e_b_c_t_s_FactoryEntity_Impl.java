@@ -0,0 +1,95 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.FactoryEntity;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_FactoryEntity_Impl implements GeneratedMarshaller<FactoryEntity> {
+  private FactoryEntity[] EMPTY_ARRAY = new FactoryEntity[0];
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  private Marshaller<Integer> java_lang_Integer = Marshalling.getMarshaller(Integer.class);
+  public FactoryEntity[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static String FactoryEntity_String_name(FactoryEntity instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.FactoryEntity::name;
+  }-*/;
+
+  native static void FactoryEntity_String_name(FactoryEntity instance, String value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.FactoryEntity::name = value;
+  }-*/;
+
+  native static int FactoryEntity_int_age(FactoryEntity instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.FactoryEntity::age;
+  }-*/;
+
+  native static void FactoryEntity_int_age(FactoryEntity instance, int value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.FactoryEntity::age = value;
+  }-*/;
+
+  public FactoryEntity demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(FactoryEntity.class, objId);
+    }
+    final String c0 = java_lang_String.demarshall(obj.get("name"), a1);
+    final Integer c1 = java_lang_Integer.demarshall(obj.get("age"), a1);
+    FactoryEntity entity = FactoryEntity.create(c0, c1);
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "name": FactoryEntity_String_name(entity, java_lang_String.demarshall(objVal, a1));
+        break;
+        case "age": FactoryEntity_int_age(entity, java_lang_Integer.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, FactoryEntity a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.FactoryEntity")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"name\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getName(), a1);
+    buf.append(",\"age\":");
+    MarshallUtil.marshall(buf, java_lang_Integer, a0.getAge(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(FactoryEntity a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(384);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
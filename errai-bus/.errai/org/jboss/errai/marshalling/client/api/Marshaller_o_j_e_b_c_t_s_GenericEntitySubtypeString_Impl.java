@@ -0,0 +1,92 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.List;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.GenericEntity;
+import org.jboss.errai.bus.client.tests.support.GenericEntitySubtypeString;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_GenericEntitySubtypeString_Impl implements GeneratedMarshaller<GenericEntitySubtypeString> {
+  private GenericEntitySubtypeString[] EMPTY_ARRAY = new GenericEntitySubtypeString[0];
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  private Marshaller<List> java_util_List = Marshalling.getMarshaller(List.class);
+  public GenericEntitySubtypeString[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static String GenericEntity_String_privateField(GenericEntity instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.GenericEntity::privateField;
+  }-*/;
+
+  native static void GenericEntity_String_privateField(GenericEntity instance, String value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.GenericEntity::privateField = value;
+  }-*/;
+
+  public GenericEntitySubtypeString demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(GenericEntitySubtypeString.class, objId);
+    }
+    GenericEntitySubtypeString entity = new GenericEntitySubtypeString();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "privateField": GenericEntity_String_privateField(entity, java_lang_String.demarshall(objVal, a1));
+        break;
+        case "field": entity.setField(java_lang_String.demarshall(objVal, a1));
+        break;
+        case "list": a1.setAssumedElementType("java.lang.String");
+        entity.setList(java_util_List.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, GenericEntitySubtypeString a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.GenericEntitySubtypeString")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"privateField\":");
+    MarshallUtil.marshall(buf, java_lang_String, GenericEntity_String_privateField(a0), a1);
+    buf.append(",\"field\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getField(), a1);
+    buf.append(",\"list\":");
+    MarshallUtil.marshall(buf, java_util_List, a0.getList(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(GenericEntitySubtypeString a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(512);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
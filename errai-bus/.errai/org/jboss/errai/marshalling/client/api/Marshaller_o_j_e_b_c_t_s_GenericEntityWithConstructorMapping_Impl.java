@@ -0,0 +1,86 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.List;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.GenericEntityWithConstructorMapping;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_GenericEntityWithConstructorMapping_Impl implements GeneratedMarshaller<GenericEntityWithConstructorMapping> {
+  private GenericEntityWithConstructorMapping[] EMPTY_ARRAY = new GenericEntityWithConstructorMapping[0];
+  private Marshaller<Long> java_lang_Long = Marshalling.getMarshaller(Long.class);
+  private Marshaller<List> java_util_List = Marshalling.getMarshaller(List.class);
+  public GenericEntityWithConstructorMapping[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static Long GenericEntityWithConstructorMapping_Long_n(GenericEntityWithConstructorMapping instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.GenericEntityWithConstructorMapping::n;
+  }-*/;
+
+  native static void GenericEntityWithConstructorMapping_Long_n(GenericEntityWithConstructorMapping instance, Long value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.GenericEntityWithConstructorMapping::n = value;
+  }-*/;
+
+  public GenericEntityWithConstructorMapping demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(GenericEntityWithConstructorMapping.class, objId);
+    }
+    final Long c0 = java_lang_Long.demarshall(obj.get("n"), a1);
+    final List c1 = java_util_List.demarshall(obj.get("data"), a1);
+    GenericEntityWithConstructorMapping entity = new GenericEntityWithConstructorMapping(c0, c1);
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "n": GenericEntityWithConstructorMapping_Long_n(entity, java_lang_Long.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, GenericEntityWithConstructorMapping a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.GenericEntityWithConstructorMapping")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"n\":");
+    MarshallUtil.marshall(buf, java_lang_Long, GenericEntityWithConstructorMapping_Long_n(a0), a1);
+    buf.append(",\"data\":");
+    MarshallUtil.marshall(buf, java_util_List, a0.getData(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(GenericEntityWithConstructorMapping a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(384);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
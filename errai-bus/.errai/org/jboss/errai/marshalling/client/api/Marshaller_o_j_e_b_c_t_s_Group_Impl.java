@@ -0,0 +1,100 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.Group;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_Group_Impl implements GeneratedMarshaller<Group> {
+  private Group[] EMPTY_ARRAY = new Group[0];
+  private Marshaller<Integer> java_lang_Integer = Marshalling.getMarshaller(Integer.class);
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  private Marshaller<List> java_util_List = Marshalling.getMarshaller(List.class);
+  private Marshaller<Group> org_jboss_errai_bus_client_tests_support_Group = null;
+  private Marshaller<Map> java_util_Map = Marshalling.getMarshaller(Map.class);
+  public Group[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public Group demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(Group.class, objId);
+    }
+    Group entity = new Group();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "groupId": entity.setGroupId(java_lang_Integer.demarshall(objVal, a1));
+        break;
+        case "name": entity.setName(java_lang_String.demarshall(objVal, a1));
+        break;
+        case "usersInGroup": a1.setAssumedElementType("org.jboss.errai.bus.client.tests.support.User");
+        entity.setUsersInGroup(java_util_List.demarshall(objVal, a1));
+        break;
+        case "subGroup": entity.setSubGroup(org_jboss_errai_bus_client_tests_support_Group.demarshall(objVal, a1));
+        break;
+        case "groupUserMap": a1.setAssumedMapKeyType("org.jboss.errai.bus.client.tests.support.Group");
+        a1.setAssumedMapValueType("org.jboss.errai.bus.client.tests.support.User");
+        entity.setGroupUserMap(java_util_Map.demarshall(objVal, a1));
+        a1.resetAssumedTypes();
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, Group a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.Group")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"groupId\":");
+    MarshallUtil.marshall(buf, java_lang_Integer, a0.getGroupId(), a1);
+    buf.append(",\"name\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getName(), a1);
+    buf.append(",\"usersInGroup\":");
+    MarshallUtil.marshall(buf, java_util_List, a0.getUsersInGroup(), a1);
+    buf.append(",\"subGroup\":");
+    MarshallUtil.marshall(buf, org_jboss_errai_bus_client_tests_support_Group, a0.getSubGroup(), a1);
+    buf.append(",\"groupUserMap\":");
+    MarshallUtil.marshall(buf, java_util_Map, a0.getGroupUserMap(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(Group a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(768);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_Group == null) {
+      org_jboss_errai_bus_client_tests_support_Group = this;
+    }
+  }
+}
\ No newline at end of file
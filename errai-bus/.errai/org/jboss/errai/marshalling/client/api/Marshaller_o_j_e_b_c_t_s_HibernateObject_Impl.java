@@ -0,0 +1,80 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.HibernateObject;
+import org.jboss.errai.bus.client.tests.support.OtherHibernateObject;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_HibernateObject_Impl implements GeneratedMarshaller<HibernateObject> {
+  private HibernateObject[] EMPTY_ARRAY = new HibernateObject[0];
+  private Marshaller<Integer> java_lang_Integer = Marshalling.getMarshaller(Integer.class);
+  private Marshaller<OtherHibernateObject> org_jboss_errai_bus_client_tests_support_OtherHibernateObject = null;
+  public HibernateObject[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public HibernateObject demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(HibernateObject.class, objId);
+    }
+    HibernateObject entity = new HibernateObject();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "id": entity.setId(java_lang_Integer.demarshall(objVal, a1));
+        break;
+        case "other": entity.setOther(org_jboss_errai_bus_client_tests_support_OtherHibernateObject.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, HibernateObject a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.HibernateObject")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"id\":");
+    MarshallUtil.marshall(buf, java_lang_Integer, a0.getId(), a1);
+    buf.append(",\"other\":");
+    MarshallUtil.marshall(buf, org_jboss_errai_bus_client_tests_support_OtherHibernateObject, a0.getOther(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(HibernateObject a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(512);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_OtherHibernateObject == null) {
+      org_jboss_errai_bus_client_tests_support_OtherHibernateObject = Marshalling.getMarshaller(OtherHibernateObject.class);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package org.jboss.errai.marshalling.client.api;
+
+import com.google.gwt.core.shared.GWT;
+import org.jboss.errai.bus.client.tests.support.ImmutableArrayContainer;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.marshallers.QualifyingMarshallerWrapper;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_ImmutableArrayContainer_Impl implements GeneratedMarshaller<ImmutableArrayContainer> {
+  private ImmutableArrayContainer[] EMPTY_ARRAY = new ImmutableArrayContainer[0];
+  private Marshaller<String[]> arrayOf_java_lang_String_D1 = Marshalling.getMarshaller(String[].class, new DeferredMarshallerCreationCallback<String[]>() {
+    public Marshaller<String[]> create(Class type) {
+      return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_java_lang_String_D1.class), String[].class);
+    }
+  });
+  abstract class Marshaller_for_arrayOf_java_lang_String_D1 implements GeneratedMarshaller { }
+  public ImmutableArrayContainer[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public ImmutableArrayContainer demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(ImmutableArrayContainer.class, objId);
+    }
+    ImmutableArrayContainer entity = new ImmutableArrayContainer(arrayOf_java_lang_String_D1.demarshall(obj.get("test"), a1));
+    a1.recordObject(objId, entity);
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, ImmutableArrayContainer a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.ImmutableArrayContainer")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"test\":");
+    MarshallUtil.marshall(buf, arrayOf_java_lang_String_D1, a0.getTest(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(ImmutableArrayContainer a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(640);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package org.jboss.errai.marshalling.client.api;
+
+import org.jboss.errai.bus.client.tests.support.ImmutableEnumContainer;
+import org.jboss.errai.bus.client.tests.support.TestEnumA;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_ImmutableEnumContainer_Impl implements GeneratedMarshaller<ImmutableEnumContainer> {
+  private ImmutableEnumContainer[] EMPTY_ARRAY = new ImmutableEnumContainer[0];
+  private Marshaller<TestEnumA> org_jboss_errai_bus_client_tests_support_TestEnumA = null;
+  public ImmutableEnumContainer[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public ImmutableEnumContainer demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(ImmutableEnumContainer.class, objId);
+    }
+    final TestEnumA c0 = obj.get("test").isObject() != null ? Enum.valueOf(TestEnumA.class, obj.get("test").isObject().get("^EnumStringValue").isString().stringValue()) : obj.get("test").isString() != null ? Enum.valueOf(TestEnumA.class, obj.get("test").isString().stringValue()) : null;
+    ImmutableEnumContainer entity = new ImmutableEnumContainer(c0);
+    a1.recordObject(objId, entity);
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, ImmutableEnumContainer a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.ImmutableEnumContainer")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"test\":");
+    buf.append(a0.getTest() != null ? ((((((("{\"" + "^EncodedType") + "\":\"") + "org.jboss.errai.bus.client.tests.support.TestEnumA") + "\",\"") + "^EnumStringValue") + "\":\"") + a0.getTest().name()) + "\"}" : "null");
+    buf.append("}");
+  }
+
+  public String marshall(ImmutableEnumContainer a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(256);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_TestEnumA == null) {
+      org_jboss_errai_bus_client_tests_support_TestEnumA = Marshalling.getMarshaller(TestEnumA.class);
+    }
+  }
+}
\ No newline at end of file
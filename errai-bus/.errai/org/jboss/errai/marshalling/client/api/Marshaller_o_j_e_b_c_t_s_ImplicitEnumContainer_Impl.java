@@ -0,0 +1,61 @@
+package org.jboss.errai.marshalling.client.api;
+
+import org.jboss.errai.bus.client.tests.support.ImplicitEnum;
+import org.jboss.errai.bus.client.tests.support.ImplicitEnumContainer;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_ImplicitEnumContainer_Impl implements GeneratedMarshaller<ImplicitEnumContainer> {
+  private ImplicitEnumContainer[] EMPTY_ARRAY = new ImplicitEnumContainer[0];
+  private Marshaller<ImplicitEnum> org_jboss_errai_bus_client_tests_support_ImplicitEnum = null;
+  public ImplicitEnumContainer[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public ImplicitEnumContainer demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(ImplicitEnumContainer.class, objId);
+    }
+    final ImplicitEnum c0 = obj.get("implicitEnum").isObject() != null ? Enum.valueOf(ImplicitEnum.class, obj.get("implicitEnum").isObject().get("^EnumStringValue").isString().stringValue()) : obj.get("implicitEnum").isString() != null ? Enum.valueOf(ImplicitEnum.class, obj.get("implicitEnum").isString().stringValue()) : null;
+    ImplicitEnumContainer entity = new ImplicitEnumContainer(c0);
+    a1.recordObject(objId, entity);
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, ImplicitEnumContainer a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.ImplicitEnumContainer")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"implicitEnum\":");
+    buf.append(a0.getImplicitEnum() != null ? ((((((("{\"" + "^EncodedType") + "\":\"") + "org.jboss.errai.bus.client.tests.support.ImplicitEnum") + "\",\"") + "^EnumStringValue") + "\":\"") + a0.getImplicitEnum().name()) + "\"}" : "null");
+    buf.append("}");
+  }
+
+  public String marshall(ImplicitEnumContainer a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(256);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_ImplicitEnum == null) {
+      org_jboss_errai_bus_client_tests_support_ImplicitEnum = Marshalling.getMarshaller(ImplicitEnum.class);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.List;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.Koron;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_Koron_Impl implements GeneratedMarshaller<Koron> {
+  private Koron[] EMPTY_ARRAY = new Koron[0];
+  private Marshaller<List> java_util_List = Marshalling.getMarshaller(List.class);
+  public Koron[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static List Koron_List_someList(Koron instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.Koron::someList;
+  }-*/;
+
+  native static void Koron_List_someList(Koron instance, List<Integer> value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.Koron::someList = value;
+  }-*/;
+
+  native static List Koron_List_sameList(Koron instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.Koron::sameList;
+  }-*/;
+
+  native static void Koron_List_sameList(Koron instance, List<Integer> value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.Koron::sameList = value;
+  }-*/;
+
+  native static List Koron_List_otherList(Koron instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.Koron::otherList;
+  }-*/;
+
+  native static void Koron_List_otherList(Koron instance, List<Integer> value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.Koron::otherList = value;
+  }-*/;
+
+  public Koron demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(Koron.class, objId);
+    }
+    Koron entity = new Koron();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "someList": a1.setAssumedElementType("java.lang.Integer");
+        Koron_List_someList(entity, java_util_List.demarshall(objVal, a1));
+        break;
+        case "sameList": a1.setAssumedElementType("java.lang.Integer");
+        Koron_List_sameList(entity, java_util_List.demarshall(objVal, a1));
+        break;
+        case "otherList": a1.setAssumedElementType("java.lang.Integer");
+        Koron_List_otherList(entity, java_util_List.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, Koron a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.Koron")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"someList\":");
+    MarshallUtil.marshall(buf, java_util_List, a0.getSomeList(), a1);
+    buf.append(",\"sameList\":");
+    MarshallUtil.marshall(buf, java_util_List, a0.getSameList(), a1);
+    buf.append(",\"otherList\":");
+    MarshallUtil.marshall(buf, java_util_List, a0.getOtherList(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(Koron a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(512);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
@@ -0,0 +1,225 @@
+package org.jboss.errai.marshalling.client.api;
+
+import com.google.gwt.core.shared.GWT;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.marshallers.QualifyingMarshallerWrapper;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_OneDimensionalPrimitiveArrayPortable_Impl implements GeneratedMarshaller<OneDimensionalPrimitiveArrayPortable> {
+  private OneDimensionalPrimitiveArrayPortable[] EMPTY_ARRAY = new OneDimensionalPrimitiveArrayPortable[0];
+  private Marshaller<int[]> arrayOf_int_D1 = Marshalling.getMarshaller(int[].class, new DeferredMarshallerCreationCallback<int[]>() {
+    public Marshaller<int[]> create(Class type) {
+      return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_int_D1.class), int[].class);
+    }
+  });
+  private Marshaller<long[]> arrayOf_long_D1 = Marshalling.getMarshaller(long[].class, new DeferredMarshallerCreationCallback<long[]>() {
+    public Marshaller<long[]> create(Class type) {
+      return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_long_D1.class), long[].class);
+    }
+  });
+  private Marshaller<short[]> arrayOf_short_D1 = Marshalling.getMarshaller(short[].class, new DeferredMarshallerCreationCallback<short[]>() {
+    public Marshaller<short[]> create(Class type) {
+      return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_short_D1.class), short[].class);
+    }
+  });
+  private Marshaller<double[]> arrayOf_double_D1 = Marshalling.getMarshaller(double[].class, new DeferredMarshallerCreationCallback<double[]>() {
+    public Marshaller<double[]> create(Class type) {
+      return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_double_D1.class), double[].class);
+    }
+  });
+  private Marshaller<boolean[]> arrayOf_boolean_D1 = Marshalling.getMarshaller(boolean[].class, new DeferredMarshallerCreationCallback<boolean[]>() {
+    public Marshaller<boolean[]> create(Class type) {
+      return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_boolean_D1.class), boolean[].class);
+    }
+  });
+  private Marshaller<float[]> arrayOf_float_D1 = Marshalling.getMarshaller(float[].class, new DeferredMarshallerCreationCallback<float[]>() {
+    public Marshaller<float[]> create(Class type) {
+      return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_float_D1.class), float[].class);
+    }
+  });
+  private Marshaller<byte[]> arrayOf_byte_D1 = Marshalling.getMarshaller(byte[].class, new DeferredMarshallerCreationCallback<byte[]>() {
+    public Marshaller<byte[]> create(Class type) {
+      return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_byte_D1.class), byte[].class);
+    }
+  });
+  private Marshaller<char[]> arrayOf_char_D1 = Marshalling.getMarshaller(char[].class, new DeferredMarshallerCreationCallback<char[]>() {
+    public Marshaller<char[]> create(Class type) {
+      return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_char_D1.class), char[].class);
+    }
+  });
+  abstract class Marshaller_for_arrayOf_int_D1 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_arrayOf_long_D1 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_arrayOf_short_D1 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_arrayOf_double_D1 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_arrayOf_boolean_D1 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_arrayOf_float_D1 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_arrayOf_byte_D1 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_arrayOf_char_D1 implements GeneratedMarshaller { }
+  public OneDimensionalPrimitiveArrayPortable[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static int[] OneDimensionalPrimitiveArrayPortable_int_array_intArray(OneDimensionalPrimitiveArrayPortable instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::intArray;
+  }-*/;
+
+  native static void OneDimensionalPrimitiveArrayPortable_int_array_intArray(OneDimensionalPrimitiveArrayPortable instance, int[] value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::intArray = value;
+  }-*/;
+
+  native static long[] OneDimensionalPrimitiveArrayPortable_long_array_longArray(OneDimensionalPrimitiveArrayPortable instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::longArray;
+  }-*/;
+
+  native static void OneDimensionalPrimitiveArrayPortable_long_array_longArray(OneDimensionalPrimitiveArrayPortable instance, long[] value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::longArray = value;
+  }-*/;
+
+  native static short[] OneDimensionalPrimitiveArrayPortable_short_array_shortArray(OneDimensionalPrimitiveArrayPortable instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::shortArray;
+  }-*/;
+
+  native static void OneDimensionalPrimitiveArrayPortable_short_array_shortArray(OneDimensionalPrimitiveArrayPortable instance, short[] value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::shortArray = value;
+  }-*/;
+
+  native static double[] OneDimensionalPrimitiveArrayPortable_double_array_doubleArray(OneDimensionalPrimitiveArrayPortable instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::doubleArray;
+  }-*/;
+
+  native static void OneDimensionalPrimitiveArrayPortable_double_array_doubleArray(OneDimensionalPrimitiveArrayPortable instance, double[] value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::doubleArray = value;
+  }-*/;
+
+  native static boolean[] OneDimensionalPrimitiveArrayPortable_boolean_array_booleanArray(OneDimensionalPrimitiveArrayPortable instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::booleanArray;
+  }-*/;
+
+  native static void OneDimensionalPrimitiveArrayPortable_boolean_array_booleanArray(OneDimensionalPrimitiveArrayPortable instance, boolean[] value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::booleanArray = value;
+  }-*/;
+
+  native static float[] OneDimensionalPrimitiveArrayPortable_float_array_floatArray(OneDimensionalPrimitiveArrayPortable instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::floatArray;
+  }-*/;
+
+  native static void OneDimensionalPrimitiveArrayPortable_float_array_floatArray(OneDimensionalPrimitiveArrayPortable instance, float[] value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::floatArray = value;
+  }-*/;
+
+  native static byte[] OneDimensionalPrimitiveArrayPortable_byte_array_byteArray(OneDimensionalPrimitiveArrayPortable instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::byteArray;
+  }-*/;
+
+  native static void OneDimensionalPrimitiveArrayPortable_byte_array_byteArray(OneDimensionalPrimitiveArrayPortable instance, byte[] value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::byteArray = value;
+  }-*/;
+
+  native static byte[] OneDimensionalPrimitiveArrayPortable_byte_array_anotherByteArray(OneDimensionalPrimitiveArrayPortable instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::anotherByteArray;
+  }-*/;
+
+  native static void OneDimensionalPrimitiveArrayPortable_byte_array_anotherByteArray(OneDimensionalPrimitiveArrayPortable instance, byte[] value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::anotherByteArray = value;
+  }-*/;
+
+  native static char[] OneDimensionalPrimitiveArrayPortable_char_array_charArray(OneDimensionalPrimitiveArrayPortable instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::charArray;
+  }-*/;
+
+  native static void OneDimensionalPrimitiveArrayPortable_char_array_charArray(OneDimensionalPrimitiveArrayPortable instance, char[] value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable::charArray = value;
+  }-*/;
+
+  public OneDimensionalPrimitiveArrayPortable demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(OneDimensionalPrimitiveArrayPortable.class, objId);
+    }
+    OneDimensionalPrimitiveArrayPortable entity = new OneDimensionalPrimitiveArrayPortable();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "intArray": OneDimensionalPrimitiveArrayPortable_int_array_intArray(entity, arrayOf_int_D1.demarshall(objVal, a1));
+        break;
+        case "longArray": OneDimensionalPrimitiveArrayPortable_long_array_longArray(entity, arrayOf_long_D1.demarshall(objVal, a1));
+        break;
+        case "shortArray": OneDimensionalPrimitiveArrayPortable_short_array_shortArray(entity, arrayOf_short_D1.demarshall(objVal, a1));
+        break;
+        case "doubleArray": OneDimensionalPrimitiveArrayPortable_double_array_doubleArray(entity, arrayOf_double_D1.demarshall(objVal, a1));
+        break;
+        case "booleanArray": OneDimensionalPrimitiveArrayPortable_boolean_array_booleanArray(entity, arrayOf_boolean_D1.demarshall(objVal, a1));
+        break;
+        case "floatArray": OneDimensionalPrimitiveArrayPortable_float_array_floatArray(entity, arrayOf_float_D1.demarshall(objVal, a1));
+        break;
+        case "byteArray": OneDimensionalPrimitiveArrayPortable_byte_array_byteArray(entity, arrayOf_byte_D1.demarshall(objVal, a1));
+        break;
+        case "anotherByteArray": OneDimensionalPrimitiveArrayPortable_byte_array_anotherByteArray(entity, arrayOf_byte_D1.demarshall(objVal, a1));
+        break;
+        case "charArray": OneDimensionalPrimitiveArrayPortable_char_array_charArray(entity, arrayOf_char_D1.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, OneDimensionalPrimitiveArrayPortable a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.OneDimensionalPrimitiveArrayPortable")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"intArray\":");
+    MarshallUtil.marshall(buf, arrayOf_int_D1, OneDimensionalPrimitiveArrayPortable_int_array_intArray(a0), a1);
+    buf.append(",\"longArray\":");
+    MarshallUtil.marshall(buf, arrayOf_long_D1, OneDimensionalPrimitiveArrayPortable_long_array_longArray(a0), a1);
+    buf.append(",\"shortArray\":");
+    MarshallUtil.marshall(buf, arrayOf_short_D1, OneDimensionalPrimitiveArrayPortable_short_array_shortArray(a0), a1);
+    buf.append(",\"doubleArray\":");
+    MarshallUtil.marshall(buf, arrayOf_double_D1, OneDimensionalPrimitiveArrayPortable_double_array_doubleArray(a0), a1);
+    buf.append(",\"booleanArray\":");
+    MarshallUtil.marshall(buf, arrayOf_boolean_D1, OneDimensionalPrimitiveArrayPortable_boolean_array_booleanArray(a0), a1);
+    buf.append(",\"floatArray\":");
+    MarshallUtil.marshall(buf, arrayOf_float_D1, OneDimensionalPrimitiveArrayPortable_float_array_floatArray(a0), a1);
+    buf.append(",\"byteArray\":");
+    MarshallUtil.marshall(buf, arrayOf_byte_D1, OneDimensionalPrimitiveArrayPortable_byte_array_byteArray(a0), a1);
+    buf.append(",\"anotherByteArray\":");
+    MarshallUtil.marshall(buf, arrayOf_byte_D1, OneDimensionalPrimitiveArrayPortable_byte_array_anotherByteArray(a0), a1);
+    buf.append(",\"charArray\":");
+    MarshallUtil.marshall(buf, arrayOf_char_D1, OneDimensionalPrimitiveArrayPortable_char_array_charArray(a0), a1);
+    buf.append("}");
+  }
+
+  public String marshall(OneDimensionalPrimitiveArrayPortable a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(4736);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.List;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.Outer2;
+import org.jboss.errai.bus.client.tests.support.Outer2.Nested;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_Outer2_Impl implements GeneratedMarshaller<Outer2> {
+  private Outer2[] EMPTY_ARRAY = new Outer2[0];
+  private Marshaller<Nested> org_jboss_errai_bus_client_tests_support_Outer2_erraiD_Nested = null;
+  private Marshaller<List> java_util_List = Marshalling.getMarshaller(List.class);
+  public Outer2[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static Nested Outer2_Nested_key(Outer2 instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.Outer2::key;
+  }-*/;
+
+  native static void Outer2_Nested_key(Outer2 instance, Nested value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.Outer2::key = value;
+  }-*/;
+
+  native static List Outer2_List_keys(Outer2 instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.Outer2::keys;
+  }-*/;
+
+  native static void Outer2_List_keys(Outer2 instance, List<Nested> value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.Outer2::keys = value;
+  }-*/;
+
+  public Outer2 demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(Outer2.class, objId);
+    }
+    final Nested c0 = org_jboss_errai_bus_client_tests_support_Outer2_erraiD_Nested.demarshall(obj.get("key"), a1);
+    a1.setAssumedElementType("org.jboss.errai.bus.client.tests.support.Outer2$Nested");
+    final List c1 = java_util_List.demarshall(obj.get("keys"), a1);
+    Outer2 entity = new Outer2(c0, c1);
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "key": Outer2_Nested_key(entity, org_jboss_errai_bus_client_tests_support_Outer2_erraiD_Nested.demarshall(objVal, a1));
+        break;
+        case "keys": a1.setAssumedElementType("org.jboss.errai.bus.client.tests.support.Outer2$Nested");
+        Outer2_List_keys(entity, java_util_List.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, Outer2 a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.Outer2")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"key\":");
+    MarshallUtil.marshall(buf, org_jboss_errai_bus_client_tests_support_Outer2_erraiD_Nested, Outer2_Nested_key(a0), a1);
+    buf.append(",\"keys\":");
+    MarshallUtil.marshall(buf, java_util_List, Outer2_List_keys(a0), a1);
+    buf.append("}");
+  }
+
+  public String marshall(Outer2 a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(512);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_Outer2_erraiD_Nested == null) {
+      org_jboss_errai_bus_client_tests_support_Outer2_erraiD_Nested = Marshalling.getMarshaller(Nested.class);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.Outer2.Nested;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_Outer2_erraiD_Nested_Impl implements GeneratedMarshaller<Nested> {
+  private Nested[] EMPTY_ARRAY = new Nested[0];
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  public Nested[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static String Nested_String_value(Nested instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.Outer2.Nested::value;
+  }-*/;
+
+  native static void Nested_String_value(Nested instance, String value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.Outer2.Nested::value = value;
+  }-*/;
+
+  public Nested demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(Nested.class, objId);
+    }
+    final String c0 = java_lang_String.demarshall(obj.get("value"), a1);
+    Nested entity = new Nested(c0);
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "value": Nested_String_value(entity, java_lang_String.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, Nested a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.Outer2$Nested")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"value\":");
+    MarshallUtil.marshall(buf, java_lang_String, Nested_String_value(a0), a1);
+    buf.append("}");
+  }
+
+  public String marshall(Nested a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(256);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.List;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.Outer;
+import org.jboss.errai.bus.client.tests.support.Outer.Nested;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_Outer_Impl implements GeneratedMarshaller<Outer> {
+  private Outer[] EMPTY_ARRAY = new Outer[0];
+  private Marshaller<Nested> org_jboss_errai_bus_client_tests_support_Outer_erraiD_Nested = null;
+  private Marshaller<List> java_util_List = Marshalling.getMarshaller(List.class);
+  public Outer[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static Nested Outer_Nested_key(Outer instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.Outer::key;
+  }-*/;
+
+  native static void Outer_Nested_key(Outer instance, Nested value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.Outer::key = value;
+  }-*/;
+
+  native static List Outer_List_keys(Outer instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.Outer::keys;
+  }-*/;
+
+  native static void Outer_List_keys(Outer instance, List<Nested> value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.Outer::keys = value;
+  }-*/;
+
+  public Outer demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(Outer.class, objId);
+    }
+    final Nested c1 = org_jboss_errai_bus_client_tests_support_Outer_erraiD_Nested.demarshall(obj.get("key"), a1);
+    a1.setAssumedElementType("org.jboss.errai.bus.client.tests.support.Outer$Nested");
+    final List c0 = java_util_List.demarshall(obj.get("keys"), a1);
+    Outer entity = new Outer(c0, c1);
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "key": Outer_Nested_key(entity, org_jboss_errai_bus_client_tests_support_Outer_erraiD_Nested.demarshall(objVal, a1));
+        break;
+        case "keys": a1.setAssumedElementType("org.jboss.errai.bus.client.tests.support.Outer$Nested");
+        Outer_List_keys(entity, java_util_List.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, Outer a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.Outer")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"key\":");
+    MarshallUtil.marshall(buf, org_jboss_errai_bus_client_tests_support_Outer_erraiD_Nested, Outer_Nested_key(a0), a1);
+    buf.append(",\"keys\":");
+    MarshallUtil.marshall(buf, java_util_List, Outer_List_keys(a0), a1);
+    buf.append("}");
+  }
+
+  public String marshall(Outer a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(512);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_Outer_erraiD_Nested == null) {
+      org_jboss_errai_bus_client_tests_support_Outer_erraiD_Nested = Marshalling.getMarshaller(Nested.class);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.Group;
+import org.jboss.errai.bus.client.tests.support.Person;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_Person_Impl implements GeneratedMarshaller<Person> {
+  private Person[] EMPTY_ARRAY = new Person[0];
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  private Marshaller<Group> org_jboss_errai_bus_client_tests_support_Group = null;
+  public Person[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public Person demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(Person.class, objId);
+    }
+    Person entity = new Person();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "publicSuperField": entity.publicSuperField = java_lang_String.demarshall(objVal, a1);
+        break;
+        case "group": entity.setGroup(org_jboss_errai_bus_client_tests_support_Group.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, Person a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.Person")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"publicSuperField\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.publicSuperField, a1);
+    buf.append(",\"group\":");
+    MarshallUtil.marshall(buf, org_jboss_errai_bus_client_tests_support_Group, a0.getGroup(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(Person a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(1024);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_Group == null) {
+      org_jboss_errai_bus_client_tests_support_Group = Marshalling.getMarshaller(Group.class);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.ConcreteNonPortableParent;
+import org.jboss.errai.bus.client.tests.support.PortableChildReferencingSuperType;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.marshallers.ObjectMarshaller;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_PortableChildReferencingSuperType_Impl implements GeneratedMarshaller<PortableChildReferencingSuperType> {
+  private PortableChildReferencingSuperType[] EMPTY_ARRAY = new PortableChildReferencingSuperType[0];
+  private Marshaller java_lang_Object = Marshalling.getMarshaller(Object.class);
+  private Marshaller<Integer> java_lang_Integer = Marshalling.getMarshaller(Integer.class);
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  public PortableChildReferencingSuperType[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public PortableChildReferencingSuperType demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(PortableChildReferencingSuperType.class, objId);
+    }
+    PortableChildReferencingSuperType entity = new PortableChildReferencingSuperType();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "other": entity.setOther((ConcreteNonPortableParent) ((ObjectMarshaller) java_lang_Object).demarshall(ConcreteNonPortableParent.class, objVal, a1));
+        break;
+        case "num": entity.setNum(java_lang_Integer.demarshall(objVal, a1));
+        break;
+        case "str": entity.setStr(java_lang_String.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, PortableChildReferencingSuperType a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.PortableChildReferencingSuperType")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"other\":");
+    MarshallUtil.marshall(buf, java_lang_Object, a0.getOther(), a1);
+    buf.append(",\"num\":");
+    MarshallUtil.marshall(buf, java_lang_Integer, a0.getNum(), a1);
+    buf.append(",\"str\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getStr(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(PortableChildReferencingSuperType a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(512);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
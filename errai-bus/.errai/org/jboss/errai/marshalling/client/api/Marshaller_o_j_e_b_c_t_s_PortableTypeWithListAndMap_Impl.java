@@ -0,0 +1,81 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.PortableTypeWithListAndMap;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_PortableTypeWithListAndMap_Impl implements GeneratedMarshaller<PortableTypeWithListAndMap> {
+  private PortableTypeWithListAndMap[] EMPTY_ARRAY = new PortableTypeWithListAndMap[0];
+  private Marshaller<List> java_util_List = Marshalling.getMarshaller(List.class);
+  private Marshaller<HashMap> java_util_HashMap = null;
+  public PortableTypeWithListAndMap[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public PortableTypeWithListAndMap demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(PortableTypeWithListAndMap.class, objId);
+    }
+    PortableTypeWithListAndMap entity = new PortableTypeWithListAndMap();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "entities": entity.entities = java_util_List.demarshall(objVal, a1);
+        break;
+        case "map": entity.map = java_util_HashMap.demarshall(objVal, a1);
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, PortableTypeWithListAndMap a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.PortableTypeWithListAndMap")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"entities\":");
+    MarshallUtil.marshall(buf, java_util_List, a0.entities, a1);
+    buf.append(",\"map\":");
+    MarshallUtil.marshall(buf, java_util_HashMap, a0.map, a1);
+    buf.append("}");
+  }
+
+  public String marshall(PortableTypeWithListAndMap a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(384);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (java_util_HashMap == null) {
+      java_util_HashMap = Marshalling.getMarshaller(HashMap.class);
+    }
+  }
+}
\ No newline at end of file
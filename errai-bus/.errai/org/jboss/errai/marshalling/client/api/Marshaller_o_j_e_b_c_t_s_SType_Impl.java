@@ -0,0 +1,201 @@
+package org.jboss.errai.marshalling.client.api;
+
+import com.google.gwt.core.shared.GWT;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.SType;
+import org.jboss.errai.bus.client.tests.support.SType.Place;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.marshallers.QualifyingMarshallerWrapper;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_SType_Impl implements GeneratedMarshaller<SType> {
+  private SType[] EMPTY_ARRAY = new SType[0];
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  private Marshaller<Date> java_util_Date = Marshalling.getMarshaller(Date.class);
+  private Marshaller<Boolean> java_lang_Boolean = Marshalling.getMarshaller(Boolean.class);
+  private Marshaller<List> java_util_List = Marshalling.getMarshaller(List.class);
+  private Marshaller<Map> java_util_Map = Marshalling.getMarshaller(Map.class);
+  private Marshaller<Place> org_jboss_errai_bus_client_tests_support_SType_erraiD_Place = null;
+  private Marshaller<Long> java_lang_Long = Marshalling.getMarshaller(Long.class);
+  private Marshaller<Integer> java_lang_Integer = Marshalling.getMarshaller(Integer.class);
+  private Marshaller<Short> java_lang_Short = Marshalling.getMarshaller(Short.class);
+  private Marshaller<Double> java_lang_Double = Marshalling.getMarshaller(Double.class);
+  private Marshaller<Float> java_lang_Float = Marshalling.getMarshaller(Float.class);
+  private Marshaller<Byte> java_lang_Byte = Marshalling.getMarshaller(Byte.class);
+  private Marshaller<Character> java_lang_Character = Marshalling.getMarshaller(Character.class);
+  private Marshaller<char[]> arrayOf_char_D1 = Marshalling.getMarshaller(char[].class, new DeferredMarshallerCreationCallback<char[]>() {
+    public Marshaller<char[]> create(Class type) {
+      return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_char_D1.class), char[].class);
+    }
+  });
+  private Marshaller<char[][]> arrayOf_char_D2 = Marshalling.getMarshaller(char[][].class, new DeferredMarshallerCreationCallback<char[][]>() {
+    public Marshaller<char[][]> create(Class type) {
+      return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_char_D2.class), char[][].class);
+    }
+  });
+  private Marshaller<SType[]> arrayOf_org_jboss_errai_bus_client_tests_support_SType_D1 = null;
+  abstract class Marshaller_for_arrayOf_char_D1 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_arrayOf_char_D2 implements GeneratedMarshaller { }
+  abstract class Marshaller_for_arrayOf_org_jboss_errai_bus_client_tests_support_SType_D1 implements GeneratedMarshaller { }
+  public SType[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public SType demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(SType.class, objId);
+    }
+    SType entity = new SType();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "fieldOne": entity.setFieldOne(java_lang_String.demarshall(objVal, a1));
+        break;
+        case "fieldTwo": entity.setFieldTwo(java_lang_String.demarshall(objVal, a1));
+        break;
+        case "startDate": entity.setStartDate(java_util_Date.demarshall(objVal, a1));
+        break;
+        case "endDate": entity.setEndDate(java_util_Date.demarshall(objVal, a1));
+        break;
+        case "active": entity.setActive(java_lang_Boolean.demarshall(objVal, a1));
+        break;
+        case "listOfStypes": a1.setAssumedElementType("org.jboss.errai.bus.client.tests.support.SType");
+        entity.setListOfStypes(java_util_List.demarshall(objVal, a1));
+        break;
+        case "listOfDates": a1.setAssumedElementType("java.util.Date");
+        entity.setListOfDates(java_util_List.demarshall(objVal, a1));
+        break;
+        case "mapofStypes": a1.setAssumedMapKeyType("java.lang.String");
+        a1.setAssumedMapValueType("org.jboss.errai.bus.client.tests.support.SType");
+        entity.setMapofStypes(java_util_Map.demarshall(objVal, a1));
+        a1.resetAssumedTypes();
+        break;
+        case "sTypeToStype": a1.setAssumedMapKeyType("org.jboss.errai.bus.client.tests.support.SType");
+        a1.setAssumedMapValueType("org.jboss.errai.bus.client.tests.support.SType");
+        entity.setsTypeToStype(java_util_Map.demarshall(objVal, a1));
+        a1.resetAssumedTypes();
+        break;
+        case "place": entity.setPlace(objVal.isObject() != null ? Enum.valueOf(Place.class, objVal.isObject().get("^EnumStringValue").isString().stringValue()) : objVal.isString() != null ? Enum.valueOf(Place.class, objVal.isString().stringValue()) : null);
+        break;
+        case "longValue": entity.setLongValue(java_lang_Long.demarshall(objVal, a1));
+        break;
+        case "intValue": entity.setIntValue(java_lang_Integer.demarshall(objVal, a1));
+        break;
+        case "shortValue": entity.setShortValue(java_lang_Short.demarshall(objVal, a1));
+        break;
+        case "doubleValue": entity.setDoubleValue(java_lang_Double.demarshall(objVal, a1));
+        break;
+        case "floatValue": entity.setFloatValue(java_lang_Float.demarshall(objVal, a1));
+        break;
+        case "byteValue": entity.setByteValue(java_lang_Byte.demarshall(objVal, a1));
+        break;
+        case "charValue": entity.setCharValue(java_lang_Character.demarshall(objVal, a1));
+        break;
+        case "charArray": entity.setCharArray(arrayOf_char_D1.demarshall(objVal, a1));
+        break;
+        case "charArrayMulti": entity.setCharArrayMulti(arrayOf_char_D2.demarshall(objVal, a1));
+        break;
+        case "sTypeArray": entity.setsTypeArray(arrayOf_org_jboss_errai_bus_client_tests_support_SType_D1.demarshall(objVal, a1));
+        break;
+        case "superValue": entity.setSuperValue(java_lang_String.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, SType a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.SType")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"fieldOne\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getFieldOne(), a1);
+    buf.append(",\"fieldTwo\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getFieldTwo(), a1);
+    buf.append(",\"startDate\":");
+    MarshallUtil.marshall(buf, java_util_Date, a0.getStartDate(), a1);
+    buf.append(",\"endDate\":");
+    MarshallUtil.marshall(buf, java_util_Date, a0.getEndDate(), a1);
+    buf.append(",\"active\":");
+    MarshallUtil.marshall(buf, java_lang_Boolean, a0.getActive(), a1);
+    buf.append(",\"listOfStypes\":");
+    MarshallUtil.marshall(buf, java_util_List, a0.getListOfStypes(), a1);
+    buf.append(",\"listOfDates\":");
+    MarshallUtil.marshall(buf, java_util_List, a0.getListOfDates(), a1);
+    buf.append(",\"mapofStypes\":");
+    MarshallUtil.marshall(buf, java_util_Map, a0.getMapofStypes(), a1);
+    buf.append(",\"sTypeToStype\":");
+    MarshallUtil.marshall(buf, java_util_Map, a0.getsTypeToStype(), a1);
+    buf.append(",\"place\":");
+    buf.append(a0.getPlace() != null ? ((((((("{\"" + "^EncodedType") + "\":\"") + "org.jboss.errai.bus.client.tests.support.SType$Place") + "\",\"") + "^EnumStringValue") + "\":\"") + a0.getPlace().name()) + "\"}" : "null");
+    buf.append(",\"longValue\":");
+    MarshallUtil.marshall(buf, java_lang_Long, a0.getLongValue(), a1);
+    buf.append(",\"intValue\":");
+    MarshallUtil.marshall(buf, java_lang_Integer, a0.getIntValue(), a1);
+    buf.append(",\"shortValue\":");
+    MarshallUtil.marshall(buf, java_lang_Short, a0.getShortValue(), a1);
+    buf.append(",\"doubleValue\":");
+    MarshallUtil.marshall(buf, java_lang_Double, a0.getDoubleValue(), a1);
+    buf.append(",\"floatValue\":");
+    MarshallUtil.marshall(buf, java_lang_Float, a0.getFloatValue(), a1);
+    buf.append(",\"byteValue\":");
+    MarshallUtil.marshall(buf, java_lang_Byte, a0.getByteValue(), a1);
+    buf.append(",\"charValue\":");
+    MarshallUtil.marshall(buf, java_lang_Character, a0.getCharValue(), a1);
+    buf.append(",\"charArray\":");
+    MarshallUtil.marshall(buf, arrayOf_char_D1, a0.getCharArray(), a1);
+    buf.append(",\"charArrayMulti\":");
+    MarshallUtil.marshall(buf, arrayOf_char_D2, a0.getCharArrayMulti(), a1);
+    buf.append(",\"sTypeArray\":");
+    MarshallUtil.marshall(buf, arrayOf_org_jboss_errai_bus_client_tests_support_SType_D1, a0.getsTypeArray(), a1);
+    buf.append(",\"superValue\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getSuperValue(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(SType a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(3968);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_SType_erraiD_Place == null) {
+      org_jboss_errai_bus_client_tests_support_SType_erraiD_Place = Marshalling.getMarshaller(Place.class);
+    }
+    if (arrayOf_org_jboss_errai_bus_client_tests_support_SType_D1 == null) {
+      arrayOf_org_jboss_errai_bus_client_tests_support_SType_D1 = Marshalling.getMarshaller(SType[].class, new DeferredMarshallerCreationCallback<SType[]>() {
+        public Marshaller<SType[]> create(Class type) {
+          return new QualifyingMarshallerWrapper((Marshaller) GWT.create(Marshaller_for_arrayOf_org_jboss_errai_bus_client_tests_support_SType_D1.class), SType[].class);
+        }
+      });
+    }
+  }
+}
\ No newline at end of file
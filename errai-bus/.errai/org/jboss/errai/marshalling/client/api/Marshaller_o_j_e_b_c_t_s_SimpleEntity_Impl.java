@@ -0,0 +1,133 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Date;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.AbstractEntity;
+import org.jboss.errai.bus.client.tests.support.SimpleEntity;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_SimpleEntity_Impl implements GeneratedMarshaller<SimpleEntity> {
+  private SimpleEntity[] EMPTY_ARRAY = new SimpleEntity[0];
+  private Marshaller<Long> java_lang_Long = Marshalling.getMarshaller(Long.class);
+  private Marshaller<Boolean> java_lang_Boolean = Marshalling.getMarshaller(Boolean.class);
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  private Marshaller<Date> java_util_Date = Marshalling.getMarshaller(Date.class);
+  public SimpleEntity[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public SimpleEntity demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(SimpleEntity.class, objId);
+    }
+    SimpleEntity entity = new SimpleEntity();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "id": entity.setId(java_lang_Long.demarshall(objVal, a1));
+        break;
+        case "active": entity.setActive(java_lang_Boolean.demarshall(objVal, a1));
+        break;
+        case "login": entity.setLogin(java_lang_String.demarshall(objVal, a1));
+        break;
+        case "password": entity.setPassword(java_lang_String.demarshall(objVal, a1));
+        break;
+        case "number": entity.setNumber(java_lang_String.demarshall(objVal, a1));
+        break;
+        case "selected": entity.setSelected(java_lang_Boolean.demarshall(objVal, a1));
+        break;
+        case "deleted": entity.setDeleted(java_lang_Boolean.demarshall(objVal, a1));
+        break;
+        case "createDate": entity.setCreateDate(java_util_Date.demarshall(objVal, a1));
+        break;
+        case "lastModifyDate": entity.setLastModifyDate(java_util_Date.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  native static boolean SimpleEntity_boolean_active(SimpleEntity instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.SimpleEntity::active;
+  }-*/;
+
+  native static void SimpleEntity_boolean_active(SimpleEntity instance, boolean value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.SimpleEntity::active = value;
+  }-*/;
+
+  native static boolean AbstractEntity_boolean_selected(AbstractEntity instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.AbstractEntity::selected;
+  }-*/;
+
+  native static void AbstractEntity_boolean_selected(AbstractEntity instance, boolean value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.AbstractEntity::selected = value;
+  }-*/;
+
+  native static boolean AbstractEntity_boolean_deleted(AbstractEntity instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.AbstractEntity::deleted;
+  }-*/;
+
+  native static void AbstractEntity_boolean_deleted(AbstractEntity instance, boolean value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.AbstractEntity::deleted = value;
+  }-*/;
+
+  public void marshall(StringBuilder buf, SimpleEntity a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.SimpleEntity")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"id\":");
+    MarshallUtil.marshall(buf, java_lang_Long, a0.getId(), a1);
+    buf.append(",\"active\":");
+    MarshallUtil.marshall(buf, java_lang_Boolean, SimpleEntity_boolean_active(a0), a1);
+    buf.append(",\"login\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getLogin(), a1);
+    buf.append(",\"password\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getPassword(), a1);
+    buf.append(",\"number\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getNumber(), a1);
+    buf.append(",\"selected\":");
+    MarshallUtil.marshall(buf, java_lang_Boolean, AbstractEntity_boolean_selected(a0), a1);
+    buf.append(",\"deleted\":");
+    MarshallUtil.marshall(buf, java_lang_Boolean, AbstractEntity_boolean_deleted(a0), a1);
+    buf.append(",\"createDate\":");
+    MarshallUtil.marshall(buf, java_util_Date, a0.getCreateDate(), a1);
+    buf.append(",\"lastModifyDate\":");
+    MarshallUtil.marshall(buf, java_util_Date, a0.getLastModifyDate(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(SimpleEntity a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(1280);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
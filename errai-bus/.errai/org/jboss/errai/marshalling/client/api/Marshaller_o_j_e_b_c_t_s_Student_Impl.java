@@ -0,0 +1,166 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.Group;
+import org.jboss.errai.bus.client.tests.support.Student;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_Student_Impl implements GeneratedMarshaller<Student> {
+  private Student[] EMPTY_ARRAY = new Student[0];
+  private Marshaller<Integer> java_lang_Integer = Marshalling.getMarshaller(Integer.class);
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  private Marshaller<Float> java_lang_Float = Marshalling.getMarshaller(Float.class);
+  private Marshaller<Double> java_lang_Double = Marshalling.getMarshaller(Double.class);
+  private Marshaller<Short> java_lang_Short = Marshalling.getMarshaller(Short.class);
+  private Marshaller<Long> java_lang_Long = Marshalling.getMarshaller(Long.class);
+  private Marshaller<Byte> java_lang_Byte = Marshalling.getMarshaller(Byte.class);
+  private Marshaller<Group> org_jboss_errai_bus_client_tests_support_Group = null;
+  public Student[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static Integer Student_Integer_nullInt(Student instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.Student::nullInt;
+  }-*/;
+
+  native static void Student_Integer_nullInt(Student instance, Integer value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.Student::nullInt = value;
+  }-*/;
+
+  native static Float Student_Float_nullFloat(Student instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.Student::nullFloat;
+  }-*/;
+
+  native static void Student_Float_nullFloat(Student instance, Float value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.Student::nullFloat = value;
+  }-*/;
+
+  native static Double Student_Double_nullDouble(Student instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.Student::nullDouble;
+  }-*/;
+
+  native static void Student_Double_nullDouble(Student instance, Double value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.Student::nullDouble = value;
+  }-*/;
+
+  native static Short Student_Short_nullShort(Student instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.Student::nullShort;
+  }-*/;
+
+  native static void Student_Short_nullShort(Student instance, Short value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.Student::nullShort = value;
+  }-*/;
+
+  native static Long Student_Long_nullLong(Student instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.Student::nullLong;
+  }-*/;
+
+  native static void Student_Long_nullLong(Student instance, Long value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.Student::nullLong = value;
+  }-*/;
+
+  native static Byte Student_Byte_nullByte(Student instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.Student::nullByte;
+  }-*/;
+
+  native static void Student_Byte_nullByte(Student instance, Byte value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.Student::nullByte = value;
+  }-*/;
+
+  public Student demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(Student.class, objId);
+    }
+    Student entity = new Student();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "id": entity.setId(java_lang_Integer.demarshall(objVal, a1));
+        break;
+        case "name": entity.setName(java_lang_String.demarshall(objVal, a1));
+        break;
+        case "nullInt": Student_Integer_nullInt(entity, java_lang_Integer.demarshall(objVal, a1));
+        break;
+        case "nullFloat": Student_Float_nullFloat(entity, java_lang_Float.demarshall(objVal, a1));
+        break;
+        case "nullDouble": Student_Double_nullDouble(entity, java_lang_Double.demarshall(objVal, a1));
+        break;
+        case "nullShort": Student_Short_nullShort(entity, java_lang_Short.demarshall(objVal, a1));
+        break;
+        case "nullLong": Student_Long_nullLong(entity, java_lang_Long.demarshall(objVal, a1));
+        break;
+        case "nullByte": Student_Byte_nullByte(entity, java_lang_Byte.demarshall(objVal, a1));
+        break;
+        case "publicSuperField": entity.publicSuperField = java_lang_String.demarshall(objVal, a1);
+        break;
+        case "group": entity.setGroup(org_jboss_errai_bus_client_tests_support_Group.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, Student a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.Student")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"id\":");
+    MarshallUtil.marshall(buf, java_lang_Integer, a0.getId(), a1);
+    buf.append(",\"name\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getName(), a1);
+    buf.append(",\"nullInt\":");
+    MarshallUtil.marshall(buf, java_lang_Integer, a0.getNullInt(), a1);
+    buf.append(",\"nullFloat\":");
+    MarshallUtil.marshall(buf, java_lang_Float, a0.getNullFloat(), a1);
+    buf.append(",\"nullDouble\":");
+    MarshallUtil.marshall(buf, java_lang_Double, a0.getNullDouble(), a1);
+    buf.append(",\"nullShort\":");
+    MarshallUtil.marshall(buf, java_lang_Short, a0.getNullShort(), a1);
+    buf.append(",\"nullLong\":");
+    MarshallUtil.marshall(buf, java_lang_Long, a0.getNullLong(), a1);
+    buf.append(",\"nullByte\":");
+    MarshallUtil.marshall(buf, java_lang_Byte, a0.getNullByte(), a1);
+    buf.append(",\"publicSuperField\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.publicSuperField, a1);
+    buf.append(",\"group\":");
+    MarshallUtil.marshall(buf, org_jboss_errai_bus_client_tests_support_Group, a0.getGroup(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(Student a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(2048);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_Group == null) {
+      org_jboss_errai_bus_client_tests_support_Group = Marshalling.getMarshaller(Group.class);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Date;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.TType;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_TType_Impl implements GeneratedMarshaller<TType> {
+  private TType[] EMPTY_ARRAY = new TType[0];
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  private Marshaller<Date> java_util_Date = Marshalling.getMarshaller(Date.class);
+  private Marshaller<Boolean> java_lang_Boolean = Marshalling.getMarshaller(Boolean.class);
+  public TType[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public TType demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(TType.class, objId);
+    }
+    TType entity = new TType();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "fieldOne": entity.setFieldOne(java_lang_String.demarshall(objVal, a1));
+        break;
+        case "fieldTwo": entity.setFieldTwo(java_lang_String.demarshall(objVal, a1));
+        break;
+        case "startDate": entity.setStartDate(java_util_Date.demarshall(objVal, a1));
+        break;
+        case "endDate": entity.setEndDate(java_util_Date.demarshall(objVal, a1));
+        break;
+        case "active": entity.setActive(java_lang_Boolean.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, TType a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.TType")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"fieldOne\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getFieldOne(), a1);
+    buf.append(",\"fieldTwo\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getFieldTwo(), a1);
+    buf.append(",\"startDate\":");
+    MarshallUtil.marshall(buf, java_util_Date, a0.getStartDate(), a1);
+    buf.append(",\"endDate\":");
+    MarshallUtil.marshall(buf, java_util_Date, a0.getEndDate(), a1);
+    buf.append(",\"active\":");
+    MarshallUtil.marshall(buf, java_lang_Boolean, a0.getActive(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(TType a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(768);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package org.jboss.errai.marshalling.client.api;
+
+import org.jboss.errai.bus.client.tests.support.TestEnumA;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+
+public class Marshaller_o_j_e_b_c_t_s_TestEnumA_Impl implements GeneratedMarshaller<TestEnumA> {
+  private TestEnumA[] EMPTY_ARRAY = new TestEnumA[0];
+  public TestEnumA[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public TestEnumA demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    TestEnumA entity = obj != null ? Enum.valueOf(TestEnumA.class, obj.get("^EnumStringValue").isString().stringValue()) : a0.isString() != null ? Enum.valueOf(TestEnumA.class, a0.isString().stringValue()) : null;
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, TestEnumA a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    buf.append(a0 != null ? ((((((("{\"" + "^EncodedType") + "\":\"") + "org.jboss.errai.bus.client.tests.support.TestEnumA") + "\",\"") + "^EnumStringValue") + "\":\"") + a0.name()) + "\"}" : "null");
+  }
+
+  public String marshall(TestEnumA a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(128);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
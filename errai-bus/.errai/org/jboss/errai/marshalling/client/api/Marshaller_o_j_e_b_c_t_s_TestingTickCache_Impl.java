@@ -0,0 +1,105 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Queue;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.TestingTick;
+import org.jboss.errai.bus.client.tests.support.TestingTickCache;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_TestingTickCache_Impl implements GeneratedMarshaller<TestingTickCache> {
+  private TestingTickCache[] EMPTY_ARRAY = new TestingTickCache[0];
+  private Marshaller<Queue> java_util_Queue = Marshalling.getMarshaller(Queue.class);
+  private Marshaller<Long> java_lang_Long = Marshalling.getMarshaller(Long.class);
+  private Marshaller<TestingTick> org_jboss_errai_bus_client_tests_support_TestingTick = null;
+  public TestingTickCache[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  native static Queue TestingTickCache_Queue_entries(TestingTickCache instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.TestingTickCache::entries;
+  }-*/;
+
+  native static void TestingTickCache_Queue_entries(TestingTickCache instance, Queue<TestingTick> value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.TestingTickCache::entries = value;
+  }-*/;
+
+  native static TestingTick TestingTickCache_TestingTick_newestEntry(TestingTickCache instance) /*-{
+    return instance.@org.jboss.errai.bus.client.tests.support.TestingTickCache::newestEntry;
+  }-*/;
+
+  native static void TestingTickCache_TestingTick_newestEntry(TestingTickCache instance, TestingTick value) /*-{
+    instance.@org.jboss.errai.bus.client.tests.support.TestingTickCache::newestEntry = value;
+  }-*/;
+
+  public TestingTickCache demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(TestingTickCache.class, objId);
+    }
+    a1.setAssumedElementType("org.jboss.errai.bus.client.tests.support.TestingTick");
+    final Queue c0 = java_util_Queue.demarshall(obj.get("entries"), a1);
+    TestingTickCache entity = new TestingTickCache(c0);
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "entries": a1.setAssumedElementType("org.jboss.errai.bus.client.tests.support.TestingTick");
+        TestingTickCache_Queue_entries(entity, java_util_Queue.demarshall(objVal, a1));
+        break;
+        case "timeSpan": entity.setTimeSpan(java_lang_Long.demarshall(objVal, a1));
+        break;
+        case "newestEntry": TestingTickCache_TestingTick_newestEntry(entity, org_jboss_errai_bus_client_tests_support_TestingTick.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, TestingTickCache a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.TestingTickCache")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"entries\":");
+    MarshallUtil.marshall(buf, java_util_Queue, TestingTickCache_Queue_entries(a0), a1);
+    buf.append(",\"timeSpan\":");
+    MarshallUtil.marshall(buf, java_lang_Long, a0.getTimeSpan(), a1);
+    buf.append(",\"newestEntry\":");
+    MarshallUtil.marshall(buf, org_jboss_errai_bus_client_tests_support_TestingTick, a0.getNewestEntry(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(TestingTickCache a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(640);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_TestingTick == null) {
+      org_jboss_errai_bus_client_tests_support_TestingTick = Marshalling.getMarshaller(TestingTick.class);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Date;
+import org.jboss.errai.bus.client.tests.support.TestingTick;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_TestingTick_Impl implements GeneratedMarshaller<TestingTick> {
+  private TestingTick[] EMPTY_ARRAY = new TestingTick[0];
+  private Marshaller<Date> java_util_Date = Marshalling.getMarshaller(Date.class);
+  public TestingTick[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public TestingTick demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(TestingTick.class, objId);
+    }
+    final Date c0 = java_util_Date.demarshall(obj.get("time"), a1);
+    TestingTick entity = new TestingTick(c0);
+    a1.recordObject(objId, entity);
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, TestingTick a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.TestingTick")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"time\":");
+    MarshallUtil.marshall(buf, java_util_Date, a0.getTime(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(TestingTick a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(256);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
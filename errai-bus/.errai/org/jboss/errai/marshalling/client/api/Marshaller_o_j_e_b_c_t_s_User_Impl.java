@@ -0,0 +1,112 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jboss.errai.bus.client.tests.support.Group;
+import org.jboss.errai.bus.client.tests.support.User;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_b_c_t_s_User_Impl implements GeneratedMarshaller<User> {
+  private User[] EMPTY_ARRAY = new User[0];
+  private Marshaller<Integer> java_lang_Integer = Marshalling.getMarshaller(Integer.class);
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  private Marshaller<List> java_util_List = Marshalling.getMarshaller(List.class);
+  private Marshaller<Map> java_util_Map = Marshalling.getMarshaller(Map.class);
+  private Marshaller<Group> org_jboss_errai_bus_client_tests_support_Group = null;
+  public User[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public User demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(User.class, objId);
+    }
+    User entity = new User();
+    a1.recordObject(objId, entity);
+    final Set<String> keys = obj.keySet();
+    for (String key : keys) {
+      if (key.equals("^EncodedType") || key.equals("^ObjectID")) {
+        continue;
+      }
+      EJValue objVal = obj.getIfNotNull(key);
+      if (objVal == null) {
+        continue;
+      }
+      switch (key) {
+        case "id": entity.setId(java_lang_Integer.demarshall(objVal, a1));
+        break;
+        case "name": entity.setName(java_lang_String.demarshall(objVal, a1));
+        break;
+        case "groups": a1.setAssumedElementType("org.jboss.errai.bus.client.tests.support.Group");
+        entity.setGroups(java_util_List.demarshall(objVal, a1));
+        break;
+        case "userStringMap": a1.setAssumedMapKeyType("org.jboss.errai.bus.client.tests.support.User");
+        a1.setAssumedMapValueType("java.lang.String");
+        entity.setUserStringMap(java_util_Map.demarshall(objVal, a1));
+        a1.resetAssumedTypes();
+        break;
+        case "userMapString": a1.setAssumedMapKeyType("java.lang.String");
+        a1.setAssumedMapValueType("org.jboss.errai.bus.client.tests.support.User");
+        entity.setUserMapString(java_util_Map.demarshall(objVal, a1));
+        a1.resetAssumedTypes();
+        break;
+        case "publicSuperField": entity.publicSuperField = java_lang_String.demarshall(objVal, a1);
+        break;
+        case "group": entity.setGroup(org_jboss_errai_bus_client_tests_support_Group.demarshall(objVal, a1));
+        break;
+      }
+    }
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, User a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.bus.client.tests.support.User")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"id\":");
+    MarshallUtil.marshall(buf, java_lang_Integer, a0.getId(), a1);
+    buf.append(",\"name\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getName(), a1);
+    buf.append(",\"groups\":");
+    MarshallUtil.marshall(buf, java_util_List, a0.getGroups(), a1);
+    buf.append(",\"userStringMap\":");
+    MarshallUtil.marshall(buf, java_util_Map, a0.getUserStringMap(), a1);
+    buf.append(",\"userMapString\":");
+    MarshallUtil.marshall(buf, java_util_Map, a0.getUserMapString(), a1);
+    buf.append(",\"publicSuperField\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.publicSuperField, a1);
+    buf.append(",\"group\":");
+    MarshallUtil.marshall(buf, org_jboss_errai_bus_client_tests_support_Group, a0.getGroup(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(User a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(1664);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+    if (org_jboss_errai_bus_client_tests_support_Group == null) {
+      org_jboss_errai_bus_client_tests_support_Group = Marshalling.getMarshaller(Group.class);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package org.jboss.errai.marshalling.client.api;
+
+import java.util.Map;
+import org.jboss.errai.common.client.PageRequest;
+import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
+
+public class Marshaller_o_j_e_c_c_PageRequest_Impl implements GeneratedMarshaller<PageRequest> {
+  private PageRequest[] EMPTY_ARRAY = new PageRequest[0];
+  private Marshaller<String> java_lang_String = Marshalling.getMarshaller(String.class);
+  private Marshaller<Map> java_util_Map = Marshalling.getMarshaller(Map.class);
+  public PageRequest[] getEmptyArray() {
+    return EMPTY_ARRAY;
+  }
+
+  public PageRequest demarshall(EJValue a0, MarshallingSession a1) {
+    lazyInit();
+    EJObject obj = a0.isObject();
+    if (obj == null) {
+      return null;
+    }
+    String objId = obj.get("^ObjectID").isString().stringValue();
+    if (a1.hasObject(objId)) {
+      return a1.getObject(PageRequest.class, objId);
+    }
+    final String c0 = java_lang_String.demarshall(obj.get("pageName"), a1);
+    a1.setAssumedMapKeyType("java.lang.String");
+    a1.setAssumedMapValueType("java.lang.Object");
+    final Map c1 = java_util_Map.demarshall(obj.get("state"), a1);
+    a1.resetAssumedTypes();
+    PageRequest entity = new PageRequest(c0, c1);
+    a1.recordObject(objId, entity);
+    return entity;
+  }
+
+  public void marshall(StringBuilder buf, PageRequest a0, MarshallingSession a1) {
+    lazyInit();
+    if (a0 == null) {
+      buf.append("null");
+      return;
+    }
+    final boolean ref = a1.hasObject(a0);
+    buf.append("{\"^EncodedType\":\"").append(MarshallUtil.getTypeReference(a1, "org.jboss.errai.common.client.PageRequest")).append("\",\"^ObjectID\":\"").append(a1.getObject(a0)).append("\"");
+    if (ref) {
+      buf.append("}");
+      return;
+    }
+    buf.append(",\"pageName\":");
+    MarshallUtil.marshall(buf, java_lang_String, a0.getPageName(), a1);
+    buf.append(",\"state\":");
+    MarshallUtil.marshall(buf, java_util_Map, a0.getState(), a1);
+    buf.append("}");
+  }
+
+  public String marshall(PageRequest a0, MarshallingSession a1) {
+    final StringBuilder buf = new StringBuilder(384);
+    marshall(buf, a0, a1);
+    return buf.toString();
+  }
+
+  private void lazyInit() {
+
+  }
+}
\ No newline at end of file
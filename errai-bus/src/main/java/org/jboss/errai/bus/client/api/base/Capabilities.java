@@ -43,4 +43,12 @@ public enum Capabilities {
    * This message bus can communicate using Server-Sent Events
    */
   SSE,
+
+  /**
+   * This message bus can exchange messages in the compact protocol, where the type names of marshalled objects are
+   * replaced by references into a per-message type table.
+   *
+   * @see org.jboss.errai.marshalling.client.protocols.CompactProtocol
+   */
+  CompactProtocol,
 }
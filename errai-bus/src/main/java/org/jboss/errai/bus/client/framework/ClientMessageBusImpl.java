@@ -17,6 +17,7 @@
 package org.jboss.errai.bus.client.framework;
 
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.event.logical.shared.CloseEvent;
 import com.google.gwt.event.logical.shared.CloseHandler;
 import com.google.gwt.user.client.Timer;
@@ -246,6 +247,14 @@ public class ClientMessageBusImpl implements ClientMessageBus {
   private final List<Runnable> deferredSubscriptions = new ArrayList<>();
   private final List<Message> deferredMessages = new ArrayList<>();
 
+  /**
+   * Messages waiting for the current outbound batch window to close. See
+   * {@link Configuration#getOutboundBatchWindow()}.
+   */
+  private final List<Message> outboundBatch = new ArrayList<>();
+  private boolean outboundBatchScheduled;
+  private final int outboundBatchWindow;
+
   private final List<BusLifecycleListener> lifecycleListeners = new ArrayList<>();
 
   private BusState state = BusState.UNINITIALIZED;
@@ -269,6 +278,8 @@ public class ClientMessageBusImpl implements ClientMessageBus {
     IN_SERVICE_ENTRY_POINT = "in." + getClientId() + ".erraiBus";
     OUT_SERVICE_ENTRY_POINT = "out." + getClientId() + ".erraiBus";
 
+    outboundBatchWindow = ((Configuration) GWT.create(Configuration.class)).getOutboundBatchWindow();
+
     // when the window is closing, we want to stop the bus without causing any
     // errors (unless the server is unavailable of course) (see ERRAI-225)
     Window.addCloseHandler(new CloseHandler<Window>() {
@@ -410,12 +421,19 @@ public class ClientMessageBusImpl implements ClientMessageBus {
       properties.put("phase", "connection");
       properties.put("wait", "1");
 
-      transportHandler.transmit(Collections.singletonList(CommandMessage.create()
+      final Message associate = CommandMessage.create()
           .command(BusCommand.Associate)
           .set(ToSubject, "ServerBus")
           .set(PriorityProcessing, "1")
           .set(MessageParts.RemoteServices, getAdvertisableSubjects())
-          .setResource(TransportHandler.EXTRA_URI_PARMS_RESOURCE, properties)));
+          .setResource(TransportHandler.EXTRA_URI_PARMS_RESOURCE, properties);
+
+      BusToolsCli.setCompactEncoding(false);
+      if (BusToolsCli.isCompactProtocolEnabled()) {
+        associate.set(MessageParts.CapabilitiesFlags, Capabilities.CompactProtocol.name());
+      }
+
+      transportHandler.transmit(Collections.singletonList(associate));
 
       transportHandler.start();
     }
@@ -436,6 +454,11 @@ public class ClientMessageBusImpl implements ClientMessageBus {
 
   private void processCapabilities(final Message message) {
     for (final String capability : message.get(String.class, MessageParts.CapabilitiesFlags).split(",")) {
+      if (Capabilities.CompactProtocol.name().equals(capability)) {
+        BusToolsCli.setCompactEncoding(true);
+        continue;
+      }
+
       final TransportHandler handler = availableHandlers.get(capability);
       if (handler == null) {
         logger.warn("could not find handler for capability type: " + capability);
@@ -515,6 +538,8 @@ public class ClientMessageBusImpl implements ClientMessageBus {
           .set(MessageParts.PriorityProcessing, "1"));
     }
 
+    deferredMessages.addAll(outboundBatch);
+    outboundBatch.clear();
     deferredMessages.addAll(transportHandler.stop(true));
   }
 
@@ -860,7 +885,49 @@ public class ClientMessageBusImpl implements ClientMessageBus {
       return;
     }
 
-    transmit(Collections.singletonList(message));
+    if (outboundBatchWindow < 0) {
+      transmit(Collections.singletonList(message));
+      return;
+    }
+
+    outboundBatch.add(message);
+    if (message.hasPart(MessageParts.PriorityProcessing)) {
+      flushOutboundBatch();
+    }
+    else if (!outboundBatchScheduled) {
+      outboundBatchScheduled = true;
+      if (outboundBatchWindow == 0) {
+        Scheduler.get().scheduleFinally(this::flushOutboundBatch);
+      }
+      else {
+        new Timer() {
+          @Override
+          public void run() {
+            flushOutboundBatch();
+          }
+        }.schedule(outboundBatchWindow);
+      }
+    }
+  }
+
+  /**
+   * Transmits all messages collected in the current outbound batch in a single
+   * request, in the order in which they were sent.
+   */
+  private void flushOutboundBatch() {
+    outboundBatchScheduled = false;
+    if (outboundBatch.isEmpty()) {
+      return;
+    }
+
+    final List<Message> batch = new ArrayList<>(outboundBatch);
+    outboundBatch.clear();
+
+    if (getState() == BusState.LOCAL_ONLY) {
+      logger.debug("flushOutboundBatch() {} messages NOT ROUTED - LOCAL ONLY", batch.size());
+      return;
+    }
+    transmit(batch);
   }
 
   private void addSubscriptionEntry(final String subject, final MessageCallback reference) {
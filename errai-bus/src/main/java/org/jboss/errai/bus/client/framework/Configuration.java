@@ -25,6 +25,17 @@ public interface Configuration {
 
   String getRemoteLocation();
 
+  /**
+   * Returns the window, in milliseconds, during which messages bound for the server are collected and then sent
+   * together in a single request. A value of {@code 0} batches only the messages sent during the same browser event
+   * loop turn. The default of {@code -1} disables batching so that every message is transmitted as soon as it is sent.
+   * A message marked for priority processing is never held back: it is sent at once, together with the messages
+   * batched before it.
+   */
+  default int getOutboundBatchWindow() {
+    return -1;
+  }
+
   /**
    * Configuration implementation that indicates that the configuration has not been set
    */
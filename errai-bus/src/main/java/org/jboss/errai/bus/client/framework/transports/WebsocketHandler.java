@@ -206,9 +206,15 @@ public class WebsocketHandler implements TransportHandler, TransportStatistics {
     var socket;
     if (window.WebSocket) {
       socket = new WebSocket(websocketAddr);
+      // the server may be configured to send messages as binary frames holding UTF-8 encoded JSON.
+      socket.binaryType = "arraybuffer";
 
       socket.onmessage = function (event) {
-        thisRef.@org.jboss.errai.bus.client.framework.transports.WebsocketHandler::handleReceived(Ljava/lang/String;)(event.data);
+        var data = event.data;
+        if (typeof data !== "string") {
+          data = new TextDecoder("utf-8").decode(new Uint8Array(data));
+        }
+        thisRef.@org.jboss.errai.bus.client.framework.transports.WebsocketHandler::handleReceived(Ljava/lang/String;)(data);
       };
 
       socket.onopen = function (event) {
@@ -33,18 +33,17 @@ import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.bus.client.api.messaging.RequestDispatcher;
 import org.jboss.errai.common.client.api.ResourceProvider;
 import org.jboss.errai.marshalling.client.MarshallingSessionProviderFactory;
+import org.jboss.errai.marshalling.client.api.json.EJArray;
 import org.jboss.errai.marshalling.client.api.json.EJValue;
-import org.jboss.errai.marshalling.client.api.json.impl.gwt.GWTJSON;
+import org.jboss.errai.marshalling.client.api.json.impl.js.JsJSON;
 import org.jboss.errai.marshalling.client.marshallers.ErraiProtocolEnvelopeNoAutoMarshaller;
+import org.jboss.errai.marshalling.client.protocols.CompactProtocol;
 import org.jboss.errai.marshalling.client.protocols.ErraiProtocol;
 import org.slf4j.LoggerFactory;
 
-import com.google.gwt.json.client.JSONArray;
-import com.google.gwt.json.client.JSONParser;
-import com.google.gwt.json.client.JSONValue;
-
 public class BusToolsCli {
   private static boolean autoDemarshall = true;
+  private static boolean compactEncoding = false;
 
   public static boolean decodeToCallback(final String jsonString, final ClientMessageBus bus) {
     //LogUtil.log("[bus] RX: " + jsonString);
@@ -60,16 +59,16 @@ public class BusToolsCli {
   public static List<Message> decodePayload(final String jsonString) {
     if (jsonString == null || jsonString.trim().length() == 0) return Collections.emptyList();
 
-    final JSONValue val = JSONParser.parseStrict(jsonString);
+    final EJValue val = JsJSON.parse(jsonString);
 
-    if (val == null || val.isArray() == null) {
+    if (val.isNull() || val.isArray() == null) {
       throw new RuntimeException("illegal payload: must be JSONArray");
     }
 
-    final JSONArray jsonArray = val.isArray();
+    final EJArray jsonArray = val.isArray();
     final List<Message> messageList = new ArrayList<Message>(jsonArray.size());
     for (int i = 0; i < jsonArray.size(); i++) {
-       messageList.add(decodeCommandMessage(GWTJSON.wrap(jsonArray.get(i))));
+       messageList.add(decodeCommandMessage(jsonArray.get(i)));
     }
 
     return messageList;
@@ -84,6 +83,20 @@ public class BusToolsCli {
     }
   }
 
+  /**
+   * Encodes a message in the {@link CompactProtocol}. Messages that are already encoded are returned as they are.
+   */
+  public static String encodeCompactMessage(final Message message) {
+    if (message instanceof HasEncoded) {
+      return ((HasEncoded) message).getEncoded();
+    }
+    else {
+      final StringBuilder buf = new StringBuilder(256);
+      ErraiProtocol.encodeCompactPayload(buf, message.getParts());
+      return buf.toString();
+    }
+  }
+
   public static String encodeMessages(final Collection<Message> messages) {
     final StringBuilder sbuf = new StringBuilder("[");
     boolean first = true;
@@ -91,7 +104,15 @@ public class BusToolsCli {
       if (!first) {
         sbuf.append(',');
       }
-      sbuf.append(encodeMessage(m));
+      if (m instanceof HasEncoded) {
+        sbuf.append(((HasEncoded) m).getEncoded());
+      }
+      else if (compactEncoding) {
+        ErraiProtocol.encodeCompactPayload(sbuf, m.getParts());
+      }
+      else {
+        ErraiProtocol.encodePayload(sbuf, m.getParts());
+      }
       first = false;
     }
     return sbuf.append("]").toString();
@@ -188,6 +209,15 @@ public class BusToolsCli {
     autoDemarshall = autoDemarshall1;
   }
 
+  /**
+   * Sets whether {@link #encodeMessages(Collection)} encodes messages in the {@link CompactProtocol}. This is
+   * enabled once the server has acknowledged the protocol during the bus handshake. Payloads are always decoded in
+   * either protocol.
+   */
+  public static void setCompactEncoding(final boolean compactEncoding1) {
+    compactEncoding = compactEncoding1;
+  }
+
   /**
    * Sets the application root for the remote message bus endpoints.
    *
@@ -244,4 +274,25 @@ public class BusToolsCli {
           return $wnd.erraiBusRemoteCommunicationEnabled;
       }
   }-*/;
+
+  /**
+   * Checks whether the client should ask the server to use the {@link CompactProtocol}.
+   * <p/>
+   * The JavaScript variable <code>erraiBusCompactProtocolEnabled</code> can
+   * be used to control this value. If the variable is not present in the window
+   * object, the default value <code>false</code> is returned. The compact protocol sends the type names of
+   * marshalled objects only once per message (see {@link CompactProtocol}).
+   *
+   * @return true if the compact protocol should be negotiated, otherwise false.
+   */
+  public static native boolean isCompactProtocolEnabled() /*-{
+      //noinspection JSUnresolvedVariable
+      if ($wnd.erraiBusCompactProtocolEnabled === undefined) {
+          return false;
+      }
+      else {
+          //noinspection JSUnresolvedVariable
+          return $wnd.erraiBusCompactProtocolEnabled;
+      }
+  }-*/;
 }
@@ -48,7 +48,7 @@ public class MessageQueueImpl implements MessageQueue {
   private final QueueSession session;
 
   private boolean initLock = true;
-  private boolean queueRunning = true;
+  private volatile boolean queueRunning = true;
   private volatile long lastTransmission = System.currentTimeMillis();
   private volatile boolean pagedOut = false;
 
@@ -238,6 +238,11 @@ public class MessageQueueImpl implements MessageQueue {
     this.pagedOut = pagedOut;
   }
 
+  @Override
+  public boolean isRunning() {
+    return queueRunning;
+  }
+
   @Override
   public void discard() {
     queueRunning = false;
@@ -316,6 +321,11 @@ public class MessageQueueImpl implements MessageQueue {
     return lastTransmission;
   }
 
+  @Override
+  public long getTimeout() {
+    return timeout;
+  }
+
   @Override
   public void setTimeout(final long timeout) {
     this.timeout = timeout;
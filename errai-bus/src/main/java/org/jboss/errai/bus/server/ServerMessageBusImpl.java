@@ -28,15 +28,15 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.ConcurrentModificationException;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -51,6 +51,7 @@ import org.jboss.errai.bus.client.api.SubscribeListener;
 import org.jboss.errai.bus.client.api.Subscription;
 import org.jboss.errai.bus.client.api.UnsubscribeListener;
 import org.jboss.errai.bus.client.api.base.Capabilities;
+import org.jboss.errai.bus.client.api.base.CommandMessage;
 import org.jboss.errai.bus.client.api.base.ConversationMessage;
 import org.jboss.errai.bus.client.api.base.MessageBuilder;
 import org.jboss.errai.bus.client.api.base.NoSubscribersToDeliverTo;
@@ -65,8 +66,10 @@ import org.jboss.errai.bus.server.api.QueueCloseEvent;
 import org.jboss.errai.bus.server.api.QueueClosedListener;
 import org.jboss.errai.bus.server.api.ServerMessageBus;
 import org.jboss.errai.bus.server.cluster.ClusteringProvider;
+import org.jboss.errai.bus.server.io.BufferDeliveryHandler;
 import org.jboss.errai.bus.server.io.BufferHelper;
 import org.jboss.errai.bus.server.io.PageUtil;
+import org.jboss.errai.bus.server.io.Pageable;
 import org.jboss.errai.bus.server.io.buffers.BufferColor;
 import org.jboss.errai.bus.server.io.buffers.TransmissionBuffer;
 import org.jboss.errai.bus.server.io.websockets.WebSocketServerHandler;
@@ -76,6 +79,7 @@ import org.jboss.errai.bus.server.service.ErraiService;
 import org.jboss.errai.bus.server.service.ErraiServiceConfigurator;
 import org.jboss.errai.bus.server.util.LocalContext;
 import org.jboss.errai.bus.server.util.SecureHashUtil;
+import org.jboss.errai.bus.server.util.TimerWheel;
 import org.jboss.errai.common.client.protocols.MessageParts;
 import org.jboss.errai.common.client.protocols.Resources;
 import org.jboss.errai.common.server.api.ErraiBootstrapFailure;
@@ -102,6 +106,25 @@ public class ServerMessageBusImpl implements ServerMessageBus {
 
   private final Map<QueueSession, MessageQueue> messageQueues = new ConcurrentHashMap<QueueSession, MessageQueue>();
 
+  /**
+   * The subjects each queue is remotely subscribed to, so that closing a queue only has to visit its own
+   * subscriptions.
+   */
+  private final ConcurrentMap<MessageQueue, Set<String>> queueSubscriptions = new ConcurrentHashMap<MessageQueue, Set<String>>();
+
+  /**
+   * The time at which each queue will next be checked by the housekeeper to see if it has gone stale.
+   */
+  private final TimerWheel<MessageQueue> queueExpiry =
+      new TimerWheel<MessageQueue>(1000, 512, System.currentTimeMillis());
+
+  /**
+   * The time at which each queue will next be checked by the housekeeper to see if it has gone idle and should be
+   * paged out.
+   */
+  private final TimerWheel<MessageQueue> queuePaging =
+      new TimerWheel<MessageQueue>(1000, 512, System.currentTimeMillis());
+
   private final Map<MessageQueue, List<Message>> deferredQueue = new ConcurrentHashMap<MessageQueue, List<Message>>();
   private final Map<String, QueueSession> sessionLookup = new ConcurrentHashMap<String, QueueSession>();
   private final Map<String, ClusterWaitEntry> deadLetter = new ConcurrentHashMap<String, ClusterWaitEntry>();
@@ -114,6 +137,8 @@ public class ServerMessageBusImpl implements ServerMessageBus {
 
   private static final Logger log = getLogger(ServerMessageBus.class);
 
+  private static final long HOUSEKEEPING_INTERVAL = 8000;
+
   private BusMonitor busMonitor;
 
   private final Set<String> reservedNames = new HashSet<String>();
@@ -212,6 +237,10 @@ public class ServerMessageBusImpl implements ServerMessageBus {
       buffer = TransmissionBuffer.create(segmentSize, segmentCount);
     }
 
+    buffer.setLockFreeReads(ErraiConfigAttribs.BUS_BUFFER_LOCK_FREE_READS.getBoolean(config));
+    buffer.setBatching(ErraiConfigAttribs.BUS_BUFFER_MAX_BATCH_BYTES.getInt(config),
+        ErraiConfigAttribs.BUS_BUFFER_MAX_BATCH_LATENCY.getInt(config), TimeUnit.MILLISECONDS);
+
     transmissionbuffer = buffer;
 
     /**
@@ -222,7 +251,8 @@ public class ServerMessageBusImpl implements ServerMessageBus {
     addSubscribeListener(new DefaultSubscribeListener());
     addUnsubscribeListener(new DefaultUnsubscribeListener());
 
-    scheduler.scheduleAtFixedRate(new HousekeeeperRunnable(), 8, 8, TimeUnit.SECONDS);
+    scheduler.scheduleAtFixedRate(new HousekeeeperRunnable(), HOUSEKEEPING_INTERVAL, HOUSEKEEPING_INTERVAL,
+        TimeUnit.MILLISECONDS);
 
     try {
       clustering = ErraiConfigAttribs.ENABLE_CLUSTERING.getBoolean(config);
@@ -245,6 +275,8 @@ public class ServerMessageBusImpl implements ServerMessageBus {
   private void addQueue(final QueueSession session, final MessageQueue queue) {
     messageQueues.put(session, queue);
     sessionLookup.put(session.getSessionId(), session);
+    queueExpiry.schedule(queue, queue.getLastTransmissionTime() + queue.getTimeout());
+    queuePaging.schedule(queue, queue.getLastTransmissionTime() + PageUtil.getIdleTimeBeforePaging());
   }
 
   /**
@@ -407,6 +439,76 @@ public class ServerMessageBusImpl implements ServerMessageBus {
     }
   }
 
+  @Override
+  public void sendToSessions(final Message message, final Collection<String> sessionIds) {
+    message.commit();
+    message.setFlag(RoutingFlag.NonGlobalRouting);
+
+    final List<MessageQueue> queues = new ArrayList<MessageQueue>(sessionIds.size());
+    for (final String sessionId : sessionIds) {
+      final QueueSession session = sessionLookup.get(sessionId);
+      final MessageQueue queue = session == null ? null : getQueue(session);
+      if (queue == null) {
+        // the session may be owned by another cluster member, which needs its own addressed copy.
+        send(CommandMessage.createWithParts(new HashMap<String, Object>(message.getParts()))
+            .set(MessageParts.SessionID, sessionId));
+      }
+      else if (isAnyoneListening(queue, message.getSubject())) {
+        queues.add(queue);
+      }
+      else {
+        // the regular path defers or delays the message until the session subscribes to the subject.
+        send(queue, message, true);
+      }
+    }
+
+    writeToQueues(queues, message);
+  }
+
+  /**
+   * Delivers the message to all of the specified queues. The message is encoded once and written to a segment shared
+   * by the colors of all running, initialized queues on the transmission buffer; all other queues go through the
+   * regular path, which closes the queues that are no longer running.
+   */
+  private void writeToQueues(final Collection<MessageQueue> queues, final Message message) {
+    final List<MessageQueue> buffered = new ArrayList<MessageQueue>(queues.size());
+    final List<BufferColor> colors = new ArrayList<BufferColor>(queues.size());
+
+    for (final MessageQueue q : queues) {
+      if (q.isRunning() && q.isInitialized() && q.getBuffer() == transmissionbuffer
+          && q.getDeliveryHandler() instanceof BufferDeliveryHandler) {
+        buffered.add(q);
+        colors.add(q.getBufferColor());
+      }
+      else {
+        // direct channels, stopped queues and queues which are not yet initialized go through the regular path.
+        send(q, message, true);
+      }
+    }
+
+    if (buffered.isEmpty()) return;
+
+    if (buffered.size() == 1) {
+      send(buffered.get(0), message, true);
+      return;
+    }
+
+    try {
+      BufferHelper.encodeAndWrite(transmissionbuffer, colors, message);
+    }
+    catch (IOException e) {
+      throw new RuntimeException("transmission error", e);
+    }
+
+    for (final MessageQueue q : buffered) {
+      if (isMonitor()) {
+        busMonitor.notifyOutgoingMessageToRemote(q.getSession().getSessionId(), message);
+      }
+      q.incrementMessageCount();
+      q.fireActivationCallback();
+    }
+  }
+
   private final Random random = new Random(System.nanoTime());
 
   private void forwardToCluster(final Message message, final Runnable timeoutCallback) {
@@ -524,15 +626,15 @@ public class ServerMessageBusImpl implements ServerMessageBus {
    */
   @Override
   public void closeQueue(final MessageQueue queue) {
-    messageQueues.values().remove(queue);
-    sessionLookup.values().remove(queue.getSession());
-
-    for (Iterator<RemoteMessageCallback> iterator = remoteSubscriptions.values().iterator(); iterator.hasNext(); ) {
-      final RemoteMessageCallback cb = iterator.next();
-      cb.removeQueue(queue);
-      if (cb.getQueueCount() == 0) {
-        iterator.remove();
-      }
+    final QueueSession session = queue.getSession();
+    messageQueues.remove(session, queue);
+    sessionLookup.remove(session.getSessionId(), session);
+    queueExpiry.cancel(queue);
+    queuePaging.cancel(queue);
+    removeRemoteSubscriptions(queue);
+
+    if (clustering) {
+      clusteringProvider.sessionDetached(queue.getSession().getSessionId());
     }
 
     fireQueueCloseListeners(new QueueCloseEvent(queue));
@@ -642,6 +744,7 @@ public class ServerMessageBusImpl implements ServerMessageBus {
       else if (!rmc.contains(queue)) {
         rmc.addQueue(queue);
       }
+      getQueueSubscriptions(queue).add(subject);
     }
 
     fireSubscribeListeners(
@@ -656,6 +759,7 @@ public class ServerMessageBusImpl implements ServerMessageBus {
     private final boolean broadcastable;
 
     private final AtomicInteger totalBroadcasted = new AtomicInteger();
+    private final AtomicInteger totalMulticasted = new AtomicInteger();
 
     public RemoteMessageCallback(final boolean broadcastable, final String svc) {
       this.broadcastable = broadcastable;
@@ -686,6 +790,11 @@ public class ServerMessageBusImpl implements ServerMessageBus {
           throw new RuntimeException("transmission error", e);
         }
       }
+      else if (broadcastable && !message.isFlagSet(RoutingFlag.NonGlobalRouting) && queues.size() > 1) {
+        // only a subset of queues are listening to this subject. we encode the message once and
+        // write it to a segment shared by the colors of all subscribed, buffered queues.
+        multicast(message);
+      }
       else {
         for (final MessageQueue q : queues) {
           send(q, message, true);
@@ -701,6 +810,14 @@ public class ServerMessageBusImpl implements ServerMessageBus {
       }
     }
 
+    private void multicast(final Message message) {
+      writeToQueues(queues, message);
+
+      if (log.isDebugEnabled() && totalMulticasted.incrementAndGet() % 1000 == 0) {
+        log.debug(totalMulticasted.get() + " messages have been multicasted to service: " + svc);
+      }
+    }
+
     public void addQueue(final MessageQueue queue) {
       queues.add(queue);
     }
@@ -740,6 +857,11 @@ public class ServerMessageBusImpl implements ServerMessageBus {
     final RemoteMessageCallback rmc = remoteSubscriptions.get(subject);
     rmc.removeQueue(queue);
 
+    final Set<String> subjects = queueSubscriptions.get(queue);
+    if (subjects != null) {
+      subjects.remove(subject);
+    }
+
     try {
       fireUnsubscribeListeners(new SubscriptionEvent(true, rmc.getQueueCount() == 0, false, false, rmc.getQueueCount(),
           sessionContext.getSessionId(), subject));
@@ -749,6 +871,31 @@ public class ServerMessageBusImpl implements ServerMessageBus {
     }
   }
 
+  private void removeRemoteSubscriptions(final MessageQueue queue) {
+    final Set<String> subjects = queueSubscriptions.remove(queue);
+    if (subjects != null) {
+      removeRemoteSubscriptions(queue, subjects);
+    }
+  }
+
+  private void removeRemoteSubscriptions(final MessageQueue queue, final Collection<String> subjects) {
+    synchronized (remoteSubscriptions) {
+      for (final String subject : subjects) {
+        final RemoteMessageCallback cb = remoteSubscriptions.get(subject);
+        if (cb != null) {
+          cb.removeQueue(queue);
+          if (cb.getQueueCount() == 0) {
+            remoteSubscriptions.remove(subject);
+          }
+        }
+      }
+    }
+  }
+
+  private Set<String> getQueueSubscriptions(final MessageQueue queue) {
+    return queueSubscriptions.computeIfAbsent(queue, q -> Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>()));
+  }
+
   /**
    * Unsubscribe all subscriptions attached to <tt>subject</tt>
    *
@@ -999,6 +1146,7 @@ public class ServerMessageBusImpl implements ServerMessageBus {
     transmissionbuffer.clear();
     subscriptions.clear();
     remoteSubscriptions.clear();
+    queueSubscriptions.clear();
     deferredQueue.clear();
     sessionLookup.clear();
   }
@@ -1095,6 +1243,10 @@ public class ServerMessageBusImpl implements ServerMessageBus {
               remoteSubscribe(session, queue, BuiltInServices.ClientBus.name());
             }
 
+            if (clustering) {
+              clusteringProvider.sessionAttached(session.getSessionId());
+            }
+
             for (final String svc : message.get(String.class, MessageParts.RemoteServices).split(",")) {
               remoteSubscribe(session, queue, svc);
             }
@@ -1153,6 +1305,15 @@ public class ServerMessageBusImpl implements ServerMessageBus {
               capabilitiesBuffer.append(",").append(Capabilities.SSE.name());
             }
 
+            if (message.hasPart(MessageParts.CapabilitiesFlags) && message.get(String.class,
+                MessageParts.CapabilitiesFlags).contains(Capabilities.CompactProtocol.name())) {
+              session.setAttribute(Capabilities.CompactProtocol.name(), Boolean.TRUE);
+              capabilitiesBuffer.append(",").append(Capabilities.CompactProtocol.name());
+            }
+            else {
+              session.removeAttribute(Capabilities.CompactProtocol.name());
+            }
+
             msg.set(MessageParts.CapabilitiesFlags, capabilitiesBuffer.toString());
 
             msg.set(ConnectionSessionKey, queue.getSession().getSessionId());
@@ -1265,55 +1426,105 @@ public class ServerMessageBusImpl implements ServerMessageBus {
     }
   }
 
-  private class HousekeeeperRunnable implements Runnable {
-    int runCount = 0;
-    boolean lastWasEmpty = false;
+  /**
+   * Closes the queues which have gone stale by the specified time. Only the queues whose deadline has passed are
+   * visited: those that have shown signs of life since they were scheduled are rescheduled for their new deadline.
+   *
+   * @param now
+   *     the current time, in milliseconds.
+   *
+   * @return the number of queues closed.
+   */
+  int expireStaleQueues(final long now) {
+    int killed = 0;
+
+    for (final MessageQueue q : queueExpiry.advance(now)) {
+      if (q.isStale()) {
+        if (messageQueues.remove(q.getSession(), q)) {
+          endQueueSession(q);
+          killed++;
+        }
+        else {
+          // the queue was replaced by a new queue for the same session.
+          removeRemoteSubscriptions(q);
+        }
+        continue;
+      }
 
-    @Override
-    public void run() {
-      runCount++;
-      boolean houseKeepingPerformed = false;
-      final List<MessageQueue> endSessions = new LinkedList<MessageQueue>();
+      // queues kept alive by an open direct channel are checked again on the next run.
+      queueExpiry.schedule(q, Math.max(q.getLastTransmissionTime() + q.getTimeout(), now + HOUSEKEEPING_INTERVAL));
 
-      int paged = 0, killed = 0;
+      // a live queue may have transmitted since it was paged out, so it is due to be paged again once it goes idle.
+      queuePaging.schedule(q, Math.max(q.getLastTransmissionTime() + PageUtil.getIdleTimeBeforePaging(), now));
+    }
 
-      while (!houseKeepingPerformed) {
-        try {
-          final Iterator<MessageQueue> iter = ServerMessageBusImpl.this.messageQueues.values().iterator();
-          MessageQueue q;
-          while (iter.hasNext()) {
-            if ((q = iter.next()).isStale()) {
-              iter.remove();
-              endSessions.add(q);
-              killed++;
-            }
+    if (killed > 0) {
+      log.debug("[bus] killed " + killed + " sessions");
+    }
+    return killed;
+  }
 
-            if (PageUtil.pageIfStraddling(q)) {
-              paged++;
-            }
-          }
+  /**
+   * Pages out the queues that have gone idle by the specified time. Only the queues whose paging deadline has passed
+   * are visited: those that have transmitted since they were scheduled are rescheduled for their new deadline, and
+   * those that have gone idle are not visited again until their next expiry check.
+   *
+   * @param now
+   *     the current time, in milliseconds.
+   *
+   * @return the number of queues paged out.
+   */
+  int pageIdleQueues(final long now) {
+    int paged = 0;
 
-          houseKeepingPerformed = true;
-        }
-        catch (ConcurrentModificationException cme) {
-          // fall-through and try again.
-        }
+    for (final MessageQueue q : queuePaging.advance(now)) {
+      if (messageQueues.get(q.getSession()) != q) {
+        continue;
       }
 
-      if (paged > 0 || killed > 0) {
-        log.debug("[bus] killed " + killed + " sessions and paged out " + paged + " queues");
+      final long pagingDeadline = q.getLastTransmissionTime() + PageUtil.getIdleTimeBeforePaging();
+      if (pagingDeadline > now) {
+        queuePaging.schedule(q, pagingDeadline);
+      }
+      else if (q.getDeliveryHandler() instanceof Pageable) {
+        ((Pageable) q.getDeliveryHandler()).pageOut(q);
+        paged++;
       }
+    }
 
-      for (final MessageQueue ref : endSessions) {
-        for (final String subject : new HashSet<String>(ServerMessageBusImpl.this.remoteSubscriptions.keySet())) {
-          ServerMessageBusImpl.this.remoteUnsubscribe(ref.getSession(), ref, subject);
-        }
+    if (paged > 0) {
+      log.debug("[bus] paged out " + paged + " queues");
+    }
+    return paged;
+  }
 
-        ServerMessageBusImpl.this.closeQueue(ref);
-        ref.getSession().endSession();
-        deferredQueue.remove(ref);
-        ref.discard();
+  private void endQueueSession(final MessageQueue queue) {
+    final Set<String> subjects = queueSubscriptions.get(queue);
+    if (subjects != null) {
+      final List<String> unsubscribed = new ArrayList<String>(subjects);
+      for (final String subject : unsubscribed) {
+        remoteUnsubscribe(queue.getSession(), queue, subject);
       }
+      // drops the subjects nobody else is subscribed to.
+      removeRemoteSubscriptions(queue, unsubscribed);
+    }
+
+    closeQueue(queue);
+    queue.getSession().endSession();
+    deferredQueue.remove(queue);
+    queue.discard();
+  }
+
+  private class HousekeeeperRunnable implements Runnable {
+    int runCount = 0;
+    boolean lastWasEmpty = false;
+
+    @Override
+    public void run() {
+      runCount++;
+      final long now = System.currentTimeMillis();
+      expireStaleQueues(now);
+      pageIdleQueues(now);
 
       final Iterator<ClusterWaitEntry> entryIterator = deadLetter.values().iterator();
 
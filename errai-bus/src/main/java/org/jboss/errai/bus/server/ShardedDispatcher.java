@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.server;
+
+import org.jboss.errai.bus.client.api.messaging.Message;
+import org.jboss.errai.bus.client.api.messaging.RequestDispatcher;
+import org.jboss.errai.bus.server.service.ErraiService;
+import org.jboss.errai.common.client.protocols.MessageParts;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * The <tt>ShardedDispatcher</tt> provides asynchronous message delivery into the bus like the {@link AsyncDispatcher},
+ * but instead of feeding all workers from a single queue, each worker owns a queue that messages are assigned to by
+ * session (or subject). This keeps messages from the same session in order and removes the contention of a single
+ * shared queue. Idle workers may steal work from busy ones.
+ * </p>
+ * The sharding behaviour is configured with
+ * {@link org.jboss.errai.bus.server.service.ErraiConfigAttribs#ASYNC_SHARD_KEY},
+ * {@link org.jboss.errai.bus.server.service.ErraiConfigAttribs#ASYNC_SHARD_QUEUE_SIZE} and
+ * {@link org.jboss.errai.bus.server.service.ErraiConfigAttribs#ASYNC_WORK_STEALING}.
+ *
+ * @see ShardedWorkerFactory
+ */
+@Singleton
+public class ShardedDispatcher implements RequestDispatcher {
+  private final ShardedWorkerFactory workerFactory;
+  private final ErraiService service;
+
+  @Inject
+  public ShardedDispatcher(final ErraiService service) {
+    this.service = service;
+    this.workerFactory = new ShardedWorkerFactory(service);
+
+    service.addShutdownHook(new Runnable() {
+      @Override
+      public void run() {
+        workerFactory.stopPool();
+      }
+    });
+  }
+
+  @Override
+  public void dispatchGlobal(final Message message) throws InterruptedException {
+    if (message.hasPart(MessageParts.PriorityProcessing)) {
+      try {
+        service.getBus().sendGlobal(message);
+      }
+      catch (Throwable t) {
+        if (message.getErrorCallback() != null) {
+          if (!message.getErrorCallback().error(message, t)) {
+            return;
+          }
+        }
+        else {
+          t.printStackTrace();
+        }
+      }
+    }
+    else {
+      workerFactory.deliverGlobal(message);
+    }
+  }
+
+  @Override
+  public void dispatch(final Message message) throws InterruptedException {
+    workerFactory.deliver(message);
+  }
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.server;
+
+import static java.lang.System.currentTimeMillis;
+import static org.jboss.errai.bus.client.util.ErrorHelper.handleMessageDeliveryFailure;
+import static org.jboss.errai.bus.client.util.ErrorHelper.sendClientError;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.errai.bus.client.api.QueueSession;
+import org.jboss.errai.bus.client.api.RoutingFlag;
+import org.jboss.errai.bus.client.api.base.MessageDeliveryFailure;
+import org.jboss.errai.bus.client.api.messaging.Message;
+import org.jboss.errai.bus.client.api.messaging.MessageBus;
+import org.jboss.errai.bus.client.util.ErrorHelper;
+import org.jboss.errai.bus.server.WorkerFactory.SaturationPolicy;
+import org.jboss.errai.bus.server.service.ErraiConfigAttribs;
+import org.jboss.errai.bus.server.service.ErraiService;
+import org.jboss.errai.bus.server.service.ErraiServiceConfigurator;
+import org.jboss.errai.bus.server.util.VirtualThreads;
+import org.jboss.errai.common.client.protocols.Resources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The <tt>ShardedWorkerFactory</tt> maintains a pool of workers, each of which owns a bounded queue (a shard).
+ * Messages are assigned to a shard by hashing their session ID (or subject), so all messages from one session are
+ * processed in the order they were dispatched, and producers only contend with each other when they hit the same
+ * shard.
+ * <p/>
+ * A shard is only ever processed by the thread holding its lock. When work stealing is enabled, a worker whose own
+ * shard is empty will lock and drain the shard of a busy worker, which preserves per-shard ordering. Workers with
+ * nothing to do park until a dispatch wakes them: the owner of the shard if it is idle, otherwise one idle worker.
+ * <p/>
+ * When a shard is full, the {@link SaturationPolicy#CallerRuns} policy makes the dispatching thread wait for room in
+ * the shard instead of delivering the message itself, which would overtake the messages of the same session that are
+ * still waiting in the shard.
+ *
+ * @see ShardedDispatcher
+ */
+public class ShardedWorkerFactory {
+  private static final int DEFAULT_THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+  private static final String CONFIG_ASYNC_THREAD_POOL_SIZE = "errai.async.thread_pool_size";
+  private static final String CONFIG_ASYNC_WORKER_TIMEOUT = "errai.async.worker.timeout";
+
+  /**
+   * The maximum number of messages processed from a shard before the lock is released.
+   */
+  private static final int MAX_DRAIN = 64;
+
+  private final MessageBus bus;
+  private final ErraiService svc;
+  private final Shard[] shards;
+  private final ShardWorker[] workerPool;
+  private final ConcurrentLinkedQueue<ShardWorker> idleWorkers = new ConcurrentLinkedQueue<ShardWorker>();
+
+  private final boolean shardBySession;
+  private final boolean workStealing;
+  private final SaturationPolicy saturationPolicy;
+  private final boolean virtualThreads;
+
+  private int poolSize = DEFAULT_THREAD_POOL_SIZE;
+  private long workerTimeout = Boolean.getBoolean("org.jboss.errai.debugmode") ? seconds(360) : seconds(30);
+
+  private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+  /**
+   * Initializes the worker factory with a shard and a worker per thread in the pool.
+   *
+   * @param svc - the <tt>ErraiService</tt> that is to be associated to this factory of workers
+   */
+  public ShardedWorkerFactory(final ErraiService svc) {
+    this.svc = svc;
+    this.bus = svc.getBus();
+
+    final ErraiServiceConfigurator cfg = svc.getConfiguration();
+
+    if (cfg.hasProperty(CONFIG_ASYNC_THREAD_POOL_SIZE)) {
+      poolSize = Integer.parseInt(cfg.getProperty(CONFIG_ASYNC_THREAD_POOL_SIZE));
+    }
+
+    if (cfg.hasProperty(CONFIG_ASYNC_WORKER_TIMEOUT)) {
+      workerTimeout = seconds(Integer.parseInt(cfg.getProperty(CONFIG_ASYNC_WORKER_TIMEOUT)));
+    }
+
+    final int shardQueueSize = ErraiConfigAttribs.ASYNC_SHARD_QUEUE_SIZE.getInt(cfg);
+    this.shardBySession = "session".equalsIgnoreCase(ErraiConfigAttribs.ASYNC_SHARD_KEY.get(cfg));
+    this.workStealing = ErraiConfigAttribs.ASYNC_WORK_STEALING.getBoolean(cfg);
+    this.saturationPolicy = SaturationPolicy.valueOf(ErraiConfigAttribs.SATURATION_POLICY.get(cfg));
+    this.virtualThreads = VirtualThreads.isEnabled(cfg);
+
+    log.debug("initializing sharded worker pool (poolSize: " + poolSize + "; shardQueueSize: " + shardQueueSize
+        + "; shardBySession: " + shardBySession + "; workStealing: " + workStealing
+        + "; virtualThreads: " + virtualThreads + ")");
+
+    this.shards = new Shard[poolSize];
+    this.workerPool = new ShardWorker[poolSize];
+
+    for (int i = 0; i < poolSize; i++) {
+      shards[i] = new Shard(shardQueueSize);
+    }
+
+    for (int i = 0; i < poolSize; i++) {
+      workerPool[i] = new ShardWorker(i);
+      shards[i].owner = workerPool[i];
+    }
+
+    if (bus instanceof ServerMessageBusImpl) {
+      /**
+       * Add a housekeeper task to the bus housekeeper to timeout long-running tasks.
+       */
+      ((ServerMessageBusImpl) bus).getScheduler().scheduleAtFixedRate(new Runnable() {
+        @Override
+        public void run() {
+          for (final ShardWorker w : workerPool) {
+            if (!w.isValid()) {
+              log.warn("Terminating worker.  Process exceeds maximum time to live.");
+              w.timeoutInterrupt();
+            }
+          }
+        }
+
+        @Override
+        public String toString() {
+          return "ShardedWorkerTimeout";
+        }
+      }, 1, 1, TimeUnit.SECONDS);
+    }
+
+    startPool();
+  }
+
+  /**
+   * Attempts to deliver the specified message globally
+   *
+   * @param m - message to be delivered
+   */
+  public void deliverGlobal(final Message m) throws InterruptedException {
+    enqueue(shardFor(m), m);
+  }
+
+  /**
+   * Attempts to send the message
+   *
+   * @param m - message to be sent
+   */
+  public void deliver(final Message m) throws InterruptedException {
+    m.setFlag(RoutingFlag.NonGlobalRouting);
+    enqueue(shardFor(m), m);
+  }
+
+  private void enqueue(final Shard shard, final Message m) throws InterruptedException {
+    if (!shard.messages.offer(m, 30, TimeUnit.SECONDS)) {
+      switch (saturationPolicy) {
+        case CallerRuns:
+          // delivering on this thread would overtake the messages of the session still waiting in the shard.
+          shard.messages.put(m);
+          break;
+        case Fail:
+          sendDeliveryFailure(m);
+          throw new RuntimeException("delivery queue is overloaded!");
+      }
+    }
+
+    if (workStealing) {
+      wake(shard);
+    }
+  }
+
+  /**
+   * Wakes a worker to process the specified shard: its owner if it is idle, otherwise any idle worker.
+   */
+  private void wake(final Shard shard) {
+    final ShardWorker owner = shard.owner;
+    if (owner.idle) {
+      LockSupport.unpark(owner.thread);
+      return;
+    }
+
+    final ShardWorker idle = idleWorkers.poll();
+    if (idle != null) {
+      LockSupport.unpark(idle.thread);
+    }
+  }
+
+  private Shard shardFor(final Message m) {
+    String key = null;
+    if (shardBySession) {
+      final QueueSession session = m.getResource(QueueSession.class, Resources.Session.name());
+      if (session != null) {
+        key = session.getSessionId();
+      }
+    }
+
+    // messages without a session (server-originated, timer and cluster messages) are spread by subject
+    if (key == null) {
+      key = m.getSubject();
+    }
+
+    int hash = (key != null ? key.hashCode() : 0);
+
+    // spread the bits so that sequential hash codes do not pile up in adjacent shards
+    hash ^= (hash >>> 16);
+    return shards[(hash & Integer.MAX_VALUE) % shards.length];
+  }
+
+  private void sendDeliveryFailure(final Message m) {
+    final MessageDeliveryFailure mdf
+        = new MessageDeliveryFailure("could not deliver message because the outgoing queue is full");
+
+    if (m.getErrorCallback() == null || m.getErrorCallback().error(m, mdf)) {
+      ErrorHelper.sendClientError(svc.getBus(), m, mdf.getMessage(), mdf);
+      throw mdf;
+    }
+  }
+
+  /**
+   * Starts execution of all the threads in the pool of threads
+   */
+  public void startPool() {
+    log.debug("starting sharded worker pool.");
+    for (final ShardWorker worker : workerPool) {
+      worker.start();
+    }
+  }
+
+  public void stopPool() {
+    synchronized (this) {
+      log.info("stopping sharded worker pool.");
+      for (final ShardWorker worker : workerPool) {
+        worker.active = false;
+        worker.thread.interrupt();
+      }
+
+      for (final ShardWorker worker : workerPool) {
+        while (!worker.exited) {
+          LockSupport.parkNanos(1000);
+        }
+      }
+    }
+  }
+
+  private static long seconds(final int seconds) {
+    return seconds * 1000;
+  }
+
+  private static class Shard {
+    private final BlockingQueue<Message> messages;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile ShardWorker owner;
+
+    private Shard(final int queueSize) {
+      this.messages = new ArrayBlockingQueue<Message>(queueSize);
+    }
+  }
+
+  private class ShardWorker implements Runnable {
+    private final Thread thread;
+    private final int index;
+
+    private volatile boolean active = true;
+    private volatile boolean exited = false;
+    private volatile boolean idle = false;
+    private volatile long workExpiry;
+    private volatile Message message;
+
+    private ShardWorker(final int index) {
+      this.thread = VirtualThreads.newThread(virtualThreads, this, "Sharded Dispatch Worker Thread " + index);
+      this.index = index;
+      if (!virtualThreads) {
+        thread.setPriority(Thread.MIN_PRIORITY);
+      }
+    }
+
+    private void start() {
+      thread.start();
+    }
+
+    private boolean isValid() {
+      return workExpiry == 0 || currentTimeMillis() < workExpiry;
+    }
+
+    private void timeoutInterrupt() {
+      final Message timedOut = message;
+      thread.interrupt();
+
+      if (!thread.isInterrupted() && workExpiry != 0) {
+        log.warn("failed to interrupt worker:" + thread.toString());
+      }
+      else if (timedOut != null) {
+        workExpiry = 0;
+        sendClientError(bus, timedOut,
+            "Request for '" + timedOut.getSubject() + "' timed out.",
+            "The process was terminated because it exceed the maximum timeout.");
+      }
+    }
+
+    @Override
+    public void run() {
+      final Shard own = shards[index];
+
+      try {
+        while (active) {
+          try {
+            if (workStealing) {
+              if (!drain(own) && !steal()) {
+                park();
+              }
+            }
+            else {
+              final Message next = own.messages.poll(60, TimeUnit.SECONDS);
+              if (next != null) {
+                deliver(next);
+              }
+            }
+          }
+          catch (InterruptedException e) {
+            // either we are stopping, or a timed out task was interrupted.
+          }
+        }
+      }
+      finally {
+        exited = true;
+      }
+    }
+
+    /**
+     * Processes up to {@link #MAX_DRAIN} messages waiting in the specified shard, if no other worker is currently
+     * processing it.
+     *
+     * @return true if any messages were processed.
+     */
+    private boolean drain(final Shard shard) {
+      if (shard.messages.isEmpty() || !shard.lock.tryLock()) {
+        return false;
+      }
+
+      try {
+        Message next;
+        int drained = 0;
+        while (drained < MAX_DRAIN && (next = shard.messages.poll()) != null) {
+          deliver(next);
+          drained++;
+        }
+        return drained > 0;
+      }
+      finally {
+        shard.lock.unlock();
+      }
+    }
+
+    /**
+     * Parks this worker until a dispatch wakes it. The worker is published as idle before it looks for work one last
+     * time, so a message dispatched meanwhile is either found here or wakes the worker.
+     */
+    private void park() {
+      idle = true;
+      idleWorkers.add(this);
+      try {
+        if (!hasWork()) {
+          LockSupport.park(this);
+        }
+      }
+      finally {
+        idle = false;
+        idleWorkers.remove(this);
+      }
+    }
+
+    /**
+     * @return true if a shard that no other worker is processing has messages waiting.
+     */
+    private boolean hasWork() {
+      for (final Shard shard : shards) {
+        if (!shard.messages.isEmpty() && !shard.lock.isLocked()) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean steal() {
+      for (int i = 1; i < shards.length; i++) {
+        if (drain(shards[(index + i) % shards.length])) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private void deliver(final Message next) {
+      message = next;
+      workExpiry = currentTimeMillis() + workerTimeout;
+      try {
+        Worker.deliverToBus(bus, next);
+      }
+      catch (QueueUnavailableException e) {
+        log.debug("queue not available", e);
+      }
+      catch (Throwable e) {
+        next.setResource("Exception", e.getCause());
+        handleMessageDeliveryFailure(bus, next, "Error calling remote service: " + next.getSubject(), e, false);
+      }
+      finally {
+        workExpiry = 0;
+        message = null;
+        // clear an interrupt that was meant to time out the task that just completed.
+        if (active) {
+          Thread.interrupted();
+        }
+      }
+    }
+  }
+}
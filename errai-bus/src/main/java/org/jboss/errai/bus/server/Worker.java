@@ -20,6 +20,7 @@ import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.bus.client.api.messaging.MessageBus;
 import org.jboss.errai.bus.client.api.RoutingFlag;
 import org.jboss.errai.bus.server.service.ErraiService;
+import org.jboss.errai.bus.server.util.VirtualThreads;
 import org.slf4j.Logger;
 
 import java.util.concurrent.BlockingQueue;
@@ -32,8 +33,14 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * A <tt>Worker</tt> is a specialized thread made to work with the messages and services of Errai
+ * <p>
+ * When the {@link WorkerFactory} uses virtual threads, the worker is never started itself. {@link #start()} starts a
+ * virtual thread that calls {@link #run()} instead, and {@link #interrupt()} and {@link #isInterrupted()} act on that
+ * thread. Other <tt>Thread</tt> methods, such as {@link #isAlive()} and {@link #join()}, describe the unstarted worker
+ * in that mode.
  */
 public class Worker extends Thread {
+  private final Thread virtualThread;
   private MessageBus bus;
   private BlockingQueue<Message> messages;
   private long timeout;
@@ -58,6 +65,41 @@ public class Worker extends Thread {
     this.bus = svc.getBus();
     setPriority(Thread.MIN_PRIORITY);
     setDaemon(true);
+    this.virtualThread = factory.isVirtualThreads() ? VirtualThreads.newThread(true, this, getName()) : null;
+  }
+
+  /**
+   * Starts this worker, on a virtual thread if the factory uses them
+   */
+  @Override
+  public synchronized void start() {
+    if (virtualThread != null) {
+      virtualThread.start();
+    }
+    else {
+      super.start();
+    }
+  }
+
+  /**
+   * Interrupts the thread running this worker
+   */
+  @Override
+  public void interrupt() {
+    if (virtualThread != null) {
+      virtualThread.interrupt();
+    }
+    else {
+      super.interrupt();
+    }
+  }
+
+  /**
+   * Returns true if the thread running this worker has been interrupted
+   */
+  @Override
+  public boolean isInterrupted() {
+    return virtualThread != null ? virtualThread.isInterrupted() : super.isInterrupted();
   }
 
   /**
@@ -22,6 +22,7 @@ import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.bus.client.util.ErrorHelper;
 import org.jboss.errai.bus.server.service.ErraiService;
 import org.jboss.errai.bus.server.service.ErraiServiceConfigurator;
+import org.jboss.errai.bus.server.util.VirtualThreads;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +52,7 @@ public class WorkerFactory {
 
   private int poolSize = DEFAULT_THREAD_POOL_SIZE;
   private long workerTimeout = Boolean.getBoolean("org.jboss.errai.debugmode") ? seconds(360) : seconds(30);
+  private boolean virtualThreads;
 
   private Logger log = LoggerFactory.getLogger(this.getClass());
 
@@ -80,8 +82,10 @@ public class WorkerFactory {
     }
 
     this.messages = new ArrayBlockingQueue<Message>(deliveryQueueSize);
+    this.virtualThreads = VirtualThreads.isEnabled(cfg);
 
-    log.debug("initializing async worker pools (poolSize: " + poolSize + "; workerTimeout: " + workerTimeout + ")");
+    log.debug("initializing async worker pools (poolSize: " + poolSize + "; workerTimeout: " + workerTimeout
+        + "; virtualThreads: " + virtualThreads + ")");
 
     this.workerPool = new Worker[poolSize];
 
@@ -187,6 +191,15 @@ public class WorkerFactory {
     return workerTimeout;
   }
 
+  /**
+   * Returns true if the workers should run on virtual threads
+   *
+   * @return true if virtual threads are enabled and supported
+   */
+  protected boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
   /**
    * Starts execution of all the threads in the pool of threads
    */
@@ -57,6 +57,12 @@ public interface MessageQueue {
 
   boolean isInitialized();
 
+  /**
+   * @return false once the queue has been stopped or discarded. A queue that is not running rejects offered messages
+   *     with a {@link org.jboss.errai.bus.server.QueueUnavailableException}.
+   */
+  boolean isRunning();
+
   void heartBeat();
 
   boolean messagesWaiting();
@@ -85,5 +91,14 @@ public interface MessageQueue {
 
   long getLastTransmissionTime();
 
+  /**
+   * Returns the time, in milliseconds, after the last transmission at which this queue goes stale. The bus uses it to
+   * decide when to check the queue again. Returns 0 by default, in which case the queue is checked on every
+   * housekeeping run.
+   */
+  default long getTimeout() {
+    return 0;
+  }
+
   void setTimeout(long timeout);
 }
@@ -17,14 +17,17 @@
 package org.jboss.errai.bus.server.api;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
 import org.jboss.errai.bus.client.api.QueueSession;
+import org.jboss.errai.bus.client.api.base.CommandMessage;
 import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.bus.client.api.messaging.MessageBus;
 import org.jboss.errai.bus.client.api.messaging.MessageCallback;
 import org.jboss.errai.bus.server.service.ErraiServiceConfigurator;
+import org.jboss.errai.common.client.protocols.MessageParts;
 
 /**
  * This interface, <tt>ServerMessageBus</tt>, extends the client's {@link org.jboss.errai.bus.client.api.messaging.MessageBus},
@@ -96,6 +99,21 @@ public interface ServerMessageBus extends MessageBus {
 
   public MessageQueue getQueueBySession(String id);
 
+  /**
+   * Sends the message to the queues of all specified sessions. The message must not be addressed to a session itself.
+   * The default implementation sends an addressed copy to each session; implementations may instead encode the
+   * message once for all recipients that share a transmission buffer.
+   *
+   * @param message - the message to send
+   * @param sessionIds - the ids of the sessions to send the message to
+   */
+  public default void sendToSessions(final Message message, final Collection<String> sessionIds) {
+    for (final String sessionId : sessionIds) {
+      send(CommandMessage.createWithParts(new HashMap<String, Object>(message.getParts()))
+          .set(MessageParts.SessionID, sessionId));
+    }
+  }
+
   public QueueSession getSessionBySessionId(String id);
 
   public void associateNewQueue(QueueSession oldSession, QueueSession newSession);
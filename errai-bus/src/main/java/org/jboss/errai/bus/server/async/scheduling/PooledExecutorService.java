@@ -28,7 +28,9 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.jboss.errai.bus.server.async.InterruptHandle;
 import org.jboss.errai.bus.server.async.TimedTask;
 import org.jboss.errai.bus.server.service.ErraiConfigAttribs;
+import org.jboss.errai.bus.server.service.ErraiServiceConfigurator;
 import org.jboss.errai.bus.server.service.ErraiServiceConfiguratorImpl;
+import org.jboss.errai.bus.server.util.VirtualThreads;
 import org.jboss.errai.common.client.api.tasks.AsyncTask;
 import org.jboss.errai.common.client.api.tasks.HasAsyncTaskRef;
 import org.jboss.errai.common.client.util.TimeUnit;
@@ -95,14 +97,29 @@ public class PooledExecutorService implements TaskProvider {
    * @param queueSize The size of the underlying worker queue.
    */
   public PooledExecutorService(int queueSize) {
-    this(queueSize, SaturationPolicy.valueOf(
-            ErraiConfigAttribs.SATURATION_POLICY.get(new ErraiServiceConfiguratorImpl())));
+    this(queueSize, new ErraiServiceConfiguratorImpl());
+  }
+
+  private PooledExecutorService(int queueSize, ErraiServiceConfigurator config) {
+    this(queueSize, SaturationPolicy.valueOf(ErraiConfigAttribs.SATURATION_POLICY.get(config)),
+            VirtualThreads.isEnabled(config));
   }
 
   public PooledExecutorService(int queueSize, SaturationPolicy saturationPolicy) {
+    this(queueSize, saturationPolicy, false);
+  }
+
+  /**
+   * Constructs a new PooledExecutorService with the specified queue size and saturation policy.
+   *
+   * @param queueSize        The size of the underlying worker queue.
+   * @param saturationPolicy The policy to apply when the worker queue is full.
+   * @param virtualThreads   If true, tasks are run on virtual threads (when supported by the runtime).
+   */
+  public PooledExecutorService(int queueSize, SaturationPolicy saturationPolicy, boolean virtualThreads) {
     maxQueueSize = queueSize;
     queue = new ArrayBlockingQueue<TimedTask>(queueSize);
-    pool = new ThreadWorkerPool(this);
+    pool = new ThreadWorkerPool(this, virtualThreads);
 
     scheduledTasks = new PriorityBlockingQueue<TimedTask>();
     schedulerThread = new SchedulerThread();
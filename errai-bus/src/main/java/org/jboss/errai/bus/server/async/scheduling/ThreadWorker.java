@@ -18,6 +18,7 @@ package org.jboss.errai.bus.server.async.scheduling;
 
 import org.jboss.errai.common.client.api.ErrorCallback;
 import org.jboss.errai.bus.server.async.TimedTask;
+import org.jboss.errai.bus.server.util.VirtualThreads;
 
 public class ThreadWorker implements Runnable {
   private final Thread thread;
@@ -28,8 +29,11 @@ public class ThreadWorker implements Runnable {
   private volatile boolean isStopped = false;
 
   public ThreadWorker(TaskProvider pool) {
-    this.thread = new Thread(this, "ExecutorPoolWorker");
-    this.thread.setDaemon(true);
+    this(pool, false);
+  }
+
+  public ThreadWorker(TaskProvider pool, boolean virtualThread) {
+    this.thread = VirtualThreads.newThread(virtualThread, this, "ExecutorPoolWorker");
     this.pool = pool;
     this.errorCallback = null;
   }
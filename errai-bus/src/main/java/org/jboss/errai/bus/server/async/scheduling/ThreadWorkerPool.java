@@ -28,6 +28,7 @@ public class ThreadWorkerPool {
   private final TaskProvider provider;
 
   private int maximumPoolSize = Runtime.getRuntime().availableProcessors();
+  private boolean virtualThreads = false;
 
   private volatile boolean stop = false;
 
@@ -42,6 +43,11 @@ public class ThreadWorkerPool {
     this.maximumPoolSize = maximumPoolSize;
   }
 
+  public ThreadWorkerPool(TaskProvider provider, boolean virtualThreads) {
+    this(provider);
+    this.virtualThreads = virtualThreads;
+  }
+
   public void addWorker() {
     synchronized (this) {
       if (workers.size() == maximumPoolSize) return;
@@ -50,7 +56,7 @@ public class ThreadWorkerPool {
         return;
       }
 
-      ThreadWorker worker = new ThreadWorker(provider);
+      ThreadWorker worker = new ThreadWorker(provider, virtualThreads);
       workers.add(worker);
       worker.start();
     }
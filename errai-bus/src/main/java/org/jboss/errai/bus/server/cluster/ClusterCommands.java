@@ -43,5 +43,17 @@ public enum ClusterCommands {
    * The <tt>InvalidRoute</tt> verb is used in a point-to-point message to indicate that the bus was
    * forwarded a message which it is not or no longer responsible for.
    */
-  InvalidRoute
+  InvalidRoute,
+
+  /**
+   * The <tt>SessionOwned</tt> verb is a broadcast message which notifies all buses that the sending bus is
+   * responsible for handling the specified sessions. It is also sent point-to-point to buses joining the cluster.
+   */
+  SessionOwned,
+
+  /**
+   * The <tt>SessionReleased</tt> verb is a broadcast message which notifies all buses that the sending bus is no
+   * longer responsible for handling the specified session.
+   */
+  SessionReleased
 }
@@ -39,5 +39,26 @@ public interface ClusteringProvider {
    * @param message
    */
   public void clusterTransmitGlobal(final Message message);
+
+  /**
+   * Notifies the cluster that a queue for the specified session has been attached to this bus, so that peers can
+   * route messages for the session directly to this bus. Does nothing by default, in which case peers locate the
+   * session through {@link #clusterTransmit(String, String, String)}.
+   *
+   * @param sessionId
+   *        the session ID.
+   */
+  public default void sessionAttached(final String sessionId) {
+  }
+
+  /**
+   * Notifies the cluster that the queue for the specified session has been closed on this bus. Does nothing by
+   * default.
+   *
+   * @param sessionId
+   *        the session ID.
+   */
+  public default void sessionDetached(final String sessionId) {
+  }
 }
 
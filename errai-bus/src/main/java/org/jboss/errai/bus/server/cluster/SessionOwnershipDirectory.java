@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2012 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.server.cluster;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A directory of which bus in the cluster owns (holds the queue for) each session. Every bus keeps a full copy of
+ * the directory: a bus announces the sessions it attaches and releases to its peers, and sends all of its sessions
+ * to any peer that joins the cluster. This lets a bus route a message for a remote session straight to its owner,
+ * rather than asking the whole cluster who handles the session first.
+ *
+ * @param <A>
+ *     the type of address that identifies a bus in the cluster.
+ */
+public class SessionOwnershipDirectory<A> {
+  private final A self;
+  private final ConcurrentMap<String, A> owners = new ConcurrentHashMap<String, A>();
+  private final Set<String> localSessions = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+  private volatile Set<A> members = Collections.emptySet();
+
+  public SessionOwnershipDirectory(final A self) {
+    this.self = self;
+  }
+
+  /**
+   * Records that a queue for the specified session has been attached to this bus.
+   *
+   * @param sessionId
+   *     the session ID.
+   */
+  public void attachLocal(final String sessionId) {
+    localSessions.add(sessionId);
+    owners.put(sessionId, self);
+  }
+
+  /**
+   * Records that the queue for the specified session has been closed on this bus.
+   *
+   * @param sessionId
+   *     the session ID.
+   */
+  public void detachLocal(final String sessionId) {
+    localSessions.remove(sessionId);
+    owners.remove(sessionId, self);
+  }
+
+  /**
+   * Records that the specified peer owns the session. Announcements from peers that are no longer part of the
+   * cluster view are ignored.
+   *
+   * @param sessionId
+   *     the session ID.
+   * @param owner
+   *     the address of the peer.
+   */
+  public void ownerAttached(final String sessionId, final A owner) {
+    final Set<A> view = members;
+    if (view.isEmpty() || view.contains(owner)) {
+      owners.put(sessionId, owner);
+    }
+  }
+
+  /**
+   * Records that the specified peer no longer owns the session. If the session has since been attached to a
+   * different bus, the directory is left unchanged.
+   *
+   * @param sessionId
+   *     the session ID.
+   * @param owner
+   *     the address of the peer.
+   */
+  public void ownerReleased(final String sessionId, final A owner) {
+    owners.remove(sessionId, owner);
+  }
+
+  /**
+   * Returns the address of the bus owning the specified session, or null if it is not known.
+   *
+   * @param sessionId
+   *     the session ID.
+   */
+  public A getOwner(final String sessionId) {
+    return owners.get(sessionId);
+  }
+
+  /**
+   * Updates the directory with a new view of the cluster. Sessions owned by buses that have left the cluster are
+   * removed.
+   *
+   * @param view
+   *     the addresses of all buses in the cluster.
+   *
+   * @return the addresses of the buses that have joined the cluster since the last view. The local sessions should
+   *         be announced to these buses.
+   */
+  public List<A> viewChanged(final Collection<A> view) {
+    final Set<A> previous = members;
+    final Set<A> current = new HashSet<A>(view);
+    members = current;
+
+    for (final Iterator<A> iter = owners.values().iterator(); iter.hasNext(); ) {
+      final A owner = iter.next();
+      if (!owner.equals(self) && !current.contains(owner)) {
+        iter.remove();
+      }
+    }
+
+    final List<A> joined = new ArrayList<A>();
+    for (final A member : current) {
+      if (!member.equals(self) && !previous.contains(member)) {
+        joined.add(member);
+      }
+    }
+    return joined;
+  }
+
+  /**
+   * Returns the IDs of all sessions attached to this bus.
+   */
+  public Collection<String> getLocalSessions() {
+    return Collections.unmodifiableSet(localSessions);
+  }
+
+  /**
+   * Returns the number of sessions known to the directory, including the local sessions.
+   */
+  public int size() {
+    return owners.size();
+  }
+}
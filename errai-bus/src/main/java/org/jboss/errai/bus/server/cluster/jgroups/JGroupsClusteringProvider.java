@@ -25,8 +25,9 @@ import static org.jboss.errai.common.client.protocols.MessageParts.CommandType;
 import static org.jboss.errai.common.client.protocols.MessageParts.SessionID;
 import static org.jboss.errai.common.client.protocols.MessageParts.ToSubject;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.google.inject.Inject;
 import org.jboss.errai.bus.client.api.QueueSession;
 import org.jboss.errai.bus.client.api.RoutingFlag;
@@ -40,6 +41,7 @@ import org.jboss.errai.bus.server.cluster.ClusterCommands;
 import org.jboss.errai.bus.server.cluster.ClusterParts;
 import org.jboss.errai.bus.server.cluster.ClusteringProvider;
 import org.jboss.errai.bus.server.cluster.IntrabusQueueSession;
+import org.jboss.errai.bus.server.cluster.SessionOwnershipDirectory;
 import org.jboss.errai.bus.server.io.MessageFactory;
 import org.jboss.errai.bus.server.service.ErraiConfigAttribs;
 import org.jboss.errai.bus.server.service.ErraiService;
@@ -50,6 +52,7 @@ import org.jboss.errai.marshalling.client.protocols.ErraiProtocol;
 import org.jgroups.Address;
 import org.jgroups.JChannel;
 import org.jgroups.ReceiverAdapter;
+import org.jgroups.View;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,10 +68,20 @@ public class JGroupsClusteringProvider extends ReceiverAdapter implements Cluste
   private final JChannel jchannel;
   private final ServerMessageBus serverMessageBus;
 
-  final Cache<String, Address> sessionToNodeCache;
+  volatile SessionOwnershipDirectory<Address> sessionDirectory;
+
+  /**
+   * The number of times this bus has broadcast <tt>WhoHandles</tt> because it did not know the owner of a session.
+   */
+  final AtomicInteger whoHandlesBroadcasts = new AtomicInteger();
 
   private final static String JGROUPS_MESSAGE_RESOURCE = "JGroupsMessage";
 
+  /**
+   * The maximum number of session IDs announced to a joining bus in a single message.
+   */
+  private final static int MAX_SESSIONS_PER_ANNOUNCEMENT = 1000;
+
   private static Logger log = LoggerFactory.getLogger(JGroupsClusteringProvider.class);
 
   @Inject
@@ -79,6 +92,10 @@ public class JGroupsClusteringProvider extends ReceiverAdapter implements Cluste
 
     try {
       jchannel = new JChannel(JGroupsConfigAttribs.JGROUPS_PROTOCOL_STACK.get(config));
+
+      // receive from the moment we join, so that the sessions our peers announce to us are not dropped. Messages
+      // that arrive before we have subscribed to the cluster service below are redelivered by the bus.
+      jchannel.setReceiver(this);
       jchannel.connect(ErraiConfigAttribs.CLUSTER_NAME.get(config));
 
       // I don't think waiting for the state is necessary.
@@ -88,8 +105,10 @@ public class JGroupsClusteringProvider extends ReceiverAdapter implements Cluste
       throw new RuntimeException(e);
     }
 
+    sessionDirectory = new SessionOwnershipDirectory<Address>(jchannel.getAddress());
+
     serverMessageBus.subscribe(CLUSTER_SERVICE, this);
-    jchannel.setReceiver(this);
+    viewAccepted(jchannel.getView());
 
     erraiService.addShutdownHook(new Runnable() {
       @Override
@@ -99,10 +118,6 @@ public class JGroupsClusteringProvider extends ReceiverAdapter implements Cluste
       }
     });
 
-    sessionToNodeCache = CacheBuilder.newBuilder()
-        .maximumSize(100)
-        .build();
-
     log.info("starting errai clustering service.");
   }
 
@@ -124,6 +139,28 @@ public class JGroupsClusteringProvider extends ReceiverAdapter implements Cluste
     }
   }
 
+  @Override
+  public void viewAccepted(final View view) {
+    if (sessionDirectory == null) {
+      // still connecting. the view is applied once the directory has been created.
+      return;
+    }
+
+    final List<Address> joined = sessionDirectory.viewChanged(view.getMembers());
+
+    if (!joined.isEmpty() && !sessionDirectory.getLocalSessions().isEmpty()) {
+      // don't hold up the thread delivering the view.
+      serverMessageBus.getScheduler().execute(new Runnable() {
+        @Override
+        public void run() {
+          for (final Address address : joined) {
+            announceLocalSessions(address);
+          }
+        }
+      });
+    }
+  }
+
   @Override
   public void callback(final Message message) {
     final QueueSession queueSession = message.getResource(QueueSession.class, "Session");
@@ -176,7 +213,7 @@ public class JGroupsClusteringProvider extends ReceiverAdapter implements Cluste
         final org.jgroups.Message jgroupsMessage
             = message.getResource(org.jgroups.Message.class, JGROUPS_MESSAGE_RESOURCE);
 
-        sessionToNodeCache.put(sessId, jgroupsMessage.getSrc());
+        sessionDirectory.ownerAttached(sessId, jgroupsMessage.getSrc());
 
         if (deferredMessage != null) {
           final Message dMessage = createForwardMessageFor(deferredMessage, messageId);
@@ -193,20 +230,14 @@ public class JGroupsClusteringProvider extends ReceiverAdapter implements Cluste
 
       case InvalidRoute: {
         final String sessionId = message.get(String.class, SessId);
-        sessionToNodeCache.invalidate(sessionId);
+        final org.jgroups.Message jgroupsMessage
+            = message.getResource(org.jgroups.Message.class, JGROUPS_MESSAGE_RESOURCE);
+        sessionDirectory.ownerReleased(sessionId, jgroupsMessage.getSrc());
 
         final String messageId = message.get(String.class, MessageId);
         final String subject = message.get(String.class, Subject);
 
-        final Message whoMessage = createWhoHandlesMessage(sessionId, subject, messageId);
-
-        try {
-          jchannel.send(getJGroupsMessage(whoMessage));
-        }
-        catch (Exception e) {
-          e.printStackTrace();
-        }
-
+        broadcastWhoHandles(sessionId, subject, messageId);
         break;
       }
 
@@ -247,13 +278,31 @@ public class JGroupsClusteringProvider extends ReceiverAdapter implements Cluste
         }
       }
       break;
+
+      case SessionOwned: {
+        final org.jgroups.Message jgroupsMessage
+            = message.getResource(org.jgroups.Message.class, JGROUPS_MESSAGE_RESOURCE);
+
+        for (final String sessionId : message.get(String.class, SessId).split(",")) {
+          sessionDirectory.ownerAttached(sessionId, jgroupsMessage.getSrc());
+        }
+      }
+      break;
+
+      case SessionReleased: {
+        final org.jgroups.Message jgroupsMessage
+            = message.getResource(org.jgroups.Message.class, JGROUPS_MESSAGE_RESOURCE);
+
+        sessionDirectory.ownerReleased(message.get(String.class, SessId), jgroupsMessage.getSrc());
+      }
+      break;
     }
   }
 
   @Override
   public void clusterTransmit(final String sessionId, final String subject, final String messageId) {
-    final Address knownAddress = sessionToNodeCache.getIfPresent(sessionId);
-    if (knownAddress != null) {
+    final Address knownAddress = sessionDirectory.getOwner(sessionId);
+    if (knownAddress != null && !knownAddress.equals(jchannel.getAddress())) {
       final Message forwardMessage = createForwardMessageFor(serverMessageBus.getDeadLetterMessage(messageId), messageId);
       try {
         jchannel.send(knownAddress, ErraiProtocol.encodePayload(forwardMessage.getParts()));
@@ -263,14 +312,88 @@ public class JGroupsClusteringProvider extends ReceiverAdapter implements Cluste
       }
     }
     else {
-      final Message whoHandlesMessage = createWhoHandlesMessage(sessionId, subject, messageId);
-      try {
-        jchannel.send(getJGroupsMessage(whoHandlesMessage));
+      broadcastWhoHandles(sessionId, subject, messageId);
+    }
+  }
+
+  /**
+   * Asks the whole cluster which bus owns the specified session. The owner replies with <tt>NotifyOwner</tt>.
+   */
+  private void broadcastWhoHandles(final String sessionId, final String subject, final String messageId) {
+    whoHandlesBroadcasts.incrementAndGet();
+    try {
+      jchannel.send(getJGroupsMessage(createWhoHandlesMessage(sessionId, subject, messageId)));
+    }
+    catch (Exception e) {
+      e.printStackTrace();
+    }
+  }
+
+  @Override
+  public void sessionAttached(final String sessionId) {
+    sessionDirectory.attachLocal(sessionId);
+
+    try {
+      jchannel.send(getJGroupsMessage(createSessionMessage(ClusterCommands.SessionOwned, sessionId)));
+    }
+    catch (Exception e) {
+      e.printStackTrace();
+    }
+  }
+
+  @Override
+  public void sessionDetached(final String sessionId) {
+    sessionDirectory.detachLocal(sessionId);
+
+    try {
+      jchannel.send(getJGroupsMessage(createSessionMessage(ClusterCommands.SessionReleased, sessionId)));
+    }
+    catch (Exception e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Sends the IDs of all sessions attached to this bus to the specified (newly joined) bus.
+   */
+  private void announceLocalSessions(final Address address) {
+    final StringBuilder sessionIds = new StringBuilder();
+    int count = 0;
+
+    for (final String sessionId : sessionDirectory.getLocalSessions()) {
+      if (count > 0) {
+        sessionIds.append(',');
       }
-      catch (Exception e) {
-        e.printStackTrace();
+      sessionIds.append(sessionId);
+
+      if (++count == MAX_SESSIONS_PER_ANNOUNCEMENT) {
+        sendSessionsOwned(address, sessionIds.toString());
+        sessionIds.setLength(0);
+        count = 0;
       }
     }
+
+    if (count > 0) {
+      sendSessionsOwned(address, sessionIds.toString());
+    }
+  }
+
+  private void sendSessionsOwned(final Address address, final String sessionIds) {
+    final Message sessionOwned = createSessionMessage(ClusterCommands.SessionOwned, sessionIds);
+    try {
+      jchannel.send(address, ErraiProtocol.encodePayload(sessionOwned.getParts()));
+    }
+    catch (Exception e) {
+      e.printStackTrace();
+    }
+  }
+
+  private Message createSessionMessage(final ClusterCommands command, final String sessionIds) {
+    return CommandMessage.create()
+        .set(ToSubject, CLUSTER_SERVICE)
+        .set(CommandType, command.name())
+        .set(SessId, sessionIds)
+        .set(BusId, busId);
   }
 
   private Message createForwardMessageFor(final Message message, final String messageId) {
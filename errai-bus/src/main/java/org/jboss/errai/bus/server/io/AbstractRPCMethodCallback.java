@@ -40,6 +40,7 @@ public abstract class AbstractRPCMethodCallback implements MessageCallback {
   protected final Class[] targetTypes;
   protected final Method method;
   protected final MessageBus bus;
+  private final RPCMethodInvoker invoker;
 
   protected AbstractRPCMethodCallback(final ServiceInstanceProvider genericSvc,
                                       final Method method,
@@ -47,6 +48,7 @@ public abstract class AbstractRPCMethodCallback implements MessageCallback {
     this.serviceProvider = genericSvc;
     this.targetTypes = (this.method = method).getParameterTypes();
     this.bus = bus;
+    this.invoker = new RPCMethodInvoker(method);
   }
 
   public Object invokeMethodFromMessage(Message message) {
@@ -62,7 +64,7 @@ public abstract class AbstractRPCMethodCallback implements MessageCallback {
 
     try {
       RpcContext.set(message);
-      return method.invoke(serviceProvider.get(message), (parms != null) ? parms.toArray(new Object[parms.size()]) : new Object[0]);
+      return invoker.invoke(serviceProvider.get(message), parms);
     }
     catch (final QueueUnavailableException e) {
       throw e;
@@ -16,6 +16,7 @@
 
 package org.jboss.errai.bus.server.io;
 
+import org.jboss.errai.bus.client.api.base.Capabilities;
 import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.bus.server.api.MessageQueue;
 import org.jboss.errai.bus.server.io.buffers.Buffer;
@@ -51,7 +52,12 @@ public class BufferDeliveryHandler implements MessageDeliveryHandler, Buffered,
       final Buffer buffer = queue.getBuffer();
       final BufferColor bufferColor = queue.getBufferColor();
 
-      BufferHelper.encodeAndWrite(buffer, bufferColor, message);
+      if (queue.getSession().hasAttribute(Capabilities.CompactProtocol.name())) {
+        BufferHelper.encodeCompactAndWrite(buffer, bufferColor, message);
+      }
+      else {
+        BufferHelper.encodeAndWrite(buffer, bufferColor, message);
+      }
     }
     finally {
       queue.incrementMessageCount();
@@ -16,7 +16,8 @@
 
 package org.jboss.errai.bus.server.io;
 
-import static org.jboss.errai.marshalling.server.protocol.ErraiProtocolServer.encodePayloadToByteArrayInputStream;
+import static org.jboss.errai.marshalling.server.protocol.ErraiProtocolServer.encodePreprocessedCompactPayload;
+import static org.jboss.errai.marshalling.server.protocol.ErraiProtocolServer.encodePreprocessedPayload;
 
 import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.bus.server.io.buffers.Buffer;
@@ -24,6 +25,7 @@ import org.jboss.errai.bus.server.io.buffers.BufferColor;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.Collection;
 
 /**
  * @author Mike Brock
@@ -35,7 +37,23 @@ public final class BufferHelper {
   public static void encodeAndWrite(final Buffer buffer, final BufferColor bufferColor, final Message message)
           throws IOException {
 
-    buffer.write(encodePayloadToByteArrayInputStream(message.getParts()), bufferColor);
+    buffer.write(encodePreprocessedPayload(message.getParts()), bufferColor);
+  }
+
+  public static void encodeAndWrite(final Buffer buffer, final Collection<BufferColor> bufferColors,
+                                    final Message message) throws IOException {
+
+    buffer.write(encodePreprocessedPayload(message.getParts()), bufferColors);
+  }
+
+  /**
+   * Encodes the message in the compact protocol and writes it to the buffer. Only used for messages addressed to a
+   * single queue, as other recipients may not have negotiated the compact protocol.
+   */
+  public static void encodeCompactAndWrite(final Buffer buffer, final BufferColor bufferColor, final Message message)
+          throws IOException {
+
+    buffer.write(encodePreprocessedCompactPayload(message.getParts()), bufferColor);
   }
 
   private static final byte[] NOOP_ARRAY = new byte[0];
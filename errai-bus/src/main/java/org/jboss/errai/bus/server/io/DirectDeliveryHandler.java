@@ -16,6 +16,7 @@
 
 package org.jboss.errai.bus.server.io;
 
+import org.jboss.errai.bus.client.api.base.Capabilities;
 import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.bus.client.util.BusToolsCli;
 import org.jboss.errai.bus.server.api.MessageQueue;
@@ -44,7 +45,12 @@ public class DirectDeliveryHandler implements MessageDeliveryHandler, Wakeable,
   @Override
   public boolean deliver(final MessageQueue queue, final Message message) throws IOException {
     try {
-      directSocketChannel.write("[" + BusToolsCli.encodeMessage(message) + "]");
+      if (queue.getSession().hasAttribute(Capabilities.CompactProtocol.name())) {
+        directSocketChannel.write("[" + BusToolsCli.encodeCompactMessage(message) + "]");
+      }
+      else {
+        directSocketChannel.write("[" + BusToolsCli.encodeMessage(message) + "]");
+      }
       return true;
     }
     catch (Throwable e) {
@@ -62,7 +68,7 @@ public class DirectDeliveryHandler implements MessageDeliveryHandler, Wakeable,
     ByteWriteAdapter adapter = new OutputStreamWriteAdapter(outputStream);
     queue.getBuffer().read(adapter, queue.getBufferColor(), new MultiMessageFilter());
 
-    directSocketChannel.write(new String(outputStream.toByteArray(), 0, outputStream.size()));
+    directSocketChannel.write(outputStream.toByteArray(), 0, outputStream.size());
   }
 
   @Override
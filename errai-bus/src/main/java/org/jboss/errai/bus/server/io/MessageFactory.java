@@ -37,8 +37,8 @@ import org.jboss.errai.marshalling.client.api.json.EJValue;
 import org.jboss.errai.marshalling.client.marshallers.ErraiProtocolEnvelopeMarshaller;
 import org.jboss.errai.marshalling.server.DecodingSession;
 import org.jboss.errai.marshalling.server.JSONDecoder;
-import org.jboss.errai.marshalling.server.JSONStreamDecoder;
 import org.jboss.errai.marshalling.server.MappingContextSingleton;
+import org.jboss.errai.marshalling.server.StreamingDemarshaller;
 
 /**
  * The <tt>MessageFactory</tt> facilitates the building of a command message using a JSON string
@@ -90,43 +90,12 @@ public class MessageFactory {
 
 
   public static List<Message> createCommandMessage(QueueSession session, HttpServletRequest request) throws IOException {
-    EJValue value = JSONStreamDecoder.decode(request.getInputStream());
-    if (value.isObject() != null) {
-      return Collections.singletonList(from(getParts(value), session, request));
-    }
-    else if (value.isArray() != null) {
-      EJArray arr = value.isArray();
-      List<Message> messages = new ArrayList<Message>(arr.size());
-      for (int i = 0; i < arr.size(); i++) {
-        messages.add(from(getParts(arr.get(i)), session, request));
-      }
-      return messages;
-    }
-    else if (value.isNull()) {
-      return Collections.<Message>emptyList();
-    }
-    else {
-      throw new RuntimeException("bad payload");
-    }
+    return from(StreamingDemarshaller.demarshallMessages(request.getInputStream()), session, request);
   }
 
 
   public static List<Message> createCommandMessage(QueueSession session, InputStream inputStream) throws IOException {
-    EJValue value = JSONStreamDecoder.decode(inputStream);
-    if (value.isObject() != null) {
-      return Collections.singletonList(from(getParts(value), session, null));
-    }
-    else if (value.isArray() != null) {
-      EJArray arr = value.isArray();
-      List<Message> messages = new ArrayList<Message>(arr.size());
-      for (int i = 0; i < arr.size(); i++) {
-        messages.add(from(getParts(arr.get(i)), session, null));
-      }
-      return messages;
-    }
-    else {
-      throw new RuntimeException("bad payload");
-    }
+    return from(StreamingDemarshaller.demarshallMessages(inputStream), session, null);
   }
 
   public static List<Message> createCommandMessage(QueueSession session, EJValue value) {
@@ -153,6 +122,19 @@ public class MessageFactory {
             new DecodingSession(MappingContextSingleton.get()));
   }
 
+  private static List<Message> from(List<Map<String, Object>> messageParts, QueueSession session,
+                                    HttpServletRequest request) {
+    if (messageParts.size() == 1) {
+      return Collections.singletonList(from(messageParts.get(0), session, request));
+    }
+
+    List<Message> messages = new ArrayList<Message>(messageParts.size());
+    for (Map<String, Object> parts : messageParts) {
+      messages.add(from(parts, session, request));
+    }
+    return messages;
+  }
+
   @SuppressWarnings("unchecked")
   private static Message from(Map parts, QueueSession session, HttpServletRequest request) {
     Message msg = createWithParts(parts)
@@ -21,15 +21,18 @@ import static java.lang.System.nanoTime;
 import org.jboss.errai.bus.server.api.MessageQueue;
 import org.jboss.errai.bus.server.io.buffers.BufferFilter;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Mike Brock
@@ -43,6 +46,23 @@ public final class PageUtil {
 
   private static final String tempDir = System.getProperty("java.io.tmpdir");
 
+  /**
+   * The size of the chunks used for bulk transfers to and from page files.
+   */
+  private static final int TRANSFER_CHUNK_SIZE = 1024 * 8;
+
+  private static final AtomicLong pagedOutBytes = new AtomicLong();
+  private static final AtomicLong pagedInBytes = new AtomicLong();
+  private static final AtomicLong pageInCount = new AtomicLong();
+  private static final AtomicLong pageInNanos = new AtomicLong();
+
+  /**
+   * Returns the time, in milliseconds, for which a queue must have gone without transmitting before it is paged out.
+   */
+  public static long getIdleTimeBeforePaging() {
+    return TimeUnit.NANOSECONDS.toMillis(DOWNGRADE_THRESHOLD);
+  }
+
   public static String getPageFileName(final MessageQueue queue) {
     return tempDir + "/queuecache/" + queue.getSession().getSessionId().replaceAll("\\-", "_");
   }
@@ -57,18 +77,21 @@ public final class PageUtil {
     return pageFile;
   }
 
-  public static void writeToPageFile(final MessageQueue queue, final InputStream inputStream, final boolean append) {
-
-    try {
-      final OutputStream outputStream
-          = new BufferedOutputStream(new FileOutputStream(getOrCreatePageFile(queue), append));
-
-      int read;
-      while ((read = inputStream.read()) != -1) outputStream.write(read);
-
-      outputStream.flush();
-      outputStream.close();
+  private static FileChannel openForWrite(final MessageQueue queue, final boolean append) throws IOException {
+    return FileChannel.open(getOrCreatePageFile(queue).toPath(), StandardOpenOption.WRITE,
+        append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+  }
 
+  public static void writeToPageFile(final MessageQueue queue, final InputStream inputStream, final boolean append) {
+    try (final FileChannel channel = openForWrite(queue, append)) {
+      final ReadableByteChannel source = Channels.newChannel(inputStream);
+
+      long position = channel.size();
+      long transferred;
+      while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+        position += transferred;
+        pagedOutBytes.addAndGet(transferred);
+      }
     }
     catch (IOException e) {
       throw new RuntimeException("paging error", e);
@@ -77,15 +100,19 @@ public final class PageUtil {
 
   public static boolean pageWaitingToDisk(final MessageQueue queue) {
     synchronized (queue.getPageLock()) {
-      try {
-        final boolean alreadyPaged = queue.isPaged();
+      final boolean alreadyPaged = queue.isPaged();
 
-        final OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(getOrCreatePageFile(queue), alreadyPaged));
-        final ByteWriteAdapter writeAdapter = new OutputStreamWriteAdapter(outputStream);
+      try (final FileChannel channel = openForWrite(queue, alreadyPaged)) {
+        final long sizeBefore = channel.size();
 
+        // stream the backlog straight into the page file rather than collecting it in memory first
+        final OutputStream outputStream =
+            new BufferedOutputStream(Channels.newOutputStream(channel), TRANSFER_CHUNK_SIZE);
+        final ByteWriteAdapter writeAdapter = new OutputStreamWriteAdapter(outputStream);
         queue.getBuffer().read(writeAdapter, queue.getBufferColor());
-        outputStream.flush();
-        outputStream.close();
+        writeAdapter.flush();
+
+        pagedOutBytes.addAndGet(channel.size() - sizeBefore);
 
         queue.setPaged(true);
 
@@ -109,17 +136,28 @@ public final class PageUtil {
             return;
           }
 
-          final InputStream inputStream = new BufferedInputStream(new FileInputStream(pageFile));
+          final long start = nanoTime();
+
+          try (final FileChannel channel = FileChannel.open(pageFile.toPath(), StandardOpenOption.READ)) {
+            final ByteBuffer chunk = ByteBuffer.allocate(TRANSFER_CHUNK_SIZE);
+            final byte[] array = chunk.array();
+
+            callback.before(outputStream);
 
-          callback.before(outputStream);
+            int read;
+            while ((read = channel.read(chunk)) != -1) {
+              for (int i = 0; i < read; i++) {
+                outputStream.write(callback.each(array[i] & 0xFF, outputStream));
+              }
+              chunk.clear();
+              pagedInBytes.addAndGet(read);
+            }
 
-          int read;
-          while ((read = inputStream.read()) != -1) {
-            outputStream.write(callback.each(read, outputStream));
+            callback.after(outputStream);
           }
-          inputStream.close();
 
-          callback.after(outputStream);
+          pageInCount.incrementAndGet();
+          pageInNanos.addAndGet(nanoTime() - start);
 
           queue.setPaged(false);
         }
@@ -149,4 +187,33 @@ public final class PageUtil {
     }
     return false;
   }
+
+  /**
+   * @return the total number of bytes written to page files.
+   */
+  public static long getPagedOutBytes() {
+    return pagedOutBytes.get();
+  }
+
+  /**
+   * @return the total number of bytes read back in from page files.
+   */
+  public static long getPagedInBytes() {
+    return pagedInBytes.get();
+  }
+
+  /**
+   * @return the total number of page files read back in.
+   */
+  public static long getPageInCount() {
+    return pageInCount.get();
+  }
+
+  /**
+   * @return the average time in nanoseconds taken to read in a page file, or 0 if nothing has been paged in.
+   */
+  public static long getAveragePageInNanos() {
+    final long count = pageInCount.get();
+    return count == 0 ? 0 : pageInNanos.get() / count;
+  }
 }
@@ -17,6 +17,7 @@
 package org.jboss.errai.bus.server.io;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 /**
  * @author Mike Brock
@@ -24,4 +25,16 @@ import java.io.IOException;
 public interface QueueChannel {
   public boolean isConnected();
   public void write(String data) throws IOException;
+
+  /**
+   * Writes UTF-8 encoded data to the channel. Channels that can send bytes directly should override this method to
+   * avoid decoding the data to a String first.
+   *
+   * @param data   - the buffer holding the UTF-8 encoded data
+   * @param offset - the offset of the data in the buffer
+   * @param length - the length of the data
+   */
+  public default void write(byte[] data, int offset, int length) throws IOException {
+    write(new String(data, offset, length, StandardCharsets.UTF_8));
+  }
 }
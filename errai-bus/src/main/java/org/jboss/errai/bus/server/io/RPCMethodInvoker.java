@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.server.io;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.slf4j.Logger;
+
+/**
+ * Invokes an RPC endpoint method through a {@link MethodHandle} that is built once, when the endpoint is created.
+ * Methods with up to five parameters are called without copying the arguments into an array.
+ * <p>
+ * Before each call, the target and the arguments are checked against the parameter types of the method. If they
+ * would need a conversion that only reflection performs (such as widening an <tt>Integer</tt> to a <tt>long</tt>),
+ * or if no method handle could be created for the method, the call falls back to {@link Method#invoke}.
+ * <p>
+ * The method handle is created from a copy of the method, so the {@link Method} passed in is not made accessible.
+ */
+public final class RPCMethodInvoker {
+  private static final Logger log = getLogger(RPCMethodInvoker.class);
+
+  private static final int MAX_DIRECT_ARGUMENTS = 5;
+
+  private final Method method;
+  private final Class<?> declaringClass;
+  private final Class<?>[] argumentTypes;
+  private final boolean[] primitiveArguments;
+  private final MethodHandle handle;
+
+  public RPCMethodInvoker(final Method method) {
+    this.method = method;
+    this.declaringClass = method.getDeclaringClass();
+    this.argumentTypes = method.getParameterTypes();
+    this.primitiveArguments = new boolean[argumentTypes.length];
+
+    // boxed types, so arguments can be checked with a single isInstance() call.
+    for (int i = 0; i < argumentTypes.length; i++) {
+      if (argumentTypes[i].isPrimitive()) {
+        primitiveArguments[i] = true;
+        argumentTypes[i] = MethodType.methodType(argumentTypes[i]).wrap().returnType();
+      }
+    }
+
+    this.handle = createHandle(method);
+  }
+
+  private static MethodHandle createHandle(final Method method) {
+    final int parameterCount = method.getParameterTypes().length;
+    try {
+      // Class.getDeclaredMethod() returns a new Method object on every call.
+      final Method copy = method.getDeclaringClass().getDeclaredMethod(method.getName(), method.getParameterTypes());
+      copy.setAccessible(true);
+
+      // a varargs method is called with its trailing array as it was sent, exactly as Method.invoke() does.
+      final MethodHandle methodHandle = MethodHandles.lookup().unreflect(copy).asFixedArity();
+      if (parameterCount <= MAX_DIRECT_ARGUMENTS) {
+        return methodHandle.asType(MethodType.genericMethodType(parameterCount + 1));
+      }
+      else {
+        return methodHandle.asSpreader(Object[].class, parameterCount)
+            .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+      }
+    }
+    catch (final Exception e) {
+      log.debug("could not create method handle for " + method + ". falling back to reflection.", e);
+      return null;
+    }
+  }
+
+  /**
+   * Invokes the method on the specified target.
+   *
+   * @param target    - the instance to invoke the method on
+   * @param arguments - the arguments, or null if the method has no parameters.
+   *
+   * @return the return value of the method, or null if it is a void method.
+   *
+   * @throws InvocationTargetException if the method threw an exception.
+   * @throws IllegalAccessException    if the method is inaccessible.
+   * @throws IllegalArgumentException  if the target or the arguments do not match the method.
+   */
+  public Object invoke(final Object target, final List<Object> arguments)
+      throws InvocationTargetException, IllegalAccessException {
+
+    if (handle == null || !isDirectlyInvokable(target, arguments)) {
+      return method.invoke(target, (arguments != null) ? arguments.toArray(new Object[arguments.size()]) : new Object[0]);
+    }
+
+    try {
+      switch (argumentTypes.length) {
+        case 0:
+          return handle.invokeExact(target);
+        case 1:
+          return handle.invokeExact(target, arguments.get(0));
+        case 2:
+          return handle.invokeExact(target, arguments.get(0), arguments.get(1));
+        case 3:
+          return handle.invokeExact(target, arguments.get(0), arguments.get(1), arguments.get(2));
+        case 4:
+          return handle.invokeExact(target, arguments.get(0), arguments.get(1), arguments.get(2), arguments.get(3));
+        case 5:
+          return handle.invokeExact(target, arguments.get(0), arguments.get(1), arguments.get(2), arguments.get(3),
+              arguments.get(4));
+        default:
+          return handle.invokeExact(target, arguments.toArray(new Object[arguments.size()]));
+      }
+    }
+    catch (final Throwable t) {
+      // the target and arguments were checked, so anything thrown here was thrown by the method itself.
+      throw new InvocationTargetException(t);
+    }
+  }
+
+  private boolean isDirectlyInvokable(final Object target, final List<Object> arguments) {
+    if (!declaringClass.isInstance(target)) {
+      return false;
+    }
+
+    final int size = (arguments != null) ? arguments.size() : 0;
+    if (size != argumentTypes.length) {
+      return false;
+    }
+
+    for (int i = 0; i < size; i++) {
+      final Object argument = arguments.get(i);
+      if (argument == null) {
+        if (primitiveArguments[i]) {
+          return false;
+        }
+      }
+      else if (!argumentTypes[i].isInstance(argument)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public Method getMethod() {
+    return method;
+  }
+}
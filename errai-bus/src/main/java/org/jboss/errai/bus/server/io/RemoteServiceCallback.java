@@ -48,10 +48,11 @@ public class RemoteServiceCallback implements MessageCallback {
    * @param message - the message in question
    */
   public void callback(Message message) {
-    if (!endpoints.containsKey(message.getCommandType())) {
+    final MessageCallback endpoint = endpoints.get(message.getCommandType());
+    if (endpoint == null) {
       throw new MessageDeliveryFailure("no such endpoint '" + message.getCommandType() + "' in service: " + message.getSubject());
     }
-    endpoints.get(message.getCommandType()).callback(message);
+    endpoint.callback(message);
   }
 
   public Set<String> getEndpoints() {
@@ -18,6 +18,7 @@ package org.jboss.errai.bus.server.io.buffers;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 
 import org.jboss.errai.bus.server.io.ByteWriteAdapter;
@@ -30,6 +31,12 @@ public interface Buffer {
 
   public void write(int writeSize, InputStream inputStream, BufferColor bufferColor) throws IOException;
 
+  public void write(CharSequence data, BufferColor bufferColor) throws IOException;
+
+  public void write(int writeSize, InputStream inputStream, Collection<BufferColor> bufferColors) throws IOException;
+
+  public void write(CharSequence data, Collection<BufferColor> bufferColors) throws IOException;
+
   public boolean read(ByteWriteAdapter outputStream, BufferColor bufferColor) throws IOException;
 
   public boolean read(ByteWriteAdapter outputStream, BufferColor bufferColor, BufferFilter callback) throws IOException;
@@ -31,6 +31,13 @@ public class BufferColor {
   private static final AtomicInteger bufferColorCounter = new AtomicInteger();
   private static final BufferColor allBuffersColor = new BufferColor(Short.MIN_VALUE);
 
+  /**
+   * The reserved color used to mark segments which are shared by a subset of colors.
+   *
+   * @see TransmissionBuffer#write(int, java.io.InputStream, java.util.Collection)
+   */
+  static final short MULTICAST_COLOR = Short.MIN_VALUE + 1;
+
   /**
    * The current tail position for this buffer color.
    */
@@ -92,8 +99,8 @@ public class BufferColor {
     short val = (short) bufferColorCounter.incrementAndGet();
 
     // in a long-running system, do not allow it to recycle over the global
-    // color.
-    if (val == Short.MIN_VALUE) {
+    // or multicast colors.
+    while (val == Short.MIN_VALUE || val == MULTICAST_COLOR) {
       val = (short) bufferColorCounter.incrementAndGet();
     }
 
@@ -21,9 +21,14 @@ import java.io.InputStream;
 import java.io.PrintWriter;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.jboss.errai.bus.server.io.ByteWriteAdapter;
@@ -55,6 +60,11 @@ public class TransmissionBuffer implements Buffer {
 
   private static final int SEGMENT_HEADER_SIZE = 4;                      /* to accommodate a 32-bit integer  */
 
+  /**
+   * Returned by {@link #findCommittedSegment} when the scan stops at a segment which is still being written to.
+   */
+  private static final long STALLED = -2;
+
   /**
    * The main buffer where the data is stored
    */
@@ -65,6 +75,18 @@ public class TransmissionBuffer implements Buffer {
    */
   private final short[] segmentMap;
 
+  /**
+   * The sorted member colors of segments allocated to the {@link BufferColor#MULTICAST_COLOR}. Entries are only
+   * meaningful where the corresponding entry in the {@link #segmentMap} is the multicast color. This map is
+   * allocated on the first multicast write, so buffers which are never multicast to do not pay for it.
+   */
+  private volatile short[][] multicastMap;
+
+  /**
+   * Lock used to serialize multicast writes.
+   */
+  private final ReentrantLock multicastLock = new ReentrantLock(false);
+
   /**
    * The absolute size (in bytes) of the buffer
    */
@@ -104,6 +126,38 @@ public class TransmissionBuffer implements Buffer {
    */
   private volatile long headSequence = STARTING_SEQUENCE;
 
+  /**
+   * The sequence number of the first segment of the chunk most recently written to each segment. An entry is only
+   * set once the chunk has been completely written, so a reader which observes that the entry for a segment equals
+   * the segment's sequence number can safely read the chunk without holding the color lock. This is only allocated
+   * when lock-free reads are enabled.
+   */
+  private volatile AtomicLongArray segmentCommits;
+
+  /**
+   * The colors of lock-free readers which are waiting behind a segment that is still being written to. Such a
+   * segment may belong to another color, whose writer does not signal this color's readers, so every writer wakes
+   * the readers in this queue once its chunk has been committed.
+   */
+  private final Queue<BufferColor> stalledReaders = new ConcurrentLinkedQueue<BufferColor>();
+
+  /**
+   * If true, readers do not take the color lock unless they have to wait for data.
+   *
+   * @see #setLockFreeReads(boolean)
+   */
+  private volatile boolean lockFreeReads;
+
+  /**
+   * The maximum number of bytes a lock-free reader drains in one pass.
+   */
+  private volatile int maxBatchBytes = Integer.MAX_VALUE;
+
+  /**
+   * The time a waiting lock-free reader lingers for more data once some data is available.
+   */
+  private volatile long maxBatchLatencyNanos;
+
   private TransmissionBuffer(final boolean directBuffer, final int segmentSize, final int segments) {
     this.segmentSize = segmentSize;
     this.bufferSize = segmentSize * segments;
@@ -211,44 +265,336 @@ public class TransmissionBuffer implements Buffer {
     final ReentrantLock lock = bufferColor.lock;
     lock.lock();
     try {
-      final int allocSize = (int) (((long) writeSize + (long) SEGMENT_HEADER_SIZE) / segmentSize) + 1;
-      final long writeHead = writeSequenceNumber.getAndAdd(allocSize);
-      final int seq = (int) (writeHead % segments);
+      final long writeHead = allocate(writeSize, bufferColor.color, null);
+      copyIn(writeHead, writeSize, inputStream);
+      commit(writeHead, writeSize);
+      headSequence = writeHead + allocSize(writeSize);
+    }
+    finally {
+      try {
+        bufferColor.wake();
+      }
+      finally {
+        lock.unlock();
+      }
+    }
 
-      int writeCursor = seq * segmentSize;
+    wakeStalledReaders();
+  }
 
-      // write the chunk size header for the data we're about to write
-      writeChunkSize(writeCursor, writeSize);
+  /**
+   * Encodes the specified character data as UTF-8 directly into the buffer, without materializing an intermediate
+   * byte array or stream.
+   *
+   * @param data
+   *     the character data to be encoded into the buffer.
+   * @param bufferColor
+   *     the color of the data to be inserted.
+   *
+   * @throws IOException
+   */
+  @Override
+  public void write(final CharSequence data, final BufferColor bufferColor) throws IOException {
+    final int writeSize = utf8Length(data);
 
-      final int end = (writeCursor += SEGMENT_HEADER_SIZE) + writeSize;
-      final int initialRead = end > bufferSize ? bufferSize : end;
+    if (writeSize > bufferSize) {
+      throw new IOException("write size larger than buffer can fit");
+    }
 
-      /*
-      * Allocate the segments to the this color
-      */
-      final short color = bufferColor.color;
-      for (int i = 0; i < allocSize; i++) {
-        segmentMap[((seq + i) % segments)] = color;
+    final ReentrantLock lock = bufferColor.lock;
+    lock.lock();
+    try {
+      final long writeHead = allocate(writeSize, bufferColor.color, null);
+      encodeIn(writeHead, data);
+      commit(writeHead, writeSize);
+      headSequence = writeHead + allocSize(writeSize);
+    }
+    finally {
+      try {
+        bufferColor.wake();
+      }
+      finally {
+        lock.unlock();
       }
+    }
+
+    wakeStalledReaders();
+  }
 
-      for (; writeCursor < initialRead; writeCursor++) {
-        _buffer.put(writeCursor, (byte) inputStream.read());
+  /**
+   * Writes from an {@link InputStream} into the buffer once, making the data visible to each of the specified
+   * {@param bufferColors}. This avoids encoding and copying the same data once for every color when it is destined
+   * for a subset of all colors. Readers of each member color are woken after the write.
+   *
+   * @param writeSize
+   *     the size in bytes to be allocated.
+   * @param inputStream
+   *     the input stream to read into the buffer.
+   * @param bufferColors
+   *     the colors the data is to be made visible to.
+   *
+   * @throws IOException
+   */
+  @Override
+  public void write(final int writeSize,
+                    final InputStream inputStream,
+                    final Collection<BufferColor> bufferColors) throws IOException {
+
+    if (writeSize > bufferSize) {
+      throw new IOException("write size larger than buffer can fit");
+    }
+
+    final short[] members = getMembers(bufferColors);
+
+    multicastLock.lock();
+    try {
+      if (multicastMap == null) {
+        multicastMap = new short[segments][];
       }
 
-      if (writeCursor < end) {
-        for (int i = 0; i < end - bufferSize; i++) {
-          _buffer.put(i, (byte) inputStream.read());
-        }
+      final long writeHead = allocate(writeSize, BufferColor.MULTICAST_COLOR, members);
+      copyIn(writeHead, writeSize, inputStream);
+      commit(writeHead, writeSize);
+      headSequence = writeHead + allocSize(writeSize);
+    }
+    finally {
+      multicastLock.unlock();
+    }
+
+    wakeAll(bufferColors);
+    wakeStalledReaders();
+  }
+
+  /**
+   * Encodes the specified character data as UTF-8 directly into the buffer once, making the data visible to each
+   * of the specified {@param bufferColors}.
+   *
+   * @param data
+   *     the character data to be encoded into the buffer.
+   * @param bufferColors
+   *     the colors the data is to be made visible to.
+   *
+   * @throws IOException
+   */
+  @Override
+  public void write(final CharSequence data, final Collection<BufferColor> bufferColors) throws IOException {
+    final int writeSize = utf8Length(data);
+
+    if (writeSize > bufferSize) {
+      throw new IOException("write size larger than buffer can fit");
+    }
+
+    final short[] members = getMembers(bufferColors);
+
+    multicastLock.lock();
+    try {
+      if (multicastMap == null) {
+        multicastMap = new short[segments][];
       }
 
-      headSequence = writeHead + allocSize;
+      final long writeHead = allocate(writeSize, BufferColor.MULTICAST_COLOR, members);
+      encodeIn(writeHead, data);
+      commit(writeHead, writeSize);
+      headSequence = writeHead + allocSize(writeSize);
     }
     finally {
+      multicastLock.unlock();
+    }
+
+    wakeAll(bufferColors);
+    wakeStalledReaders();
+  }
+
+  private int allocSize(final int writeSize) {
+    return (int) (((long) writeSize + (long) SEGMENT_HEADER_SIZE) / segmentSize) + 1;
+  }
+
+  /**
+   * Allocates the segments needed for a chunk of the specified size to the specified color, and writes the chunk
+   * size header. Must be called while holding the write lock for the color.
+   *
+   * @param writeSize
+   *     the size in bytes to be allocated.
+   * @param color
+   *     the color to allocate the segments to.
+   * @param members
+   *     the sorted member colors if the segments are allocated to the multicast color, otherwise null.
+   *
+   * @return the sequence number of the first allocated segment.
+   */
+  private long allocate(final int writeSize, final short color, final short[] members) {
+    final int allocSize = allocSize(writeSize);
+    final long writeHead = writeSequenceNumber.getAndAdd(allocSize);
+    final int seq = (int) (writeHead % segments);
+
+    // write the chunk size header for the data we're about to write
+    writeChunkSize(seq * segmentSize, writeSize);
+
+    /*
+    * Allocate the segments to the this color. The member colors are published before the segments are
+    * marked as multicast segments.
+    */
+    final short[][] multicastMap = this.multicastMap;
+    for (int i = 0; i < allocSize; i++) {
+      final int segment = (seq + i) % segments;
+      if (multicastMap != null) {
+        multicastMap[segment] = members;
+      }
+      segmentMap[segment] = color;
+    }
+
+    return writeHead;
+  }
+
+  /**
+   * Publishes the completely written chunk starting at the specified sequence to lock-free readers.
+   */
+  private void commit(final long writeHead, final int writeSize) {
+    final AtomicLongArray segmentCommits = this.segmentCommits;
+    if (segmentCommits == null) {
+      return;
+    }
+
+    // the first segment is published last, so a reader which sees it also sees the rest of the chunk. it is
+    // published with a volatile write, so that a stalled reader either sees it or is seen by wakeStalledReaders().
+    for (int i = allocSize(writeSize) - 1; i > 0; i--) {
+      segmentCommits.lazySet((int) ((writeHead + i) % segments), writeHead);
+    }
+    segmentCommits.set((int) (writeHead % segments), writeHead);
+  }
+
+  private void copyIn(final long writeHead, final int writeSize, final InputStream inputStream) throws IOException {
+    int writeCursor = (int) (writeHead % segments) * segmentSize + SEGMENT_HEADER_SIZE;
+
+    final int end = writeCursor + writeSize;
+    final int initialRead = end > bufferSize ? bufferSize : end;
+
+    for (; writeCursor < initialRead; writeCursor++) {
+      _buffer.put(writeCursor, (byte) inputStream.read());
+    }
+
+    if (writeCursor < end) {
+      for (int i = 0; i < end - bufferSize; i++) {
+        _buffer.put(i, (byte) inputStream.read());
+      }
+    }
+  }
+
+  /**
+   * Encodes the specified characters as UTF-8 into the chunk starting at the specified sequence, wrapping around
+   * the end of the buffer if necessary. Unpaired surrogates are replaced with <tt>'?'</tt>, consistent with
+   * {@link String#getBytes(String)}.
+   */
+  private void encodeIn(final long writeHead, final CharSequence data) {
+    int writeCursor = (int) (writeHead % segments) * segmentSize + SEGMENT_HEADER_SIZE;
+
+    final int length = data.length();
+    for (int i = 0; i < length; i++) {
+      final char c = data.charAt(i);
+
+      if (c < 0x80) {
+        writeCursor = put(writeCursor, c);
+      }
+      else if (c < 0x800) {
+        writeCursor = put(writeCursor, 0xC0 | (c >> 6));
+        writeCursor = put(writeCursor, 0x80 | (c & 0x3F));
+      }
+      else if (Character.isSurrogate(c)) {
+        if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(data.charAt(i + 1))) {
+          final int codePoint = Character.toCodePoint(c, data.charAt(++i));
+          writeCursor = put(writeCursor, 0xF0 | (codePoint >> 18));
+          writeCursor = put(writeCursor, 0x80 | ((codePoint >> 12) & 0x3F));
+          writeCursor = put(writeCursor, 0x80 | ((codePoint >> 6) & 0x3F));
+          writeCursor = put(writeCursor, 0x80 | (codePoint & 0x3F));
+        }
+        else {
+          writeCursor = put(writeCursor, '?');
+        }
+      }
+      else {
+        writeCursor = put(writeCursor, 0xE0 | (c >> 12));
+        writeCursor = put(writeCursor, 0x80 | ((c >> 6) & 0x3F));
+        writeCursor = put(writeCursor, 0x80 | (c & 0x3F));
+      }
+    }
+  }
+
+  private int put(int writeCursor, final int b) {
+    if (writeCursor >= bufferSize) {
+      writeCursor -= bufferSize;
+    }
+    _buffer.put(writeCursor, (byte) b);
+    return writeCursor + 1;
+  }
+
+  /**
+   * Returns the number of bytes required to encode the specified characters as UTF-8.
+   */
+  private static int utf8Length(final CharSequence data) {
+    final int length = data.length();
+    int size = length;
+
+    for (int i = 0; i < length; i++) {
+      final char c = data.charAt(i);
+
+      if (c >= 0x80) {
+        if (c < 0x800) {
+          size++;
+        }
+        else if (Character.isSurrogate(c)) {
+          if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(data.charAt(i + 1))) {
+            // the pair of chars encodes as four bytes
+            size += 2;
+            i++;
+          }
+        }
+        else {
+          size += 2;
+        }
+      }
+    }
+
+    return size;
+  }
+
+  private static short[] getMembers(final Collection<BufferColor> bufferColors) {
+    final short[] members = new short[bufferColors.size()];
+    int i = 0;
+    for (final BufferColor bufferColor : bufferColors) {
+      members[i++] = bufferColor.color;
+    }
+    Arrays.sort(members);
+    return members;
+  }
+
+  /**
+   * Wakes the lock-free readers which are waiting behind a segment that was still being written to. Must be called
+   * after the chunk has been committed and without holding any color lock.
+   */
+  private void wakeStalledReaders() {
+    if (stalledReaders.isEmpty()) {
+      return;
+    }
+
+    for (final BufferColor bufferColor : stalledReaders) {
+      bufferColor.lock.lock();
       try {
         bufferColor.wake();
       }
       finally {
-        lock.unlock();
+        bufferColor.lock.unlock();
+      }
+    }
+  }
+
+  private static void wakeAll(final Collection<BufferColor> bufferColors) {
+    for (final BufferColor bufferColor : bufferColors) {
+      bufferColor.lock.lock();
+      try {
+        bufferColor.wake();
+      }
+      finally {
+        bufferColor.lock.unlock();
       }
     }
   }
@@ -267,6 +613,10 @@ public class TransmissionBuffer implements Buffer {
    */
   @Override
   public boolean read(final ByteWriteAdapter outputStream, final BufferColor bufferColor) throws IOException {
+    if (lockFreeReads) {
+      return drain(outputStream, bufferColor, null);
+    }
+
     long lastSeq = -1l;
 
     try {
@@ -346,6 +696,13 @@ public class TransmissionBuffer implements Buffer {
                       final BufferFilter callback,
                       final long sequence) throws IOException {
 
+    if (lockFreeReads) {
+      callback.before(outputStream);
+      final boolean read = drain(outputStream, bufferColor, callback);
+      callback.after(outputStream);
+      return read;
+    }
+
     // attempt to obtain this color's read lock
     if (bufferColor.lock.tryLock()) {
       try {
@@ -401,6 +758,10 @@ public class TransmissionBuffer implements Buffer {
   @Override
   public boolean readWait(final ByteWriteAdapter outputStream,
                           final BufferColor bufferColor) throws InterruptedException, IOException {
+    if (lockFreeReads) {
+      return readWaitLockFree(Long.MAX_VALUE, outputStream, bufferColor, null);
+    }
+
     bufferColor.lock.lockInterruptibly();
 
     try {
@@ -461,6 +822,10 @@ public class TransmissionBuffer implements Buffer {
                           final long time,
                           final ByteWriteAdapter outputStream,
                           final BufferColor bufferColor) throws IOException, InterruptedException {
+    if (lockFreeReads) {
+      return readWaitLockFree(unit.toNanos(time), outputStream, bufferColor, null);
+    }
+
     final ReentrantLock lock = bufferColor.getLock();
     lock.lockInterruptibly();
 
@@ -547,6 +912,13 @@ public class TransmissionBuffer implements Buffer {
                           final ByteWriteAdapter outputStream,
                           final BufferColor bufferColor,
                           final BufferFilter callback) throws IOException, InterruptedException {
+    if (lockFreeReads) {
+      callback.before(outputStream);
+      final boolean read = readWaitLockFree(time == -1 ? 1 : unit.toNanos(time), outputStream, bufferColor, callback);
+      callback.after(outputStream);
+      return read;
+    }
+
     final ReentrantLock lock = bufferColor.lock;
     lock.lockInterruptibly();
 
@@ -586,6 +958,243 @@ public class TransmissionBuffer implements Buffer {
     }
   }
 
+  /**
+   * Enables or disables lock-free reads. When enabled, readers check which chunks are visible using the sequence
+   * numbers of the buffer instead of taking the color lock, claim the chunks they are about to read by advancing
+   * the tail sequence of their color with a single compare-and-set, and only take the color lock when they have to
+   * wait for data. Writers are never blocked by a reader that is draining the buffer.
+   * <p>
+   * A color must not be read in both modes at the same time, and lock-free reads can only be enabled before any data
+   * is written to the buffer.
+   *
+   * @param lockFreeReads
+   *     true to enable lock-free reads.
+   *
+   * @throws IllegalStateException
+   *     if lock-free reads are enabled after data has been written to the buffer.
+   */
+  public void setLockFreeReads(final boolean lockFreeReads) {
+    if (lockFreeReads && segmentCommits == null) {
+      if (writeSequenceNumber.get() != STARTING_SEQUENCE) {
+        throw new IllegalStateException("lock-free reads must be enabled before the buffer is written to");
+      }
+
+      final AtomicLongArray commits = new AtomicLongArray(segments);
+      for (int i = 0; i < segments; i++) {
+        commits.set(i, Long.MIN_VALUE);
+      }
+      segmentCommits = commits;
+    }
+    this.lockFreeReads = lockFreeReads;
+  }
+
+  public boolean isLockFreeReads() {
+    return lockFreeReads;
+  }
+
+  /**
+   * Configures how lock-free readers batch their reads.
+   *
+   * @param maxBatchBytes
+   *     the maximum number of bytes drained in one pass. A chunk is always drained in full, so a single chunk larger
+   *     than this is still read in one pass.
+   * @param maxBatchLatency
+   *     the maximum time a waiting reader lingers for more data once some data has become available, so that bursts
+   *     of small writes are read in a single pass. Zero disables lingering.
+   * @param unit
+   *     the unit of <tt>maxBatchLatency</tt>.
+   */
+  public void setBatching(final int maxBatchBytes, final long maxBatchLatency, final TimeUnit unit) {
+    this.maxBatchBytes = maxBatchBytes <= 0 ? Integer.MAX_VALUE : maxBatchBytes;
+    this.maxBatchLatencyNanos = unit.toNanos(maxBatchLatency);
+  }
+
+  /**
+   * Drains the available chunks of the specified color, up to the configured maximum batch size, without taking the
+   * color lock.
+   *
+   * @return true if any data was read.
+   */
+  private boolean drain(final ByteWriteAdapter outputStream,
+                        final BufferColor bufferColor,
+                        final BufferFilter callback) throws IOException {
+    final int maxBytes = maxBatchBytes;
+
+    for (; ; ) {
+      final long start = bufferColor.sequence.get();
+      final long limit = writeSequenceNumber.get();
+
+      long seq = start;
+      long end = -1;
+      long bytes = 0;
+      while ((seq = getNextCommittedSegment(bufferColor, limit, seq)) != -1) {
+        final int readSize = readChunkSize((int) (seq % segments) * segmentSize);
+        if (end != -1 && bytes + readSize > maxBytes) {
+          break;
+        }
+        bytes += readSize;
+        seq = end = seq + allocSize(readSize);
+      }
+
+      if (end == -1) {
+        return false;
+      }
+
+      // claim the chunks. if another reader of this color got there first, start over.
+      if (!bufferColor.sequence.compareAndSet(start, end)) {
+        continue;
+      }
+
+      seq = start;
+      while ((seq = getNextCommittedSegment(bufferColor, end, seq)) != -1) {
+        seq = copyChunk(seq, outputStream, callback);
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Waits up to the specified time for data of the specified color, and drains it without taking the color lock.
+   *
+   * @return true if any data was read.
+   */
+  private boolean readWaitLockFree(final long timeoutNanos,
+                                   final ByteWriteAdapter outputStream,
+                                   final BufferColor bufferColor,
+                                   final BufferFilter callback) throws IOException, InterruptedException {
+    long nanos = timeoutNanos;
+
+    for (; ; ) {
+      if (maxBatchLatencyNanos > 0 && hasCommittedData(bufferColor)) {
+        awaitBatch(bufferColor);
+      }
+
+      if (drain(outputStream, bufferColor, callback)) {
+        return true;
+      }
+      else if (nanos <= 0) {
+        return false;
+      }
+
+      final ReentrantLock lock = bufferColor.lock;
+      lock.lockInterruptibly();
+      boolean stalled = false;
+      try {
+        // check again while holding the lock, as writers signal while holding it.
+        long next = findCommittedSegment(bufferColor, writeSequenceNumber.get(), bufferColor.sequence.get());
+        if (next == STALLED) {
+          // the writer of the segment we are stuck behind may be writing to another color, and only signals that
+          // color's readers. register to be woken by any commit, then check again in case we missed it.
+          stalled = stalledReaders.add(bufferColor);
+          next = findCommittedSegment(bufferColor, writeSequenceNumber.get(), bufferColor.sequence.get());
+        }
+        if (next < 0) {
+          nanos = bufferColor.dataWaiting.awaitNanos(nanos);
+        }
+      }
+      catch (final InterruptedException e) {
+        bufferColor.dataWaiting.signal();
+        throw e;
+      }
+      finally {
+        if (stalled) {
+          stalledReaders.remove(bufferColor);
+        }
+        lock.unlock();
+      }
+    }
+  }
+
+  private boolean hasCommittedData(final BufferColor bufferColor) {
+    return getNextCommittedSegment(bufferColor, writeSequenceNumber.get(), bufferColor.sequence.get()) != -1;
+  }
+
+  /**
+   * Lingers for up to the maximum batch latency, or until the maximum batch size is available.
+   */
+  private void awaitBatch(final BufferColor bufferColor) throws InterruptedException {
+    long nanos = maxBatchLatencyNanos;
+
+    final ReentrantLock lock = bufferColor.lock;
+    lock.lockInterruptibly();
+    try {
+      while (nanos > 0 && getAvailableBytes(bufferColor) < maxBatchBytes) {
+        nanos = bufferColor.dataWaiting.awaitNanos(nanos);
+      }
+    }
+    catch (final InterruptedException e) {
+      bufferColor.dataWaiting.signal();
+      throw e;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of bytes of data of the specified color that are visible to lock-free readers, counting no
+   * further than the maximum batch size.
+   */
+  private long getAvailableBytes(final BufferColor bufferColor) {
+    final long limit = writeSequenceNumber.get();
+    long bytes = 0;
+    long seq = bufferColor.sequence.get();
+    while (bytes < maxBatchBytes && (seq = getNextCommittedSegment(bufferColor, limit, seq)) != -1) {
+      final int readSize = readChunkSize((int) (seq % segments) * segmentSize);
+      bytes += readSize;
+      seq += allocSize(readSize);
+    }
+    return bytes;
+  }
+
+  /**
+   * Returns the next segment containing completely written data for the specified {@param bufferColor}, up to the
+   * specified {@param headSeq}, from the specified {@param colorSeq}. Unlike {@link #getNextSegment}, this does not
+   * require the color lock: the scan stops at the first segment which has not been completely written yet.
+   *
+   * @return the sequence of the first segment of the chunk to read, or -1 if there is none.
+   */
+  private long getNextCommittedSegment(final BufferColor bufferColor, final long headSeq, final long colorSeq) {
+    final long next = findCommittedSegment(bufferColor, headSeq, colorSeq);
+    return next == STALLED ? -1 : next;
+  }
+
+  /**
+   * Like {@link #getNextCommittedSegment}, but distinguishes the scan stopping at a segment which has not been
+   * completely written yet.
+   *
+   * @return the sequence of the first segment of the chunk to read, {@link #STALLED} if the scan stopped at a
+   * segment which is still being written to, or -1 if there is no data for the color.
+   */
+  private long findCommittedSegment(final BufferColor bufferColor, final long headSeq, long colorSeq) {
+    final AtomicLongArray segmentCommits = this.segmentCommits;
+    for (final int color = bufferColor.getColor(); colorSeq < headSeq; colorSeq++) {
+      final int segment = (int) (colorSeq % segments);
+      final long chunkStart = segmentCommits.get(segment);
+
+      if (chunkStart == colorSeq) {
+        final short seg = segmentMap[segment];
+
+        if (seg == color || seg == Short.MIN_VALUE) {
+          return colorSeq;
+        }
+        else if (seg == BufferColor.MULTICAST_COLOR) {
+          final short[] members = multicastMap[segment];
+          if (members != null && Arrays.binarySearch(members, (short) color) >= 0) {
+            return colorSeq;
+          }
+        }
+      }
+      else if (chunkStart <= colorSeq - segments) {
+        // the segment is still being written to (or has never been written to).
+        return STALLED;
+      }
+      // otherwise the segment is part of a chunk which started in an earlier segment, or the reader has been lapped
+      // and the segment has already been overwritten.
+    }
+    return -1;
+  }
+
   @Override
   public long getHeadSequence() {
     return headSequence;
@@ -631,6 +1240,12 @@ public class TransmissionBuffer implements Buffer {
       if (seg == color || seg == Short.MIN_VALUE) {
         return colorSeq;
       }
+      else if (seg == BufferColor.MULTICAST_COLOR) {
+        final short[] members = multicastMap[(int) (colorSeq % segments)];
+        if (members != null && Arrays.binarySearch(members, (short) color) >= 0) {
+          return colorSeq;
+        }
+      }
     }
     return -1;
   }
@@ -665,6 +1280,32 @@ public class TransmissionBuffer implements Buffer {
 
     final long sequenceToRead = getNextSegment(color, head, sequence);
     if (sequenceToRead != -1) {
+      return copyChunk(sequenceToRead, outputStream, callback);
+    }
+    else {
+      return -1;
+    }
+  }
+
+  /**
+   * Copies the chunk starting at the specified sequence into the provided <tt>OutputStream</tt>.
+   *
+   * @param sequenceToRead
+   *     the sequence of the first segment of the chunk.
+   * @param outputStream
+   *     the <tt>OutputStream</tt> to read into.
+   * @param callback
+   *     an optional {@link BufferFilter}.
+   *
+   * @return returns the segment position after reading + 1.
+   *
+   * @throws IOException
+   *     thrown if data cannot be read from the buffer or written to the OutputStream.
+   */
+  private long copyChunk(final long sequenceToRead,
+                         final ByteWriteAdapter outputStream,
+                         final BufferFilter callback) throws IOException {
+    {
       int readCursor = (int) (sequenceToRead % segments) * segmentSize;
 
       final int readSize = readChunkSize(readCursor);
@@ -708,9 +1349,6 @@ public class TransmissionBuffer implements Buffer {
       // Need to cast before adding incase readSize + SEGMENT_HEADER_SIZE is bigger than Integegr.MAX_VALUE
       return sequenceToRead + (((long) readSize + (long) SEGMENT_HEADER_SIZE) / segmentSize) + 1;
     }
-    else {
-      return -1;
-    }
   }
 
   /**
@@ -16,8 +16,13 @@
 
 package org.jboss.errai.bus.server.io.websockets;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.util.CharsetUtil;
 import org.jboss.errai.bus.server.io.QueueChannel;
 
 /**
@@ -26,9 +31,20 @@ import org.jboss.errai.bus.server.io.QueueChannel;
  */
 public class NettyQueueChannel implements QueueChannel {
   final Channel channel;
+  final boolean binaryFrames;
 
   public NettyQueueChannel(Channel channel) {
+    this(channel, false);
+  }
+
+  /**
+   * @param channel      - the netty channel to write to
+   * @param binaryFrames - true if messages should be sent as binary frames holding the UTF-8 encoded JSON, rather
+   *                     than as text frames.
+   */
+  public NettyQueueChannel(Channel channel, boolean binaryFrames) {
     this.channel = channel;
+    this.binaryFrames = binaryFrames;
   }
 
   @Override
@@ -38,7 +54,23 @@ public class NettyQueueChannel implements QueueChannel {
 
   @Override
   public void write(String data) {
-    channel.writeAndFlush(new TextWebSocketFrame(data));
+    if (binaryFrames) {
+      write(Unpooled.copiedBuffer(data, CharsetUtil.UTF_8));
+    }
+    else {
+      channel.writeAndFlush(new TextWebSocketFrame(data));
+    }
+  }
+
+  @Override
+  public void write(byte[] data, int offset, int length) {
+    // the bytes are already UTF-8 encoded, so they can be wrapped without a copy regardless of the frame type.
+    write(Unpooled.wrappedBuffer(data, offset, length));
+  }
+
+  private void write(ByteBuf content) {
+    final WebSocketFrame frame = binaryFrames ? new BinaryWebSocketFrame(content) : new TextWebSocketFrame(content);
+    channel.writeAndFlush(frame);
   }
 
 }
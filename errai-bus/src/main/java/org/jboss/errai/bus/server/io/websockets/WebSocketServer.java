@@ -25,6 +25,9 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.websocketx.WebSocketFrameAggregator;
+import io.netty.handler.codec.http.websocketx.extensions.compression.WebSocketServerCompressionHandler;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.ssl.SslHandler;
 
 import org.jboss.errai.bus.server.io.websockets.ssl.SslHandlerFactory;
@@ -50,6 +53,8 @@ public class WebSocketServer {
     final ErraiServiceConfigurator esc = svc.getConfiguration();
     useSecureWebSocket = ErraiConfigAttribs.SECURE_WEB_SOCKET_SERVER.getBoolean(esc);
     final int port = ErraiConfigAttribs.WEB_SOCKET_PORT.getInt(esc);
+    final int maxFrameSize = ErraiConfigAttribs.WEB_SOCKET_MAX_FRAME_SIZE.getInt(esc);
+    final boolean compression = ErraiConfigAttribs.WEB_SOCKET_COMPRESSION.getBoolean(esc);
     final ServerBootstrap bootstrap = new ServerBootstrap();
     final WebSocketServerHandler webSocketHandler = new WebSocketServerHandler(svc);
 
@@ -64,8 +69,15 @@ public class WebSocketServer {
                     final SslHandler sslHandler = SslHandlerFactory.buildSslHandler(esc);
                     ch.pipeline().addLast("ssl", sslHandler);
                   }
+                  // coalesce the flushes of a burst of messages into a single write to the socket.
+                  ch.pipeline().addLast("flush-consolidation", new FlushConsolidationHandler(
+                      FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true));
                   ch.pipeline().addLast("codec-http", new HttpServerCodec());
-                  ch.pipeline().addLast("aggregator", new HttpObjectAggregator(65536));
+                  ch.pipeline().addLast("aggregator", new HttpObjectAggregator(maxFrameSize));
+                  if (compression) {
+                    ch.pipeline().addLast("ws-compression", new WebSocketServerCompressionHandler());
+                  }
+                  ch.pipeline().addLast("ws-aggregator", new WebSocketFrameAggregator(maxFrameSize));
                   ch.pipeline().addLast("handler", webSocketHandler);
                 }
 
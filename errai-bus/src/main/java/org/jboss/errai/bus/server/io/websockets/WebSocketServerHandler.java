@@ -22,6 +22,7 @@ import static io.netty.handler.codec.http.HttpMethod.GET;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -34,6 +35,7 @@ import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PingWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PongWebSocketFrame;
@@ -84,6 +86,7 @@ import org.jboss.errai.marshalling.client.api.json.EJObject;
 import org.jboss.errai.marshalling.client.api.json.EJString;
 import org.jboss.errai.marshalling.client.api.json.EJValue;
 import org.jboss.errai.marshalling.server.JSONDecoder;
+import org.jboss.errai.marshalling.server.JSONStreamDecoder;
 
 /**
  * The working prototype ErraiBus Websocket Server.
@@ -99,9 +102,13 @@ public class WebSocketServerHandler extends SimpleChannelInboundHandler {
 
   private WebSocketServerHandshaker handshaker = null;
   private final ErraiService svc;
+  private final boolean compression;
+  private final boolean binaryFrames;
 
   public WebSocketServerHandler(final ErraiService bus) {
     this.svc = bus;
+    this.compression = ErraiConfigAttribs.WEB_SOCKET_COMPRESSION.getBoolean(bus.getConfiguration());
+    this.binaryFrames = ErraiConfigAttribs.WEB_SOCKET_BINARY_FRAMES.getBoolean(bus.getConfiguration());
   }
 
   @Override
@@ -130,7 +137,7 @@ public class WebSocketServerHandler extends SimpleChannelInboundHandler {
 
     // Handshake
     final WebSocketServerHandshakerFactory wsFactory = new WebSocketServerHandshakerFactory(
-        this.getWebSocketLocation(req), null, false, maxFrameSize);
+        this.getWebSocketLocation(req), null, compression, maxFrameSize);
     this.handshaker = wsFactory.newHandshaker(req);
     if (this.handshaker == null) {
       wsFactory.sendUnsupportedWebSocketVersionResponse(ctx.channel());
@@ -140,7 +147,7 @@ public class WebSocketServerHandler extends SimpleChannelInboundHandler {
     }
   }
 
-  private void handleWebSocketFrame(final ChannelHandlerContext ctx, final WebSocketFrame frame) {
+  private void handleWebSocketFrame(final ChannelHandlerContext ctx, final WebSocketFrame frame) throws IOException {
     // Check for closing frame
     if (frame instanceof CloseWebSocketFrame) {
       activeChannels.remove(ctx.channel());
@@ -152,13 +159,20 @@ public class WebSocketServerHandler extends SimpleChannelInboundHandler {
       ctx.channel().write(new PongWebSocketFrame(frame.content().retain()));
       return;
     }
-    if (!(frame instanceof TextWebSocketFrame)) {
+
+    final EJValue val;
+    if (frame instanceof TextWebSocketFrame) {
+      val = JSONDecoder.decode(((TextWebSocketFrame) frame).text());
+    }
+    else if (frame instanceof BinaryWebSocketFrame) {
+      // binary frames carry the UTF-8 encoded JSON payload.
+      val = JSONStreamDecoder.decode(new ByteBufInputStream(frame.content()));
+    }
+    else {
       throw new UnsupportedOperationException(String.format("%s frame types not supported", frame.getClass()
           .getName()));
     }
 
-    @SuppressWarnings("unchecked") final EJValue val = JSONDecoder.decode(((TextWebSocketFrame) frame).text());
-
     final QueueSession session;
 
     // this is not an active channel.
@@ -194,7 +208,7 @@ public class WebSocketServerHandler extends SimpleChannelInboundHandler {
               WEBSOCKET_ACTIVE.equals(localContext.getAttribute(String.class, SESSION_ATTR_WS_STATUS))) {
 
             final MessageQueue queueBySession = svc.getBus().getQueueBySession(sessionKey);
-            queueBySession.setDeliveryHandler(DirectDeliveryHandler.createFor(new NettyQueueChannel(ctx.channel())));
+            queueBySession.setDeliveryHandler(DirectDeliveryHandler.createFor(new NettyQueueChannel(ctx.channel(), binaryFrames)));
 
             // open the channel
             activeChannels.put(ctx.channel(), session);
@@ -64,6 +64,31 @@ public enum ErraiConfigAttribs {
    */
   BUS_BUFFER_ALLOCATION_MODE("errai.bus.buffer_allocation_mode", "direct"),
 
+  /**
+   * When true, long-polls and other readers of the transmission buffer read without taking the lock of their queue,
+   * so they never block writers while draining. The lock is only taken to wait for new data.
+   * <p/>
+   * Default value: false
+   */
+  BUS_BUFFER_LOCK_FREE_READS("errai.bus.buffer_lock_free_reads", "false"),
+
+  /**
+   * The maximum number of bytes a lock-free reader drains from the transmission buffer in one pass. Zero means
+   * no limit.
+   * <p/>
+   * Default value: 0
+   */
+  BUS_BUFFER_MAX_BATCH_BYTES("errai.bus.buffer_max_batch_bytes", "0"),
+
+  /**
+   * The maximum time, in milliseconds, a waiting lock-free reader lingers once data has arrived, to collect more
+   * data (up to {@link #BUS_BUFFER_MAX_BATCH_BYTES}) before it is sent. Zero means data is sent as soon as it
+   * arrives.
+   * <p/>
+   * Default value: 0
+   */
+  BUS_BUFFER_MAX_BATCH_LATENCY("errai.bus.buffer_max_batch_latency", "0"),
+
   ENABLE_CSRF_BUS_TOKEN("errai.bus.enable_csrf_token", "false"),
 
   HOSTED_MODE_TESTING("errai.hosted_mode_testing", "false"),
@@ -82,6 +107,8 @@ public enum ErraiConfigAttribs {
   WEB_SOCKET_KEYSTORE_PASSWORD("errai.bus.web_socket_keystore_password"),
   WEB_SOCKET_KEY_PASSWORD("errai.bus.web_socket_key_password"),
   WEB_SOCKET_MAX_FRAME_SIZE("errai.bus.web_socket_max_frame_size", "65536"),
+  WEB_SOCKET_COMPRESSION("errai.bus.web_socket_compression", "false"),
+  WEB_SOCKET_BINARY_FRAMES("errai.bus.web_socket_binary_frames", "false"),
 
   WEBSOCKET_SERVLET_ENABLED("errai.bus.websocket.servlet.enabled", "false"),
   WEBSOCKET_SERVLET_CONTEXT_PATH("errai.bus.websocket.servlet.path", "in.erraiBusWebSocket"),
@@ -94,6 +121,39 @@ public enum ErraiConfigAttribs {
   ENABLE_CLUSTERING("errai.bus.enable_clustering", "false"),
   CLUSTERING_PROVIDER("errai.bus.clustering_provider", "org.jboss.errai.bus.server.cluster.noop.NoopClusteringProvider"),
 
+  /**
+   * The key used by the {@link org.jboss.errai.bus.server.ShardedDispatcher} to assign messages to worker queues
+   * ('session' or 'subject'). Sharding by session preserves the order of messages from each session. Messages without
+   * a session are assigned by subject in either mode.
+   * <p/>
+   * Default value: 'session'
+   */
+  ASYNC_SHARD_KEY("errai.async.shard_key", "session"),
+
+  /**
+   * The capacity of each worker queue of the {@link org.jboss.errai.bus.server.ShardedDispatcher}.
+   * <p/>
+   * Default value: 1024
+   */
+  ASYNC_SHARD_QUEUE_SIZE("errai.async.shard_queue_size", "1024"),
+
+  /**
+   * Whether idle workers of the {@link org.jboss.errai.bus.server.ShardedDispatcher} steal work from the queues
+   * of busy workers.
+   * <p/>
+   * Default value: true
+   */
+  ASYNC_WORK_STEALING("errai.async.work_stealing", "true"),
+
+  /**
+   * Whether the dispatch workers, the scheduler pool and blocking long-polls in the
+   * {@link org.jboss.errai.bus.server.servlet.DefaultBlockingServlet} should run on virtual threads. This requires
+   * a JDK 21 (or later) runtime; on older runtimes platform threads are used.
+   * <p/>
+   * Default value: false
+   */
+  VIRTUAL_THREADS("errai.bus.virtual_threads", "false"),
+
   MESSAGE_QUEUE_TIMEOUT_SECS("errai.bus.message_queue_timeout_secs", "90"),
   SATURATION_POLICY("errai.bus.saturation_policy", "CallerRuns");
 
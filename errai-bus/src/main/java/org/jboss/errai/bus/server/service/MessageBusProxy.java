@@ -293,6 +293,11 @@ public class MessageBusProxy implements ServerMessageBus {
     return proxied.getQueueBySession(id);
   }
 
+  @Override
+  public void sendToSessions(Message message, Collection<String> sessionIds) {
+    proxied.sendToSessions(message, sessionIds);
+  }
+
   @Override
   public QueueSession getSessionBySessionId(String id) {
     return proxied.getSessionBySessionId(id);
@@ -21,6 +21,7 @@ import org.jboss.errai.bus.server.api.SessionProvider;
 import org.jboss.errai.bus.server.service.ErraiConfigAttribs;
 import org.jboss.errai.bus.server.service.ErraiService;
 import org.jboss.errai.bus.server.service.ErraiServiceConfigurator;
+import org.jboss.errai.bus.server.util.VirtualThreads;
 import org.jboss.errai.common.client.protocols.MessageParts;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,6 +63,7 @@ public abstract class AbstractErraiServlet extends HttpServlet {
   private boolean longPollingEnabled;
   private int longPollTimeout;
   private int sseTimeout;
+  private boolean virtualThreads;
 
   private void configureSettings() {
     final ErraiServiceConfigurator config = service.getConfiguration();
@@ -70,6 +72,7 @@ public abstract class AbstractErraiServlet extends HttpServlet {
     longPollingEnabled = !hostedModeTesting && ErraiConfigAttribs.DO_LONG_POLL.getBoolean(config);
     longPollTimeout = ErraiConfigAttribs.LONG_POLL_TIMEOUT.getInt(config);
     sseTimeout = ErraiConfigAttribs.SSE_TIMEOUT.getInt(config);
+    virtualThreads = VirtualThreads.isEnabled(config);
     csrfSecurityCheck = (ErraiConfigAttribs.ENABLE_CSRF_BUS_TOKEN.getBoolean(config) ? CSRFTokenCheck.INSTANCE : RequestSecurityCheck.noCheck());
 
   }
@@ -192,6 +195,10 @@ public abstract class AbstractErraiServlet extends HttpServlet {
     return longPollingEnabled;
   }
 
+  protected boolean isVirtualThreadsEnabled() {
+    return virtualThreads;
+  }
+
   protected boolean shouldWait(final HttpServletRequest request) {
     return longPollingEnabled && "1".equals(request.getParameter("wait"));
   }
@@ -21,6 +21,7 @@ import static org.jboss.errai.bus.server.io.MessageFactory.createCommandMessage;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 
+import javax.servlet.AsyncContext;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
@@ -36,6 +37,7 @@ import org.jboss.errai.bus.client.api.QueueSession;
 import org.jboss.errai.bus.server.QueueUnavailableException;
 import org.jboss.errai.bus.server.api.MessageQueue;
 import org.jboss.errai.bus.server.io.OutputStreamWriteAdapter;
+import org.jboss.errai.bus.server.util.VirtualThreads;
 
 /**
  * The default DefaultBlockingServlet which provides the HTTP-protocol gateway
@@ -160,8 +162,36 @@ public class DefaultBlockingServlet extends AbstractErraiServlet implements Filt
   }
 
   private void pollForMessages(final QueueSession session, final HttpServletRequest httpServletRequest,
-                               final HttpServletResponse httpServletResponse, boolean wait, final boolean sse) {
-    
+                               final HttpServletResponse httpServletResponse, final boolean wait, final boolean sse) {
+
+    if ((wait || sse) && isVirtualThreadsEnabled() && httpServletRequest.isAsyncSupported()) {
+      /**
+       * Release the container thread and block on a virtual thread instead. This way the number of concurrent
+       * long-polls is no longer limited by the size of the container's thread pool.
+       */
+      final AsyncContext asyncContext = httpServletRequest.startAsync(httpServletRequest, httpServletResponse);
+      asyncContext.setTimeout(0);
+
+      VirtualThreads.newThread(true, new Runnable() {
+        @Override
+        public void run() {
+          try {
+            doPollForMessages(session, httpServletRequest, httpServletResponse, wait, sse);
+          }
+          finally {
+            asyncContext.complete();
+          }
+        }
+      }, "Errai Long Poll").start();
+    }
+    else {
+      doPollForMessages(session, httpServletRequest, httpServletResponse, wait, sse);
+    }
+  }
+
+  private void doPollForMessages(final QueueSession session, final HttpServletRequest httpServletRequest,
+                                 final HttpServletResponse httpServletResponse, final boolean wait,
+                                 final boolean sse) {
     try {
       if (sse) {
         prepareSSE(httpServletResponse);
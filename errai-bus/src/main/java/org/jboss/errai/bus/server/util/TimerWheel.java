@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2012 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.server.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A hashed timer wheel which keeps track of a deadline for each of its elements. Time is divided into ticks, and
+ * each element is kept in the bucket for the tick of its deadline, so {@link #advance(long)} only looks at the
+ * buckets of the ticks that have passed since the last call, rather than at every element. Deadlines further away
+ * than one turn of the wheel stay in their bucket until the wheel comes around to them.
+ * <p>
+ * Each element has at most one deadline: scheduling an element again replaces its previous deadline.
+ *
+ * @param <T>
+ *     the type of the elements.
+ */
+public class TimerWheel<T> {
+  private final long tickMillis;
+  private final Set<T>[] buckets;
+  private final Map<T, Long> deadlineTicks = new HashMap<T, Long>();
+  private long currentTick;
+
+  /**
+   * @param tickMillis
+   *     the duration of a tick, in milliseconds. Deadlines are rounded up to the next tick.
+   * @param wheelSize
+   *     the number of buckets in the wheel.
+   * @param startMillis
+   *     the current time, in milliseconds.
+   */
+  @SuppressWarnings("unchecked")
+  public TimerWheel(final long tickMillis, final int wheelSize, final long startMillis) {
+    if (tickMillis <= 0 || wheelSize <= 0) {
+      throw new IllegalArgumentException("tick duration and wheel size must be positive");
+    }
+
+    this.tickMillis = tickMillis;
+    this.buckets = new Set[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      buckets[i] = new HashSet<T>();
+    }
+    this.currentTick = startMillis / tickMillis;
+  }
+
+  /**
+   * Schedules the element to expire at the specified time, replacing any deadline it already has. A deadline which
+   * has already passed expires on the next call to {@link #advance(long)}.
+   *
+   * @param element
+   *     the element to schedule.
+   * @param deadlineMillis
+   *     the time at which the element expires, in milliseconds.
+   */
+  public synchronized void schedule(final T element, final long deadlineMillis) {
+    cancel(element);
+
+    final long tick = Math.max(currentTick + 1, (deadlineMillis + tickMillis - 1) / tickMillis);
+    deadlineTicks.put(element, tick);
+    buckets[bucketOf(tick)].add(element);
+  }
+
+  /**
+   * Removes the element from the wheel.
+   *
+   * @param element
+   *     the element to remove.
+   *
+   * @return true if the element was scheduled.
+   */
+  public synchronized boolean cancel(final T element) {
+    final Long tick = deadlineTicks.remove(element);
+    if (tick == null) {
+      return false;
+    }
+    buckets[bucketOf(tick)].remove(element);
+    return true;
+  }
+
+  /**
+   * Advances the wheel to the specified time, and removes all elements whose deadlines have passed.
+   *
+   * @param nowMillis
+   *     the current time, in milliseconds.
+   *
+   * @return the expired elements, which are no longer scheduled.
+   */
+  public synchronized List<T> advance(final long nowMillis) {
+    final long nowTick = nowMillis / tickMillis;
+    final List<T> expired = new ArrayList<T>();
+    if (nowTick <= currentTick) {
+      return expired;
+    }
+
+    // after a full turn of the wheel, every bucket has been passed.
+    final long ticks = Math.min(nowTick - currentTick, buckets.length);
+    for (long tick = nowTick - ticks + 1; tick <= nowTick; tick++) {
+      final Iterator<T> iter = buckets[bucketOf(tick)].iterator();
+      while (iter.hasNext()) {
+        final T element = iter.next();
+        if (deadlineTicks.get(element) <= nowTick) {
+          iter.remove();
+          deadlineTicks.remove(element);
+          expired.add(element);
+        }
+      }
+    }
+
+    currentTick = nowTick;
+    return expired;
+  }
+
+  /**
+   * Returns the number of scheduled elements.
+   */
+  public synchronized int size() {
+    return deadlineTicks.size();
+  }
+
+  private int bucketOf(final long tick) {
+    return (int) (tick % buckets.length);
+  }
+}
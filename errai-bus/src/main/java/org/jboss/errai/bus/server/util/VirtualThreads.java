@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2012 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.server.util;
+
+import java.lang.reflect.Method;
+
+import org.jboss.errai.bus.server.service.ErraiConfigAttribs;
+import org.jboss.errai.bus.server.service.ErraiServiceConfigurator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A utility class for creating the threads used by the bus. When virtual threads are enabled with
+ * {@link ErraiConfigAttribs#VIRTUAL_THREADS} and the runtime supports them (JDK 21 and later), the bus workers,
+ * the scheduler pool and blocking long-polls run on virtual threads. On older runtimes, ordinary daemon threads are
+ * used instead.
+ */
+public class VirtualThreads {
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreads.class);
+
+  private static final Method ofVirtual;
+  private static final Method builderName;
+  private static final Method builderUnstarted;
+
+  static {
+    Method ofVirtualMethod = null;
+    Method nameMethod = null;
+    Method unstartedMethod = null;
+
+    try {
+      final Class<?> builder = Class.forName("java.lang.Thread$Builder");
+      ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+      nameMethod = builder.getMethod("name", String.class);
+      unstartedMethod = builder.getMethod("unstarted", Runnable.class);
+    }
+    catch (Exception e) {
+      // virtual threads are not supported by this runtime.
+      ofVirtualMethod = null;
+    }
+
+    ofVirtual = ofVirtualMethod;
+    builderName = nameMethod;
+    builderUnstarted = unstartedMethod;
+  }
+
+  private VirtualThreads() {
+  }
+
+  /**
+   * Returns true if the runtime supports virtual threads.
+   */
+  public static boolean isAvailable() {
+    return ofVirtual != null;
+  }
+
+  /**
+   * Returns true if virtual threads are enabled in the specified configuration and supported by the runtime.
+   *
+   * @param config - the configuration to check
+   */
+  public static boolean isEnabled(final ErraiServiceConfigurator config) {
+    if (!ErraiConfigAttribs.VIRTUAL_THREADS.getBoolean(config)) {
+      return false;
+    }
+    else if (!isAvailable()) {
+      log.warn(ErraiConfigAttribs.VIRTUAL_THREADS.getAttributeName() + " is enabled, but virtual threads are not "
+          + "supported by this runtime (JDK 21 or later is required). Falling back to platform threads.");
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Creates a new, unstarted thread for the specified task.
+   *
+   * @param virtual - true if a virtual thread should be created, if the runtime supports it
+   * @param task    - the task to run
+   * @param name    - the name of the thread
+   *
+   * @return a virtual thread, or a daemon platform thread if <tt>virtual</tt> is false or virtual threads are
+   *         not supported.
+   */
+  public static Thread newThread(final boolean virtual, final Runnable task, final String name) {
+    if (virtual && ofVirtual != null) {
+      try {
+        return (Thread) builderUnstarted.invoke(builderName.invoke(ofVirtual.invoke(null), name), task);
+      }
+      catch (Exception e) {
+        log.warn("could not create virtual thread. falling back to a platform thread.", e);
+      }
+    }
+
+    final Thread thread = new Thread(task, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.client.tests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.jboss.errai.bus.client.api.Subscription;
+import org.jboss.errai.bus.client.api.base.MessageBuilder;
+import org.jboss.errai.bus.client.api.messaging.Message;
+import org.jboss.errai.bus.client.api.messaging.MessageCallback;
+import org.jboss.errai.bus.client.framework.ClientMessageBusImpl;
+import org.jboss.errai.bus.client.framework.transports.TransportStatistics;
+import org.jboss.errai.bus.common.AbstractErraiTest;
+import org.jboss.errai.common.client.protocols.MessageParts;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+
+/**
+ * Tests the outbound message batching of the client bus, with the batch window configured to 0 by
+ * {@link org.jboss.errai.bus.client.tests.support.OutboundBatchingConfiguration}.
+ */
+public class OutboundBatchingTest extends AbstractErraiTest {
+
+  /**
+   * The time within which all replies to a burst must arrive. Holding messages for the rest of the event loop turn
+   * must not add noticeably to the round trip of a single request.
+   */
+  private static final int MAX_ROUND_TRIP = 5000;
+
+  private final Collection<Subscription> subscriptions = new ArrayList<Subscription>();
+  private int replies;
+
+  @Override
+  public String getModuleName() {
+    return "org.jboss.errai.bus.OutboundBatchingTests";
+  }
+
+  @Override
+  protected void gwtTearDown() throws Exception {
+    for (final Subscription sub : subscriptions) {
+      sub.remove();
+    }
+    subscriptions.clear();
+    super.gwtTearDown();
+  }
+
+  public void testBurstOfMessagesIsSentInOneRequest() {
+    runAfterInit(new Runnable() {
+      @Override
+      public void run() {
+        final int burst = 30;
+        final TransportStatistics stats = ((ClientMessageBusImpl) bus).getTransportHandler().getStatistics();
+        final int[] requestsBefore = new int[1];
+        final double[] start = new double[1];
+
+        subscriptions.add(bus.subscribe("BatchedEchoClient", new MessageCallback() {
+          @Override
+          public void callback(final Message message) {
+            if (++replies == burst) {
+              final double roundTrip = Duration.currentTimeMillis() - start[0];
+              final int requests = stats.getMessagesSent() - requestsBefore[0];
+              assertTrue("Expected fewer than " + burst + " requests, but " + requests + " were sent", requests < burst);
+              assertTrue("All replies should have arrived within " + MAX_ROUND_TRIP + "ms, but took " + roundTrip + "ms",
+                  roundTrip < MAX_ROUND_TRIP);
+              finishTest();
+            }
+          }
+        }));
+
+        // the subscription above is announced to the server in a request of its own
+        requestsBefore[0] = stats.getMessagesSent();
+        start[0] = Duration.currentTimeMillis();
+        for (int i = 0; i < burst; i++) {
+          MessageBuilder.createMessage()
+              .toSubject("ServerEchoService")
+              .with(MessageParts.ReplyTo, "BatchedEchoClient")
+              .done().sendNowWith(bus);
+        }
+
+        // scheduled after the batch flush, which was scheduled by the first message of the burst
+        Scheduler.get().scheduleFinally(new ScheduledCommand() {
+          @Override
+          public void execute() {
+            assertTrue("The burst was not sent in a single request", stats.getMessagesSent() - requestsBefore[0] <= 1);
+          }
+        });
+      }
+    });
+  }
+}
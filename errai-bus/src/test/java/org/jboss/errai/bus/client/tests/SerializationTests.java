@@ -102,6 +102,11 @@ import org.jboss.errai.bus.client.tests.support.pkg.subpkg.NonSerializable;
 import org.jboss.errai.bus.common.AbstractErraiTest;
 import org.jboss.errai.common.client.api.RemoteCallback;
 import org.jboss.errai.marshalling.client.Marshalling;
+import org.jboss.errai.marshalling.client.api.json.impl.gwt.GWTJSON;
+import org.jboss.errai.marshalling.client.api.json.impl.js.JsJSON;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.json.client.JSONParser;
 
 /**
  * @author Mike Brock <cbrock@redhat.com>
@@ -2417,4 +2422,66 @@ public class SerializationTests extends AbstractErraiTest {
      throw new AssertionError("Unable to marshal object.", t);
    }
  }
+
+  public void testNativeJsonDecodingMatchesGwtJsonDecoding() throws Exception {
+    final List<User> expected = createUsers(20);
+    final String json = Marshalling.toJSON(expected);
+
+    assertEquals(expected, Marshalling.fromJSON(JsJSON.parse(json), List.class));
+    assertEquals(expected, Marshalling.fromJSON(GWTJSON.wrap(JSONParser.parseStrict(json)), List.class));
+  }
+
+  public void testNativeJsonDecodingOfValueTypes() throws Exception {
+    assertEquals("\u00e9\"{", Marshalling.fromJSON(JsJSON.parse(Marshalling.toJSON("\u00e9\"{"))));
+    assertEquals(Integer.MIN_VALUE, Marshalling.fromJSON(JsJSON.parse(Marshalling.toJSON(Integer.MIN_VALUE))));
+    assertEquals(-0.25d, Marshalling.fromJSON(JsJSON.parse(Marshalling.toJSON(-0.25d))));
+    assertEquals(Boolean.FALSE, Marshalling.fromJSON(JsJSON.parse(Marshalling.toJSON(false))));
+    assertEquals(new BigDecimal("12345678901234567890.123"),
+        Marshalling.fromJSON(JsJSON.parse(Marshalling.toJSON(new BigDecimal("12345678901234567890.123")))));
+    assertTrue(JsJSON.parse("null").isNull());
+    assertNull(JsJSON.parse("{}").isObject().getIfNotNull("toString"));
+  }
+
+  /**
+   * Not a functional test: compares decoding a ~5 MB payload with native JSON.parse against GWT's JSONParser.
+   * Rename to run.
+   */
+  public void ignoreTestDecodeLargeEntityPayload() throws Exception {
+    final List<User> expected = createUsers(8000);
+    final String json = Marshalling.toJSON(expected);
+    assertTrue("payload too small: " + json.length(), json.length() > 5 * 1024 * 1024);
+
+    for (int round = 0; round < 3; round++) {
+      double start = Duration.currentTimeMillis();
+      final List<?> nativeResult = Marshalling.fromJSON(JsJSON.parse(json), List.class);
+      final double nativeMillis = Duration.currentTimeMillis() - start;
+
+      start = Duration.currentTimeMillis();
+      final List<?> gwtResult = Marshalling.fromJSON(GWTJSON.wrap(JSONParser.parseStrict(json)), List.class);
+      final double gwtMillis = Duration.currentTimeMillis() - start;
+
+      assertEquals(expected.size(), nativeResult.size());
+      assertEquals(expected.size(), gwtResult.size());
+      System.out.println("Decoded " + json.length() + " chars: JSON.parse " + nativeMillis + "ms, JSONParser "
+          + gwtMillis + "ms");
+    }
+  }
+
+  private static List<User> createUsers(final int count) {
+    final List<User> users = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      final User user = new User(i, "user " + i + " with a reasonably long display name \u00e9");
+      final List<Group> groups = new ArrayList<>();
+      for (int g = 0; g < 5; g++) {
+        groups.add(new Group(i * 10 + g, "group " + g + " of user " + i));
+      }
+      user.setGroups(groups);
+      user.setGroup(groups.get(0));
+      final Map<String, User> userMapString = new HashMap<>();
+      userMapString.put("self " + i, new User(-i, "alias " + i));
+      user.setUserMapString(userMapString);
+      users.add(user);
+    }
+    return users;
+  }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.client.tests.support;
+
+import org.jboss.errai.bus.client.framework.Configuration;
+
+/**
+ * Batches the messages sent to the server during the same event loop turn.
+ */
+public class OutboundBatchingConfiguration implements Configuration {
+
+  @Override
+  public String getRemoteLocation() {
+    return "";
+  }
+
+  @Override
+  public int getOutboundBatchWindow() {
+    return 0;
+  }
+}
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -35,10 +36,12 @@ import org.jboss.errai.bus.client.framework.BuiltInServices;
 import org.jboss.errai.bus.client.protocols.BusCommand;
 import org.jboss.errai.bus.server.api.MessageQueue;
 import org.jboss.errai.bus.server.api.ServerMessageBus;
+import org.jboss.errai.bus.server.cluster.jgroups.ClusteringWormhole;
 import org.jboss.errai.bus.server.io.MessageDeliveryHandler;
 import org.jboss.errai.bus.server.service.ErraiService;
 import org.jboss.errai.common.client.protocols.MessageParts;
 import org.jboss.errai.marshalling.server.MappingContextSingleton;
+import org.jgroups.Address;
 
 import junit.framework.TestCase;
 
@@ -142,6 +145,9 @@ public class ClusteringTests extends TestCase {
 
     remoteSubscibeToTopic(sessionA, nodeA.getBus(), localService);
     remoteSubscibeToTopic(sessionB, nodeB.getBus(), localService);
+    awaitOwnerKnown(nodeA, nodeB, sessionB);
+    awaitOwnerKnown(nodeB, nodeA, sessionA);
+    final int whoHandlesBefore = countWhoHandlesBroadcasts(nodeA, nodeB);
 
     mockTransportWithAction(nodeA.getBus(), sessionA, msg -> {
       if (localService.equals(msg.getSubject())) {
@@ -185,6 +191,8 @@ public class ClusteringTests extends TestCase {
 
     assertTrue("Timeout while waiting for messages from servers. Received: " + resultsSet, latch.await(30, TimeUnit.SECONDS));
     assertEquals(new HashSet<>(Arrays.asList("Client 1:ServerB", "Client 2:ServerA")), resultsSet);
+    assertEquals("Messages were not forwarded straight to the owning bus.",
+        whoHandlesBefore, countWhoHandlesBroadcasts(nodeA, nodeB));
   }
 
   public void testPointToPointMessageInClusterAfterClientChangesNodes() throws Exception {
@@ -228,6 +236,9 @@ public class ClusteringTests extends TestCase {
     mockTransportWithAction(nodeB.getBus(), controlSession, failAction);
     mockTransportWithAction(nodeC.getBus(), controlSession, failAction);
 
+    awaitOwnerKnown(nodeC, nodeA, session);
+    final int whoHandlesBefore = countWhoHandlesBroadcasts(nodeA, nodeB, nodeC);
+
     MessageBuilder.createMessage()
         .toSubject(localService)
         .signalling()
@@ -243,6 +254,7 @@ public class ClusteringTests extends TestCase {
     // Change bus and resubscribe to topic with new bus
     associateToNewBus(session, nodeA.getBus(), nodeB.getBus());
     remoteSubscibeToTopic(session, nodeB.getBus(), localService);
+    awaitOwnerKnown(nodeC, nodeB, session);
     mockTransportWithAction(nodeB.getBus(), session, msg -> {
       if (localService.equals(msg.getSubject())) {
         final String val = "Client:" + msg.get(String.class, MessageParts.Value);
@@ -261,6 +273,222 @@ public class ClusteringTests extends TestCase {
 
     assertTrue("Timeout while waiting for messages from servers. Received: " + results, latch2.await(30, TimeUnit.SECONDS));
     assertEquals(Arrays.asList("Client:ServerA", "Client:ServerB"), results);
+    assertEquals("Messages were not forwarded straight to the owning bus.",
+        whoHandlesBefore, countWhoHandlesBroadcasts(nodeA, nodeB, nodeC));
+  }
+
+  public void testPointToPointMessageToSessionAttachedBeforeNodeJoined() throws Exception {
+    final ErraiService<?> nodeA = startInstance();
+    final QueueSession session = MockQueueSessionFactory.newSession("client1");
+
+    associateQueueSessionToBus(session, nodeA.getBus());
+
+    final ErraiService<?> nodeB = startInstance();
+
+    final List<String> results = new ArrayList<>();
+    final String localService = "localTest";
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    remoteSubscibeToTopic(session, nodeA.getBus(), localService);
+    // nodeB can only have learned of the session from the sessions nodeA announced when nodeB joined
+    awaitOwnerKnown(nodeB, nodeA, session);
+    final int whoHandlesBefore = countWhoHandlesBroadcasts(nodeA, nodeB);
+
+    mockTransportWithAction(nodeA.getBus(), session, msg -> {
+      if (localService.equals(msg.getSubject())) {
+        results.add("Client:" + msg.get(String.class, MessageParts.Value));
+        latch.countDown();
+      }
+    });
+
+    MessageBuilder.createMessage()
+        .toSubject(localService)
+        .signalling()
+        .withValue("ServerB")
+        .with(MessageParts.SessionID, session.getSessionId())
+        .noErrorHandling()
+        .sendNowWith(nodeB.getBus());
+
+    assertTrue("Timeout while waiting for messages from servers. Received: " + results, latch.await(30, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("Client:ServerB"), results);
+    assertEquals("The message was not forwarded straight to the owning bus.",
+        whoHandlesBefore, countWhoHandlesBroadcasts(nodeA, nodeB));
+  }
+
+  public void testPointToPointThroughputWithFourNodes() throws Exception {
+    final int nodeCount = 4;
+    final int sessionsPerNode = 25;
+    final int messagesPerSession = 20;
+    final String localService = "localTest";
+
+    final List<ErraiService<?>> nodes = new ArrayList<>();
+    for (int i = 0; i < nodeCount; i++) {
+      nodes.add(startInstance());
+    }
+
+    final List<QueueSession> sessions = new ArrayList<>();
+    final AtomicInteger duplicates = new AtomicInteger();
+    final Set<String> results = ConcurrentHashMap.newKeySet();
+    final CountDownLatch latch = new CountDownLatch(nodeCount * sessionsPerNode * messagesPerSession);
+    for (int n = 0; n < nodeCount; n++) {
+      final ServerMessageBus bus = nodes.get(n).getBus();
+      for (int s = 0; s < sessionsPerNode; s++) {
+        final QueueSession session = MockQueueSessionFactory.newSession("node" + n + "client" + s);
+        associateQueueSessionToBus(session, bus);
+        remoteSubscibeToTopic(session, bus, localService);
+        mockTransportWithAction(bus, session, msg -> {
+          if (localService.equals(msg.getSubject())) {
+            if (results.add(session.getSessionId() + ":" + msg.get(String.class, MessageParts.Value))) {
+              latch.countDown();
+            }
+            else {
+              duplicates.incrementAndGet();
+            }
+          }
+        });
+        sessions.add(session);
+      }
+    }
+
+    for (int i = 0; i < sessions.size(); i++) {
+      for (final ErraiService<?> node : nodes) {
+        awaitOwnerKnown(node, nodes.get(i / sessionsPerNode), sessions.get(i));
+      }
+    }
+    final int whoHandlesBefore = countWhoHandlesBroadcasts(nodes.toArray(new ErraiService<?>[0]));
+
+    // every message is sent from the node after the one that owns its session, so all sends cross nodes
+    final long start = System.nanoTime();
+    for (int m = 0; m < messagesPerSession; m++) {
+      for (int i = 0; i < sessions.size(); i++) {
+        final ServerMessageBus sender = nodes.get((i / sessionsPerNode + 1) % nodeCount).getBus();
+        MessageBuilder.createMessage()
+            .toSubject(localService)
+            .signalling()
+            .withValue("MSG" + m)
+            .with(MessageParts.SessionID, sessions.get(i).getSessionId())
+            .noErrorHandling()
+            .sendNowWith(sender);
+      }
+    }
+
+    assertTrue("Timeout while waiting for messages from servers. Received " + results.size() + " messages.",
+        latch.await(60, TimeUnit.SECONDS));
+    final long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    assertEquals("Messages were delivered more than once.", 0, duplicates.get());
+    assertEquals("Messages were not forwarded straight to the owning bus.",
+        whoHandlesBefore, countWhoHandlesBroadcasts(nodes.toArray(new ErraiService<?>[0])));
+    System.out.println("Delivered " + results.size() + " cross-node messages between " + nodeCount + " nodes in "
+        + elapsedMillis + "ms (" + (results.size() * 1000L / elapsedMillis) + " msgs/sec)");
+  }
+
+  public void testSendToSessionsInCluster() throws Exception {
+    final ErraiService<?> nodeA = startInstance();
+    final ErraiService<?> nodeB = startInstance();
+    final QueueSession sessionA1 = MockQueueSessionFactory.newSession("client1");
+    final QueueSession sessionA2 = MockQueueSessionFactory.newSession("client2");
+    final QueueSession sessionB = MockQueueSessionFactory.newSession("client3");
+    final QueueSession broadCastBlockingSession = MockQueueSessionFactory.newSession("dummy");
+
+    associateQueueSessionToBus(sessionA1, nodeA.getBus());
+    associateQueueSessionToBus(sessionA2, nodeA.getBus());
+    associateQueueSessionToBus(sessionB, nodeB.getBus());
+    // Prevents broadcasting of messages so that they can be intercepted
+    associateQueueSessionToBus(broadCastBlockingSession, nodeA.getBus());
+    associateQueueSessionToBus(broadCastBlockingSession, nodeB.getBus());
+
+    final Set<String> resultsSet = ConcurrentHashMap.newKeySet();
+    final String localService = "localTest";
+    final CountDownLatch latch = new CountDownLatch(3);
+
+    for (final QueueSession session : Arrays.asList(sessionA1, sessionA2, sessionB)) {
+      final ServerMessageBus bus = (session == sessionB ? nodeB : nodeA).getBus();
+      remoteSubscibeToTopic(session, bus, localService);
+      mockTransportWithAction(bus, session, msg -> {
+        if (localService.equals(msg.getSubject())) {
+          if (resultsSet.add(session.getSessionId() + ":" + msg.get(String.class, MessageParts.Value))) {
+            latch.countDown();
+          }
+          else {
+            fail("Received duplicate message to " + session.getSessionId());
+          }
+        }
+      });
+    }
+
+    awaitOwnerKnown(nodeA, nodeB, sessionB);
+    final int whoHandlesBefore = countWhoHandlesBroadcasts(nodeA, nodeB);
+
+    final Message message = MessageBuilder.createMessage()
+        .toSubject(localService)
+        .signalling()
+        .withValue("ServerA")
+        .noErrorHandling()
+        .getMessage();
+
+    nodeA.getBus().sendToSessions(message,
+        Arrays.asList(sessionA1.getSessionId(), sessionA2.getSessionId(), sessionB.getSessionId()));
+
+    assertTrue("Timeout while waiting for messages from servers. Received: " + resultsSet, latch.await(30, TimeUnit.SECONDS));
+    assertEquals(new HashSet<>(Arrays.asList("client1:ServerA", "client2:ServerA", "client3:ServerA")), resultsSet);
+    assertEquals("The message was not forwarded straight to the owning bus.",
+        whoHandlesBefore, countWhoHandlesBroadcasts(nodeA, nodeB));
+  }
+
+  public void testPointToPointMessageToUnknownOwnerFallsBackToWhoHandles() throws Exception {
+    final ErraiService<?> nodeA = startInstance();
+    final ErraiService<?> nodeB = startInstance();
+    final QueueSession session = MockQueueSessionFactory.newSession("client1");
+
+    associateQueueSessionToBus(session, nodeA.getBus());
+
+    final List<String> results = new ArrayList<>();
+    final String localService = "localTest";
+    final CountDownLatch latch1 = new CountDownLatch(1);
+    final CountDownLatch latch2 = new CountDownLatch(2);
+
+    remoteSubscibeToTopic(session, nodeA.getBus(), localService);
+
+    mockTransportWithAction(nodeA.getBus(), session, msg -> {
+      if (localService.equals(msg.getSubject())) {
+        results.add("Client:" + msg.get(String.class, MessageParts.Value));
+        latch1.countDown();
+        latch2.countDown();
+      }
+    });
+
+    awaitOwnerKnown(nodeB, nodeA, session);
+    ClusteringWormhole.forgetOwner(nodeB.getBus(), session.getSessionId());
+    final int whoHandlesBefore = countWhoHandlesBroadcasts(nodeA, nodeB);
+
+    MessageBuilder.createMessage()
+        .toSubject(localService)
+        .signalling()
+        .withValue("First")
+        .with(MessageParts.SessionID, session.getSessionId())
+        .noErrorHandling()
+        .sendNowWith(nodeB.getBus());
+
+    assertTrue("Timeout while waiting for first message from servers. Received: " + results, latch1.await(30, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("Client:First"), results);
+    assertEquals("The owner of the session was not looked up with a WhoHandles broadcast.",
+        whoHandlesBefore + 1, countWhoHandlesBroadcasts(nodeA, nodeB));
+
+    // the reply to the broadcast tells nodeB who owns the session, so the next message goes straight there
+    awaitOwnerKnown(nodeB, nodeA, session);
+
+    MessageBuilder.createMessage()
+        .toSubject(localService)
+        .signalling()
+        .withValue("Second")
+        .with(MessageParts.SessionID, session.getSessionId())
+        .noErrorHandling()
+        .sendNowWith(nodeB.getBus());
+
+    assertTrue("Timeout while waiting for second message from servers. Received: " + results, latch2.await(30, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("Client:First", "Client:Second"), results);
+    assertEquals("The second message was not forwarded straight to the owning bus.",
+        whoHandlesBefore + 1, countWhoHandlesBroadcasts(nodeA, nodeB));
   }
 
   /*
@@ -318,6 +546,36 @@ public class ClusteringTests extends TestCase {
     }
   }
 
+  /**
+   * Returns the number of <tt>WhoHandles</tt> broadcasts sent by the specified buses. A bus only broadcasts
+   * <tt>WhoHandles</tt> when it does not know which bus owns the session a message is addressed to.
+   */
+  private int countWhoHandlesBroadcasts(final ErraiService<?>... nodes) {
+    int count = 0;
+    for (final ErraiService<?> node : nodes) {
+      count += ClusteringWormhole.getWhoHandlesBroadcasts(node.getBus());
+    }
+    return count;
+  }
+
+  /**
+   * Waits until the sending bus has learned that the owning bus holds the queue for the specified session.
+   */
+  private void awaitOwnerKnown(final ErraiService<?> sender, final ErraiService<?> owner, final QueueSession session)
+      throws InterruptedException {
+    final String sessionId = session.getSessionId();
+    final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+
+    Address ownerAddress;
+    while ((ownerAddress = ClusteringWormhole.getOwner(owner.getBus(), sessionId)) == null
+        || !ownerAddress.equals(ClusteringWormhole.getOwner(sender.getBus(), sessionId))) {
+      if (System.currentTimeMillis() > deadline) {
+        fail("Timeout while waiting for the owner of " + sessionId + " to become known.");
+      }
+      Thread.sleep(10);
+    }
+  }
+
   private void associateToNewBus(final QueueSession session, final ServerMessageBus oldBus, final ServerMessageBus newBus) {
     final Message disconnectMsg = MessageBuilder
       .createMessage(BuiltInServices.ServerBus.name())
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2012 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.server;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.errai.bus.server.api.MessageQueue;
+import org.jboss.errai.bus.server.io.OutputStreamWriteAdapter;
+import org.jboss.errai.bus.server.io.buffers.TransmissionBuffer;
+import org.jboss.errai.bus.server.util.VirtualThreads;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Holds a large number of concurrent long-polls open on a single bus buffer, the way the
+ * {@link org.jboss.errai.bus.server.servlet.DefaultBlockingServlet} does when virtual threads are enabled.
+ * Requires a JDK 21 (or later) runtime.
+ */
+public class LongPollLoadTests {
+  @Test
+  @Ignore
+  public void testFiftyThousandConcurrentLongPolls() throws Exception {
+    Assume.assumeTrue("virtual threads are not supported by this runtime", VirtualThreads.isAvailable());
+
+    final int sessions = 50000;
+    // one small segment per session, so no payload is evicted before its long-poll picks it up.
+    final TransmissionBuffer buffer = TransmissionBuffer.create(32, sessions * 2);
+    final MessageQueue[] queues = new MessageQueue[sessions];
+    for (int i = 0; i < sessions; i++) {
+      queues[i] = new MessageQueueImpl(buffer, MockQueueSessionFactory.newSession(), 90);
+    }
+
+    final CountDownLatch polling = new CountDownLatch(sessions);
+    final CountDownLatch received = new CountDownLatch(sessions);
+    final AtomicInteger wrongPayload = new AtomicInteger();
+
+    long start = System.nanoTime();
+    for (int i = 0; i < sessions; i++) {
+      final MessageQueue queue = queues[i];
+      final String expected = "[{\"session\":" + i + "}]";
+
+      VirtualThreads.newThread(true, new Runnable() {
+        @Override
+        public void run() {
+          final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+          try {
+            polling.countDown();
+            queue.poll(TimeUnit.MILLISECONDS, 60000, new OutputStreamWriteAdapter(outputStream));
+          }
+          catch (Exception e) {
+            e.printStackTrace();
+          }
+
+          if (!expected.equals(new String(outputStream.toByteArray(), StandardCharsets.UTF_8))) {
+            wrongPayload.incrementAndGet();
+          }
+          received.countDown();
+        }
+      }, "Long Poll " + i).start();
+    }
+    Assert.assertTrue(polling.await(30, TimeUnit.SECONDS));
+
+    // give the last pollers time to block.
+    Thread.sleep(1000);
+
+    System.gc();
+    final Runtime runtime = Runtime.getRuntime();
+    System.out.println(sessions + " long-polls waiting after " + (System.nanoTime() - start) / 1000000 + "ms; "
+        + "heap in use: " + (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024) + "MB");
+
+    start = System.nanoTime();
+    for (int i = 0; i < sessions; i++) {
+      buffer.write("{\"session\":" + i + "}", queues[i].getBufferColor());
+    }
+    Assert.assertTrue("not all long-polls returned", received.await(60, TimeUnit.SECONDS));
+    System.out.println(sessions + " long-polls answered in " + (System.nanoTime() - start) / 1000000 + "ms");
+
+    Assert.assertEquals(0, wrongPayload.get());
+  }
+}
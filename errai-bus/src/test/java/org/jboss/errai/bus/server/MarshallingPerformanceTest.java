@@ -20,10 +20,14 @@ import org.jboss.errai.common.client.util.TimeUnit;
 import org.jboss.errai.marshalling.server.MappingContextSingleton;
 import org.jboss.errai.marshalling.server.ServerMarshalling;
 import org.junit.Assert;
+import org.junit.Ignore;
 import org.junit.Test;
 
 import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -81,4 +85,49 @@ public class MarshallingPerformanceTest {
     Assert.assertEquals("ServerBus", payload.get("ToSubject"));
     Assert.assertEquals("Hello There!", payload.get("Extra"));
   }
+
+  @Test
+  @Ignore
+  public void testDemarshallLargePayload() throws IOException {
+    MappingContextSingleton.get();
+
+    final List<Map<String, Object>> entities = new ArrayList<Map<String, Object>>();
+    for (int i = 0; i < 1000; i++) {
+      final Map<String, Object> entity = new HashMap<String, Object>();
+      entity.put("id", i);
+      entity.put("name", "Entity number " + i);
+      entity.put("description", "A somewhat longer description of entity " + i + ", with \"quotes\" and a tab\t.");
+      entity.put("price", i * 1.25d);
+      entity.put("active", i % 2 == 0);
+      entities.add(entity);
+    }
+
+    final StringWriter writer = new StringWriter();
+    ServerMarshalling.toJSON(writer, entities);
+    final byte[] json = writer.toString().getBytes("UTF-8");
+
+    final com.sun.management.ThreadMXBean threadMXBean
+        = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final int iterations = 2000;
+
+    for (int run = 0; run < 3; run++) {
+      final long allocated = threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+      final long time = System.nanoTime();
+
+      List result = null;
+      for (int i = 0; i < iterations; i++) {
+        result = (List) ServerMarshalling.fromJSON(new ByteArrayInputStream(json));
+      }
+
+      final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - time);
+      final long bytesPerPayload
+          = (threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocated) / iterations;
+
+      System.out.println("Demarshalled " + iterations + " payloads of " + json.length + " bytes in " + millis + "ms ("
+          + (json.length * (long) iterations / 1024 / Math.max(1, millis)) + "KB/ms); allocated "
+          + bytesPerPayload / 1024 + "KB per payload");
+
+      Assert.assertEquals(1000, result.size());
+    }
+  }
 }
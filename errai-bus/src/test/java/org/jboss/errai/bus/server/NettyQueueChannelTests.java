@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2012 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionData;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtension;
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateServerExtensionHandshaker;
+import io.netty.util.CharsetUtil;
+import org.jboss.errai.bus.server.io.websockets.NettyQueueChannel;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for the frames written by the {@link NettyQueueChannel}.
+ */
+public class NettyQueueChannelTests extends TestCase {
+  private static final String PAYLOAD = "[{\"ToSubject\":\"StockTicker\",\"CommandType\":\"Update\",\"Value\":\"42\"}]";
+
+  public void testWriteBytesAsTextFrame() {
+    final EmbeddedChannel channel = new EmbeddedChannel();
+    final byte[] bytes = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+
+    new NettyQueueChannel(channel).write(bytes, 0, bytes.length);
+
+    final WebSocketFrame frame = channel.readOutbound();
+    assertTrue(frame instanceof TextWebSocketFrame);
+    assertEquals(PAYLOAD, ((TextWebSocketFrame) frame).text());
+    frame.release();
+  }
+
+  public void testWriteAsBinaryFrame() {
+    final EmbeddedChannel channel = new EmbeddedChannel();
+    final NettyQueueChannel queueChannel = new NettyQueueChannel(channel, true);
+
+    final byte[] bytes = ("xx" + PAYLOAD + "xx").getBytes(StandardCharsets.UTF_8);
+    queueChannel.write(bytes, 2, bytes.length - 4);
+    queueChannel.write(PAYLOAD);
+
+    for (int i = 0; i < 2; i++) {
+      final WebSocketFrame frame = channel.readOutbound();
+      assertTrue(frame instanceof BinaryWebSocketFrame);
+      assertEquals(PAYLOAD, frame.content().toString(CharsetUtil.UTF_8));
+      frame.release();
+    }
+  }
+
+  /**
+   * Prints the number of bytes sent and the time spent for a burst of repetitive messages, with and without the
+   * permessage-deflate extension.
+   */
+  public void ignoreTestCompressionRatio() {
+    final int messages = 100000;
+    final WebSocketServerExtension extension = new PerMessageDeflateServerExtensionHandshaker()
+        .handshakeExtension(new WebSocketExtensionData("permessage-deflate", Collections.<String, String>emptyMap()));
+
+    for (final boolean deflate : new boolean[] { false, true }) {
+      final EmbeddedChannel channel = deflate ? new EmbeddedChannel(extension.newExtensionEncoder())
+                                              : new EmbeddedChannel();
+      final NettyQueueChannel queueChannel = new NettyQueueChannel(channel);
+
+      long bytes = 0;
+      final long start = System.nanoTime();
+      for (int i = 0; i < messages; i++) {
+        final byte[] payload = PAYLOAD.replace("42", String.valueOf(i)).getBytes(StandardCharsets.UTF_8);
+        queueChannel.write(payload, 0, payload.length);
+
+        final WebSocketFrame frame = channel.readOutbound();
+        final ByteBuf content = frame.content();
+        bytes += content.readableBytes();
+        frame.release();
+      }
+      final long time = System.nanoTime() - start;
+
+      System.out.println((deflate ? "permessage-deflate: " : "uncompressed: ") + bytes + " bytes in "
+          + time / 1000000 + "ms");
+      channel.finishAndReleaseAll();
+    }
+  }
+}
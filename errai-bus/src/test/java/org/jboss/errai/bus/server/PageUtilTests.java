@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2012 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.errai.bus.server.api.MessageQueue;
+import org.jboss.errai.bus.server.io.MultiMessageFilter;
+import org.jboss.errai.bus.server.io.OutputStreamWriteAdapter;
+import org.jboss.errai.bus.server.io.PageUtil;
+import org.jboss.errai.bus.server.io.buffers.TransmissionBuffer;
+
+import junit.framework.TestCase;
+
+public class PageUtilTests extends TestCase {
+
+  public void testPageOutAndPageIn() throws IOException {
+    final TransmissionBuffer buffer = TransmissionBuffer.create();
+    final MessageQueue queue = new MessageQueueImpl(buffer, MockQueueSessionFactory.newSession(), 30);
+
+    final long pagedOutBefore = PageUtil.getPagedOutBytes();
+    final long pagedInBefore = PageUtil.getPagedInBytes();
+    final long pageInCountBefore = PageUtil.getPageInCount();
+
+    try {
+      buffer.write("{\"foo\":\"bar\"}", queue.getBufferColor());
+      assertFalse(PageUtil.pageWaitingToDisk(queue));
+      assertTrue(queue.isPaged());
+
+      buffer.write("{\"bar\":\"foo\"}", queue.getBufferColor());
+      assertTrue(PageUtil.pageWaitingToDisk(queue));
+
+      assertEquals(26, PageUtil.getPagedOutBytes() - pagedOutBefore);
+
+      final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      PageUtil.readInPageFile(queue, new OutputStreamWriteAdapter(outputStream), new MultiMessageFilter());
+
+      assertEquals("[{\"foo\":\"bar\"},{\"bar\":\"foo\"}]", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+      assertFalse(queue.isPaged());
+
+      assertEquals(26, PageUtil.getPagedInBytes() - pagedInBefore);
+      assertEquals(1, PageUtil.getPageInCount() - pageInCountBefore);
+    }
+    finally {
+      new File(PageUtil.getPageFileName(queue)).delete();
+    }
+  }
+
+  public void testPageOutOfBacklogLargerThanTransferChunk() throws IOException {
+    final TransmissionBuffer buffer = TransmissionBuffer.create();
+    final MessageQueue queue = new MessageQueueImpl(buffer, MockQueueSessionFactory.newSession(), 30);
+    final String payload = "{\"foo\":\"" + TransmissionBufferTests.createGiantString().substring(0, 2048) + "\"}";
+    final int messages = 20;
+
+    final long pagedOutBefore = PageUtil.getPagedOutBytes();
+
+    try {
+      final StringBuilder expected = new StringBuilder("[");
+      for (int i = 0; i < messages; i++) {
+        buffer.write(payload, queue.getBufferColor());
+        expected.append(i == 0 ? "" : ",").append(payload);
+      }
+      expected.append("]");
+
+      PageUtil.pageWaitingToDisk(queue);
+      assertEquals(messages * payload.length(), PageUtil.getPagedOutBytes() - pagedOutBefore);
+      assertEquals(messages * payload.length(), new File(PageUtil.getPageFileName(queue)).length());
+
+      final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      PageUtil.readInPageFile(queue, new OutputStreamWriteAdapter(outputStream), new MultiMessageFilter());
+      assertEquals(expected.toString(), new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+    finally {
+      new File(PageUtil.getPageFileName(queue)).delete();
+    }
+  }
+
+  public void testManySessionsPageOut() throws IOException {
+    final TransmissionBuffer buffer = TransmissionBuffer.create();
+    final String payload = TransmissionBufferTests.createGiantString().substring(0, 2048);
+    final MessageQueue[] queues = new MessageQueue[2000];
+
+    try {
+      final long start = System.nanoTime();
+      for (int i = 0; i < queues.length; i++) {
+        queues[i] = new MessageQueueImpl(buffer, MockQueueSessionFactory.newSession(), 30);
+        buffer.write(payload, queues[i].getBufferColor());
+        PageUtil.pageWaitingToDisk(queues[i]);
+      }
+      System.out.println("paged out " + queues.length + " sessions in "
+          + (System.nanoTime() - start) / 1000000 + "ms");
+
+      for (final MessageQueue queue : queues) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PageUtil.readInPageFile(queue, new OutputStreamWriteAdapter(outputStream), new MultiMessageFilter());
+        assertEquals("[" + payload + "]", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+      }
+      System.out.println("average page-in latency: " + PageUtil.getAveragePageInNanos() / 1000 + "us");
+    }
+    finally {
+      for (final MessageQueue queue : queues) {
+        if (queue != null) {
+          new File(PageUtil.getPageFileName(queue)).delete();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.server;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.errai.bus.server.io.RPCMethodInvoker;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for the {@link RPCMethodInvoker}.
+ */
+public class RPCMethodInvokerTests extends TestCase {
+
+  public interface Endpoints {
+    String zero();
+    String one(String a);
+    String two(String a, int b);
+    String three(String a, int b, long c);
+    String four(String a, int b, long c, Double d);
+    String five(String a, int b, long c, Double d, boolean e);
+    String six(String a, int b, long c, Double d, boolean e, List<String> f);
+    void nothing();
+    void fail(String message);
+    String varArgs(String... a);
+    String varArgsAfter(String a, String... b);
+  }
+
+  public static class EndpointsImpl implements Endpoints {
+    @Override
+    public String zero() {
+      return "zero";
+    }
+
+    @Override
+    public String one(final String a) {
+      return a;
+    }
+
+    @Override
+    public String two(final String a, final int b) {
+      return a + b;
+    }
+
+    @Override
+    public String three(final String a, final int b, final long c) {
+      return a + b + c;
+    }
+
+    @Override
+    public String four(final String a, final int b, final long c, final Double d) {
+      return a + b + c + d;
+    }
+
+    @Override
+    public String five(final String a, final int b, final long c, final Double d, final boolean e) {
+      return a + b + c + d + e;
+    }
+
+    @Override
+    public String six(final String a, final int b, final long c, final Double d, final boolean e, final List<String> f) {
+      return a + b + c + d + e + f;
+    }
+
+    @Override
+    public void nothing() {
+    }
+
+    @Override
+    public void fail(final String message) {
+      throw new IllegalStateException(message);
+    }
+
+    @Override
+    public String varArgs(final String... a) {
+      return Arrays.toString(a);
+    }
+
+    @Override
+    public String varArgsAfter(final String a, final String... b) {
+      return a + Arrays.toString(b);
+    }
+  }
+
+  static class PackagePrivateEndpoint {
+    public String hello() {
+      return "hello";
+    }
+  }
+
+  private static final Object[][] ARGUMENTS = {
+      {},
+      { "a" },
+      { "a", 1 },
+      { "a", 1, 2L },
+      { "a", 1, 2L, 3.0 },
+      { "a", 1, 2L, 3.0, true },
+      { "a", 1, 2L, 3.0, true, Arrays.asList("x") }
+  };
+
+  private static final String[] METHODS = { "zero", "one", "two", "three", "four", "five", "six" };
+
+  private static Method getMethod(final String name) {
+    for (final Method method : Endpoints.class.getMethods()) {
+      if (method.getName().equals(name)) {
+        return method;
+      }
+    }
+    throw new IllegalArgumentException(name);
+  }
+
+  public void testInvokeWithZeroToSixArguments() throws Exception {
+    final EndpointsImpl target = new EndpointsImpl();
+
+    for (int i = 0; i < METHODS.length; i++) {
+      final Method method = getMethod(METHODS[i]);
+      final List<Object> arguments = new ArrayList<Object>(Arrays.asList(ARGUMENTS[i]));
+
+      assertEquals(method.invoke(target, ARGUMENTS[i]), new RPCMethodInvoker(method).invoke(target, arguments));
+    }
+  }
+
+  public void testInvokeWithNullArgumentList() throws Exception {
+    assertEquals("zero", new RPCMethodInvoker(getMethod("zero")).invoke(new EndpointsImpl(), null));
+    assertNull(new RPCMethodInvoker(getMethod("nothing")).invoke(new EndpointsImpl(), null));
+  }
+
+  public void testInvokeWithArgumentsRequiringWidening() throws Exception {
+    // an int for a long parameter is widened by reflection, which the method handle does not do.
+    final List<Object> arguments = Arrays.<Object>asList("a", 1, 2, 3.0);
+    assertEquals("a123.0", new RPCMethodInvoker(getMethod("four")).invoke(new EndpointsImpl(), arguments));
+  }
+
+  public void testInvokeWithNullForPrimitiveArgument() throws Exception {
+    try {
+      new RPCMethodInvoker(getMethod("two")).invoke(new EndpointsImpl(), Arrays.<Object>asList("a", null));
+      fail("expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  public void testInvokeVarArgsMethods() throws Exception {
+    final EndpointsImpl target = new EndpointsImpl();
+
+    assertEquals("[a, b]", new RPCMethodInvoker(getMethod("varArgs"))
+        .invoke(target, Collections.<Object>singletonList(new String[] { "a", "b" })));
+    assertEquals("a[b, c]", new RPCMethodInvoker(getMethod("varArgsAfter"))
+        .invoke(target, Arrays.<Object>asList("a", new String[] { "b", "c" })));
+  }
+
+  @SuppressWarnings("deprecation")
+  public void testMethodIsNotMadeAccessible() throws Exception {
+    final Method method = PackagePrivateEndpoint.class.getMethod("hello");
+    final RPCMethodInvoker invoker = new RPCMethodInvoker(method);
+
+    assertFalse(method.isAccessible());
+    assertEquals("hello", invoker.invoke(new PackagePrivateEndpoint(), null));
+    assertFalse(method.isAccessible());
+  }
+
+  public void testExceptionFromMethodIsWrapped() throws Exception {
+    try {
+      new RPCMethodInvoker(getMethod("fail")).invoke(new EndpointsImpl(), Collections.<Object>singletonList("boom"));
+      fail("expected InvocationTargetException");
+    }
+    catch (final InvocationTargetException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+      assertEquals("boom", e.getCause().getMessage());
+    }
+  }
+
+  /**
+   * Compares the throughput of the invoker with {@link Method#invoke} for methods with zero to five parameters.
+   */
+  public void ignoreTestInvokerThroughput() throws Exception {
+    final NumberFormat nf = new DecimalFormat("###,###");
+    final EndpointsImpl target = new EndpointsImpl();
+    final int calls = 5000000;
+
+    for (int i = 0; i < 6; i++) {
+      final Method method = getMethod(METHODS[i]);
+      final RPCMethodInvoker invoker = new RPCMethodInvoker(method);
+      final List<Object> arguments = Arrays.asList(ARGUMENTS[i]);
+
+      for (int run = 0; run < 3; run++) {
+        long start = System.nanoTime();
+        for (int c = 0; c < calls; c++) {
+          method.invoke(target, arguments.toArray(new Object[arguments.size()]));
+        }
+        final long reflection = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int c = 0; c < calls; c++) {
+          invoker.invoke(target, arguments);
+        }
+        final long handle = System.nanoTime() - start;
+
+        System.out.println(i + " parameter(s): reflection " + nf.format(calls / (reflection / 1000000000d))
+            + " calls/sec; invoker " + nf.format(calls / (handle / 1000000000d)) + " calls/sec");
+      }
+    }
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (C) 2012 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.jboss.errai.bus.client.api.QueueSession;
+import org.jboss.errai.bus.client.api.base.CommandMessage;
+import org.jboss.errai.bus.client.api.messaging.Message;
+import org.jboss.errai.bus.client.framework.BuiltInServices;
+import org.jboss.errai.bus.client.protocols.BusCommand;
+import org.jboss.errai.bus.server.api.MessageQueue;
+import org.jboss.errai.bus.server.io.MessageDeliveryHandler;
+import org.jboss.errai.bus.server.io.PageUtil;
+import org.jboss.errai.bus.server.io.Pageable;
+import org.jboss.errai.bus.server.mock.MockErraiService;
+import org.jboss.errai.bus.server.mock.MockErraiServiceConfigurator;
+import org.jboss.errai.bus.server.util.TimerWheel;
+import org.jboss.errai.common.client.protocols.MessageParts;
+import org.jboss.errai.common.client.protocols.Resources;
+import org.jboss.errai.marshalling.server.MappingContextSingleton;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for the closing, expiry and paging of queues by the bus, and the {@link TimerWheel} the housekeeper uses.
+ */
+public class SessionExpiryTests extends TestCase {
+  static {
+    MappingContextSingleton.get();
+  }
+
+  public void testTimerWheelExpiresOnlyDueElements() {
+    final TimerWheel<String> wheel = new TimerWheel<String>(10, 8, 0);
+    wheel.schedule("a", 25);
+    wheel.schedule("b", 50);
+    wheel.schedule("c", 500);
+
+    assertTrue(wheel.advance(20).isEmpty());
+    assertEquals(Arrays.asList("a"), wheel.advance(30));
+    assertEquals(Arrays.asList("b"), wheel.advance(50));
+
+    // "c" is more than one turn of the wheel away, so it must survive passing its bucket.
+    assertTrue(wheel.advance(200).isEmpty());
+    assertEquals(1, wheel.size());
+    assertEquals(Arrays.asList("c"), wheel.advance(1000));
+    assertEquals(0, wheel.size());
+  }
+
+  public void testTimerWheelRescheduleAndCancel() {
+    final TimerWheel<String> wheel = new TimerWheel<String>(10, 8, 0);
+    wheel.schedule("a", 20);
+    wheel.schedule("b", 20);
+    wheel.schedule("a", 60);
+    assertTrue(wheel.cancel("b"));
+    assertFalse(wheel.cancel("b"));
+
+    assertTrue(wheel.advance(40).isEmpty());
+    assertEquals(Arrays.asList("a"), wheel.advance(60));
+
+    // deadlines in the past expire on the next advance.
+    wheel.schedule("d", 0);
+    assertEquals(Arrays.asList("d"), wheel.advance(70));
+  }
+
+  public void testStaleQueuesAreClosedWithTheirSubscriptions() throws InterruptedException {
+    final ServerMessageBusImpl bus = new ServerMessageBusImpl(new MockErraiService(), new MockErraiServiceConfigurator());
+    try {
+      final QueueSession staleSession = MockQueueSessionFactory.newSession();
+      final QueueSession liveSession = MockQueueSessionFactory.newSession();
+      associate(bus, staleSession, "Stale,Shared");
+      associate(bus, liveSession, "Live,Shared");
+
+      final MessageQueue staleQueue = bus.getQueue(staleSession);
+      final MessageQueue liveQueue = bus.getQueue(liveSession);
+      staleQueue.setTimeout(0);
+      liveQueue.setTimeout(Long.MAX_VALUE / 2);
+      // the stale queue has to outlive its timeout.
+      Thread.sleep(10);
+
+      // nothing is due until the queues' original timeout has passed.
+      assertEquals(0, bus.expireStaleQueues(System.currentTimeMillis()));
+
+      assertEquals(1, bus.expireStaleQueues(System.currentTimeMillis() + 3600000));
+      assertNull(bus.getQueue(staleSession));
+      assertSame(liveQueue, bus.getQueue(liveSession));
+      assertFalse(bus.hasRemoteSubscriptions("Stale"));
+      assertFalse(bus.hasRemoteSubscription(liveSession.getSessionId(), "Stale"));
+      assertTrue(bus.hasRemoteSubscription(liveSession.getSessionId(), "Shared"));
+      assertTrue(bus.hasRemoteSubscription(liveSession.getSessionId(), "Live"));
+
+      // the live queue has been rescheduled, not dropped.
+      assertEquals(0, bus.expireStaleQueues(System.currentTimeMillis() + 3600000));
+      assertSame(liveQueue, bus.getQueue(liveSession));
+    }
+    finally {
+      bus.stop();
+    }
+  }
+
+  public void testStoppedQueuesAreClosedByMulticast() {
+    final ServerMessageBusImpl bus = new ServerMessageBusImpl(new MockErraiService(), new MockErraiServiceConfigurator());
+    try {
+      final List<QueueSession> subscribers = new ArrayList<QueueSession>();
+      for (int i = 0; i < 3; i++) {
+        final QueueSession session = MockQueueSessionFactory.newSession();
+        associate(bus, session, "Multicast");
+        bus.getQueue(session).finishInit();
+        subscribers.add(session);
+      }
+      // a session that is not subscribed, so the message is multicast rather than broadcast.
+      associate(bus, MockQueueSessionFactory.newSession(), "Other");
+
+      final QueueSession stoppedSession = subscribers.get(1);
+      bus.getQueue(stoppedSession).stopQueue();
+
+      bus.sendGlobal(CommandMessage.create().toSubject("Multicast"));
+
+      assertNull("The stopped queue was not closed.", bus.getQueue(stoppedSession));
+      assertTrue(bus.getQueue(subscribers.get(0)).messagesWaiting());
+      assertTrue(bus.getQueue(subscribers.get(2)).messagesWaiting());
+    }
+    finally {
+      bus.stop();
+    }
+  }
+
+  public void testIdleQueuesArePagedOutOnce() {
+    final ServerMessageBusImpl bus = new ServerMessageBusImpl(new MockErraiService(), new MockErraiServiceConfigurator());
+    try {
+      final QueueSession session = MockQueueSessionFactory.newSession();
+      associate(bus, session, "Idle");
+
+      final MessageQueue queue = bus.getQueue(session);
+      final CountingPageable handler = new CountingPageable();
+      queue.setDeliveryHandler(handler);
+
+      final long idleAt = queue.getLastTransmissionTime() + PageUtil.getIdleTimeBeforePaging();
+      assertEquals(0, bus.pageIdleQueues(idleAt - 2000));
+      assertEquals(0, handler.pageOuts);
+
+      assertEquals(1, bus.pageIdleQueues(idleAt + 1000));
+      assertEquals(1, handler.pageOuts);
+
+      // the queue is not visited again until its next expiry check.
+      assertEquals(0, bus.pageIdleQueues(idleAt + 3600000));
+      assertEquals(1, handler.pageOuts);
+    }
+    finally {
+      bus.stop();
+    }
+  }
+
+  /**
+   * Expires 10% of 100,000 sessions, each subscribed to 20 of 5,000 subjects, and compares the housekeeper with a
+   * sweep that visits every queue and unsubscribes each stale queue from every subject (as the housekeeper used to).
+   */
+  public void ignoreTestExpiryThroughput() {
+    final int sessionCount = 100000;
+    final int subjectCount = 5000;
+    final int subjectsPerSession = 20;
+
+    for (final boolean sweep : new boolean[]{true, false, true, false}) {
+      final MockErraiServiceConfigurator config = new MockErraiServiceConfigurator();
+      config.setProperty("errai.bus.buffer_size", "256");
+      final ServerMessageBusImpl bus = new ServerMessageBusImpl(new MockErraiService(), config);
+      try {
+        final Random random = new Random(42);
+        final List<MessageQueue> queues = new ArrayList<MessageQueue>(sessionCount);
+        for (int i = 0; i < sessionCount; i++) {
+          final StringBuilder services = new StringBuilder();
+          for (int s = 0; s < subjectsPerSession; s++) {
+            if (s > 0) {
+              services.append(',');
+            }
+            services.append("Subject").append(random.nextInt(subjectCount));
+          }
+
+          final QueueSession session = MockQueueSessionFactory.newSession("session" + i);
+          associate(bus, session, services.toString());
+          queues.add(bus.getQueue(session));
+        }
+
+        Collections.shuffle(queues, random);
+        for (int i = 0; i < sessionCount; i++) {
+          queues.get(i).setTimeout(i < sessionCount / 10 ? 0 : Long.MAX_VALUE / 2);
+        }
+
+        final long start = System.nanoTime();
+        final int killed;
+        if (sweep) {
+          killed = sweep(bus, subjectCount);
+        }
+        else {
+          killed = bus.expireStaleQueues(System.currentTimeMillis() + 3600000);
+        }
+        final long time = System.nanoTime() - start;
+
+        assertEquals(sessionCount / 10, killed);
+        System.out.println((sweep ? "full sweep" : "timer wheel") + ": expired " + killed + " of " + sessionCount
+            + " sessions (" + subjectCount + " subjects) in " + time / 1000000 + "ms");
+      }
+      finally {
+        bus.stop();
+      }
+    }
+  }
+
+  private static int sweep(final ServerMessageBusImpl bus, final int subjectCount) {
+    final List<MessageQueue> stale = new ArrayList<MessageQueue>();
+    for (final MessageQueue queue : bus.getMessageQueues().values()) {
+      if (queue.isStale()) {
+        stale.add(queue);
+      }
+    }
+
+    for (final MessageQueue queue : stale) {
+      for (int s = 0; s < subjectCount; s++) {
+        if (bus.hasRemoteSubscriptions("Subject" + s)) {
+          bus.remoteUnsubscribe(queue.getSession(), queue, "Subject" + s);
+        }
+      }
+      bus.closeQueue(queue);
+    }
+    return stale.size();
+  }
+
+  private static void associate(final ServerMessageBusImpl bus, final QueueSession session, final String services) {
+    final Message message = CommandMessage.create()
+        .toSubject(BuiltInServices.ServerBus.name())
+        .command(BusCommand.Associate)
+        .set(MessageParts.RemoteServices, services);
+    message.setResource(Resources.Session.name(), session);
+    bus.sendGlobal(message);
+  }
+
+  private static class CountingPageable implements MessageDeliveryHandler, Pageable {
+    private int pageOuts;
+
+    @Override
+    public boolean deliver(final MessageQueue queue, final Message message) {
+      return true;
+    }
+
+    @Override
+    public void noop(final MessageQueue queue) {
+    }
+
+    @Override
+    public boolean pageOut(final MessageQueue queue) {
+      pageOuts++;
+      return true;
+    }
+
+    @Override
+    public void discardPageData(final MessageQueue queue) {
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2012 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.server;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.jboss.errai.bus.server.cluster.SessionOwnershipDirectory;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for the {@link SessionOwnershipDirectory}, with four simulated buses named "A" to "D".
+ */
+public class SessionOwnershipDirectoryTests extends TestCase {
+
+  public void testLocalSessionsAreOwnedBySelf() {
+    final SessionOwnershipDirectory<String> directory = new SessionOwnershipDirectory<String>("A");
+    directory.viewChanged(Arrays.asList("A", "B"));
+
+    directory.attachLocal("session1");
+    assertEquals("A", directory.getOwner("session1"));
+    assertEquals(Collections.singleton("session1"), directory.getLocalSessions());
+
+    directory.detachLocal("session1");
+    assertNull(directory.getOwner("session1"));
+    assertTrue(directory.getLocalSessions().isEmpty());
+  }
+
+  public void testViewChangeReturnsJoinedMembers() {
+    final SessionOwnershipDirectory<String> directory = new SessionOwnershipDirectory<String>("A");
+
+    assertEquals(Arrays.asList("B"), directory.viewChanged(Arrays.asList("A", "B")));
+    assertEquals(Arrays.asList("C"), directory.viewChanged(Arrays.asList("A", "B", "C")));
+    assertTrue(directory.viewChanged(Arrays.asList("A", "C")).isEmpty());
+    assertEquals(Arrays.asList("D"), directory.viewChanged(Arrays.asList("A", "C", "D")));
+  }
+
+  public void testSessionsOfDepartedMembersArePurged() {
+    final SessionOwnershipDirectory<String> directory = new SessionOwnershipDirectory<String>("A");
+    directory.viewChanged(Arrays.asList("A", "B", "C", "D"));
+
+    directory.attachLocal("sessionA");
+    directory.ownerAttached("sessionB", "B");
+    directory.ownerAttached("sessionC", "C");
+    directory.ownerAttached("sessionD", "D");
+    assertEquals(4, directory.size());
+
+    directory.viewChanged(Arrays.asList("A", "C"));
+
+    assertEquals("A", directory.getOwner("sessionA"));
+    assertNull(directory.getOwner("sessionB"));
+    assertEquals("C", directory.getOwner("sessionC"));
+    assertNull(directory.getOwner("sessionD"));
+    assertEquals(2, directory.size());
+  }
+
+  public void testAnnouncementFromDepartedMemberIsIgnored() {
+    final SessionOwnershipDirectory<String> directory = new SessionOwnershipDirectory<String>("A");
+    directory.viewChanged(Arrays.asList("A", "B"));
+
+    directory.ownerAttached("session1", "C");
+    assertNull(directory.getOwner("session1"));
+  }
+
+  public void testReleaseByPreviousOwnerDoesNotRemoveNewOwner() {
+    final SessionOwnershipDirectory<String> directory = new SessionOwnershipDirectory<String>("A");
+    directory.viewChanged(Arrays.asList("A", "B", "C"));
+
+    directory.ownerAttached("session1", "B");
+    // the client moves to bus C, and its announcement arrives before B's release.
+    directory.ownerAttached("session1", "C");
+    directory.ownerReleased("session1", "B");
+
+    assertEquals("C", directory.getOwner("session1"));
+
+    directory.ownerReleased("session1", "C");
+    assertNull(directory.getOwner("session1"));
+  }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright (C) 2012 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.server;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.errai.bus.client.api.QueueSession;
+import org.jboss.errai.bus.client.api.base.CommandMessage;
+import org.jboss.errai.bus.client.api.messaging.Message;
+import org.jboss.errai.bus.client.api.messaging.RequestDispatcher;
+import org.jboss.errai.bus.server.api.ServerMessageBus;
+import org.jboss.errai.bus.server.mock.MockErraiService;
+import org.jboss.errai.bus.server.mock.MockErraiServiceConfigurator;
+import org.jboss.errai.bus.server.service.ErraiServiceConfigurator;
+import org.jboss.errai.common.client.protocols.Resources;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ShardedDispatcher}.
+ */
+public class ShardedDispatcherTests {
+  private interface Delivery {
+    void deliver(Message message);
+  }
+
+  /**
+   * A service whose bus just hands every message sent through it to the specified {@link Delivery}.
+   */
+  private static class DispatchTestService extends MockErraiService {
+    private final ServerMessageBus bus;
+    private final ErraiServiceConfigurator config = new MockErraiServiceConfigurator();
+    private final List<Runnable> shutdownHooks = new ArrayList<Runnable>();
+
+    private DispatchTestService(final Delivery delivery) {
+      this.bus = (ServerMessageBus) Proxy.newProxyInstance(getClass().getClassLoader(),
+          new Class[] { ServerMessageBus.class }, new InvocationHandler() {
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) {
+              if (method.getName().equals("send") || method.getName().equals("sendGlobal")) {
+                delivery.deliver((Message) args[0]);
+              }
+              return null;
+            }
+          });
+    }
+
+    @Override
+    public ServerMessageBus getBus() {
+      return bus;
+    }
+
+    @Override
+    public ErraiServiceConfigurator getConfiguration() {
+      return config;
+    }
+
+    @Override
+    public void addShutdownHook(final Runnable runnable) {
+      shutdownHooks.add(runnable);
+    }
+
+    @Override
+    public void stopService() {
+      for (final Runnable hook : shutdownHooks) {
+        hook.run();
+      }
+    }
+  }
+
+  private static Message createMessage(final QueueSession session, final int seq) {
+    final Message message = CommandMessage.create().toSubject("Foo").set("seq", seq);
+    message.setResource(Resources.Session.name(), session);
+    return message;
+  }
+
+  @Test
+  public void testMessagesFromOneSessionAreDeliveredInOrder() throws Exception {
+    final int sessionCount = 64;
+    final int messagesPerSession = 500;
+
+    final ConcurrentMap<String, AtomicInteger> lastSeen = new ConcurrentHashMap<String, AtomicInteger>();
+    final AtomicInteger outOfOrder = new AtomicInteger();
+    final CountDownLatch received = new CountDownLatch(sessionCount * messagesPerSession);
+
+    final DispatchTestService service = new DispatchTestService(new Delivery() {
+      @Override
+      public void deliver(final Message message) {
+        final String sessionId = message.getResource(QueueSession.class, Resources.Session.name()).getSessionId();
+        final int seq = message.get(Integer.class, "seq");
+        if (lastSeen.get(sessionId).getAndSet(seq) != seq - 1) {
+          outOfOrder.incrementAndGet();
+        }
+        received.countDown();
+      }
+    });
+    service.getConfiguration().setProperty("errai.async.thread_pool_size", "4");
+    service.getConfiguration().setProperty("errai.async.shard_queue_size", "64");
+
+    final ShardedDispatcher dispatcher = new ShardedDispatcher(service);
+    try {
+      final List<Thread> producers = new ArrayList<Thread>();
+      for (int p = 0; p < 4; p++) {
+        final int producer = p;
+        producers.add(new Thread() {
+          @Override
+          public void run() {
+            final List<QueueSession> sessions = new ArrayList<QueueSession>();
+            for (int s = producer; s < sessionCount; s += 4) {
+              final QueueSession session = MockQueueSessionFactory.newSession("session" + s);
+              lastSeen.put(session.getSessionId(), new AtomicInteger(-1));
+              sessions.add(session);
+            }
+
+            try {
+              for (int i = 0; i < messagesPerSession; i++) {
+                for (final QueueSession session : sessions) {
+                  dispatcher.dispatch(createMessage(session, i));
+                }
+              }
+            }
+            catch (InterruptedException e) {
+              throw new RuntimeException(e);
+            }
+          }
+        });
+      }
+
+      for (final Thread producer : producers) {
+        producer.start();
+      }
+      for (final Thread producer : producers) {
+        producer.join();
+      }
+
+      Assert.assertTrue("not all messages were delivered", received.await(30, TimeUnit.SECONDS));
+      Assert.assertEquals("messages were delivered out of order", 0, outOfOrder.get());
+    }
+    finally {
+      service.stopService();
+    }
+  }
+
+  @Test
+  public void testMessagesWithoutSessionAreSpreadBySubject() throws Exception {
+    final int subjectCount = 16;
+    final Set<String> workers = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    final CountDownLatch received = new CountDownLatch(subjectCount);
+
+    final DispatchTestService service = new DispatchTestService(new Delivery() {
+      @Override
+      public void deliver(final Message message) {
+        workers.add(Thread.currentThread().getName());
+        received.countDown();
+      }
+    });
+    service.getConfiguration().setProperty("errai.async.thread_pool_size", "4");
+    service.getConfiguration().setProperty("errai.async.work_stealing", "false");
+
+    final ShardedDispatcher dispatcher = new ShardedDispatcher(service);
+    try {
+      for (int i = 0; i < subjectCount; i++) {
+        dispatcher.dispatch(CommandMessage.create().toSubject("Subject" + i));
+      }
+
+      Assert.assertTrue("not all messages were delivered", received.await(30, TimeUnit.SECONDS));
+      Assert.assertTrue("messages without a session were all processed by one worker", workers.size() > 1);
+    }
+    finally {
+      service.stopService();
+    }
+  }
+
+  @Test
+  public void testIdleWorkersParkUntilDispatchedTo() throws Exception {
+    final CountDownLatch received = new CountDownLatch(64);
+    final DispatchTestService service = new DispatchTestService(new Delivery() {
+      @Override
+      public void deliver(final Message message) {
+        received.countDown();
+      }
+    });
+    service.getConfiguration().setProperty("errai.async.thread_pool_size", "4");
+
+    final ShardedDispatcher dispatcher = new ShardedDispatcher(service);
+    try {
+      final long deadline = System.currentTimeMillis() + 10000;
+      while (!allWorkersParked()) {
+        Assert.assertTrue("idle workers did not park without a timeout", System.currentTimeMillis() < deadline);
+        Thread.sleep(10);
+      }
+
+      for (int i = 0; i < 64; i++) {
+        dispatcher.dispatch(createMessage(MockQueueSessionFactory.newSession("session" + i), 0));
+      }
+      Assert.assertTrue("not all messages were delivered", received.await(30, TimeUnit.SECONDS));
+    }
+    finally {
+      service.stopService();
+    }
+  }
+
+  private static boolean allWorkersParked() {
+    int workers = 0;
+    for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.getName().startsWith("Sharded Dispatch Worker Thread")) {
+        workers++;
+        if (thread.getState() != Thread.State.WAITING) {
+          return false;
+        }
+      }
+    }
+    return workers == 4;
+  }
+
+  @Test
+  @Ignore
+  public void testDispatcherThroughput() throws Exception {
+    final NumberFormat nf = new DecimalFormat("###,###.###");
+    final int messagesPerRun = 2000000;
+
+    for (int producers = 1; producers <= 64; producers *= 2) {
+      for (final String type : new String[] { "simple", "async", "sharded" }) {
+        final int perProducer = messagesPerRun / producers;
+        final CountDownLatch received = new CountDownLatch(perProducer * producers);
+
+        final DispatchTestService service = new DispatchTestService(new Delivery() {
+          @Override
+          public void deliver(final Message message) {
+            received.countDown();
+          }
+        });
+
+        final RequestDispatcher dispatcher;
+        if (type.equals("simple")) {
+          dispatcher = new SimpleDispatcher(service);
+        }
+        else if (type.equals("async")) {
+          dispatcher = new AsyncDispatcher(service);
+        }
+        else {
+          dispatcher = new ShardedDispatcher(service);
+        }
+
+        final List<Thread> threads = new ArrayList<Thread>();
+        for (int p = 0; p < producers; p++) {
+          final int producer = p;
+          threads.add(new Thread() {
+            @Override
+            public void run() {
+              final QueueSession[] sessions = new QueueSession[16];
+              for (int s = 0; s < sessions.length; s++) {
+                sessions[s] = MockQueueSessionFactory.newSession("session" + producer + "-" + s);
+              }
+
+              try {
+                for (int i = 0; i < perProducer; i++) {
+                  dispatcher.dispatch(createMessage(sessions[i % sessions.length], i));
+                }
+              }
+              catch (Exception e) {
+                throw new RuntimeException(e);
+              }
+            }
+          });
+        }
+
+        final long start = System.nanoTime();
+        for (final Thread thread : threads) {
+          thread.start();
+        }
+        for (final Thread thread : threads) {
+          thread.join();
+        }
+        Assert.assertTrue(received.await(60, TimeUnit.SECONDS));
+        final long time = System.nanoTime() - start;
+
+        service.stopService();
+
+        System.out.println(type + " dispatcher, " + producers + " producer(s): "
+            + nf.format((perProducer * producers) / (time / 1000000000d)) + " messages/sec");
+      }
+    }
+  }
+}
@@ -16,6 +16,8 @@
 
 package org.jboss.errai.bus.server;
 
+import static org.jboss.errai.marshalling.server.protocol.ErraiProtocolServer.encodePayloadToByteArrayInputStream;
+
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -25,9 +27,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -49,6 +53,7 @@ import org.jboss.errai.bus.server.io.ByteWriteAdapter;
 import org.jboss.errai.bus.server.io.OutputStreamWriteAdapter;
 import org.jboss.errai.bus.server.io.buffers.BufferColor;
 import org.jboss.errai.bus.server.io.buffers.TransmissionBuffer;
+import org.jboss.errai.marshalling.server.MappingContextSingleton;
 
 import junit.framework.TestCase;
 
@@ -635,6 +640,140 @@ public class TransmissionBufferTests extends TestCase {
     System.out.println(System.currentTimeMillis() - start);
   }
 
+  public void testMulticastVisibleOnlyToMembers() throws IOException {
+    final BufferColor colorA = BufferColor.getNewColor();
+    final BufferColor colorB = BufferColor.getNewColor();
+    final BufferColor colorC = BufferColor.getNewColor();
+
+    final TransmissionBuffer buffer = TransmissionBuffer.create(5, 2500);
+
+    final String stringA = "12345678";
+    final String stringC = "ABCDEFGH";
+    final String stringM = "IJKLMNOP";
+
+    for (int i = 0; i < 100000; i++) {
+      ByteArrayInputStream bInputStream = new ByteArrayInputStream(stringA.getBytes());
+      buffer.write(stringA.length(), bInputStream, colorA);
+
+      bInputStream = new ByteArrayInputStream(stringM.getBytes());
+      buffer.write(stringM.length(), bInputStream, Arrays.asList(colorA, colorB));
+
+      bInputStream = new ByteArrayInputStream(stringC.getBytes());
+      buffer.write(stringC.length(), bInputStream, colorC);
+
+      ByteArrayOutputStream bOutputStream = new ByteArrayOutputStream();
+      buffer.read(new OutputStreamWriteAdapter(bOutputStream), colorA);
+      assertEquals(stringA + stringM, new String(bOutputStream.toByteArray()));
+
+      bOutputStream = new ByteArrayOutputStream();
+      buffer.read(new OutputStreamWriteAdapter(bOutputStream), colorB);
+      assertEquals(stringM, new String(bOutputStream.toByteArray()));
+
+      bOutputStream = new ByteArrayOutputStream();
+      buffer.read(new OutputStreamWriteAdapter(bOutputStream), colorC);
+      assertEquals(stringC, new String(bOutputStream.toByteArray()));
+    }
+  }
+
+  public void testMulticastVersusPerColorEncoding() throws IOException {
+    MappingContextSingleton.get();
+
+    final int totalColors = 1000;
+    final int iterations = 50;
+
+    final List<BufferColor> allColors = new ArrayList<BufferColor>(totalColors);
+    for (int i = 0; i < totalColors; i++) {
+      allColors.add(BufferColor.getNewColor());
+    }
+
+    final Map<String, Object> payload = new HashMap<String, Object>();
+    payload.put("ToSubject", "BenchmarkService");
+    payload.put("CommandType", "Update");
+    payload.put("Value", createGiantString().substring(0, 512));
+
+    for (final int percent : new int[]{1, 10, 25, 50, 75, 90, 99}) {
+      final List<BufferColor> subscribed = allColors.subList(0, totalColors * percent / 100);
+
+      final TransmissionBuffer perColorBuffer = TransmissionBuffer.create(64, 1024 * 1024);
+      long start = System.nanoTime();
+      for (int i = 0; i < iterations; i++) {
+        for (final BufferColor color : subscribed) {
+          perColorBuffer.write(encodePayloadToByteArrayInputStream(payload), color);
+        }
+      }
+      final long perColorNanos = System.nanoTime() - start;
+
+      final TransmissionBuffer multicastBuffer = TransmissionBuffer.create(64, 1024 * 1024);
+      start = System.nanoTime();
+      for (int i = 0; i < iterations; i++) {
+        final ByteArrayInputStream inputStream = encodePayloadToByteArrayInputStream(payload);
+        multicastBuffer.write(inputStream.available(), inputStream, subscribed);
+      }
+      final long multicastNanos = System.nanoTime() - start;
+
+      System.out.println(percent + "% subscribed (" + subscribed.size() + " of " + totalColors + " colors): per-color="
+          + TimeUnit.NANOSECONDS.toMicros(perColorNanos / iterations) + "us/publish; multicast="
+          + TimeUnit.NANOSECONDS.toMicros(multicastNanos / iterations) + "us/publish");
+    }
+  }
+
+  public void testCharSequenceWriteEncodesUtf8() throws IOException {
+    final TransmissionBuffer buffer = TransmissionBuffer.create(7, 97);
+    final BufferColor color = BufferColor.getNewColor();
+
+    final String s = "ascii \u00e9\u00e8 \u20ac\u4e2d \ud83d\ude00 unpaired:\ud83d.";
+
+    for (int i = 0; i < 10000; i++) {
+      buffer.write(s, color);
+
+      final ByteArrayOutputStream bOutputStream = new ByteArrayOutputStream();
+      buffer.read(new OutputStreamWriteAdapter(bOutputStream), color);
+      assertTrue(Arrays.equals(s.getBytes("UTF-8"), bOutputStream.toByteArray()));
+    }
+  }
+
+  public void testCharSequenceWriteDoesNotAllocate() throws IOException {
+    if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+      return;
+    }
+
+    final com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    final TransmissionBuffer buffer = TransmissionBuffer.create();
+    final BufferColor color = BufferColor.getNewColor();
+    final String s = createGiantString().substring(0, 4096);
+    final int iterations = 10000;
+
+    // warm up
+    for (int i = 0; i < iterations; i++) {
+      buffer.write(s, color);
+      final ByteArrayInputStream inputStream = new ByteArrayInputStream(s.getBytes("UTF-8"));
+      buffer.write(inputStream.available(), inputStream, color);
+    }
+
+    final long threadId = Thread.currentThread().getId();
+
+    long start = threadMXBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < iterations; i++) {
+      final ByteArrayInputStream inputStream = new ByteArrayInputStream(s.getBytes("UTF-8"));
+      buffer.write(inputStream.available(), inputStream, color);
+    }
+    final long streamAllocated = threadMXBean.getThreadAllocatedBytes(threadId) - start;
+
+    start = threadMXBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < iterations; i++) {
+      buffer.write(s, color);
+    }
+    final long directAllocated = threadMXBean.getThreadAllocatedBytes(threadId) - start;
+
+    System.out.println("bytes allocated per write: stream=" + (streamAllocated / iterations)
+        + "; direct=" + (directAllocated / iterations));
+
+    assertTrue("direct writes should allocate far less than a copy of the payload per write",
+        directAllocated / iterations < s.length() / 16);
+  }
+
   public void testBufferColorCyclesAroundCorrectly() throws IOException {
     final int loopMax = Short.MAX_VALUE * 2 + 10;
 
@@ -755,6 +894,281 @@ public class TransmissionBufferTests extends TestCase {
     }
   }
 
+  public void testLockFreeReadsSeeEveryChunkInOrder() throws Exception {
+    final int producers = 4;
+    final int colorCount = 8;
+    final int messagesPerColor = 2000;
+
+    final TransmissionBuffer buffer = TransmissionBuffer.create(16, producers * colorCount * messagesPerColor * 2);
+    buffer.setLockFreeReads(true);
+
+    final BufferColor[] colors = new BufferColor[colorCount];
+    for (int i = 0; i < colorCount; i++) {
+      colors[i] = BufferColor.getNewColor();
+    }
+
+    final CountDownLatch done = new CountDownLatch(colorCount);
+    final AtomicInteger failures = new AtomicInteger();
+    final Thread[] readers = new Thread[colorCount];
+    for (int c = 0; c < colorCount; c++) {
+      final BufferColor color = colors[c];
+      readers[c] = new Thread() {
+        @Override
+        public void run() {
+          final int[] lastSeen = new int[producers];
+          Arrays.fill(lastSeen, -1);
+          final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+          int received = 0;
+          try {
+            while (received < producers * messagesPerColor) {
+              outputStream.reset();
+              buffer.readWait(TimeUnit.SECONDS, 5, new OutputStreamWriteAdapter(outputStream), color);
+              for (final String message : new String(outputStream.toByteArray()).split(";")) {
+                if (message.isEmpty()) {
+                  continue;
+                }
+                final String[] parts = message.split(":");
+                final int producer = Integer.parseInt(parts[0]);
+                final int seq = Integer.parseInt(parts[1]);
+                if (lastSeen[producer] != seq - 1) {
+                  failures.incrementAndGet();
+                }
+                lastSeen[producer] = seq;
+                received++;
+              }
+            }
+          }
+          catch (final Exception e) {
+            e.printStackTrace();
+            failures.incrementAndGet();
+          }
+          done.countDown();
+        }
+      };
+      readers[c].start();
+    }
+
+    final Thread[] writers = new Thread[producers];
+    for (int p = 0; p < producers; p++) {
+      final int producer = p;
+      writers[p] = new Thread() {
+        @Override
+        public void run() {
+          try {
+            for (int i = 0; i < messagesPerColor; i++) {
+              for (final BufferColor color : colors) {
+                buffer.write(producer + ":" + i + ";", color);
+              }
+            }
+          }
+          catch (final IOException e) {
+            throw new RuntimeException(e);
+          }
+        }
+      };
+      writers[p].start();
+    }
+
+    for (final Thread writer : writers) {
+      writer.join();
+    }
+    assertTrue("readers did not receive all messages", done.await(30, TimeUnit.SECONDS));
+    assertEquals("messages were lost or read out of order", 0, failures.get());
+  }
+
+  public void testLockFreeReadsBatchUpToMaxBatchBytes() throws IOException {
+    final TransmissionBuffer buffer = TransmissionBuffer.create(16, 1000);
+    buffer.setLockFreeReads(true);
+    buffer.setBatching(20, 0, TimeUnit.MILLISECONDS);
+
+    final BufferColor color = BufferColor.getNewColor();
+    for (int i = 0; i < 5; i++) {
+      buffer.write("1234567" + i, color);
+    }
+
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    assertTrue(buffer.read(new OutputStreamWriteAdapter(outputStream), color));
+    assertEquals("1234567012345671", new String(outputStream.toByteArray()));
+
+    outputStream.reset();
+    assertTrue(buffer.read(new OutputStreamWriteAdapter(outputStream), color));
+    assertEquals("1234567212345673", new String(outputStream.toByteArray()));
+
+    outputStream.reset();
+    assertTrue(buffer.read(new OutputStreamWriteAdapter(outputStream), color));
+    assertEquals("12345674", new String(outputStream.toByteArray()));
+
+    outputStream.reset();
+    assertFalse(buffer.read(new OutputStreamWriteAdapter(outputStream), color));
+  }
+
+  public void testLockFreeReaderIsWokenWhenAnotherColorsWriteCompletes() throws Exception {
+    final TransmissionBuffer buffer = TransmissionBuffer.create(16, 1000);
+    buffer.setLockFreeReads(true);
+
+    final BufferColor colorA = BufferColor.getNewColor();
+    final BufferColor colorB = BufferColor.getNewColor();
+
+    // holds color B's write in progress, so that color A's data is committed behind it.
+    final CountDownLatch writeStarted = new CountDownLatch(1);
+    final CountDownLatch releaseWrite = new CountDownLatch(1);
+    final InputStream blockingStream = new InputStream() {
+      @Override
+      public int read() throws IOException {
+        writeStarted.countDown();
+        try {
+          releaseWrite.await();
+        }
+        catch (final InterruptedException e) {
+          throw new IOException(e);
+        }
+        return 'B';
+      }
+    };
+
+    final Thread writerB = new Thread() {
+      @Override
+      public void run() {
+        try {
+          buffer.write(1, blockingStream, colorB);
+        }
+        catch (final IOException e) {
+          throw new RuntimeException(e);
+        }
+      }
+    };
+    writerB.start();
+    assertTrue(writeStarted.await(5, TimeUnit.SECONDS));
+
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    final CountDownLatch read = new CountDownLatch(1);
+    final Thread readerA = new Thread() {
+      @Override
+      public void run() {
+        try {
+          if (buffer.readWait(TimeUnit.SECONDS, 30, new OutputStreamWriteAdapter(outputStream), colorA)) {
+            read.countDown();
+          }
+        }
+        catch (final Exception e) {
+          e.printStackTrace();
+        }
+      }
+    };
+    readerA.start();
+
+    buffer.write("A", colorA);
+
+    // the reader of color A is now waiting behind color B's segment.
+    Thread.sleep(100);
+    assertEquals(1, read.getCount());
+
+    releaseWrite.countDown();
+    assertTrue("reader was not woken when the write it was waiting behind completed", read.await(2, TimeUnit.SECONDS));
+    assertEquals("A", new String(outputStream.toByteArray()));
+
+    writerB.join();
+    readerA.join();
+  }
+
+  /**
+   * Measures the latency between a write and the read that picks it up, with locking and with lock-free reads,
+   * with several producers writing to several colors.
+   */
+  public void ignoreTestReadLatencyUnderContention() throws Exception {
+    final int producers = 8;
+    final int colorCount = 16;
+    final int messagesPerProducer = 200000;
+
+    for (final boolean lockFree : new boolean[]{false, true, false, true}) {
+      final TransmissionBuffer buffer = TransmissionBuffer.create(32, 1024 * 1024);
+      buffer.setLockFreeReads(lockFree);
+
+      final BufferColor[] colors = new BufferColor[colorCount];
+      for (int i = 0; i < colorCount; i++) {
+        colors[i] = BufferColor.getNewColor();
+      }
+
+      final ConcurrentLinkedQueue<long[]> latencies = new ConcurrentLinkedQueue<long[]>();
+      final int messagesPerColor = producers * messagesPerProducer / colorCount;
+      final Thread[] readers = new Thread[colorCount];
+      for (int c = 0; c < colorCount; c++) {
+        final BufferColor color = colors[c];
+        readers[c] = new Thread() {
+          @Override
+          public void run() {
+            final long[] samples = new long[messagesPerColor];
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            int received = 0;
+            try {
+              while (received < messagesPerColor) {
+                outputStream.reset();
+                buffer.readWait(TimeUnit.SECONDS, 5, new OutputStreamWriteAdapter(outputStream), color);
+                final long now = System.nanoTime();
+                for (final String message : new String(outputStream.toByteArray()).split(";")) {
+                  if (!message.isEmpty() && received < samples.length) {
+                    samples[received++] = now - Long.parseLong(message);
+                  }
+                }
+              }
+            }
+            catch (final Exception e) {
+              e.printStackTrace();
+            }
+            latencies.add(Arrays.copyOf(samples, received));
+          }
+        };
+        readers[c].start();
+      }
+
+      final long start = System.nanoTime();
+      final Thread[] writers = new Thread[producers];
+      for (int p = 0; p < producers; p++) {
+        final int producer = p;
+        writers[p] = new Thread() {
+          @Override
+          public void run() {
+            try {
+              for (int i = 0; i < messagesPerProducer; i++) {
+                buffer.write(System.nanoTime() + ";", colors[(producer + i) % colorCount]);
+              }
+            }
+            catch (final IOException e) {
+              throw new RuntimeException(e);
+            }
+          }
+        };
+        writers[p].start();
+      }
+
+      for (final Thread writer : writers) {
+        writer.join();
+      }
+      for (final Thread reader : readers) {
+        reader.join();
+      }
+      final long time = System.nanoTime() - start;
+
+      int count = 0;
+      for (final long[] samples : latencies) {
+        count += samples.length;
+      }
+      final long[] all = new long[count];
+      int pos = 0;
+      for (final long[] samples : latencies) {
+        System.arraycopy(samples, 0, all, pos, samples.length);
+        pos += samples.length;
+      }
+      Arrays.sort(all);
+
+      System.out.println((lockFree ? "lock-free" : "locking") + " reads: "
+          + (count * 1000L / TimeUnit.NANOSECONDS.toMillis(time)) + " messages/sec; latency p50="
+          + TimeUnit.NANOSECONDS.toMicros(all[count / 2]) + "us p99="
+          + TimeUnit.NANOSECONDS.toMicros(all[(int) (count * 0.99)]) + "us p99.9="
+          + TimeUnit.NANOSECONDS.toMicros(all[(int) (count * 0.999)]) + "us");
+    }
+  }
+
   public void testNoIndexOutOfBoundsExceptionWhenWritingAfterWriteHeadGetsLarge() throws Exception {
     // Preparation to get the writeSequenceNumber large enough
     final int segmentSize = 1;
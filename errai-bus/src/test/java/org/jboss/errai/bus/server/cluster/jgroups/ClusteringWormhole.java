@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.bus.server.cluster.jgroups;
+
+import org.jboss.errai.bus.client.api.messaging.MessageCallback;
+import org.jboss.errai.bus.server.api.ServerMessageBus;
+import org.jgroups.Address;
+
+/**
+ * Allows tests to inspect the session ownership directory of a clustered bus.
+ */
+public class ClusteringWormhole {
+
+  private static final String CLUSTER_SERVICE = "local:ErraiClusterService";
+
+  /**
+   * Returns the address of the bus that the specified bus believes owns the session, or null if it does not know.
+   */
+  public static Address getOwner(final ServerMessageBus bus, final String sessionId) {
+    return getProvider(bus).sessionDirectory.getOwner(sessionId);
+  }
+
+  /**
+   * Makes the specified bus forget which bus owns the session, so that it has to ask the cluster.
+   */
+  public static void forgetOwner(final ServerMessageBus bus, final String sessionId) {
+    final JGroupsClusteringProvider provider = getProvider(bus);
+    final Address owner = provider.sessionDirectory.getOwner(sessionId);
+    if (owner != null) {
+      provider.sessionDirectory.ownerReleased(sessionId, owner);
+    }
+  }
+
+  /**
+   * Returns the number of times the specified bus has asked the whole cluster who owns a session.
+   */
+  public static int getWhoHandlesBroadcasts(final ServerMessageBus bus) {
+    return getProvider(bus).whoHandlesBroadcasts.get();
+  }
+
+  private static JGroupsClusteringProvider getProvider(final ServerMessageBus bus) {
+    for (final MessageCallback receiver : bus.getReceivers(CLUSTER_SERVICE)) {
+      if (receiver instanceof JGroupsClusteringProvider) {
+        return (JGroupsClusteringProvider) receiver;
+      }
+    }
+    throw new IllegalStateException("bus is not clustered with jgroups");
+  }
+}
@@ -0,0 +1 @@
+$wnd.org_jboss_errai_bus_ErraiBusTests_JUnit.runAsyncCallback1("function Lcb(a,b){var c;eTb[c=++fTb]=Lcb;(gTb[c]=Qkc+uTb,a).d=b;fTb=c-1}\nfunction epb(a,b){var c;eTb[c=++fTb]=epb;Lcb((gTb[c]=Skc+oTb,a).a,b+='D');fTb=c-1}\nfunction jpb(a,b){var c;eTb[c=++fTb]=jpb;Lcb((gTb[c]=Tkc+oTb,a).a,b+='C');fTb=c-1}\nfunction qpb(a,b){var c;eTb[c=++fTb]=qpb;Lcb((gTb[c]=Rkc+tTb,a).a,b+'_intercepted');fTb=c-1}\nfunction opb(a){var b;eTb[b=++fTb]=opb;idb((gTb[b]=Rkc+YWb,a),new rpb(a));fTb=b-1}\nfunction rpb(a){var b;eTb[b=++fTb]=rpb;this.a=(gTb[b]=Rkc+YWb,a);fTb=b-1}\nfunction fpb(a){var b;eTb[b=++fTb]=fpb;this.a=(gTb[b]=Skc+tTb,a);fTb=b-1}\nfunction kpb(a){var b;eTb[b=++fTb]=kpb;this.a=(gTb[b]=Tkc+tTb,a);fTb=b-1}\nfunction mdb(a,b,c){var d;eTb[d=++fTb]=mdb;this.a=(gTb[d]=hbc+wZb,a);this.b=b;this.c=c;fTb=d-1}\nfunction zdb(a,b,c){var d;eTb[d=++fTb]=zdb;this.a=(gTb[d]=hbc+'712',a);this.b=b;this.c=c;fTb=d-1}\nfunction tdb(a,b){var c,d;eTb[d=++fTb]=tdb;c=(gTb[d]=hbc+'711',a).a.c;(gTb[d]=hbc+'712',a).a.c=new zdb(a,b,c);sdb((gTb[d]=hbc+'720',a));fTb=d-1}\nfunction idb(a,b){var c,d;eTb[d=++fTb]=idb;c=(gTb[d]=hbc+vZb,a).a.c;(gTb[d]=hbc+wZb,a).a.c=new mdb(a,b,c);hdb((gTb[d]=hbc+xZb,a));fTb=d-1}\nfunction cpb(a){var b,c;eTb[c=++fTb]=cpb;b=Bo((gTb[c]=Skc+YWb,(gTb[c]=Abc+pTb,(gTb[c]=Skc+YWb,a).e)[0]));gTb[c]=Skc+xYb,b+='A';Kcb((gTb[c]=Skc+ZWb,a),Hn(zn(St,1),DXb,1,5,[b]));tdb((gTb[c]=Skc+tTb,a),new fpb(a));fTb=c-1}\nfunction hpb(a){var b,c;eTb[c=++fTb]=hpb;b=Bo((gTb[c]=Tkc+YWb,(gTb[c]=Abc+pTb,(gTb[c]=Tkc+YWb,a).e)[0]));gTb[c]=Tkc+xYb,b+='B';Kcb((gTb[c]=Tkc+ZWb,a),Hn(zn(St,1),DXb,1,5,[b]));tdb((gTb[c]=Tkc+tTb,a),new kpb(a));fTb=c-1}\nfunction mpb(a){var b,c;eTb[c=++fTb]=mpb;b=Bo((gTb[c]=Ukc+YWb,(gTb[c]=Abc+pTb,(gTb[c]=Ukc+YWb,a).e)[0]));xT((gTb[c]=Ukc+xYb,b),R1b)&&(gTb[c]=Ukc+ZWb,b=ncc);Kcb((gTb[c]=Ukc+mTb,a),Hn(zn(St,1),DXb,1,5,[b]));odb((gTb[c]=Ukc+nTb,a));fTb=c-1}\nvar Qkc='RemoteCallContext.java:',Rkc='RpcResultManipulatingInterceptor.java:',Skc='RpcInterceptorOne.java:',Tkc='RpcInterceptorTwo.java:',Ukc='RpcParameterManipulatingInterceptor.java:';lH(710,1,{});_.Jd=function Pcb(a){var b;eTb[b=++fTb]=Pcb;gTb[b]=Zdc+RTb,(gTb[b]=hbc+QUb,this.c).c=false;gTb[b]=Qkc+uTb,(vo((gTb[b]=hbc+q1b,a),147),this.b).d=mcc;(gTb[b]=hbc+e$b,!(gTb[b]=Zdc+wTb,(gTb[b]=hbc+e$b,this.c).c))&&hB==mtb(this.c)&&(gTb[b]=hbc+d0b,this.a).a.c.Jd((hTb=(gTb[b]=Qkc+mTb,this.b.d),gTb[b]=hbc+d0b,hTb));fTb=b-1};lH(712,1,{});_.Jd=function Tcb(a){var b;eTb[b=++fTb]=Tcb;gTb[b]=Zdc+RTb,(gTb[b]=hbc+i$b,this.c).c=false;gTb[b]=Qkc+uTb,(vo((gTb[b]=hbc+j$b,a),147),this.b).d=mcc;(gTb[b]=hbc+eXb,!(gTb[b]=Zdc+wTb,(gTb[b]=hbc+eXb,this.c).c))&&hB==mtb(this.c)&&(gTb[b]=hbc+HXb,this.a).a.c.Jd((hTb=(gTb[b]=Qkc+mTb,this.b.d),gTb[b]=hbc+HXb,hTb));fTb=b-1};lH(716,1,{});_.Jd=function gdb(a){var b;eTb[b=++fTb]=gdb;gTb[b]=Zdc+RTb,(gTb[b]=hbc+r_b,this.c).c=false;gTb[b]=Qkc+uTb,(vo((gTb[b]=hbc+g8b,a),147),this.b).d=mcc;(gTb[b]=hbc+G4b,!(gTb[b]=Zdc+wTb,(gTb[b]=hbc+G4b,this.c).c))&&hB==mtb(this.c)&&(gTb[b]=hbc+EZb,this.a).a.c.Jd((hTb=(gTb[b]=Qkc+mTb,this.b.d),gTb[b]=hbc+EZb,hTb));fTb=b-1};lH(718,1,{});_.Jd=function ldb(a){var b;eTb[b=++fTb]=ldb;gTb[b]=Zdc+RTb,(gTb[b]=hbc+pZb,this.c).c=false;opb((vo((gTb[b]=hbc+'510',a),281),this.b));(gTb[b]=hbc+'511',!(gTb[b]=Zdc+wTb,(gTb[b]=hbc+'511',this.c).c))&&oB==mtb(this.c)&&(gTb[b]=hbc+qZb,this.a).a.c.Jd((hTb=(gTb[b]=Qkc+mTb,this.b.d),gTb[b]=hbc+qZb,hTb));fTb=b-1};lH(719,1,{},mdb);_.Jd=function ndb(a){var b,c;eTb[c=++fTb]=ndb;b=(gTb[c]=hbc+q5b,this.b);Lcb((gTb[c]=hbc+S6b,this.a),a);qpb((gTb[c]=hbc+T6b,b),Bo((hTb=(gTb[c]=Qkc+mTb,this.a.d),gTb[c]=Rkc+ZWb,hTb)));(gTb[c]=hbc+M4b,this.c).Jd((hTb=(gTb[c]=Qkc+mTb,this.a.d),gTb[c]=hbc+M4b,hTb));fTb=c-1};var Yx=nR(Xac,'RpcProxyLoaderImpl/1org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl/2/3',719,St);lH(721,1,{});_.Jd=function rdb(a){var b;eTb[b=++fTb]=rdb;gTb[b]=Zdc+RTb,(gTb[b]=hbc+'598',this.c).c=false;mpb((vo((gTb[b]=hbc+'599',a),282),this.b));(gTb[b]=hbc+VZb,!(gTb[b]=Zdc+wTb,(gTb[b]=hbc+VZb,this.c).c))&&mB==mtb(this.c)&&(gTb[b]=hbc+L9b,this.a).a.c.Jd((hTb=(gTb[b]=Qkc+mTb,this.b.d),gTb[b]=hbc+L9b,hTb));fTb=b-1};lH(723,1,{});_.Jd=function wdb(a){var b;eTb[b=++fTb]=wdb;gTb[b]=Zdc+RTb,(gTb[b]=hbc+'687',this.c).c=false;cpb((vo((gTb[b]=hbc+'688',a),283),this.b));(gTb[b]=hbc+'689',!(gTb[b]=Zdc+wTb,(gTb[b]=hbc+'689',this.c).c))&&jB==mtb(this.c)&&(gTb[b]=hbc+'690',this.a).a.c.Jd((hTb=(gTb[b]=Qkc+mTb,this.b.d),gTb[b]=hbc+'690',hTb));fTb=b-1};lH(724,1,{});_.Jd=function ydb(a){var b;eTb[b=++fTb]=ydb;gTb[b]=Zdc+RTb,(gTb[b]=hbc+'699',this.c).c=false;hpb((vo((gTb[b]=hbc+'700',a),284),this.b));(gTb[b]=hbc+l8b,!(gTb[b]=Zdc+wTb,(gTb[b]=hbc+l8b,this.c).c))&&lB==mtb(this.c)&&(gTb[b]=hbc+J0b,this.a).a.c.Jd((hTb=(gTb[b]=Qkc+mTb,this.b.d),gTb[b]=hbc+J0b,hTb));fTb=b-1};lH(725,1,{},zdb);_.Jd=function Adb(a){var b,c;eTb[c=++fTb]=Adb;b=(gTb[c]=hbc+'714',this.b);Lcb((gTb[c]=hbc+K0b,this.a),a);(gTb[c]=hbc+ebc,b).Jd((hTb=(gTb[c]=Qkc+mTb,this.a.d),gTb[c]=hbc+ebc,hTb));(gTb[c]=hbc+'717',this.c).Jd((hTb=(gTb[c]=Qkc+mTb,this.a.d),gTb[c]=hbc+'717',hTb));fTb=c-1};var cy=nR(Xac,'RpcProxyLoaderImpl/1org_jboss_errai_bus_client_tests_support_TestRPCServiceImpl/4/4',725,St);lH(797,1,{},fpb);_.Jd=function gpb(a){var b;eTb[b=++fTb]=gpb;epb(this,Bo((gTb[b]=Skc+nTb,a)));fTb=b-1};var iB=nR(zbc,'RpcInterceptorOne/1',797,St);lH(798,1,{},kpb);_.Jd=function lpb(a){var b;eTb[b=++fTb]=lpb;jpb(this,Bo((gTb[b]=Tkc+nTb,a)));fTb=b-1};var kB=nR(zbc,'RpcInterceptorTwo/1',798,St);lH(796,1,{},rpb);_.Jd=function spb(a){var b;eTb[b=++fTb]=spb;qpb(this,Bo((gTb[b]=Rkc+ZWb,a)));fTb=b-1};var nB=nR(zbc,'RpcResultManipulatingInterceptor/1',796,St);lH(806,1,{300:1});_.fb=function Vvb(){var a;eTb[a=++fTb]=Vvb;(gTb[a]=Iec+oTb,this.b).Jd(this.a);fTb=a-1};dTb(Wc)(1);\n//# sourceURL=org.jboss.errai.bus.ErraiBusTests.JUnit-1.js\n")
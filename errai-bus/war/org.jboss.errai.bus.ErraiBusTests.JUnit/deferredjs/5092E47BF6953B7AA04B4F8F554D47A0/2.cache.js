@@ -0,0 +1 @@
+$wnd.org_jboss_errai_bus_ErraiBusTests_JUnit.runAsyncCallback2('dTb(Wc)(2);\n//# sourceURL=org.jboss.errai.bus.ErraiBusTests.JUnit-2.js\n')
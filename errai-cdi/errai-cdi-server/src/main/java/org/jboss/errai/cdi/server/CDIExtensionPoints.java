@@ -70,11 +70,13 @@ import org.jboss.errai.bus.server.util.ServiceMethodParser;
 import org.jboss.errai.bus.server.util.ServiceParser;
 import org.jboss.errai.bus.server.util.ServiceTypeParser;
 import org.jboss.errai.cdi.server.events.AnyEventObserver;
+import org.jboss.errai.cdi.server.events.PortableEventTypes;
 import org.jboss.errai.cdi.server.events.EventDispatcher;
 import org.jboss.errai.cdi.server.events.EventRoutingTable;
 import org.jboss.errai.cdi.server.events.ShutdownEventObserver;
 import org.jboss.errai.codegen.util.ProxyUtil;
 import org.jboss.errai.common.client.api.Assert;
+import org.jboss.errai.common.client.api.annotations.Portable;
 import org.jboss.errai.common.client.framework.ProxyFactory;
 import org.jboss.errai.common.server.api.ErraiBootstrapFailure;
 import org.jboss.errai.config.rebind.EnvUtil;
@@ -105,6 +107,7 @@ public class CDIExtensionPoints implements Extension {
   private final Map<String, Annotation> beanQualifiers = new HashMap<>();
 
   private final Set<String> observableEvents = new HashSet<>();
+  private final Set<Class<?>> portableTypes = new HashSet<>();
 
   private static final Set<String> vetoClasses;
 
@@ -174,6 +177,7 @@ public class CDIExtensionPoints implements Extension {
     final AnnotatedType<T> type = event.getAnnotatedType();
 
     registerBeanQualifiers(type);
+    registerPortableType(type);
     maybeRegisterServices(type);
     maybeVetoClientClass(event, type);
   }
@@ -186,6 +190,12 @@ public class CDIExtensionPoints implements Extension {
     }
   }
 
+  private <T> void registerPortableType(final AnnotatedType<T> type) {
+    if (type.getJavaClass().isAnnotationPresent(Portable.class)) {
+      portableTypes.add(type.getJavaClass());
+    }
+  }
+
   private <T> void maybeVetoClientClass(final ProcessAnnotatedType<T> event, final AnnotatedType<T> type) {
     // veto on client side implementations that contain CDI annotations
     // (i.e. @Observes) Otherwise Weld might try to invoke on them
@@ -303,7 +313,7 @@ public class CDIExtensionPoints implements Extension {
     final EventDispatcher eventDispatcher =
             new EventDispatcher(bm, eventRoutingTable, bus, observableEvents, eventQualifiers);
 
-    AnyEventObserver.init(eventDispatcher);
+    AnyEventObserver.init(eventDispatcher, PortableEventTypes.create(portableTypes));
 
     // subscribe event dispatcher
     bus.subscribe(CDI.SERVER_DISPATCHER_SUBJECT, eventDispatcher);
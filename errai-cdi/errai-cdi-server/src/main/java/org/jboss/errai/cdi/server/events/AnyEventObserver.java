@@ -20,7 +20,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.spi.EventMetadata;
 
-import org.jboss.errai.config.rebind.EnvUtil;
+import java.util.Collections;
 
 /**
  * Managed bean that observes all server-side events and dispatches them to the
@@ -32,8 +32,20 @@ import org.jboss.errai.config.rebind.EnvUtil;
 public class AnyEventObserver {
 
   private static EventDispatcher eventDispatcher;
+  private static PortableEventTypes portableEventTypes;
 
   public static void init(EventDispatcher dispatcher) {
+    init(dispatcher, PortableEventTypes.create(Collections.<Class<?>> emptySet()));
+  }
+
+  /**
+   * @param dispatcher
+   *          the dispatcher forwarding events to clients.
+   * @param types
+   *          the event types to forward, computed once at deployment.
+   */
+  public static void init(EventDispatcher dispatcher, PortableEventTypes types) {
+    portableEventTypes = types;
     eventDispatcher = dispatcher;
   }
 
@@ -45,7 +57,7 @@ public class AnyEventObserver {
 
     // Check if the event is a portable Errai CDI event and should be forwarded
     // to all listening clients
-    if (EnvUtil.isPortableType(event.getClass())) {
+    if (portableEventTypes.isPortable(event.getClass())) {
       eventDispatcher.sendEventToClients(event, emd);
     }
 
@@ -25,7 +25,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.EventMetadata;
@@ -39,6 +38,7 @@ import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.bus.client.api.messaging.MessageBus;
 import org.jboss.errai.bus.client.api.messaging.MessageCallback;
 import org.jboss.errai.bus.server.api.RpcContext;
+import org.jboss.errai.bus.server.api.ServerMessageBus;
 import org.jboss.errai.bus.server.util.LocalContext;
 import org.jboss.errai.common.client.protocols.MessageParts;
 import org.jboss.errai.config.rebind.EnvUtil;
@@ -66,9 +66,6 @@ public class EventDispatcher implements MessageCallback {
   private final Set<String> observedEvents;
   private final Map<String, Annotation> eventQualifiers;
 
-  private final Set<ClientObserverMetadata> clientObservers = Collections
-          .newSetFromMap(new ConcurrentHashMap<ClientObserverMetadata, Boolean>());
-
   public EventDispatcher(final BeanManager beanManager, final EventRoutingTable eventRoutingTable,
           final MessageBus messageBus, final Set<String> observedEvents, final Map<String, Annotation> eventQualifiers) {
 
@@ -92,15 +89,11 @@ public class EventDispatcher implements MessageCallback {
 
       switch (CDICommands.valueOf(message.getCommandType())) {
       case RemoteSubscribe:
+        // the routing table is the only record of client observers, so every subscription is checked here.
         final Class<?> type = Thread.currentThread().getContextClassLoader().loadClass(typeName);
-        final ClientObserverMetadata clientObserver = new ClientObserverMetadata(type, annotationTypes);
-
-        if (!clientObservers.contains(clientObserver)) {
-          if (type == null || !EnvUtil.isPortableType(type)) {
-            log.warn("client tried to register a non-portable type: " + type);
-            return;
-          }
-          clientObservers.add(clientObserver);
+        if (type == null || !EnvUtil.isPortableType(type)) {
+          log.warn("client tried to register a non-portable type: " + type);
+          return;
         }
         eventRoutingTable.activateRoute(typeName, annotationTypes, message.getResource(QueueSession.class, "Session"));
         break;
@@ -182,16 +175,19 @@ public class EventDispatcher implements MessageCallback {
   }
 
   public void sendEventToClients(Object event, EventMetadata emd) {
-    for (final ClientObserverMetadata clientObserver : clientObservers) {
-      if (clientObserver.matches(event, emd)) {
-        sendEventToClient(event, clientObserver.getQualifiers());
-      }
+    final Set<String> qualifiers = (emd != null) ? CDI
+            .getQualifiersPart(emd.getQualifiers().toArray(new Annotation[0])) : Collections.<String> emptySet();
+
+    for (final EventRoutingTable.Route route : eventRoutingTable.getRoutesForEvent(event.getClass().getName(),
+            qualifiers)) {
+      sendEventToClient(event, route);
     }
   }
 
-  private void sendEventToClient(Object event, Set<String> qualifierTypes) {
+  private void sendEventToClient(Object event, EventRoutingTable.Route route) {
     final Class<? extends Object> eventType = event.getClass();
     final String sessionId = getConversationalSessionId(eventType);
+    final Set<String> qualifierTypes = route.getQualifiers();
 
     final Map<String, Object> messageParts = new HashMap<String, Object>(10);
     messageParts.put(MessageParts.ToSubject.name(), getSubjectNameByType(eventType.getName()));
@@ -207,8 +203,15 @@ public class EventDispatcher implements MessageCallback {
       messageParts.put(MessageParts.SessionID.name(), sessionId);
       messagebus.send(CommandMessage.createWithParts(messageParts));
     }
+    else if (messagebus instanceof ServerMessageBus) {
+      // every session of the route receives the same message, so it only needs to be encoded once.
+      if (!route.getSessionIds().isEmpty()) {
+        ((ServerMessageBus) messagebus).sendToSessions(CommandMessage.createWithParts(messageParts),
+            route.getSessionIds());
+      }
+    }
     else {
-      for (final String id : eventRoutingTable.getQueueIdsForRoute(eventType.getName(), qualifierTypes)) {
+      for (final String id : route.getSessionIds()) {
         messagebus.send(CommandMessage.createWithParts(new RoutingMap(messageParts, id)));
       }
     }
@@ -16,12 +16,15 @@
 
 package org.jboss.errai.cdi.server.events;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.enterprise.inject.Any;
 
 import org.jboss.errai.bus.client.api.QueueSession;
 import org.jboss.errai.bus.client.api.laundry.Laundry;
@@ -30,47 +33,33 @@ import org.jboss.errai.bus.client.api.laundry.LaundryListProviderFactory;
 
 /**
  * <a href="http://www.youtube.com/watch?v=qBXn9PptgN8">Architectural Overview</a>
+ * <p>
+ * Every event type has one {@link Route} per distinct set of qualifiers that clients observe it with. Qualifier sets
+ * are also kept as bitmaps, so the routes matching the qualifiers of a fired event can be found by subset tests on
+ * bitmaps. The result is cached per event type and qualifier bitmap until a route of the type is added or removed.
  *
  * @author Mike Brock
  */
 public class EventRoutingTable {
   private static final String CDI_EVENT_ROUTES_ACTIVE = "cdi.event.routesActive";
+  private static final String ANY_QUALIFIER = Any.class.getName();
 
-  // type to (set<annotations> to set<session ids>)
-  private final Map<String, Map<Set<String>, Set<String>>> activeRoutes
-      = new ConcurrentHashMap<String, Map<Set<String>, Set<String>>>();
+  // type to its routes
+  private final ConcurrentMap<String, TypeRoutes> activeRoutes = new ConcurrentHashMap<String, TypeRoutes>();
 
-  private final Object routeChangeLock = new Object();
-  private final Object sessionChangeLock = new Object();
+  // qualifier to its bit in the qualifier bitmaps
+  private final ConcurrentMap<String, Integer> qualifierBits = new ConcurrentHashMap<String, Integer>();
 
   public void activateRoute(final String eventType,
                             final Set<String> annotations,
                             final QueueSession queueSession) {
 
-
-    Map<Set<String>, Set<String>> route = activeRoutes.get(eventType);
-    if (route == null) {
-      synchronized (routeChangeLock) {
-        route = activeRoutes.get(eventType);
-        if (route == null) {
-          activeRoutes.put(eventType, route = new ConcurrentHashMap<Set<String>, Set<String>>());
-        }
-      }
-    }
-
-    Set<String> sessions = route.get(annotations);
-
-    if (sessions == null) {
-      synchronized (sessionChangeLock) {
-        sessions = route.get(annotations);
-        if (sessions == null) {
-          route.put(annotations, sessions =
-              Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>()));
-        }
-      }
+    TypeRoutes typeRoutes = activeRoutes.get(eventType);
+    if (typeRoutes == null) {
+      typeRoutes = activeRoutes.computeIfAbsent(eventType, type -> new TypeRoutes());
     }
 
-    sessions.add(queueSession.getSessionId());
+    typeRoutes.addSession(annotations, queueSession.getSessionId());
 
     updateLaundry(queueSession);
   }
@@ -79,70 +68,73 @@ public class EventRoutingTable {
                               final Set<String> annotations,
                               final QueueSession queueSession) {
 
-    final Map<Set<String>, Set<String>> route = activeRoutes.get(eventType);
-    if (route == null) {
+    final TypeRoutes typeRoutes = activeRoutes.get(eventType);
+    if (typeRoutes == null) {
       return;
     }
 
-    final Set<String> sessions = route.get(annotations);
-    if (sessions == null) {
-      for (final Map.Entry<Set<String>, Set<String>> entry : activeRoutes.get(eventType).entrySet()) {
-        if (annotations.containsAll(entry.getKey())) {
-          entry.getValue().remove(queueSession.getSessionId());
-        }
-      }
+    if (typeRoutes.routes.containsKey(annotations)) {
+      typeRoutes.removeSession(annotations, queueSession.getSessionId());
     }
     else {
-      sessions.remove(queueSession.getSessionId());
+      for (final Route route : typeRoutes.routes.values()) {
+        if (annotations.containsAll(route.qualifiers)) {
+          typeRoutes.removeSession(route.qualifiers, queueSession.getSessionId());
+        }
+      }
     }
   }
 
-  public boolean isRouteActive(final String eventType,
-                               final Set<String> annotations,
-                               final QueueSession queueSession) {
-    final Map<Set<String>, Set<String>> route = activeRoutes.get(eventType);
-    if (route == null) {
-      return false;
+  /**
+   * Returns the routes of all client observers that an event of the given type, fired with the given qualifiers,
+   * must be delivered to. A route matches if it has no qualifiers, observes {@link Any}, or its qualifiers are a
+   * subset of the event's qualifiers.
+   *
+   * @param eventType
+   *          the fully qualified class name of the fired event.
+   * @param eventQualifiers
+   *          the qualifiers the event was fired with.
+   * @return the matching routes. Never null.
+   */
+  public List<Route> getRoutesForEvent(final String eventType, final Set<String> eventQualifiers) {
+    final TypeRoutes typeRoutes = activeRoutes.get(eventType);
+    if (typeRoutes == null) {
+      return Collections.emptyList();
     }
-    final Set<String> sessions = route.get(annotations);
-    final boolean active = sessions != null && sessions.contains(queueSession.getSessionId());
-    return active;
-  }
-
-  public Collection<String> getQueueIdsForRoute(final String eventType,
-                                                final Set<String> annotations) {
 
-    final Map<Set<String>, Set<String>> route = activeRoutes.get(eventType);
-    if (route == null) {
-      return Collections.emptySet();
+    final BitSet eventBits = new BitSet();
+    for (final String qualifier : eventQualifiers) {
+      final Integer bit = qualifierBits.get(qualifier);
+      if (bit != null) {
+        eventBits.set(bit);
+      }
     }
 
-    final Set<String> sessions = route.get(annotations);
-    if (sessions == null) {
-      final Set<String> ids = new HashSet<String>();
-      for (final Map.Entry<Set<String>, Set<String>> entry : activeRoutes.get(eventType).entrySet()) {
-        if (annotations.containsAll(entry.getKey())) {
-          ids.addAll(entry.getValue());
-        }
-      }
+    return typeRoutes.getRoutesFor(eventBits);
+  }
 
-      synchronized (sessionChangeLock) {
-        final Map<Set<String>, Set<String>> routeMap = new ConcurrentHashMap<Set<String>, Set<String>>();
-        routeMap.put(annotations, ids);
-        activeRoutes.put(eventType, routeMap);
+  private BitSet toBits(final Set<String> qualifiers) {
+    final BitSet bits = new BitSet();
+    for (final String qualifier : qualifiers) {
+      Integer bit = qualifierBits.get(qualifier);
+      if (bit == null) {
+        synchronized (qualifierBits) {
+          bit = qualifierBits.get(qualifier);
+          if (bit == null) {
+            qualifierBits.put(qualifier, bit = qualifierBits.size());
+          }
+        }
       }
-
-      return ids;
+      bits.set(bit);
     }
-
-    return sessions;
+    return bits;
   }
 
   private void removeAllForId(final String id) {
-    synchronized (sessionChangeLock) {
-      for (final Map<Set<String>, Set<String>> routeMaps : activeRoutes.values()) {
-        for (final Map.Entry<Set<String>, Set<String>> entry : routeMaps.entrySet()) {
-          entry.getValue().remove(id);
+    for (final TypeRoutes typeRoutes : activeRoutes.values()) {
+      for (final Route route : typeRoutes.routes.values()) {
+        if (route.sessionIds.contains(id)) {
+          typeRoutes.removeSession(route.qualifiers, id);
         }
       }
     }
@@ -161,8 +153,102 @@ public class EventRoutingTable {
               removeAllForId(queueSession.getSessionId());
             }
           });
+          queueSession.setAttribute(CDI_EVENT_ROUTES_ACTIVE, Boolean.TRUE);
         }
       }
     }
   }
+
+  /**
+   * The sessions observing an event type with one particular set of qualifiers.
+   */
+  public static final class Route {
+    private final Set<String> qualifiers;
+    private final BitSet qualifierBits;
+    private final boolean matchesAll;
+    private final Set<String> sessionIds = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    private Route(final Set<String> qualifiers, final BitSet qualifierBits) {
+      this.qualifiers = qualifiers;
+      this.qualifierBits = qualifierBits;
+      this.matchesAll = qualifiers.isEmpty() || qualifiers.contains(ANY_QUALIFIER);
+    }
+
+    public Set<String> getQualifiers() {
+      return qualifiers;
+    }
+
+    /**
+     * @return a live view of the ids of the sessions observing this route.
+     */
+    public Set<String> getSessionIds() {
+      return sessionIds;
+    }
+
+    private boolean matches(final BitSet eventBits) {
+      if (matchesAll) {
+        return true;
+      }
+      final BitSet missing = (BitSet) qualifierBits.clone();
+      missing.andNot(eventBits);
+      return missing.isEmpty();
+    }
+  }
+
+  private final class TypeRoutes {
+    private final ConcurrentHashMap<Set<String>, Route> routes = new ConcurrentHashMap<Set<String>, Route>();
+
+    // event qualifier bitmap to the matching routes. replaced, rather than cleared, whenever routes are added or
+    // removed, so a lookup racing with the change cannot store a stale result in the new cache.
+    private volatile ConcurrentHashMap<BitSet, List<Route>> closures = new ConcurrentHashMap<BitSet, List<Route>>();
+
+    private void addSession(final Set<String> qualifiers, final String sessionId) {
+      final boolean[] created = new boolean[1];
+      routes.compute(qualifiers, (key, route) -> {
+        if (route == null) {
+          route = new Route(key, toBits(key));
+          created[0] = true;
+        }
+        route.sessionIds.add(sessionId);
+        return route;
+      });
+
+      if (created[0]) {
+        closures = new ConcurrentHashMap<BitSet, List<Route>>();
+      }
+    }
+
+    private void removeSession(final Set<String> qualifiers, final String sessionId) {
+      final boolean[] removed = new boolean[1];
+      routes.computeIfPresent(qualifiers, (key, route) -> {
+        route.sessionIds.remove(sessionId);
+        if (route.sessionIds.isEmpty()) {
+          removed[0] = true;
+          return null;
+        }
+        return route;
+      });
+
+      if (removed[0]) {
+        closures = new ConcurrentHashMap<BitSet, List<Route>>();
+      }
+    }
+
+    private List<Route> getRoutesFor(final BitSet eventBits) {
+      final ConcurrentHashMap<BitSet, List<Route>> cache = closures;
+
+      List<Route> matching = cache.get(eventBits);
+      if (matching == null) {
+        matching = new ArrayList<Route>();
+        for (final Route route : routes.values()) {
+          if (route.matches(eventBits)) {
+            matching.add(route);
+          }
+        }
+        cache.put(eventBits, matching = Collections.unmodifiableList(matching));
+      }
+
+      return matching;
+    }
+  }
 }
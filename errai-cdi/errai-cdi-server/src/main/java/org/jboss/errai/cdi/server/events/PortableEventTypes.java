@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.cdi.server.events;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jboss.errai.codegen.meta.MetaClass;
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.jboss.errai.common.client.types.TypeHandlerFactory;
+import org.jboss.errai.config.rebind.EnvUtil;
+import org.jboss.errai.config.rebind.EnvironmentConfig;
+
+/**
+ * The event types that can be forwarded to clients, computed once at deployment so that
+ * {@link AnyEventObserver} can reject all other events without consulting {@link EnvUtil#isPortableType(Class)}.
+ */
+public final class PortableEventTypes {
+  private final Set<Class<?>> types;
+
+  /**
+   * Remembers the outcome of {@link #isPortable(Class)} for each type, whether or not it is portable, so that the
+   * annotation and type handler lookups are made once per type.
+   */
+  private final ClassValue<Boolean> portable = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(final Class<?> type) {
+      return types.contains(type) || type.isAnnotationPresent(Portable.class)
+          || TypeHandlerFactory.getHandler(type) != null;
+    }
+  };
+
+  private PortableEventTypes(final Set<Class<?>> types) {
+    this.types = Collections.unmodifiableSet(types);
+  }
+
+  /**
+   * Collects the portable types of the Errai environment: all exposed types (including those annotated with
+   * {@code @Portable}), their portable super types and the specified types discovered by the CDI container.
+   *
+   * @param discoveredTypes
+   *          portable types discovered during deployment, which may be missing from the Errai environment.
+   */
+  public static PortableEventTypes create(final Collection<Class<?>> discoveredTypes) {
+    final Set<Class<?>> types = new HashSet<Class<?>>(discoveredTypes);
+    types.add(String.class);
+
+    final EnvironmentConfig config = EnvUtil.getEnvironmentConfig();
+    addAll(types, config.getExposedClasses());
+    addAll(types, config.getPortableSuperTypes());
+
+    return new PortableEventTypes(types);
+  }
+
+  private static void addAll(final Set<Class<?>> types, final Collection<MetaClass> metaClasses) {
+    for (final MetaClass mc : metaClasses) {
+      try {
+        types.add(mc.asClass());
+      }
+      catch (final Throwable t) {
+        // not loadable on the server, so no event of this type can be fired.
+      }
+    }
+  }
+
+  /**
+   * @return true if events of exactly the given type may be sent to clients.
+   */
+  public boolean isPortable(final Class<?> type) {
+    return portable.get(type);
+  }
+}
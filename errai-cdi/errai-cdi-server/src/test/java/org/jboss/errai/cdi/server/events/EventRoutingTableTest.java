@@ -0,0 +1,181 @@
+package org.jboss.errai.cdi.server.events;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import javax.enterprise.inject.Any;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+public class EventRoutingTableTest {
+
+  private static Set<String> qualifiers(String... names) {
+    return new HashSet<String>(Arrays.asList(names));
+  }
+
+  private static Set<Set<String>> routedQualifiers(List<EventRoutingTable.Route> routes) {
+    final Set<Set<String>> result = new HashSet<Set<String>>();
+    for (final EventRoutingTable.Route route : routes) {
+      result.add(route.getQualifiers());
+    }
+    return result;
+  }
+
+  private static Set<String> routedSessions(EventRoutingTable table, String eventType, Set<String> eventQualifiers) {
+    final Set<String> result = new HashSet<String>();
+    for (final EventRoutingTable.Route route : table.getRoutesForEvent(eventType, eventQualifiers)) {
+      result.addAll(route.getSessionIds());
+    }
+    return result;
+  }
+
+  @Test
+  public void routesMatchUnqualifiedAnyAndSubsetObservers() {
+    final EventRoutingTable table = new EventRoutingTable();
+    table.activateRoute("Event", qualifiers(), new MockQueueSession("a"));
+    table.activateRoute("Event", qualifiers("A"), new MockQueueSession("b"));
+    table.activateRoute("Event", qualifiers("A", "B"), new MockQueueSession("c"));
+    table.activateRoute("Event", qualifiers(Any.class.getName()), new MockQueueSession("d"));
+    table.activateRoute("Other", qualifiers("A"), new MockQueueSession("e"));
+
+    assertEquals(new HashSet<Set<String>>(Arrays.asList(qualifiers(), qualifiers("A"),
+        qualifiers(Any.class.getName()))), routedQualifiers(table.getRoutesForEvent("Event", qualifiers("A", "C"))));
+
+    assertEquals(new HashSet<Set<String>>(Arrays.asList(qualifiers(), qualifiers("A"), qualifiers("A", "B"),
+        qualifiers(Any.class.getName()))), routedQualifiers(table.getRoutesForEvent("Event", qualifiers("A", "B"))));
+
+    assertEquals(new HashSet<Set<String>>(Arrays.asList(qualifiers(), qualifiers(Any.class.getName()))),
+        routedQualifiers(table.getRoutesForEvent("Event", qualifiers("Unknown"))));
+
+    assertTrue(table.getRoutesForEvent("Unobserved", qualifiers()).isEmpty());
+  }
+
+  @Test
+  public void routesAreUpdatedOnActivateAndDeactivate() {
+    final EventRoutingTable table = new EventRoutingTable();
+    final MockQueueSession a = new MockQueueSession("a");
+    final MockQueueSession b = new MockQueueSession("b");
+
+    table.activateRoute("Event", qualifiers("A"), a);
+    assertEquals(1, table.getRoutesForEvent("Event", qualifiers("A")).size());
+    assertEquals(Collections.singleton("a"), table.getRoutesForEvent("Event", qualifiers("A")).get(0).getSessionIds());
+
+    table.activateRoute("Event", qualifiers("A"), b);
+    table.activateRoute("Event", qualifiers("B"), b);
+    assertEquals(qualifiers("a", "b"), routedSessions(table, "Event", qualifiers("A")));
+    assertEquals(2, table.getRoutesForEvent("Event", qualifiers("A", "B")).size());
+    assertEquals(qualifiers("b"), routedSessions(table, "Event", qualifiers("B")));
+
+    table.deactivateRoute("Event", qualifiers("B"), b);
+    assertTrue(routedSessions(table, "Event", qualifiers("B")).isEmpty());
+    assertEquals(1, table.getRoutesForEvent("Event", qualifiers("A", "B")).size());
+
+    table.deactivateRoute("Event", qualifiers("A"), a);
+    assertEquals(Collections.singleton("b"), table.getRoutesForEvent("Event", qualifiers("A")).get(0).getSessionIds());
+
+    table.deactivateRoute("Event", qualifiers("A"), b);
+    assertTrue(table.getRoutesForEvent("Event", qualifiers("A")).isEmpty());
+  }
+
+  @Test
+  public void subsetLookupDoesNotReplaceExistingRoutes() {
+    final EventRoutingTable table = new EventRoutingTable();
+    table.activateRoute("Event", qualifiers("A"), new MockQueueSession("a"));
+    table.activateRoute("Event", qualifiers("B"), new MockQueueSession("b"));
+
+    assertEquals(qualifiers("a", "b"), routedSessions(table, "Event", qualifiers("A", "B")));
+    assertEquals(qualifiers("a"), routedSessions(table, "Event", qualifiers("A")));
+    assertEquals(qualifiers("b"), routedSessions(table, "Event", qualifiers("B")));
+  }
+
+  /**
+   * Looks up the routes of events fired with random qualifiers for 500 event types and 20 qualifiers, observed by
+   * 50,000 sessions, and compares the index with scanning every route.
+   */
+  @Test
+  @Ignore
+  public void routingThroughput() {
+    final Random random = new Random(42);
+    final EventRoutingTable table = new EventRoutingTable();
+    final List<String> types = new ArrayList<String>();
+    for (int i = 0; i < 500; i++) {
+      types.add("org.example.Event" + i);
+    }
+
+    // type, qualifiers and the ids of the sessions observing them, as the dispatcher used to keep them.
+    final List<Object[]> observers = new ArrayList<Object[]>();
+    final Map<List<Object>, Object[]> distinctObservers = new HashMap<List<Object>, Object[]>();
+    for (int s = 0; s < 50000; s++) {
+      final MockQueueSession session = new MockQueueSession("session" + s);
+      for (int i = 0; i < 4; i++) {
+        final String type = types.get(random.nextInt(types.size()));
+        final Set<String> qualifiers = randomQualifiers(random, 2);
+        table.activateRoute(type, qualifiers, session);
+        Object[] observer = distinctObservers.get(Arrays.<Object>asList(type, qualifiers));
+        if (observer == null) {
+          observer = new Object[] { type, qualifiers, new HashSet<String>() };
+          distinctObservers.put(Arrays.<Object>asList(type, qualifiers), observer);
+          observers.add(observer);
+        }
+        @SuppressWarnings("unchecked")
+        final Set<String> sessionIds = (Set<String>) observer[2];
+        sessionIds.add(session.getSessionId());
+      }
+    }
+
+    final List<String> firedTypes = new ArrayList<String>();
+    final List<Set<String>> firedQualifiers = new ArrayList<Set<String>>();
+    for (int i = 0; i < 2000; i++) {
+      firedTypes.add(types.get(random.nextInt(types.size())));
+      firedQualifiers.add(randomQualifiers(random, 4));
+    }
+
+    for (int round = 0; round < 5; round++) {
+      long start = System.nanoTime();
+      long scanned = 0;
+      for (int i = 0; i < firedTypes.size(); i++) {
+        for (final Object[] observer : observers) {
+          @SuppressWarnings("unchecked")
+          final Set<String> qualifiers = (Set<String>) observer[1];
+          if (observer[0].equals(firedTypes.get(i)) && firedQualifiers.get(i).containsAll(qualifiers)) {
+            scanned += ((Set<?>) observer[2]).size();
+          }
+        }
+      }
+      final long scanTime = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      long indexed = 0;
+      for (int i = 0; i < firedTypes.size(); i++) {
+        for (final EventRoutingTable.Route route : table.getRoutesForEvent(firedTypes.get(i), firedQualifiers.get(i))) {
+          indexed += route.getSessionIds().size();
+        }
+      }
+      final long indexTime = System.nanoTime() - start;
+
+      assertEquals(scanned, indexed);
+      System.out.println(observers.size() + " observers, " + firedTypes.size() + " events to " + indexed
+          + " sessions: scanned in " + scanTime / 1000000 + "ms, indexed in " + indexTime / 1000000 + "ms");
+    }
+  }
+
+  private static Set<String> randomQualifiers(Random random, int max) {
+    final Set<String> qualifiers = new HashSet<String>();
+    final int count = random.nextInt(max + 1);
+    for (int i = 0; i < count; i++) {
+      qualifiers.add("org.example.Qualifier" + random.nextInt(20));
+    }
+    return qualifiers;
+  }
+}
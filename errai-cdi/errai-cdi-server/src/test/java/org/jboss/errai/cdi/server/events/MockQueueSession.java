@@ -7,9 +7,19 @@ import org.jboss.errai.bus.client.api.SessionEndListener;
 
 public class MockQueueSession implements QueueSession {
 
+  private final String sessionId;
+
+  public MockQueueSession() {
+    this("bearista");
+  }
+
+  public MockQueueSession(String sessionId) {
+    this.sessionId = sessionId;
+  }
+
   @Override
   public String getSessionId() {
-    return "bearista";
+    return sessionId;
   }
 
   @Override
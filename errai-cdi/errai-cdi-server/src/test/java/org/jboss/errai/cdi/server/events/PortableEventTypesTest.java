@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.cdi.server.events;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.jboss.errai.config.rebind.EnvUtil;
+import org.junit.Ignore;
+import org.junit.Test;
+
+public class PortableEventTypesTest {
+
+  private static class NonPortableEvent {
+  }
+
+  @Test
+  public void portableBuiltinAndDiscoveredTypesAreForwarded() {
+    final PortableEventTypes types =
+        PortableEventTypes.create(Collections.<Class<?>> singleton(MyNonConversationalEvent.class));
+
+    assertTrue(types.isPortable(MyNonConversationalEvent.class));
+    assertTrue(types.isPortable(MyConversationalEvent.class));
+    assertTrue(types.isPortable(String.class));
+    assertTrue(types.isPortable(Integer.class));
+  }
+
+  @Test
+  public void nonPortableTypesAreNotForwarded() {
+    final PortableEventTypes types = PortableEventTypes.create(Collections.<Class<?>> emptySet());
+
+    assertFalse(types.isPortable(NonPortableEvent.class));
+    assertFalse(types.isPortable(Object.class));
+  }
+
+  /**
+   * Compares the per-event check of {@link AnyEventObserver} against the check it used to make through
+   * {@link EnvUtil}, for a mix of portable and container-internal event types.
+   */
+  @Test
+  @Ignore
+  public void portableCheckThroughput() {
+    final Class<?>[] events = { MyConversationalEvent.class, NonPortableEvent.class, Object.class,
+        MyNonConversationalEvent.class, Thread.class, StringBuilder.class };
+    final int rounds = 1000000;
+    final PortableEventTypes types = PortableEventTypes.create(Collections.<Class<?>> emptySet());
+
+    int portable = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < rounds; i++) {
+      if (EnvUtil.isPortableType(events[i % events.length])) {
+        portable++;
+      }
+    }
+    final long scanned = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    for (int i = 0; i < rounds; i++) {
+      if (types.isPortable(events[i % events.length])) {
+        portable--;
+      }
+    }
+    final long precomputed = System.nanoTime() - start;
+
+    System.out.println("EnvUtil.isPortableType: " + scanned / 1000000 + "ms, PortableEventTypes: "
+        + precomputed / 1000000 + "ms (" + rounds + " events, balance " + portable + ")");
+  }
+}
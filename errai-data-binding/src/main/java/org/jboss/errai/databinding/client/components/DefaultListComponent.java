@@ -16,19 +16,30 @@
 
 package org.jboss.errai.databinding.client.components;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.jboss.errai.common.client.api.Assert;
+import org.jboss.errai.common.client.dom.Event;
+import org.jboss.errai.common.client.dom.EventListener;
 import org.jboss.errai.common.client.dom.HTMLElement;
+import org.jboss.errai.common.client.dom.Node;
 
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.animation.client.AnimationScheduler.AnimationCallback;
+import com.google.gwt.animation.client.AnimationScheduler.AnimationHandle;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.TakesValue;
 
@@ -41,6 +52,12 @@ import com.google.gwt.user.client.TakesValue;
  */
 public class DefaultListComponent<M, C extends TakesValue<M>> implements ListComponent<M, C> {
 
+  /**
+   * The number of rows rendered above and below the visible rows of a viewport, so that short scrolls don't expose
+   * unrendered rows.
+   */
+  private static final int VIEWPORT_OVERSCAN = 5;
+
   private final Collection<Consumer<C>> creationHandlers = new ArrayList<>();
   private final Collection<Consumer<C>> destructionHandlers = new ArrayList<>();
 
@@ -52,9 +69,19 @@ public class DefaultListComponent<M, C extends TakesValue<M>> implements ListCom
   private List<M> value;
   private Consumer<C> selector = c -> {};
   private Consumer<C> deselector = c -> {};
+  private Function<? super M, ?> keyExtractor;
+  private int renderedStart = 0;
+  private int renderedLength = -1;
+  private int rowHeight = 0;
 
   private final Set<C> selected = Collections.newSetFromMap(new IdentityHashMap<>());
 
+  /**
+   * Selected models whose components are not rendered, by their key (or the model itself if there is no key
+   * extractor). Their components are selected again when they are rendered.
+   */
+  private final Map<Object, M> selectedUnrendered = new LinkedHashMap<>();
+
   public DefaultListComponent(final HTMLElement root, final Supplier<C> supplier, final Consumer<C> destroyer, final Function<C, HTMLElement> elementAccessor) {
     this.root = root;
     this.supplier = supplier;
@@ -87,15 +114,64 @@ public class DefaultListComponent<M, C extends TakesValue<M>> implements ListCom
     this.value = value;
 
     if (changed) {
-      for (int i = components.size()-1; i > -1; i--) {
-        removeComponent(i);
+      if (keyExtractor != null) {
+        reconcile();
       }
-      for (int i = 0; i < this.value.size(); i++) {
-        addComponent(i, this.value.get(i));
+      else {
+        for (int i = components.size()-1; i > -1; i--) {
+          removeComponent(i);
+        }
+        selectedUnrendered.clear();
+        for (int i = 0; i < this.value.size(); i++) {
+          addComponent(i, this.value.get(i));
+        }
+        updateSpacing();
       }
     }
   }
 
+  @Override
+  public void setKeyExtractor(final Function<? super M, ?> keyExtractor) {
+    this.keyExtractor = keyExtractor;
+  }
+
+  @Override
+  public void setRenderedRange(final int start, final int length) {
+    if (start < 0) {
+      throw new IllegalArgumentException("The start of the rendered range must not be negative but was " + start);
+    }
+    final int oldStart = renderedStart;
+    final int oldEnd = renderedEnd();
+    renderedStart = start;
+    renderedLength = length;
+
+    if (value != null) {
+      renderRange(oldStart, oldEnd);
+    }
+  }
+
+  @Override
+  public HandlerRegistration setViewport(final HTMLElement scrollContainer, final int rowHeight) {
+    Assert.notNull(scrollContainer);
+    if (rowHeight <= 0) {
+      throw new IllegalArgumentException("The row height must be positive but was " + rowHeight);
+    }
+    this.rowHeight = rowHeight;
+    final ViewportUpdate update = new ViewportUpdate(scrollContainer);
+    final EventListener<Event> listener = e -> update.schedule();
+    scrollContainer.addEventListener("scroll", listener, false);
+    updateViewport(scrollContainer);
+
+    return () -> {
+      scrollContainer.removeEventListener("scroll", listener, false);
+      update.cancel();
+      this.rowHeight = 0;
+      root.getStyle().removeProperty("padding-top");
+      root.getStyle().removeProperty("padding-bottom");
+      setRenderedRange(0, -1);
+    };
+  }
+
   @Override
   public List<M> getValue() {
     return value;
@@ -104,11 +180,13 @@ public class DefaultListComponent<M, C extends TakesValue<M>> implements ListCom
   @Override
   public void onItemAdded(final List<M> source, final M item) {
     addComponent(components.size(), item);
+    afterStructuralChange(0, 1);
   }
 
   @Override
   public void onItemAddedAt(final List<M> source, final int index, final M item) {
     addComponent(index, item);
+    afterStructuralChange(0, 1);
   }
 
   @Override
@@ -116,6 +194,7 @@ public class DefaultListComponent<M, C extends TakesValue<M>> implements ListCom
     for (final M model : items) {
       addComponent(components.size(), model);
     }
+    afterStructuralChange(0, items.size());
   }
 
   @Override
@@ -124,19 +203,22 @@ public class DefaultListComponent<M, C extends TakesValue<M>> implements ListCom
     for (final M model : items) {
       addComponent(i++, model);
     }
+    afterStructuralChange(0, items.size());
   }
 
   @Override
   public void onItemRemovedAt(final List<M> source, final int index) {
-    removeComponent(index);
+    removeComponent(index, source);
+    afterStructuralChange(1, 0);
   }
 
   @Override
   public void onItemsRemovedAt(final List<M> source, final List<Integer> indexes) {
     Collections.sort(indexes, (n,m) -> m - n);
     for (final int index : indexes) {
-      removeComponent(index);
+      removeComponent(index, source);
     }
+    afterStructuralChange(indexes.size(), 0);
   }
 
   @Override
@@ -144,11 +226,16 @@ public class DefaultListComponent<M, C extends TakesValue<M>> implements ListCom
     for (int i = components.size()-1; i >= 0; i--) {
       removeComponent(i);
     }
+    selectedUnrendered.clear();
+    afterStructuralChange(0, 0);
   }
 
   @Override
   public void onItemChanged(final List<M> source, final int index, final M item) {
-    components.get(index).setValue(item);
+    final C component = components.get(index);
+    if (component != null) {
+      component.setValue(item);
+    }
   }
 
   @Override
@@ -164,7 +251,28 @@ public class DefaultListComponent<M, C extends TakesValue<M>> implements ListCom
   }
 
   private void removeComponent(final int index) {
+    destroyComponent(components.remove(index));
+  }
+
+  /**
+   * Removes the component at the given index, forgetting the selection of its model if it was not rendered.
+   *
+   * @param source
+   *          the list before the model was removed.
+   */
+  private void removeComponent(final int index, final List<M> source) {
     final C component = components.remove(index);
+    if (component == null && !selectedUnrendered.isEmpty()) {
+      selectedUnrendered.remove(selectionKey(source.get(index)));
+    }
+    destroyComponent(component);
+  }
+
+  private void destroyComponent(final C component) {
+    if (component == null) {
+      return;
+    }
+    selected.remove(component);
     for (final Consumer<C> handler : destructionHandlers) {
       handler.accept(component);
     }
@@ -173,19 +281,269 @@ public class DefaultListComponent<M, C extends TakesValue<M>> implements ListCom
     destroyer.accept(component);
   }
 
+  /**
+   * Destroys the component of a model that is still in the list but no longer rendered, remembering whether it was
+   * selected.
+   */
+  private void unrenderComponent(final C component) {
+    if (component != null && selected.contains(component)) {
+      selectedUnrendered.put(selectionKey(component.getValue()), component.getValue());
+    }
+    destroyComponent(component);
+  }
+
+  /**
+   * Selects a newly rendered component if its model was selected while it was not rendered.
+   */
+  private void restoreSelection(final C component) {
+    if (!selectedUnrendered.isEmpty() && selectedUnrendered.remove(selectionKey(component.getValue())) != null) {
+      selected.add(component);
+      selector.accept(component);
+    }
+  }
+
+  /**
+   * Forgets the selection of unrendered models that are no longer in the list.
+   */
+  private void pruneUnrenderedSelection() {
+    if (selectedUnrendered.isEmpty()) {
+      return;
+    }
+    final Map<Object, M> present = new LinkedHashMap<>();
+    for (final M model : value) {
+      final Object key = selectionKey(model);
+      if (selectedUnrendered.containsKey(key)) {
+        present.put(key, model);
+      }
+    }
+    selectedUnrendered.clear();
+    selectedUnrendered.putAll(present);
+  }
+
+  private Object selectionKey(final M model) {
+    return (keyExtractor != null ? keyExtractor.apply(model) : model);
+  }
+
   private void addComponent(final int index, final M item) {
-    final C component = createComponent(item);
-    final HTMLElement element = Assert.notNull(elementAccessor.apply(component));
-    if (index < components.size()) {
-      root.insertBefore(element, Assert.notNull(elementAccessor.apply(components.get(index))));
+    if (isRendered(index)) {
+      final Node next = nextRenderedElement(index);
+      components.add(index, null);
+      renderComponent(index, item, next);
     }
     else {
-      root.appendChild(element);
+      components.add(index, null);
     }
-    components.add(index, component);
+  }
+
+  private void renderComponent(final int index, final M item, final Node next) {
+    final C component = createComponent(item);
+    insertElement(Assert.notNull(elementAccessor.apply(component)), next);
+    components.set(index, component);
     for (final Consumer<C> handler : creationHandlers) {
       handler.accept(component);
     }
+    restoreSelection(component);
+  }
+
+  private void insertElement(final HTMLElement element, final Node next) {
+    if (next != null) {
+      root.insertBefore(element, next);
+    }
+    else {
+      root.appendChild(element);
+    }
+  }
+
+  /**
+   * @return The element of the first rendered component at or after the given index, or null if there is none.
+   */
+  private Node nextRenderedElement(final int index) {
+    final int end = Math.min(components.size(), renderedEnd());
+    for (int i = index; i < end; i++) {
+      final C component = components.get(i);
+      if (component != null) {
+        return Assert.notNull(elementAccessor.apply(component));
+      }
+    }
+
+    return null;
+  }
+
+  private boolean isRendered(final int index) {
+    return index >= renderedStart && index < renderedEnd();
+  }
+
+  private int renderedEnd() {
+    return (renderedLength < 0 ? Integer.MAX_VALUE : renderedStart + renderedLength);
+  }
+
+  /**
+   * Renders the range again after models were removed or added. Removals before the range shift rendered components
+   * below its start, and additions shift them past its end.
+   */
+  private void afterStructuralChange(final int removed, final int added) {
+    if (renderedLength >= 0) {
+      renderRange(renderedStart - removed, renderedEnd() + added);
+    }
+  }
+
+  /**
+   * Destroys the components for models outside of the rendered range and creates the missing components for models
+   * within it.
+   *
+   * @param from
+   *          the first index that may hold a rendered component.
+   * @param to
+   *          the index after the last one that may hold a rendered component.
+   */
+  private void renderRange(final int from, final int to) {
+    final int unrenderEnd = (int) Math.min(components.size(), (long) to);
+    for (int i = Math.max(0, from); i < unrenderEnd; i++) {
+      if (!isRendered(i) && components.get(i) != null) {
+        unrenderComponent(components.set(i, null));
+      }
+    }
+    final int end = Math.min(components.size(), renderedEnd());
+    for (int i = renderedStart; i < end; i++) {
+      if (components.get(i) == null) {
+        renderComponent(i, value.get(i), nextRenderedElement(i + 1));
+      }
+    }
+    updateSpacing();
+  }
+
+  /**
+   * Pads the root element to take up the space of the unrendered models above and below the rendered range, so that
+   * the scroll height of a viewport matches the full list.
+   */
+  private void updateSpacing() {
+    if (rowHeight > 0) {
+      final int above = Math.min(renderedStart, components.size());
+      final int below = components.size() - Math.min(renderedEnd(), components.size());
+      root.getStyle().setProperty("padding-top", (above * rowHeight) + "px");
+      root.getStyle().setProperty("padding-bottom", (below * rowHeight) + "px");
+    }
+  }
+
+  private void updateViewport(final HTMLElement scrollContainer) {
+    final int firstVisible = getScrollTop(scrollContainer) / rowHeight;
+    final int visibleRows = (getClientHeight(scrollContainer) + rowHeight - 1) / rowHeight + 1;
+    final int start = Math.max(0, firstVisible - VIEWPORT_OVERSCAN);
+    final int length = firstVisible - start + visibleRows + VIEWPORT_OVERSCAN;
+
+    if (start != renderedStart || length != renderedLength) {
+      setRenderedRange(start, length);
+    }
+  }
+
+  /**
+   * Updates the rendered range from a scroll container at most once per animation frame, however many scroll events
+   * are fired in between.
+   */
+  private class ViewportUpdate implements AnimationCallback {
+    private final HTMLElement scrollContainer;
+    private AnimationHandle pending;
+
+    private ViewportUpdate(final HTMLElement scrollContainer) {
+      this.scrollContainer = scrollContainer;
+    }
+
+    private void schedule() {
+      if (pending == null) {
+        pending = AnimationScheduler.get().requestAnimationFrame(this);
+      }
+    }
+
+    private void cancel() {
+      if (pending != null) {
+        pending.cancel();
+        pending = null;
+      }
+    }
+
+    @Override
+    public void execute(final double timestamp) {
+      pending = null;
+      updateViewport(scrollContainer);
+    }
+  }
+
+  private static native int getScrollTop(HTMLElement element) /*-{
+    return element.scrollTop | 0;
+  }-*/;
+
+  private static native int getClientHeight(HTMLElement element) /*-{
+    return element.clientHeight | 0;
+  }-*/;
+
+  /**
+   * Replaces the displayed components with components for the current value, reusing existing components whose model
+   * has the same key as a model in the current value. Reused elements that are part of a longest increasing run of
+   * their previous positions stay in place, so only the remaining elements are moved.
+   */
+  private void reconcile() {
+    final List<C> oldComponents = new ArrayList<>(components);
+    final Map<Object, Deque<Integer>> oldIndicesByKey = new HashMap<>();
+    for (int i = 0; i < oldComponents.size(); i++) {
+      final C component = oldComponents.get(i);
+      if (component != null) {
+        oldIndicesByKey.computeIfAbsent(keyExtractor.apply(component.getValue()), k -> new ArrayDeque<>()).add(i);
+      }
+    }
+
+    final int size = value.size();
+    final int[] sources = new int[size];
+    final List<C> created = new ArrayList<>();
+    components.clear();
+    for (int i = 0; i < size; i++) {
+      sources[i] = -1;
+      if (!isRendered(i)) {
+        components.add(null);
+        continue;
+      }
+
+      final M model = value.get(i);
+      final Deque<Integer> candidates = oldIndicesByKey.get(keyExtractor.apply(model));
+      final C component;
+      if (candidates != null && !candidates.isEmpty()) {
+        sources[i] = candidates.poll();
+        component = oldComponents.set(sources[i], null);
+        if (component.getValue() != model) {
+          component.setValue(model);
+        }
+      }
+      else {
+        component = createComponent(model);
+        created.add(component);
+      }
+      components.add(component);
+    }
+
+    for (final C unused : oldComponents) {
+      unrenderComponent(unused);
+    }
+    pruneUnrenderedSelection();
+
+    final boolean[] stable = ReconcileUtil.longestIncreasingSubsequence(sources);
+    Node next = null;
+    for (int i = size - 1; i > -1; i--) {
+      final C component = components.get(i);
+      if (component != null) {
+        final HTMLElement element = Assert.notNull(elementAccessor.apply(component));
+        if (!stable[i]) {
+          insertElement(element, next);
+        }
+        next = element;
+      }
+    }
+
+    for (final C component : created) {
+      for (final Consumer<C> handler : creationHandlers) {
+        handler.accept(component);
+      }
+      restoreSelection(component);
+    }
+    updateSpacing();
   }
 
   @Override
@@ -206,11 +564,39 @@ public class DefaultListComponent<M, C extends TakesValue<M>> implements ListCom
     }
   }
 
+  @Override
+  public void selectModels(final Collection<M> models) {
+    if (value == null) {
+      return;
+    }
+    for (final M model : models) {
+      final int index = value.indexOf(model);
+      if (index == -1) {
+        continue;
+      }
+      final C component = components.get(index);
+      if (component != null) {
+        selectComponent(component);
+      }
+      else {
+        selectedUnrendered.put(selectionKey(model), model);
+      }
+    }
+  }
+
   @Override
   public Collection<C> getSelectedComponents() {
     return Collections.unmodifiableCollection(selected);
   }
 
+  @Override
+  public Collection<M> getSelectedModels() {
+    final Collection<M> models = ListComponent.super.getSelectedModels();
+    models.addAll(selectedUnrendered.values());
+
+    return models;
+  }
+
   @Override
   public void deselectComponents(final Collection<C> components) {
     for (final C comp : components) {
@@ -220,4 +606,18 @@ public class DefaultListComponent<M, C extends TakesValue<M>> implements ListCom
     }
   }
 
+  @Override
+  public void deselectModels(final Collection<M> models) {
+    for (final M model : models) {
+      selectedUnrendered.remove(selectionKey(model));
+    }
+    ListComponent.super.deselectModels(models);
+  }
+
+  @Override
+  public void deselectAll() {
+    selectedUnrendered.clear();
+    deselectComponents(new ArrayList<>(selected));
+  }
+
 }
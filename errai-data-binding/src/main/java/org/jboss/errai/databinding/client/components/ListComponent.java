@@ -58,7 +58,8 @@ public interface ListComponent<M, C extends TakesValue<M>> extends IsElement, Ta
   /**
    * @param index
    *          A valid index for a model in the list of models.
-   * @return The UI component displaying the model at the given index in the list of models. Never null.
+   * @return The UI component displaying the model at the given index in the list of models. Never null, unless a
+   *         range set by {@link #setRenderedRange(int, int)} excludes the given index.
    * @throws IndexOutOfBoundsException
    *           If the given index is invalid.
    */
@@ -81,6 +82,57 @@ public interface ListComponent<M, C extends TakesValue<M>> extends IsElement, Ta
     }
   }
 
+  /**
+   * Enables keyed reconciliation of new values. When {@link #setValue(Object)} is called with a different list while a
+   * key extractor is set, UI components already displaying a model with the same key as a model in the new list are
+   * reused instead of being destroyed and recreated. Only components for keys that are no longer present are destroyed,
+   * and displayed elements are moved as little as possible to match the order of the new list. The default
+   * implementation ignores the key extractor, so all UI components are always recreated.
+   *
+   * @param keyExtractor
+   *          Returns the identifying key of a model, such as its id. Keys are compared with
+   *          {@link Object#equals(Object)} and {@link Object#hashCode()}. If null, all UI components are recreated when a
+   *          different list is set (the default).
+   */
+  default void setKeyExtractor(final Function<? super M, ?> keyExtractor) {
+  }
+
+  /**
+   * Only displays UI components for a range of the list of models. Components are created for models as they enter
+   * the range and destroyed as they leave it, including when models are added or removed. Models that are selected
+   * when their component leaves the range stay selected, and their new component is selected when they re-enter it.
+   *
+   * @param start
+   *          The index of the first model to display. Must not be negative.
+   * @param length
+   *          The number of models to display, or a negative number to display all models (the default).
+   * @throws UnsupportedOperationException
+   *           In the default implementation, unless the range includes all models.
+   */
+  default void setRenderedRange(final int start, final int length) {
+    if (start != 0 || length >= 0) {
+      throw new UnsupportedOperationException(getClass().getName() + " does not support rendering a range of models");
+    }
+  }
+
+  /**
+   * Only displays UI components for the models visible in a scrolling container, updating the rendered range (see
+   * {@link #setRenderedRange(int, int)}) as the container is scrolled. The top and bottom padding of
+   * {@link #getElement()} take up the space of models outside of the rendered range, so the element of this list
+   * should be a block container such as a {@code div}.
+   *
+   * @param scrollContainer
+   *          The scrolling element containing the element of this list. Never null.
+   * @param rowHeight
+   *          The fixed height, in pixels, of the element of every displayed UI component. Must be positive.
+   * @return A {@link HandlerRegistration} that stops tracking the container and displays all models again.
+   * @throws UnsupportedOperationException
+   *           In the default implementation.
+   */
+  default HandlerRegistration setViewport(final HTMLElement scrollContainer, final int rowHeight) {
+    throw new UnsupportedOperationException(getClass().getName() + " does not support viewports");
+  }
+
   /**
    * @param handler
    *          A handler that is called for every new UI component created for this list.
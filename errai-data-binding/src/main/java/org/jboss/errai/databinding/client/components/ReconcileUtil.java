@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.databinding.client.components;
+
+/**
+ * Utilities for reconciling displayed list items with a new list of models.
+ */
+public class ReconcileUtil {
+
+  private ReconcileUtil() {}
+
+  /**
+   * Used to find the displayed items that can stay in place when items are reordered: given the previous position of
+   * each item in its new order, the items on a longest increasing run of previous positions are already in order
+   * relative to each other, so only the remaining items need to be moved.
+   *
+   * @param sources
+   *          For each position in the new order, the previous position of the item, or a negative number for new items.
+   * @return A mask of the positions in {@code sources} that form a longest strictly increasing subsequence of its
+   *         non-negative values.
+   */
+  public static boolean[] longestIncreasingSubsequence(final int[] sources) {
+    final int[] predecessors = new int[sources.length];
+    final int[] tails = new int[sources.length];
+    int length = 0;
+    for (int i = 0; i < sources.length; i++) {
+      if (sources[i] < 0) {
+        continue;
+      }
+      int low = 0, high = length;
+      while (low < high) {
+        final int mid = (low + high) >>> 1;
+        if (sources[tails[mid]] < sources[i]) {
+          low = mid + 1;
+        }
+        else {
+          high = mid;
+        }
+      }
+      predecessors[i] = (low > 0 ? tails[low - 1] : -1);
+      tails[low] = i;
+      if (low == length) {
+        length++;
+      }
+    }
+
+    final boolean[] mask = new boolean[sources.length];
+    for (int i = (length > 0 ? tails[length - 1] : -1); i > -1; i = predecessors[i]) {
+      mask[i] = true;
+    }
+
+    return mask;
+  }
+
+}
@@ -20,8 +20,11 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.enterprise.context.Dependent;
@@ -56,6 +59,14 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
   private final Multimap<String, FactoryHandle> handlesByName = ArrayListMultimap.create();
   private final Multimap<String, SyncBeanDef<?>> runtimeBeanDefsByName = ArrayListMultimap.create();
 
+  /*
+   * Memoized lookups. Both are cleared whenever a factory or bean definition is added, so entries never go stale.
+   * Providers from the WindowInjectionContext can be registered by other scripts at any time and are therefore
+   * never cached.
+   */
+  private final Map<String, ResolvedBeans> resolvedByName = new HashMap<>();
+  private final Map<QualifiedLookup, Collection<SyncBeanDef<?>>> resolvedByQualifiers = new HashMap<>();
+
   @Override
   public void destroyBean(final Object ref) {
     contextManager.destroy(ref);
@@ -136,6 +147,7 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
   }
 
   private void addFactory(final FactoryHandle handle) {
+    clearResolved();
     for (final Class<?> assignableType : handle.getAssignableTypes()) {
       handlesByName.put(assignableType.getName(), handle);
     }
@@ -155,33 +167,60 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
     Assert.notNull(name);
     logger.debug("Looking up beans for {}", name);
 
-    final Collection<FactoryHandle> handles = handlesByName.get(name);
-    final Collection<SyncBeanDef<?>> runtimeBeanDefs = runtimeBeanDefsByName.get(name);
-    final JsArray<JsTypeProvider<?>> jsProviders = getJsProviders(name);
+    final ResolvedBeans resolved = resolve(name);
+    final Collection beanDefs = withJsProviders(name, resolved.beanDefs, resolved.factoryNames, keepJsDups);
 
-    final Set<String> beanDefFactoryNames = new HashSet<>();
-    final Collection beanDefs = new ArrayList<SyncBeanDef<Object>>(handles.size()+runtimeBeanDefs.size()+jsProviders.length());
-    beanDefs.addAll(runtimeBeanDefs);
-    for (final FactoryHandle handle : handles) {
-      if (handle.isAvailableByLookup()) {
-        beanDefs.add(new IOCBeanDefImplementation<>(handle, this.<Object>getType(name, handle, handle.getActualType())));
-        beanDefFactoryNames.add(handle.getFactoryName());
+    logger.debug("Looked up {} beans: {}", beanDefs.size(), beanDefs);
+
+    return beanDefs;
+  }
+
+  private ResolvedBeans resolve(final String name) {
+    ResolvedBeans resolved = resolvedByName.get(name);
+    if (resolved == null) {
+      final Collection<FactoryHandle> handles = handlesByName.get(name);
+      final Collection<SyncBeanDef<?>> runtimeBeanDefs = runtimeBeanDefsByName.get(name);
+
+      final Set<String> beanDefFactoryNames = new HashSet<>();
+      final List<SyncBeanDef<?>> beanDefs = new ArrayList<>(handles.size() + runtimeBeanDefs.size());
+      beanDefs.addAll(runtimeBeanDefs);
+      for (final FactoryHandle handle : handles) {
+        if (handle.isAvailableByLookup()) {
+          beanDefs.add(new IOCBeanDefImplementation<>(handle, this.<Object>getType(name, handle, handle.getActualType())));
+          beanDefFactoryNames.add(handle.getFactoryName());
+        }
       }
+
+      resolved = new ResolvedBeans(Collections.unmodifiableList(beanDefs), beanDefFactoryNames);
+      resolvedByName.put(name, resolved);
     }
+
+    return resolved;
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private Collection<SyncBeanDef<?>> withJsProviders(final String name, final Collection<SyncBeanDef<?>> beanDefs,
+          final Set<String> beanDefFactoryNames, final boolean keepJsDups) {
+    final JsArray<JsTypeProvider<?>> jsProviders = getJsProviders(name);
+    final List<SyncBeanDef<?>> combined = new ArrayList<>(beanDefs.size() + jsProviders.length());
+    combined.addAll(beanDefs);
     for (final JsTypeProvider<?> provider : JsArray.iterable(jsProviders)) {
       logger.debug("Found JS provider for name {} from factory {}", provider.getName(), provider.getFactoryName());
       if (keepJsDups || provider.getFactoryName() == null || !beanDefFactoryNames.contains(provider.getFactoryName())) {
         logger.debug("Keeping JS provider for name {} from factory {}", provider.getName(), provider.getFactoryName());
-        beanDefs.add(new JsTypeBeanDefImplementation(provider, name));
+        combined.add(new JsTypeBeanDefImplementation(provider, name));
       }
       else {
         logger.debug("Rejecting duplicate JS provider for name {} from factory {}", provider.getName(), provider.getFactoryName());
       }
     }
 
-    logger.debug("Looked up {} beans: {}", beanDefs.size(), beanDefs);
+    return combined;
+  }
 
-    return beanDefs;
+  private void clearResolved() {
+    resolvedByName.clear();
+    resolvedByQualifiers.clear();
   }
 
   private JsArray<JsTypeProvider<?>> getJsProviders(final String name) {
@@ -220,19 +259,28 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
     return (Class<T>) defaultType;
   }
 
+  @SuppressWarnings({ "rawtypes", "unchecked" })
   @Override
   public <T> Collection<SyncBeanDef<T>> lookupBeans(final Class<T> type, final Annotation... qualifiers) {
-    final Set<Annotation> qualifierSet = new HashSet<>(Arrays.asList(qualifiers));
-    final Collection<SyncBeanDef<T>> candidates = lookupBeans(type);
-    final Iterator<SyncBeanDef<T>> iter = candidates.iterator();
-    while (iter.hasNext()) {
-      final SyncBeanDef<T> beanDef = iter.next();
-      if (!beanDef.matches(qualifierSet)) {
-        iter.remove();
+    final String name = type.getName();
+    final ResolvedBeans resolved = resolve(name);
+    final QualifiedLookup key = new QualifiedLookup(name, qualifiers);
+
+    Collection<SyncBeanDef<?>> matching = resolvedByQualifiers.get(key);
+    if (matching == null) {
+      final Set<Annotation> qualifierSet = new HashSet<>(Arrays.asList(qualifiers));
+      final List<SyncBeanDef<?>> filtered = new ArrayList<>();
+      for (final SyncBeanDef<?> beanDef : resolved.beanDefs) {
+        if (beanDef.matches(qualifierSet)) {
+          filtered.add(beanDef);
+        }
       }
+      matching = Collections.unmodifiableList(filtered);
+      resolvedByQualifiers.put(key, matching);
     }
 
-    return candidates;
+    // JS providers match any qualifiers
+    return (Collection) withJsProviders(name, matching, resolved.factoryNames, false);
   }
 
   @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -253,6 +301,7 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
 
   @Override
   public <T> void registerBean(final SyncBeanDef<T> beanDef) {
+    clearResolved();
     runtimeBeanDefsByName.put(beanDef.getType().getName(), beanDef);
     if (!beanDef.getType().getName().equals(beanDef.getBeanClass().getName())) {
       runtimeBeanDefsByName.put(beanDef.getBeanClass().getName(), beanDef);
@@ -264,6 +313,7 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
 
   @Override
   public <T> void registerBeanTypeAlias(final SyncBeanDef<T> beanDef, final Class<?> type) {
+    clearResolved();
     runtimeBeanDefsByName.put(type.getName(), beanDef);
   }
 
@@ -274,6 +324,67 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
     contextManager = null;
     handlesByName.clear();
     runtimeBeanDefsByName.clear();
+    clearResolved();
+  }
+
+  /**
+   * The bean definitions available for a type or bean name, without providers from the {@link WindowInjectionContext}.
+   */
+  private static final class ResolvedBeans {
+    private final Collection<SyncBeanDef<?>> beanDefs;
+    private final Set<String> factoryNames;
+
+    private ResolvedBeans(final Collection<SyncBeanDef<?>> beanDefs, final Set<String> factoryNames) {
+      this.beanDefs = beanDefs;
+      this.factoryNames = factoryNames;
+    }
+  }
+
+  /**
+   * Key for a lookup by type and qualifiers. Client-side annotation instances do not implement {@code equals} and
+   * {@code hashCode}, so qualifiers are compared with {@link QualifierUtil} in the same way that
+   * {@link SyncBeanDef#matches(Set)} compares them.
+   */
+  private static final class QualifiedLookup {
+    private final String typeName;
+    private final Annotation[] qualifiers;
+    private final int hashCode;
+
+    private QualifiedLookup(final String typeName, final Annotation[] qualifiers) {
+      this.typeName = typeName;
+      this.qualifiers = Arrays.copyOf(qualifiers, qualifiers.length);
+
+      int hash = typeName.hashCode();
+      for (final Annotation qualifier : qualifiers) {
+        hash += qualifier.annotationType().getName().hashCode();
+      }
+      this.hashCode = hash;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof QualifiedLookup)) {
+        return false;
+      }
+      final QualifiedLookup other = (QualifiedLookup) obj;
+      if (hashCode != other.hashCode || !typeName.equals(other.typeName)) {
+        return false;
+      }
+      if (Arrays.equals(qualifiers, other.qualifiers)) {
+        return true;
+      }
+      final List<Annotation> mine = Arrays.asList(qualifiers);
+      final List<Annotation> theirs = Arrays.asList(other.qualifiers);
+      return QualifierUtil.contains(mine, theirs) && QualifierUtil.contains(theirs, mine);
+    }
   }
 
   // TODO Find way to properly get scope, qualifiers, and assignable types.
@@ -17,22 +17,28 @@
 package org.jboss.errai.ioc.tests.wiring.client;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Default;
+
 import org.jboss.errai.ioc.client.IOCClientTestCase;
 import org.jboss.errai.ioc.client.IOCUtil;
 import org.jboss.errai.ioc.client.QualifierUtil;
 import org.jboss.errai.ioc.client.container.ClientBeanManager;
 import org.jboss.errai.ioc.client.container.Factory;
+import org.jboss.errai.ioc.client.container.FactoryHandleImpl;
 import org.jboss.errai.ioc.client.container.IOC;
 import org.jboss.errai.ioc.client.container.IOCEnvironment;
 import org.jboss.errai.ioc.client.container.IOCResolutionException;
 import org.jboss.errai.ioc.client.container.Proxy;
 import org.jboss.errai.ioc.client.container.SyncBeanDef;
 import org.jboss.errai.ioc.client.container.SyncBeanManager;
+import org.jboss.errai.ioc.client.container.SyncBeanManagerImpl;
 import org.jboss.errai.ioc.rebind.ioc.test.harness.IOCSimulatedTestRunner;
 import org.jboss.errai.ioc.tests.wiring.client.res.ActivatedBean;
 import org.jboss.errai.ioc.tests.wiring.client.res.ActivatedBeanInterface;
@@ -78,6 +84,7 @@ import org.jboss.errai.ioc.tests.wiring.client.res.TypedTargetInterface;
 import org.jboss.errai.ioc.tests.wiring.client.res.TypedType;
 import org.junit.runner.RunWith;
 
+import com.google.gwt.core.client.Duration;
 import com.google.gwt.core.shared.GWT;
 
 @RunWith(IOCSimulatedTestRunner.class)
@@ -621,4 +628,71 @@ public class BasicIOCTest extends IOCClientTestCase {
     final Collection<SyncBeanDef<TypedSuperInterface>> superIfaceBeans = bm.lookupBeans(TypedSuperInterface.class, qual);
     assertTrue("There should be no beans of type TypedSuperInterface. Found : " + superIfaceBeans, superIfaceBeans.isEmpty());
   }
+
+  public void testRepeatedLookupReturnsIndependentCopies() throws Exception {
+    final SyncBeanManager bm = IOC.getBeanManager();
+    final Collection<SyncBeanDef<SimpleSingleton>> first = bm.lookupBeans(SimpleSingleton.class, QualifierUtil.DEFAULT_ANNOTATION);
+    final Collection<SyncBeanDef<SimpleSingleton>> second = bm.lookupBeans(SimpleSingleton.class, new Default() {
+      @Override
+      public Class<? extends Annotation> annotationType() {
+        return Default.class;
+      }
+    });
+
+    assertEquals(1, first.size());
+    assertNotSame(first, second);
+    assertEquals(new ArrayList<>(first), new ArrayList<>(second));
+
+    first.clear();
+    assertEquals("Modifying a lookup result should not affect later lookups.", 1,
+            bm.lookupBeans(SimpleSingleton.class, QualifierUtil.DEFAULT_ANNOTATION).size());
+  }
+
+  public void testLookupSeesFactoryAddedAfterPreviousLookup() throws Exception {
+    final SyncBeanManagerImpl bm = (SyncBeanManagerImpl) IOC.getBeanManager();
+    assertTrue(bm.lookupBeans("lookupCacheBean").isEmpty());
+    assertEquals(1, bm.lookupBeans(SimpleBean2.class, QualifierUtil.ANY_ANNOTATION).size());
+
+    bm.addFactory(createFactory("lookupCacheBean", SimpleBean2.class));
+
+    assertEquals(1, bm.lookupBeans("lookupCacheBean").size());
+    assertEquals(2, bm.lookupBeans(SimpleBean2.class, QualifierUtil.ANY_ANNOTATION).size());
+  }
+
+  /**
+   * Not a functional test: times bean lookups with 2,000 extra factories registered, comparing the first lookup of
+   * each bean name with repeated lookups. Rename to run.
+   */
+  public void ignoreTestRepeatedLookupsWithManyFactories() throws Exception {
+    final SyncBeanManagerImpl bm = (SyncBeanManagerImpl) IOC.getBeanManager();
+    final int factories = 2000;
+    for (int i = 0; i < factories; i++) {
+      bm.addFactory(createFactory("lookupBenchmarkBean" + i));
+    }
+
+    for (int round = 0; round < 5; round++) {
+      final double start = Duration.currentTimeMillis();
+      for (int i = 0; i < factories; i++) {
+        assertEquals(1, bm.lookupBeans("lookupBenchmarkBean" + i).size());
+      }
+      final double byName = Duration.currentTimeMillis() - start;
+
+      final double typedStart = Duration.currentTimeMillis();
+      for (int i = 0; i < factories; i++) {
+        bm.lookupBean(SimpleSingleton.class);
+      }
+      final double byType = Duration.currentTimeMillis() - typedStart;
+
+      System.out.println("Round " + round + ": " + factories + " lookups by name in " + byName + "ms, " + factories
+          + " lookups by type in " + byType + "ms");
+    }
+  }
+
+  private static Factory<Object> createFactory(final String beanName, final Class<?>... assignableTypes) {
+    final FactoryHandleImpl handle = new FactoryHandleImpl(Object.class, beanName + "Factory", Dependent.class, false,
+            beanName, true);
+    handle.setAssignableTypes(assignableTypes);
+    return new Factory<Object>(handle) {
+    };
+  }
 }
@@ -0,0 +1,729 @@
+package org.jboss.errai.databinding.client;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jboss.errai.databinding.client.api.StateSync;
+import org.jboss.errai.jpa.test.entity.Album;
+import org.jboss.errai.jpa.test.entity.Artist;
+import org.jboss.errai.jpa.test.entity.CascadeFrom;
+import org.jboss.errai.jpa.test.entity.CascadeThirdGeneration;
+import org.jboss.errai.jpa.test.entity.CascadeTo;
+import org.jboss.errai.jpa.test.entity.Format;
+
+public class BindableProxyLoaderImpl implements BindableProxyLoader { public void loadBindableProxies() {
+    class org_jboss_errai_jpa_test_entity_CascadeToProxy extends CascadeTo implements BindableProxy {
+      private BindableProxyAgent<CascadeTo> agent;
+      private CascadeTo target;
+      public org_jboss_errai_jpa_test_entity_CascadeToProxy() {
+        this(new CascadeTo());
+      }
+
+      public org_jboss_errai_jpa_test_entity_CascadeToProxy(CascadeTo targetVal) {
+        agent = new BindableProxyAgent<CascadeTo>(this, targetVal);
+        target = targetVal;
+        final Map<String, PropertyType> p = agent.propertyTypes;
+        p.put("cascadeAgain", new PropertyType(CascadeThirdGeneration.class, false, false));
+        p.put("string", new PropertyType(String.class, false, false));
+        p.put("id", new PropertyType(Long.class, false, false));
+        p.put("this", new PropertyType(CascadeTo.class, true, false));
+        agent.copyValues();
+      }
+
+      public BindableProxyAgent getBindableProxyAgent() {
+        return agent;
+      }
+
+      public void updateWidgets() {
+        agent.updateWidgetsAndFireEvents();
+      }
+
+      public CascadeTo unwrap() {
+        return target;
+      }
+
+      public CascadeTo deepUnwrap() {
+        final CascadeTo clone = new CascadeTo();
+        final CascadeTo t = unwrap();
+        clone.setCascadeAgain(t.getCascadeAgain());
+        clone.setString(t.getString());
+        clone.setId(t.getId());
+        return clone;
+      }
+
+      public boolean equals(Object obj) {
+        if (obj instanceof org_jboss_errai_jpa_test_entity_CascadeToProxy) {
+          obj = ((org_jboss_errai_jpa_test_entity_CascadeToProxy) obj).unwrap();
+        }
+        return target.equals(obj);
+      }
+
+      public int hashCode() {
+        return target.hashCode();
+      }
+
+      public String toString() {
+        return target.toString();
+      }
+
+      private void changeAndFire(String property, Object value) {
+        final Object oldValue = get(property);
+        set(property, value);
+        agent.updateWidgetsAndFireEvent(false, property, oldValue, value);
+      }
+
+      public CascadeThirdGeneration getCascadeAgain() {
+        return target.getCascadeAgain();
+      }
+
+      public void setCascadeAgain(CascadeThirdGeneration cascadeAgain) {
+        changeAndFire("cascadeAgain", cascadeAgain);
+      }
+
+      public String getString() {
+        return target.getString();
+      }
+
+      public void setString(String string) {
+        changeAndFire("string", string);
+      }
+
+      public long getId() {
+        return target.getId();
+      }
+
+      public void setId(long id) {
+        changeAndFire("id", id);
+      }
+
+      public Object get(String property) {
+        switch (property) {
+          case "cascadeAgain": return getCascadeAgain();
+          case "string": return getString();
+          case "id": return getId();
+          case "this": return target;
+          default: throw new NonExistingPropertyException("CascadeTo", property);
+        }
+      }
+
+      public void set(String property, Object value) {
+        switch (property) {
+          case "cascadeAgain": target.setCascadeAgain((CascadeThirdGeneration) value);
+          break;
+          case "string": target.setString((String) value);
+          break;
+          case "id": target.setId((Long) value);
+          break;
+          case "this": target = (CascadeTo) value;
+          agent.target = target;
+          break;
+          default: throw new NonExistingPropertyException("CascadeTo", property);
+        }
+      }
+
+      public Map getBeanProperties() {
+        final Map props = new HashMap(agent.propertyTypes);
+        props.remove("this");
+        return Collections.unmodifiableMap(props);
+      }
+    }
+    BindableProxyFactory.addBindableProxy(CascadeTo.class, new BindableProxyProvider() {
+      public BindableProxy getBindableProxy(Object model) {
+        return new org_jboss_errai_jpa_test_entity_CascadeToProxy((CascadeTo) model);
+      }
+      public BindableProxy getBindableProxy() {
+        return new org_jboss_errai_jpa_test_entity_CascadeToProxy();
+      }
+    });
+    class org_jboss_errai_jpa_test_entity_AlbumProxy extends Album implements BindableProxy {
+      private BindableProxyAgent<Album> agent;
+      private Album target;
+      public org_jboss_errai_jpa_test_entity_AlbumProxy() {
+        this(new Album());
+      }
+
+      public org_jboss_errai_jpa_test_entity_AlbumProxy(Album targetVal) {
+        agent = new BindableProxyAgent<Album>(this, targetVal);
+        target = targetVal;
+        final Map<String, PropertyType> p = agent.propertyTypes;
+        p.put("artist", new PropertyType(Artist.class, false, false));
+        p.put("releaseDate", new PropertyType(Date.class, false, false));
+        p.put("name", new PropertyType(String.class, false, false));
+        p.put("format", new PropertyType(Format.class, false, false));
+        p.put("id", new PropertyType(Long.class, false, false));
+        p.put("this", new PropertyType(Album.class, true, false));
+        agent.copyValues();
+      }
+
+      public BindableProxyAgent getBindableProxyAgent() {
+        return agent;
+      }
+
+      public void updateWidgets() {
+        agent.updateWidgetsAndFireEvents();
+      }
+
+      public Album unwrap() {
+        return target;
+      }
+
+      public Album deepUnwrap() {
+        final Album clone = new Album();
+        final Album t = unwrap();
+        clone.setArtist(t.getArtist());
+        clone.setReleaseDate(t.getReleaseDate());
+        clone.setName(t.getName());
+        clone.setFormat(t.getFormat());
+        clone.setId(t.getId());
+        return clone;
+      }
+
+      public boolean equals(Object obj) {
+        if (obj instanceof org_jboss_errai_jpa_test_entity_AlbumProxy) {
+          obj = ((org_jboss_errai_jpa_test_entity_AlbumProxy) obj).unwrap();
+        }
+        return target.equals(obj);
+      }
+
+      public int hashCode() {
+        return target.hashCode();
+      }
+
+      public String toString() {
+        return target.toString();
+      }
+
+      private void changeAndFire(String property, Object value) {
+        final Object oldValue = get(property);
+        set(property, value);
+        agent.updateWidgetsAndFireEvent(false, property, oldValue, value);
+      }
+
+      public Artist getArtist() {
+        return target.getArtist();
+      }
+
+      public void setArtist(Artist artist) {
+        changeAndFire("artist", artist);
+      }
+
+      public Date getReleaseDate() {
+        return target.getReleaseDate();
+      }
+
+      public void setReleaseDate(Date releaseDate) {
+        changeAndFire("releaseDate", releaseDate);
+      }
+
+      public String getName() {
+        return target.getName();
+      }
+
+      public void setName(String name) {
+        changeAndFire("name", name);
+      }
+
+      public Format getFormat() {
+        return target.getFormat();
+      }
+
+      public void setFormat(Format format) {
+        changeAndFire("format", format);
+      }
+
+      public Long getId() {
+        return target.getId();
+      }
+
+      public void setId(Long id) {
+        changeAndFire("id", id);
+      }
+
+      public Object get(String property) {
+        switch (property) {
+          case "artist": return getArtist();
+          case "releaseDate": return getReleaseDate();
+          case "name": return getName();
+          case "format": return getFormat();
+          case "id": return getId();
+          case "this": return target;
+          default: throw new NonExistingPropertyException("Album", property);
+        }
+      }
+
+      public void set(String property, Object value) {
+        switch (property) {
+          case "artist": target.setArtist((Artist) value);
+          break;
+          case "releaseDate": target.setReleaseDate((Date) value);
+          break;
+          case "name": target.setName((String) value);
+          break;
+          case "format": target.setFormat((Format) value);
+          break;
+          case "id": target.setId((Long) value);
+          break;
+          case "this": target = (Album) value;
+          agent.target = target;
+          break;
+          default: throw new NonExistingPropertyException("Album", property);
+        }
+      }
+
+      public Map getBeanProperties() {
+        final Map props = new HashMap(agent.propertyTypes);
+        props.remove("this");
+        return Collections.unmodifiableMap(props);
+      }
+
+      public void postLoad() {
+        target.postLoad();
+        agent.updateWidgetsAndFireEvents();
+      }
+    }
+    BindableProxyFactory.addBindableProxy(Album.class, new BindableProxyProvider() {
+      public BindableProxy getBindableProxy(Object model) {
+        return new org_jboss_errai_jpa_test_entity_AlbumProxy((Album) model);
+      }
+      public BindableProxy getBindableProxy() {
+        return new org_jboss_errai_jpa_test_entity_AlbumProxy();
+      }
+    });
+    class org_jboss_errai_jpa_test_entity_CascadeFromProxy extends CascadeFrom implements BindableProxy {
+      private BindableProxyAgent<CascadeFrom> agent;
+      private CascadeFrom target;
+      public org_jboss_errai_jpa_test_entity_CascadeFromProxy() {
+        this(new CascadeFrom());
+      }
+
+      public org_jboss_errai_jpa_test_entity_CascadeFromProxy(CascadeFrom targetVal) {
+        agent = new BindableProxyAgent<CascadeFrom>(this, targetVal);
+        target = targetVal;
+        final Map<String, PropertyType> p = agent.propertyTypes;
+        p.put("all", new PropertyType(CascadeTo.class, true, false));
+        p.put("detachCollection", new PropertyType(List.class, false, true));
+        p.put("allCollection", new PropertyType(List.class, false, true));
+        p.put("noneCollection", new PropertyType(List.class, false, true));
+        p.put("refresh", new PropertyType(CascadeTo.class, true, false));
+        p.put("refreshCollection", new PropertyType(List.class, false, true));
+        p.put("removeCollection", new PropertyType(List.class, false, true));
+        p.put("none", new PropertyType(CascadeTo.class, true, false));
+        p.put("remove", new PropertyType(CascadeTo.class, true, false));
+        p.put("merge", new PropertyType(CascadeTo.class, true, false));
+        p.put("mergeCollection", new PropertyType(List.class, false, true));
+        p.put("detach", new PropertyType(CascadeTo.class, true, false));
+        p.put("persistCollection", new PropertyType(List.class, false, true));
+        p.put("id", new PropertyType(Long.class, false, false));
+        p.put("persist", new PropertyType(CascadeTo.class, true, false));
+        p.put("this", new PropertyType(CascadeFrom.class, true, false));
+        agent.copyValues();
+      }
+
+      public BindableProxyAgent getBindableProxyAgent() {
+        return agent;
+      }
+
+      public void updateWidgets() {
+        agent.updateWidgetsAndFireEvents();
+      }
+
+      public CascadeFrom unwrap() {
+        return target;
+      }
+
+      public CascadeFrom deepUnwrap() {
+        final CascadeFrom clone = new CascadeFrom();
+        final CascadeFrom t = unwrap();
+        if (t.getAll() instanceof BindableProxy) {
+          clone.setAll((CascadeTo) ((BindableProxy) getAll()).deepUnwrap());
+        } else if (BindableProxyFactory.isBindableType(t.getAll())) {
+          clone.setAll((CascadeTo) ((BindableProxy) BindableProxyFactory.getBindableProxy(t.getAll())).deepUnwrap());
+        } else {
+          clone.setAll(t.getAll());
+        }
+        if (t.getDetachCollection() != null) {
+          final List detachCollectionClone = new ArrayList();
+          for (Object detachCollectionElem : t.getDetachCollection()) {
+            if (detachCollectionElem instanceof BindableProxy) {
+              detachCollectionClone.add(((BindableProxy) detachCollectionElem).deepUnwrap());
+            } else {
+              detachCollectionClone.add(detachCollectionElem);
+            }
+          }
+          clone.setDetachCollection(detachCollectionClone);
+        }
+        if (t.getAllCollection() != null) {
+          final List allCollectionClone = new ArrayList();
+          for (Object allCollectionElem : t.getAllCollection()) {
+            if (allCollectionElem instanceof BindableProxy) {
+              allCollectionClone.add(((BindableProxy) allCollectionElem).deepUnwrap());
+            } else {
+              allCollectionClone.add(allCollectionElem);
+            }
+          }
+          clone.setAllCollection(allCollectionClone);
+        }
+        if (t.getNoneCollection() != null) {
+          final List noneCollectionClone = new ArrayList();
+          for (Object noneCollectionElem : t.getNoneCollection()) {
+            if (noneCollectionElem instanceof BindableProxy) {
+              noneCollectionClone.add(((BindableProxy) noneCollectionElem).deepUnwrap());
+            } else {
+              noneCollectionClone.add(noneCollectionElem);
+            }
+          }
+          clone.setNoneCollection(noneCollectionClone);
+        }
+        if (t.getRefresh() instanceof BindableProxy) {
+          clone.setRefresh((CascadeTo) ((BindableProxy) getRefresh()).deepUnwrap());
+        } else if (BindableProxyFactory.isBindableType(t.getRefresh())) {
+          clone.setRefresh((CascadeTo) ((BindableProxy) BindableProxyFactory.getBindableProxy(t.getRefresh())).deepUnwrap());
+        } else {
+          clone.setRefresh(t.getRefresh());
+        }
+        if (t.getRefreshCollection() != null) {
+          final List refreshCollectionClone = new ArrayList();
+          for (Object refreshCollectionElem : t.getRefreshCollection()) {
+            if (refreshCollectionElem instanceof BindableProxy) {
+              refreshCollectionClone.add(((BindableProxy) refreshCollectionElem).deepUnwrap());
+            } else {
+              refreshCollectionClone.add(refreshCollectionElem);
+            }
+          }
+          clone.setRefreshCollection(refreshCollectionClone);
+        }
+        if (t.getRemoveCollection() != null) {
+          final List removeCollectionClone = new ArrayList();
+          for (Object removeCollectionElem : t.getRemoveCollection()) {
+            if (removeCollectionElem instanceof BindableProxy) {
+              removeCollectionClone.add(((BindableProxy) removeCollectionElem).deepUnwrap());
+            } else {
+              removeCollectionClone.add(removeCollectionElem);
+            }
+          }
+          clone.setRemoveCollection(removeCollectionClone);
+        }
+        if (t.getNone() instanceof BindableProxy) {
+          clone.setNone((CascadeTo) ((BindableProxy) getNone()).deepUnwrap());
+        } else if (BindableProxyFactory.isBindableType(t.getNone())) {
+          clone.setNone((CascadeTo) ((BindableProxy) BindableProxyFactory.getBindableProxy(t.getNone())).deepUnwrap());
+        } else {
+          clone.setNone(t.getNone());
+        }
+        if (t.getRemove() instanceof BindableProxy) {
+          clone.setRemove((CascadeTo) ((BindableProxy) getRemove()).deepUnwrap());
+        } else if (BindableProxyFactory.isBindableType(t.getRemove())) {
+          clone.setRemove((CascadeTo) ((BindableProxy) BindableProxyFactory.getBindableProxy(t.getRemove())).deepUnwrap());
+        } else {
+          clone.setRemove(t.getRemove());
+        }
+        if (t.getMerge() instanceof BindableProxy) {
+          clone.setMerge((CascadeTo) ((BindableProxy) getMerge()).deepUnwrap());
+        } else if (BindableProxyFactory.isBindableType(t.getMerge())) {
+          clone.setMerge((CascadeTo) ((BindableProxy) BindableProxyFactory.getBindableProxy(t.getMerge())).deepUnwrap());
+        } else {
+          clone.setMerge(t.getMerge());
+        }
+        if (t.getMergeCollection() != null) {
+          final List mergeCollectionClone = new ArrayList();
+          for (Object mergeCollectionElem : t.getMergeCollection()) {
+            if (mergeCollectionElem instanceof BindableProxy) {
+              mergeCollectionClone.add(((BindableProxy) mergeCollectionElem).deepUnwrap());
+            } else {
+              mergeCollectionClone.add(mergeCollectionElem);
+            }
+          }
+          clone.setMergeCollection(mergeCollectionClone);
+        }
+        if (t.getDetach() instanceof BindableProxy) {
+          clone.setDetach((CascadeTo) ((BindableProxy) getDetach()).deepUnwrap());
+        } else if (BindableProxyFactory.isBindableType(t.getDetach())) {
+          clone.setDetach((CascadeTo) ((BindableProxy) BindableProxyFactory.getBindableProxy(t.getDetach())).deepUnwrap());
+        } else {
+          clone.setDetach(t.getDetach());
+        }
+        if (t.getPersistCollection() != null) {
+          final List persistCollectionClone = new ArrayList();
+          for (Object persistCollectionElem : t.getPersistCollection()) {
+            if (persistCollectionElem instanceof BindableProxy) {
+              persistCollectionClone.add(((BindableProxy) persistCollectionElem).deepUnwrap());
+            } else {
+              persistCollectionClone.add(persistCollectionElem);
+            }
+          }
+          clone.setPersistCollection(persistCollectionClone);
+        }
+        clone.setId(t.getId());
+        if (t.getPersist() instanceof BindableProxy) {
+          clone.setPersist((CascadeTo) ((BindableProxy) getPersist()).deepUnwrap());
+        } else if (BindableProxyFactory.isBindableType(t.getPersist())) {
+          clone.setPersist((CascadeTo) ((BindableProxy) BindableProxyFactory.getBindableProxy(t.getPersist())).deepUnwrap());
+        } else {
+          clone.setPersist(t.getPersist());
+        }
+        return clone;
+      }
+
+      public boolean equals(Object obj) {
+        if (obj instanceof org_jboss_errai_jpa_test_entity_CascadeFromProxy) {
+          obj = ((org_jboss_errai_jpa_test_entity_CascadeFromProxy) obj).unwrap();
+        }
+        return target.equals(obj);
+      }
+
+      public int hashCode() {
+        return target.hashCode();
+      }
+
+      public String toString() {
+        return target.toString();
+      }
+
+      private void changeAndFire(String property, Object value) {
+        final Object oldValue = get(property);
+        set(property, value);
+        agent.updateWidgetsAndFireEvent(false, property, oldValue, value);
+      }
+
+      public CascadeTo getAll() {
+        return target.getAll();
+      }
+
+      public void setAll(CascadeTo all) {
+        if (agent.binders.containsKey("all")) {
+          all = (CascadeTo) agent.binders.get("all").setModel(all, StateSync.FROM_MODEL, true);
+        }
+        changeAndFire("all", all);
+      }
+
+      public List getDetachCollection() {
+        return target.getDetachCollection();
+      }
+
+      public void setDetachCollection(List<CascadeTo> detachCollection) {
+        List<CascadeTo> oldValue = target.getDetachCollection();
+        detachCollection = agent.ensureBoundListIsProxied("detachCollection", detachCollection);
+        target.setDetachCollection(detachCollection);
+        agent.updateWidgetsAndFireEvent(true, "detachCollection", oldValue, detachCollection);
+      }
+
+      public List getAllCollection() {
+        return target.getAllCollection();
+      }
+
+      public void setAllCollection(List<CascadeTo> allCollection) {
+        List<CascadeTo> oldValue = target.getAllCollection();
+        allCollection = agent.ensureBoundListIsProxied("allCollection", allCollection);
+        target.setAllCollection(allCollection);
+        agent.updateWidgetsAndFireEvent(true, "allCollection", oldValue, allCollection);
+      }
+
+      public List getNoneCollection() {
+        return target.getNoneCollection();
+      }
+
+      public void setNoneCollection(List<CascadeTo> noneCollection) {
+        List<CascadeTo> oldValue = target.getNoneCollection();
+        noneCollection = agent.ensureBoundListIsProxied("noneCollection", noneCollection);
+        target.setNoneCollection(noneCollection);
+        agent.updateWidgetsAndFireEvent(true, "noneCollection", oldValue, noneCollection);
+      }
+
+      public CascadeTo getRefresh() {
+        return target.getRefresh();
+      }
+
+      public void setRefresh(CascadeTo refresh) {
+        if (agent.binders.containsKey("refresh")) {
+          refresh = (CascadeTo) agent.binders.get("refresh").setModel(refresh, StateSync.FROM_MODEL, true);
+        }
+        changeAndFire("refresh", refresh);
+      }
+
+      public List getRefreshCollection() {
+        return target.getRefreshCollection();
+      }
+
+      public void setRefreshCollection(List<CascadeTo> refreshCollection) {
+        List<CascadeTo> oldValue = target.getRefreshCollection();
+        refreshCollection = agent.ensureBoundListIsProxied("refreshCollection", refreshCollection);
+        target.setRefreshCollection(refreshCollection);
+        agent.updateWidgetsAndFireEvent(true, "refreshCollection", oldValue, refreshCollection);
+      }
+
+      public List getRemoveCollection() {
+        return target.getRemoveCollection();
+      }
+
+      public void setRemoveCollection(List<CascadeTo> removeCollection) {
+        List<CascadeTo> oldValue = target.getRemoveCollection();
+        removeCollection = agent.ensureBoundListIsProxied("removeCollection", removeCollection);
+        target.setRemoveCollection(removeCollection);
+        agent.updateWidgetsAndFireEvent(true, "removeCollection", oldValue, removeCollection);
+      }
+
+      public CascadeTo getNone() {
+        return target.getNone();
+      }
+
+      public void setNone(CascadeTo none) {
+        if (agent.binders.containsKey("none")) {
+          none = (CascadeTo) agent.binders.get("none").setModel(none, StateSync.FROM_MODEL, true);
+        }
+        changeAndFire("none", none);
+      }
+
+      public CascadeTo getRemove() {
+        return target.getRemove();
+      }
+
+      public void setRemove(CascadeTo remove) {
+        if (agent.binders.containsKey("remove")) {
+          remove = (CascadeTo) agent.binders.get("remove").setModel(remove, StateSync.FROM_MODEL, true);
+        }
+        changeAndFire("remove", remove);
+      }
+
+      public CascadeTo getMerge() {
+        return target.getMerge();
+      }
+
+      public void setMerge(CascadeTo merge) {
+        if (agent.binders.containsKey("merge")) {
+          merge = (CascadeTo) agent.binders.get("merge").setModel(merge, StateSync.FROM_MODEL, true);
+        }
+        changeAndFire("merge", merge);
+      }
+
+      public List getMergeCollection() {
+        return target.getMergeCollection();
+      }
+
+      public void setMergeCollection(List<CascadeTo> mergeCollection) {
+        List<CascadeTo> oldValue = target.getMergeCollection();
+        mergeCollection = agent.ensureBoundListIsProxied("mergeCollection", mergeCollection);
+        target.setMergeCollection(mergeCollection);
+        agent.updateWidgetsAndFireEvent(true, "mergeCollection", oldValue, mergeCollection);
+      }
+
+      public CascadeTo getDetach() {
+        return target.getDetach();
+      }
+
+      public void setDetach(CascadeTo detach) {
+        if (agent.binders.containsKey("detach")) {
+          detach = (CascadeTo) agent.binders.get("detach").setModel(detach, StateSync.FROM_MODEL, true);
+        }
+        changeAndFire("detach", detach);
+      }
+
+      public List getPersistCollection() {
+        return target.getPersistCollection();
+      }
+
+      public void setPersistCollection(List<CascadeTo> persistCollection) {
+        List<CascadeTo> oldValue = target.getPersistCollection();
+        persistCollection = agent.ensureBoundListIsProxied("persistCollection", persistCollection);
+        target.setPersistCollection(persistCollection);
+        agent.updateWidgetsAndFireEvent(true, "persistCollection", oldValue, persistCollection);
+      }
+
+      public long getId() {
+        return target.getId();
+      }
+
+      public void setId(long id) {
+        changeAndFire("id", id);
+      }
+
+      public CascadeTo getPersist() {
+        return target.getPersist();
+      }
+
+      public void setPersist(CascadeTo persist) {
+        if (agent.binders.containsKey("persist")) {
+          persist = (CascadeTo) agent.binders.get("persist").setModel(persist, StateSync.FROM_MODEL, true);
+        }
+        changeAndFire("persist", persist);
+      }
+
+      public Object get(String property) {
+        switch (property) {
+          case "all": return getAll();
+          case "detachCollection": return getDetachCollection();
+          case "allCollection": return getAllCollection();
+          case "noneCollection": return getNoneCollection();
+          case "refresh": return getRefresh();
+          case "refreshCollection": return getRefreshCollection();
+          case "removeCollection": return getRemoveCollection();
+          case "none": return getNone();
+          case "remove": return getRemove();
+          case "merge": return getMerge();
+          case "mergeCollection": return getMergeCollection();
+          case "detach": return getDetach();
+          case "persistCollection": return getPersistCollection();
+          case "id": return getId();
+          case "persist": return getPersist();
+          case "this": return target;
+          default: throw new NonExistingPropertyException("CascadeFrom", property);
+        }
+      }
+
+      public void set(String property, Object value) {
+        switch (property) {
+          case "all": target.setAll((CascadeTo) value);
+          break;
+          case "detachCollection": target.setDetachCollection((List<CascadeTo>) value);
+          break;
+          case "allCollection": target.setAllCollection((List<CascadeTo>) value);
+          break;
+          case "noneCollection": target.setNoneCollection((List<CascadeTo>) value);
+          break;
+          case "refresh": target.setRefresh((CascadeTo) value);
+          break;
+          case "refreshCollection": target.setRefreshCollection((List<CascadeTo>) value);
+          break;
+          case "removeCollection": target.setRemoveCollection((List<CascadeTo>) value);
+          break;
+          case "none": target.setNone((CascadeTo) value);
+          break;
+          case "remove": target.setRemove((CascadeTo) value);
+          break;
+          case "merge": target.setMerge((CascadeTo) value);
+          break;
+          case "mergeCollection": target.setMergeCollection((List<CascadeTo>) value);
+          break;
+          case "detach": target.setDetach((CascadeTo) value);
+          break;
+          case "persistCollection": target.setPersistCollection((List<CascadeTo>) value);
+          break;
+          case "id": target.setId((Long) value);
+          break;
+          case "persist": target.setPersist((CascadeTo) value);
+          break;
+          case "this": target = (CascadeFrom) value;
+          agent.target = target;
+          break;
+          default: throw new NonExistingPropertyException("CascadeFrom", property);
+        }
+      }
+
+      public Map getBeanProperties() {
+        final Map props = new HashMap(agent.propertyTypes);
+        props.remove("this");
+        return Collections.unmodifiableMap(props);
+      }
+    }
+    BindableProxyFactory.addBindableProxy(CascadeFrom.class, new BindableProxyProvider() {
+      public BindableProxy getBindableProxy(Object model) {
+        return new org_jboss_errai_jpa_test_entity_CascadeFromProxy((CascadeFrom) model);
+      }
+      public BindableProxy getBindableProxy() {
+        return new org_jboss_errai_jpa_test_entity_CascadeFromProxy();
+      }
+    });
+  }
+}
\ No newline at end of file
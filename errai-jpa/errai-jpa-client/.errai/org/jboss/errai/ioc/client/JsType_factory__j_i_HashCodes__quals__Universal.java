@@ -0,0 +1,19 @@
+package org.jboss.errai.ioc.client;
+
+import java.lang.annotation.Annotation;
+import javaemul.internal.HashCodes;
+import javax.enterprise.context.Dependent;
+import org.jboss.errai.ioc.client.container.ContextManager;
+import org.jboss.errai.ioc.client.container.Factory;
+import org.jboss.errai.ioc.client.container.FactoryHandleImpl;
+
+public class JsType_factory__j_i_HashCodes__quals__Universal extends Factory<HashCodes> { public JsType_factory__j_i_HashCodes__quals__Universal() {
+    super(new FactoryHandleImpl(HashCodes.class, "JsType_factory__j_i_HashCodes__quals__Universal", Dependent.class, false, null, false));
+    handle.setAssignableTypes(new Class[] { HashCodes.class, Object.class });
+    handle.setQualifiers(new Annotation[] { });
+  }
+
+  public HashCodes createInstance(final ContextManager contextManager) {
+    return (HashCodes) WindowInjectionContextStorage.createOrGet().getBean("javaemul.internal.HashCodes");
+  }
+}
\ No newline at end of file
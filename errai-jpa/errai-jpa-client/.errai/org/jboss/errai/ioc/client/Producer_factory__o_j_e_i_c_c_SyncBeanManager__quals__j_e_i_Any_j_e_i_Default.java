@@ -0,0 +1,23 @@
+package org.jboss.errai.ioc.client;
+
+import javax.enterprise.context.Dependent;
+import org.jboss.errai.ioc.client.api.builtin.IOCBeanManagerProvider;
+import org.jboss.errai.ioc.client.container.ClientBeanManager;
+import org.jboss.errai.ioc.client.container.ContextManager;
+import org.jboss.errai.ioc.client.container.Factory;
+import org.jboss.errai.ioc.client.container.FactoryHandleImpl;
+import org.jboss.errai.ioc.client.container.SyncBeanManager;
+
+public class Producer_factory__o_j_e_i_c_c_SyncBeanManager__quals__j_e_i_Any_j_e_i_Default extends Factory<SyncBeanManager> { public Producer_factory__o_j_e_i_c_c_SyncBeanManager__quals__j_e_i_Any_j_e_i_Default() {
+    super(new FactoryHandleImpl(SyncBeanManager.class, "Producer_factory__o_j_e_i_c_c_SyncBeanManager__quals__j_e_i_Any_j_e_i_Default", Dependent.class, false, null, true));
+    handle.setAssignableTypes(new Class[] { SyncBeanManager.class, ClientBeanManager.class });
+  }
+
+  public SyncBeanManager createInstance(final ContextManager contextManager) {
+    IOCBeanManagerProvider producerInstance = contextManager.getInstance("Type_factory__o_j_e_i_c_a_b_IOCBeanManagerProvider__quals__j_e_i_Any_j_e_i_Default");
+    producerInstance = Factory.maybeUnwrapProxy(producerInstance);
+    final SyncBeanManager instance = producerInstance.get();
+    thisInstance.setReference(instance, "producerInstance", producerInstance);
+    return instance;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package org.jboss.errai.ioc.client;
+
+import javaemul.internal.HashCodes;
+import javax.enterprise.context.Dependent;
+import org.jboss.errai.ioc.client.container.ContextManager;
+import org.jboss.errai.ioc.client.container.Factory;
+import org.jboss.errai.ioc.client.container.FactoryHandleImpl;
+
+public class Type_factory__j_i_HashCodes__quals__j_e_i_Any_j_e_i_Default extends Factory<HashCodes> { public Type_factory__j_i_HashCodes__quals__j_e_i_Any_j_e_i_Default() {
+    super(new FactoryHandleImpl(HashCodes.class, "Type_factory__j_i_HashCodes__quals__j_e_i_Any_j_e_i_Default", Dependent.class, false, null, true));
+    handle.setAssignableTypes(new Class[] { HashCodes.class, Object.class });
+  }
+
+  public HashCodes createInstance(final ContextManager contextManager) {
+    final HashCodes instance = new HashCodes();
+    setIncompleteInstance(instance);
+    setIncompleteInstance(null);
+    return instance;
+  }
+}
\ No newline at end of file
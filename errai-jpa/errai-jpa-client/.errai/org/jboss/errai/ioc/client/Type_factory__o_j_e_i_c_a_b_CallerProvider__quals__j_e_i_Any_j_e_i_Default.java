@@ -0,0 +1,22 @@
+package org.jboss.errai.ioc.client;
+
+import javax.inject.Singleton;
+import org.jboss.errai.ioc.client.api.ContextualTypeProvider;
+import org.jboss.errai.ioc.client.api.Disposer;
+import org.jboss.errai.ioc.client.api.builtin.CallerProvider;
+import org.jboss.errai.ioc.client.container.ContextManager;
+import org.jboss.errai.ioc.client.container.Factory;
+import org.jboss.errai.ioc.client.container.FactoryHandleImpl;
+
+public class Type_factory__o_j_e_i_c_a_b_CallerProvider__quals__j_e_i_Any_j_e_i_Default extends Factory<CallerProvider> { public Type_factory__o_j_e_i_c_a_b_CallerProvider__quals__j_e_i_Any_j_e_i_Default() {
+    super(new FactoryHandleImpl(CallerProvider.class, "Type_factory__o_j_e_i_c_a_b_CallerProvider__quals__j_e_i_Any_j_e_i_Default", Singleton.class, false, null, true));
+    handle.setAssignableTypes(new Class[] { CallerProvider.class, Object.class, ContextualTypeProvider.class, Disposer.class });
+  }
+
+  public CallerProvider createInstance(final ContextManager contextManager) {
+    final CallerProvider instance = new CallerProvider();
+    setIncompleteInstance(instance);
+    setIncompleteInstance(null);
+    return instance;
+  }
+}
\ No newline at end of file
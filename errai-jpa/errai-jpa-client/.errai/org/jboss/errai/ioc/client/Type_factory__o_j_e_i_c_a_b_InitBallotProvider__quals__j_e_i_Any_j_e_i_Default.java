@@ -0,0 +1,21 @@
+package org.jboss.errai.ioc.client;
+
+import javax.inject.Singleton;
+import org.jboss.errai.ioc.client.api.ContextualTypeProvider;
+import org.jboss.errai.ioc.client.api.builtin.InitBallotProvider;
+import org.jboss.errai.ioc.client.container.ContextManager;
+import org.jboss.errai.ioc.client.container.Factory;
+import org.jboss.errai.ioc.client.container.FactoryHandleImpl;
+
+public class Type_factory__o_j_e_i_c_a_b_InitBallotProvider__quals__j_e_i_Any_j_e_i_Default extends Factory<InitBallotProvider> { public Type_factory__o_j_e_i_c_a_b_InitBallotProvider__quals__j_e_i_Any_j_e_i_Default() {
+    super(new FactoryHandleImpl(InitBallotProvider.class, "Type_factory__o_j_e_i_c_a_b_InitBallotProvider__quals__j_e_i_Any_j_e_i_Default", Singleton.class, false, null, true));
+    handle.setAssignableTypes(new Class[] { InitBallotProvider.class, Object.class, ContextualTypeProvider.class });
+  }
+
+  public InitBallotProvider createInstance(final ContextManager contextManager) {
+    final InitBallotProvider instance = new InitBallotProvider();
+    setIncompleteInstance(instance);
+    setIncompleteInstance(null);
+    return instance;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package org.jboss.errai.ioc.client;
+
+import javax.enterprise.context.Dependent;
+import org.jboss.errai.ioc.client.api.ContextualTypeProvider;
+import org.jboss.errai.ioc.client.api.Disposer;
+import org.jboss.errai.ioc.client.api.builtin.ManagedInstanceProvider;
+import org.jboss.errai.ioc.client.container.ContextManager;
+import org.jboss.errai.ioc.client.container.Factory;
+import org.jboss.errai.ioc.client.container.FactoryHandleImpl;
+
+public class Type_factory__o_j_e_i_c_a_b_ManagedInstanceProvider__quals__j_e_i_Any_j_e_i_Default extends Factory<ManagedInstanceProvider> { public Type_factory__o_j_e_i_c_a_b_ManagedInstanceProvider__quals__j_e_i_Any_j_e_i_Default() {
+    super(new FactoryHandleImpl(ManagedInstanceProvider.class, "Type_factory__o_j_e_i_c_a_b_ManagedInstanceProvider__quals__j_e_i_Any_j_e_i_Default", Dependent.class, false, null, true));
+    handle.setAssignableTypes(new Class[] { ManagedInstanceProvider.class, Object.class, ContextualTypeProvider.class, Disposer.class });
+  }
+
+  public ManagedInstanceProvider createInstance(final ContextManager contextManager) {
+    final ManagedInstanceProvider instance = new ManagedInstanceProvider();
+    setIncompleteInstance(instance);
+    setIncompleteInstance(null);
+    return instance;
+  }
+}
\ No newline at end of file
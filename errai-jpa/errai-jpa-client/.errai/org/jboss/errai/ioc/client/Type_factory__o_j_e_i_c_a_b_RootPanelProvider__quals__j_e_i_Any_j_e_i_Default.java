@@ -0,0 +1,21 @@
+package org.jboss.errai.ioc.client;
+
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import org.jboss.errai.ioc.client.api.builtin.RootPanelProvider;
+import org.jboss.errai.ioc.client.container.ContextManager;
+import org.jboss.errai.ioc.client.container.Factory;
+import org.jboss.errai.ioc.client.container.FactoryHandleImpl;
+
+public class Type_factory__o_j_e_i_c_a_b_RootPanelProvider__quals__j_e_i_Any_j_e_i_Default extends Factory<RootPanelProvider> { public Type_factory__o_j_e_i_c_a_b_RootPanelProvider__quals__j_e_i_Any_j_e_i_Default() {
+    super(new FactoryHandleImpl(RootPanelProvider.class, "Type_factory__o_j_e_i_c_a_b_RootPanelProvider__quals__j_e_i_Any_j_e_i_Default", Singleton.class, false, null, true));
+    handle.setAssignableTypes(new Class[] { RootPanelProvider.class, Object.class, Provider.class });
+  }
+
+  public RootPanelProvider createInstance(final ContextManager contextManager) {
+    final RootPanelProvider instance = new RootPanelProvider();
+    setIncompleteInstance(instance);
+    setIncompleteInstance(null);
+    return instance;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package org.jboss.errai.ioc.client;
+
+import javax.enterprise.context.Dependent;
+import org.jboss.errai.ioc.client.container.ContextManager;
+import org.jboss.errai.ioc.client.container.Factory;
+import org.jboss.errai.ioc.client.container.FactoryHandleImpl;
+import org.jboss.errai.ioc.client.lifecycle.api.Destruction;
+import org.jboss.errai.ioc.client.lifecycle.api.LifecycleEvent;
+import org.jboss.errai.ioc.client.lifecycle.impl.DestructionImpl;
+import org.jboss.errai.ioc.client.lifecycle.impl.LifecycleEventImpl;
+
+public class Type_factory__o_j_e_i_c_l_i_DestructionImpl__quals__j_e_i_Any_j_e_i_Default extends Factory<DestructionImpl> { public Type_factory__o_j_e_i_c_l_i_DestructionImpl__quals__j_e_i_Any_j_e_i_Default() {
+    super(new FactoryHandleImpl(DestructionImpl.class, "Type_factory__o_j_e_i_c_l_i_DestructionImpl__quals__j_e_i_Any_j_e_i_Default", Dependent.class, false, null, true));
+    handle.setAssignableTypes(new Class[] { DestructionImpl.class, LifecycleEventImpl.class, Object.class, LifecycleEvent.class, Destruction.class, LifecycleEvent.class });
+  }
+
+  public DestructionImpl createInstance(final ContextManager contextManager) {
+    final DestructionImpl instance = new DestructionImpl();
+    setIncompleteInstance(instance);
+    setIncompleteInstance(null);
+    return instance;
+  }
+}
\ No newline at end of file
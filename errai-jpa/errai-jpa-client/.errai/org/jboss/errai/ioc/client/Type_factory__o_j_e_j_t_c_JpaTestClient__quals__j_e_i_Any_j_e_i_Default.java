@@ -0,0 +1,28 @@
+package org.jboss.errai.ioc.client;
+
+import org.jboss.errai.ioc.client.api.EntryPoint;
+import org.jboss.errai.ioc.client.container.ContextManager;
+import org.jboss.errai.ioc.client.container.Factory;
+import org.jboss.errai.ioc.client.container.FactoryHandleImpl;
+import org.jboss.errai.jpa.client.local.ErraiEntityManager;
+import org.jboss.errai.jpa.test.client.JpaTestClient;
+
+public class Type_factory__o_j_e_j_t_c_JpaTestClient__quals__j_e_i_Any_j_e_i_Default extends Factory<JpaTestClient> { public Type_factory__o_j_e_j_t_c_JpaTestClient__quals__j_e_i_Any_j_e_i_Default() {
+    super(new FactoryHandleImpl(JpaTestClient.class, "Type_factory__o_j_e_j_t_c_JpaTestClient__quals__j_e_i_Any_j_e_i_Default", EntryPoint.class, true, null, true));
+    handle.setAssignableTypes(new Class[] { JpaTestClient.class, Object.class });
+  }
+
+  public JpaTestClient createInstance(final ContextManager contextManager) {
+    final JpaTestClient instance = new JpaTestClient();
+    setIncompleteInstance(instance);
+    final ErraiEntityManager JpaTestClient_entityManager = (ErraiEntityManager) contextManager.getInstance("Producer_factory__o_j_e_j_c_l_ErraiEntityManager__quals__j_e_i_Any_j_e_i_Default");
+    registerDependentScopedReference(instance, JpaTestClient_entityManager);
+    instance.entityManager = JpaTestClient_entityManager;
+    setIncompleteInstance(null);
+    return instance;
+  }
+
+  public void invokePostConstructs(final JpaTestClient instance) {
+    instance.storeAlbums();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,12653 @@
+package org.jboss.errai.jpa.client.local;
+
+import com.google.gwt.core.client.UnsafeNativeLong;
+import com.google.gwt.json.client.JSONObject;
+import com.google.gwt.regexp.shared.RegExp;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.CascadeType;
+import javax.persistence.PersistenceContextType;
+import javax.persistence.TypedQuery;
+import javax.persistence.metamodel.Attribute.PersistentAttributeType;
+import javax.persistence.metamodel.Bindable.BindableType;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.PluralAttribute.CollectionType;
+import javax.persistence.metamodel.Type;
+import javax.persistence.metamodel.Type.PersistenceType;
+import org.jboss.errai.common.client.api.WrappedPortable;
+import org.jboss.errai.jpa.client.local.backend.Comparisons;
+import org.jboss.errai.jpa.client.local.backend.IndexRange;
+import org.jboss.errai.jpa.client.local.backend.WebStorageBackend;
+import org.jboss.errai.jpa.test.entity.Album;
+import org.jboss.errai.jpa.test.entity.Artist;
+import org.jboss.errai.jpa.test.entity.CascadeFrom;
+import org.jboss.errai.jpa.test.entity.CascadeThirdGeneration;
+import org.jboss.errai.jpa.test.entity.CascadeTo;
+import org.jboss.errai.jpa.test.entity.EntityWithBigIntegerId;
+import org.jboss.errai.jpa.test.entity.EntityWithBoxedIntId;
+import org.jboss.errai.jpa.test.entity.EntityWithBoxedLongId;
+import org.jboss.errai.jpa.test.entity.EntityWithNonGeneratedId;
+import org.jboss.errai.jpa.test.entity.EntityWithPrimitiveIntId;
+import org.jboss.errai.jpa.test.entity.EntityWithPrimitiveLongId;
+import org.jboss.errai.jpa.test.entity.Format;
+import org.jboss.errai.jpa.test.entity.Genre;
+import org.jboss.errai.jpa.test.entity.MethodAccessedZentity;
+import org.jboss.errai.jpa.test.entity.StandaloneLifecycleListener;
+import org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener;
+import org.jboss.errai.jpa.test.entity.Zentity;
+import org.jboss.errai.jpa.test.entity.inherit.ChildOfAbstractParentEntity;
+import org.jboss.errai.jpa.test.entity.inherit.ChildOfConcreteParentEntity;
+import org.jboss.errai.jpa.test.entity.inherit.GrandchildOfConcreteParentEntity;
+import org.jboss.errai.jpa.test.entity.inherit.IdTestingEntity1;
+import org.jboss.errai.jpa.test.entity.inherit.IdTestingEntity2;
+import org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity;
+import org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity;
+
+public class GeneratedErraiEntityManagerFactory implements ErraiEntityManagerFactory {
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_EntityWithBoxedIntId;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_Zentity;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_inherit_ChildOfConcreteParentEntity;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_Artist;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_inherit_ChildOfAbstractParentEntity;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_EntityWithNonGeneratedId;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_inherit_GrandchildOfConcreteParentEntity;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_Genre;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveLongId;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity2;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_Album;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_CascadeTo;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_CascadeThirdGeneration;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_EntityWithBigIntegerId;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_EntityWithBoxedLongId;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity1;
+  private ErraiEntityType et_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveIntId;
+  public ErraiEntityManager createEntityManager() {
+    return new ErraiEntityManager(createMetamodel(), createNamedQueries(), WebStorageBackend.FACTORY);
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_EntityWithBoxedIntId() {
+    final ErraiEntityType entityType = new ErraiEntityType<EntityWithBoxedIntId>("EntityWithBoxedIntId", EntityWithBoxedIntId.class) {
+      public EntityWithBoxedIntId newInstance() {
+        return new EntityWithBoxedIntId();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(EntityWithBoxedIntId targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(EntityWithBoxedIntId targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(EntityWithBoxedIntId targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(EntityWithBoxedIntId targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(EntityWithBoxedIntId targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(EntityWithBoxedIntId targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(EntityWithBoxedIntId targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Integer> valueGenerator = new IntIdGenerator(this);
+      native Integer EntityWithBoxedIntId_Integer_id(EntityWithBoxedIntId instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.EntityWithBoxedIntId::id;
+      }-*/;
+
+      native void EntityWithBoxedIntId_Integer_id(EntityWithBoxedIntId instance, Integer value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.EntityWithBoxedIntId::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return EntityWithBoxedIntId_Integer_id((EntityWithBoxedIntId) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Integer.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_EntityWithBoxedIntId;
+      }
+      public Class getJavaType() {
+        return Integer.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Integer.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        EntityWithBoxedIntId_Integer_id((EntityWithBoxedIntId) entityInstance, (Integer) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_CascadeFrom() {
+    final ErraiEntityType entityType = new ErraiEntityType<CascadeFrom>("CascadeFrom", CascadeFrom.class) {
+      public CascadeFrom newInstance() {
+        return new CascadeFrom();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(CascadeFrom targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(CascadeFrom targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(CascadeFrom targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(CascadeFrom targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(CascadeFrom targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(CascadeFrom targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(CascadeFrom targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native CascadeTo CascadeFrom_CascadeTo_all(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::all;
+      }-*/;
+
+      native void CascadeFrom_CascadeTo_all(CascadeFrom instance, CascadeTo value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::all = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return true;
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_CascadeTo_all((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeTo.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Class getJavaType() {
+        return CascadeTo.class;
+      }
+      public String getName() {
+        return "all";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_ONE;
+      }
+      public Type getType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeTo.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_CascadeTo_all((CascadeFrom) entityInstance, (CascadeTo) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native CascadeTo CascadeFrom_CascadeTo_refresh(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::refresh;
+      }-*/;
+
+      native void CascadeFrom_CascadeTo_refresh(CascadeFrom instance, CascadeTo value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::refresh = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return cascadeType == CascadeType.REFRESH;
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_CascadeTo_refresh((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeTo.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Class getJavaType() {
+        return CascadeTo.class;
+      }
+      public String getName() {
+        return "refresh";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_ONE;
+      }
+      public Type getType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeTo.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_CascadeTo_refresh((CascadeFrom) entityInstance, (CascadeTo) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native CascadeTo CascadeFrom_CascadeTo_remove(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::remove;
+      }-*/;
+
+      native void CascadeFrom_CascadeTo_remove(CascadeFrom instance, CascadeTo value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::remove = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return cascadeType == CascadeType.REMOVE;
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_CascadeTo_remove((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeTo.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Class getJavaType() {
+        return CascadeTo.class;
+      }
+      public String getName() {
+        return "remove";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_ONE;
+      }
+      public Type getType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeTo.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_CascadeTo_remove((CascadeFrom) entityInstance, (CascadeTo) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native CascadeTo CascadeFrom_CascadeTo_merge(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::merge;
+      }-*/;
+
+      native void CascadeFrom_CascadeTo_merge(CascadeFrom instance, CascadeTo value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::merge = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return cascadeType == CascadeType.MERGE;
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_CascadeTo_merge((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeTo.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Class getJavaType() {
+        return CascadeTo.class;
+      }
+      public String getName() {
+        return "merge";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_ONE;
+      }
+      public Type getType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeTo.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_CascadeTo_merge((CascadeFrom) entityInstance, (CascadeTo) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      @UnsafeNativeLong native long CascadeFrom_long_id(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::id;
+      }-*/;
+
+      @UnsafeNativeLong native void CascadeFrom_long_id(CascadeFrom instance, long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_long_id((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Class getJavaType() {
+        return long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_long_id((CascadeFrom) entityInstance, (Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native CascadeTo CascadeFrom_CascadeTo_detach(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::detach;
+      }-*/;
+
+      native void CascadeFrom_CascadeTo_detach(CascadeFrom instance, CascadeTo value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::detach = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return cascadeType == CascadeType.DETACH;
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_CascadeTo_detach((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeTo.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Class getJavaType() {
+        return CascadeTo.class;
+      }
+      public String getName() {
+        return "detach";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_ONE;
+      }
+      public Type getType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeTo.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_CascadeTo_detach((CascadeFrom) entityInstance, (CascadeTo) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native CascadeTo CascadeFrom_CascadeTo_none(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::none;
+      }-*/;
+
+      native void CascadeFrom_CascadeTo_none(CascadeFrom instance, CascadeTo value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::none = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return false;
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_CascadeTo_none((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeTo.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Class getJavaType() {
+        return CascadeTo.class;
+      }
+      public String getName() {
+        return "none";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_ONE;
+      }
+      public Type getType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeTo.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_CascadeTo_none((CascadeFrom) entityInstance, (CascadeTo) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native CascadeTo CascadeFrom_CascadeTo_persist(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::persist;
+      }-*/;
+
+      native void CascadeFrom_CascadeTo_persist(CascadeFrom instance, CascadeTo value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::persist = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return cascadeType == CascadeType.PERSIST;
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_CascadeTo_persist((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeTo.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Class getJavaType() {
+        return CascadeTo.class;
+      }
+      public String getName() {
+        return "persist";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_ONE;
+      }
+      public Type getType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeTo.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_CascadeTo_persist((CascadeFrom) entityInstance, (CascadeTo) value);
+      }
+    });
+    entityType.addAttribute(new ErraiPluralAttribute() {
+      native List CascadeFrom_List_refreshCollection(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::refreshCollection;
+      }-*/;
+
+      native void CascadeFrom_List_refreshCollection(CascadeFrom instance, List<CascadeTo> value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::refreshCollection = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return cascadeType == CascadeType.REFRESH;
+      }
+      public Object createEmptyCollection() {
+        return new ArrayList();
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_List_refreshCollection((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeTo.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.PLURAL_ATTRIBUTE;
+      }
+      public CollectionType getCollectionType() {
+        return CollectionType.LIST;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Type getElementType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeTo.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public Class getJavaType() {
+        return List.class;
+      }
+      public String getName() {
+        return "refreshCollection";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_MANY;
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return true;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_List_refreshCollection((CascadeFrom) entityInstance, (List) value);
+      }
+    });
+    entityType.addAttribute(new ErraiPluralAttribute() {
+      native List CascadeFrom_List_detachCollection(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::detachCollection;
+      }-*/;
+
+      native void CascadeFrom_List_detachCollection(CascadeFrom instance, List<CascadeTo> value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::detachCollection = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return cascadeType == CascadeType.DETACH;
+      }
+      public Object createEmptyCollection() {
+        return new ArrayList();
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_List_detachCollection((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeTo.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.PLURAL_ATTRIBUTE;
+      }
+      public CollectionType getCollectionType() {
+        return CollectionType.LIST;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Type getElementType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeTo.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public Class getJavaType() {
+        return List.class;
+      }
+      public String getName() {
+        return "detachCollection";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_MANY;
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return true;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_List_detachCollection((CascadeFrom) entityInstance, (List) value);
+      }
+    });
+    entityType.addAttribute(new ErraiPluralAttribute() {
+      native List CascadeFrom_List_persistCollection(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::persistCollection;
+      }-*/;
+
+      native void CascadeFrom_List_persistCollection(CascadeFrom instance, List<CascadeTo> value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::persistCollection = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return cascadeType == CascadeType.PERSIST;
+      }
+      public Object createEmptyCollection() {
+        return new ArrayList();
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_List_persistCollection((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeTo.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.PLURAL_ATTRIBUTE;
+      }
+      public CollectionType getCollectionType() {
+        return CollectionType.LIST;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Type getElementType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeTo.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public Class getJavaType() {
+        return List.class;
+      }
+      public String getName() {
+        return "persistCollection";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_MANY;
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return true;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_List_persistCollection((CascadeFrom) entityInstance, (List) value);
+      }
+    });
+    entityType.addAttribute(new ErraiPluralAttribute() {
+      native List CascadeFrom_List_allCollection(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::allCollection;
+      }-*/;
+
+      native void CascadeFrom_List_allCollection(CascadeFrom instance, List<CascadeTo> value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::allCollection = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return true;
+      }
+      public Object createEmptyCollection() {
+        return new ArrayList();
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_List_allCollection((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeTo.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.PLURAL_ATTRIBUTE;
+      }
+      public CollectionType getCollectionType() {
+        return CollectionType.LIST;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Type getElementType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeTo.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public Class getJavaType() {
+        return List.class;
+      }
+      public String getName() {
+        return "allCollection";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_MANY;
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return true;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_List_allCollection((CascadeFrom) entityInstance, (List) value);
+      }
+    });
+    entityType.addAttribute(new ErraiPluralAttribute() {
+      native List CascadeFrom_List_noneCollection(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::noneCollection;
+      }-*/;
+
+      native void CascadeFrom_List_noneCollection(CascadeFrom instance, List<CascadeTo> value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::noneCollection = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return false;
+      }
+      public Object createEmptyCollection() {
+        return new ArrayList();
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_List_noneCollection((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeTo.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.PLURAL_ATTRIBUTE;
+      }
+      public CollectionType getCollectionType() {
+        return CollectionType.LIST;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Type getElementType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeTo.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public Class getJavaType() {
+        return List.class;
+      }
+      public String getName() {
+        return "noneCollection";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_MANY;
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return true;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_List_noneCollection((CascadeFrom) entityInstance, (List) value);
+      }
+    });
+    entityType.addAttribute(new ErraiPluralAttribute() {
+      native List CascadeFrom_List_mergeCollection(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::mergeCollection;
+      }-*/;
+
+      native void CascadeFrom_List_mergeCollection(CascadeFrom instance, List<CascadeTo> value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::mergeCollection = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return cascadeType == CascadeType.MERGE;
+      }
+      public Object createEmptyCollection() {
+        return new ArrayList();
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_List_mergeCollection((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeTo.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.PLURAL_ATTRIBUTE;
+      }
+      public CollectionType getCollectionType() {
+        return CollectionType.LIST;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Type getElementType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeTo.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public Class getJavaType() {
+        return List.class;
+      }
+      public String getName() {
+        return "mergeCollection";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_MANY;
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return true;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_List_mergeCollection((CascadeFrom) entityInstance, (List) value);
+      }
+    });
+    entityType.addAttribute(new ErraiPluralAttribute() {
+      native List CascadeFrom_List_removeCollection(CascadeFrom instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::removeCollection;
+      }-*/;
+
+      native void CascadeFrom_List_removeCollection(CascadeFrom instance, List<CascadeTo> value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeFrom::removeCollection = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return cascadeType == CascadeType.REMOVE;
+      }
+      public Object createEmptyCollection() {
+        return new ArrayList();
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeFrom_List_removeCollection((CascadeFrom) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeTo.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.PLURAL_ATTRIBUTE;
+      }
+      public CollectionType getCollectionType() {
+        return CollectionType.LIST;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeFrom;
+      }
+      public Type getElementType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeTo.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public Class getJavaType() {
+        return List.class;
+      }
+      public String getName() {
+        return "removeCollection";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_MANY;
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return true;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeFrom_List_removeCollection((CascadeFrom) entityInstance, (List) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_Zentity() {
+    final ErraiEntityType entityType = new ErraiEntityType<Zentity>("Zentity", Zentity.class) {
+      public Zentity newInstance() {
+        return new Zentity();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(Zentity targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(Zentity targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(Zentity targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(Zentity targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(Zentity targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(Zentity targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(Zentity targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native String Zentity_String_string(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::string;
+      }-*/;
+
+      native void Zentity_String_string(Zentity instance, String value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::string = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_String_string((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return String.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return String.class;
+      }
+      public String getName() {
+        return "string";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return String.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_String_string((Zentity) entityInstance, (String) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      @UnsafeNativeLong native long Zentity_long_primitiveLong(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveLong;
+      }-*/;
+
+      @UnsafeNativeLong native void Zentity_long_primitiveLong(Zentity instance, long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveLong = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_long_primitiveLong((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return long.class;
+      }
+      public String getName() {
+        return "primitiveLong";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_long_primitiveLong((Zentity) entityInstance, (Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native float Zentity_float_primitiveFloat(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveFloat;
+      }-*/;
+
+      native void Zentity_float_primitiveFloat(Zentity instance, float value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveFloat = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_float_primitiveFloat((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return float.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return float.class;
+      }
+      public String getName() {
+        return "primitiveFloat";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return float.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_float_primitiveFloat((Zentity) entityInstance, (Float) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native BigDecimal Zentity_BigDecimal_bigDecimal(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::bigDecimal;
+      }-*/;
+
+      native void Zentity_BigDecimal_bigDecimal(Zentity instance, BigDecimal value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::bigDecimal = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_BigDecimal_bigDecimal((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return BigDecimal.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return BigDecimal.class;
+      }
+      public String getName() {
+        return "bigDecimal";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return BigDecimal.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_BigDecimal_bigDecimal((Zentity) entityInstance, (BigDecimal) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Timestamp Zentity_Timestamp_sqlTimestamp(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::sqlTimestamp;
+      }-*/;
+
+      native void Zentity_Timestamp_sqlTimestamp(Zentity instance, Timestamp value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::sqlTimestamp = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Timestamp_sqlTimestamp((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Timestamp.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return Timestamp.class;
+      }
+      public String getName() {
+        return "sqlTimestamp";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Timestamp.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Timestamp_sqlTimestamp((Zentity) entityInstance, (Timestamp) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native boolean Zentity_boolean_primitiveBool(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveBool;
+      }-*/;
+
+      native void Zentity_boolean_primitiveBool(Zentity instance, boolean value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveBool = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_boolean_primitiveBool((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return boolean.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return boolean.class;
+      }
+      public String getName() {
+        return "primitiveBool";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return boolean.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_boolean_primitiveBool((Zentity) entityInstance, (Boolean) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Integer Zentity_Integer_boxedInt(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedInt;
+      }-*/;
+
+      native void Zentity_Integer_boxedInt(Zentity instance, Integer value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedInt = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Integer_boxedInt((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Integer.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return Integer.class;
+      }
+      public String getName() {
+        return "boxedInt";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Integer.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Integer_boxedInt((Zentity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Byte Zentity_Byte_boxedByte(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedByte;
+      }-*/;
+
+      native void Zentity_Byte_boxedByte(Zentity instance, Byte value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedByte = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Byte_boxedByte((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Byte.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return Byte.class;
+      }
+      public String getName() {
+        return "boxedByte";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Byte.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Byte_boxedByte((Zentity) entityInstance, (Byte) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Character Zentity_Character_boxedChar(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedChar;
+      }-*/;
+
+      native void Zentity_Character_boxedChar(Zentity instance, Character value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedChar = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Character_boxedChar((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Character.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return Character.class;
+      }
+      public String getName() {
+        return "boxedChar";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Character.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Character_boxedChar((Zentity) entityInstance, (Character) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native BigInteger Zentity_BigInteger_bigInteger(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::bigInteger;
+      }-*/;
+
+      native void Zentity_BigInteger_bigInteger(Zentity instance, BigInteger value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::bigInteger = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_BigInteger_bigInteger((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return BigInteger.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return BigInteger.class;
+      }
+      public String getName() {
+        return "bigInteger";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return BigInteger.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_BigInteger_bigInteger((Zentity) entityInstance, (BigInteger) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native char[] Zentity_char_array_primitiveCharArray(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveCharArray;
+      }-*/;
+
+      native void Zentity_char_array_primitiveCharArray(Zentity instance, char[] value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveCharArray = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_char_array_primitiveCharArray((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return char[].class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return char[].class;
+      }
+      public String getName() {
+        return "primitiveCharArray";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return char[].class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_char_array_primitiveCharArray((Zentity) entityInstance, (char[]) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Date Zentity_Date_date(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::date;
+      }-*/;
+
+      native void Zentity_Date_date(Zentity instance, Date value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::date = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Date_date((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Date.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return Date.class;
+      }
+      public String getName() {
+        return "date";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Date.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Date_date((Zentity) entityInstance, (Date) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native short Zentity_short_primitiveShort(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveShort;
+      }-*/;
+
+      native void Zentity_short_primitiveShort(Zentity instance, short value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveShort = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_short_primitiveShort((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return short.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return short.class;
+      }
+      public String getName() {
+        return "primitiveShort";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return short.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_short_primitiveShort((Zentity) entityInstance, (Short) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native byte[] Zentity_byte_array_primitiveByteArray(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveByteArray;
+      }-*/;
+
+      native void Zentity_byte_array_primitiveByteArray(Zentity instance, byte[] value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveByteArray = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_byte_array_primitiveByteArray((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return byte[].class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return byte[].class;
+      }
+      public String getName() {
+        return "primitiveByteArray";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return byte[].class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_byte_array_primitiveByteArray((Zentity) entityInstance, (byte[]) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int Zentity_int_primitiveInt(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveInt;
+      }-*/;
+
+      native void Zentity_int_primitiveInt(Zentity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveInt = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_int_primitiveInt((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "primitiveInt";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_int_primitiveInt((Zentity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Time Zentity_Time_sqlTime(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::sqlTime;
+      }-*/;
+
+      native void Zentity_Time_sqlTime(Zentity instance, Time value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::sqlTime = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Time_sqlTime((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Time.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return Time.class;
+      }
+      public String getName() {
+        return "sqlTime";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Time.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Time_sqlTime((Zentity) entityInstance, (Time) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Byte[] Zentity_Byte_array_boxedByteArray(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedByteArray;
+      }-*/;
+
+      native void Zentity_Byte_array_boxedByteArray(Zentity instance, Byte[] value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedByteArray = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Byte_array_boxedByteArray((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Byte[].class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return Byte[].class;
+      }
+      public String getName() {
+        return "boxedByteArray";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Byte[].class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Byte_array_boxedByteArray((Zentity) entityInstance, (Byte[]) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Character[] Zentity_Character_array_boxedCharArray(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedCharArray;
+      }-*/;
+
+      native void Zentity_Character_array_boxedCharArray(Zentity instance, Character[] value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedCharArray = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Character_array_boxedCharArray((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Character[].class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return Character[].class;
+      }
+      public String getName() {
+        return "boxedCharArray";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Character[].class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Character_array_boxedCharArray((Zentity) entityInstance, (Character[]) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Float Zentity_Float_boxedFloat(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedFloat;
+      }-*/;
+
+      native void Zentity_Float_boxedFloat(Zentity instance, Float value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedFloat = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Float_boxedFloat((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Float.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return Float.class;
+      }
+      public String getName() {
+        return "boxedFloat";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Float.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Float_boxedFloat((Zentity) entityInstance, (Float) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Boolean Zentity_Boolean_boxedBool(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedBool;
+      }-*/;
+
+      native void Zentity_Boolean_boxedBool(Zentity instance, Boolean value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedBool = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Boolean_boxedBool((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Boolean.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return Boolean.class;
+      }
+      public String getName() {
+        return "boxedBool";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Boolean.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Boolean_boxedBool((Zentity) entityInstance, (Boolean) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native PersistenceContextType Zentity_PersistenceContextType_enumeration(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::enumeration;
+      }-*/;
+
+      native void Zentity_PersistenceContextType_enumeration(Zentity instance, PersistenceContextType value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::enumeration = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_PersistenceContextType_enumeration((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return PersistenceContextType.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return PersistenceContextType.class;
+      }
+      public String getName() {
+        return "enumeration";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return PersistenceContextType.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_PersistenceContextType_enumeration((Zentity) entityInstance, (PersistenceContextType) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Short Zentity_Short_boxedShort(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedShort;
+      }-*/;
+
+      native void Zentity_Short_boxedShort(Zentity instance, Short value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedShort = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Short_boxedShort((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Short.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return Short.class;
+      }
+      public String getName() {
+        return "boxedShort";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Short.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Short_boxedShort((Zentity) entityInstance, (Short) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      native Long Zentity_Long_id(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::id;
+      }-*/;
+
+      native void Zentity_Long_id(Zentity instance, Long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Long_id((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return Long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Long_id((Zentity) entityInstance, (Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native byte Zentity_byte_primitiveByte(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveByte;
+      }-*/;
+
+      native void Zentity_byte_primitiveByte(Zentity instance, byte value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveByte = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_byte_primitiveByte((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return byte.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return byte.class;
+      }
+      public String getName() {
+        return "primitiveByte";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return byte.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_byte_primitiveByte((Zentity) entityInstance, (Byte) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Double Zentity_Double_boxedDouble(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedDouble;
+      }-*/;
+
+      native void Zentity_Double_boxedDouble(Zentity instance, Double value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedDouble = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Double_boxedDouble((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Double.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return Double.class;
+      }
+      public String getName() {
+        return "boxedDouble";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Double.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Double_boxedDouble((Zentity) entityInstance, (Double) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native char Zentity_char_primitiveChar(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveChar;
+      }-*/;
+
+      native void Zentity_char_primitiveChar(Zentity instance, char value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveChar = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_char_primitiveChar((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return char.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return char.class;
+      }
+      public String getName() {
+        return "primitiveChar";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return char.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_char_primitiveChar((Zentity) entityInstance, (Character) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native java.sql.Date Zentity_Date_sqlDate(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::sqlDate;
+      }-*/;
+
+      native void Zentity_Date_sqlDate(Zentity instance, java.sql.Date value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::sqlDate = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Date_sqlDate((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return java.sql.Date.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return java.sql.Date.class;
+      }
+      public String getName() {
+        return "sqlDate";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return java.sql.Date.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Date_sqlDate((Zentity) entityInstance, (java.sql.Date) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Long Zentity_Long_boxedLong(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedLong;
+      }-*/;
+
+      native void Zentity_Long_boxedLong(Zentity instance, Long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::boxedLong = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_Long_boxedLong((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return Long.class;
+      }
+      public String getName() {
+        return "boxedLong";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_Long_boxedLong((Zentity) entityInstance, (Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native double Zentity_double_primitiveDouble(Zentity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveDouble;
+      }-*/;
+
+      native void Zentity_double_primitiveDouble(Zentity instance, double value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Zentity::primitiveDouble = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Zentity_double_primitiveDouble((Zentity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return double.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Zentity;
+      }
+      public Class getJavaType() {
+        return double.class;
+      }
+      public String getName() {
+        return "primitiveDouble";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return double.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Zentity_double_primitiveDouble((Zentity) entityInstance, (Double) value);
+      }
+    });
+    entityType.addIndexedAttribute("primitiveInt");
+    entityType.addIndexedAttribute("string");
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity() {
+    final ErraiEntityType entityType = new ErraiEntityType<ParentConcreteEntity>("ParentConcreteEntity", ParentConcreteEntity.class) {
+      public ParentConcreteEntity newInstance() {
+        return new ParentConcreteEntity();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(ParentConcreteEntity targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(ParentConcreteEntity targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(ParentConcreteEntity targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(ParentConcreteEntity targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(ParentConcreteEntity targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(ParentConcreteEntity targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(ParentConcreteEntity targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      @UnsafeNativeLong native long ParentConcreteEntity_long_id(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::id;
+      }-*/;
+
+      @UnsafeNativeLong native void ParentConcreteEntity_long_id(ParentConcreteEntity instance, long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_long_id((ParentConcreteEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_long_id((ParentConcreteEntity) entityInstance, (Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentConcreteEntity_int_privateParentField(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::privateParentField;
+      }-*/;
+
+      native void ParentConcreteEntity_int_privateParentField(ParentConcreteEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::privateParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_int_privateParentField((ParentConcreteEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "privateParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_int_privateParentField((ParentConcreteEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentConcreteEntity_int_publicParentField(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::publicParentField;
+      }-*/;
+
+      native void ParentConcreteEntity_int_publicParentField(ParentConcreteEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::publicParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_int_publicParentField((ParentConcreteEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "publicParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_int_publicParentField((ParentConcreteEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentConcreteEntity_int_protectedParentField(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::protectedParentField;
+      }-*/;
+
+      native void ParentConcreteEntity_int_protectedParentField(ParentConcreteEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::protectedParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_int_protectedParentField((ParentConcreteEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "protectedParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_int_protectedParentField((ParentConcreteEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentConcreteEntity_int_packagePrivateParentField(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::packagePrivateParentField;
+      }-*/;
+
+      native void ParentConcreteEntity_int_packagePrivateParentField(ParentConcreteEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::packagePrivateParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_int_packagePrivateParentField((ParentConcreteEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "packagePrivateParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_int_packagePrivateParentField((ParentConcreteEntity) entityInstance, (Integer) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_inherit_ChildOfConcreteParentEntity() {
+    final ErraiEntityType entityType = new ErraiEntityType<ChildOfConcreteParentEntity>("ChildOfConcreteParentEntity", ChildOfConcreteParentEntity.class) {
+      public ChildOfConcreteParentEntity newInstance() {
+        return new ChildOfConcreteParentEntity();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(ChildOfConcreteParentEntity targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(ChildOfConcreteParentEntity targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(ChildOfConcreteParentEntity targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(ChildOfConcreteParentEntity targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(ChildOfConcreteParentEntity targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(ChildOfConcreteParentEntity targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(ChildOfConcreteParentEntity targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ChildOfConcreteParentEntity_int_childField(ChildOfConcreteParentEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ChildOfConcreteParentEntity::childField;
+      }-*/;
+
+      native void ChildOfConcreteParentEntity_int_childField(ChildOfConcreteParentEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ChildOfConcreteParentEntity::childField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ChildOfConcreteParentEntity_int_childField((ChildOfConcreteParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ChildOfConcreteParentEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "childField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ChildOfConcreteParentEntity_int_childField((ChildOfConcreteParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      @UnsafeNativeLong native long ParentConcreteEntity_long_id(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::id;
+      }-*/;
+
+      @UnsafeNativeLong native void ParentConcreteEntity_long_id(ParentConcreteEntity instance, long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_long_id((ChildOfConcreteParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_long_id((ChildOfConcreteParentEntity) entityInstance, (Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentConcreteEntity_int_privateParentField(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::privateParentField;
+      }-*/;
+
+      native void ParentConcreteEntity_int_privateParentField(ParentConcreteEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::privateParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_int_privateParentField((ChildOfConcreteParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "privateParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_int_privateParentField((ChildOfConcreteParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentConcreteEntity_int_publicParentField(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::publicParentField;
+      }-*/;
+
+      native void ParentConcreteEntity_int_publicParentField(ParentConcreteEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::publicParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_int_publicParentField((ChildOfConcreteParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "publicParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_int_publicParentField((ChildOfConcreteParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentConcreteEntity_int_protectedParentField(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::protectedParentField;
+      }-*/;
+
+      native void ParentConcreteEntity_int_protectedParentField(ParentConcreteEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::protectedParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_int_protectedParentField((ChildOfConcreteParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "protectedParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_int_protectedParentField((ChildOfConcreteParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentConcreteEntity_int_packagePrivateParentField(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::packagePrivateParentField;
+      }-*/;
+
+      native void ParentConcreteEntity_int_packagePrivateParentField(ParentConcreteEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::packagePrivateParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_int_packagePrivateParentField((ChildOfConcreteParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "packagePrivateParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_int_packagePrivateParentField((ChildOfConcreteParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_Artist() {
+    final ErraiEntityType entityType = new ErraiEntityType<Artist>("Artist", Artist.class) {
+      public Artist newInstance() {
+        return new Artist();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(Artist targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(Artist targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(Artist targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(Artist targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(Artist targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(Artist targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(Artist targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native String Artist_String_name(Artist instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Artist::name;
+      }-*/;
+
+      native void Artist_String_name(Artist instance, String value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Artist::name = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Artist_String_name((Artist) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return String.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Artist;
+      }
+      public Class getJavaType() {
+        return String.class;
+      }
+      public String getName() {
+        return "name";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return String.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Artist_String_name((Artist) entityInstance, (String) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Long Artist_Long_id(Artist instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Artist::id;
+      }-*/;
+
+      native void Artist_Long_id(Artist instance, Long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Artist::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Artist_Long_id((Artist) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Artist;
+      }
+      public Class getJavaType() {
+        return Long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Artist_Long_id((Artist) entityInstance, (Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiPluralAttribute() {
+      native Set Artist_Set_genres(Artist instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Artist::genres;
+      }-*/;
+
+      native void Artist_Set_genres(Artist instance, Set<Genre> value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Artist::genres = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return (cascadeType == CascadeType.MERGE) || (cascadeType == CascadeType.PERSIST);
+      }
+      public Object createEmptyCollection() {
+        return new HashSet();
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Artist_Set_genres((Artist) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Genre.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.PLURAL_ATTRIBUTE;
+      }
+      public CollectionType getCollectionType() {
+        return CollectionType.SET;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Artist;
+      }
+      public Type getElementType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return Genre.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public Class getJavaType() {
+        return Set.class;
+      }
+      public String getName() {
+        return "genres";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_MANY;
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return true;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Artist_Set_genres((Artist) entityInstance, (Set) value);
+      }
+    });
+    entityType.addAttribute(new ErraiPluralAttribute() {
+      native Set Artist_Set_albums(Artist instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Artist::albums;
+      }-*/;
+
+      native void Artist_Set_albums(Artist instance, Set<Album> value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Artist::albums = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return true;
+      }
+      public Object createEmptyCollection() {
+        return new HashSet();
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Artist_Set_albums((Artist) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Album.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.PLURAL_ATTRIBUTE;
+      }
+      public CollectionType getCollectionType() {
+        return CollectionType.SET;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Artist;
+      }
+      public Type getElementType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return Album.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public Class getJavaType() {
+        return Set.class;
+      }
+      public String getName() {
+        return "albums";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_MANY;
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return true;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Artist_Set_albums((Artist) entityInstance, (Set) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity() {
+    final ErraiEntityType entityType = new ErraiEntityType<ParentAbstractEntity>("ParentAbstractEntity", ParentAbstractEntity.class) {
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(ParentAbstractEntity targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(ParentAbstractEntity targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(ParentAbstractEntity targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(ParentAbstractEntity targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(ParentAbstractEntity targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(ParentAbstractEntity targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(ParentAbstractEntity targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      @UnsafeNativeLong native long ParentAbstractEntity_long_id(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::id;
+      }-*/;
+
+      @UnsafeNativeLong native void ParentAbstractEntity_long_id(ParentAbstractEntity instance, long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_long_id((ParentAbstractEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_long_id((ParentAbstractEntity) entityInstance, (Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_packagePrivateParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::packagePrivateParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_packagePrivateParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::packagePrivateParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_packagePrivateParentField((ParentAbstractEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "packagePrivateParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_packagePrivateParentField((ParentAbstractEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_publicParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::publicParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_publicParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::publicParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_publicParentField((ParentAbstractEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "publicParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_publicParentField((ParentAbstractEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_protectedParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::protectedParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_protectedParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::protectedParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_protectedParentField((ParentAbstractEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "protectedParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_protectedParentField((ParentAbstractEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_privateParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::privateParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_privateParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::privateParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_privateParentField((ParentAbstractEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "privateParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_privateParentField((ParentAbstractEntity) entityInstance, (Integer) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_inherit_ChildOfAbstractParentEntity() {
+    final ErraiEntityType entityType = new ErraiEntityType<ChildOfAbstractParentEntity>("ChildOfAbstractParentEntity", ChildOfAbstractParentEntity.class) {
+      public ChildOfAbstractParentEntity newInstance() {
+        return new ChildOfAbstractParentEntity();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(ChildOfAbstractParentEntity targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(ChildOfAbstractParentEntity targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(ChildOfAbstractParentEntity targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(ChildOfAbstractParentEntity targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(ChildOfAbstractParentEntity targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(ChildOfAbstractParentEntity targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(ChildOfAbstractParentEntity targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      @UnsafeNativeLong native long ParentAbstractEntity_long_id(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::id;
+      }-*/;
+
+      @UnsafeNativeLong native void ParentAbstractEntity_long_id(ParentAbstractEntity instance, long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_long_id((ChildOfAbstractParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_long_id((ChildOfAbstractParentEntity) entityInstance, (Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_packagePrivateParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::packagePrivateParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_packagePrivateParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::packagePrivateParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_packagePrivateParentField((ChildOfAbstractParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "packagePrivateParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_packagePrivateParentField((ChildOfAbstractParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ChildOfAbstractParentEntity_int_childField(ChildOfAbstractParentEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ChildOfAbstractParentEntity::childField;
+      }-*/;
+
+      native void ChildOfAbstractParentEntity_int_childField(ChildOfAbstractParentEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ChildOfAbstractParentEntity::childField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ChildOfAbstractParentEntity_int_childField((ChildOfAbstractParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ChildOfAbstractParentEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "childField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ChildOfAbstractParentEntity_int_childField((ChildOfAbstractParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_publicParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::publicParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_publicParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::publicParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_publicParentField((ChildOfAbstractParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "publicParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_publicParentField((ChildOfAbstractParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_protectedParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::protectedParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_protectedParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::protectedParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_protectedParentField((ChildOfAbstractParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "protectedParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_protectedParentField((ChildOfAbstractParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_privateParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::privateParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_privateParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::privateParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_privateParentField((ChildOfAbstractParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "privateParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_privateParentField((ChildOfAbstractParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_EntityWithNonGeneratedId() {
+    final ErraiEntityType entityType = new ErraiEntityType<EntityWithNonGeneratedId>("EntityWithNonGeneratedId", EntityWithNonGeneratedId.class) {
+      public EntityWithNonGeneratedId newInstance() {
+        return new EntityWithNonGeneratedId();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(EntityWithNonGeneratedId targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(EntityWithNonGeneratedId targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(EntityWithNonGeneratedId targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(EntityWithNonGeneratedId targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(EntityWithNonGeneratedId targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(EntityWithNonGeneratedId targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(EntityWithNonGeneratedId targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native String EntityWithNonGeneratedId_String_message(EntityWithNonGeneratedId instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.EntityWithNonGeneratedId::message;
+      }-*/;
+
+      native void EntityWithNonGeneratedId_String_message(EntityWithNonGeneratedId instance, String value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.EntityWithNonGeneratedId::message = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return EntityWithNonGeneratedId_String_message((EntityWithNonGeneratedId) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return String.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_EntityWithNonGeneratedId;
+      }
+      public Class getJavaType() {
+        return String.class;
+      }
+      public String getName() {
+        return "message";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return String.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        EntityWithNonGeneratedId_String_message((EntityWithNonGeneratedId) entityInstance, (String) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      @UnsafeNativeLong native long EntityWithNonGeneratedId_long_id(EntityWithNonGeneratedId instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.EntityWithNonGeneratedId::id;
+      }-*/;
+
+      @UnsafeNativeLong native void EntityWithNonGeneratedId_long_id(EntityWithNonGeneratedId instance, long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.EntityWithNonGeneratedId::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return EntityWithNonGeneratedId_long_id((EntityWithNonGeneratedId) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_EntityWithNonGeneratedId;
+      }
+      public Class getJavaType() {
+        return long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        EntityWithNonGeneratedId_long_id((EntityWithNonGeneratedId) entityInstance, (Long) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_MethodAccessedZentity() {
+    final ErraiEntityType entityType = new ErraiEntityType<MethodAccessedZentity>("MethodAccessedZentity", MethodAccessedZentity.class) {
+      public MethodAccessedZentity newInstance() {
+        return new MethodAccessedZentity();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(MethodAccessedZentity targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(MethodAccessedZentity targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(MethodAccessedZentity targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(MethodAccessedZentity targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(MethodAccessedZentity targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(MethodAccessedZentity targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(MethodAccessedZentity targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getBoxedByte();
+      }
+      public Class getBindableJavaType() {
+        return Byte.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return Byte.class;
+      }
+      public String getName() {
+        return "boxedByte";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Byte.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setBoxedByte((Byte) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getPrimitiveByte();
+      }
+      public Class getBindableJavaType() {
+        return byte.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return byte.class;
+      }
+      public String getName() {
+        return "primitiveByte";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return byte.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setPrimitiveByte((Byte) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getBigInteger();
+      }
+      public Class getBindableJavaType() {
+        return BigInteger.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return BigInteger.class;
+      }
+      public String getName() {
+        return "bigInteger";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return BigInteger.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setBigInteger((BigInteger) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getBoxedDouble();
+      }
+      public Class getBindableJavaType() {
+        return Double.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return Double.class;
+      }
+      public String getName() {
+        return "boxedDouble";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Double.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setBoxedDouble((Double) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getBoxedChar();
+      }
+      public Class getBindableJavaType() {
+        return Character.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return Character.class;
+      }
+      public String getName() {
+        return "boxedChar";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Character.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setBoxedChar((Character) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getEnumeration();
+      }
+      public Class getBindableJavaType() {
+        return PersistenceContextType.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return PersistenceContextType.class;
+      }
+      public String getName() {
+        return "enumeration";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return PersistenceContextType.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setEnumeration((PersistenceContextType) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getPrimitiveBool();
+      }
+      public Class getBindableJavaType() {
+        return boolean.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return boolean.class;
+      }
+      public String getName() {
+        return "primitiveBool";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return boolean.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setPrimitiveBool((Boolean) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getPrimitiveLong();
+      }
+      public Class getBindableJavaType() {
+        return long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return long.class;
+      }
+      public String getName() {
+        return "primitiveLong";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setPrimitiveLong((Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getBoxedFloat();
+      }
+      public Class getBindableJavaType() {
+        return Float.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return Float.class;
+      }
+      public String getName() {
+        return "boxedFloat";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Float.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setBoxedFloat((Float) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getPrimitiveByteArray();
+      }
+      public Class getBindableJavaType() {
+        return byte[].class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return byte[].class;
+      }
+      public String getName() {
+        return "primitiveByteArray";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return byte[].class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setPrimitiveByteArray((byte[]) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getBoxedLong();
+      }
+      public Class getBindableJavaType() {
+        return Long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return Long.class;
+      }
+      public String getName() {
+        return "boxedLong";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setBoxedLong((Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getPrimitiveChar();
+      }
+      public Class getBindableJavaType() {
+        return char.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return char.class;
+      }
+      public String getName() {
+        return "primitiveChar";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return char.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setPrimitiveChar((Character) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getSqlTime();
+      }
+      public Class getBindableJavaType() {
+        return Time.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return Time.class;
+      }
+      public String getName() {
+        return "sqlTime";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Time.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setSqlTime((Time) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getDate();
+      }
+      public Class getBindableJavaType() {
+        return Date.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return Date.class;
+      }
+      public String getName() {
+        return "date";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Date.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setDate((Date) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getPrimitiveShort();
+      }
+      public Class getBindableJavaType() {
+        return short.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return short.class;
+      }
+      public String getName() {
+        return "primitiveShort";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return short.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setPrimitiveShort((Short) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getBoxedShort();
+      }
+      public Class getBindableJavaType() {
+        return Short.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return Short.class;
+      }
+      public String getName() {
+        return "boxedShort";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Short.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setBoxedShort((Short) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getBoxedInt();
+      }
+      public Class getBindableJavaType() {
+        return Integer.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return Integer.class;
+      }
+      public String getName() {
+        return "boxedInt";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Integer.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setBoxedInt((Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getPrimitiveFloat();
+      }
+      public Class getBindableJavaType() {
+        return float.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return float.class;
+      }
+      public String getName() {
+        return "primitiveFloat";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return float.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setPrimitiveFloat((Float) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getPrimitiveDouble();
+      }
+      public Class getBindableJavaType() {
+        return double.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return double.class;
+      }
+      public String getName() {
+        return "primitiveDouble";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return double.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setPrimitiveDouble((Double) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getBigDecimal();
+      }
+      public Class getBindableJavaType() {
+        return BigDecimal.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return BigDecimal.class;
+      }
+      public String getName() {
+        return "bigDecimal";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return BigDecimal.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setBigDecimal((BigDecimal) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getId();
+      }
+      public Class getBindableJavaType() {
+        return Long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return Long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setId((Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getString();
+      }
+      public Class getBindableJavaType() {
+        return String.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return String.class;
+      }
+      public String getName() {
+        return "string";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return String.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setString((String) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getSqlTimestamp();
+      }
+      public Class getBindableJavaType() {
+        return Timestamp.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return Timestamp.class;
+      }
+      public String getName() {
+        return "sqlTimestamp";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Timestamp.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setSqlTimestamp((Timestamp) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getPrimitiveCharArray();
+      }
+      public Class getBindableJavaType() {
+        return char[].class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return char[].class;
+      }
+      public String getName() {
+        return "primitiveCharArray";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return char[].class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setPrimitiveCharArray((char[]) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getBoxedByteArray();
+      }
+      public Class getBindableJavaType() {
+        return Byte[].class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return Byte[].class;
+      }
+      public String getName() {
+        return "boxedByteArray";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Byte[].class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setBoxedByteArray((Byte[]) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getPrimitiveInt();
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "primitiveInt";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setPrimitiveInt((Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getBoxedCharArray();
+      }
+      public Class getBindableJavaType() {
+        return Character[].class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return Character[].class;
+      }
+      public String getName() {
+        return "boxedCharArray";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Character[].class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setBoxedCharArray((Character[]) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).isBoxedBool();
+      }
+      public Class getBindableJavaType() {
+        return Boolean.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return Boolean.class;
+      }
+      public String getName() {
+        return "boxedBool";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Boolean.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setBoxedBool((Boolean) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        return ((MethodAccessedZentity) entityInstance).getSqlDate();
+      }
+      public Class getBindableJavaType() {
+        return java.sql.Date.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity;
+      }
+      public Class getJavaType() {
+        return java.sql.Date.class;
+      }
+      public String getName() {
+        return "sqlDate";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return java.sql.Date.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        ((MethodAccessedZentity) entityInstance).setSqlDate((java.sql.Date) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_inherit_GrandchildOfConcreteParentEntity() {
+    final ErraiEntityType entityType = new ErraiEntityType<GrandchildOfConcreteParentEntity>("GrandchildOfConcreteParentEntity", GrandchildOfConcreteParentEntity.class) {
+      public GrandchildOfConcreteParentEntity newInstance() {
+        return new GrandchildOfConcreteParentEntity();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(GrandchildOfConcreteParentEntity targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(GrandchildOfConcreteParentEntity targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(GrandchildOfConcreteParentEntity targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(GrandchildOfConcreteParentEntity targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(GrandchildOfConcreteParentEntity targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(GrandchildOfConcreteParentEntity targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(GrandchildOfConcreteParentEntity targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ChildOfConcreteParentEntity_int_childField(ChildOfConcreteParentEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ChildOfConcreteParentEntity::childField;
+      }-*/;
+
+      native void ChildOfConcreteParentEntity_int_childField(ChildOfConcreteParentEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ChildOfConcreteParentEntity::childField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ChildOfConcreteParentEntity_int_childField((GrandchildOfConcreteParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ChildOfConcreteParentEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "childField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ChildOfConcreteParentEntity_int_childField((GrandchildOfConcreteParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      @UnsafeNativeLong native long ParentConcreteEntity_long_id(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::id;
+      }-*/;
+
+      @UnsafeNativeLong native void ParentConcreteEntity_long_id(ParentConcreteEntity instance, long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_long_id((GrandchildOfConcreteParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_long_id((GrandchildOfConcreteParentEntity) entityInstance, (Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentConcreteEntity_int_privateParentField(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::privateParentField;
+      }-*/;
+
+      native void ParentConcreteEntity_int_privateParentField(ParentConcreteEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::privateParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_int_privateParentField((GrandchildOfConcreteParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "privateParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_int_privateParentField((GrandchildOfConcreteParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentConcreteEntity_int_publicParentField(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::publicParentField;
+      }-*/;
+
+      native void ParentConcreteEntity_int_publicParentField(ParentConcreteEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::publicParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_int_publicParentField((GrandchildOfConcreteParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "publicParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_int_publicParentField((GrandchildOfConcreteParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int GrandchildOfConcreteParentEntity_int_grandchildField(GrandchildOfConcreteParentEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.GrandchildOfConcreteParentEntity::grandchildField;
+      }-*/;
+
+      native void GrandchildOfConcreteParentEntity_int_grandchildField(GrandchildOfConcreteParentEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.GrandchildOfConcreteParentEntity::grandchildField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return GrandchildOfConcreteParentEntity_int_grandchildField((GrandchildOfConcreteParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_GrandchildOfConcreteParentEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "grandchildField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        GrandchildOfConcreteParentEntity_int_grandchildField((GrandchildOfConcreteParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentConcreteEntity_int_protectedParentField(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::protectedParentField;
+      }-*/;
+
+      native void ParentConcreteEntity_int_protectedParentField(ParentConcreteEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::protectedParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_int_protectedParentField((GrandchildOfConcreteParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "protectedParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_int_protectedParentField((GrandchildOfConcreteParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentConcreteEntity_int_packagePrivateParentField(ParentConcreteEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::packagePrivateParentField;
+      }-*/;
+
+      native void ParentConcreteEntity_int_packagePrivateParentField(ParentConcreteEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity::packagePrivateParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentConcreteEntity_int_packagePrivateParentField((GrandchildOfConcreteParentEntity) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "packagePrivateParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentConcreteEntity_int_packagePrivateParentField((GrandchildOfConcreteParentEntity) entityInstance, (Integer) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_Genre() {
+    final ErraiEntityType entityType = new ErraiEntityType<Genre>("Genre", Genre.class) {
+      public Genre newInstance() {
+        return new Genre();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(Genre targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(Genre targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(Genre targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(Genre targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(Genre targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(Genre targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(Genre targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native String Genre_String_name(Genre instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Genre::name;
+      }-*/;
+
+      native void Genre_String_name(Genre instance, String value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Genre::name = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Genre_String_name((Genre) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return String.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Genre;
+      }
+      public Class getJavaType() {
+        return String.class;
+      }
+      public String getName() {
+        return "name";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return String.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Genre_String_name((Genre) entityInstance, (String) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Integer> valueGenerator = new IntIdGenerator(this);
+      native int Genre_int_id(Genre instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Genre::id;
+      }-*/;
+
+      native void Genre_int_id(Genre instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Genre::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Genre_int_id((Genre) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Genre;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Genre_int_id((Genre) entityInstance, (Integer) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveLongId() {
+    final ErraiEntityType entityType = new ErraiEntityType<EntityWithPrimitiveLongId>("EntityWithPrimitiveLongId", EntityWithPrimitiveLongId.class) {
+      public EntityWithPrimitiveLongId newInstance() {
+        return new EntityWithPrimitiveLongId();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(EntityWithPrimitiveLongId targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(EntityWithPrimitiveLongId targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(EntityWithPrimitiveLongId targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(EntityWithPrimitiveLongId targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(EntityWithPrimitiveLongId targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(EntityWithPrimitiveLongId targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(EntityWithPrimitiveLongId targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      @UnsafeNativeLong native long EntityWithPrimitiveLongId_long_id(EntityWithPrimitiveLongId instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.EntityWithPrimitiveLongId::id;
+      }-*/;
+
+      @UnsafeNativeLong native void EntityWithPrimitiveLongId_long_id(EntityWithPrimitiveLongId instance, long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.EntityWithPrimitiveLongId::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return EntityWithPrimitiveLongId_long_id((EntityWithPrimitiveLongId) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveLongId;
+      }
+      public Class getJavaType() {
+        return long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        EntityWithPrimitiveLongId_long_id((EntityWithPrimitiveLongId) entityInstance, (Long) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity2() {
+    final ErraiEntityType entityType = new ErraiEntityType<IdTestingEntity2>("IdTestingEntity2", IdTestingEntity2.class) {
+      public IdTestingEntity2 newInstance() {
+        return new IdTestingEntity2();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(IdTestingEntity2 targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(IdTestingEntity2 targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(IdTestingEntity2 targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(IdTestingEntity2 targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(IdTestingEntity2 targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(IdTestingEntity2 targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(IdTestingEntity2 targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      @UnsafeNativeLong native long ParentAbstractEntity_long_id(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::id;
+      }-*/;
+
+      @UnsafeNativeLong native void ParentAbstractEntity_long_id(ParentAbstractEntity instance, long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_long_id((IdTestingEntity2) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_long_id((IdTestingEntity2) entityInstance, (Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_packagePrivateParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::packagePrivateParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_packagePrivateParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::packagePrivateParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_packagePrivateParentField((IdTestingEntity2) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "packagePrivateParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_packagePrivateParentField((IdTestingEntity2) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int IdTestingEntity2_int_childField(IdTestingEntity2 instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.IdTestingEntity2::childField;
+      }-*/;
+
+      native void IdTestingEntity2_int_childField(IdTestingEntity2 instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.IdTestingEntity2::childField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return IdTestingEntity2_int_childField((IdTestingEntity2) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity2;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "childField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        IdTestingEntity2_int_childField((IdTestingEntity2) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_publicParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::publicParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_publicParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::publicParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_publicParentField((IdTestingEntity2) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "publicParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_publicParentField((IdTestingEntity2) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_protectedParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::protectedParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_protectedParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::protectedParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_protectedParentField((IdTestingEntity2) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "protectedParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_protectedParentField((IdTestingEntity2) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_privateParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::privateParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_privateParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::privateParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_privateParentField((IdTestingEntity2) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "privateParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_privateParentField((IdTestingEntity2) entityInstance, (Integer) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_Album() {
+    final ErraiEntityType entityType = new ErraiEntityType<Album>("Album", Album.class) {
+      public Album newInstance() {
+        return new Album();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public native void Album_prePersist(Album instance) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Album::prePersist()();
+      }-*/;
+
+      public void deliverPrePersist(Album targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+        new StandaloneLifecycleListener().albumPrePersist(targetEntity);
+        Album_prePersist(targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public native void StandaloneLifecycleListener_albumPostPersist_Album(StandaloneLifecycleListener instance, Album a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.StandaloneLifecycleListener::albumPostPersist(Lorg/jboss/errai/jpa/test/entity/Album;)(a0);
+      }-*/;
+
+      public native void Album_postPersist(Album instance) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Album::postPersist()();
+      }-*/;
+
+      public void deliverPostPersist(Album targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+        StandaloneLifecycleListener_albumPostPersist_Album(new StandaloneLifecycleListener(), targetEntity);
+        Album_postPersist(targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public native void StandaloneLifecycleListener_albumPreUpdate_Album(StandaloneLifecycleListener instance, Album a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.StandaloneLifecycleListener::albumPreUpdate(Lorg/jboss/errai/jpa/test/entity/Album;)(a0);
+      }-*/;
+
+      public native void Album_preUpdate(Album instance) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Album::preUpdate()();
+      }-*/;
+
+      public void deliverPreUpdate(Album targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+        StandaloneLifecycleListener_albumPreUpdate_Album(new StandaloneLifecycleListener(), targetEntity);
+        Album_preUpdate(targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public native void Album_postUpdate(Album instance) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Album::postUpdate()();
+      }-*/;
+
+      public void deliverPostUpdate(Album targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+        new StandaloneLifecycleListener().albumPostUpdate(targetEntity);
+        Album_postUpdate(targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public native void Album_preRemove(Album instance) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Album::preRemove()();
+      }-*/;
+
+      public void deliverPreRemove(Album targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+        new StandaloneLifecycleListener().albumPreRemove(targetEntity);
+        Album_preRemove(targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public native void Album_postRemove(Album instance) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Album::postRemove()();
+      }-*/;
+
+      public void deliverPostRemove(Album targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+        new StandaloneLifecycleListener().albumPostRemove(targetEntity);
+        Album_postRemove(targetEntity);
+      }
+
+      public native void StandaloneLifecycleListener_albumPostLoad_Album(StandaloneLifecycleListener instance, Album a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.StandaloneLifecycleListener::albumPostLoad(Lorg/jboss/errai/jpa/test/entity/Album;)(a0);
+      }-*/;
+
+      public void deliverPostLoad(Album targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+        StandaloneLifecycleListener_albumPostLoad_Album(new StandaloneLifecycleListener(), targetEntity);
+        targetEntity.postLoad();
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native java.sql.Date Album_Date_releaseDate(Album instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Album::releaseDate;
+      }-*/;
+
+      native void Album_Date_releaseDate(Album instance, java.sql.Date value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Album::releaseDate = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Album_Date_releaseDate((Album) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return java.sql.Date.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Album;
+      }
+      public Class getJavaType() {
+        return java.sql.Date.class;
+      }
+      public String getName() {
+        return "releaseDate";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return java.sql.Date.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Album_Date_releaseDate((Album) entityInstance, (java.sql.Date) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Format Album_Format_format(Album instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Album::format;
+      }-*/;
+
+      native void Album_Format_format(Album instance, Format value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Album::format = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Album_Format_format((Album) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Format.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Album;
+      }
+      public Class getJavaType() {
+        return Format.class;
+      }
+      public String getName() {
+        return "format";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Format.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Album_Format_format((Album) entityInstance, (Format) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      native Long Album_Long_id(Album instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Album::id;
+      }-*/;
+
+      native void Album_Long_id(Album instance, Long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Album::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Album_Long_id((Album) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Album;
+      }
+      public Class getJavaType() {
+        return Long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Album_Long_id((Album) entityInstance, (Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native String Album_String_name(Album instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Album::name;
+      }-*/;
+
+      native void Album_String_name(Album instance, String value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Album::name = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Album_String_name((Album) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return String.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Album;
+      }
+      public Class getJavaType() {
+        return String.class;
+      }
+      public String getName() {
+        return "name";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return String.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Album_String_name((Album) entityInstance, (String) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native Artist Album_Artist_artist(Album instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.Album::artist;
+      }-*/;
+
+      native void Album_Artist_artist(Album instance, Artist value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.Album::artist = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return false;
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return Album_Artist_artist((Album) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Artist.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_Album;
+      }
+      public Class getJavaType() {
+        return Artist.class;
+      }
+      public String getName() {
+        return "artist";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.MANY_TO_ONE;
+      }
+      public Type getType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return Artist.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        Album_Artist_artist((Album) entityInstance, (Artist) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_CascadeTo() {
+    final ErraiEntityType entityType = new ErraiEntityType<CascadeTo>("CascadeTo", CascadeTo.class) {
+      public CascadeTo newInstance() {
+        return new CascadeTo();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(CascadeTo targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(CascadeTo targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(CascadeTo targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(CascadeTo targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(CascadeTo targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(CascadeTo targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(CascadeTo targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native CascadeThirdGeneration CascadeTo_CascadeThirdGeneration_cascadeAgain(CascadeTo instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeTo::cascadeAgain;
+      }-*/;
+
+      native void CascadeTo_CascadeThirdGeneration_cascadeAgain(CascadeTo instance, CascadeThirdGeneration value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeTo::cascadeAgain = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        return cascadeType == CascadeType.MERGE;
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeTo_CascadeThirdGeneration_cascadeAgain((CascadeTo) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return CascadeThirdGeneration.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeTo;
+      }
+      public Class getJavaType() {
+        return CascadeThirdGeneration.class;
+      }
+      public String getName() {
+        return "cascadeAgain";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.ONE_TO_ONE;
+      }
+      public Type getType() {
+        return new Type() {
+          public boolean equals(Object jp3) {
+            throw new RuntimeException("Not implemented");
+          }
+          public Class getJavaType() {
+            return CascadeThirdGeneration.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.ENTITY;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return true;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeTo_CascadeThirdGeneration_cascadeAgain((CascadeTo) entityInstance, (CascadeThirdGeneration) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native String CascadeTo_String_string(CascadeTo instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeTo::string;
+      }-*/;
+
+      native void CascadeTo_String_string(CascadeTo instance, String value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeTo::string = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeTo_String_string((CascadeTo) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return String.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeTo;
+      }
+      public Class getJavaType() {
+        return String.class;
+      }
+      public String getName() {
+        return "string";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return String.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeTo_String_string((CascadeTo) entityInstance, (String) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      @UnsafeNativeLong native long CascadeTo_long_id(CascadeTo instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeTo::id;
+      }-*/;
+
+      @UnsafeNativeLong native void CascadeTo_long_id(CascadeTo instance, long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeTo::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeTo_long_id((CascadeTo) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeTo;
+      }
+      public Class getJavaType() {
+        return long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeTo_long_id((CascadeTo) entityInstance, (Long) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_CascadeThirdGeneration() {
+    final ErraiEntityType entityType = new ErraiEntityType<CascadeThirdGeneration>("CascadeThirdGeneration", CascadeThirdGeneration.class) {
+      public CascadeThirdGeneration newInstance() {
+        return new CascadeThirdGeneration();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(CascadeThirdGeneration targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(CascadeThirdGeneration targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(CascadeThirdGeneration targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(CascadeThirdGeneration targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(CascadeThirdGeneration targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(CascadeThirdGeneration targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(CascadeThirdGeneration targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native String CascadeThirdGeneration_String_string(CascadeThirdGeneration instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeThirdGeneration::string;
+      }-*/;
+
+      native void CascadeThirdGeneration_String_string(CascadeThirdGeneration instance, String value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeThirdGeneration::string = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeThirdGeneration_String_string((CascadeThirdGeneration) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return String.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeThirdGeneration;
+      }
+      public Class getJavaType() {
+        return String.class;
+      }
+      public String getName() {
+        return "string";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return String.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeThirdGeneration_String_string((CascadeThirdGeneration) entityInstance, (String) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      @UnsafeNativeLong native long CascadeThirdGeneration_long_id(CascadeThirdGeneration instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.CascadeThirdGeneration::id;
+      }-*/;
+
+      @UnsafeNativeLong native void CascadeThirdGeneration_long_id(CascadeThirdGeneration instance, long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.CascadeThirdGeneration::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return CascadeThirdGeneration_long_id((CascadeThirdGeneration) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_CascadeThirdGeneration;
+      }
+      public Class getJavaType() {
+        return long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        CascadeThirdGeneration_long_id((CascadeThirdGeneration) entityInstance, (Long) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_EntityWithBigIntegerId() {
+    final ErraiEntityType entityType = new ErraiEntityType<EntityWithBigIntegerId>("EntityWithBigIntegerId", EntityWithBigIntegerId.class) {
+      public EntityWithBigIntegerId newInstance() {
+        return new EntityWithBigIntegerId();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(EntityWithBigIntegerId targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(EntityWithBigIntegerId targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(EntityWithBigIntegerId targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(EntityWithBigIntegerId targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(EntityWithBigIntegerId targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(EntityWithBigIntegerId targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(EntityWithBigIntegerId targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<BigInteger> valueGenerator = new BigIntegerIdGenerator(this);
+      native BigInteger EntityWithBigIntegerId_BigInteger_id(EntityWithBigIntegerId instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.EntityWithBigIntegerId::id;
+      }-*/;
+
+      native void EntityWithBigIntegerId_BigInteger_id(EntityWithBigIntegerId instance, BigInteger value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.EntityWithBigIntegerId::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return EntityWithBigIntegerId_BigInteger_id((EntityWithBigIntegerId) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return BigInteger.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_EntityWithBigIntegerId;
+      }
+      public Class getJavaType() {
+        return BigInteger.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return BigInteger.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        EntityWithBigIntegerId_BigInteger_id((EntityWithBigIntegerId) entityInstance, (BigInteger) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_EntityWithBoxedLongId() {
+    final ErraiEntityType entityType = new ErraiEntityType<EntityWithBoxedLongId>("EntityWithBoxedLongId", EntityWithBoxedLongId.class) {
+      public EntityWithBoxedLongId newInstance() {
+        return new EntityWithBoxedLongId();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(EntityWithBoxedLongId targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(EntityWithBoxedLongId targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(EntityWithBoxedLongId targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(EntityWithBoxedLongId targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(EntityWithBoxedLongId targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(EntityWithBoxedLongId targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(EntityWithBoxedLongId targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      native Long EntityWithBoxedLongId_Long_id(EntityWithBoxedLongId instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.EntityWithBoxedLongId::id;
+      }-*/;
+
+      native void EntityWithBoxedLongId_Long_id(EntityWithBoxedLongId instance, Long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.EntityWithBoxedLongId::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return EntityWithBoxedLongId_Long_id((EntityWithBoxedLongId) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return Long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_EntityWithBoxedLongId;
+      }
+      public Class getJavaType() {
+        return Long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return Long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        EntityWithBoxedLongId_Long_id((EntityWithBoxedLongId) entityInstance, (Long) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity1() {
+    final ErraiEntityType entityType = new ErraiEntityType<IdTestingEntity1>("IdTestingEntity1", IdTestingEntity1.class) {
+      public IdTestingEntity1 newInstance() {
+        return new IdTestingEntity1();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(IdTestingEntity1 targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(IdTestingEntity1 targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(IdTestingEntity1 targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(IdTestingEntity1 targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(IdTestingEntity1 targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(IdTestingEntity1 targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(IdTestingEntity1 targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Long> valueGenerator = new LongIdGenerator(this);
+      @UnsafeNativeLong native long ParentAbstractEntity_long_id(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::id;
+      }-*/;
+
+      @UnsafeNativeLong native void ParentAbstractEntity_long_id(ParentAbstractEntity instance, long value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_long_id((IdTestingEntity1) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return long.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return long.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return long.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_long_id((IdTestingEntity1) entityInstance, (Long) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_packagePrivateParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::packagePrivateParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_packagePrivateParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::packagePrivateParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_packagePrivateParentField((IdTestingEntity1) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "packagePrivateParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_packagePrivateParentField((IdTestingEntity1) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int IdTestingEntity1_int_childField(IdTestingEntity1 instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.IdTestingEntity1::childField;
+      }-*/;
+
+      native void IdTestingEntity1_int_childField(IdTestingEntity1 instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.IdTestingEntity1::childField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return IdTestingEntity1_int_childField((IdTestingEntity1) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity1;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "childField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return true;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        IdTestingEntity1_int_childField((IdTestingEntity1) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_publicParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::publicParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_publicParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::publicParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_publicParentField((IdTestingEntity1) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "publicParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_publicParentField((IdTestingEntity1) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_protectedParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::protectedParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_protectedParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::protectedParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_protectedParentField((IdTestingEntity1) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "protectedParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_protectedParentField((IdTestingEntity1) entityInstance, (Integer) value);
+      }
+    });
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      native int ParentAbstractEntity_int_privateParentField(ParentAbstractEntity instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::privateParentField;
+      }-*/;
+
+      native void ParentAbstractEntity_int_privateParentField(ParentAbstractEntity instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity::privateParentField = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return ParentAbstractEntity_int_privateParentField((IdTestingEntity1) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "privateParentField";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        throw new UnsupportedOperationException("Not a generated attribute");
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return false;
+      }
+      public boolean isId() {
+        return false;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        ParentAbstractEntity_int_privateParentField((IdTestingEntity1) entityInstance, (Integer) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiEntityType createEntityType_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveIntId() {
+    final ErraiEntityType entityType = new ErraiEntityType<EntityWithPrimitiveIntId>("EntityWithPrimitiveIntId", EntityWithPrimitiveIntId.class) {
+      public EntityWithPrimitiveIntId newInstance() {
+        return new EntityWithPrimitiveIntId();
+      }
+
+      public native void TestingGlobalEntityListener_prePersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::prePersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPrePersist(EntityWithPrimitiveIntId targetEntity) {
+        TestingGlobalEntityListener_prePersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postPersist_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postPersist(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostPersist(EntityWithPrimitiveIntId targetEntity) {
+        TestingGlobalEntityListener_postPersist_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreUpdate(EntityWithPrimitiveIntId targetEntity) {
+        TestingGlobalEntityListener_preUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postUpdate_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postUpdate(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostUpdate(EntityWithPrimitiveIntId targetEntity) {
+        TestingGlobalEntityListener_postUpdate_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_preRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::preRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPreRemove(EntityWithPrimitiveIntId targetEntity) {
+        TestingGlobalEntityListener_preRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public native void TestingGlobalEntityListener_postRemove_Object(TestingGlobalEntityListener instance, Object a0) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.TestingGlobalEntityListener::postRemove(Ljava/lang/Object;)(a0);
+      }-*/;
+
+      public void deliverPostRemove(EntityWithPrimitiveIntId targetEntity) {
+        TestingGlobalEntityListener_postRemove_Object(new TestingGlobalEntityListener(), targetEntity);
+      }
+
+      public void deliverPostLoad(EntityWithPrimitiveIntId targetEntity) {
+        new TestingGlobalEntityListener().postLoad(targetEntity);
+      }
+    };
+    entityType.addAttribute(new ErraiSingularAttribute() {
+      private ErraiIdGenerator<Integer> valueGenerator = new IntIdGenerator(this);
+      native int EntityWithPrimitiveIntId_int_id(EntityWithPrimitiveIntId instance) /*-{
+        return instance.@org.jboss.errai.jpa.test.entity.EntityWithPrimitiveIntId::id;
+      }-*/;
+
+      native void EntityWithPrimitiveIntId_int_id(EntityWithPrimitiveIntId instance, int value) /*-{
+        instance.@org.jboss.errai.jpa.test.entity.EntityWithPrimitiveIntId::id = value;
+      }-*/;
+      public boolean cascades(CascadeType cascadeType) {
+        throw new UnsupportedOperationException("Not a relationship attribute");
+      }
+      public Object get(Object entityInstance) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        return EntityWithPrimitiveIntId_int_id((EntityWithPrimitiveIntId) entityInstance);
+      }
+      public Class getBindableJavaType() {
+        return int.class;
+      }
+      public BindableType getBindableType() {
+        return BindableType.SINGULAR_ATTRIBUTE;
+      }
+      public ManagedType getDeclaringType() {
+        return et_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveIntId;
+      }
+      public Class getJavaType() {
+        return int.class;
+      }
+      public String getName() {
+        return "id";
+      }
+      public PersistentAttributeType getPersistentAttributeType() {
+        return PersistentAttributeType.BASIC;
+      }
+      public Type getType() {
+        return new Type() {
+          public Class getJavaType() {
+            return int.class;
+          }
+          public PersistenceType getPersistenceType() {
+            return PersistenceType.BASIC;
+          }
+        };
+      }
+      public ErraiIdGenerator getValueGenerator() {
+        return valueGenerator;
+      }
+      public boolean isAssociation() {
+        return false;
+      }
+      public boolean isCollection() {
+        return false;
+      }
+      public boolean isGeneratedValue() {
+        return true;
+      }
+      public boolean isId() {
+        return true;
+      }
+      public boolean isOptional() {
+        return false;
+      }
+      public boolean isVersion() {
+        return false;
+      }
+      public void set(Object entityInstance, Object value) {
+        if (entityInstance instanceof WrappedPortable) {
+          entityInstance = ((WrappedPortable) entityInstance).unwrap();
+        }
+        EntityWithPrimitiveIntId_int_id((EntityWithPrimitiveIntId) entityInstance, (Integer) value);
+      }
+    });
+    return entityType;
+  }
+
+  private ErraiMetamodel createMetamodel() {
+    ErraiMetamodel metamodel = new ErraiMetamodel();
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.EntityWithBoxedIntId
+    // **
+    et_org_jboss_errai_jpa_test_entity_EntityWithBoxedIntId = createEntityType_org_jboss_errai_jpa_test_entity_EntityWithBoxedIntId();
+    et_org_jboss_errai_jpa_test_entity_EntityWithBoxedIntId.addSubtype(et_org_jboss_errai_jpa_test_entity_EntityWithBoxedIntId);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_EntityWithBoxedIntId);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.CascadeFrom
+    // **
+    et_org_jboss_errai_jpa_test_entity_CascadeFrom = createEntityType_org_jboss_errai_jpa_test_entity_CascadeFrom();
+    et_org_jboss_errai_jpa_test_entity_CascadeFrom.addSubtype(et_org_jboss_errai_jpa_test_entity_CascadeFrom);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_CascadeFrom);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.Zentity
+    // **
+    et_org_jboss_errai_jpa_test_entity_Zentity = createEntityType_org_jboss_errai_jpa_test_entity_Zentity();
+    et_org_jboss_errai_jpa_test_entity_Zentity.addSubtype(et_org_jboss_errai_jpa_test_entity_Zentity);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_Zentity);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.inherit.ParentConcreteEntity
+    // **
+    et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity = createEntityType_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity();
+    et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity.addSubtype(et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.inherit.ChildOfConcreteParentEntity
+    // **
+    et_org_jboss_errai_jpa_test_entity_inherit_ChildOfConcreteParentEntity = createEntityType_org_jboss_errai_jpa_test_entity_inherit_ChildOfConcreteParentEntity();
+    et_org_jboss_errai_jpa_test_entity_inherit_ChildOfConcreteParentEntity.addSubtype(et_org_jboss_errai_jpa_test_entity_inherit_ChildOfConcreteParentEntity);
+    et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity.addSubtype(et_org_jboss_errai_jpa_test_entity_inherit_ChildOfConcreteParentEntity);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_inherit_ChildOfConcreteParentEntity);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.Artist
+    // **
+    et_org_jboss_errai_jpa_test_entity_Artist = createEntityType_org_jboss_errai_jpa_test_entity_Artist();
+    et_org_jboss_errai_jpa_test_entity_Artist.addSubtype(et_org_jboss_errai_jpa_test_entity_Artist);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_Artist);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.inherit.ParentAbstractEntity
+    // **
+    et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity = createEntityType_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity();
+    et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity.addSubtype(et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.inherit.ChildOfAbstractParentEntity
+    // **
+    et_org_jboss_errai_jpa_test_entity_inherit_ChildOfAbstractParentEntity = createEntityType_org_jboss_errai_jpa_test_entity_inherit_ChildOfAbstractParentEntity();
+    et_org_jboss_errai_jpa_test_entity_inherit_ChildOfAbstractParentEntity.addSubtype(et_org_jboss_errai_jpa_test_entity_inherit_ChildOfAbstractParentEntity);
+    et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity.addSubtype(et_org_jboss_errai_jpa_test_entity_inherit_ChildOfAbstractParentEntity);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_inherit_ChildOfAbstractParentEntity);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.EntityWithNonGeneratedId
+    // **
+    et_org_jboss_errai_jpa_test_entity_EntityWithNonGeneratedId = createEntityType_org_jboss_errai_jpa_test_entity_EntityWithNonGeneratedId();
+    et_org_jboss_errai_jpa_test_entity_EntityWithNonGeneratedId.addSubtype(et_org_jboss_errai_jpa_test_entity_EntityWithNonGeneratedId);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_EntityWithNonGeneratedId);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.MethodAccessedZentity
+    // **
+    et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity = createEntityType_org_jboss_errai_jpa_test_entity_MethodAccessedZentity();
+    et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity.addSubtype(et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_MethodAccessedZentity);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.inherit.GrandchildOfConcreteParentEntity
+    // **
+    et_org_jboss_errai_jpa_test_entity_inherit_GrandchildOfConcreteParentEntity = createEntityType_org_jboss_errai_jpa_test_entity_inherit_GrandchildOfConcreteParentEntity();
+    et_org_jboss_errai_jpa_test_entity_inherit_GrandchildOfConcreteParentEntity.addSubtype(et_org_jboss_errai_jpa_test_entity_inherit_GrandchildOfConcreteParentEntity);
+    et_org_jboss_errai_jpa_test_entity_inherit_ChildOfConcreteParentEntity.addSubtype(et_org_jboss_errai_jpa_test_entity_inherit_GrandchildOfConcreteParentEntity);
+    et_org_jboss_errai_jpa_test_entity_inherit_ParentConcreteEntity.addSubtype(et_org_jboss_errai_jpa_test_entity_inherit_GrandchildOfConcreteParentEntity);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_inherit_GrandchildOfConcreteParentEntity);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.Genre
+    // **
+    et_org_jboss_errai_jpa_test_entity_Genre = createEntityType_org_jboss_errai_jpa_test_entity_Genre();
+    et_org_jboss_errai_jpa_test_entity_Genre.addSubtype(et_org_jboss_errai_jpa_test_entity_Genre);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_Genre);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.EntityWithPrimitiveLongId
+    // **
+    et_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveLongId = createEntityType_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveLongId();
+    et_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveLongId.addSubtype(et_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveLongId);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveLongId);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.inherit.IdTestingEntity2
+    // **
+    et_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity2 = createEntityType_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity2();
+    et_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity2.addSubtype(et_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity2);
+    et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity.addSubtype(et_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity2);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity2);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.Album
+    // **
+    et_org_jboss_errai_jpa_test_entity_Album = createEntityType_org_jboss_errai_jpa_test_entity_Album();
+    et_org_jboss_errai_jpa_test_entity_Album.addSubtype(et_org_jboss_errai_jpa_test_entity_Album);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_Album);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.CascadeTo
+    // **
+    et_org_jboss_errai_jpa_test_entity_CascadeTo = createEntityType_org_jboss_errai_jpa_test_entity_CascadeTo();
+    et_org_jboss_errai_jpa_test_entity_CascadeTo.addSubtype(et_org_jboss_errai_jpa_test_entity_CascadeTo);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_CascadeTo);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.CascadeThirdGeneration
+    // **
+    et_org_jboss_errai_jpa_test_entity_CascadeThirdGeneration = createEntityType_org_jboss_errai_jpa_test_entity_CascadeThirdGeneration();
+    et_org_jboss_errai_jpa_test_entity_CascadeThirdGeneration.addSubtype(et_org_jboss_errai_jpa_test_entity_CascadeThirdGeneration);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_CascadeThirdGeneration);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.EntityWithBigIntegerId
+    // **
+    et_org_jboss_errai_jpa_test_entity_EntityWithBigIntegerId = createEntityType_org_jboss_errai_jpa_test_entity_EntityWithBigIntegerId();
+    et_org_jboss_errai_jpa_test_entity_EntityWithBigIntegerId.addSubtype(et_org_jboss_errai_jpa_test_entity_EntityWithBigIntegerId);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_EntityWithBigIntegerId);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.EntityWithBoxedLongId
+    // **
+    et_org_jboss_errai_jpa_test_entity_EntityWithBoxedLongId = createEntityType_org_jboss_errai_jpa_test_entity_EntityWithBoxedLongId();
+    et_org_jboss_errai_jpa_test_entity_EntityWithBoxedLongId.addSubtype(et_org_jboss_errai_jpa_test_entity_EntityWithBoxedLongId);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_EntityWithBoxedLongId);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.inherit.IdTestingEntity1
+    // **
+    et_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity1 = createEntityType_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity1();
+    et_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity1.addSubtype(et_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity1);
+    et_org_jboss_errai_jpa_test_entity_inherit_ParentAbstractEntity.addSubtype(et_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity1);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_inherit_IdTestingEntity1);
+    // **
+    // ** EntityType for org.jboss.errai.jpa.test.entity.EntityWithPrimitiveIntId
+    // **
+    et_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveIntId = createEntityType_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveIntId();
+    et_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveIntId.addSubtype(et_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveIntId);
+    metamodel.addEntityType(et_org_jboss_errai_jpa_test_entity_EntityWithPrimitiveIntId);
+    metamodel.freeze();
+    return metamodel;
+  }
+
+  protected Map createNamedQueries() {
+    final Map namedQueries = new HashMap();
+    // **
+    // ** NamedQuery "childOfParentConcreteEntity"
+    // ** SELECT cpce FROM ChildOfConcreteParentEntity cpce WHERE cpce.protectedParentField >= :protectedFieldAtLeast AND cpce.protectedParentField <= :protectedFieldAtMost
+    // **
+    namedQueries.put("childOfParentConcreteEntity", new TypedQueryFactory(ChildOfConcreteParentEntity.class, new ErraiParameter[] { new ErraiParameter("protectedFieldAtLeast", 0, Integer.class), new ErraiParameter("protectedFieldAtMost", 1, Integer.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeGreaterThanOrEqualTo(JsonUtil.basicValueFromJson(candidate.get("protectedParentField"), Double.class), getParameterValue("protectedFieldAtLeast")) && Comparisons.nullSafeLessThanOrEqualTo(JsonUtil.basicValueFromJson(candidate.get("protectedParentField"), Double.class), getParameterValue("protectedFieldAtMost"));
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "parentConcreteEntity"
+    // ** SELECT pce FROM ParentConcreteEntity pce WHERE pce.protectedParentField >= :protectedFieldAtLeast AND pce.protectedParentField <= :protectedFieldAtMost
+    // **
+    namedQueries.put("parentConcreteEntity", new TypedQueryFactory(ParentConcreteEntity.class, new ErraiParameter[] { new ErraiParameter("protectedFieldAtLeast", 0, Integer.class), new ErraiParameter("protectedFieldAtMost", 1, Integer.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeGreaterThanOrEqualTo(JsonUtil.basicValueFromJson(candidate.get("protectedParentField"), Double.class), getParameterValue("protectedFieldAtLeast")) && Comparisons.nullSafeLessThanOrEqualTo(JsonUtil.basicValueFromJson(candidate.get("protectedParentField"), Double.class), getParameterValue("protectedFieldAtMost"));
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.greaterThanOrEqualTo("protectedParentField", Double.class, getParameterValue("protectedFieldAtLeast")), IndexRange.lessThanOrEqualTo("protectedParentField", Double.class, getParameterValue("protectedFieldAtMost")) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "selectAlbumByName"
+    // ** SELECT a FROM Album a WHERE a.name=:name
+    // **
+    namedQueries.put("selectAlbumByName", new TypedQueryFactory(Album.class, new ErraiParameter[] { new ErraiParameter("name", 0, String.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("name"), String.class), getParameterValue("name"));
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.equalTo("name", String.class, getParameterValue("name")) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "selectAlbumByArtist"
+    // ** SELECT a FROM Album a WHERE a.artist=:artist
+    // **
+    namedQueries.put("selectAlbumByArtist", new TypedQueryFactory(Album.class, new ErraiParameter[] { new ErraiParameter("artist", 0, Artist.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(candidate.get("artist").isNull() != null ? null : entityManager.find(Key.fromJsonObject(entityManager, candidate.get("artist").isObject(), false), Collections.EMPTY_MAP), getParameterValue("artist"));
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityPrimitiveBoolean"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveBool = :b
+    // **
+    namedQueries.put("zentityPrimitiveBoolean", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { new ErraiParameter("b", 0, Boolean.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveBool"), Boolean.class), getParameterValue("b"));
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.equalTo("primitiveBool", Boolean.class, getParameterValue("b")) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityString"
+    // ** SELECT z FROM Zentity z WHERE z.string = :s
+    // **
+    namedQueries.put("zentityString", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { new ErraiParameter("s", 0, String.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), getParameterValue("s"));
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.equalTo("string", String.class, getParameterValue("s")) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLiteralString"
+    // ** SELECT z FROM Zentity z WHERE z.string = 'D''oh!'
+    // **
+    namedQueries.put("zentityLiteralString", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), "D'oh!");
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.equalTo("string", String.class, "D'oh!") };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLiteralDate"
+    // ** SELECT z FROM Zentity z WHERE z.date = '2012-06-22'
+    // **
+    namedQueries.put("zentityLiteralDate", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("date"), Date.class), "2012-06-22");
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.equalTo("date", Date.class, "2012-06-22") };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLiteralLong"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveLong = 11223344L
+    // **
+    namedQueries.put("zentityLiteralLong", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveLong"), Long.class), 11223344L);
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.equalTo("primitiveLong", Long.class, 11223344L) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLiteralInt"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveInt = -55443322
+    // **
+    namedQueries.put("zentityLiteralInt", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveInt"), Double.class), - 5.5443322E7d);
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLiteralShort"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveShort = -1234
+    // **
+    namedQueries.put("zentityLiteralShort", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveShort"), Double.class), - 1234.0d);
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLiteralChar"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveChar = 'c'
+    // **
+    namedQueries.put("zentityLiteralChar", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveChar"), String.class), "c");
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.equalTo("primitiveChar", String.class, "c") };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLiteralByte"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveByte = -5
+    // **
+    namedQueries.put("zentityLiteralByte", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveByte"), Double.class), - 5.0d);
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLiteralDouble"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveDouble = 123.45
+    // **
+    namedQueries.put("zentityLiteralDouble", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveDouble"), Double.class), 123.45d);
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.equalTo("primitiveDouble", Double.class, 123.45d) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLiteralFloat"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveFloat = -1234.5f
+    // **
+    namedQueries.put("zentityLiteralFloat", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveFloat"), Double.class), - 1234.5d);
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLiteralDoubleToInt"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveDouble = 12345
+    // **
+    namedQueries.put("zentityLiteralDoubleToInt", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveDouble"), Double.class), 12345.0d);
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.equalTo("primitiveDouble", Double.class, 12345.0d) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLiteralBoolTrue"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveBool = true
+    // **
+    namedQueries.put("zentityLiteralBoolTrue", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveBool"), Boolean.class), true);
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.equalTo("primitiveBool", Boolean.class, true) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLiteralBoolFalse"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveBool = false
+    // **
+    namedQueries.put("zentityLiteralBoolFalse", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveBool"), Boolean.class), false);
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.equalTo("primitiveBool", Boolean.class, false) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLiteralNull"
+    // ** SELECT z FROM Zentity z WHERE z.string = null
+    // **
+    namedQueries.put("zentityLiteralNull", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return JsonUtil.basicValueFromJson(candidate.get("string"), String.class) == null;
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLiteralNotNull"
+    // ** SELECT z FROM Zentity z WHERE z.string != null
+    // **
+    namedQueries.put("zentityLiteralNotNull", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return JsonUtil.basicValueFromJson(candidate.get("string"), String.class) != null;
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "albumLiteralEnum"
+    // ** SELECT a FROM Album a WHERE a.format = org.jboss.errai.jpa.test.entity.Format.SINGLE
+    // **
+    namedQueries.put("albumLiteralEnum", new TypedQueryFactory(Album.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("format"), Format.class), Format.SINGLE);
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.equalTo("format", Format.class, Format.SINGLE) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityAnd"
+    // ** SELECT z FROM Zentity z WHERE z.string = 'hello' AND z.primitiveInt = 555
+    // **
+    namedQueries.put("zentityAnd", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), "hello") && Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveInt"), Double.class), 555.0d);
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.equalTo("string", String.class, "hello"), IndexRange.equalTo("primitiveInt", Double.class, 555.0d) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityOr"
+    // ** SELECT z FROM Zentity z WHERE z.string = 'hello' OR z.primitiveInt = 555
+    // **
+    namedQueries.put("zentityOr", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), "hello") || Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveInt"), Double.class), 555.0d);
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityNot"
+    // ** SELECT z FROM Zentity z WHERE NOT z.string = 'hello'
+    // **
+    namedQueries.put("zentityNot", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return !Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), "hello");
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityNestedBooleanLogic"
+    // ** SELECT z FROM Zentity z WHERE z.string = 'hello' AND z.primitiveInt = 555 OR z.primitiveByte = 1
+    // **
+    namedQueries.put("zentityNestedBooleanLogic", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return (Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), "hello") && Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveInt"), Double.class), 555.0d)) || Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("primitiveByte"), Double.class), 1.0d);
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityGreaterThan"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveInt > 555
+    // **
+    namedQueries.put("zentityGreaterThan", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeGreaterThan(JsonUtil.basicValueFromJson(candidate.get("primitiveInt"), Double.class), 555.0d);
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.greaterThan("primitiveInt", Double.class, 555.0d) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityGreaterThanOrEqualTo"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveInt >= 555
+    // **
+    namedQueries.put("zentityGreaterThanOrEqualTo", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeGreaterThanOrEqualTo(JsonUtil.basicValueFromJson(candidate.get("primitiveInt"), Double.class), 555.0d);
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.greaterThanOrEqualTo("primitiveInt", Double.class, 555.0d) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLessThan"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveInt < 555
+    // **
+    namedQueries.put("zentityLessThan", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeLessThan(JsonUtil.basicValueFromJson(candidate.get("primitiveInt"), Double.class), 555.0d);
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.lessThan("primitiveInt", Double.class, 555.0d) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLessThanOrEqualTo"
+    // ** SELECT z FROM Zentity z WHERE z.primitiveInt <= 555
+    // **
+    namedQueries.put("zentityLessThanOrEqualTo", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeLessThanOrEqualTo(JsonUtil.basicValueFromJson(candidate.get("primitiveInt"), Double.class), 555.0d);
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.lessThanOrEqualTo("primitiveInt", Double.class, 555.0d) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityStringGreaterThan"
+    // ** SELECT z FROM Zentity z WHERE z.string > 'hello'
+    // **
+    namedQueries.put("zentityStringGreaterThan", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeGreaterThan(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), "hello");
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.greaterThan("string", String.class, "hello") };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityStringGreaterThanOrEqualTo"
+    // ** SELECT z FROM Zentity z WHERE z.string >= 'hello'
+    // **
+    namedQueries.put("zentityStringGreaterThanOrEqualTo", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeGreaterThanOrEqualTo(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), "hello");
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.greaterThanOrEqualTo("string", String.class, "hello") };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityStringLessThan"
+    // ** SELECT z FROM Zentity z WHERE z.string < 'hello'
+    // **
+    namedQueries.put("zentityStringLessThan", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeLessThan(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), "hello");
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.lessThan("string", String.class, "hello") };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityStringLessThanOrEqualTo"
+    // ** SELECT z FROM Zentity z WHERE z.string <= 'hello'
+    // **
+    namedQueries.put("zentityStringLessThanOrEqualTo", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeLessThanOrEqualTo(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), "hello");
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.lessThanOrEqualTo("string", String.class, "hello") };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityBetween"
+    // ** SELECT z FROM Zentity z WHERE z.boxedDouble BETWEEN 2.0 AND 4.0
+    // **
+    namedQueries.put("zentityBetween", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeLessThanOrEqualTo(2.0d, JsonUtil.basicValueFromJson(candidate.get("boxedDouble"), Double.class)) && Comparisons.nullSafeLessThanOrEqualTo(JsonUtil.basicValueFromJson(candidate.get("boxedDouble"), Double.class), 4.0d);
+          }
+          public IndexRange[] getIndexRanges() {
+            return new IndexRange[] { IndexRange.between("boxedDouble", Double.class, 2.0d, 4.0d) };
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityNotBetween"
+    // ** SELECT z FROM Zentity z WHERE z.boxedDouble NOT BETWEEN 2.0 AND 4.0
+    // **
+    namedQueries.put("zentityNotBetween", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeLessThan(JsonUtil.basicValueFromJson(candidate.get("boxedDouble"), Double.class), 2.0d) || Comparisons.nullSafeGreaterThan(JsonUtil.basicValueFromJson(candidate.get("boxedDouble"), Double.class), 4.0d);
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityInLiteral"
+    // ** SELECT z FROM Zentity z WHERE z.string IN ('foo', 'bar', 'baz')
+    // **
+    namedQueries.put("zentityInLiteral", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.in(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), new Object[] { "foo", "bar", "baz" });
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityInSingleValuedParams"
+    // ** SELECT z FROM Zentity z WHERE z.string IN (:in1, :in2, :in3)
+    // **
+    namedQueries.put("zentityInSingleValuedParams", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { new ErraiParameter("in1", 0, String.class), new ErraiParameter("in2", 1, String.class), new ErraiParameter("in3", 2, String.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.in(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), new Object[] { getParameterValue("in1"), getParameterValue("in2"), getParameterValue("in3") });
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityInCollectionParam"
+    // ** SELECT z FROM Zentity z WHERE z.string IN :inList
+    // **
+    namedQueries.put("zentityInCollectionParam", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { new ErraiParameter("inList", 0, String.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.in(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), new Object[] { getParameterValue("inList") });
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityNotInLiteral"
+    // ** SELECT z FROM Zentity z WHERE z.string NOT IN ('foo', 'bar', 'baz')
+    // **
+    namedQueries.put("zentityNotInLiteral", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return !Comparisons.in(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), new Object[] { "foo", "bar", "baz" });
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLike"
+    // ** SELECT z FROM Zentity z WHERE z.string LIKE :str
+    // **
+    namedQueries.put("zentityLike", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { new ErraiParameter("str", 0, String.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.like((String) JsonUtil.basicValueFromJson(candidate.get("string"), String.class), (String) getParameterValue("str"), (String) null);
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityNotLike"
+    // ** SELECT z FROM Zentity z WHERE z.string NOT LIKE :str
+    // **
+    namedQueries.put("zentityNotLike", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { new ErraiParameter("str", 0, String.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return !Comparisons.like((String) JsonUtil.basicValueFromJson(candidate.get("string"), String.class), (String) getParameterValue("str"), (String) null);
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLikeWithEscapeChar"
+    // ** SELECT z FROM Zentity z WHERE z.string LIKE :str ESCAPE 'a' AND 1 = 1
+    // **
+    namedQueries.put("zentityLikeWithEscapeChar", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { new ErraiParameter("str", 0, String.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.like((String) JsonUtil.basicValueFromJson(candidate.get("string"), String.class), (String) getParameterValue("str"), "a") && Comparisons.nullSafeEquals(1.0d, 1.0d);
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityOrderByPrimitiveInt"
+    // ** SELECT z FROM Zentity z ORDER BY z.primitiveInt
+    // **
+    namedQueries.put("zentityOrderByPrimitiveInt", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return new Comparator() {
+              private final ErraiAttribute z_primitiveInt_attr = entityManager.getMetamodel().entity(Zentity.class).getAttribute("primitiveInt");
+              public int compare(Object o1, Object o2) {
+                final Zentity lhs = (Zentity) o1;
+                final Zentity rhs = (Zentity) o2;
+                int result;
+                result = Comparisons.nullSafeCompare((Comparable) z_primitiveInt_attr.get(lhs), (Comparable) z_primitiveInt_attr.get(rhs));
+                if (result != 0) {
+                  return + result;
+                }
+                return 0;
+              }
+            };
+          }
+
+          protected Comparator getJsonComparator() {
+            return new Comparator() {
+              public int compare(Object o1, Object o2) {
+                final JSONObject lhs = (JSONObject) o1;
+                final JSONObject rhs = (JSONObject) o2;
+                int result;
+                result = Comparisons.nullSafeCompare((Comparable) JsonUtil.basicValueFromJson(lhs.get("primitiveInt"), Double.class), (Comparable) JsonUtil.basicValueFromJson(rhs.get("primitiveInt"), Double.class));
+                if (result != 0) {
+                  return + result;
+                }
+                return 0;
+              }
+            };
+          }
+          public boolean matches(JSONObject candidate) {
+            return true;
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityOrderByPrimitiveIntDesc"
+    // ** SELECT z FROM Zentity z ORDER BY z.primitiveInt DESC
+    // **
+    namedQueries.put("zentityOrderByPrimitiveIntDesc", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return new Comparator() {
+              private final ErraiAttribute z_primitiveInt_attr = entityManager.getMetamodel().entity(Zentity.class).getAttribute("primitiveInt");
+              public int compare(Object o1, Object o2) {
+                final Zentity lhs = (Zentity) o1;
+                final Zentity rhs = (Zentity) o2;
+                int result;
+                result = Comparisons.nullSafeCompare((Comparable) z_primitiveInt_attr.get(lhs), (Comparable) z_primitiveInt_attr.get(rhs));
+                if (result != 0) {
+                  return - result;
+                }
+                return 0;
+              }
+            };
+          }
+
+          protected Comparator getJsonComparator() {
+            return new Comparator() {
+              public int compare(Object o1, Object o2) {
+                final JSONObject lhs = (JSONObject) o1;
+                final JSONObject rhs = (JSONObject) o2;
+                int result;
+                result = Comparisons.nullSafeCompare((Comparable) JsonUtil.basicValueFromJson(lhs.get("primitiveInt"), Double.class), (Comparable) JsonUtil.basicValueFromJson(rhs.get("primitiveInt"), Double.class));
+                if (result != 0) {
+                  return - result;
+                }
+                return 0;
+              }
+            };
+          }
+          public boolean matches(JSONObject candidate) {
+            return true;
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityOrderByBoxedFloat"
+    // ** SELECT z FROM Zentity z ORDER BY z.boxedFloat
+    // **
+    namedQueries.put("zentityOrderByBoxedFloat", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return new Comparator() {
+              private final ErraiAttribute z_boxedFloat_attr = entityManager.getMetamodel().entity(Zentity.class).getAttribute("boxedFloat");
+              public int compare(Object o1, Object o2) {
+                final Zentity lhs = (Zentity) o1;
+                final Zentity rhs = (Zentity) o2;
+                int result;
+                result = Comparisons.nullSafeCompare((Comparable) z_boxedFloat_attr.get(lhs), (Comparable) z_boxedFloat_attr.get(rhs));
+                if (result != 0) {
+                  return + result;
+                }
+                return 0;
+              }
+            };
+          }
+
+          protected Comparator getJsonComparator() {
+            return new Comparator() {
+              public int compare(Object o1, Object o2) {
+                final JSONObject lhs = (JSONObject) o1;
+                final JSONObject rhs = (JSONObject) o2;
+                int result;
+                result = Comparisons.nullSafeCompare((Comparable) JsonUtil.basicValueFromJson(lhs.get("boxedFloat"), Double.class), (Comparable) JsonUtil.basicValueFromJson(rhs.get("boxedFloat"), Double.class));
+                if (result != 0) {
+                  return + result;
+                }
+                return 0;
+              }
+            };
+          }
+          public boolean matches(JSONObject candidate) {
+            return true;
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityOrderByStringDescThenInt"
+    // ** SELECT z FROM Zentity z ORDER BY z.string DESC, z.primitiveInt
+    // **
+    namedQueries.put("zentityOrderByStringDescThenInt", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return new Comparator() {
+              private final ErraiAttribute z_string_attr = entityManager.getMetamodel().entity(Zentity.class).getAttribute("string");
+              private final ErraiAttribute z_primitiveInt_attr = entityManager.getMetamodel().entity(Zentity.class).getAttribute("primitiveInt");
+              public int compare(Object o1, Object o2) {
+                final Zentity lhs = (Zentity) o1;
+                final Zentity rhs = (Zentity) o2;
+                int result;
+                result = Comparisons.nullSafeCompare((Comparable) z_string_attr.get(lhs), (Comparable) z_string_attr.get(rhs));
+                if (result != 0) {
+                  return - result;
+                }
+                result = Comparisons.nullSafeCompare((Comparable) z_primitiveInt_attr.get(lhs), (Comparable) z_primitiveInt_attr.get(rhs));
+                if (result != 0) {
+                  return + result;
+                }
+                return 0;
+              }
+            };
+          }
+
+          protected Comparator getJsonComparator() {
+            return new Comparator() {
+              public int compare(Object o1, Object o2) {
+                final JSONObject lhs = (JSONObject) o1;
+                final JSONObject rhs = (JSONObject) o2;
+                int result;
+                result = Comparisons.nullSafeCompare((Comparable) JsonUtil.basicValueFromJson(lhs.get("string"), String.class), (Comparable) JsonUtil.basicValueFromJson(rhs.get("string"), String.class));
+                if (result != 0) {
+                  return - result;
+                }
+                result = Comparisons.nullSafeCompare((Comparable) JsonUtil.basicValueFromJson(lhs.get("primitiveInt"), Double.class), (Comparable) JsonUtil.basicValueFromJson(rhs.get("primitiveInt"), Double.class));
+                if (result != 0) {
+                  return + result;
+                }
+                return 0;
+              }
+            };
+          }
+          public boolean matches(JSONObject candidate) {
+            return true;
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityOrderByStringAscThenInt"
+    // ** SELECT z FROM Zentity z ORDER BY z.string ASC, z.primitiveInt
+    // **
+    namedQueries.put("zentityOrderByStringAscThenInt", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return new Comparator() {
+              private final ErraiAttribute z_string_attr = entityManager.getMetamodel().entity(Zentity.class).getAttribute("string");
+              private final ErraiAttribute z_primitiveInt_attr = entityManager.getMetamodel().entity(Zentity.class).getAttribute("primitiveInt");
+              public int compare(Object o1, Object o2) {
+                final Zentity lhs = (Zentity) o1;
+                final Zentity rhs = (Zentity) o2;
+                int result;
+                result = Comparisons.nullSafeCompare((Comparable) z_string_attr.get(lhs), (Comparable) z_string_attr.get(rhs));
+                if (result != 0) {
+                  return + result;
+                }
+                result = Comparisons.nullSafeCompare((Comparable) z_primitiveInt_attr.get(lhs), (Comparable) z_primitiveInt_attr.get(rhs));
+                if (result != 0) {
+                  return + result;
+                }
+                return 0;
+              }
+            };
+          }
+
+          protected Comparator getJsonComparator() {
+            return new Comparator() {
+              public int compare(Object o1, Object o2) {
+                final JSONObject lhs = (JSONObject) o1;
+                final JSONObject rhs = (JSONObject) o2;
+                int result;
+                result = Comparisons.nullSafeCompare((Comparable) JsonUtil.basicValueFromJson(lhs.get("string"), String.class), (Comparable) JsonUtil.basicValueFromJson(rhs.get("string"), String.class));
+                if (result != 0) {
+                  return + result;
+                }
+                result = Comparisons.nullSafeCompare((Comparable) JsonUtil.basicValueFromJson(lhs.get("primitiveInt"), Double.class), (Comparable) JsonUtil.basicValueFromJson(rhs.get("primitiveInt"), Double.class));
+                if (result != 0) {
+                  return + result;
+                }
+                return 0;
+              }
+            };
+          }
+          public boolean matches(JSONObject candidate) {
+            return true;
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityOrderByStringThenInt"
+    // ** SELECT z FROM Zentity z ORDER BY z.string, z.primitiveInt
+    // **
+    namedQueries.put("zentityOrderByStringThenInt", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return new Comparator() {
+              private final ErraiAttribute z_string_attr = entityManager.getMetamodel().entity(Zentity.class).getAttribute("string");
+              private final ErraiAttribute z_primitiveInt_attr = entityManager.getMetamodel().entity(Zentity.class).getAttribute("primitiveInt");
+              public int compare(Object o1, Object o2) {
+                final Zentity lhs = (Zentity) o1;
+                final Zentity rhs = (Zentity) o2;
+                int result;
+                result = Comparisons.nullSafeCompare((Comparable) z_string_attr.get(lhs), (Comparable) z_string_attr.get(rhs));
+                if (result != 0) {
+                  return + result;
+                }
+                result = Comparisons.nullSafeCompare((Comparable) z_primitiveInt_attr.get(lhs), (Comparable) z_primitiveInt_attr.get(rhs));
+                if (result != 0) {
+                  return + result;
+                }
+                return 0;
+              }
+            };
+          }
+
+          protected Comparator getJsonComparator() {
+            return new Comparator() {
+              public int compare(Object o1, Object o2) {
+                final JSONObject lhs = (JSONObject) o1;
+                final JSONObject rhs = (JSONObject) o2;
+                int result;
+                result = Comparisons.nullSafeCompare((Comparable) JsonUtil.basicValueFromJson(lhs.get("string"), String.class), (Comparable) JsonUtil.basicValueFromJson(rhs.get("string"), String.class));
+                if (result != 0) {
+                  return + result;
+                }
+                result = Comparisons.nullSafeCompare((Comparable) JsonUtil.basicValueFromJson(lhs.get("primitiveInt"), Double.class), (Comparable) JsonUtil.basicValueFromJson(rhs.get("primitiveInt"), Double.class));
+                if (result != 0) {
+                  return + result;
+                }
+                return 0;
+              }
+            };
+          }
+          public boolean matches(JSONObject candidate) {
+            return true;
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLowercaseFunction"
+    // ** SELECT z FROM Zentity z WHERE 'foo' = lower(z.string)
+    // **
+    namedQueries.put("zentityLowercaseFunction", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals("foo", ((String) JsonUtil.basicValueFromJson(candidate.get("string"), String.class)).toLowerCase());
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityUppercaseFunction"
+    // ** SELECT z FROM Zentity z WHERE upper(z.string) = 'FOO'
+    // **
+    namedQueries.put("zentityUppercaseFunction", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(((String) JsonUtil.basicValueFromJson(candidate.get("string"), String.class)).toUpperCase(), "FOO");
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityParamNestedInFunction"
+    // ** SELECT z FROM Zentity z WHERE lower(:str) = z.string
+    // **
+    namedQueries.put("zentityParamNestedInFunction", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { new ErraiParameter("str", 0, Object.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals(((String) getParameterValue("str")).toLowerCase(), JsonUtil.basicValueFromJson(candidate.get("string"), String.class));
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityConcatFunction"
+    // ** SELECT z FROM Zentity z WHERE 'foo' = concat(z.string, 'o', 'o')
+    // **
+    namedQueries.put("zentityConcatFunction", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals("foo", new StringBuilder(64).append(JsonUtil.basicValueFromJson(candidate.get("string"), String.class)).append("o").append("o").toString());
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentitySubstringFunctionOneArg"
+    // ** SELECT z FROM Zentity z WHERE z.string = substring(:bigStr, :startPos)
+    // **
+    namedQueries.put("zentitySubstringFunctionOneArg", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { new ErraiParameter("bigStr", 0, Object.class), new ErraiParameter("startPos", 1, Object.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            final String substrOrig1 = (String) getParameterValue("bigStr");
+            final int substrStart1 = (Integer) getParameterValue("startPos") - 1;
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), substrOrig1.substring(substrStart1));
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentitySubstringFunctionTwoArgs"
+    // ** SELECT z FROM Zentity z WHERE z.string = substring(:bigStr, :startPos, :length)
+    // **
+    namedQueries.put("zentitySubstringFunctionTwoArgs", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { new ErraiParameter("bigStr", 0, Object.class), new ErraiParameter("startPos", 1, Object.class), new ErraiParameter("length", 2, Object.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            final String substrOrig1 = (String) getParameterValue("bigStr");
+            final int substrStart1 = (Integer) getParameterValue("startPos") - 1;
+            final int substrEnd1 = (Integer) getParameterValue("length") + substrStart1;
+            return Comparisons.nullSafeEquals(JsonUtil.basicValueFromJson(candidate.get("string"), String.class), substrOrig1.substring(substrStart1, substrEnd1));
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityTrimFunction"
+    // ** SELECT z FROM Zentity z WHERE trim(z.string) = 'foo'
+    // **
+    namedQueries.put("zentityTrimFunction", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            final RegExp trimmer1 = RegExp.compile(new StringBuilder(64).append("^").append(Comparisons.escapeRegexChar(' ')).append("*").append("(.*?)").append(Comparisons.escapeRegexChar(' ')).append("*").append("$").toString());
+            return Comparisons.nullSafeEquals(trimmer1.exec((String) JsonUtil.basicValueFromJson(candidate.get("string"), String.class)).getGroup(1), "foo");
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityTrimLeadingFunction"
+    // ** SELECT z FROM Zentity z WHERE trim(LEADING FROM z.string) = 'foo'
+    // **
+    namedQueries.put("zentityTrimLeadingFunction", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            final RegExp trimmer1 = RegExp.compile(new StringBuilder(64).append("^").append(Comparisons.escapeRegexChar(' ')).append("*").append("(.*?)").append("$").toString());
+            return Comparisons.nullSafeEquals(trimmer1.exec((String) JsonUtil.basicValueFromJson(candidate.get("string"), String.class)).getGroup(1), "foo");
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityTrimTrailingFunction"
+    // ** SELECT z FROM Zentity z WHERE trim(TRAILING FROM z.string) = 'foo'
+    // **
+    namedQueries.put("zentityTrimTrailingFunction", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            final RegExp trimmer1 = RegExp.compile(new StringBuilder(64).append("^").append("(.*?)").append(Comparisons.escapeRegexChar(' ')).append("*").append("$").toString());
+            return Comparisons.nullSafeEquals(trimmer1.exec((String) JsonUtil.basicValueFromJson(candidate.get("string"), String.class)).getGroup(1), "foo");
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityTrimTrailingWithCustomPadFunction"
+    // ** SELECT z FROM Zentity z WHERE trim(TRAILING 'o' FROM z.string) = 'f'
+    // **
+    namedQueries.put("zentityTrimTrailingWithCustomPadFunction", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            final RegExp trimmer1 = RegExp.compile(new StringBuilder(64).append("^").append("(.*?)").append(Comparisons.escapeRegexChar(("o").charAt(0))).append("*").append("$").toString());
+            return Comparisons.nullSafeEquals(trimmer1.exec((String) JsonUtil.basicValueFromJson(candidate.get("string"), String.class)).getGroup(1), "f");
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLengthFunction"
+    // ** SELECT z FROM Zentity z WHERE length(z.string) = 3
+    // **
+    namedQueries.put("zentityLengthFunction", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals((double) ((String) JsonUtil.basicValueFromJson(candidate.get("string"), String.class)).length(), 3.0d);
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLocateFunction2Args"
+    // ** SELECT z FROM Zentity z WHERE locate(:lookFor, z.string) = 2
+    // **
+    namedQueries.put("zentityLocateFunction2Args", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { new ErraiParameter("lookFor", 0, Object.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeEquals((double) ((String) JsonUtil.basicValueFromJson(candidate.get("string"), String.class)).indexOf((String) getParameterValue("lookFor"), 0) + 1, 2.0d);
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityLocateFunction3Args"
+    // ** SELECT z FROM Zentity z WHERE locate(:lookFor, z.string, 3) > 0
+    // **
+    namedQueries.put("zentityLocateFunction3Args", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { new ErraiParameter("lookFor", 0, Object.class) }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return Comparisons.nullSafeGreaterThan((double) ((String) JsonUtil.basicValueFromJson(candidate.get("string"), String.class)).indexOf((String) getParameterValue("lookFor"), (int) 3.0d - 1) + 1, 0.0d);
+          }
+        };
+      }
+    });
+    // **
+    // ** NamedQuery "zentityNoWhereClause"
+    // ** SELECT z FROM Zentity z
+    // **
+    namedQueries.put("zentityNoWhereClause", new TypedQueryFactory(Zentity.class, new ErraiParameter[] { }) {
+      protected TypedQuery createQuery(final ErraiEntityManager entityManager) {
+        return new ErraiTypedQuery(entityManager, actualResultType, parameters) {
+          protected Comparator getComparator() {
+            return null;
+          }
+
+          protected Comparator getJsonComparator() {
+            return null;
+          }
+          public boolean matches(JSONObject candidate) {
+            return true;
+          }
+        };
+      }
+    });
+    return namedQueries;
+  }
+}
\ No newline at end of file
@@ -74,4 +74,15 @@ public @interface Table {
 	 * Defaults to no additional constraints.
 	 */
 	UniqueConstraint[] uniqueConstraints() default { };
+
+	/**
+	 * (Optional) Indexes for the table. These are only used if
+	 * table generation is in effect. Errai JPA also uses the
+	 * single-column indexes for its client-side storage.
+	 * <p/>
+	 * Defaults to no additional indexes.
+	 *
+	 * @since Java Persistence 2.1
+	 */
+	Index[] indexes() default { };
 }
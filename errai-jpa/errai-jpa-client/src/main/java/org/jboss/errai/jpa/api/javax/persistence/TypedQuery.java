@@ -19,6 +19,7 @@ package javax.persistence;
 
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interface used to control the execution of typed queries.
@@ -53,6 +54,21 @@ public interface TypedQuery<X> extends Query {
 	@Override
   List<X> getResultList();
 
+	/**
+	 * Execute a SELECT query and return the query results
+	 * as a typed <code>java.util.stream.Stream</code>.
+	 * By default this method delegates to <code>getResultList().stream()</code>,
+	 * however persistence provider may choose to override this method
+	 * to provide additional capabilities.
+	 *
+	 * @return a stream of the results
+	 *
+	 * @since Java Persistence 2.2
+	 */
+	default Stream<X> getResultStream() {
+		return getResultList().stream();
+	}
+
 	/**
 	 * Execute a SELECT query that returns a single result.
 	 *
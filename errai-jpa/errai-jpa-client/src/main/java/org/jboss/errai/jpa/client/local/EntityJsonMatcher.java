@@ -16,15 +16,17 @@
 
 package org.jboss.errai.jpa.client.local;
 
+import org.jboss.errai.jpa.client.local.backend.IndexRange;
+
 import com.google.gwt.json.client.JSONObject;
 
 /**
  * First try at an interface that describes a query's predicate with regards to
  * a single object type.
  * <p>
- * <b>Future consideration:</b> This interface must be extended or completely
- * reworked to accommodate indexing (if indexing turns out to be important in
- * the client data store).
+ * Storage backends that keep secondary indexes can use
+ * {@link #getIndexRanges()} to narrow down the candidates before calling
+ * {@link #matches(JSONObject)}.
  *
  * @author Jonathan Fuerth <jfuerth@gmail.com>
  */
@@ -40,4 +42,20 @@ public interface EntityJsonMatcher {
    */
   boolean matches(JSONObject candidate);
 
+  /**
+   * Returns the single-attribute conditions that every candidate accepted by
+   * this matcher must satisfy. A storage backend may answer any one of them
+   * from an index; the candidates it selects this way are still passed to
+   * {@link #matches(JSONObject)}.
+   * <p>
+   * The default implementation returns no conditions, so the backend visits
+   * every stored entity of the matcher's type.
+   *
+   * @return the conditions implied by this matcher, evaluated against its
+   *         current parameter values. Never null; empty if there are none.
+   */
+  default IndexRange[] getIndexRanges() {
+    return new IndexRange[0];
+  }
+
 }
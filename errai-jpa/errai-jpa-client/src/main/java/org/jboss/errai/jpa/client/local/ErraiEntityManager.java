@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -42,8 +43,10 @@ import javax.persistence.metamodel.SingularAttribute;
 import org.jboss.errai.common.client.api.Assert;
 import org.jboss.errai.common.client.api.WrappedPortable;
 import org.jboss.errai.databinding.client.BindableProxy;
+import org.jboss.errai.databinding.client.PropertyChangeUnsubscribeHandle;
 import org.jboss.errai.jpa.client.local.backend.StorageBackend;
 import org.jboss.errai.jpa.client.local.backend.StorageBackendFactory;
+import org.jboss.errai.jpa.client.local.backend.StoredEntity;
 import org.jboss.errai.marshalling.client.api.MarshallerFramework;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -84,6 +87,18 @@ public class ErraiEntityManager implements EntityManager {
    */
   private final Map<Key<Object, Object>, Object> partiallyConstructedEntities = new HashMap<>();
 
+  /**
+   * Handles for the property change handlers this entity manager has added to
+   * managed entities that are data binding proxies.
+   */
+  private final Map<Key<?, ?>, PropertyChangeUnsubscribeHandle> changeHandles = new HashMap<>();
+
+  /**
+   * If true, {@link #flush()} only writes the entities that have been marked
+   * dirty. See {@link #setDirtyTracking(boolean)}.
+   */
+  private boolean dirtyTracking = false;
+
   /**
    * The actual storage backend.
    */
@@ -212,7 +227,7 @@ public class ErraiEntityManager implements EntityManager {
         // FALLTHROUGH
       case NEW:
         entityType.deliverPrePersist(entity);
-        persistenceContext.put(key, entity);
+        manage(key, entity);
         backend.put(key, entity);
         entityType.deliverPostPersist(entity);
         break;
@@ -243,7 +258,7 @@ public class ErraiEntityManager implements EntityManager {
           entityType.deliverPrePersist(mergeTarget);
         }
 
-        persistenceContext.put(key, mergeTarget);
+        manage(key, mergeTarget);
         backend.put(key, mergeTarget);
 
         if (sendUpdateEvent) {
@@ -267,7 +282,7 @@ public class ErraiEntityManager implements EntityManager {
         // ignore
         break;
       case MANAGED:
-        persistenceContext.remove(key);
+        unmanage(key);
         break;
       case REMOVED:
         removedEntities.remove(key);
@@ -279,7 +294,7 @@ public class ErraiEntityManager implements EntityManager {
       case NEW:
       case MANAGED:
         entityType.deliverPreRemove(entity);
-        persistenceContext.remove(key);
+        unmanage(key);
         removedEntities.put(key, entity);
         backend.remove(key);
         entityType.deliverPostRemove(entity);
@@ -512,6 +527,30 @@ public class ErraiEntityManager implements EntityManager {
     }
   }
 
+  /**
+   * Adds the given entity to the persistence context. If the entity is a data
+   * binding proxy, changes made through the proxy from now on mark it dirty.
+   */
+  private <X> void manage(final Key<X, ?> key, final X entity) {
+    persistenceContext.put(key, entity);
+    if (entity instanceof BindableProxy && !changeHandles.containsKey(key)) {
+      changeHandles.put(key, ((BindableProxy<?>) entity).getBindableProxyAgent()
+              .addPropertyChangeHandler(event -> persistenceContext.markDirty(key)));
+    }
+  }
+
+  /**
+   * Removes the entity having the given key from the persistence context, and
+   * stops tracking changes to it.
+   */
+  private void unmanage(final Key<?, ?> key) {
+    persistenceContext.remove(key);
+    final PropertyChangeUnsubscribeHandle handle = changeHandles.remove(key);
+    if (handle != null) {
+      handle.unsubscribe();
+    }
+  }
+
   /**
    * Makes the Entity Manager aware of an entity instance that is in the process
    * of being constructed: its fields and references to other entities may not
@@ -556,6 +595,15 @@ public class ErraiEntityManager implements EntityManager {
     return backend.getAll(type, matcher);
   }
 
+  /**
+   * EXPERIMENTAL. Like {@link #findAll(ErraiIdentifiableType, EntityJsonMatcher)},
+   * but leaves the matches in the form they are stored in, so callers can
+   * decide which ones to turn into managed entities.
+   */
+  public <X> Iterator<StoredEntity<X>> findAllStored(final ErraiIdentifiableType<X> type, final EntityJsonMatcher matcher) {
+    return backend.getAllStored(type, matcher);
+  }
+
   /**
    * Tests if this entity manager's storage backend contains an entity that
    * could conflict with the given key. This method is free of side effects: it
@@ -603,11 +651,69 @@ public class ErraiEntityManager implements EntityManager {
   public void flush() {
     // deferred backend operations not (yet!) implemented
 
+    if (dirtyTracking) {
+      // persist updates to the entities that were reported as changed
+      for (final Key<?, ?> key : persistenceContext.takeDirtyKeys()) {
+        final Object entity = persistenceContext.get(key);
+        if (entity != null) {
+          updateInBackend((Key<Object, ?>) key, entity);
+        }
+      }
+      return;
+    }
+
     // persist updates to entities in the persistence context
     for (final Map.Entry<Key<?, ?>, Object> entry : persistenceContext.entrySet()) {
       // type safety warning should go away when we have a real PersistenceContext implementation
       updateInBackend((Key<Object, ?>) entry.getKey(), entry.getValue());
     }
+    persistenceContext.takeDirtyKeys();
+  }
+
+  /**
+   * EXPERIMENTAL. Turns dirty tracking on or off for this entity manager. It
+   * is off by default.
+   * <p>
+   * Without dirty tracking, {@link #flush()} serializes every managed entity
+   * and compares it with its stored form, so its cost grows with the size of
+   * the persistence context. With dirty tracking, {@code flush()} only looks
+   * at entities that were reported as changed since the last flush: managed
+   * data binding proxies report changes made through their setters, and
+   * application code reports any other changes by calling
+   * {@link #markDirty(Object)}. Changes that are not reported are not written
+   * to the storage backend.
+   *
+   * @param dirtyTracking
+   *          true to only flush entities that have been marked dirty; false to
+   *          check every managed entity for changes.
+   */
+  public void setDirtyTracking(final boolean dirtyTracking) {
+    this.dirtyTracking = dirtyTracking;
+  }
+
+  /**
+   * Returns true if {@link #flush()} only writes entities that have been
+   * marked dirty. See {@link #setDirtyTracking(boolean)}.
+   */
+  public boolean isDirtyTracking() {
+    return dirtyTracking;
+  }
+
+  /**
+   * Records that the given managed entity has changed, so the next
+   * {@link #flush()} writes it to the storage backend even when dirty tracking
+   * is on.
+   *
+   * @param entity
+   *          The changed entity. Must be managed by this entity manager.
+   * @throws IllegalArgumentException
+   *           if the given entity is not managed by this entity manager.
+   */
+  public void markDirty(final Object entity) {
+    if (!contains(entity)) {
+      throw new IllegalArgumentException("Not a managed entity: " + entity);
+    }
+    persistenceContext.markDirty(keyFor(entity));
   }
 
   @Override
@@ -647,7 +753,7 @@ public class ErraiEntityManager implements EntityManager {
     if (entity == null) {
       entity = backend.get(key);
       if (entity != null) {
-        persistenceContext.put(key, entity);
+        manage(key, entity);
         ((ErraiIdentifiableType<X>) key.getEntityType()).deliverPostLoad(entity);
       }
     }
@@ -58,6 +58,7 @@ public abstract class ErraiManagedType<X> implements ManagedType<X> {
 
   protected final Class<X> javaType;
   private Collection<ErraiManagedType<X>> subtypes = new HashSet<ErraiManagedType<X>>();
+  private final Set<String> indexedAttributes = new HashSet<String>();
   
   private final Logger logger;
 
@@ -136,6 +137,24 @@ public abstract class ErraiManagedType<X> implements ManagedType<X> {
     subtypes.add((ErraiManagedType<X>) subtype);
   }
 
+  /**
+   * Returns the names of the basic attributes of this type that storage
+   * backends should maintain a secondary index for. These are declared as
+   * single-column indexes in the entity's {@code @Table} annotation.
+   *
+   * @return the names of the indexed attributes. Never null.
+   */
+  public Set<String> getIndexedAttributes() {
+    return Collections.unmodifiableSet(indexedAttributes);
+  }
+
+  /**
+   * Only intended for use by the generated code that bootstraps Errai JPA.
+   */
+  void addIndexedAttribute(String attributeName) {
+    indexedAttributes.add(Assert.notNull(attributeName));
+  }
+
   /**
    * Converts the given JSONValue, which represents an instance of this entity
    * type, into the actual instance of this entity type that exists in the given
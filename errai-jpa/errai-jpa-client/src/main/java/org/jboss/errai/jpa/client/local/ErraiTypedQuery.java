@@ -16,13 +16,20 @@
 
 package org.jboss.errai.jpa.client.local;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
@@ -34,8 +41,11 @@ import javax.persistence.TemporalType;
 import javax.persistence.TypedQuery;
 
 import org.jboss.errai.common.client.api.Assert;
+import org.jboss.errai.jpa.client.local.backend.IndexRange;
+import org.jboss.errai.jpa.client.local.backend.StoredEntity;
 
 import com.google.common.collect.ImmutableBiMap;
+import com.google.gwt.json.client.JSONObject;
 
 /**
  * Base implementation of the JPA TypedQuery interface for Errai. This class is
@@ -142,6 +152,33 @@ public abstract class ErraiTypedQuery<X> implements TypedQuery<X>, EntityJsonMat
    */
   protected abstract Comparator<X> getComparator();
 
+  /**
+   * Returns a comparator that implements the ORDER BY clause of this query on
+   * the stored JSON representations of result entities. Queries that provide
+   * one are ordered and paged before any entity is materialized.
+   * <p>
+   * This implementation returns null, which makes ordered queries fall back to
+   * sorting materialized entities with {@link #getComparator()}.
+   *
+   * @return A comparator for the ORDER BY order of this query on stored
+   *         entities, or null if this query has no ORDER BY clause or can't
+   *         provide one.
+   */
+  protected Comparator<JSONObject> getJsonComparator() {
+    return null;
+  }
+
+  /**
+   * Returns the conditions of this query's WHERE clause that a storage backend
+   * can answer from a secondary index. This implementation returns no
+   * conditions; generated queries override it when their WHERE clause compares
+   * an attribute with a parameter or a literal.
+   */
+  @Override
+  public IndexRange[] getIndexRanges() {
+    return new IndexRange[0];
+  }
+
   // ========= JPA API below this line
 
   @Override
@@ -227,16 +264,122 @@ public abstract class ErraiTypedQuery<X> implements TypedQuery<X>, EntityJsonMat
     throw new PersistenceException("Can't unwrap to " + cls);
   }
 
+  /**
+   * Returns the results on the page selected by {@link #setFirstResult(int)}
+   * and {@link #setMaxResults(int)}. Only the entities on that page are
+   * materialized; for ordered queries, a bounded heap keeps the first
+   * {@code firstResult + maxResults} matches while the rest are discarded.
+   */
   @Override
   public List<X> getResultList() {
-    List<X> results = em.findAll(em.getMetamodel().entity(resultType), this);
-    Comparator<X> cmp = getComparator();
-    if (cmp != null) {
+    final Comparator<JSONObject> jsonComparator = getJsonComparator();
+    final Comparator<X> cmp = getComparator();
+    if (jsonComparator == null && cmp != null) {
+      final List<X> results = em.findAll(em.getMetamodel().entity(resultType), this);
       Collections.sort(results, cmp);
+      final int from = Math.min(firstResult, results.size());
+      return new ArrayList<X>(results.subList(from, (int) Math.min((long) from + maxResults, results.size())));
+    }
+
+    final List<StoredEntity<X>> page = selectPage(jsonComparator);
+    final List<X> results = new ArrayList<X>(page.size());
+    for (final StoredEntity<X> row : page) {
+      results.add(materialize(row));
     }
     return results;
   }
 
+  /**
+   * Returns the results on the page selected by {@link #setFirstResult(int)}
+   * and {@link #setMaxResults(int)} as a stream. Entities are materialized as
+   * the stream is consumed, and for unordered queries, stored entities are only
+   * read and matched as far as the stream is consumed.
+   */
+  @Override
+  public Stream<X> getResultStream() {
+    final Comparator<JSONObject> jsonComparator = getJsonComparator();
+    if (jsonComparator == null && getComparator() != null) {
+      return getResultList().stream();
+    }
+
+    final Stream<StoredEntity<X>> page;
+    if (jsonComparator == null) {
+      final Iterator<StoredEntity<X>> matches = em.findAllStored(em.getMetamodel().entity(resultType), this);
+      page = StreamSupport.stream(Spliterators.spliteratorUnknownSize(matches, Spliterator.ORDERED), false)
+              .skip(firstResult)
+              .limit(maxResults);
+    }
+    else {
+      page = selectPage(jsonComparator).stream();
+    }
+    return page.map(row -> materialize(row));
+  }
+
+  /**
+   * Selects the stored entities on the current page, in order.
+   *
+   * @param jsonComparator
+   *          The ORDER BY order of this query, or null if it is unordered.
+   */
+  private List<StoredEntity<X>> selectPage(final Comparator<JSONObject> jsonComparator) {
+    final Iterator<StoredEntity<X>> matches = em.findAllStored(em.getMetamodel().entity(resultType), this);
+    final List<StoredEntity<X>> page = new ArrayList<StoredEntity<X>>();
+    if (maxResults <= 0) {
+      return page;
+    }
+
+    if (jsonComparator == null) {
+      int skipped = 0;
+      while (page.size() < maxResults && matches.hasNext()) {
+        final StoredEntity<X> row = matches.next();
+        if (skipped < firstResult) {
+          skipped++;
+        }
+        else {
+          page.add(row);
+        }
+      }
+      return page;
+    }
+
+    final Comparator<StoredEntity<X>> order = (a, b) -> jsonComparator.compare(a.getJson(), b.getJson());
+    final long limit = (long) firstResult + maxResults;
+    if (limit < Integer.MAX_VALUE) {
+      // top-k: the heap's head is the greatest of the k smallest rows seen so far
+      final int k = (int) limit;
+      final PriorityQueue<StoredEntity<X>> heap =
+              new PriorityQueue<StoredEntity<X>>(Math.min(k, 1024), Collections.reverseOrder(order));
+      while (matches.hasNext()) {
+        final StoredEntity<X> row = matches.next();
+        if (heap.size() < k) {
+          heap.add(row);
+        }
+        else if (order.compare(row, heap.peek()) < 0) {
+          heap.poll();
+          heap.add(row);
+        }
+      }
+      page.addAll(heap);
+    }
+    else {
+      while (matches.hasNext()) {
+        page.add(matches.next());
+      }
+    }
+
+    Collections.sort(page, order);
+    return new ArrayList<StoredEntity<X>>(page.subList(Math.min(firstResult, page.size()), page.size()));
+  }
+
+  /**
+   * Returns the managed entity for the given stored entity, which is the
+   * instance in the persistence context if there is one.
+   */
+  private X materialize(final StoredEntity<X> row) {
+    final Key<X, ?> key = row.getKey();
+    return em.find(key.getEntityType().getJavaType(), key.getId());
+  }
+
   @Override
   public X getSingleResult() {
     List<X> resultList = getResultList();
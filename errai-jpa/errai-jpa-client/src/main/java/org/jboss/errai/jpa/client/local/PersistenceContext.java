@@ -17,7 +17,10 @@
 package org.jboss.errai.jpa.client.local;
 
 import java.util.Collection;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,6 +41,12 @@ public class PersistenceContext {
    */
   private final Map<Key<?, ?>, Object> contents = new HashMap<Key<?, ?>, Object>();
 
+  /**
+   * Keys of the entities in this persistence context that have been reported
+   * as changed since they were last written to the storage backend.
+   */
+  private final Set<Key<?, ?>> dirtyKeys = new HashSet<Key<?, ?>>();
+
   /**
    * Creates a new PersistenceContext that can track entities represented within
    * the given metamodel.
@@ -96,6 +105,28 @@ public class PersistenceContext {
    */
   public void remove(Key<?, ?> key) {
     contents.remove(key);
+    dirtyKeys.remove(key);
+  }
+
+  /**
+   * Records that the entity having the given key has changed since it was last
+   * written to the storage backend.
+   *
+   * @param key
+   *          The key of the changed entity. Must not be null.
+   */
+  public void markDirty(Key<?, ?> key) {
+    dirtyKeys.add(Assert.notNull(key));
+  }
+
+  /**
+   * Returns the keys of all entities marked dirty since the last call to this
+   * method, and marks all entities clean.
+   */
+  public List<Key<?, ?>> takeDirtyKeys() {
+    List<Key<?, ?>> keys = new ArrayList<Key<?, ?>>(dirtyKeys);
+    dirtyKeys.clear();
+    return keys;
   }
 
   /**
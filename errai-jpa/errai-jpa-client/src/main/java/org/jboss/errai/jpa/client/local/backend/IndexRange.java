@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2011 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.jpa.client.local.backend;
+
+import org.jboss.errai.common.client.api.Assert;
+
+/**
+ * A predicate on a single entity attribute that a storage backend can answer
+ * from a secondary index instead of visiting every stored entity. Bounds are
+ * compared using the same {@link Comparisons} methods as the generated query
+ * matchers, so the entities selected through an index are always a superset of
+ * the ones the matcher accepts.
+ */
+public class IndexRange {
+
+  private final String attributeName;
+  private final Class<?> valueType;
+  private final boolean bounded;
+  private final Object lower;
+  private final boolean lowerInclusive;
+  private final boolean hasLower;
+  private final Object upper;
+  private final boolean upperInclusive;
+  private final boolean hasUpper;
+
+  private IndexRange(String attributeName, Class<?> valueType, boolean bounded,
+          boolean hasLower, Object lower, boolean lowerInclusive,
+          boolean hasUpper, Object upper, boolean upperInclusive) {
+    this.attributeName = Assert.notNull(attributeName);
+    this.valueType = Assert.notNull(valueType);
+    this.bounded = bounded;
+    this.hasLower = hasLower;
+    this.lower = lower;
+    this.lowerInclusive = lowerInclusive;
+    this.hasUpper = hasUpper;
+    this.upper = upper;
+    this.upperInclusive = upperInclusive;
+  }
+
+  /**
+   * Creates a range that accepts attribute values equal to the given one.
+   *
+   * @param attributeName
+   *          The name of the entity attribute. Not null.
+   * @param valueType
+   *          The type attribute values are converted to before they are
+   *          compared. Not null.
+   * @param value
+   *          The value to compare with. If null, the range accepts nothing.
+   */
+  public static IndexRange equalTo(String attributeName, Class<?> valueType, Object value) {
+    return new IndexRange(attributeName, valueType, false, true, value, true, true, value, true);
+  }
+
+  public static IndexRange greaterThan(String attributeName, Class<?> valueType, Object value) {
+    return new IndexRange(attributeName, valueType, true, true, value, false, false, null, false);
+  }
+
+  public static IndexRange greaterThanOrEqualTo(String attributeName, Class<?> valueType, Object value) {
+    return new IndexRange(attributeName, valueType, true, true, value, true, false, null, false);
+  }
+
+  public static IndexRange lessThan(String attributeName, Class<?> valueType, Object value) {
+    return new IndexRange(attributeName, valueType, true, false, null, false, true, value, false);
+  }
+
+  public static IndexRange lessThanOrEqualTo(String attributeName, Class<?> valueType, Object value) {
+    return new IndexRange(attributeName, valueType, true, false, null, false, true, value, true);
+  }
+
+  public static IndexRange between(String attributeName, Class<?> valueType, Object lower, Object upper) {
+    return new IndexRange(attributeName, valueType, true, true, lower, true, true, upper, true);
+  }
+
+  /**
+   * Returns the name of the entity attribute this range applies to.
+   */
+  public String getAttributeName() {
+    return attributeName;
+  }
+
+  /**
+   * Returns the type that indexed JSON values must be converted to (using
+   * {@link org.jboss.errai.jpa.client.local.JsonUtil#basicValueFromJson}) before
+   * they are passed to {@link #contains(Object)}.
+   */
+  public Class<?> getValueType() {
+    return valueType;
+  }
+
+  /**
+   * Returns true if this range only accepts values equal to
+   * {@link #getValue()}.
+   */
+  public boolean isEquality() {
+    return !bounded;
+  }
+
+  /**
+   * Returns the value an equality range accepts. Only meaningful if
+   * {@link #isEquality()} returns true.
+   */
+  public Object getValue() {
+    return lower;
+  }
+
+  /**
+   * Tests if the given attribute value lies within this range. As in JPQL, a
+   * null value (or a null bound) never matches.
+   *
+   * @param value
+   *          The attribute value, converted to {@link #getValueType()}.
+   * @return true if the value satisfies every bound of this range.
+   */
+  public boolean contains(Object value) {
+    if (!bounded) {
+      return Comparisons.nullSafeEquals(value, lower);
+    }
+    if (hasLower) {
+      boolean ok = lowerInclusive
+              ? Comparisons.nullSafeGreaterThanOrEqualTo(value, lower)
+              : Comparisons.nullSafeGreaterThan(value, lower);
+      if (!ok) return false;
+    }
+    if (hasUpper) {
+      boolean ok = upperInclusive
+              ? Comparisons.nullSafeLessThanOrEqualTo(value, upper)
+              : Comparisons.nullSafeLessThan(value, upper);
+      if (!ok) return false;
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "IndexRange [" + attributeName + (bounded
+            ? (hasLower ? (lowerInclusive ? " >= " : " > ") + lower : "")
+              + (hasUpper ? (upperInclusive ? " <= " : " < ") + upper : "")
+            : " = " + lower) + "]";
+  }
+}
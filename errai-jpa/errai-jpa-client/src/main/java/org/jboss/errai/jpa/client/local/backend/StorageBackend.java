@@ -16,6 +16,7 @@
 
 package org.jboss.errai.jpa.client.local.backend;
 
+import java.util.Iterator;
 import java.util.List;
 
 import org.jboss.errai.jpa.client.local.EntityJsonMatcher;
@@ -84,6 +85,21 @@ public interface StorageBackend {
    */
   <X> List<X> getAll(ErraiIdentifiableType<X> type, EntityJsonMatcher matcher);
 
+  /**
+   * Returns the stored form of all entities of the given type (and its
+   * subtypes) whose JSON representations are accepted by the given matcher.
+   * Unlike {@link #getAll(ErraiIdentifiableType, EntityJsonMatcher)}, the
+   * matches are not resolved into entities, and candidates are only read and
+   * tested as the returned iterator advances.
+   *
+   * @param type
+   *          The type of entities to retrieve
+   * @param matcher
+   *          The matcher that decides which entity instances will be retrieved.
+   * @return an iterator over all matching entities of the given type.
+   */
+  <X> Iterator<StoredEntity<X>> getAllStored(ErraiIdentifiableType<X> type, EntityJsonMatcher matcher);
+
   /**
    * Tests if this backend contains data for the given key. As with
    * {@link #get(Key)}, subtypes are taken into account. If this backend
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2011 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.jpa.client.local.backend;
+
+import org.jboss.errai.common.client.api.Assert;
+import org.jboss.errai.jpa.client.local.ErraiEntityManager;
+import org.jboss.errai.jpa.client.local.Key;
+
+import com.google.gwt.json.client.JSONObject;
+
+/**
+ * An entity as it is held by a storage backend: its key and its JSON
+ * representation. Queries use these to order and page through their matches
+ * before turning the ones they return into managed entities.
+ *
+ * @param <X>
+ *          The entity's Java type
+ */
+public class StoredEntity<X> {
+
+  private final ErraiEntityManager em;
+  private final String keyJson;
+  private final JSONObject json;
+  private Key<X, ?> key;
+
+  /**
+   * @param em
+   *          The entity manager used for resolving the entity type of the key.
+   *          Must not be null.
+   * @param keyJson
+   *          The JSON representation of the entity's key, as returned by
+   *          {@link Key#toJson()}. Must not be null.
+   * @param json
+   *          The JSON representation of the entity. Must not be null.
+   */
+  public StoredEntity(ErraiEntityManager em, String keyJson, JSONObject json) {
+    this.em = Assert.notNull(em);
+    this.keyJson = Assert.notNull(keyJson);
+    this.json = Assert.notNull(json);
+  }
+
+  /**
+   * Returns the key of the stored entity. It is parsed on first use.
+   */
+  @SuppressWarnings("unchecked")
+  public Key<X, ?> getKey() {
+    if (key == null) {
+      key = (Key<X, ?>) Key.fromJson(em, keyJson, true);
+    }
+    return key;
+  }
+
+  /**
+   * Returns the JSON representation of the entity as it was read from storage.
+   */
+  public JSONObject getJson() {
+    return json;
+  }
+
+  @Override
+  public String toString() {
+    return "StoredEntity [key=" + keyJson + ", json=" + json + "]";
+  }
+}
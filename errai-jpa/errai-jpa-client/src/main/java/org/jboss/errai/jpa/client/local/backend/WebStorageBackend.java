@@ -17,7 +17,16 @@
 package org.jboss.errai.jpa.client.local.backend;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 import org.jboss.errai.common.client.api.Assert;
 import org.jboss.errai.jpa.client.local.EntityJsonMatcher;
@@ -29,6 +38,7 @@ import org.jboss.errai.jpa.client.local.Key;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gwt.json.client.JSONBoolean;
 import com.google.gwt.json.client.JSONObject;
 import com.google.gwt.json.client.JSONParser;
 import com.google.gwt.json.client.JSONValue;
@@ -43,6 +53,16 @@ import com.google.gwt.json.client.JSONValue;
  * <i>A</i> and <i>B</i> (<i>A</i> != <i>B</i>), the storage backend for
  * namespace <i>A</i> will never see, modify, or otherwise or interfere with
  * anything stored in the storage backend for namespace <i>B</i>.
+ * <p>
+ * Next to the entities themselves, each namespace holds a key manifest per
+ * entity type, and a secondary index per indexed attribute (see
+ * {@link ErraiManagedType#getIndexedAttributes()}). Both are maintained by
+ * {@link #put(Key, Object)} and {@link #remove(Key)}, so {@link #getAll} only
+ * reads and parses entities of the requested types. Manifests and index
+ * entries are split into {@value #BUCKETS} buckets by a hash of the entity key,
+ * so that a write only rewrites a small part of them. The manifest and indexes
+ * of an entity type are rebuilt from a full scan of the storage the first time
+ * the type is used without them, or with a different set of indexed attributes.
  *
  * @author Jonathan Fuerth <jfuerth@gmail.com>
  */
@@ -55,11 +75,28 @@ public class WebStorageBackend implements StorageBackend {
     }
   };
 
+  /**
+   * Prefix (after the namespace) of the manifest and index entries. Entity
+   * keys always start with a '{', so these never parse as entity keys.
+   */
+  private static final String META_PREFIX = "~errai-jpa:";
+
+  /**
+   * The number of buckets each manifest and index entry is split into.
+   */
+  private static final int BUCKETS = 16;
+
   private final ErraiEntityManager em;
   private final String namespace;
   
   private final Logger logger;
 
+  /**
+   * The names of the entity types whose manifest and indexes are known to be
+   * up to date in this namespace.
+   */
+  private final Set<String> readyTypes = new HashSet<String>();
+
   /**
    * Creates a WebStorageBackend that works with entities in the default storage
    * namespace.
@@ -93,11 +130,12 @@ public class WebStorageBackend implements StorageBackend {
 
     // this is done in two phases because it would be bad to modify the key set while iterating over it
     final List<String> toRemove = new ArrayList<String>();
+    final String metaPrefix = namespace + META_PREFIX;
 
     LocalStorage.forEachKey(new EntryVisitor() {
       @Override
       public void visit(String key, String value) {
-        if (parseNamespacedKey(em, key, false) != null) {
+        if (key.startsWith(metaPrefix) || parseNamespacedKey(em, key, false) != null) {
           toRemove.add(key);
         }
       }
@@ -106,14 +144,25 @@ public class WebStorageBackend implements StorageBackend {
     for (String key : toRemove) {
       LocalStorage.remove(key);
     }
+    readyTypes.clear();
   }
 
   @Override
   public <X> void put(Key<X,?> key, X value) {
     ErraiManagedType<X> entityType = key.getEntityType();
-    String keyJson = namespace + key.toJson();
+    ensureManifest(entityType);
+    String entityKey = key.toJson();
+    String keyJson = namespace + entityKey;
     JSONValue valueJson = entityType.toJson(em, value);
+    String oldValue = LocalStorage.get(keyJson);
     logger.trace(">>>put '" + keyJson + "'");
+    if (oldValue == null) {
+      updateManifest(entityType, entityKey, true);
+    }
+    if (!entityType.getIndexedAttributes().isEmpty()) {
+      JSONObject oldJson = oldValue == null ? null : JSONParser.parseStrict(oldValue).isObject();
+      updateIndexes(entityType, entityKey, oldJson, valueJson.isObject());
+    }
     LocalStorage.put(keyJson, valueJson.toString());
   }
 
@@ -136,39 +185,70 @@ public class WebStorageBackend implements StorageBackend {
 
   @Override
   public <X> List<X> getAll(final ErraiIdentifiableType<X> type, final EntityJsonMatcher matcher) {
-    // TODO index entries by entity type
-
     final List<X> entities = new ArrayList<X>();
-    LocalStorage.forEachKey(new EntryVisitor() {
+    final Iterator<StoredEntity<X>> matches = getAllStored(type, matcher);
+    while (matches.hasNext()) {
+      Key<X, ?> key = matches.next().getKey();
+
+      // Unfortunately, this throws away the JSON value we've just parsed,
+      // but we have to go back to the entity manager in case the thing we
+      // want is in the persistence context.
+      entities.add(em.find(key.getEntityType().getJavaType(), key.getId()));
+    }
+    return entities;
+  }
+
+  @Override
+  public <X> Iterator<StoredEntity<X>> getAllStored(final ErraiIdentifiableType<X> type, final EntityJsonMatcher matcher) {
+    final Iterator<ErraiManagedType<X>> entityTypes = type.getSubtypes().iterator();
+    return new Iterator<StoredEntity<X>>() {
+      private Iterator<String> candidates = Collections.<String>emptyList().iterator();
+      private StoredEntity<X> next;
+
       @Override
-      public void visit(String key, String value) {
-        Key<?, ?> k = parseNamespacedKey(em, key, false);
-        if (k == null) return;
-        logger.trace("getAll(): considering " + value);
-        if (type.isSuperclassOf(k.getEntityType())) {
-          logger.trace(" --> correct type");
-          JSONObject candidate = JSONParser.parseStrict(value).isObject();
-          Assert.notNull(candidate);
-          if (matcher.matches(candidate)) {
-            @SuppressWarnings("unchecked")
-            Key<X, ?> typedKey = (Key<X, ?>) k;
-
-            // Unfortunately, this throws away a lot of work we've already done (getting the entity type,
-            // creating the key, doing a backend.get(), parsing the JSON value, ...)
-            // it would be nice to avoid this, but we have to go back to the entity manager in case the
-            // thing we want is in the persistence context.
-            entities.add((X) em.find(k.getEntityType().getJavaType(), typedKey.getId()));
+      public boolean hasNext() {
+        while (next == null) {
+          if (candidates.hasNext()) {
+            String entityKey = candidates.next();
+            String value = LocalStorage.get(namespace + entityKey);
+            if (value == null) continue;
+            logger.trace("getAll(): considering " + value);
+            JSONObject candidate = JSONParser.parseStrict(value).isObject();
+            Assert.notNull(candidate);
+            if (matcher.matches(candidate)) {
+              next = new StoredEntity<X>(em, entityKey, candidate);
+            }
+            else {
+              logger.trace(" --> but not a match");
+            }
+          }
+          else if (entityTypes.hasNext()) {
+            ErraiManagedType<X> entityType = entityTypes.next();
+            ensureManifest(entityType);
+            candidates = candidateKeys(entityType, matcher).iterator();
           }
           else {
-            logger.trace(" --> but not a match");
+            return false;
           }
         }
-        else {
-          logger.trace(" --> wrong type");
+        return true;
+      }
+
+      @Override
+      public StoredEntity<X> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
         }
+        StoredEntity<X> result = next;
+        next = null;
+        return result;
       }
-    });
-    return entities;
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
   }
 
   @Override
@@ -186,7 +266,17 @@ public class WebStorageBackend implements StorageBackend {
 
   @Override
   public <X> void remove(Key<X, ?> key) {
-    String keyJson = namespace + key.toJson();
+    ErraiManagedType<X> entityType = key.getEntityType();
+    ensureManifest(entityType);
+    String entityKey = key.toJson();
+    String keyJson = namespace + entityKey;
+    String oldValue = LocalStorage.get(keyJson);
+    if (oldValue != null) {
+      updateManifest(entityType, entityKey, false);
+      if (!entityType.getIndexedAttributes().isEmpty()) {
+        updateIndexes(entityType, entityKey, JSONParser.parseStrict(oldValue).isObject(), null);
+      }
+    }
     LocalStorage.remove(keyJson);
   }
 
@@ -211,4 +301,256 @@ public class WebStorageBackend implements StorageBackend {
     if (key.charAt(0) != '{') return null;
     return Key.fromJson(em, key, failIfNotFound);
   }
+
+  /**
+   * Returns the keys (without namespace) of the entities of exactly the given
+   * type that may be accepted by the given matcher. If the matcher implies a
+   * condition on an indexed attribute, only the keys in the matching index
+   * entries are returned; otherwise, all keys in the type's manifest are.
+   */
+  private Collection<String> candidateKeys(ErraiManagedType<?> entityType, EntityJsonMatcher matcher) {
+    for (IndexRange range : matcher.getIndexRanges()) {
+      String attributeName = range.getAttributeName();
+      if (entityType.getIndexedAttributes().contains(attributeName)) {
+        logger.trace("getAll(): using index for " + range);
+        Set<String> keys = new LinkedHashSet<String>();
+        String equalValue = equalityValue(range);
+        if (equalValue != null) {
+          for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            keys.addAll(readObject(indexKey(entityType, attributeName, equalValue, bucket)).keySet());
+          }
+          return keys;
+        }
+
+        JSONObject values = readObject(valuesKey(entityType, attributeName));
+        for (String indexedValue : values.keySet()) {
+          Object value = JsonUtil.basicValueFromJson(JSONParser.parseStrict(indexedValue), range.getValueType());
+          if (range.contains(value)) {
+            for (String bucket : values.get(indexedValue).isObject().keySet()) {
+              keys.addAll(readObject(indexKey(entityType, attributeName, indexedValue, Integer.parseInt(bucket))).keySet());
+            }
+          }
+        }
+        return keys;
+      }
+    }
+
+    Set<String> keys = new LinkedHashSet<String>();
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      keys.addAll(readObject(manifestKey(entityType, bucket)).keySet());
+    }
+    return keys;
+  }
+
+  /**
+   * Returns the JSON text of the value an equality range accepts, which is the
+   * key of its index entries, or null if the range is not an equality or its
+   * value is not of the attribute's type (in which case the stored values
+   * have to be compared one by one).
+   */
+  private static String equalityValue(IndexRange range) {
+    if (!range.isEquality() || range.getValue() == null) return null;
+    if (boxed(range.getValueType()) != range.getValue().getClass()) return null;
+    return JsonUtil.basicValueToJson(range.getValue()).toString();
+  }
+
+  private static Class<?> boxed(Class<?> type) {
+    if (type == boolean.class) return Boolean.class;
+    if (type == byte.class) return Byte.class;
+    if (type == char.class) return Character.class;
+    if (type == short.class) return Short.class;
+    if (type == int.class) return Integer.class;
+    if (type == long.class) return Long.class;
+    if (type == float.class) return Float.class;
+    if (type == double.class) return Double.class;
+    return type;
+  }
+
+  /**
+   * Adds the given entity key to, or removes it from, the manifest of its type.
+   */
+  private void updateManifest(ErraiManagedType<?> entityType, String entityKey, boolean add) {
+    String manifestKey = manifestKey(entityType, bucket(entityKey));
+    JSONObject manifest = readObject(manifestKey);
+    manifest.put(entityKey, add ? JSONBoolean.getInstance(true) : null);
+    writeObject(manifestKey, manifest);
+  }
+
+  /**
+   * Moves the given entity key between index entries of each indexed attribute
+   * whose value differs between the old and new JSON representations of the
+   * entity. Either representation may be null (for a new or removed entity).
+   */
+  private void updateIndexes(ErraiManagedType<?> entityType, String entityKey, JSONObject oldJson, JSONObject newJson) {
+    int bucket = bucket(entityKey);
+    for (String attributeName : entityType.getIndexedAttributes()) {
+      String oldValue = oldJson == null ? null : indexedValue(oldJson, attributeName);
+      String newValue = newJson == null ? null : indexedValue(newJson, attributeName);
+      if (oldValue == null ? newValue == null : oldValue.equals(newValue)) continue;
+
+      if (oldValue != null) {
+        String indexKey = indexKey(entityType, attributeName, oldValue, bucket);
+        JSONObject keys = readObject(indexKey);
+        keys.put(entityKey, null);
+        writeObject(indexKey, keys);
+        if (keys.size() == 0) {
+          updateValues(entityType, attributeName, oldValue, bucket, false);
+        }
+      }
+      if (newValue != null) {
+        String indexKey = indexKey(entityType, attributeName, newValue, bucket);
+        JSONObject keys = readObject(indexKey);
+        keys.put(entityKey, JSONBoolean.getInstance(true));
+        writeObject(indexKey, keys);
+        if (keys.size() == 1) {
+          updateValues(entityType, attributeName, newValue, bucket, true);
+        }
+      }
+    }
+  }
+
+  /**
+   * Records that the index entry of the given attribute value in the given
+   * bucket has become non-empty, or empty. The list of values is only needed
+   * to answer range conditions, and only changes when an entry appears or
+   * disappears.
+   */
+  private void updateValues(ErraiManagedType<?> entityType, String attributeName, String indexedValue, int bucket, boolean add) {
+    String valuesKey = valuesKey(entityType, attributeName);
+    JSONObject values = readObject(valuesKey);
+    JSONValue buckets = values.get(indexedValue);
+    JSONObject bucketSet = buckets == null ? new JSONObject() : buckets.isObject();
+    bucketSet.put(String.valueOf(bucket), add ? JSONBoolean.getInstance(true) : null);
+    values.put(indexedValue, bucketSet.size() == 0 ? null : bucketSet);
+    writeObject(valuesKey, values);
+  }
+
+  /**
+   * Rebuilds the manifest and indexes of the given entity type from a full scan
+   * of the storage, unless they have already been built for its current set of
+   * indexed attributes.
+   */
+  private void ensureManifest(final ErraiManagedType<?> entityType) {
+    final String typeName = entityType.getJavaType().getName();
+    if (readyTypes.contains(typeName)) return;
+
+    final String readyKey = namespace + META_PREFIX + "ready:" + typeName;
+    final String fingerprint = fingerprint(entityType);
+    if (fingerprint.equals(LocalStorage.get(readyKey))) {
+      readyTypes.add(typeName);
+      return;
+    }
+
+    logger.debug("Building entity manifest for " + typeName + " in namespace '" + namespace + "'");
+    final String typePrefix = namespace + META_PREFIX + "keys:" + typeName + ":";
+    final String indexPrefix = namespace + META_PREFIX + "index:" + typeName + ":";
+    final String valuesPrefix = namespace + META_PREFIX + "values:" + typeName + ":";
+    // left behind by versions that did not split manifests into buckets
+    final String unbucketedManifestKey = namespace + META_PREFIX + "keys:" + typeName;
+    final List<String> stale = new ArrayList<String>();
+    final Map<String, JSONObject> entries = new HashMap<String, JSONObject>();
+    LocalStorage.forEachKey(new EntryVisitor() {
+      @Override
+      public void visit(String key, String value) {
+        if (key.startsWith(typePrefix) || key.startsWith(indexPrefix) || key.startsWith(valuesPrefix)
+                || key.equals(unbucketedManifestKey)) {
+          stale.add(key);
+          return;
+        }
+        Key<?, ?> k = parseNamespacedKey(em, key, false);
+        if (k == null || !k.getEntityType().getJavaType().getName().equals(typeName)) return;
+        String entityKey = key.substring(namespace.length());
+        int bucket = bucket(entityKey);
+        entry(entries, manifestKey(entityType, bucket)).put(entityKey, JSONBoolean.getInstance(true));
+
+        if (!entityType.getIndexedAttributes().isEmpty()) {
+          JSONObject entity = JSONParser.parseStrict(value).isObject();
+          for (String attributeName : entityType.getIndexedAttributes()) {
+            String indexedValue = indexedValue(entity, attributeName);
+            entry(entries, indexKey(entityType, attributeName, indexedValue, bucket)).put(entityKey, JSONBoolean.getInstance(true));
+            JSONObject values = entry(entries, valuesKey(entityType, attributeName));
+            JSONValue buckets = values.get(indexedValue);
+            JSONObject bucketSet = buckets == null ? new JSONObject() : buckets.isObject();
+            bucketSet.put(String.valueOf(bucket), JSONBoolean.getInstance(true));
+            values.put(indexedValue, bucketSet);
+          }
+        }
+      }
+    });
+
+    for (String key : stale) {
+      LocalStorage.remove(key);
+    }
+    for (Map.Entry<String, JSONObject> entry : entries.entrySet()) {
+      LocalStorage.put(entry.getKey(), entry.getValue().toString());
+    }
+    LocalStorage.put(readyKey, fingerprint);
+    readyTypes.add(typeName);
+  }
+
+  /**
+   * Identifies the layout of the manifest and indexes of the given type, so a
+   * change in its indexed attributes causes them to be rebuilt.
+   */
+  private static String fingerprint(ErraiManagedType<?> entityType) {
+    List<String> attributes = new ArrayList<String>(entityType.getIndexedAttributes());
+    Collections.sort(attributes);
+    StringBuilder sb = new StringBuilder("v2");
+    for (String attributeName : attributes) {
+      sb.append(',').append(attributeName);
+    }
+    return sb.toString();
+  }
+
+  private static int bucket(String entityKey) {
+    return (entityKey.hashCode() & 0x7fffffff) % BUCKETS;
+  }
+
+  private String manifestKey(ErraiManagedType<?> entityType, int bucket) {
+    return namespace + META_PREFIX + "keys:" + entityType.getJavaType().getName() + ":" + bucket;
+  }
+
+  private String valuesKey(ErraiManagedType<?> entityType, String attributeName) {
+    return namespace + META_PREFIX + "values:" + entityType.getJavaType().getName() + ":" + attributeName;
+  }
+
+  private String indexKey(ErraiManagedType<?> entityType, String attributeName, String indexedValue, int bucket) {
+    return namespace + META_PREFIX + "index:" + entityType.getJavaType().getName() + ":" + attributeName + ":"
+            + bucket + ":" + indexedValue;
+  }
+
+  private static JSONObject entry(Map<String, JSONObject> entries, String storageKey) {
+    JSONObject entry = entries.get(storageKey);
+    if (entry == null) {
+      entry = new JSONObject();
+      entries.put(storageKey, entry);
+    }
+    return entry;
+  }
+
+  private static JSONObject readObject(String storageKey) {
+    String json = LocalStorage.get(storageKey);
+    return json == null ? new JSONObject() : JSONParser.parseStrict(json).isObject();
+  }
+
+  /**
+   * Stores the given object, or removes the entry if the object is empty.
+   */
+  private static void writeObject(String storageKey, JSONObject object) {
+    if (object.size() == 0) {
+      LocalStorage.remove(storageKey);
+    }
+    else {
+      LocalStorage.put(storageKey, object.toString());
+    }
+  }
+
+  /**
+   * Returns the JSON text of the given attribute's value, which is how index
+   * entries are keyed.
+   */
+  private static String indexedValue(JSONObject entity, String attributeName) {
+    JSONValue value = entity.get(attributeName);
+    return value == null ? "null" : value.toString();
+  }
 }
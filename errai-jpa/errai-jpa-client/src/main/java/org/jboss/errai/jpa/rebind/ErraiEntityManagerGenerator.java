@@ -337,6 +337,10 @@ public class ErraiEntityManagerGenerator extends AbstractAsyncGenerator {
           EntityType.class, ManagedType.class, Type.class);
       cmm.append(Stmt.loadVariable("entityType").invoke("addAttribute", attribSnapshot));
     }
+
+    for (String indexedAttribute : indexedAttributes(et)) {
+      cmm.append(Stmt.loadVariable("entityType").invoke("addIndexedAttribute", indexedAttribute));
+    }
     
     cmm.append(Stmt.loadVariable("entityType").returnValue());
     cmm.finish();
@@ -346,6 +350,43 @@ public class ErraiEntityManagerGenerator extends AbstractAsyncGenerator {
     return entityTypeVarName;
   }
 
+  /**
+   * Returns the names of the attributes that are declared as single-column
+   * indexes in the {@code @Table} annotation of the given entity type. Indexes
+   * over several columns are ignored, since the client-side storage backends
+   * only index single attributes.
+   */
+  private static List<String> indexedAttributes(final EntityType<?> et) {
+    final List<String> attributeNames = new ArrayList<String>();
+    final Table table = et.getJavaType().getAnnotation(Table.class);
+    if (table == null) {
+      return attributeNames;
+    }
+
+    for (final Index index : table.indexes()) {
+      final String columnList = index.columnList().trim();
+      if (columnList.contains(",")) {
+        continue;
+      }
+
+      // the column may be followed by ASC or DESC, which doesn't matter to us
+      final String attributeName = columnList.split("\\s+")[0];
+      final Attribute<?, ?> attribute;
+      try {
+        attribute = et.getAttribute(attributeName);
+      } catch (IllegalArgumentException e) {
+        throw new GenerationException("Index on " + et.getJavaType().getName() + " refers to unknown attribute \""
+            + attributeName + "\"", e);
+      }
+      if (attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC || attribute.isCollection()) {
+        throw new GenerationException("Index on " + et.getJavaType().getName() + " refers to attribute \""
+            + attributeName + "\", but only basic attributes can be indexed");
+      }
+      attributeNames.add(attributeName);
+    }
+    return attributeNames;
+  }
+
   /**
    * Generates the event delivery methods for the given JPA Entity type.
    *
@@ -73,6 +73,7 @@ import org.jboss.errai.jpa.client.local.JsonUtil;
 import org.jboss.errai.jpa.client.local.Key;
 import org.jboss.errai.jpa.client.local.TypedQueryFactory;
 import org.jboss.errai.jpa.client.local.backend.Comparisons;
+import org.jboss.errai.jpa.client.local.backend.IndexRange;
 import org.mvel2.MVEL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -146,14 +147,16 @@ public class TypedQueryFactoryGenerator {
     // anonQueryClassBuilder comes out as a statement that looks like this:
     // new ErraiTypedQuery(entityManager, actualResultType, parameters) {
     //   public void matches(JSONObject object) { ... }
-    //   public void sort(List<T> resultList) { ... }
+    //   protected Comparator getComparator() { ... }
+    //   protected Comparator getJsonComparator() { ... }
     // }
     AnonymousClassStructureBuilder anonQueryClassBuilder = ObjectBuilder.newInstanceOf(ErraiTypedQuery.class, context).extend(
             Stmt.loadVariable("entityManager"),
             Stmt.loadVariable("actualResultType"),
             Stmt.loadVariable("parameters"));
     appendMatchesMethod(anonQueryClassBuilder);
-    appendComparatorMethod(anonQueryClassBuilder, context);
+    appendComparatorMethods(anonQueryClassBuilder, context);
+    appendIndexRangesMethod(anonQueryClassBuilder);
 
     AnonymousClassStructureBuilder factoryBuilder = ObjectBuilder.newInstanceOf(TypedQueryFactory.class, context).extend(
             Stmt.loadLiteral(resultType),
@@ -229,78 +232,253 @@ public class TypedQueryFactoryGenerator {
   }
 
   /**
-   * Adds the {@code getComparator()} method to the given class builder.
+   * Adds the public override method {@code getIndexRanges()} to the given class
+   * builder, if the WHERE clause of the query compares attributes of the result
+   * type with parameters or literals in conditions that every result must
+   * satisfy (that is, conditions that are not nested in an OR or a NOT).
+   * Otherwise, the class inherits the default, which returns no ranges.
    *
    * @param classBuilder
-   *          The class builder to add the method to. Should be a builder for a
+   *          The class builder to append the method to. Should be a builder for
+   *          a subclass of ErraiTypedQuery.
+   */
+  private void appendIndexRangesMethod(AnonymousClassStructureBuilder classBuilder) {
+    AstInorderTraversal traverser = new AstInorderTraversal(query.getSqlAST().getWalker().getAST());
+    AST whereClause = traverser.fastForwardTo(HqlSqlTokenTypes.WHERE);
+    if (whereClause == null) {
+      return;
+    }
+
+    List<Statement> ranges = new ArrayList<Statement>();
+    collectIndexRanges(whereClause.getFirstChild(), ranges);
+    if (ranges.isEmpty()) {
+      return;
+    }
+
+    classBuilder.publicOverridesMethod("getIndexRanges")
+      .append(Stmt.nestedCall(Stmt.newArray(IndexRange.class).initialize(ranges.toArray())).returnValue())
+      .finish();
+  }
+
+  /**
+   * Appends a statement that creates an {@link IndexRange} to {@code ranges}
+   * for each comparison in the given condition that can be answered from an
+   * index. Descends into AND nodes only.
+   */
+  private void collectIndexRanges(AST condition, List<Statement> ranges) {
+    switch (condition.getType()) {
+    case HqlSqlTokenTypes.AND:
+      for (AST child = condition.getFirstChild(); child != null; child = child.getNextSibling()) {
+        collectIndexRanges(child, ranges);
+      }
+      break;
+
+    case HqlSqlTokenTypes.EQ:
+    case HqlSqlTokenTypes.GT:
+    case HqlSqlTokenTypes.GE:
+    case HqlSqlTokenTypes.LT:
+    case HqlSqlTokenTypes.LE: {
+      AST lhs = condition.getFirstChild();
+      AST rhs = lhs.getNextSibling();
+      if (isIndexableAttribute(lhs) && isIndexableValue(rhs)) {
+        ranges.add(generateIndexRange(indexRangeFactoryMethod(condition.getType(), false), (DotNode) lhs, rhs));
+      }
+      else if (isIndexableAttribute(rhs) && isIndexableValue(lhs)) {
+        ranges.add(generateIndexRange(indexRangeFactoryMethod(condition.getType(), true), (DotNode) rhs, lhs));
+      }
+      break;
+    }
+
+    case HqlSqlTokenTypes.BETWEEN: {
+      AST middle = condition.getFirstChild();
+      AST small = middle.getNextSibling();
+      AST big = small.getNextSibling();
+      if (isIndexableAttribute(middle) && isIndexableValue(small) && isIndexableValue(big)) {
+        ranges.add(generateIndexRange("between", (DotNode) middle, small, big));
+      }
+      break;
+    }
+    }
+  }
+
+  /**
+   * Returns the name of the IndexRange factory method for the given comparison
+   * operator, for an attribute on its left hand side (or its right hand side,
+   * if {@code flipped} is true).
+   */
+  private static String indexRangeFactoryMethod(int comparisonType, boolean flipped) {
+    switch (comparisonType) {
+    case HqlSqlTokenTypes.EQ:
+      return "equalTo";
+    case HqlSqlTokenTypes.GT:
+      return flipped ? "lessThan" : "greaterThan";
+    case HqlSqlTokenTypes.GE:
+      return flipped ? "lessThanOrEqualTo" : "greaterThanOrEqualTo";
+    case HqlSqlTokenTypes.LT:
+      return flipped ? "greaterThan" : "lessThan";
+    case HqlSqlTokenTypes.LE:
+      return flipped ? "greaterThanOrEqualTo" : "lessThanOrEqualTo";
+    default:
+      throw new UnexpectedTokenException(comparisonType, "a comparison operator");
+    }
+  }
+
+  private Statement generateIndexRange(String factoryMethod, DotNode attribute, AST... values) {
+    Object[] args = new Object[values.length + 2];
+    args[0] = attribute.getPropertyPath();
+    args[1] = Stmt.loadLiteral(comparisonType(attribute.getDataType().getReturnedClass()));
+    for (int i = 0; i < values.length; i++) {
+      // parameters and literals never append anything to the containing method
+      args[i + 2] = Cast.to(Object.class, generateExpression(new AstInorderTraversal(values[i]), new JsonDotNodeResolver(), null));
+    }
+    return Stmt.invokeStatic(IndexRange.class, factoryMethod, args);
+  }
+
+  /**
+   * Returns true if the given node refers to a basic attribute of the query's
+   * result type, as opposed to an attribute of a related entity.
+   */
+  private boolean isIndexableAttribute(AST node) {
+    if (node.getType() != HqlSqlTokenTypes.DOT) {
+      return false;
+    }
+    DotNode dotNode = (DotNode) node;
+    Type dataType = dotNode.getDataType();
+    return dataType != null
+            && !dataType.isComponentType() && !dataType.isEntityType() && !dataType.isCollectionType()
+            && dotNode.getPropertyPath().indexOf('.') == -1
+            && dotNode.getLhs().getDataType().getReturnedClass().isAssignableFrom(resultType);
+  }
+
+  private static boolean isIndexableValue(AST node) {
+    switch (node.getType()) {
+    case HqlSqlTokenTypes.NAMED_PARAM:
+    case HqlSqlTokenTypes.QUOTED_STRING:
+    case HqlSqlTokenTypes.NUM_INT:
+    case HqlSqlTokenTypes.NUM_DOUBLE:
+    case HqlSqlTokenTypes.NUM_FLOAT:
+    case HqlSqlTokenTypes.NUM_LONG:
+    case HqlSqlTokenTypes.TRUE:
+    case HqlSqlTokenTypes.FALSE:
+    case HqlSqlTokenTypes.JAVA_CONSTANT:
+      return true;
+    default:
+      return false;
+    }
+  }
+
+  /**
+   * Returns the type that values of a basic attribute of the given type are
+   * compared as. All numbers except longs and chars are normalized to double
+   * (literals do the same), and chars are compared as strings.
+   */
+  private static Class<?> comparisonType(Class<?> attributeType) {
+    if (attributeType == Float.class || attributeType == float.class
+            || attributeType == Integer.class || attributeType == int.class
+            || attributeType == Short.class || attributeType == short.class
+            || attributeType == Byte.class || attributeType == byte.class) {
+      return Double.class;
+    } else if (attributeType == Character.class || attributeType == char.class) {
+      return String.class;
+    }
+    return attributeType;
+  }
+
+  /**
+   * Adds the {@code getComparator()} and {@code getJsonComparator()} methods to
+   * the given class builder.
+   *
+   * @param classBuilder
+   *          The class builder to add the methods to. Should be a builder for a
    *          subclass of ErraiTypedQuery.
    */
-  private void appendComparatorMethod(AnonymousClassStructureBuilder classBuilder, Context context) {
+  private void appendComparatorMethods(AnonymousClassStructureBuilder classBuilder, Context context) {
+    classBuilder.protectedMethod(Comparator.class, "getComparator")
+      .append(Stmt.nestedCall(generateComparator(context, false)).returnValue())
+      .finish();
+
+    classBuilder.protectedMethod(Comparator.class, "getJsonComparator")
+      .append(Stmt.nestedCall(generateComparator(context, true)).returnValue())
+      .finish();
+  }
+
+  /**
+   * Returns a statement that evaluates to a comparator implementing the ORDER
+   * BY clause of the query, or to null if the query has no ORDER BY clause.
+   *
+   * @param json
+   *          If true, the comparator compares the JSON representations of
+   *          entities; otherwise, it compares the entities themselves.
+   */
+  private Statement generateComparator(Context context, boolean json) {
     AstInorderTraversal traverser = new AstInorderTraversal(query.getSqlAST().getWalker().getAST());
     final AST orderByParentNode = traverser.fastForwardTo(HqlSqlTokenTypes.ORDER);
 
-    Statement comparator;
     if (orderByParentNode == null) {
-      comparator = Stmt.loadLiteral(null);
+      return Stmt.loadLiteral(null);
+    }
+
+    final Class<?> operandType = json ? JSONObject.class : resultType;
+    AnonymousClassStructureBuilder comparatorClassBuilder = ObjectBuilder.newInstanceOf(Comparator.class, context).extend();
+    BlockBuilder<AnonymousClassStructureBuilder> compareMethod = comparatorClassBuilder
+            .publicOverridesMethod("compare", Parameter.of(Object.class, "o1"), Parameter.of(Object.class, "o2"));
+
+    // create "lhs" and "rhs" local vars of the operand type; cast and assign Object args
+    compareMethod
+            .append(Stmt.declareFinalVariable("lhs", operandType, Cast.to(operandType, Stmt.loadVariable("o1"))))
+            .append(Stmt.declareFinalVariable("rhs", operandType, Cast.to(operandType, Stmt.loadVariable("o2"))));
+
+    // Create resolvers that will generate Statements based on the "lhs" and "rhs" vars
+    DotNodeResolver lhsResolver;
+    DotNodeResolver rhsResolver;
+    if (json) {
+      lhsResolver = new JsonDotNodeResolver("lhs");
+      rhsResolver = new JsonDotNodeResolver("rhs");
     }
     else {
-      AnonymousClassStructureBuilder comparatorClassBuilder = ObjectBuilder.newInstanceOf(Comparator.class, context).extend();
-      BlockBuilder<AnonymousClassStructureBuilder> compareMethod = comparatorClassBuilder
-              .publicOverridesMethod("compare", Parameter.of(Object.class, "o1"), Parameter.of(Object.class, "o2"));
+      lhsResolver = new JavaDotNodeResolver("lhs", comparatorClassBuilder);
+      rhsResolver = new JavaDotNodeResolver("rhs", null);
+    }
 
-      // create "lhs" and "rhs" local vars of the query's result type; cast and assign Object args
-      compareMethod
-              .append(Stmt.declareFinalVariable("lhs", resultType, Cast.to(resultType, Stmt.loadVariable("o1"))))
-              .append(Stmt.declareFinalVariable("rhs", resultType, Cast.to(resultType, Stmt.loadVariable("o2"))));
-
-      // Create resolvers that will generate Statements based on the "lhs" and "rhs" vars
-      JavaDotNodeResolver lhsResolver = new JavaDotNodeResolver("lhs", comparatorClassBuilder);
-      JavaDotNodeResolver rhsResolver = new JavaDotNodeResolver("rhs", null);
-
-      // orderNode is the iteration variable that points to the current ORDER BY subclause
-      AST orderNode = traverser.next();
-
-      // result variable to hold the comparison result of each ORDER BY subclause
-      compareMethod.append(Stmt.declareVariable("result", int.class));
-
-      while (traverser.context().contains(orderByParentNode)) {
-        Statement lhs = Stmt.castTo(Comparable.class, generateExpression(new AstInorderTraversal(orderNode), lhsResolver, compareMethod));
-        Statement rhs = Stmt.castTo(Comparable.class, generateExpression(new AstInorderTraversal(orderNode), rhsResolver, compareMethod));
-
-        // Determine if this subclause is marked ASCENDING or DESCENDING, and if so, skip over that node
-        traverser.fastForwardToNextSiblingOf(orderNode);
-        AST nextNode = traverser.hasNext() ? traverser.next() : null;
-        ArithmeticOperator ascDescOperator;
-        if (nextNode != null && nextNode.getType() == HqlSqlTokenTypes.DESCENDING) {
-          ascDescOperator = ArithmeticOperator.Subtraction;
-          nextNode = traverser.hasNext() ? traverser.next() : null;
-        }
-        else if (nextNode != null && nextNode.getType() == HqlSqlTokenTypes.ASCENDING) {
-          ascDescOperator = ArithmeticOperator.Addition;
-          nextNode = traverser.hasNext() ? traverser.next() : null;
-        }
-        else {
-          ascDescOperator = ArithmeticOperator.Addition;
-        }
+    // orderNode is the iteration variable that points to the current ORDER BY subclause
+    AST orderNode = traverser.next();
+
+    // result variable to hold the comparison result of each ORDER BY subclause
+    compareMethod.append(Stmt.declareVariable("result", int.class));
 
-        compareMethod
-            .append(Stmt.loadVariable("result").assignValue(Stmt.invokeStatic(Comparisons.class, "nullSafeCompare", lhs, rhs)))
-            .append(Stmt.if_(Bool.notEquals(Stmt.loadVariable("result"), 0))
-                .append(Stmt.nestedCall(Arith.expr(ascDescOperator, Stmt.loadVariable("result"))).returnValue())
-                .finish());
+    while (traverser.context().contains(orderByParentNode)) {
+      Statement lhs = Stmt.castTo(Comparable.class, generateExpression(new AstInorderTraversal(orderNode), lhsResolver, compareMethod));
+      Statement rhs = Stmt.castTo(Comparable.class, generateExpression(new AstInorderTraversal(orderNode), rhsResolver, compareMethod));
 
-        orderNode = nextNode;
+      // Determine if this subclause is marked ASCENDING or DESCENDING, and if so, skip over that node
+      traverser.fastForwardToNextSiblingOf(orderNode);
+      AST nextNode = traverser.hasNext() ? traverser.next() : null;
+      ArithmeticOperator ascDescOperator;
+      if (nextNode != null && nextNode.getType() == HqlSqlTokenTypes.DESCENDING) {
+        ascDescOperator = ArithmeticOperator.Subtraction;
+        nextNode = traverser.hasNext() ? traverser.next() : null;
+      }
+      else if (nextNode != null && nextNode.getType() == HqlSqlTokenTypes.ASCENDING) {
+        ascDescOperator = ArithmeticOperator.Addition;
+        nextNode = traverser.hasNext() ? traverser.next() : null;
+      }
+      else {
+        ascDescOperator = ArithmeticOperator.Addition;
       }
 
-      // everything compared equal. return 0.
-      compareMethod.append(Stmt.loadLiteral(0).returnValue());
+      compareMethod
+          .append(Stmt.loadVariable("result").assignValue(Stmt.invokeStatic(Comparisons.class, "nullSafeCompare", lhs, rhs)))
+          .append(Stmt.if_(Bool.notEquals(Stmt.loadVariable("result"), 0))
+              .append(Stmt.nestedCall(Arith.expr(ascDescOperator, Stmt.loadVariable("result"))).returnValue())
+              .finish());
 
-      comparator = compareMethod.finish().finish();
+      orderNode = nextNode;
     }
 
-    classBuilder.protectedMethod(Comparator.class, "getComparator")
-      .append(Stmt.nestedCall(comparator).returnValue())
-      .finish();
+    // everything compared equal. return 0.
+    compareMethod.append(Stmt.loadLiteral(0).returnValue());
+
+    return compareMethod.finish().finish();
   }
 
 
@@ -626,11 +804,21 @@ public class TypedQueryFactoryGenerator {
 
   /**
    * Resolves a DotNode to a value by dereferencing a property from a
-   * JSONObject. The returned Statement depends on a JSONObject named
-   * "candidate" being in the local scope.
+   * JSONObject. The returned Statement depends on a JSONObject with the given
+   * name ("candidate" by default) being in the local scope.
    */
   private static class JsonDotNodeResolver implements DotNodeResolver {
 
+    private final String variableName;
+
+    public JsonDotNodeResolver() {
+      this("candidate");
+    }
+
+    public JsonDotNodeResolver(String variableName) {
+      this.variableName = Assert.notNull(variableName);
+    }
+
     @Override
     public Statement resolve(DotNode dotNode) {
       final Type dataType = dotNode.getDataType();
@@ -645,12 +833,12 @@ public class TypedQueryFactoryGenerator {
 
         // FIXME running a query that uses this in a where clause will be an O(N^2) operation on the number of entities. :-(
         return new TernaryStatement(
-            Bool.notEquals(Stmt.loadVariable("candidate").invoke("get", dotNode.getPropertyPath()).invoke("isNull"), null),
+            Bool.notEquals(Stmt.loadVariable(variableName).invoke("get", dotNode.getPropertyPath()).invoke("isNull"), null),
             Stmt.loadLiteral(null),
             Stmt.loadVariable("entityManager").invoke("find",
                 Stmt.invokeStatic(Key.class, "fromJsonObject",
                     Stmt.loadVariable("entityManager"),
-                    Stmt.loadVariable("candidate").invoke("get", dotNode.getPropertyPath()).invoke("isObject"),
+                    Stmt.loadVariable(variableName).invoke("get", dotNode.getPropertyPath()).invoke("isObject"),
                     false),
                 Stmt.loadStatic(Collections.class, "EMPTY_MAP")));
       }
@@ -661,17 +849,10 @@ public class TypedQueryFactoryGenerator {
 
         // normalize all numbers except longs and chars to double (literals do the same)
         // if we did not do this here, Comparisons.nullSafeEquals() would have to do it at runtime
-        if (requestedType == Float.class || requestedType == float.class
-                || requestedType == Integer.class || requestedType == int.class
-                || requestedType == Short.class || requestedType == short.class
-                || requestedType == Byte.class || requestedType == byte.class) {
-          requestedType = Double.class;
-        } else if (requestedType == Character.class || requestedType == char.class) {
-          requestedType = String.class;
-        }
+        requestedType = comparisonType(requestedType);
 
         return Stmt.invokeStatic(JsonUtil.class, "basicValueFromJson",
-                Stmt.loadVariable("candidate").invoke("get", dotNode.getPropertyPath()),
+                Stmt.loadVariable(variableName).invoke("get", dotNode.getPropertyPath()),
                 requestedType);
       }
     }
@@ -350,6 +350,98 @@ public class ErraiJpaTest extends JpaClientTestCase {
     assertEquals(album.toString(), fetchedAlbum.toString());
   }
 
+  public void testDirtyTrackingFlushOnlyWritesMarkedEntities() throws Exception {
+    final ErraiEntityManager em = (ErraiEntityManager) getEntityManager();
+    final Album marked = new Album();
+    marked.setName("Abbey Road");
+    final Album unmarked = new Album();
+    unmarked.setName("Let It Be");
+    em.persist(marked);
+    em.persist(unmarked);
+    em.flush();
+
+    em.setDirtyTracking(true);
+    try {
+      marked.setName("Cowabunga");
+      unmarked.setName("Cowabunga");
+      em.markDirty(marked);
+      em.flush();
+    } finally {
+      em.setDirtyTracking(false);
+    }
+
+    em.clear();
+    assertEquals("Cowabunga", em.find(Album.class, marked.getId()).getName());
+    assertEquals("Let It Be", em.find(Album.class, unmarked.getId()).getName());
+  }
+
+  public void testMarkDirtyRejectsUnmanagedEntity() throws Exception {
+    final ErraiEntityManager em = (ErraiEntityManager) getEntityManager();
+    final Album album = new Album();
+    album.setName("Abbey Road");
+    try {
+      em.markDirty(album);
+      fail("Marked an unmanaged entity dirty");
+    } catch (final IllegalArgumentException ex) {
+      // this is the behaviour we are testing for
+    }
+  }
+
+  public void testDirtyTrackingFlushWritesDataBinderProxyChanges() {
+    final ErraiEntityManager em = (ErraiEntityManager) getEntityManager();
+    final Album album = DataBinder.forType(Album.class).getModel();
+    album.setName("Abbey Road");
+    em.persist(album);
+    em.flush();
+
+    em.setDirtyTracking(true);
+    try {
+      album.setName("Cowabunga");
+      em.flush();
+    } finally {
+      em.setDirtyTracking(false);
+    }
+
+    em.clear();
+    assertEquals("Cowabunga", em.find(Album.class, album.getId()).getName());
+  }
+
+  /**
+   * Not run by default. Compares flushing a single change with and without
+   * dirty tracking when 5000 entities are managed.
+   */
+  public void ignoreTestFlushAfterSingleChangeWithManyManagedEntities() {
+    final ErraiEntityManager em = (ErraiEntityManager) getEntityManager();
+    final List<Album> albums = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      final Album album = new Album();
+      album.setName("Album " + i);
+      album.setReleaseDate(new Date(i * 86400000L));
+      em.persist(album);
+      albums.add(album);
+    }
+    em.flush();
+
+    albums.get(42).setName("Changed without tracking");
+    long start = System.currentTimeMillis();
+    em.flush();
+    final long untrackedTime = System.currentTimeMillis() - start;
+
+    em.setDirtyTracking(true);
+    try {
+      albums.get(43).setName("Changed with tracking");
+      em.markDirty(albums.get(43));
+      start = System.currentTimeMillis();
+      em.flush();
+    } finally {
+      em.setDirtyTracking(false);
+    }
+    final long trackedTime = System.currentTimeMillis() - start;
+
+    System.out.println("Flushing 1 change among 5000 managed entities: without dirty tracking "
+            + untrackedTime + "ms, with dirty tracking " + trackedTime + "ms");
+  }
+
   public void testIdUpdateIsRejected() throws Exception {
 
     // make it
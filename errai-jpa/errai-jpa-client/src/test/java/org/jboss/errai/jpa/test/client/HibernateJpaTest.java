@@ -145,4 +145,28 @@ public class HibernateJpaTest extends ErraiJpaTest {
   public void testEnsurePropertyChangeEventIsFiredAfterIdGeneration() {
     // skip
   }
+
+  /**
+   * Dirty tracking is an Errai-specific feature. Not applicable to Hibernate.
+   */
+  @Override
+  public void testDirtyTrackingFlushOnlyWritesMarkedEntities() {
+    // skip
+  }
+
+  /**
+   * Dirty tracking is an Errai-specific feature. Not applicable to Hibernate.
+   */
+  @Override
+  public void testMarkDirtyRejectsUnmanagedEntity() {
+    // skip
+  }
+
+  /**
+   * Dirty tracking is an Errai-specific feature. Not applicable to Hibernate.
+   */
+  @Override
+  public void testDirtyTrackingFlushWritesDataBinderProxyChanges() {
+    // skip
+  }
 }
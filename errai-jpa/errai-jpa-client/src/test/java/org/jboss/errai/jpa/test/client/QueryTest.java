@@ -30,11 +30,20 @@ import javax.persistence.TypedQuery;
 import org.jboss.errai.ioc.client.Container;
 import org.jboss.errai.ioc.client.container.IOC;
 import org.jboss.errai.jpa.client.local.ErraiEntityManager;
+import org.jboss.errai.jpa.client.local.backend.EntryVisitor;
+import org.jboss.errai.jpa.client.local.backend.LocalStorage;
+import org.jboss.errai.jpa.client.local.backend.WebStorageBackend;
 import org.jboss.errai.jpa.rebind.ErraiEntityManagerGenerator;
 import org.jboss.errai.jpa.test.client.res.JpaClientTestCase;
 import org.jboss.errai.jpa.test.entity.Album;
 import org.jboss.errai.jpa.test.entity.Artist;
+import org.jboss.errai.jpa.test.entity.EntityWithBigIntegerId;
+import org.jboss.errai.jpa.test.entity.EntityWithBoxedIntId;
+import org.jboss.errai.jpa.test.entity.EntityWithBoxedLongId;
+import org.jboss.errai.jpa.test.entity.EntityWithPrimitiveIntId;
+import org.jboss.errai.jpa.test.entity.EntityWithPrimitiveLongId;
 import org.jboss.errai.jpa.test.entity.Format;
+import org.jboss.errai.jpa.test.entity.Genre;
 import org.jboss.errai.jpa.test.entity.Zentity;
 
 /**
@@ -1240,6 +1249,84 @@ public class QueryTest extends JpaClientTestCase {
     assertEquals(resultStrings.get(4), zentity5.toString());
   }
 
+  public void testOrderedQueryPaging() {
+    final EntityManager em = getEntityManagerAndClearStorageBackend();
+    for (int i = 0; i < 10; i++) {
+      final Zentity zentity = new Zentity();
+      zentity.setPrimitiveInt((i * 7) % 10);
+      em.persist(zentity);
+    }
+    em.flush();
+    em.clear();
+
+    final TypedQuery<Zentity> q = em.createNamedQuery("zentityOrderByPrimitiveIntDesc", Zentity.class);
+    q.setFirstResult(2);
+    q.setMaxResults(3);
+    final List<Integer> resultInts = new ArrayList<>();
+    for (final Zentity z : q.getResultList()) {
+      resultInts.add(z.getPrimitiveInt());
+    }
+    assertEquals(Arrays.asList(7, 6, 5), resultInts);
+
+    // the results are managed entities
+    for (final Zentity z : q.getResultList()) {
+      assertTrue(em.contains(z));
+    }
+
+    // a page past the end is empty; a page running off the end is truncated
+    q.setFirstResult(20);
+    assertEquals(0, q.getResultList().size());
+    q.setFirstResult(8);
+    assertEquals(2, q.getResultList().size());
+  }
+
+  public void testUnorderedQueryPaging() {
+    final EntityManager em = getEntityManagerAndClearStorageBackend();
+    final Set<Integer> expectedInts = new HashSet<>();
+    for (int i = 0; i < 10; i++) {
+      final Zentity zentity = new Zentity();
+      zentity.setPrimitiveInt(i);
+      em.persist(zentity);
+      expectedInts.add(i);
+    }
+    em.flush();
+
+    final TypedQuery<Zentity> q = em.createNamedQuery("zentityNoWhereClause", Zentity.class);
+    q.setMaxResults(4);
+    final Set<Integer> resultInts = new HashSet<>();
+    for (int first = 0; first < 10; first += 4) {
+      q.setFirstResult(first);
+      final List<Zentity> page = q.getResultList();
+      assertEquals(Math.min(4, 10 - first), page.size());
+      for (final Zentity z : page) {
+        assertTrue("Duplicate result " + z, resultInts.add(z.getPrimitiveInt()));
+      }
+    }
+    assertEquals(expectedInts, resultInts);
+  }
+
+  public void testResultStreamPaging() {
+    final EntityManager em = getEntityManagerAndClearStorageBackend();
+    for (int i = 0; i < 10; i++) {
+      final Zentity zentity = new Zentity();
+      zentity.setPrimitiveInt(i);
+      em.persist(zentity);
+    }
+    em.flush();
+    em.clear();
+
+    final TypedQuery<Zentity> ordered = em.createNamedQuery("zentityOrderByPrimitiveInt", Zentity.class);
+    ordered.setFirstResult(3);
+    ordered.setMaxResults(2);
+    final List<Integer> resultInts = new ArrayList<>();
+    ordered.getResultStream().forEach(z -> resultInts.add(z.getPrimitiveInt()));
+    assertEquals(Arrays.asList(3, 4), resultInts);
+
+    final TypedQuery<Zentity> unordered = em.createNamedQuery("zentityNoWhereClause", Zentity.class);
+    assertEquals(10, unordered.getResultStream().count());
+    assertEquals(3, unordered.getResultStream().limit(3).count());
+  }
+
   public void testOrderByWithNulls() {
     final EntityManager em = getEntityManagerAndClearStorageBackend();
 
@@ -1748,4 +1835,181 @@ public class QueryTest extends JpaClientTestCase {
     assertTrue(results.contains(zentity1));
   }
 
+  /**
+   * Zentity declares indexes on primitiveInt and string, so this query is
+   * answered from the primitiveInt index, which has to follow every change.
+   */
+  public void testIndexedQueryFollowsUpdatesAndRemovals() {
+    final EntityManager em = getEntityManagerAndClearStorageBackend();
+
+    final Zentity zentity1 = new Zentity();
+    zentity1.setPrimitiveInt(555);
+    em.persist(zentity1);
+
+    final Zentity zentity2 = new Zentity();
+    zentity2.setPrimitiveInt(556);
+    em.persist(zentity2);
+
+    em.flush();
+
+    final TypedQuery<Zentity> q = em.createNamedQuery("zentityGreaterThan", Zentity.class);
+    assertEquals(Arrays.asList(zentity2), q.getResultList());
+
+    zentity1.setPrimitiveInt(600);
+    zentity2.setPrimitiveInt(500);
+    em.flush();
+    assertEquals(Arrays.asList(zentity1), q.getResultList());
+
+    em.remove(zentity1);
+    em.flush();
+    assertEquals(0, q.getResultList().size());
+
+    // queries on attributes without an index go through the key manifest of the type
+    final TypedQuery<Zentity> unindexed = em.createNamedQuery("zentityPrimitiveBoolean", Zentity.class);
+    unindexed.setParameter("b", false);
+    assertEquals(Arrays.asList(zentity2), unindexed.getResultList());
+  }
+
+  /**
+   * Simulates a store written before Zentity declared its indexes: the
+   * manifest is there, but the indexes are not. A new backend has to rebuild
+   * them instead of answering indexed queries from empty entries.
+   */
+  public void testIndexesRebuiltWhenIndexedAttributesChange() {
+    final EntityManager em = getEntityManagerAndClearStorageBackend();
+
+    final Zentity zentity1 = new Zentity();
+    zentity1.setPrimitiveInt(555);
+    zentity1.setString("first");
+    em.persist(zentity1);
+
+    final Zentity zentity2 = new Zentity();
+    zentity2.setPrimitiveInt(556);
+    zentity2.setString("second");
+    em.persist(zentity2);
+
+    em.flush();
+
+    final List<String> indexEntries = new ArrayList<String>();
+    LocalStorage.forEachKey(new EntryVisitor() {
+      @Override
+      public void visit(final String key, final String value) {
+        if (key.startsWith("~errai-jpa:index:") || key.startsWith("~errai-jpa:values:")) {
+          indexEntries.add(key);
+        }
+      }
+    });
+    assertFalse(indexEntries.isEmpty());
+    for (final String key : indexEntries) {
+      LocalStorage.remove(key);
+    }
+    LocalStorage.put("~errai-jpa:ready:" + Zentity.class.getName(), "v2");
+
+    final EntityManager newEm = new ErraiEntityManager((ErraiEntityManager) em, WebStorageBackend.FACTORY);
+
+    final List<Zentity> greaterThan = newEm.createNamedQuery("zentityGreaterThan", Zentity.class).getResultList();
+    assertEquals(1, greaterThan.size());
+    assertEquals(zentity2.getId(), greaterThan.get(0).getId());
+
+    final TypedQuery<Zentity> byString = newEm.createNamedQuery("zentityString", Zentity.class);
+    byString.setParameter("s", "first");
+    final List<Zentity> equalTo = byString.getResultList();
+    assertEquals(1, equalTo.size());
+    assertEquals(zentity1.getId(), equalTo.get(0).getId());
+  }
+
+  /**
+   * Not run by default. Times indexed and unindexed queries against a store
+   * holding 10,000 entities of several types.
+   */
+  public void ignoreTestQueryPerformanceOnLargeStore() {
+    final EntityManager em = getEntityManagerAndClearStorageBackend();
+    for (int i = 0; i < 10000; i++) {
+      switch (i % 8) {
+      case 0:
+        final Zentity zentity = new Zentity();
+        zentity.setPrimitiveInt(i);
+        zentity.setPrimitiveBool(i % 3 == 0);
+        em.persist(zentity);
+        break;
+      case 1:
+        em.persist(new Genre("genre" + i));
+        break;
+      case 2:
+        final Artist artist = new Artist();
+        artist.setName("artist" + i);
+        em.persist(artist);
+        break;
+      case 3:
+        em.persist(new EntityWithBoxedIntId());
+        break;
+      case 4:
+        em.persist(new EntityWithBoxedLongId());
+        break;
+      case 5:
+        em.persist(new EntityWithPrimitiveIntId());
+        break;
+      case 6:
+        em.persist(new EntityWithPrimitiveLongId());
+        break;
+      default:
+        em.persist(new EntityWithBigIntegerId());
+      }
+    }
+    em.flush();
+    em.clear();
+
+    final TypedQuery<Zentity> indexed = em.createNamedQuery("zentityGreaterThan", Zentity.class);
+    final TypedQuery<Zentity> unindexed = em.createNamedQuery("zentityPrimitiveBoolean", Zentity.class);
+    unindexed.setParameter("b", true);
+
+    long start = System.currentTimeMillis();
+    for (int i = 0; i < 10; i++) {
+      indexed.getResultList();
+    }
+    final long indexedTime = System.currentTimeMillis() - start;
+
+    start = System.currentTimeMillis();
+    for (int i = 0; i < 10; i++) {
+      unindexed.getResultList();
+    }
+    final long unindexedTime = System.currentTimeMillis() - start;
+
+    System.out.println("10 queries over 10000 entities: indexed " + indexedTime + "ms, by manifest " + unindexedTime + "ms");
+  }
+
+  /**
+   * Not run by default. Compares fetching the first page of an ordered query
+   * over 50000 stored entities with fetching and sorting all of them.
+   */
+  public void ignoreTestFirstPageOfLargeOrderedQuery() {
+    final EntityManager em = getEntityManagerAndClearStorageBackend();
+    for (int i = 0; i < 50000; i++) {
+      final Zentity zentity = new Zentity();
+      zentity.setPrimitiveInt((i * 7919) % 50000);
+      em.persist(zentity);
+    }
+    em.flush();
+    em.clear();
+
+    final TypedQuery<Zentity> q = em.createNamedQuery("zentityOrderByPrimitiveInt", Zentity.class);
+
+    long start = System.currentTimeMillis();
+    final List<Zentity> all = q.getResultList();
+    final long allTime = System.currentTimeMillis() - start;
+    assertEquals(50000, all.size());
+    em.clear();
+
+    q.setMaxResults(20);
+    start = System.currentTimeMillis();
+    final List<Zentity> page = q.getResultList();
+    final long pageTime = System.currentTimeMillis() - start;
+    assertEquals(20, page.size());
+    assertEquals(0, page.get(0).getPrimitiveInt());
+    assertEquals(19, page.get(19).getPrimitiveInt());
+
+    System.out.println("Ordered query over 50000 entities: all results (" + all.size() + " materialized) "
+            + allTime + "ms, first page (" + page.size() + " materialized) " + pageTime + "ms");
+  }
+
 }
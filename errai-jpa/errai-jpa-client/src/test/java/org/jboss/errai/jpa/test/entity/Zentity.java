@@ -26,9 +26,11 @@ import java.util.Date;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
 import javax.persistence.PersistenceContextType;
+import javax.persistence.Table;
 
 import org.jboss.errai.ioc.client.api.TestOnly;
 
@@ -42,6 +44,7 @@ import org.jboss.errai.ioc.client.api.TestOnly;
  */
 @SuppressWarnings("JpaQlInspection")
 @TestOnly @Entity
+@Table(indexes = { @Index(columnList = "primitiveInt"), @Index(columnList = "string") })
 @NamedQueries({
 
   // LITERAL VALUES
@@ -17,6 +17,7 @@
 package org.jboss.errai.jpa.sync.client.local;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -45,6 +46,7 @@ import org.jboss.errai.jpa.client.local.Key;
 import org.jboss.errai.jpa.client.local.backend.StorageBackend;
 import org.jboss.errai.jpa.client.local.backend.StorageBackendFactory;
 import org.jboss.errai.jpa.client.local.backend.WebStorageBackend;
+import org.jboss.errai.jpa.sync.client.shared.BucketMismatchResponse;
 import org.jboss.errai.jpa.sync.client.shared.ConflictResponse;
 import org.jboss.errai.jpa.sync.client.shared.DataSyncService;
 import org.jboss.errai.jpa.sync.client.shared.DeleteResponse;
@@ -52,6 +54,7 @@ import org.jboss.errai.jpa.sync.client.shared.EntityComparator;
 import org.jboss.errai.jpa.sync.client.shared.IdChangeResponse;
 import org.jboss.errai.jpa.sync.client.shared.JpaAttributeAccessor;
 import org.jboss.errai.jpa.sync.client.shared.NewRemoteEntityResponse;
+import org.jboss.errai.jpa.sync.client.shared.SyncBuckets;
 import org.jboss.errai.jpa.sync.client.shared.SyncRequestOperation;
 import org.jboss.errai.jpa.sync.client.shared.SyncResponse;
 import org.jboss.errai.jpa.sync.client.shared.SyncableDataSet;
@@ -194,6 +197,41 @@ public class ClientSyncManager {
           String queryName, Class<E> queryResultType, Map<String, Object> queryParams,
           final RemoteCallback<List<SyncResponse<E>>> onCompletion,
           final ErrorCallback<?> onError) {
+    sync(queryName, queryResultType, queryParams, onCompletion, onError, false);
+  }
+
+  /**
+   * Performs a "warm" synchronization on the results of the given query with
+   * the given parameters. This has the same outcome as
+   * {@link #coldSync(String, Class, Map, RemoteCallback, ErrorCallback)}, but
+   * if the entity type has a JPA version attribute, it takes two requests
+   * instead of sending every unchanged entity to the server. The first request
+   * sends a digest of the IDs and versions of the expected state entities in
+   * each of a fixed number of buckets, and the server names the buckets whose
+   * digests differ from its own. The second request sends the local changes
+   * and the unchanged entities of those buckets, and is answered like a cold
+   * sync limited to those buckets and the changed entities. If no bucket
+   * differs and nothing changed locally, the second request is skipped.
+   * <p>
+   * Warm syncs rely on the server incrementing the version of an entity each
+   * time it changes. Changes made on the server without a version increment
+   * (for example, bulk updates) are only picked up by a cold sync.
+   *
+   * @see #coldSync(String, Class, Map, RemoteCallback, ErrorCallback) for the
+   *      meaning of the parameters.
+   */
+  public <E> void warmSync(
+          String queryName, Class<E> queryResultType, Map<String, Object> queryParams,
+          final RemoteCallback<List<SyncResponse<E>>> onCompletion,
+          final ErrorCallback<?> onError) {
+    sync(queryName, queryResultType, queryParams, onCompletion, onError, true);
+  }
+
+  private <E> void sync(
+          String queryName, Class<E> queryResultType, Map<String, Object> queryParams,
+          final RemoteCallback<List<SyncResponse<E>>> onCompletion,
+          final ErrorCallback<?> onError,
+          boolean warm) {
     if (syncInProgress) {
       throw new IllegalStateException("A data sync operation is already in progress");
     }
@@ -210,7 +248,12 @@ public class ClientSyncManager {
       expectedResults.put((Key<E, Object>) expectedStateEm.keyFor(expectedState), expectedState);
     }
 
+    final ErraiIdentifiableType<E> entityType = expectedStateEm.getMetamodel().entity(queryResultType);
+    final boolean compareBuckets = warm && entityType.hasVersionAttribute();
+    final SyncBuckets expectedDigests = compareBuckets ? digestsOf(entityType, expectedResults.values()) : null;
+
     final List<SyncRequestOperation<E>> syncRequests = new ArrayList<SyncRequestOperation<E>>();
+    final List<E> unchanged = new ArrayList<E>();
     for (E desiredState : query.getResultList()) {
       Key<E, ?> key = desiredStateEm.keyFor(desiredState);
       E expectedState = expectedResults.remove(key);
@@ -220,6 +263,9 @@ public class ClientSyncManager {
       else if (entityComparator.isDifferent(desiredState, expectedState)) {
         syncRequests.add(SyncRequestOperation.updated(desiredState, expectedState));
       }
+      else if (compareBuckets) {
+        unchanged.add(expectedState);
+      }
       else /* desiredState == expectedState */ {
         syncRequests.add(SyncRequestOperation.unchanged(expectedState));
       }
@@ -229,14 +275,9 @@ public class ClientSyncManager {
       syncRequests.add(SyncRequestOperation.deleted(remainingEntry.getValue()));
     }
 
-    System.out.println("Sending sync requests:");
-    for (SyncRequestOperation<?> sro : syncRequests) {
-      System.out.println("   " + sro);
-    }
-
     final SyncableDataSet<E> syncSet = SyncableDataSet.from(queryName, queryResultType, queryParams);
 
-    RemoteCallback<List<SyncResponse<E>>> onSuccess = new RemoteCallback<List<SyncResponse<E>>>() {
+    final RemoteCallback<List<SyncResponse<E>>> onSuccess = new RemoteCallback<List<SyncResponse<E>>>() {
       @Override
       public void callback(List<SyncResponse<E>> syncResponse) {
         try {
@@ -250,7 +291,7 @@ public class ClientSyncManager {
     };
 
     @SuppressWarnings("rawtypes")
-    ErrorCallback errorCallback = new ErrorCallback() {
+    final ErrorCallback errorCallback = new ErrorCallback() {
       @SuppressWarnings("unchecked")
       @Override
       public boolean error(Object message, Throwable throwable) {
@@ -260,14 +301,82 @@ public class ClientSyncManager {
       }
     };
 
+    if (!compareBuckets) {
+      sendSyncRequests(syncSet, syncRequests, onSuccess, errorCallback);
+      return;
+    }
+
+    // first round: find the buckets of unchanged entities that the server disagrees with
+    RemoteCallback<List<SyncResponse<E>>> onBucketMismatch = new RemoteCallback<List<SyncResponse<E>>>() {
+      @Override
+      public void callback(List<SyncResponse<E>> response) {
+        SyncBuckets mismatched = ((BucketMismatchResponse<E>) response.get(0)).getMismatched();
+        if (mismatched.getSelected().isEmpty() && syncRequests.isEmpty()) {
+          onSuccess.callback(new ArrayList<SyncResponse<E>>());
+          return;
+        }
+
+        // second round: list the unchanged entities of those buckets in full, along with the local changes
+        boolean[] listed = new boolean[mismatched.getBucketCount()];
+        for (int bucket : mismatched.getSelected()) {
+          listed[bucket] = true;
+        }
+        ErraiSingularAttribute<? super E, Object> idAttr = entityType.getId(Object.class);
+        for (E expectedState : unchanged) {
+          if (listed[SyncBuckets.bucketOf(idAttr.get(expectedState), listed.length)]) {
+            syncRequests.add(SyncRequestOperation.unchanged(expectedState));
+          }
+        }
+        syncRequests.add(SyncRequestOperation.<E>listedBuckets(mismatched));
+        sendSyncRequests(syncSet, syncRequests, onSuccess, errorCallback);
+      }
+    };
+
+    List<SyncRequestOperation<E>> compareRequest = new ArrayList<SyncRequestOperation<E>>();
+    compareRequest.add(SyncRequestOperation.<E>compareBuckets(expectedDigests));
+    dataSyncService.call(onBucketMismatch, errorCallback).coldSync(syncSet, compareRequest);
+  }
+
+  @SuppressWarnings("rawtypes")
+  private <E> void sendSyncRequests(
+          SyncableDataSet<E> syncSet, List<SyncRequestOperation<E>> syncRequests,
+          RemoteCallback<List<SyncResponse<E>>> onSuccess, ErrorCallback errorCallback) {
+    System.out.println("Sending sync requests:");
+    for (SyncRequestOperation<?> sro : syncRequests) {
+      System.out.println("   " + sro);
+    }
+
     dataSyncService.call(onSuccess, errorCallback).coldSync(syncSet, syncRequests);
   }
 
+  /**
+   * Returns the bucket digests of the given entities, as last received from
+   * the server.
+   *
+   * @param entityType
+   *          The type of the entities. Must have a version attribute.
+   * @param expectedStates
+   *          The entities of the data set in the expected state entity manager.
+   */
+  @SuppressWarnings("unchecked")
+  private <E> SyncBuckets digestsOf(ErraiIdentifiableType<E> entityType, Collection<E> expectedStates) {
+    ErraiSingularAttribute<? super E, Object> idAttr = entityType.getId(Object.class);
+    ErraiSingularAttribute<? super E, Object> versionAttr =
+            (ErraiSingularAttribute<? super E, Object>) entityType.getVersion(Object.class);
+    int[] digests = new int[SyncBuckets.bucketCountFor(expectedStates.size())];
+    for (E expectedState : expectedStates) {
+      Object id = idAttr.get(expectedState);
+      digests[SyncBuckets.bucketOf(id, digests.length)] += SyncBuckets.digestOf(id, versionAttr.get(expectedState));
+    }
+    return SyncBuckets.digests(digests);
+  }
+
   /**
    * Returns true if a sync request has been sent to the server for which no
    * response or error has yet been received; false if no sync operation is
    * currently pending. If this method returns true, a call to
-   * {@link #coldSync(String, Class, Map, RemoteCallback, ErrorCallback)} will
+   * {@link #coldSync(String, Class, Map, RemoteCallback, ErrorCallback)} or
+   * {@link #warmSync(String, Class, Map, RemoteCallback, ErrorCallback)} will
    * fail immediately with an IllegalStateException.
    */
   public boolean isSyncInProgress() {
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.errai.jpa.sync.client.shared;
+
+import org.jboss.errai.common.client.api.Assert;
+import org.jboss.errai.common.client.api.annotations.MapsTo;
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Sync response to a {@link SyncRequestOperation.Type#COMPARE_BUCKETS}
+ * operation. Names the buckets whose digests differ between the two sides.
+ *
+ * @param <X> the entity type
+ */
+@Portable
+public class BucketMismatchResponse<X> extends SyncResponse<X> {
+
+  private final SyncBuckets mismatched;
+
+  public BucketMismatchResponse(@MapsTo("mismatched") SyncBuckets mismatched) {
+    this.mismatched = Assert.notNull(mismatched);
+  }
+
+  /**
+   * Returns the buckets whose entities need to be listed in full.
+   */
+  public SyncBuckets getMismatched() {
+    return mismatched;
+  }
+
+  @Override
+  public String toString() {
+    return "Bucket mismatch: " + mismatched.getSelected();
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.errai.jpa.sync.client.shared;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.jboss.errai.common.client.api.annotations.MapsTo;
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Describes how the entities of a data set are spread over a fixed number of
+ * buckets, so that the two sides of a warm sync can find the entities they
+ * disagree about without exchanging all of them.
+ * <p>
+ * An entity's bucket depends only on its ID. The digest of a bucket is the sum
+ * of {@link #digestOf(Object, Object)} over the IDs and versions of the
+ * entities in it, so it can be computed in a single pass over the entities in
+ * any order. Both sides compute these values with the static methods of this
+ * class, which give the same results in Java and in translated client code.
+ */
+@Portable
+public class SyncBuckets {
+
+  /**
+   * The average number of entities per bucket that {@link #bucketCountFor(int)}
+   * aims for.
+   */
+  private static final int ENTITIES_PER_BUCKET = 16;
+
+  /**
+   * The largest bucket count that {@link #bucketCountFor(int)} returns.
+   */
+  private static final int MAX_BUCKET_COUNT = 4096;
+
+  private static final int SEED = 0x9e3779b9;
+
+  private final int bucketCount;
+  private final List<Integer> digests;
+  private final List<Integer> selected;
+
+  public SyncBuckets(
+          @MapsTo("bucketCount") int bucketCount,
+          @MapsTo("digests") List<Integer> digests,
+          @MapsTo("selected") List<Integer> selected) {
+    this.bucketCount = bucketCount;
+    this.digests = digests;
+    this.selected = selected;
+  }
+
+  /**
+   * Creates a description that carries the digest of every bucket.
+   *
+   * @param digests
+   *          the digest of each bucket, indexed by bucket number.
+   */
+  public static SyncBuckets digests(int[] digests) {
+    List<Integer> list = new ArrayList<Integer>(digests.length);
+    for (int digest : digests) {
+      list.add(digest);
+    }
+    return new SyncBuckets(digests.length, list, null);
+  }
+
+  /**
+   * Creates a description that names a subset of the buckets.
+   *
+   * @param bucketCount
+   *          the number of buckets the entities are spread over.
+   * @param selected
+   *          the numbers of the selected buckets.
+   */
+  public static SyncBuckets selected(int bucketCount, List<Integer> selected) {
+    return new SyncBuckets(bucketCount, null, selected);
+  }
+
+  /**
+   * Returns the number of buckets the entities are spread over.
+   */
+  public int getBucketCount() {
+    return bucketCount;
+  }
+
+  /**
+   * Returns the digest of each bucket, indexed by bucket number, or null if
+   * this description names a subset of the buckets instead.
+   */
+  public List<Integer> getDigests() {
+    return digests;
+  }
+
+  /**
+   * Returns the numbers of the selected buckets, or null if this description
+   * carries digests instead.
+   */
+  public List<Integer> getSelected() {
+    return selected == null ? null : Collections.unmodifiableList(selected);
+  }
+
+  /**
+   * Returns a bucket count suited to a data set of the given size.
+   */
+  public static int bucketCountFor(int entityCount) {
+    return Math.max(1, Math.min(MAX_BUCKET_COUNT, entityCount / ENTITIES_PER_BUCKET));
+  }
+
+  /**
+   * Returns the bucket that the entity with the given ID belongs to.
+   *
+   * @param id
+   *          the entity's ID. Must not be null.
+   * @param bucketCount
+   *          the number of buckets the entities are spread over.
+   */
+  public static int bucketOf(Object id, int bucketCount) {
+    return (mix(hash(id)) & 0x7fffffff) % bucketCount;
+  }
+
+  /**
+   * Returns the contribution of an entity with the given ID and version to the
+   * digest of its bucket.
+   */
+  public static int digestOf(Object id, Object version) {
+    // the seed keeps an entity with a zero ID and version from vanishing from the sum
+    return mix(mix(hash(id) ^ SEED) + hash(version));
+  }
+
+  /**
+   * Returns a hash of the given ID or version value that is the same in Java
+   * and in translated client code, where {@link Object#hashCode()} is not.
+   */
+  private static int hash(Object value) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof Number) {
+      return hash(((Number) value).longValue());
+    }
+    if (value instanceof Date) {
+      return hash(((Date) value).getTime());
+    }
+    return value.toString().hashCode();
+  }
+
+  private static int hash(long value) {
+    return (int) (value ^ (value >>> 32));
+  }
+
+  /**
+   * Spreads the bits of the given hash. Uses only shifts and exclusive ors, so
+   * that translated client code gets the same result without 32-bit
+   * multiplication.
+   */
+  private static int mix(int h) {
+    h ^= h << 13;
+    h ^= h >>> 17;
+    h ^= h << 5;
+    return h;
+  }
+
+  @Override
+  public String toString() {
+    return bucketCount + " buckets; digests: " + digests + "; selected: " + selected;
+  }
+}
@@ -25,6 +25,7 @@ public class SyncRequestOperation<X> {
   private final Type type;
   private final X newState;
   private final X expectedState;
+  private final SyncBuckets buckets;
 
   public enum Type {
     /**
@@ -49,16 +50,39 @@ public class SyncRequestOperation<X> {
     /**
      * Indicates an entity instance that has not changed since the last sync request.
      */
-    UNCHANGED
+    UNCHANGED,
+
+    /**
+     * Carries the bucket digests of the requesting side's expected state
+     * instead of an entity. The receiving side answers with a
+     * {@link BucketMismatchResponse} naming the buckets whose digests differ
+     * from its own, and makes no changes. Must be the only operation of its
+     * request.
+     */
+    COMPARE_BUCKETS,
+
+    /**
+     * Names the buckets whose entities the other operations of the request
+     * list in full instead of an entity. The receiving side only considers its
+     * entities in those buckets, and the ones the other operations refer to,
+     * as part of the data set.
+     */
+    LISTED_BUCKETS
+  }
+
+  public SyncRequestOperation(Type type, X newState, X expectedState) {
+    this(type, newState, expectedState, null);
   }
 
   public SyncRequestOperation(
           @MapsTo("type") Type type,
           @MapsTo("newState") X newState,
-          @MapsTo("expectedState") X expectedState) {
+          @MapsTo("expectedState") X expectedState,
+          @MapsTo("buckets") SyncBuckets buckets) {
     this.type = type;
     this.newState = newState;
     this.expectedState = expectedState;
+    this.buckets = buckets;
   }
 
   public static <X> SyncRequestOperation<X> created(X newState) {
@@ -75,6 +99,30 @@ public class SyncRequestOperation<X> {
     return new SyncRequestOperation<X>(Type.UNCHANGED, null, knownState);
   }
 
+  /**
+   * Creates an operation that asks the other side which buckets' digests differ
+   * from the given ones.
+   *
+   * @param digests
+   *          The bucket digests of the last states received from the other
+   *          side. See {@link SyncBuckets#digests(int[])}.
+   */
+  public static <X> SyncRequestOperation<X> compareBuckets(SyncBuckets digests) {
+    return new SyncRequestOperation<X>(Type.COMPARE_BUCKETS, null, null, digests);
+  }
+
+  /**
+   * Creates an operation that limits the sync to the given buckets, plus the
+   * entities that the other operations of the request refer to.
+   *
+   * @param selected
+   *          The buckets whose unchanged entities the request lists. See
+   *          {@link SyncBuckets#selected(int, java.util.List)}.
+   */
+  public static <X> SyncRequestOperation<X> listedBuckets(SyncBuckets selected) {
+    return new SyncRequestOperation<X>(Type.LISTED_BUCKETS, null, null, selected);
+  }
+
   public static <X> SyncRequestOperation<X> deleted(X knownState) {
     // XXX would be better to use a type hierarchy of SyncRequestOperations than to say newState is null
     return new SyncRequestOperation<X>(Type.DELETED, null, knownState);
@@ -92,8 +140,19 @@ public class SyncRequestOperation<X> {
     return expectedState;
   }
 
+  /**
+   * Returns the buckets of a {@link Type#COMPARE_BUCKETS} or
+   * {@link Type#LISTED_BUCKETS} operation, or null for other operations.
+   */
+  public SyncBuckets getBuckets() {
+    return buckets;
+  }
+
   @Override
   public String toString() {
+    if (buckets != null) {
+      return type + " " + buckets;
+    }
     return type + " newState: " + newState + "; expectedState: " + expectedState;
   }
 }
@@ -17,9 +17,14 @@
 package org.jboss.errai.jpa.sync.server;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
@@ -27,6 +32,7 @@ import javax.persistence.metamodel.EntityType;
 import javax.persistence.metamodel.SingularAttribute;
 
 import org.jboss.errai.common.client.api.Assert;
+import org.jboss.errai.jpa.sync.client.shared.BucketMismatchResponse;
 import org.jboss.errai.jpa.sync.client.shared.ConflictResponse;
 import org.jboss.errai.jpa.sync.client.shared.DataSyncService;
 import org.jboss.errai.jpa.sync.client.shared.DeleteResponse;
@@ -34,6 +40,7 @@ import org.jboss.errai.jpa.sync.client.shared.EntityComparator;
 import org.jboss.errai.jpa.sync.client.shared.IdChangeResponse;
 import org.jboss.errai.jpa.sync.client.shared.JpaAttributeAccessor;
 import org.jboss.errai.jpa.sync.client.shared.NewRemoteEntityResponse;
+import org.jboss.errai.jpa.sync.client.shared.SyncBuckets;
 import org.jboss.errai.jpa.sync.client.shared.SyncRequestOperation;
 import org.jboss.errai.jpa.sync.client.shared.SyncResponse;
 import org.jboss.errai.jpa.sync.client.shared.SyncableDataSet;
@@ -53,10 +60,46 @@ public class DataSyncServiceImpl implements DataSyncService {
 
   @Override
   public <E> List<SyncResponse<E>> coldSync(SyncableDataSet<E> dataSet, List<SyncRequestOperation<E>> syncRequestOps) {
-    TypedQuery<E> query = dataSet.createQuery(em);
+    SyncBuckets listedBuckets = null;
+    for (SyncRequestOperation<E> syncReq : syncRequestOps) {
+      if (syncReq.getType() == SyncRequestOperation.Type.COMPARE_BUCKETS) {
+        if (syncRequestOps.size() != 1) {
+          throw new IllegalArgumentException("A bucket comparison must be the only operation of its request");
+        }
+        return compareBuckets(dataSet, syncReq.getBuckets());
+      }
+      else if (syncReq.getType() == SyncRequestOperation.Type.LISTED_BUCKETS) {
+        listedBuckets = syncReq.getBuckets();
+      }
+    }
+
     Map<Object, E> localResults = new HashMap<Object, E>();
-    for (E localEntity : query.getResultList()) {
-      localResults.put(id(localEntity), localEntity);
+    if (listedBuckets == null) {
+      for (E localEntity : dataSet.createQuery(em).getResultList()) {
+        localResults.put(id(localEntity), localEntity);
+      }
+    }
+    else {
+      // only the listed buckets, and the entities the other operations refer to, take part in this sync
+      Set<Object> referencedIds = new HashSet<Object>();
+      for (SyncRequestOperation<E> syncReq : syncRequestOps) {
+        if (syncReq.getExpectedState() != null) {
+          referencedIds.add(id(syncReq.getExpectedState()));
+        }
+      }
+      boolean[] listed = new boolean[listedBuckets.getBucketCount()];
+      for (int bucket : listedBuckets.getSelected()) {
+        listed[bucket] = true;
+      }
+      try (Stream<E> results = dataSet.createQuery(em).getResultStream()) {
+        for (Iterator<E> it = results.iterator(); it.hasNext();) {
+          E localEntity = it.next();
+          Object localId = id(localEntity);
+          if (listed[SyncBuckets.bucketOf(localId, listed.length)] || referencedIds.contains(localId)) {
+            localResults.put(localId, localEntity);
+          }
+        }
+      }
     }
 
     // maps the old remote ID -> new local persistent entity
@@ -73,6 +116,10 @@ public class DataSyncServiceImpl implements DataSyncService {
       // the expected state (last thing this client saw from us). Can be null (for example, entity was remotely created).
       final E remoteExpectedState = syncReq.getExpectedState();
 
+      if (syncReq.getType() == SyncRequestOperation.Type.LISTED_BUCKETS) {
+        continue;
+      }
+
       // the JPA ID of the remote entity, whether new to us or known before
       final Object remoteId;
       if (remoteNewState != null) {
@@ -147,6 +194,33 @@ public class DataSyncServiceImpl implements DataSyncService {
     return syncResponse;
   }
 
+  /**
+   * Computes the bucket digests of the data set in one pass over the query
+   * results, without holding on to them, and returns the buckets whose digests
+   * differ from the given ones.
+   */
+  private <E> List<SyncResponse<E>> compareBuckets(SyncableDataSet<E> dataSet, SyncBuckets remoteBuckets) {
+    int[] localDigests = new int[remoteBuckets.getBucketCount()];
+    try (Stream<E> results = dataSet.createQuery(em).getResultStream()) {
+      for (Iterator<E> it = results.iterator(); it.hasNext();) {
+        E localEntity = it.next();
+        Object localId = id(localEntity);
+        localDigests[SyncBuckets.bucketOf(localId, localDigests.length)] +=
+                SyncBuckets.digestOf(localId, version(localEntity));
+      }
+    }
+
+    List<Integer> remoteDigests = remoteBuckets.getDigests();
+    List<Integer> mismatched = new ArrayList<Integer>();
+    for (int bucket = 0; bucket < localDigests.length; bucket++) {
+      if (localDigests[bucket] != remoteDigests.get(bucket)) {
+        mismatched.add(bucket);
+      }
+    }
+    return Collections.<SyncResponse<E>>singletonList(
+            new BucketMismatchResponse<E>(SyncBuckets.selected(localDigests.length, mismatched)));
+  }
+
   /**
    * Returns the ID of the given object, which must be a JPA entity.
    *
@@ -165,6 +239,28 @@ public class DataSyncServiceImpl implements DataSyncService {
     return attributeAccessor.get(attr, entity);
   }
 
+  /**
+   * Returns the value of the version attribute of the given object, which must
+   * be a JPA entity with a version attribute.
+   *
+   * @param entity
+   *          the JPA entity whose version value to retrieve
+   * @return The version of the given entity, boxed if the version attribute
+   *         type is primitive.
+   * @throws IllegalArgumentException
+   *           if the entity's type has no version attribute.
+   */
+  private <X> Object version(X entity) {
+    @SuppressWarnings("unchecked")
+    EntityType<X> type = em.getMetamodel().entity((Class<X>) entity.getClass());
+    for (SingularAttribute<? super X, ?> attr : type.getSingularAttributes()) {
+      if (attr.isVersion()) {
+        return attributeAccessor.get(attr, entity);
+      }
+    }
+    throw new IllegalArgumentException("Entity type " + type.getName() + " has no version attribute");
+  }
+
   /**
    * Sets the ID of the given object, which must be a JPA entity, to its default
    * value. The default value for reference types is {@code null}; the default
@@ -27,11 +27,14 @@ import java.util.List;
 import java.util.Map;
 
 import javax.persistence.TypedQuery;
+import javax.persistence.metamodel.SingularAttribute;
 
+import org.jboss.errai.jpa.sync.client.shared.BucketMismatchResponse;
 import org.jboss.errai.jpa.sync.client.shared.ConflictResponse;
 import org.jboss.errai.jpa.sync.client.shared.DeleteResponse;
 import org.jboss.errai.jpa.sync.client.shared.IdChangeResponse;
 import org.jboss.errai.jpa.sync.client.shared.NewRemoteEntityResponse;
+import org.jboss.errai.jpa.sync.client.shared.SyncBuckets;
 import org.jboss.errai.jpa.sync.client.shared.SyncRequestOperation;
 import org.jboss.errai.jpa.sync.client.shared.SyncResponse;
 import org.jboss.errai.jpa.sync.client.shared.SyncableDataSet;
@@ -40,6 +43,7 @@ import org.jboss.errai.jpa.sync.server.DataSyncServiceImpl;
 import org.jboss.errai.jpa.sync.server.JavaReflectionAttributeAccessor;
 import org.jboss.errai.jpa.sync.test.client.entity.SimpleEntity;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Test;
 
 
@@ -191,6 +195,217 @@ public class DataSyncServiceUnitTest extends AbstractServerSideDataSyncTest {
     assertEquals(remoteSimpleEntity.toString(), updateResponse.getEntity().toString());
   }
 
+  @Test
+  public void testCompareBucketsBothSidesUnchanged() {
+    SimpleEntity remoteSimpleEntity = new SimpleEntity();
+    remoteSimpleEntity.setInteger(42);
+    remoteSimpleEntity.setString("Mr. Watson--come here--I want to see you.");
+    em.persist(remoteSimpleEntity);
+    em.flush();
+    em.detach(remoteSimpleEntity);
+
+    SyncableDataSet<SimpleEntity> sds = SyncableDataSet.from("allSimpleEntities", SimpleEntity.class, NO_PARAMS);
+
+    List<SyncRequestOperation<SimpleEntity>> syncRequest = new ArrayList<SyncRequestOperation<SimpleEntity>>();
+    syncRequest.add(SyncRequestOperation.<SimpleEntity>compareBuckets(digestsOf(4, remoteSimpleEntity)));
+
+    // now do the actual sync
+    List<SyncResponse<SimpleEntity>> syncResponse = dss.coldSync(sds, syncRequest);
+
+    // ensure the response is as expected (no bucket differs)
+    assertEquals("Got unexpected response: " + syncResponse, 1, syncResponse.size());
+    BucketMismatchResponse<SimpleEntity> mismatchResponse = (BucketMismatchResponse<SimpleEntity>) syncResponse.get(0);
+    assertEquals(4, mismatchResponse.getMismatched().getBucketCount());
+    assertEquals(Collections.emptyList(), mismatchResponse.getMismatched().getSelected());
+  }
+
+  @Test
+  public void testCompareBucketsRemoteSideChanged() {
+    SimpleEntity remoteSimpleEntity = new SimpleEntity();
+    remoteSimpleEntity.setInteger(42);
+    remoteSimpleEntity.setString("Mr. Watson--come here--I want to see you.");
+    em.persist(remoteSimpleEntity);
+    em.flush();
+
+    SimpleEntity localSimpleEntity = new SimpleEntity(remoteSimpleEntity);
+
+    remoteSimpleEntity.setString("This is different");
+    em.flush();
+    em.detach(remoteSimpleEntity);
+
+    SyncableDataSet<SimpleEntity> sds = SyncableDataSet.from("allSimpleEntities", SimpleEntity.class, NO_PARAMS);
+
+    List<SyncRequestOperation<SimpleEntity>> syncRequest = new ArrayList<SyncRequestOperation<SimpleEntity>>();
+    syncRequest.add(SyncRequestOperation.<SimpleEntity>compareBuckets(digestsOf(4, localSimpleEntity)));
+
+    // now do the actual sync
+    List<SyncResponse<SimpleEntity>> syncResponse = dss.coldSync(sds, syncRequest);
+
+    // ensure the response names the bucket of the changed entity
+    assertEquals("Got unexpected response: " + syncResponse, 1, syncResponse.size());
+    BucketMismatchResponse<SimpleEntity> mismatchResponse = (BucketMismatchResponse<SimpleEntity>) syncResponse.get(0);
+    assertEquals(Collections.singletonList(SyncBuckets.bucketOf(remoteSimpleEntity.getId(), 4)),
+            mismatchResponse.getMismatched().getSelected());
+  }
+
+  @Test
+  public void testListedBucketsRemoteSideChanged() {
+    SimpleEntity remoteSimpleEntity = new SimpleEntity();
+    remoteSimpleEntity.setInteger(42);
+    remoteSimpleEntity.setString("Mr. Watson--come here--I want to see you.");
+    em.persist(remoteSimpleEntity);
+    em.flush();
+
+    SimpleEntity localSimpleEntity = new SimpleEntity(remoteSimpleEntity);
+
+    remoteSimpleEntity.setString("This is different");
+    em.flush();
+    em.detach(remoteSimpleEntity);
+
+    SyncableDataSet<SimpleEntity> sds = SyncableDataSet.from("allSimpleEntities", SimpleEntity.class, NO_PARAMS);
+
+    List<SyncRequestOperation<SimpleEntity>> syncRequest = new ArrayList<SyncRequestOperation<SimpleEntity>>();
+    syncRequest.add(SyncRequestOperation.unchanged(localSimpleEntity));
+    syncRequest.add(SyncRequestOperation.<SimpleEntity>listedBuckets(SyncBuckets.selected(4,
+            Collections.singletonList(SyncBuckets.bucketOf(localSimpleEntity.getId(), 4)))));
+
+    // now do the actual sync
+    List<SyncResponse<SimpleEntity>> syncResponse = dss.coldSync(sds, syncRequest);
+
+    // ensure the response carries the server's new state
+    assertEquals("Got unexpected response: " + syncResponse, 1, syncResponse.size());
+    UpdateResponse<SimpleEntity> updateResponse = (UpdateResponse<SimpleEntity>) syncResponse.get(0);
+    assertEquals(remoteSimpleEntity.toString(), updateResponse.getEntity().toString());
+    assertEquals(remoteSimpleEntity.getVersion(), updateResponse.getEntity().getVersion());
+  }
+
+  @Test
+  public void testListedBucketsRemotelyDeleted() {
+    SimpleEntity localSimpleEntity = new SimpleEntity();
+    SimpleEntity.setId(localSimpleEntity, 123L);
+    localSimpleEntity.setString("Deleted on the server");
+
+    SyncableDataSet<SimpleEntity> sds = SyncableDataSet.from("allSimpleEntities", SimpleEntity.class, NO_PARAMS);
+
+    List<SyncRequestOperation<SimpleEntity>> syncRequest = new ArrayList<SyncRequestOperation<SimpleEntity>>();
+    syncRequest.add(SyncRequestOperation.unchanged(localSimpleEntity));
+    syncRequest.add(SyncRequestOperation.<SimpleEntity>listedBuckets(SyncBuckets.selected(4,
+            Collections.singletonList(SyncBuckets.bucketOf(123L, 4)))));
+
+    // now do the actual sync
+    List<SyncResponse<SimpleEntity>> syncResponse = dss.coldSync(sds, syncRequest);
+
+    // ensure the response is as expected (the server doesn't have the entity anymore)
+    assertEquals("Got unexpected response: " + syncResponse, 1, syncResponse.size());
+    DeleteResponse<SimpleEntity> deleteResponse = (DeleteResponse<SimpleEntity>) syncResponse.get(0);
+    assertEquals(localSimpleEntity.toString(), deleteResponse.getEntity().toString());
+  }
+
+  @Test
+  public void testListedBucketsIgnoreEntitiesOfOtherBuckets() {
+    List<SimpleEntity> remoteEntities = new ArrayList<SimpleEntity>();
+    for (int i = 0; i < 20; i++) {
+      SimpleEntity remoteSimpleEntity = new SimpleEntity();
+      remoteSimpleEntity.setInteger(i);
+      em.persist(remoteSimpleEntity);
+      remoteEntities.add(remoteSimpleEntity);
+    }
+    em.flush();
+
+    SyncableDataSet<SimpleEntity> sds = SyncableDataSet.from("allSimpleEntities", SimpleEntity.class, NO_PARAMS);
+
+    List<SyncRequestOperation<SimpleEntity>> syncRequest = new ArrayList<SyncRequestOperation<SimpleEntity>>();
+    syncRequest.add(SyncRequestOperation.<SimpleEntity>listedBuckets(SyncBuckets.selected(4, Collections.singletonList(0))));
+
+    // now do the actual sync
+    List<SyncResponse<SimpleEntity>> syncResponse = dss.coldSync(sds, syncRequest);
+
+    // ensure exactly the entities of bucket 0 are reported as new
+    int expectedNew = 0;
+    for (SimpleEntity remoteSimpleEntity : remoteEntities) {
+      if (SyncBuckets.bucketOf(remoteSimpleEntity.getId(), 4) == 0) {
+        expectedNew++;
+      }
+    }
+    assertTrue("All entities fell into one bucket", expectedNew > 0 && expectedNew < remoteEntities.size());
+    assertEquals("Got unexpected response: " + syncResponse, expectedNew, syncResponse.size());
+    for (SyncResponse<SimpleEntity> response : syncResponse) {
+      SimpleEntity newEntity = ((NewRemoteEntityResponse<SimpleEntity>) response).getEntity();
+      assertEquals(0, SyncBuckets.bucketOf(newEntity.getId(), 4));
+    }
+  }
+
+  /**
+   * Not run by default. Compares a sync of 20000 entities, 3 of which changed
+   * on the server, sending every unchanged entity and exchanging bucket
+   * digests first.
+   */
+  @Test
+  @Ignore
+  public void testBucketSyncOfLargeDataSet() {
+    List<SimpleEntity> clientEntities = new ArrayList<SimpleEntity>();
+    for (int i = 0; i < 20000; i++) {
+      SimpleEntity entity = new SimpleEntity();
+      entity.setDate(new Timestamp(i * 1000L));
+      entity.setInteger(i);
+      entity.setString("Entity number " + i);
+      em.persist(entity);
+      clientEntities.add(entity);
+    }
+    em.flush();
+    em.clear();
+
+    List<SyncRequestOperation<SimpleEntity>> coldRequest = new ArrayList<SyncRequestOperation<SimpleEntity>>();
+    List<SimpleEntity> expectedStates = new ArrayList<SimpleEntity>();
+    int coldPayload = 0;
+    for (SimpleEntity entity : clientEntities) {
+      SimpleEntity expectedState = new SimpleEntity(entity);
+      coldRequest.add(SyncRequestOperation.unchanged(expectedState));
+      expectedStates.add(expectedState);
+      coldPayload += nonNullAttributeCount(expectedState);
+    }
+
+    for (int i = 0; i < 3; i++) {
+      SimpleEntity changed = em.find(SimpleEntity.class, clientEntities.get(i * 5000).getId());
+      changed.setString("Changed on the server");
+    }
+    em.flush();
+    em.clear();
+
+    SyncableDataSet<SimpleEntity> sds = SyncableDataSet.from("allSimpleEntities", SimpleEntity.class, NO_PARAMS);
+
+    long start = System.nanoTime();
+    List<SyncResponse<SimpleEntity>> coldResponse = dss.coldSync(sds, coldRequest);
+    long coldTime = System.nanoTime() - start;
+    em.clear();
+
+    start = System.nanoTime();
+    int bucketCount = SyncBuckets.bucketCountFor(expectedStates.size());
+    List<SyncRequestOperation<SimpleEntity>> compareRequest = new ArrayList<SyncRequestOperation<SimpleEntity>>();
+    compareRequest.add(SyncRequestOperation.<SimpleEntity>compareBuckets(
+            digestsOf(bucketCount, expectedStates.toArray(new SimpleEntity[0]))));
+    SyncBuckets mismatched = ((BucketMismatchResponse<SimpleEntity>) dss.coldSync(sds, compareRequest).get(0)).getMismatched();
+    em.clear();
+
+    List<SyncRequestOperation<SimpleEntity>> listedRequest = new ArrayList<SyncRequestOperation<SimpleEntity>>();
+    int warmPayload = bucketCount + mismatched.getSelected().size();
+    for (SimpleEntity expectedState : expectedStates) {
+      if (mismatched.getSelected().contains(SyncBuckets.bucketOf(expectedState.getId(), bucketCount))) {
+        listedRequest.add(SyncRequestOperation.unchanged(expectedState));
+        warmPayload += nonNullAttributeCount(expectedState);
+      }
+    }
+    listedRequest.add(SyncRequestOperation.<SimpleEntity>listedBuckets(mismatched));
+    List<SyncResponse<SimpleEntity>> warmResponse = dss.coldSync(sds, listedRequest);
+    long warmTime = System.nanoTime() - start;
+
+    assertEquals(3, mismatched.getSelected().size());
+    assertEquals(warmResponse.size(), coldResponse.size());
+    System.out.println("Syncing 20000 entities with 3 server-side changes:");
+    System.out.println("  all unchanged entities: " + coldPayload + " values sent, " + (coldTime / 1000000) + "ms");
+    System.out.println("  bucket digests:         " + warmPayload + " values sent, " + (warmTime / 1000000) + "ms");
+  }
+
   @Test
   public void testUpdateRequestingSideChanged() {
     SimpleEntity remoteSimpleEntity = new SimpleEntity();
@@ -348,4 +563,30 @@ public class DataSyncServiceUnitTest extends AbstractServerSideDataSyncTest {
     assertSame(unrelatedRemoteEntity, queryResult.get(1));
   }
 
+  /**
+   * Returns the bucket digests of the given entities, like the ones
+   * ClientSyncManager sends at the start of a warm sync.
+   */
+  private SyncBuckets digestsOf(int bucketCount, SimpleEntity ... entities) {
+    int[] digests = new int[bucketCount];
+    for (SimpleEntity entity : entities) {
+      digests[SyncBuckets.bucketOf(entity.getId(), bucketCount)] += SyncBuckets.digestOf(entity.getId(), entity.getVersion());
+    }
+    return SyncBuckets.digests(digests);
+  }
+
+  /**
+   * Returns the number of attributes of the given entity that have a non-null
+   * value, which is how many values the marshaller has to send for it.
+   */
+  private int nonNullAttributeCount(SimpleEntity entity) {
+    JavaReflectionAttributeAccessor accessor = new JavaReflectionAttributeAccessor();
+    int count = 0;
+    for (SingularAttribute<? super SimpleEntity, ?> attr : em.getMetamodel().entity(SimpleEntity.class).getSingularAttributes()) {
+      if (accessor.get(attr, entity) != null) {
+        count++;
+      }
+    }
+    return count;
+  }
 }
@@ -16,12 +16,15 @@
 
 package org.jboss.errai.marshalling.client.api;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.jboss.errai.common.client.api.Assert;
 import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.protocols.CompactProtocol;
 import org.jboss.errai.marshalling.client.util.MarshallUtil;
 
 /**
@@ -36,6 +39,12 @@ public abstract class AbstractMarshallingSession implements MarshallingSession {
   private String assumedMapKeyType = null;
   private String assumedMapValueType = null;
 
+  /**
+   * The type table of a message in the {@link CompactProtocol}, or null if this session does not use one.
+   */
+  private List<String> typeTable;
+  private Map<String, Integer> typeIndexes;
+
   protected AbstractMarshallingSession(final MappingContext context) {
     this.context = Assert.notNull(context);
   }
@@ -115,6 +124,51 @@ public abstract class AbstractMarshallingSession implements MarshallingSession {
     return i.toString();
   }
 
+  /**
+   * Makes this session write references into a type table instead of type names, as defined by the
+   * {@link CompactProtocol}. The table is available from {@link #getTypeTable()} once the message has been encoded.
+   */
+  public void useTypeTable() {
+    typeTable = new ArrayList<String>();
+    typeIndexes = new HashMap<String, Integer>();
+  }
+
+  /**
+   * Returns the type table of the message encoded or decoded by this session, or null if it has none.
+   */
+  public List<String> getTypeTable() {
+    return typeTable;
+  }
+
+  /**
+   * Sets the type table of the message decoded by this session.
+   */
+  public void setTypeTable(final List<String> typeTable) {
+    this.typeTable = typeTable;
+  }
+
+  @Override
+  public String getTypeReference(final String typeName) {
+    if (typeIndexes == null) {
+      return typeName;
+    }
+
+    Integer index = typeIndexes.get(typeName);
+    if (index == null) {
+      typeIndexes.put(typeName, index = typeTable.size());
+      typeTable.add(typeName);
+    }
+    return CompactProtocol.reference(index);
+  }
+
+  @Override
+  public String resolveTypeReference(final String encodedType) {
+    if (typeTable != null && encodedType != null && CompactProtocol.isReference(encodedType)) {
+      return typeTable.get(CompactProtocol.index(encodedType));
+    }
+    return encodedType;
+  }
+
   @Override
   public String getAssumedElementType() {
     return this.assumedElementType;
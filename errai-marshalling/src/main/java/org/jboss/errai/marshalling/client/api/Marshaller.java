@@ -26,6 +26,21 @@ public interface Marshaller<T> {
 
   String marshall(final T o, MarshallingSession ctx);
 
+  /**
+   * Appends the encoded form of the specified object to the buffer. Marshallers of collections and portable types
+   * pass the same buffer on to the marshallers of the objects they contain, so a whole object graph is encoded into a
+   * single buffer, instead of each level building and returning its own string.
+   * <p>
+   * The default implementation appends the result of {@link #marshall(Object, MarshallingSession)}.
+   *
+   * @param buf the buffer to append to.
+   * @param o the object to marshall, which may be null.
+   * @param ctx the marshalling session.
+   */
+  default void marshall(final StringBuilder buf, final T o, final MarshallingSession ctx) {
+    buf.append(marshall(o, ctx));
+  }
+
   /**
    * Returns an empty array of the type handled by this marshaller. Useful in conjunction with {@code List.toArray(T[])}.
    * 
@@ -24,14 +24,13 @@ import org.jboss.errai.common.client.protocols.SerializationParts;
 import org.jboss.errai.marshalling.client.MarshallingSessionProviderFactory;
 import org.jboss.errai.marshalling.client.api.json.EJObject;
 import org.jboss.errai.marshalling.client.api.json.EJValue;
-import org.jboss.errai.marshalling.client.api.json.impl.gwt.GWTJSON;
+import org.jboss.errai.marshalling.client.api.json.impl.js.JsJSON;
 import org.jboss.errai.marshalling.client.protocols.MarshallingSessionProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gwt.core.client.EntryPoint;
 import com.google.gwt.core.client.GWT;
-import com.google.gwt.json.client.JSONParser;
 
 /**
  * @author Mike Brock <cbrock@redhat.com>
@@ -48,7 +47,7 @@ public class MarshallerFramework implements EntryPoint {
     ParserFactory.registerParser(new Parser() {
       @Override
       public EJValue parse(final String input) {
-        return GWTJSON.wrap(JSONParser.parseStrict(input));
+        return JsJSON.parse(input);
       }
     });
 
@@ -115,7 +114,7 @@ public class MarshallerFramework implements EntryPoint {
       if (((EJValue) o).isObject() != null) {
         final EJObject jsonObject = ((EJValue) o).isObject();
         if (jsonObject.containsKey(SerializationParts.ENCODED_TYPE)) {
-          return jsonObject.get(SerializationParts.ENCODED_TYPE).isString().stringValue();
+          return resolveTypeReference(jsonObject.get(SerializationParts.ENCODED_TYPE).isString().stringValue());
         }
         else {
           return Map.class.getName();
@@ -39,6 +39,31 @@ public interface MarshallingSession {
 
   public String determineTypeFor(String formatType, Object o);
 
+  /**
+   * Returns the string to write as the {@link org.jboss.errai.common.client.protocols.SerializationParts#ENCODED_TYPE}
+   * of an object of the specified type. Sessions that encode in the
+   * {@link org.jboss.errai.marshalling.client.protocols.CompactProtocol} return a reference into the message's type
+   * table; all others return the type name itself.
+   *
+   * @param typeName
+   *          the fully qualified name of the type being encoded.
+   */
+  public default String getTypeReference(final String typeName) {
+    return typeName;
+  }
+
+  /**
+   * Returns the type name that an {@link org.jboss.errai.common.client.protocols.SerializationParts#ENCODED_TYPE}
+   * value read by this session stands for.
+   *
+   * @param encodedType
+   *          the value as read from the wire, which is either a type name or a reference into the message's type
+   *          table.
+   */
+  public default String resolveTypeReference(final String encodedType) {
+    return encodedType;
+  }
+
   /**
    * Records a new object to the session with the specified <tt>hashCode</tt> identifier.
    *
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.errai.marshalling.client.api.json.impl.js;
+
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+
+import jsinterop.annotations.JsMethod;
+
+/**
+ * Decodes JSON with the browser's native {@code JSON.parse} and exposes the resulting plain JavaScript values as
+ * {@link EJValue}s. Unlike {@link org.jboss.errai.marshalling.client.api.json.impl.gwt.GWTJSON} no intermediate
+ * {@link com.google.gwt.json.client.JSONValue} tree is built: nodes are only wrapped when a marshaller reads them.
+ */
+public class JsJSON {
+
+  public static EJValue parse(final String json) {
+    return wrap(nativeParse(json));
+  }
+
+  public static EJValue wrap(final Object value) {
+    return new JsJSONValue(value);
+  }
+
+  @JsMethod(namespace = "JSON", name = "parse")
+  private static native Object nativeParse(String json);
+
+  @JsMethod(namespace = "Array", name = "isArray")
+  static native boolean isArray(Object value);
+
+  @JsMethod(namespace = "Object", name = "keys")
+  static native String[] keys(Object value);
+
+  @JsMethod(namespace = "Object", name = "getOwnPropertyDescriptor")
+  static native Object getOwnPropertyDescriptor(Object value, String name);
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.errai.marshalling.client.api.json.impl.js;
+
+import org.jboss.errai.marshalling.client.api.json.EJArray;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+
+import jsinterop.base.JsArrayLike;
+
+/**
+ * An {@link EJArray} over a plain JavaScript array produced by the native {@code JSON.parse}.
+ */
+public class JsJSONArray implements EJArray {
+  private final JsArrayLike<Object> array;
+
+  JsJSONArray(final JsArrayLike<Object> array) {
+    this.array = array;
+  }
+
+  @Override
+  public int size() {
+    return array.getLength();
+  }
+
+  @Override
+  public EJValue get(final int index) {
+    return new JsJSONValue(array.getAt(index));
+  }
+}
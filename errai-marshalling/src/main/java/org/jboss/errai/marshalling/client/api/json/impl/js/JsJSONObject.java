@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.errai.marshalling.client.api.json.impl.js;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * An {@link EJObject} over a plain JavaScript object produced by the native {@code JSON.parse}.
+ */
+public class JsJSONObject implements EJObject {
+  private final JsPropertyMap<Object> obj;
+
+  JsJSONObject(final JsPropertyMap<Object> obj) {
+    this.obj = obj;
+  }
+
+  @Override
+  public EJValue get(final String name) {
+    return new JsJSONValue(containsKey(name) ? obj.get(name) : null);
+  }
+
+  @Override
+  public EJValue getIfNotNull(final String name) {
+    if (!containsKey(name)) {
+      return null;
+    }
+    final Object v = obj.get(name);
+    return v == null ? null : new JsJSONValue(v);
+  }
+
+  @Override
+  public Set<String> keySet() {
+    return new LinkedHashSet<>(Arrays.asList(JsJSON.keys(obj)));
+  }
+
+  @Override
+  public boolean containsKey(final String name) {
+    // the object inherits from Object.prototype, so only own properties are members of the JSON object.
+    return JsJSON.getOwnPropertyDescriptor(obj, name) != null;
+  }
+
+  @Override
+  public int size() {
+    return JsJSON.keys(obj).length;
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.errai.marshalling.client.api.json.impl.js;
+
+import org.jboss.errai.marshalling.client.api.json.EJArray;
+import org.jboss.errai.marshalling.client.api.json.EJBoolean;
+import org.jboss.errai.marshalling.client.api.json.EJNumber;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJString;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+
+import jsinterop.base.Js;
+
+/**
+ * An {@link EJValue} over a value produced by the native {@code JSON.parse}. Numbers, strings and booleans are read
+ * straight from the raw value, so this class answers for them itself instead of allocating a further wrapper.
+ */
+public class JsJSONValue implements EJValue, EJNumber, EJString, EJBoolean {
+  private final Object value;
+
+  JsJSONValue(final Object value) {
+    this.value = value;
+  }
+
+  @Override
+  public EJArray isArray() {
+    if (value != null && JsJSON.isArray(value)) {
+      return new JsJSONArray(Js.asArrayLike(value));
+    }
+    return null;
+  }
+
+  @Override
+  public EJNumber isNumber() {
+    return value instanceof Double ? this : null;
+  }
+
+  @Override
+  public boolean isNull() {
+    return value == null;
+  }
+
+  @Override
+  public EJObject isObject() {
+    if (value != null && "object".equals(Js.typeof(value)) && !JsJSON.isArray(value)) {
+      return new JsJSONObject(Js.asPropertyMap(value));
+    }
+    return null;
+  }
+
+  @Override
+  public EJBoolean isBoolean() {
+    return value instanceof Boolean ? this : null;
+  }
+
+  @Override
+  public EJString isString() {
+    return value instanceof String ? this : null;
+  }
+
+  @Override
+  public Object getRawValue() {
+    return value;
+  }
+
+  @Override
+  public double doubleValue() {
+    return Js.asDouble(value);
+  }
+
+  @Override
+  public int intValue() {
+    return (int) doubleValue();
+  }
+
+  @Override
+  public short shortValue() {
+    return (short) doubleValue();
+  }
+
+  @Override
+  public byte byteValue() {
+    return (byte) doubleValue();
+  }
+
+  @Override
+  public float floatValue() {
+    return (float) doubleValue();
+  }
+
+  @Override
+  public String stringValue() {
+    return Js.asString(value);
+  }
+
+  @Override
+  public boolean booleanValue() {
+    return Js.asBoolean(value);
+  }
+}
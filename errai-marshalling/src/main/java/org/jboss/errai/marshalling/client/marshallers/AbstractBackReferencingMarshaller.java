@@ -41,20 +41,39 @@ public abstract class AbstractBackReferencingMarshaller<C> implements Marshaller
       return "null";
     }
 
+    final StringBuilder buf = new StringBuilder();
+    marshall(buf, o, encodedType, ctx);
+    return buf.toString();
+  }
+
+  @Override
+  public final void marshall(final StringBuilder buf, final C o, final MarshallingSession ctx) {
+    if (o == null) {
+      buf.append("null");
+    }
+    else {
+      marshall(buf, o, o.getClass().getName(), ctx);
+    }
+  }
+
+  public final void marshall(final StringBuilder buf, final C o, final String encodedType,
+                             final MarshallingSession ctx) {
+    if (o == null) {
+      buf.append("null");
+      return;
+    }
+
     final boolean isNew = !ctx.hasObject(o);
     final String objId = ctx.getObject(o);
 
-    final StringBuilder buf = new StringBuilder("{\"").append(SerializationParts.ENCODED_TYPE).append("\":\"")
-            .append(encodedType).append("\",\"").append(SerializationParts.OBJECT_ID).append("\":\"")
-            .append(objId).append("\"");
+    buf.append("{\"").append(SerializationParts.ENCODED_TYPE).append("\":\"")
+            .append(ctx.getTypeReference(encodedType)).append("\",\"")
+            .append(SerializationParts.OBJECT_ID).append("\":\"").append(objId).append("\"");
 
-    if (!isNew) {
-      return buf.append("}").toString();
-    }
-    else {
+    if (isNew) {
       doMarshall(buf.append(",\"").append(SerializationParts.QUALIFIED_VALUE).append("\":"), o, ctx);
-      return buf.append("}").toString();
     }
+    buf.append("}");
   }
 
   public abstract void doMarshall(StringBuilder buf, C o, MarshallingSession ctx);
@@ -46,7 +46,25 @@ public abstract class AbstractNullableMarshaller<T> implements Marshaller<T> {
     }
   }
 
+  @Override
+  public final void marshall(final StringBuilder buf, final T o, final MarshallingSession ctx) {
+    if (o == null) {
+      buf.append("null");
+    }
+    else {
+      doNotNullMarshall(buf, o, ctx);
+    }
+  }
+
   public abstract T doNotNullDemarshall(EJValue o, MarshallingSession ctx);
 
   public abstract String doNotNullMarshall(T o, MarshallingSession ctx);
+
+  /**
+   * Appends the encoded form of the (non-null) object to the buffer. Marshallers which contain other objects should
+   * override this, so that those objects are appended to the same buffer.
+   */
+  public void doNotNullMarshall(final StringBuilder buf, final T o, final MarshallingSession ctx) {
+    buf.append(doNotNullMarshall(o, ctx));
+  }
 }
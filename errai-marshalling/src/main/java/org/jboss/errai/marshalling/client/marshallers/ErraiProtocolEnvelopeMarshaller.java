@@ -25,6 +25,7 @@ import org.jboss.errai.marshalling.client.api.Marshaller;
 import org.jboss.errai.marshalling.client.api.MarshallingSession;
 import org.jboss.errai.marshalling.client.api.json.EJObject;
 import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.protocols.CompactProtocol;
 import org.jboss.errai.marshalling.client.util.MarshallUtil;
 
 /**
@@ -43,41 +44,52 @@ public class ErraiProtocolEnvelopeMarshaller implements Marshaller<Map<String, O
                                              final EJValue o,
                                              final MarshallingSession ctx) {
     final EJObject jsonObject = o.isObject();
+    final boolean compact = CompactProtocol.readTypeTable(jsonObject, ctx);
 
     for (final String key : jsonObject.keySet()) {
-      if (MessageParts.SessionID.name().equals(key))
+      if (MessageParts.SessionID.name().equals(key) || compact && CompactProtocol.TYPE_TABLE.equals(key))
         continue;
-      final EJValue v = jsonObject.get(key);
-      if (!v.isNull()) {
-        final Marshaller<Object> marshallerInstance = ctx.getMarshallerInstance(ctx.determineTypeFor(null, v));
-        if (marshallerInstance == null) {
-          if (MessageParts.Throwable.name().equals(key)) {
-            EJValue msg = v.isObject().get("message");
-            if (!msg.isNull() && msg.isString() != null) {
-              impl.put(key, new Throwable(msg.isString().stringValue()));  
-            }
-            else {
-              impl.put(key, new Throwable("No details provided"));
-            }
-            continue;
-          }
-          else {
-            throw new RuntimeException("no marshaller for: " + ctx.determineTypeFor(null, v));
-          }
+      impl.put(key, demarshallPart(key, jsonObject.get(key), ctx));
+    }
+    return impl;
+  }
+
+  /**
+   * Demarshalls the value of the specified part of a message.
+   */
+  public static Object demarshallPart(final String key, final EJValue v, final MarshallingSession ctx) {
+    if (v.isNull()) {
+      return null;
+    }
+
+    final Marshaller<Object> marshallerInstance = ctx.getMarshallerInstance(ctx.determineTypeFor(null, v));
+    if (marshallerInstance == null) {
+      if (MessageParts.Throwable.name().equals(key)) {
+        final EJValue msg = v.isObject().get("message");
+        if (!msg.isNull() && msg.isString() != null) {
+          return new Throwable(msg.isString().stringValue());
+        }
+        else {
+          return new Throwable("No details provided");
         }
-        impl.put(key, marshallerInstance.demarshall(v, ctx));
       }
       else {
-        impl.put(key, null);
+        throw new RuntimeException("no marshaller for: " + ctx.determineTypeFor(null, v));
       }
     }
-    return impl;
+    return marshallerInstance.demarshall(v, ctx);
   }
 
   @Override
   public String marshall(final Map<String, Object> o, final MarshallingSession ctx) {
     final StringBuilder buf = new StringBuilder();
+    marshall(buf, o, ctx);
+    return buf.toString();
+  }
 
+  @Override
+  public void marshall(final StringBuilder buf, final Map<String, Object> o, final MarshallingSession ctx) {
+    final int start = buf.length();
     buf.append("{");
     Object key, val;
     int i = 0;
@@ -106,11 +118,12 @@ public class ErraiProtocolEnvelopeMarshaller implements Marshaller<Map<String, O
           valueMarshaller = MarshallUtil.getMarshaller(val, ctx);
         }
         
-        buf.append(valueMarshaller.marshall(MarshallUtil.maybeUnwrap(val), ctx));
+        valueMarshaller.marshall(buf, MarshallUtil.maybeUnwrap(val), ctx);
       }
     }
 
-    return buf.append("}").toString();
+    buf.append("}");
+    CompactProtocol.writeTypeTable(buf, start, ctx);
   }
 
   @Override
@@ -26,6 +26,7 @@ import org.jboss.errai.marshalling.client.api.Marshaller;
 import org.jboss.errai.marshalling.client.api.MarshallingSession;
 import org.jboss.errai.marshalling.client.api.json.EJObject;
 import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.protocols.CompactProtocol;
 import org.jboss.errai.marshalling.client.util.MarshallUtil;
 
 /**
@@ -45,7 +46,11 @@ public class ErraiProtocolEnvelopeNoAutoMarshaller implements Marshaller<Map<Str
     if (jsonObject == null)
       return null;
 
+    final boolean compact = CompactProtocol.readTypeTable(jsonObject, ctx);
+
     for (final String key : jsonObject.keySet()) {
+      if (compact && CompactProtocol.TYPE_TABLE.equals(key))
+        continue;
       final EJValue v = jsonObject.get(key);
       if (!v.isNull()) {
         final String type = ctx.determineTypeFor(null, v);
@@ -64,11 +69,16 @@ public class ErraiProtocolEnvelopeNoAutoMarshaller implements Marshaller<Map<Str
     return impl;
   }
 
-  @SuppressWarnings("unchecked")
   @Override
   public String marshall(final Map<String, Object> o, final MarshallingSession ctx) {
     final StringBuilder buf = new StringBuilder();
+    marshall(buf, o, ctx);
+    return buf.toString();
+  }
 
+  @SuppressWarnings("unchecked")
+  @Override
+  public void marshall(final StringBuilder buf, final Map<String, Object> o, final MarshallingSession ctx) {
     buf.append("{");
     Object key, val;
     int i = 0;
@@ -105,11 +115,11 @@ public class ErraiProtocolEnvelopeNoAutoMarshaller implements Marshaller<Map<Str
         if (val instanceof WrappedPortable) {
           val = ((WrappedPortable) val).unwrap();
         }
-        buf.append(valueMarshaller.marshall(val, ctx));
+        valueMarshaller.marshall(buf, val, ctx);
       }
     }
 
-    return buf.append("}").toString();
+    buf.append("}");
   }
 
   @Override
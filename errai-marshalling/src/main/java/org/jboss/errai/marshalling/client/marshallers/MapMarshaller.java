@@ -159,6 +159,12 @@ public class MapMarshaller<T extends Map<Object, Object>> implements Marshaller<
   @Override
   public String marshall(final T o, final MarshallingSession ctx) {
     final StringBuilder buf = new StringBuilder();
+    marshall(buf, o, ctx);
+    return buf.toString();
+  }
+
+  @Override
+  public void marshall(final StringBuilder buf, final T o, final MarshallingSession ctx) {
     buf.append("{");
     int i = 0;
     for (final Map.Entry<Object, Object> entry : o.entrySet()) {
@@ -203,10 +209,10 @@ public class MapMarshaller<T extends Map<Object, Object>> implements Marshaller<
         else {
           valueMarshaller = MarshallUtil.getMarshaller(entry.getValue(), ctx);
         }
-        buf.append(valueMarshaller.marshall(MarshallUtil.maybeUnwrap(entry.getValue()), ctx));
+        valueMarshaller.marshall(buf, MarshallUtil.maybeUnwrap(entry.getValue()), ctx);
       }
     }
 
-    return buf.append("}").toString();
+    buf.append("}");
   }
 }
@@ -17,6 +17,7 @@
 package org.jboss.errai.marshalling.client.marshallers;
 
 import org.jboss.errai.common.client.protocols.SerializationParts;
+import org.jboss.errai.marshalling.client.api.Marshaller;
 import org.jboss.errai.marshalling.client.api.MarshallingSession;
 import org.jboss.errai.marshalling.client.api.annotations.ClientMarshaller;
 import org.jboss.errai.marshalling.client.api.annotations.ServerMarshaller;
@@ -51,7 +52,7 @@ public class ObjectMarshaller extends AbstractNullableMarshaller<Object> {
       final EJValue ejEncType = jsObject.get(SerializationParts.ENCODED_TYPE);
       String encodedType = null;
       if (!ejEncType.isNull() && ejEncType.isString() != null) {
-        encodedType = ejEncType.isString().stringValue();
+        encodedType = ctx.resolveTypeReference(ejEncType.isString().stringValue());
       }
 
       if (encodedType == null) {
@@ -124,4 +125,19 @@ public class ObjectMarshaller extends AbstractNullableMarshaller<Object> {
 
     return MarshallUtil.getMarshaller(o, ctx).marshall(o, ctx);
   }
+
+  @Override
+  public void doNotNullMarshall(final StringBuilder buf, final Object o, final MarshallingSession ctx) {
+    if ((o instanceof Number && !o.getClass().getName().startsWith("java.math.Big")) || o instanceof Boolean) {
+      buf.append(NumbersUtils.qualifiedNumericEncoding(o));
+      return;
+    }
+
+    final Marshaller<Object> marshaller = MarshallUtil.getMarshaller(o, ctx);
+    if (marshaller == null) {
+      throw new RuntimeException("marshalled type is unknown to the marshalling framework: " + o.getClass().getName());
+    }
+
+    marshaller.marshall(buf, o, ctx);
+  }
 }
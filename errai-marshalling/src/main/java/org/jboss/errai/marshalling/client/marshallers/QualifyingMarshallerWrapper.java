@@ -78,19 +78,23 @@ public class QualifyingMarshallerWrapper<T> extends AbstractNullableMarshaller<T
 
   @Override
   public String doNotNullMarshall(final T o, final MarshallingSession ctx) {
+    final StringBuilder buf = new StringBuilder();
+    doNotNullMarshall(buf, o, ctx);
+    return buf.toString();
+  }
+
+  @Override
+  public void doNotNullMarshall(final StringBuilder buf, final T o, final MarshallingSession ctx) {
     final boolean isNew = !ctx.hasObject(o);
 
-    final StringBuilder buf = new StringBuilder("{\"").append(SerializationParts.ENCODED_TYPE).append("\":\"")
-            .append(o.getClass().getName()).append("\",\"").append(SerializationParts.OBJECT_ID).append("\":\"")
+    buf.append("{\"").append(SerializationParts.ENCODED_TYPE).append("\":\"")
+            .append(ctx.getTypeReference(o.getClass().getName())).append("\",\"").append(SerializationParts.OBJECT_ID).append("\":\"")
             .append(ctx.getObject(o)).append("\"");
 
-    if (!isNew) {
-      return buf.append("}").toString();
-    }
-    else {
-      return buf.append(",\"").append(SerializationParts.QUALIFIED_VALUE).append("\":").append(
-          delegate.marshall(o, ctx))
-              .append("}").toString();
+    if (isNew) {
+      buf.append(",\"").append(SerializationParts.QUALIFIED_VALUE).append("\":");
+      delegate.marshall(buf, o, ctx);
     }
+    buf.append("}");
   }
 }
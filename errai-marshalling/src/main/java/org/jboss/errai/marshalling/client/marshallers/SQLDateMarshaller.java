@@ -57,7 +57,7 @@ public class SQLDateMarshaller extends AbstractNullableMarshaller<Date> {
 
   @Override
   public String doNotNullMarshall(final Date o, final MarshallingSession ctx) {
-    return "{\"" + SerializationParts.ENCODED_TYPE + "\":\"" + Date.class.getName() + "\"," +
+    return "{\"" + SerializationParts.ENCODED_TYPE + "\":\"" + ctx.getTypeReference(Date.class.getName()) + "\"," +
         "\"" + SerializationParts.OBJECT_ID + "\":\"" + o.hashCode() + "\"," +
         "\"" + SerializationParts.QUALIFIED_VALUE + "\":\"" + o.getTime() + "\"}";
   }
@@ -44,4 +44,9 @@ public class StringMarshaller extends AbstractNullableMarshaller<String> {
   public String doNotNullMarshall(final String o, final MarshallingSession ctx) {
     return "\"" + MarshallUtil.jsonStringEscape(o) + "\"";
   }
+
+  @Override
+  public void doNotNullMarshall(final StringBuilder buf, final String o, final MarshallingSession ctx) {
+    buf.append('"').append(MarshallUtil.jsonStringEscape(o)).append('"');
+  }
 }
@@ -58,7 +58,7 @@ public class TimeMarshaller extends AbstractNullableMarshaller<Time> {
 
   @Override
   public String doNotNullMarshall(final Time o, final MarshallingSession ctx) {
-    return "{\"" + SerializationParts.ENCODED_TYPE + "\":\"" + Time.class.getName() + "\"," +
+    return "{\"" + SerializationParts.ENCODED_TYPE + "\":\"" + ctx.getTypeReference(Time.class.getName()) + "\"," +
             "\"" + SerializationParts.OBJECT_ID + "\":\"" + o.hashCode() + "\"," +
             "\"" + SerializationParts.QUALIFIED_VALUE + "\":\"" + o.getTime() + "\"}";
   }
@@ -57,7 +57,7 @@ public class TimestampMarshaller extends AbstractNullableMarshaller<Timestamp> {
 
   @Override
   public String doNotNullMarshall(final Timestamp o, final MarshallingSession ctx) {
-    return "{\"" + SerializationParts.ENCODED_TYPE + "\":\"" + Timestamp.class.getName() + "\"," +
+    return "{\"" + SerializationParts.ENCODED_TYPE + "\":\"" + ctx.getTypeReference(Timestamp.class.getName()) + "\"," +
             "\"" + SerializationParts.OBJECT_ID + "\":\"" + o.hashCode() + "\"," +
             "\"" + SerializationParts.QUALIFIED_VALUE + "\":\"" + o.getTime() + "\"}";
   }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.marshalling.client.protocols;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.errai.common.client.protocols.SerializationParts;
+import org.jboss.errai.marshalling.client.api.AbstractMarshallingSession;
+import org.jboss.errai.marshalling.client.api.MarshallingSession;
+import org.jboss.errai.marshalling.client.api.json.EJArray;
+import org.jboss.errai.marshalling.client.api.json.EJObject;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+
+/**
+ * The compact variant of the Errai wire protocol. In a compacted message, the
+ * {@link SerializationParts#ENCODED_TYPE} of the objects written by the bean, collection, date and qualifying marshallers is
+ * a reference <tt>~n</tt> into the message's type table. The table is sent as the first member of the message:
+ * <tt>"~":["type0","type1",...]</tt>. Keys, and the type names written by other marshallers, are sent in full.
+ * <p>
+ * The encoding session assigns the references while the message is marshalled, and the table is inserted in front of
+ * the message once it is complete. The decoding session reads the table before any part of the message is
+ * demarshalled and resolves references when a marshaller asks for the type of an object. Neither side makes a pass
+ * over the text of the message, and the client still hands the payload straight to the browser's JSON parser.
+ * <p>
+ * Because the table is built for every message, compacted messages can be mixed with standard ones, reordered by the
+ * transport, or written once to a buffer shared by several queues.
+ */
+public final class CompactProtocol {
+  /**
+   * The key of the type table of a compacted message.
+   */
+  public static final String TYPE_TABLE = "~";
+
+  private static final char REFERENCE = '~';
+
+  private CompactProtocol() {
+  }
+
+  /**
+   * Returns the reference to the specified entry of a message's type table.
+   */
+  public static String reference(final int index) {
+    return REFERENCE + Integer.toString(index);
+  }
+
+  /**
+   * Returns true if the specified {@link SerializationParts#ENCODED_TYPE} value is a reference into a type table.
+   * Java type names never start with a <tt>~</tt>, so references need no escaping.
+   */
+  public static boolean isReference(final String encodedType) {
+    return encodedType.length() > 1 && encodedType.charAt(0) == REFERENCE;
+  }
+
+  /**
+   * Returns the index of the type table entry that the specified reference points to.
+   */
+  public static int index(final String reference) {
+    return Integer.parseInt(reference.substring(1));
+  }
+
+  /**
+   * Inserts the type table collected by the specified encoding session in front of the members of the message that
+   * starts at the specified position of the buffer. Does nothing if no references were written.
+   *
+   * @param buf
+   *          the buffer holding the encoded message.
+   * @param messageStart
+   *          the position of the opening brace of the message.
+   * @param ctx
+   *          the session that encoded the message.
+   */
+  public static void writeTypeTable(final StringBuilder buf, final int messageStart, final MarshallingSession ctx) {
+    if (!(ctx instanceof AbstractMarshallingSession)) {
+      return;
+    }
+
+    final List<String> types = ((AbstractMarshallingSession) ctx).getTypeTable();
+    if (types == null || types.isEmpty()) {
+      return;
+    }
+
+    final StringBuilder table = new StringBuilder(types.size() * 40).append('"').append(TYPE_TABLE).append("\":[");
+    for (int i = 0; i < types.size(); i++) {
+      if (i > 0) {
+        table.append(',');
+      }
+      table.append('"').append(types.get(i)).append('"');
+    }
+    table.append(']');
+    if (buf.charAt(messageStart + 1) != '}') {
+      table.append(',');
+    }
+
+    buf.insert(messageStart + 1, table);
+  }
+
+  /**
+   * Installs the type table of the specified message, if it has one, in the session that decodes the message.
+   *
+   * @return true if the message has a type table.
+   */
+  public static boolean readTypeTable(final EJObject message, final MarshallingSession ctx) {
+    final EJValue value = message.get(TYPE_TABLE);
+    if (value == null || value.isNull() || value.isArray() == null) {
+      return false;
+    }
+
+    final EJArray array = value.isArray();
+    final List<String> types = new ArrayList<String>(array.size());
+    for (int i = 0; i < array.size(); i++) {
+      types.add(array.get(i).isString().stringValue());
+    }
+
+    if (ctx instanceof AbstractMarshallingSession) {
+      ((AbstractMarshallingSession) ctx).setTypeTable(types);
+    }
+    return true;
+  }
+}
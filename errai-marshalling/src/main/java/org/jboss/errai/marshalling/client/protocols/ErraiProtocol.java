@@ -17,6 +17,8 @@
 package org.jboss.errai.marshalling.client.protocols;
 
 import org.jboss.errai.marshalling.client.MarshallingSessionProviderFactory;
+import org.jboss.errai.marshalling.client.api.AbstractMarshallingSession;
+import org.jboss.errai.marshalling.client.api.MarshallingSession;
 import org.jboss.errai.marshalling.client.api.json.EJValue;
 import org.jboss.errai.marshalling.client.marshallers.ErraiProtocolEnvelopeMarshaller;
 
@@ -37,7 +39,34 @@ public class ErraiProtocol {
    * @return The encoded JSON
    */
   public static String encodePayload(final Map<String, Object> message) {
-    return protocolMarshaller.marshall(message, MarshallingSessionProviderFactory.getEncoding());
+    final StringBuilder buf = new StringBuilder(256);
+    encodePayload(buf, message);
+    return buf.toString();
+  }
+
+  /**
+   * Encode a standard Errai Protocol payload of the key-value pairs to be sent across the wire, appending it to the
+   * specified buffer. All parts of the message are encoded into this buffer.
+   *
+   * @param buf The buffer to append the encoded JSON to.
+   * @param message A map of the key-value pairs to be encoded.
+   */
+  public static void encodePayload(final StringBuilder buf, final Map<String, Object> message) {
+    protocolMarshaller.marshall(buf, message, MarshallingSessionProviderFactory.getEncoding());
+  }
+
+  /**
+   * Encode a payload in the {@link CompactProtocol}, appending it to the specified buffer.
+   *
+   * @param buf The buffer to append the encoded JSON to.
+   * @param message A map of the key-value pairs to be encoded.
+   */
+  public static void encodeCompactPayload(final StringBuilder buf, final Map<String, Object> message) {
+    final MarshallingSession session = MarshallingSessionProviderFactory.getEncoding();
+    if (session instanceof AbstractMarshallingSession) {
+      ((AbstractMarshallingSession) session).useTypeTable();
+    }
+    protocolMarshaller.marshall(buf, message, session);
   }
 
   /**
@@ -52,6 +52,24 @@ public class MarshallUtil {
     };
   }
 
+  /**
+   * Appends {@code o} to {@code buf} using {@link Marshaller#marshall(StringBuilder, Object, MarshallingSession)}.
+   * Generated marshallers call this instead of the interface method because the GWT type oracle hides default
+   * interface methods from code generators.
+   */
+  public static <T> void marshall(final StringBuilder buf, final Marshaller<T> marshaller, final T o,
+          final MarshallingSession ctx) {
+    marshaller.marshall(buf, o, ctx);
+  }
+
+  /**
+   * Returns {@link MarshallingSession#getTypeReference(String)} for generated marshallers, which cannot call default
+   * interface methods directly (see {@link #marshall(StringBuilder, Marshaller, Object, MarshallingSession)}).
+   */
+  public static String getTypeReference(final MarshallingSession ctx, final String typeName) {
+    return ctx.getTypeReference(typeName);
+  }
+
   public static String jsonStringEscape(final String s) {
     final StringBuilder sb = new StringBuilder(s.length());
     for (int i = 0; i < s.length(); i++) {
@@ -68,6 +68,7 @@ import org.jboss.errai.marshalling.client.api.annotations.AlwaysQualify;
 import org.jboss.errai.marshalling.client.api.json.EJArray;
 import org.jboss.errai.marshalling.client.api.json.EJValue;
 import org.jboss.errai.marshalling.client.marshallers.QualifyingMarshallerWrapper;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
 import org.jboss.errai.marshalling.rebind.api.ArrayMarshallerCallback;
 import org.jboss.errai.marshalling.rebind.api.GeneratorMappingContext;
 import org.jboss.errai.marshalling.rebind.api.GeneratorMappingContextFactory;
@@ -540,6 +541,22 @@ public class MarshallerGeneratorFactory {
 
     arrayDemarshallCode(toMap, dimensions, classStructureBuilder, initMethod);
 
+    final BlockBuilder<?> appendMethodBlock = classStructureBuilder.publicMethod(void.class, "marshall",
+        Parameter.of(StringBuilder.class, "buf"), Parameter.of(toMap.asArrayOf(dimensions), "a0"),
+        Parameter.of(MarshallingSession.class, "a1"));
+
+    appendMethodBlock.append(
+        If.isNull(loadVariable("a0"))
+            .append(Stmt.loadVariable("buf").invoke("append", "null"))
+            .finish()
+            .else_()
+            .append(Stmt.nestedCall(Stmt.loadVariable("this")).invoke("_marshall" + dimensions,
+                loadVariable("buf"), loadVariable("a0"), loadVariable("a1")))
+            .finish()
+        );
+
+    appendMethodBlock.finish();
+
     final BlockBuilder<?> marshallMethodBlock = classStructureBuilder.publicMethod(String.class, "marshall",
         Parameter.of(toMap.asArrayOf(dimensions), "a0"), Parameter.of(MarshallingSession.class, "a1"));
 
@@ -547,11 +564,12 @@ public class MarshallerGeneratorFactory {
         If.isNull(loadVariable("a0"))
             .append(Stmt.load(null).returnValue())
             .finish()
-            .else_()
-            .append(Stmt.nestedCall(Stmt.loadVariable("this")).invoke("_marshall" + dimensions,
-                loadVariable("a0"), loadVariable("a1")).returnValue())
-            .finish()
         );
+    marshallMethodBlock.append(Stmt.declareFinalVariable("buf", StringBuilder.class,
+        Stmt.newObject(StringBuilder.class)));
+    marshallMethodBlock.append(Stmt.loadVariable("this").invoke("_marshall" + dimensions,
+        loadVariable("buf"), loadVariable("a0"), loadVariable("a1")));
+    marshallMethodBlock.append(Stmt.loadVariable("buf").invoke("toString").returnValue());
 
     marshallMethodBlock.finish();
 
@@ -615,8 +633,9 @@ public class MarshallerGeneratorFactory {
 
     dmBuilder.finish();
 
-    final BlockBuilder<?> mBuilder = classBuilder.privateMethod(String.class, "_marshall" + dim)
-        .parameters(arrayType, MarshallingSession.class).body();
+    final BlockBuilder<?> mBuilder = classBuilder.privateMethod(void.class, "_marshall" + dim,
+        Parameter.of(StringBuilder.class, "buf"), Parameter.of(arrayType, "a0"),
+        Parameter.of(MarshallingSession.class, "a1"));
 
     MarshallingGenUtil.ensureMarshallerFieldCreated(classBuilder, null, MetaClassFactory.get(Object.class), initMethod);
 
@@ -624,21 +643,22 @@ public class MarshallerGeneratorFactory {
       mBuilder.append(Stmt.loadVariable("this").invoke("lazyInit"));
     }
 
-    mBuilder.append(Stmt.declareVariable(StringBuilder.class).named("sb")
-        .initializeWith(Stmt.newObject(StringBuilder.class, "[")))
+    mBuilder.append(Stmt.loadVariable("buf").invoke("append", "["))
         .append(autoForLoop("i", Stmt.loadVariable("a0").loadField("length"))
             .append(Stmt.if_(Bool.greaterThan(Stmt.loadVariable("i"), 0))
-                .append(Stmt.loadVariable("sb").invoke("append", ",")).finish())
-            .append(Stmt.loadVariable("sb").invoke("append", dim == 1 ?
-                Stmt.loadVariable(MarshallingGenUtil.getVarName(MetaClassFactory.get(Object.class)))
-                    .invoke("marshall",
-                        Stmt.loadVariable("a0", Stmt.loadVariable("i")),
-                        Stmt.loadVariable("a1"))
+                .append(Stmt.loadVariable("buf").invoke("append", ",")).finish())
+            .append(dim == 1 ?
+                Stmt.invokeStatic(MarshallUtil.class, "marshall",
+                    Stmt.loadVariable("buf"),
+                    Stmt.loadVariable(MarshallingGenUtil.getVarName(MetaClassFactory.get(Object.class))),
+                    Stmt.loadVariable("a0", Stmt.loadVariable("i")),
+                    Stmt.loadVariable("a1"))
                 :
                 Stmt.loadVariable("this").invoke(
-                    "_marshall" + (dim - 1), Stmt.loadVariable("a0", Stmt.loadVariable("i")), loadVariable("a1"))))
+                    "_marshall" + (dim - 1), Stmt.loadVariable("buf"), Stmt.loadVariable("a0", Stmt.loadVariable("i")),
+                    loadVariable("a1")))
             .finish())
-        .append(Stmt.loadVariable("sb").invoke("append", "]").invoke("toString").returnValue())
+        .append(Stmt.loadVariable("buf").invoke("append", "]"))
         .finish();
 
     if (dim > 1) {
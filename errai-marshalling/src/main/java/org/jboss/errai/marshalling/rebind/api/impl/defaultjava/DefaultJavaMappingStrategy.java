@@ -48,7 +48,6 @@ import org.jboss.errai.codegen.meta.MetaField;
 import org.jboss.errai.codegen.meta.MetaMethod;
 import org.jboss.errai.codegen.meta.impl.build.BuildMetaClass;
 import org.jboss.errai.codegen.util.Bool;
-import org.jboss.errai.codegen.util.Expr;
 import org.jboss.errai.codegen.util.GenUtil;
 import org.jboss.errai.codegen.util.If;
 import org.jboss.errai.codegen.util.Implementations;
@@ -65,6 +64,7 @@ import org.jboss.errai.marshalling.client.api.exceptions.NoAvailableMarshallerEx
 import org.jboss.errai.marshalling.client.api.json.EJObject;
 import org.jboss.errai.marshalling.client.api.json.EJValue;
 import org.jboss.errai.marshalling.client.marshallers.ObjectMarshaller;
+import org.jboss.errai.marshalling.client.util.MarshallUtil;
 import org.jboss.errai.marshalling.rebind.MarshallerGeneratorFactory;
 import org.jboss.errai.marshalling.rebind.api.GeneratorMappingContext;
 import org.jboss.errai.marshalling.rebind.api.MappingStrategy;
@@ -396,13 +396,25 @@ public class DefaultJavaMappingStrategy implements MappingStrategy {
          * MARSHAL METHOD
          *
          */
-        final BlockBuilder<?> marshallMethodBlock = classStructureBuilder.publicMethod(String.class, "marshall",
-            Parameter.of(toMap, "a0"), Parameter.of(MarshallingSession.class, "a1"));
+        final BlockBuilder<?> appendMethodBlock = classStructureBuilder.publicMethod(void.class, "marshall",
+            Parameter.of(StringBuilder.class, "buf"), Parameter.of(toMap, "a0"),
+            Parameter.of(MarshallingSession.class, "a1"));
 
-        marshallMethodBlock.append(Stmt.loadVariable("this").invoke("lazyInit"));
-        marshallToJSON(marshallMethodBlock, toMap, mappingDefinition, classStructureBuilder, initMethod);
+        appendMethodBlock.append(Stmt.loadVariable("this").invoke("lazyInit"));
+        marshallToJSON(appendMethodBlock, toMap, mappingDefinition, classStructureBuilder, initMethod);
 
-        marshallMethodBlock.finish();
+        appendMethodBlock.finish();
+
+        final int bufSize = calcBufferSize(new ArrayList<MappingDefinition>(), mappingDefinition);
+
+        classStructureBuilder.publicMethod(String.class, "marshall",
+            Parameter.of(toMap, "a0"), Parameter.of(MarshallingSession.class, "a1"))
+            .append(Stmt.declareFinalVariable("buf", StringBuilder.class,
+                Stmt.newObject(StringBuilder.class, bufSize)))
+            .append(Stmt.loadVariable("this").invoke("marshall", loadVariable("buf"), loadVariable("a0"),
+                loadVariable("a1")))
+            .append(Stmt.loadVariable("buf").invoke("toString").returnValue())
+            .finish();
 
         if (initMethod != null) {
           initMethod.finish();
@@ -537,40 +549,31 @@ public class DefaultJavaMappingStrategy implements MappingStrategy {
 
     builder.append(
         If.isNull(loadVariable("a0"))
-            .append(Stmt.load("null").returnValue()).finish()
+            .append(loadVariable("buf").invoke("append", "null"))
+            .append(Stmt.returnVoid()).finish()
         );
 
-    final int bufSize = calcBufferSize(new ArrayList<MappingDefinition>(), definition);
-
     if (toMap.isEnum()) {
-      builder.append(Stmt.load(marshallEnum(loadVariable("a0"), toMap)).returnValue());
+      builder.append(loadVariable("buf").invoke("append", marshallEnum(loadVariable("a0"), toMap)));
       return;
     }
 
     builder.append(Stmt.declareFinalVariable("ref", boolean.class,
         Stmt.loadVariable("a1").invoke("hasObject", Refs.get("a0"))));
 
-    StringExpression json = Str.expr("", StringOperator.Concat, "{\"");
-    json = Str.expr(json, StringOperator.Concat, SerializationParts.ENCODED_TYPE);
-    json = Str.expr(json, StringOperator.Concat, "\":\"");
-    json = Str.expr(json, StringOperator.Concat, toType.getFullyQualifiedName());
-    json = Str.expr(json, StringOperator.Concat, "\"");
-    json = Str.expr(json, StringOperator.Concat, ",\"");
-    json = Str.expr(json, StringOperator.Concat, SerializationParts.OBJECT_ID);
-    json = Str.expr(json, StringOperator.Concat, "\":\"");
-    json = Str.expr(json, StringOperator.Concat, loadVariable("a1").invoke("getObject", Stmt.loadVariable("a0")));
-    json = Str.expr(json, StringOperator.Concat, "\"");
-    
-    builder.append(Stmt.declareFinalVariable("prefix", String.class, json));
+    builder.append(loadVariable("buf")
+        .invoke("append", "{\"" + SerializationParts.ENCODED_TYPE + "\":\"")
+        .invoke("append", Stmt.invokeStatic(MarshallUtil.class, "getTypeReference", loadVariable("a1"),
+            toType.getFullyQualifiedName()))
+        .invoke("append", "\",\"" + SerializationParts.OBJECT_ID + "\":\"")
+        .invoke("append", loadVariable("a1").invoke("getObject", Stmt.loadVariable("a0")))
+        .invoke("append", "\""));
     builder.append(
         If.cond(loadVariable("ref"))
-            .append(Stmt.load(Str.expr(loadVariable("prefix"), StringOperator.Concat, "}")).returnValue())
+            .append(loadVariable("buf").invoke("append", "}"))
+            .append(Stmt.returnVoid())
             .finish());
 
-    StringExpression concat = null;
-
-    boolean hasEncoded = false;
-
     int i = 0;
     for (final MemberMapping mapping : definition.getMemberMappings()) {
       if (!mapping.canRead()) {
@@ -581,14 +584,6 @@ public class DefaultJavaMappingStrategy implements MappingStrategy {
       MarshallingGenUtil.ensureMarshallerFieldCreated(classStructureBuilder, toMap, mapping.getType()
             .asBoxed(), lazyInitMethod);
 
-      if (!hasEncoded) {
-        concat = Str.expr("", StringOperator.Concat, ",\"");
-        hasEncoded = true;
-      }
-      else if (i > 0) {
-        concat = Str.expr(concat, StringOperator.Concat, ",\""); 
-      }
-
       final MetaClass targetType = GenUtil.getPrimitiveWrapper(mapping.getType());
 
       final MetaClass compType =
@@ -603,32 +598,25 @@ public class DefaultJavaMappingStrategy implements MappingStrategy {
       if (targetType.isArray()) {
         valueStatement = context.getArrayMarshallerCallback().marshal(targetType, valueStatement);
       }
-      
-      concat = Str.expr(concat, StringOperator.Concat, mapping.getKey());
-      concat = Str.expr(concat, StringOperator.Concat, "\":");
+
+      builder.append(loadVariable("buf").invoke("append", ",\"" + mapping.getKey() + "\":"));
 
       if (targetType.isEnum()) {
-        concat = Str.expr(concat, StringOperator.Concat, Expr.qualify(marshallEnum(valueStatement, targetType)));
+        builder.append(loadVariable("buf").invoke("append", marshallEnum(valueStatement, targetType)));
       }
       else {
-        concat = Str.expr(concat, StringOperator.Concat,
-            loadVariable(MarshallingGenUtil.getVarName(targetType))
-                .invoke("marshall", valueStatement, loadVariable("a1")));
+        builder.append(Stmt.invokeStatic(MarshallUtil.class, "marshall", loadVariable("buf"),
+            loadVariable(MarshallingGenUtil.getVarName(targetType)), valueStatement, loadVariable("a1")));
       }
 
       i++;
     }
 
-    StringExpression tail = concat;
-   
     if (i == 0) {
-      tail = Str.expr(tail == null ? "" : tail, StringOperator.Concat, ",\"");
-      tail = Str.expr(tail, StringOperator.Concat, SerializationParts.INSTANTIATE_ONLY);
-      tail = Str.expr(tail, StringOperator.Concat, "\":true");
+      builder.append(loadVariable("buf").invoke("append", ",\"" + SerializationParts.INSTANTIATE_ONLY + "\":true"));
     }
-    
-    tail = Str.expr(tail == null ? "" : tail, StringOperator.Concat, "}");
-    builder.append(Stmt.load(Str.expr(loadVariable("prefix"), StringOperator.Concat, tail)).returnValue());
+
+    builder.append(loadVariable("buf").invoke("append", "}"));
   }
 
   private static String keyValue(final String key, final String value) {
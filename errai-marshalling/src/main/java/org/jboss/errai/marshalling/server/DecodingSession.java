@@ -40,7 +40,7 @@ public class DecodingSession extends AbstractMarshallingSession {
     if (jsonValue.isObject() != null) {
       final EJObject jsonObject = jsonValue.isObject();
       if (jsonObject.containsKey(SerializationParts.ENCODED_TYPE)) {
-        return jsonObject.get(SerializationParts.ENCODED_TYPE).isString().stringValue();
+        return resolveTypeReference(jsonObject.get(SerializationParts.ENCODED_TYPE).isString().stringValue());
       }
       else {
         return Map.class.getName();
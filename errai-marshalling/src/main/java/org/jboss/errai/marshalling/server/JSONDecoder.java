@@ -16,8 +16,7 @@
 
 package org.jboss.errai.marshalling.server;
 
-import java.io.ByteArrayInputStream;
-import java.io.UnsupportedEncodingException;
+import java.io.StringReader;
 
 import org.jboss.errai.marshalling.client.api.json.EJValue;
 
@@ -26,10 +25,6 @@ import org.jboss.errai.marshalling.client.api.json.EJValue;
  */
 public class JSONDecoder {
   public static EJValue decode(final String o) {
-    try {
-      return new JSONStreamDecoder(new ByteArrayInputStream(o.getBytes("UTF-8"))).parse();
-    } catch (UnsupportedEncodingException e) {
-      throw new AssertionError("UTF-8 not supported by this JRE?");
-    }
+    return new JSONStreamDecoder(new StringReader(o)).parse();
   }
 }
@@ -19,12 +19,11 @@ package org.jboss.errai.marshalling.server;
 import org.jboss.errai.marshalling.client.api.json.EJValue;
 import org.jboss.errai.marshalling.server.json.impl.ErraiJSONValue;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
-import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -39,12 +38,31 @@ import java.util.Map;
  * @since 1.1
  */
 public class JSONStreamDecoder {
-  private final CharBuffer buffer;
-  private final BufferedReader reader;
+  private static final int BUFFER_SIZE = 8192;
 
-  private char carry;
-  private int read;
-  private boolean initial = true;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private final Reader reader;
+
+  private int position;
+  private int limit;
+
+  /**
+   * Collects the characters of identifiers and numbers. Reused for every token.
+   */
+  private final StringBuilder token = new StringBuilder(32);
+
+  /**
+   * The tokens returned by {@link #nextToken()}.
+   */
+  public static enum Token {
+    BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, STRING, NUMBER, TRUE, FALSE, NULL, END
+  }
+
+  /**
+   * The value of the last {@link Token#STRING} or {@link Token#NUMBER} returned by {@link #nextToken()}.
+   */
+  private String stringValue;
+  private double numberValue;
 
   /**
    * Decodes the JSON payload by reading from the given stream of UTF-8 encoded
@@ -58,37 +76,57 @@ public class JSONStreamDecoder {
    *          of the JSON message to be parsed.
    */
   public JSONStreamDecoder(final InputStream inStream) {
-    this.buffer = CharBuffer.allocate(25);
     try {
-      this.reader = new BufferedReader(
-              new InputStreamReader(inStream, "UTF-8")
-      );
+      this.reader = new InputStreamReader(inStream, "UTF-8");
     }
     catch (UnsupportedEncodingException e) {
       throw new Error("UTF-8 is not supported by this JVM?", e);
     }
   }
 
+  /**
+   * Decodes the JSON payload by reading from the given reader.
+   *
+   * @param reader
+   *          The reader to read from. It must be positioned to read from the start of the JSON message to be parsed.
+   */
+  public JSONStreamDecoder(final Reader reader) {
+    this.reader = reader;
+  }
+
   public static EJValue decode(final InputStream instream) throws IOException {
     return new JSONStreamDecoder(instream).parse();
   }
 
+  public static EJValue decode(final Reader reader) throws IOException {
+    return new JSONStreamDecoder(reader).parse();
+  }
+
   public char read() throws IOException {
-    if (carry != 0) {
-      final char oldCarry = carry;
-      carry = 0;
-      return oldCarry;
+    if (position == limit && !fill()) {
+      return 0;
     }
-    if (read <= 0) {
-      if (!initial) buffer.rewind();
-      initial = false;
-      if ((read = reader.read(buffer)) <= 0) {
-        return 0;
-      }
-      buffer.rewind();
+    return buffer[position++];
+  }
+
+  /**
+   * Pushes the last character returned by {@link #read()} back, so it is returned again by the next call.
+   */
+  private void unread() {
+    position--;
+  }
+
+  private boolean fill() throws IOException {
+    int read;
+    while ((read = reader.read(buffer, 0, BUFFER_SIZE)) == 0) {
+      // a reader may return 0 characters before reaching the end of the stream.
     }
-    read--;
-    return buffer.get();
+    if (read < 0) {
+      return false;
+    }
+    position = 0;
+    limit = read;
+    return true;
   }
 
   public EJValue parse() {
@@ -102,7 +140,6 @@ public class JSONStreamDecoder {
 
   private Object _parse(Context ctx) throws IOException {
     char c;
-    StringBuilder appender;
     while ((c = read()) != 0) {
       switch (c) {
         case '[':
@@ -123,29 +160,7 @@ public class JSONStreamDecoder {
 
         case '"':
         case '\'':
-          char term = c;
-          appender = new StringBuilder(100);
-          StrCapture:
-          while ((c = read()) != 0) {
-            switch (c) {
-              case '\\':
-                appender.append(handleEscapeSequence());
-                break;
-              case '"':
-              case '\'':
-                if (c == term) {
-                  ctx.addValue(appender.toString());
-                  term = 0;
-                  break StrCapture;
-                }
-              default:
-                appender.append(c);
-            }
-          }
-
-          if (term != 0) {
-            throw new RuntimeException("unterminated string literal");
-          }
+          ctx.addValue(parseString(c));
           break;
 
         case ':':
@@ -153,34 +168,32 @@ public class JSONStreamDecoder {
 
         default:
           if (isNumberStart(c)) {
-            carry = c;
+            unread();
             ctx.addValue(parseDouble());
             break;
           }
           else if (Character.isJavaIdentifierPart(c)) {
-            appender = new StringBuilder(100).append(c);
+            token.setLength(0);
+            token.append(c);
 
             while (((c = read()) != 0) && Character.isJavaIdentifierPart(c)) {
-              appender.append(c);
+              token.append(c);
             }
 
-            String s = appender.toString();
-
-            if (s.length() > 5) ctx.addValue(s);
-            else if ("null".equals(s)) {
+            if (tokenEquals("null")) {
               ctx.addValue(null);
             }
-            else if ("true".equals(s)) {
+            else if (tokenEquals("true")) {
               ctx.addValue(Boolean.TRUE);
             }
-            else if ("false".equals(s)) {
+            else if (tokenEquals("false")) {
               ctx.addValue(Boolean.FALSE);
             }
             else {
-              ctx.addValue(s);
+              ctx.addValue(token.toString());
             }
 
-            if (c != 0) carry = c;
+            if (c != 0) unread();
           }
       }
     }
@@ -188,6 +201,201 @@ public class JSONStreamDecoder {
     return ctx.record();
   }
 
+  /**
+   * Reads the next token of the payload. Commas and colons are skipped, so the name of an object member is returned
+   * as a {@link Token#STRING} followed by the tokens of its value.
+   *
+   * @return the next token, or {@link Token#END} at the end of the input.
+   */
+  public Token nextToken() throws IOException {
+    char c;
+    while ((c = read()) != 0) {
+      switch (c) {
+        case '{':
+          return Token.BEGIN_OBJECT;
+        case '}':
+          return Token.END_OBJECT;
+        case '[':
+          return Token.BEGIN_ARRAY;
+        case ']':
+          return Token.END_ARRAY;
+
+        case ',':
+        case ':':
+          continue;
+
+        case '"':
+        case '\'':
+          stringValue = parseString(c);
+          return Token.STRING;
+
+        default:
+          if (isNumberStart(c)) {
+            unread();
+            numberValue = parseDouble();
+            return Token.NUMBER;
+          }
+          else if (Character.isJavaIdentifierPart(c)) {
+            token.setLength(0);
+            token.append(c);
+
+            while (((c = read()) != 0) && Character.isJavaIdentifierPart(c)) {
+              token.append(c);
+            }
+            if (c != 0) unread();
+
+            if (tokenEquals("null")) {
+              return Token.NULL;
+            }
+            else if (tokenEquals("true")) {
+              return Token.TRUE;
+            }
+            else if (tokenEquals("false")) {
+              return Token.FALSE;
+            }
+            else {
+              stringValue = token.toString();
+              return Token.STRING;
+            }
+          }
+      }
+    }
+    return Token.END;
+  }
+
+  /**
+   * Returns the value of the last {@link Token#STRING} read by {@link #nextToken()}.
+   */
+  public String getString() {
+    return stringValue;
+  }
+
+  /**
+   * Returns the value of the last {@link Token#NUMBER} read by {@link #nextToken()}.
+   */
+  public double getNumber() {
+    return numberValue;
+  }
+
+  /**
+   * Reads the rest of the value that starts with the specified token, which has just been read by
+   * {@link #nextToken()}.
+   *
+   * @return the value as a tree of maps, lists, strings, doubles and booleans.
+   */
+  public Object readValue(final Token first) throws IOException {
+    return readValue(first, new LinkedHashMap<Object, Object>());
+  }
+
+  /**
+   * Reads the rest of the value that starts with the specified token, which has just been read by
+   * {@link #nextToken()}. If the value is an object, its members are added to the specified map, which may already
+   * hold the members that the caller has read itself.
+   */
+  public Object readValue(final Token first, final Map<Object, Object> members) throws IOException {
+    switch (first) {
+      case BEGIN_OBJECT:
+        return _parse(new ObjectContext(members));
+      case BEGIN_ARRAY:
+        return _parse(new ArrayContext(new ArrayList<Object>()));
+      case STRING:
+        return stringValue;
+      case NUMBER:
+        return numberValue;
+      case TRUE:
+        return Boolean.TRUE;
+      case FALSE:
+        return Boolean.FALSE;
+      case NULL:
+        return null;
+      default:
+        throw new RuntimeException("expected a value but found: " + first);
+    }
+  }
+
+  /**
+   * Skips the rest of the value that starts with the specified token, which has just been read by
+   * {@link #nextToken()}.
+   */
+  public void skipValue(final Token first) throws IOException {
+    if (first != Token.BEGIN_OBJECT && first != Token.BEGIN_ARRAY) {
+      return;
+    }
+
+    int depth = 1;
+    while (depth > 0) {
+      switch (nextToken()) {
+        case BEGIN_OBJECT:
+        case BEGIN_ARRAY:
+          depth++;
+          break;
+        case END_OBJECT:
+        case END_ARRAY:
+          depth--;
+          break;
+        case END:
+          throw new RuntimeException("unexpected end of payload");
+        default:
+          break;
+      }
+    }
+  }
+
+  private boolean tokenEquals(final String value) {
+    if (token.length() != value.length()) {
+      return false;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      if (token.charAt(i) != value.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Parses a string literal, after its opening quote has been read. Runs of characters without escape sequences are
+   * copied from the buffer in bulk.
+   */
+  private String parseString(final char term) throws IOException {
+    StringBuilder appender = null;
+
+    while (position < limit || fill()) {
+      final int start = position;
+      while (position < limit) {
+        final char c = buffer[position];
+        if (c == term) {
+          final String value;
+          if (appender == null) {
+            value = new String(buffer, start, position - start);
+          }
+          else {
+            value = appender.append(buffer, start, position - start).toString();
+          }
+          position++;
+          return value;
+        }
+        else if (c == '\\') {
+          break;
+        }
+        position++;
+      }
+
+      if (appender == null) {
+        appender = new StringBuilder(Math.max(16, (position - start) * 2));
+      }
+      appender.append(buffer, start, position - start);
+
+      if (position < limit) {
+        // skip the backslash.
+        position++;
+        appender.append(handleEscapeSequence());
+      }
+    }
+
+    throw new RuntimeException("unterminated string literal");
+  }
+
   private char handleEscapeSequence() throws IOException {
     char c;
     switch (c = read()) {
@@ -277,7 +485,8 @@ public class JSONStreamDecoder {
    * @throws IOException
    */
   private double parseDouble() throws IOException {
-    final StringBuilder sb = new StringBuilder(25);
+    final StringBuilder sb = token;
+    sb.setLength(0);
 
     State state = State.READ_SIGN;
 
@@ -311,7 +520,7 @@ public class JSONStreamDecoder {
         }
         else {
           // found the end of the numeric literal
-          carry = c;
+          unread();
           break recognize;
         }
         break;
@@ -326,7 +535,7 @@ public class JSONStreamDecoder {
         }
         else {
           // found the end of the numeric literal
-          carry = c;
+          unread();
           break recognize;
         }
         break;
@@ -347,7 +556,7 @@ public class JSONStreamDecoder {
         }
         else {
           // found the end of the numeric literal
-          carry = c;
+          unread();
           break recognize;
         }
         break;
@@ -27,10 +27,9 @@ import java.io.InputStream;
  * @author Mike Brock
  */
 public abstract class ServerMarshalling extends Marshalling {
-  @SuppressWarnings("unchecked")
   public static <T> T fromJSON(final InputStream inputStream, final Class<T> type) throws IOException {
     final MarshallingSession session = MarshallingSessionProviderFactory.getDecoding();
-    return (T) session.getMarshallerInstance(type.getName()).demarshall(JSONStreamDecoder.decode(inputStream), session);
+    return StreamingDemarshaller.demarshall(inputStream, type, session);
   }
 
   public static Object fromJSON(final InputStream inputStream) throws IOException {
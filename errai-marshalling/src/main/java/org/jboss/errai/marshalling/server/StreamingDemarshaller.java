@@ -0,0 +1,363 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.marshalling.server;
+
+import org.jboss.errai.common.client.protocols.MessageParts;
+import org.jboss.errai.common.client.protocols.SerializationParts;
+import org.jboss.errai.marshalling.client.api.AbstractMarshallingSession;
+import org.jboss.errai.marshalling.client.api.Marshaller;
+import org.jboss.errai.marshalling.client.api.MarshallingSession;
+import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.marshallers.AbstractCollectionMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.ErraiProtocolEnvelopeMarshaller;
+import org.jboss.errai.marshalling.client.marshallers.ObjectMarshaller;
+import org.jboss.errai.marshalling.client.protocols.CompactProtocol;
+import org.jboss.errai.marshalling.server.JSONStreamDecoder.Token;
+import org.jboss.errai.marshalling.server.api.StreamingMarshaller;
+import org.jboss.errai.marshalling.server.json.impl.ErraiJSONValue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Demarshalls payloads in a single pass over the token stream of a {@link JSONStreamDecoder}. Beans with a default
+ * constructor (read by {@link StreamingMarshaller}s) and collections are built directly from the stream, so a large
+ * payload such as a list of entities is never held as an {@link EJValue} tree. Any other object is parsed into a
+ * tree of its own and handed to its marshaller as before, which keeps custom marshallers working unchanged.
+ * <p>
+ * The objects are demarshalled with the same marshallers, and in the same order, as from a tree: a payload
+ * demarshalled by this class yields the same result as one parsed by {@link JSONStreamDecoder#parse()}.
+ *
+ * @see StreamingMarshaller
+ */
+public class StreamingDemarshaller {
+  private static final EJValue EMPTY_ARRAY = new ErraiJSONValue(new ArrayList<Object>(0));
+
+  private final JSONStreamDecoder in;
+  private final MarshallingSession ctx;
+
+  public StreamingDemarshaller(final JSONStreamDecoder in, final MarshallingSession ctx) {
+    this.in = in;
+    this.ctx = ctx;
+  }
+
+  /**
+   * Demarshalls a value of the specified type from the specified stream.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T demarshall(final InputStream inputStream, final Class<T> type,
+                                 final MarshallingSession ctx) throws IOException {
+    final StreamingDemarshaller demarshaller = new StreamingDemarshaller(new JSONStreamDecoder(inputStream), ctx);
+    return (T) demarshaller.demarshall(demarshaller.in.nextToken(), ctx.getMarshallerInstance(type.getName()));
+  }
+
+  /**
+   * Demarshalls the Errai protocol messages from the specified stream, which holds either a single message or an
+   * array of messages. Each message is decoded in a new session.
+   *
+   * @return the parts of each message.
+   */
+  public static List<Map<String, Object>> demarshallMessages(final InputStream inputStream) throws IOException {
+    final JSONStreamDecoder decoder = new JSONStreamDecoder(inputStream);
+    final List<Map<String, Object>> messages = new ArrayList<Map<String, Object>>();
+
+    final Token token = decoder.nextToken();
+    switch (token) {
+      case BEGIN_OBJECT:
+        messages.add(newMessageDemarshaller(decoder).readMessage());
+        break;
+
+      case BEGIN_ARRAY:
+        Token next;
+        while ((next = decoder.nextToken()) != Token.END_ARRAY) {
+          if (next != Token.BEGIN_OBJECT) {
+            throw new RuntimeException("bad payload");
+          }
+          messages.add(newMessageDemarshaller(decoder).readMessage());
+        }
+        break;
+
+      case NULL:
+      case END:
+        break;
+
+      default:
+        throw new RuntimeException("bad payload");
+    }
+    return messages;
+  }
+
+  private static StreamingDemarshaller newMessageDemarshaller(final JSONStreamDecoder decoder) {
+    return new StreamingDemarshaller(decoder, new DecodingSession(MappingContextSingleton.get()));
+  }
+
+  /**
+   * Returns the decoder that the payload is read from.
+   */
+  public JSONStreamDecoder getDecoder() {
+    return in;
+  }
+
+  /**
+   * Reads the parts of an Errai protocol message whose opening brace has already been read, as
+   * {@link ErraiProtocolEnvelopeMarshaller} does from a tree.
+   */
+  public Map<String, Object> readMessage() throws IOException {
+    final Map<String, Object> parts = new HashMap<String, Object>();
+
+    Token token;
+    while ((token = in.nextToken()) == Token.STRING) {
+      final String key = in.getString();
+      token = in.nextToken();
+
+      if (MessageParts.SessionID.name().equals(key)) {
+        in.skipValue(token);
+      }
+      else if (CompactProtocol.TYPE_TABLE.equals(key) && token == Token.BEGIN_ARRAY) {
+        readTypeTable();
+      }
+      else if (token == Token.NULL) {
+        parts.put(key, null);
+      }
+      else if (token == Token.BEGIN_OBJECT && !MessageParts.Throwable.name().equals(key)) {
+        parts.put(key, readObject(null));
+      }
+      else {
+        parts.put(key, ErraiProtocolEnvelopeMarshaller.demarshallPart(key, tree(in.readValue(token)), ctx));
+      }
+    }
+
+    expect(Token.END_OBJECT, token);
+    return parts;
+  }
+
+  private void readTypeTable() throws IOException {
+    final List<String> types = new ArrayList<String>();
+    Token token;
+    while ((token = in.nextToken()) == Token.STRING) {
+      types.add(in.getString());
+    }
+    expect(Token.END_ARRAY, token);
+
+    if (ctx instanceof AbstractMarshallingSession) {
+      ((AbstractMarshallingSession) ctx).setTypeTable(types);
+    }
+  }
+
+  /**
+   * Demarshalls the value that starts with the specified token, which has just been read.
+   *
+   * @param first
+   *          the first token of the value.
+   * @param marshaller
+   *          the marshaller for the declared type of the value, or null to use the marshaller for the type the value
+   *          was encoded with.
+   */
+  public Object demarshall(final Token first, final Marshaller<Object> marshaller) throws IOException {
+    switch (first) {
+      case NULL:
+        return null;
+      case BEGIN_OBJECT:
+        return readObject(marshaller);
+      default:
+        final EJValue value = tree(in.readValue(first));
+        return marshallerFor(marshaller, ctx.determineTypeFor(null, value)).demarshall(value, ctx);
+    }
+  }
+
+  /**
+   * Demarshalls the object whose opening brace has just been read.
+   *
+   * @param declared
+   *          the marshaller for the declared type of the object, or null to use the marshaller for the type the object
+   *          was encoded with.
+   */
+  private Object readObject(final Marshaller<Object> declared) throws IOException {
+    return readObject(declared, null);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object readObject(final Marshaller<Object> declared, final String untypedType) throws IOException {
+    final Token token = in.nextToken();
+    if (token != Token.STRING || !SerializationParts.ENCODED_TYPE.equals(in.getString())) {
+      final Marshaller<Object> marshaller = (declared == null && untypedType != null)
+          ? marshallerFor(null, untypedType) : declared;
+      return demarshallRest(marshaller, new LinkedHashMap<Object, Object>(), token);
+    }
+
+    final Token typeToken = in.nextToken();
+    if (typeToken != Token.STRING) {
+      final Map<Object, Object> members = new LinkedHashMap<Object, Object>();
+      members.put(SerializationParts.ENCODED_TYPE, in.readValue(typeToken));
+      return demarshallRest(declared, members, in.nextToken());
+    }
+
+    final String encodedType = in.getString();
+
+    final String type = ctx.resolveTypeReference(encodedType);
+    final Marshaller<Object> marshaller;
+    if (declared == null || declared instanceof ObjectMarshaller) {
+      if (Object.class.getName().equals(type)) {
+        return demarshallRest(marshallerFor(declared, type), members(encodedType), in.nextToken());
+      }
+      marshaller = marshallerFor(null, type);
+    }
+    else {
+      marshaller = declared;
+    }
+
+    if (marshaller instanceof StreamingMarshaller) {
+      return ((StreamingMarshaller<Object>) marshaller).demarshall(this, encodedType, ctx);
+    }
+    else if (marshaller instanceof AbstractCollectionMarshaller) {
+      return readCollection((AbstractCollectionMarshaller) marshaller, encodedType);
+    }
+    else {
+      return demarshallRest(marshaller, members(encodedType), in.nextToken());
+    }
+  }
+
+  /**
+   * Reads a collection in the form written by {@link AbstractCollectionMarshaller}, adding each element as soon as it
+   * has been demarshalled.
+   */
+  @SuppressWarnings("unchecked")
+  private Object readCollection(final AbstractCollectionMarshaller marshaller,
+                                final String encodedType) throws IOException {
+    Token token = in.nextToken();
+    if (token != Token.STRING || !SerializationParts.OBJECT_ID.equals(in.getString())) {
+      return demarshallRest(marshaller, members(encodedType), token);
+    }
+
+    token = in.nextToken();
+    if (token != Token.STRING) {
+      final Map<Object, Object> members = members(encodedType);
+      members.put(SerializationParts.OBJECT_ID, in.readValue(token));
+      return demarshallRest(marshaller, members, in.nextToken());
+    }
+
+    final String objId = in.getString();
+    if (ctx.hasObject(objId)) {
+      in.skipValue(Token.BEGIN_OBJECT);
+      return ctx.getObject(Object.class, objId);
+    }
+
+    token = in.nextToken();
+    if (token != Token.STRING || !SerializationParts.QUALIFIED_VALUE.equals(in.getString())) {
+      final Map<Object, Object> members = members(encodedType);
+      members.put(SerializationParts.OBJECT_ID, objId);
+      return demarshallRest(marshaller, members, token);
+    }
+
+    token = in.nextToken();
+    if (token != Token.BEGIN_ARRAY) {
+      final Map<Object, Object> members = members(encodedType);
+      members.put(SerializationParts.OBJECT_ID, objId);
+      members.put(SerializationParts.QUALIFIED_VALUE, in.readValue(token));
+      return demarshallRest(marshaller, members, in.nextToken());
+    }
+
+    // the collection marshaller clears the assumed element type when it creates the collection.
+    final String assumedElementType = ctx.getAssumedElementType();
+    final Collection<Object> collection = (Collection<Object>) marshaller.doDemarshall(EMPTY_ARRAY, ctx);
+
+    while ((token = in.nextToken()) != Token.END_ARRAY) {
+      if (token == Token.NULL) {
+        collection.add(null);
+      }
+      else if (token == Token.BEGIN_OBJECT) {
+        collection.add(readObject(null, assumedElementType));
+      }
+      else {
+        final EJValue value = tree(in.readValue(token));
+        final String type = assumedElementType != null ? assumedElementType : ctx.determineTypeFor(null, value);
+        collection.add(marshallerFor(null, type).demarshall(value, ctx));
+      }
+    }
+
+    while ((token = in.nextToken()) == Token.STRING) {
+      in.skipValue(in.nextToken());
+    }
+    expect(Token.END_OBJECT, token);
+
+    ctx.recordObject(objId, collection);
+    return collection;
+  }
+
+  /**
+   * Reads the remaining members of an object into a tree and demarshalls it from there. The caller has already read
+   * the specified members and the token that follows them.
+   *
+   * @param marshaller
+   *          the marshaller for the object, or null to use the marshaller for its type.
+   * @param members
+   *          the members that have already been read.
+   * @param next
+   *          the token following the members that have been read: the name of the next member, or the closing brace.
+   */
+  public Object demarshallRest(final Marshaller<Object> marshaller, final Map<Object, Object> members,
+                               final Token next) throws IOException {
+    if (next == Token.STRING) {
+      final String key = in.getString();
+      members.put(key, in.readValue(in.nextToken()));
+      in.readValue(Token.BEGIN_OBJECT, members);
+    }
+    else {
+      expect(Token.END_OBJECT, next);
+    }
+
+    final EJValue value = tree(members);
+    return marshallerFor(marshaller, ctx.determineTypeFor(null, value)).demarshall(value, ctx);
+  }
+
+  /**
+   * Creates the map to read the remaining members of an object with the specified encoded type into.
+   */
+  public static Map<Object, Object> members(final String encodedType) {
+    final Map<Object, Object> members = new LinkedHashMap<Object, Object>();
+    members.put(SerializationParts.ENCODED_TYPE, encodedType);
+    return members;
+  }
+
+  private Marshaller<Object> marshallerFor(final Marshaller<Object> marshaller, final String type) {
+    if (marshaller != null) {
+      return marshaller;
+    }
+
+    final Marshaller<Object> instance = ctx.getMarshallerInstance(type);
+    if (instance == null) {
+      throw new RuntimeException("no marshaller for: " + type);
+    }
+    return instance;
+  }
+
+  private static EJValue tree(final Object value) {
+    return new ErraiJSONValue(value);
+  }
+
+  private static void expect(final Token expected, final Token actual) {
+    if (actual != expected) {
+      throw new RuntimeException("bad payload: expected " + expected + " but found " + actual);
+    }
+  }
+}
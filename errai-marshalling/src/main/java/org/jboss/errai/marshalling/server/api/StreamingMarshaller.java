@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.marshalling.server.api;
+
+import org.jboss.errai.marshalling.client.api.MarshallingSession;
+import org.jboss.errai.marshalling.server.StreamingDemarshaller;
+
+import java.io.IOException;
+
+/**
+ * A {@link ServerMarshaller} that can read its objects straight from the token stream of a payload, without the
+ * payload being parsed into an {@link org.jboss.errai.marshalling.client.api.json.EJValue} tree first.
+ *
+ * @see StreamingDemarshaller
+ */
+public interface StreamingMarshaller<V> extends ServerMarshaller<V> {
+  /**
+   * Demarshalls the object whose opening brace and {@link org.jboss.errai.common.client.protocols.SerializationParts#ENCODED_TYPE}
+   * member have already been read from the stream. Reads up to and including the closing brace of the object.
+   *
+   * @param in
+   *          the stream to read the remaining members of the object from.
+   * @param encodedType
+   *          the value of the object's encoded type member, as it was read.
+   * @param ctx
+   *          the decoding session.
+   */
+  V demarshall(StreamingDemarshaller in, String encodedType, MarshallingSession ctx) throws IOException;
+}
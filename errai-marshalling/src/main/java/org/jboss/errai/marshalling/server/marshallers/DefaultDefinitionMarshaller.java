@@ -16,45 +16,53 @@
 
 package org.jboss.errai.marshalling.server.marshallers;
 
-import org.jboss.errai.codegen.meta.MetaField;
-import org.jboss.errai.codegen.meta.MetaMethod;
 import org.jboss.errai.common.client.protocols.SerializationParts;
 import org.jboss.errai.marshalling.client.api.Marshaller;
 import org.jboss.errai.marshalling.client.api.MarshallingSession;
 import org.jboss.errai.marshalling.client.api.exceptions.MarshallingException;
 import org.jboss.errai.marshalling.client.api.json.EJObject;
 import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.protocols.CompactProtocol;
 import org.jboss.errai.marshalling.client.util.MarshallUtil;
 import org.jboss.errai.marshalling.client.util.NumbersUtils;
 import org.jboss.errai.marshalling.rebind.DefinitionsFactory;
-import org.jboss.errai.marshalling.rebind.api.model.ConstructorMapping;
-import org.jboss.errai.marshalling.rebind.api.model.FactoryMapping;
-import org.jboss.errai.marshalling.rebind.api.model.InstantiationMapping;
 import org.jboss.errai.marshalling.rebind.api.model.Mapping;
 import org.jboss.errai.marshalling.rebind.api.model.MappingDefinition;
-import org.jboss.errai.marshalling.rebind.api.model.MemberMapping;
 import org.jboss.errai.marshalling.server.EncodingSession;
+import org.jboss.errai.marshalling.server.JSONStreamDecoder;
+import org.jboss.errai.marshalling.server.JSONStreamDecoder.Token;
 import org.jboss.errai.marshalling.server.MappingContextSingleton;
-import org.jboss.errai.marshalling.server.api.ServerMarshaller;
+import org.jboss.errai.marshalling.server.StreamingDemarshaller;
+import org.jboss.errai.marshalling.server.api.StreamingMarshaller;
 import org.mvel2.DataConversion;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.Array;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.nio.charset.Charset;
+import java.util.Map;
 
 /**
  * @author Mike Brock
  */
-public class DefaultDefinitionMarshaller implements ServerMarshaller<Object> {
-  static final Charset UTF_8 = Charset.forName("UTF-8");
+public class DefaultDefinitionMarshaller implements StreamingMarshaller<Object> {
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final Object[] NO_ARGUMENTS = new Object[0];
 
   private final MappingDefinition definition;
 
+  /**
+   * Built on first use, as the member mappings of a definition may still be changed after its marshaller has been
+   * created.
+   */
+  private volatile DefinitionAccessors accessors;
+
+  /**
+   * The start of the encoded form of an instance of the mapped class, up to its object ID.
+   */
+  private volatile String encodedHeader;
+
   public DefaultDefinitionMarshaller(final MappingDefinition definition) {
     this.definition = definition;
   }
@@ -69,6 +77,14 @@ public class DefaultDefinitionMarshaller implements ServerMarshaller<Object> {
     }
   }
 
+  private DefinitionAccessors getAccessors() {
+    DefinitionAccessors accessors = this.accessors;
+    if (accessors == null) {
+      this.accessors = accessors = new DefinitionAccessors(definition);
+    }
+    return accessors;
+  }
+
   @SuppressWarnings("unchecked")
   //@Override
   private Class<Object> getTypeHandled() {
@@ -115,50 +131,28 @@ public class DefaultDefinitionMarshaller implements ServerMarshaller<Object> {
               return newInstance;
             }
 
-            final InstantiationMapping cMapping = definition.getInstantiationMapping();
-            final Object[] parms = new Object[cMapping.getMappings().length];
-            final Class[] targetTypes = cMapping.getSignature();
+            final DefinitionAccessors accessors = getAccessors();
+            final Mapping[] mappings = accessors.instantiationMappings;
+            final Object[] parms = new Object[mappings.length];
+            final Class[] targetTypes = accessors.instantiationTypes;
 
-            int i = 0;
-            for (final Mapping mapping : cMapping.getMappings()) {
-              final Marshaller<Object> marshaller = ctx.getMarshallerInstance(mapping.getType().getFullyQualifiedName());
+            for (int i = 0; i < mappings.length; i++) {
+              final Marshaller<Object> marshaller = accessors.getInstantiationMarshaller(i, ctx);
               //noinspection unchecked
               parms[i] = DataConversion.convert(
-                      marshaller.demarshall(oMap.get(mapping.getKey()), ctx), targetTypes[i++]);
+                      marshaller.demarshall(oMap.get(mappings[i].getKey()), ctx), targetTypes[i]);
             }
 
-            if (cMapping instanceof ConstructorMapping) {
-              final Constructor constructor = ((ConstructorMapping) cMapping).getMember().asConstructor();
-              constructor.setAccessible(true);
-              newInstance = constructor.newInstance(parms);
-            }
-            else {
-              newInstance = ((FactoryMapping) cMapping).getMember().asMethod().invoke(null, parms);
-            }
+            newInstance = accessors.instantiate(parms);
 
             ctx.recordObject(objID, newInstance);
           }
 
-          for (final MemberMapping mapping : definition.getWritableMemberMappings()) {
-            final EJValue o1 = oMap.get(mapping.getKey());
+          for (final DefinitionAccessors.Property property : getAccessors().writable) {
+            final EJValue o1 = oMap.get(property.key);
 
             if (!o1.isNull()) {
-              final Marshaller<Object> marshaller
-                      = ctx.getMarshallerInstance(mapping.getType().getFullyQualifiedName());
-
-              if (mapping.getBindingMember() instanceof MetaField) {
-                final MetaField f = (MetaField) mapping.getBindingMember();
-
-                setProperty(newInstance, f.asField(),
-                        marshaller.demarshall(o1, ctx));
-              }
-              else {
-                final Method m = ((MetaMethod) mapping.getBindingMember()).asMethod();
-
-                m.invoke(newInstance, DataConversion.convert(
-                        marshaller.demarshall(o1, ctx),
-                        m.getParameterTypes()[0]));
-              }
+              property.set(newInstance, property.getDemarshaller(ctx).demarshall(o1, ctx));
             }
           }
 
@@ -181,24 +175,85 @@ public class DefaultDefinitionMarshaller implements ServerMarshaller<Object> {
     }
   }
 
+  /**
+   * Demarshalls an instance with a default constructor straight from the stream: the instance is created as soon as
+   * its object ID has been read, and each property is set as it is read. Instances created through a mapped
+   * constructor or factory method, enums and encoded numbers are read into a tree and demarshalled from there.
+   */
   @Override
-  public String marshall(final Object o, final MarshallingSession ctx) {
-    final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(1024);
+  public Object demarshall(final StreamingDemarshaller in, final String encodedType, final MarshallingSession ctx)
+      throws IOException {
+    final JSONStreamDecoder decoder = in.getDecoder();
+
+    Token token = decoder.nextToken();
+    if (definition.getMappingClass().isEnum() || token != Token.STRING
+        || !SerializationParts.OBJECT_ID.equals(decoder.getString())
+        || getAccessors().instantiationMappings.length > 0) {
+      return in.demarshallRest(this, StreamingDemarshaller.members(encodedType), token);
+    }
+    final DefinitionAccessors accessors = getAccessors();
+
+    token = decoder.nextToken();
+    if (token != Token.STRING) {
+      final Map<Object, Object> members = StreamingDemarshaller.members(encodedType);
+      members.put(SerializationParts.OBJECT_ID, decoder.readValue(token));
+      return in.demarshallRest(this, members, decoder.nextToken());
+    }
+
     try {
-      marshall(byteArrayOutputStream, o, ctx);
-      return new String(byteArrayOutputStream.toByteArray(), UTF_8);
+      final String objID = decoder.getString();
+      final Object instance;
+      if (ctx.hasObject(objID)) {
+        instance = ctx.getObject(Object.class, objID);
+      }
+      else {
+        instance = accessors.instantiate(NO_ARGUMENTS);
+        ctx.recordObject(objID, instance);
+      }
+
+      while ((token = decoder.nextToken()) == Token.STRING) {
+        final DefinitionAccessors.Property property = accessors.getWritable(decoder.getString());
+        token = decoder.nextToken();
+
+        if (property == null) {
+          // the ^InstantiateOnly flag, or a property that cannot be written.
+          decoder.skipValue(token);
+        }
+        else if (token != Token.NULL) {
+          property.set(instance, in.demarshall(token, property.getDemarshaller(ctx)));
+        }
+      }
+
+      if (token != Token.END_OBJECT) {
+        throw new RuntimeException("bad payload");
+      }
+      return instance;
+    }
+    catch (IOException e) {
+      throw e;
     }
     catch (Exception e) {
-      throw new RuntimeException(e);
+      throw new MarshallingException("Failed to demarshall an instance of " + definition.getMappingClass(), e);
     }
   }
 
+  @Override
+  public String marshall(final Object o, final MarshallingSession ctx) {
+    final StringBuilder buf = new StringBuilder(128);
+    marshall(buf, o, ctx);
+    return buf.toString();
+  }
+
+  @Override
+  public void marshall(final OutputStream outstream, final Object o, final MarshallingSession ctx) throws IOException {
+    outstream.write(marshall(o, ctx).getBytes(UTF_8));
+  }
 
   @Override
-  public void marshall(final OutputStream outstream, final Object o, final MarshallingSession mSession) throws IOException {
+  public void marshall(final StringBuilder buf, final Object o, final MarshallingSession mSession) {
 
     if (o == null) {
-      outstream.write("null".getBytes(UTF_8));
+      buf.append("null");
       return;
     }
 
@@ -208,10 +263,10 @@ public class DefaultDefinitionMarshaller implements ServerMarshaller<Object> {
     if (definition.getMappingClass().isEnum()) {
       final Enum enumer = (Enum) o;
 
-      outstream.write(("{\"" + SerializationParts.ENCODED_TYPE + "\":\""
-              + enumer.getDeclaringClass().getName() + "\""
-              + ",\"" + SerializationParts.ENUM_STRING_VALUE + "\":\"" + enumer.name() + "\"}")
-              .getBytes(UTF_8));
+      buf.append("{\"").append(SerializationParts.ENCODED_TYPE).append("\":\"")
+              .append(enumer.getDeclaringClass().getName()).append("\"")
+              .append(",\"").append(SerializationParts.ENUM_STRING_VALUE).append("\":\"").append(enumer.name())
+              .append("\"}");
 
       return;
     }
@@ -224,88 +279,90 @@ public class DefaultDefinitionMarshaller implements ServerMarshaller<Object> {
        * If this object is referencing a duplicate object in the graph, we only provide an ID reference.
        */
 
-      outstream.write(("{\"" + SerializationParts.ENCODED_TYPE + "\":\"" + cls.getName()
-              + "\",\"" + SerializationParts.OBJECT_ID + "\":\"" + hash + "\"}").getBytes(UTF_8));
+      buf.append("{\"").append(SerializationParts.ENCODED_TYPE).append("\":\"")
+              .append(ctx.getTypeReference(cls.getName())).append("\",\"").append(SerializationParts.OBJECT_ID).append("\":\"").append(hash).append("\"}");
 
       return;
     }
 
-    int i = 0;
-    boolean first = true;
-
-    outstream.write(("{\"" + SerializationParts.ENCODED_TYPE + "\":\"" + cls.getName() + "\",\""
-            + SerializationParts.OBJECT_ID + "\":\"" + hash + "\",").getBytes(UTF_8));
-
-    for (final MemberMapping mapping : definition.getReadableMemberMappings()) {
-      if (!first) {
-        outstream.write(',');
-      }
+    final String typeReference = ctx.getTypeReference(cls.getName());
+    if (CompactProtocol.isReference(typeReference)) {
+      buf.append("{\"").append(SerializationParts.ENCODED_TYPE).append("\":\"").append(typeReference).append("\",\"")
+              .append(SerializationParts.OBJECT_ID).append("\":\"");
+    }
+    else {
+      buf.append(getEncodedHeader(cls));
+    }
+    buf.append(hash).append('"');
 
-      i++;
-      final Object v;
+    final DefinitionAccessors.Property[] readable = getAccessors().readable;
 
-      if (mapping.getReadingMember() instanceof MetaField) {
-        final Field field = ((MetaField) mapping.getReadingMember()).asField();
-        field.setAccessible(true);
+    for (final DefinitionAccessors.Property property : readable) {
+      buf.append(',').append(property.encodedKey);
 
-        try {
-          v = field.get(o);
-        }
-        catch (Exception e) {
-          throw new RuntimeException("error accessing field: " + field, e);
-        }
+      final Object v = property.get(o);
+      if (v == null) {
+        buf.append("null");
       }
       else {
-        final Method method = ((MetaMethod) mapping.getReadingMember()).asMethod();
-        method.setAccessible(true);
-
-        try {
-          v = method.invoke(o);
-        }
-        catch (Exception e) {
-          throw new RuntimeException("error calling getter: " + method, e);
-        }
+        getMarshaller(property).marshall(buf, v, ctx);
       }
+    }
 
-      outstream.write(("\"" + mapping.getKey() + "\"").getBytes(UTF_8));
-      outstream.write(':');
+    if (readable.length == 0) {
+      buf.append(",\"").append(SerializationParts.INSTANTIATE_ONLY).append("\":true");
+    }
 
-      if (v == null) {
-        outstream.write("null".getBytes(UTF_8));
-      }
-      else {
-        final DefinitionsFactory definitionsFactory = MappingContextSingleton.get().getDefinitionsFactory();
+    buf.append('}');
+  }
 
-        if (definitionsFactory == null) {
-          throw new RuntimeException("definition factory is null!");
-        }
+  private String getEncodedHeader(final Class<?> cls) {
+    if (cls != definition.getMappingClass().asClass()) {
+      return createEncodedHeader(cls);
+    }
 
-        final MappingDefinition definition1 = definitionsFactory.getDefinition(mapping.getType());
+    String header = encodedHeader;
+    if (header == null) {
+      encodedHeader = header = createEncodedHeader(cls);
+    }
+    return header;
+  }
 
-        if (definition1 == null) {
-          throw new RuntimeException("no mapping definition for: " + mapping.getType().getFullyQualifiedName());
-        }
+  private static String createEncodedHeader(final Class<?> cls) {
+    return "{\"" + SerializationParts.ENCODED_TYPE + "\":\"" + cls.getName() + "\",\""
+            + SerializationParts.OBJECT_ID + "\":\"";
+  }
 
-        final Marshaller<Object> marshallerInstance = definition1.getMarshallerInstance();
+  /**
+   * Returns the marshaller for the values of the specified property. It is looked up once, and then kept by the
+   * property.
+   */
+  private static Marshaller<Object> getMarshaller(final DefinitionAccessors.Property property) {
+    Marshaller<Object> marshallerInstance = property.getMarshaller();
+    if (marshallerInstance != null) {
+      return marshallerInstance;
+    }
 
-        if (marshallerInstance == null) {
-          throw new RuntimeException("no marshaller instance for: " + mapping.getType().getFullyQualifiedName());
-        }
+    final DefinitionsFactory definitionsFactory = MappingContextSingleton.get().getDefinitionsFactory();
 
-        outstream.write(
-                marshallerInstance.marshall(v, ctx)
-                        .getBytes(UTF_8)
-        );
-      }
+    if (definitionsFactory == null) {
+      throw new RuntimeException("definition factory is null!");
+    }
+
+    final MappingDefinition definition1 = definitionsFactory.getDefinition(property.type);
 
-      first = false;
+    if (definition1 == null) {
+      throw new RuntimeException("no mapping definition for: " + property.typeName);
     }
 
-    if (i == 0) {
-      outstream.write(("\"" + SerializationParts.INSTANTIATE_ONLY + "\":true").getBytes(UTF_8));
+    marshallerInstance = definition1.getMarshallerInstance();
+
+    if (marshallerInstance == null) {
+      throw new RuntimeException("no marshaller instance for: " + property.typeName);
     }
 
-    outstream.write('}');
+    property.setMarshaller(marshallerInstance);
+    return marshallerInstance;
   }
 
   public static Class getClassReference(final EJObject oMap) {
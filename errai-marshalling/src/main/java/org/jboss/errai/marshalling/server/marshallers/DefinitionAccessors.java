@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2011 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.marshalling.server.marshallers;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.errai.codegen.meta.MetaClass;
+import org.jboss.errai.codegen.meta.MetaField;
+import org.jboss.errai.codegen.meta.MetaMethod;
+import org.jboss.errai.marshalling.client.api.Marshaller;
+import org.jboss.errai.marshalling.client.api.MarshallingSession;
+import org.jboss.errai.marshalling.rebind.api.model.ConstructorMapping;
+import org.jboss.errai.marshalling.rebind.api.model.FactoryMapping;
+import org.jboss.errai.marshalling.rebind.api.model.InstantiationMapping;
+import org.jboss.errai.marshalling.rebind.api.model.Mapping;
+import org.jboss.errai.marshalling.rebind.api.model.MappingDefinition;
+import org.jboss.errai.marshalling.rebind.api.model.MemberMapping;
+import org.mvel2.DataConversion;
+
+/**
+ * The accessors used by a {@link DefaultDefinitionMarshaller} to read, write and instantiate the type of a
+ * {@link MappingDefinition}. They are built once per definition, so the reflective lookups and access checks are not
+ * repeated for every object that is marshalled.
+ * <p>
+ * Each accessor works on its own copy of the reflected member, so making it accessible does not change the members
+ * shared through the class's metadata.
+ */
+final class DefinitionAccessors {
+
+  /**
+   * A property of the mapped type, with the member used to read or write it.
+   */
+  static final class Property {
+    final String key;
+    final MetaClass type;
+    final String typeName;
+    final String encodedKey;
+    final Class<?> targetType;
+    final Class<?> boxedTargetType;
+    private final Field field;
+    private final Method method;
+
+    private volatile Marshaller<Object> marshaller;
+    private volatile Marshaller<Object> demarshaller;
+
+    private Property(final MemberMapping mapping, final Field field, final Method method, final Class<?> targetType) {
+      this.key = mapping.getKey();
+      this.type = mapping.getType();
+      this.typeName = type.getFullyQualifiedName();
+      this.encodedKey = "\"" + key + "\":";
+      this.field = field;
+      this.method = method;
+      this.targetType = targetType;
+      this.boxedTargetType = MethodType.methodType(targetType).wrap().returnType();
+    }
+
+    /**
+     * Returns the marshaller for values of this property, as previously resolved by {@link #setMarshaller}.
+     */
+    Marshaller<Object> getMarshaller() {
+      return marshaller;
+    }
+
+    void setMarshaller(final Marshaller<Object> marshaller) {
+      this.marshaller = marshaller;
+    }
+
+    /**
+     * Returns the marshaller that demarshalls values of this property. It is looked up in the specified session the
+     * first time, and then kept by the property.
+     */
+    Marshaller<Object> getDemarshaller(final MarshallingSession ctx) {
+      Marshaller<Object> demarshaller = this.demarshaller;
+      if (demarshaller == null) {
+        this.demarshaller = demarshaller = ctx.getMarshallerInstance(typeName);
+      }
+      return demarshaller;
+    }
+
+    /**
+     * Reads the property from the specified instance.
+     */
+    Object get(final Object instance) {
+      try {
+        return field != null ? field.get(instance) : method.invoke(instance);
+      }
+      catch (final InvocationTargetException e) {
+        throw new RuntimeException("error reading property: " + member(), e.getCause());
+      }
+      catch (final Exception e) {
+        throw new RuntimeException("error reading property: " + member(), e);
+      }
+    }
+
+    /**
+     * Converts the specified value to the type of the property, if required, and writes it to the instance.
+     */
+    void set(final Object instance, final Object value) {
+      final Object converted = boxedTargetType.isInstance(value) ? value : DataConversion.convert(value, targetType);
+      try {
+        if (field != null) {
+          field.set(instance, converted);
+        }
+        else {
+          method.invoke(instance, converted);
+        }
+      }
+      catch (final Exception e) {
+        throw new RuntimeException("could not set property (inst=" + instance + "; member=" + member() + "; val="
+            + value + ")", e instanceof InvocationTargetException ? e.getCause() : e);
+      }
+    }
+
+    private AccessibleObject member() {
+      return field != null ? field : method;
+    }
+  }
+
+  final Property[] readable;
+  final Property[] writable;
+  private final Map<String, Property> writableByKey;
+
+  final Mapping[] instantiationMappings;
+  final String[] instantiationTypeNames;
+  final Class<?>[] instantiationTypes;
+  private final Constructor<?> constructor;
+  private final Method factoryMethod;
+  private final Marshaller<Object>[] instantiationMarshallers;
+
+  @SuppressWarnings("unchecked")
+  DefinitionAccessors(final MappingDefinition definition) {
+    final List<MemberMapping> readableMappings = definition.getReadableMemberMappings();
+    readable = new Property[readableMappings.size()];
+    for (int i = 0; i < readable.length; i++) {
+      readable[i] = createGetter(readableMappings.get(i));
+    }
+
+    final List<MemberMapping> writableMappings = definition.getWritableMemberMappings();
+    writable = new Property[writableMappings.size()];
+    writableByKey = new HashMap<String, Property>(writable.length * 2);
+    for (int i = 0; i < writable.length; i++) {
+      writable[i] = createSetter(writableMappings.get(i));
+      writableByKey.put(writable[i].key, writable[i]);
+    }
+
+    final InstantiationMapping cMapping = definition.getInstantiationMapping();
+    if (cMapping != null) {
+      instantiationMappings = cMapping.getMappings();
+      instantiationTypes = cMapping.getSignature();
+      instantiationTypeNames = new String[instantiationMappings.length];
+      for (int i = 0; i < instantiationMappings.length; i++) {
+        instantiationTypeNames[i] = instantiationMappings[i].getType().getFullyQualifiedName();
+      }
+
+      if (cMapping instanceof ConstructorMapping) {
+        constructor = copyOf(((ConstructorMapping) cMapping).getMember().asConstructor());
+        factoryMethod = null;
+      }
+      else {
+        constructor = null;
+        factoryMethod = copyOf(((FactoryMapping) cMapping).getMember().asMethod());
+      }
+    }
+    else {
+      instantiationMappings = new Mapping[0];
+      instantiationTypes = new Class<?>[0];
+      instantiationTypeNames = new String[0];
+      constructor = null;
+      factoryMethod = null;
+    }
+    instantiationMarshallers = new Marshaller[instantiationMappings.length];
+  }
+
+  /**
+   * Returns the writable property with the specified key, or null if there is none.
+   */
+  Property getWritable(final String key) {
+    return writableByKey.get(key);
+  }
+
+  /**
+   * Returns the marshaller that demarshalls the specified constructor or factory method argument. It is looked up in
+   * the specified session the first time, and then kept.
+   */
+  Marshaller<Object> getInstantiationMarshaller(final int index, final MarshallingSession ctx) {
+    Marshaller<Object> marshaller = instantiationMarshallers[index];
+    if (marshaller == null) {
+      instantiationMarshallers[index] = marshaller = ctx.getMarshallerInstance(instantiationTypeNames[index]);
+    }
+    return marshaller;
+  }
+
+  /**
+   * Creates a new instance of the mapped type from the specified (already converted) constructor or factory method
+   * arguments.
+   */
+  Object instantiate(final Object[] arguments) throws Exception {
+    try {
+      return constructor != null ? constructor.newInstance(arguments) : factoryMethod.invoke(null, arguments);
+    }
+    catch (final InvocationTargetException e) {
+      if (e.getCause() instanceof Exception) {
+        throw (Exception) e.getCause();
+      }
+      throw new RuntimeException("could not instantiate using: " + (constructor != null ? constructor : factoryMethod),
+          e.getCause());
+    }
+  }
+
+  private static Property createGetter(final MemberMapping mapping) {
+    if (mapping.getReadingMember() instanceof MetaField) {
+      final Field field = copyOf(((MetaField) mapping.getReadingMember()).asField());
+      return new Property(mapping, field, null, field.getType());
+    }
+    else {
+      final Method method = copyOf(((MetaMethod) mapping.getReadingMember()).asMethod());
+      return new Property(mapping, null, method, method.getReturnType());
+    }
+  }
+
+  private static Property createSetter(final MemberMapping mapping) {
+    if (mapping.getBindingMember() instanceof MetaField) {
+      final Field field = copyOf(((MetaField) mapping.getBindingMember()).asField());
+      return new Property(mapping, field, null, field.getType());
+    }
+    else {
+      final Method method = copyOf(((MetaMethod) mapping.getBindingMember()).asMethod());
+      return new Property(mapping, null, method, method.getParameterTypes()[0]);
+    }
+  }
+
+  /**
+   * Returns an accessible copy of the specified field. {@link Class#getDeclaredField(String)} returns a new
+   * {@link Field} object on every call.
+   */
+  private static Field copyOf(final Field field) {
+    try {
+      final Field copy = field.getDeclaringClass().getDeclaredField(field.getName());
+      copy.setAccessible(true);
+      return copy;
+    }
+    catch (final NoSuchFieldException e) {
+      throw new RuntimeException("could not access field: " + field, e);
+    }
+  }
+
+  /**
+   * Returns an accessible copy of the specified method.
+   */
+  private static Method copyOf(final Method method) {
+    try {
+      final Method copy = method.getDeclaringClass().getDeclaredMethod(method.getName(), method.getParameterTypes());
+      copy.setAccessible(true);
+      return copy;
+    }
+    catch (final NoSuchMethodException e) {
+      throw new RuntimeException("could not access method: " + method, e);
+    }
+  }
+
+  /**
+   * Returns an accessible copy of the specified constructor.
+   */
+  private static Constructor<?> copyOf(final Constructor<?> constructor) {
+    try {
+      final Constructor<?> copy = constructor.getDeclaringClass().getDeclaredConstructor(constructor.getParameterTypes());
+      copy.setAccessible(true);
+      return copy;
+    }
+    catch (final NoSuchMethodException e) {
+      throw new RuntimeException("could not access constructor: " + constructor, e);
+    }
+  }
+}
@@ -33,15 +33,44 @@ public class ErraiProtocolServer extends ErraiProtocol {
 
   public static ByteArrayInputStream encodePayloadToByteArrayInputStream(final Map<String, Object> payload) {
     try {
-      // Process the payload before the encoding process.
-      preprocessors.forEach(preprocessor -> preprocessor.process(payload));
-
-      return new ByteArrayInputStream(encodePayload(payload).getBytes("UTF-8"));
+      return new ByteArrayInputStream(encodePreprocessedPayload(payload).getBytes("UTF-8"));
     } catch (UnsupportedEncodingException e) {
       throw new AssertionError("UTF-8 appears not to be supported by this JRE, but that's impossible");
     }
   }
 
+  /**
+   * Encodes the payload after it has been processed by all registered {@link PayloadPreprocessor}s. Unlike
+   * {@link #encodePayloadToByteArrayInputStream(Map)}, the result is not copied into a byte array, so callers can
+   * encode it straight into their destination.
+   *
+   * @param payload
+   *          A map of the key-value pairs to be encoded.
+   * @return The encoded JSON
+   */
+  public static String encodePreprocessedPayload(final Map<String, Object> payload) {
+    // Process the payload before the encoding process.
+    preprocessors.forEach(preprocessor -> preprocessor.process(payload));
+
+    return encodePayload(payload);
+  }
+
+  /**
+   * Encodes the payload in the {@link org.jboss.errai.marshalling.client.protocols.CompactProtocol} after it has been
+   * processed by all registered {@link PayloadPreprocessor}s.
+   *
+   * @param payload
+   *          A map of the key-value pairs to be encoded.
+   * @return The encoded JSON
+   */
+  public static String encodePreprocessedCompactPayload(final Map<String, Object> payload) {
+    preprocessors.forEach(preprocessor -> preprocessor.process(payload));
+
+    final StringBuilder buf = new StringBuilder(256);
+    encodeCompactPayload(buf, payload);
+    return buf.toString();
+  }
+
   public static void addPreprocessor(PayloadPreprocessor preprocessor) {
     preprocessors.add(preprocessor);
   }
@@ -23,9 +23,12 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+
 import org.jboss.errai.marshalling.client.api.json.EJArray;
 import org.jboss.errai.marshalling.client.api.json.EJValue;
 import org.jboss.errai.marshalling.server.JSONDecoder;
+import org.jboss.errai.marshalling.server.JSONStreamDecoder;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -267,6 +270,28 @@ public class JSONDecoderTest {
     assertFalse(myValue.isNull());
   }
 
+  @Test
+  public void testDecodeStringsSpanningBufferBoundaries() throws Exception {
+    final StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      expected.append("line ").append(i).append("\t\"quoted\"\n\u00e9\\");
+    }
+
+    final StringBuilder escaped = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      escaped.append("line ").append(i).append("\\t\\\"quoted\\\"\\n\\u00E9\\\\");
+    }
+
+    final String json = "{ \"a\": \"" + escaped + "\", \"b\": [1, \"" + escaped + "\", true] }";
+    final EJValue ejv = JSONStreamDecoder.decode(new ByteArrayInputStream(json.getBytes("UTF-8")));
+
+    assertEquals(expected.toString(), ejv.isObject().get("a").isString().stringValue());
+    final EJArray array = ejv.isObject().get("b").isArray();
+    assertEquals(1, array.get(0).isNumber().intValue());
+    assertEquals(expected.toString(), array.get(1).isString().stringValue());
+    assertTrue(array.get(2).isBoolean().booleanValue());
+  }
+
   private static Throwable findRootCause(Throwable e) {
     while (e.getCause() != null && e.getCause() != e) {
       e = e.getCause();
@@ -22,8 +22,13 @@ import org.jboss.errai.marshalling.client.api.Marshaller;
 import org.jboss.errai.marshalling.client.api.MarshallingSession;
 import org.jboss.errai.marshalling.client.api.ParserFactory;
 import org.jboss.errai.marshalling.client.api.json.EJValue;
+import org.jboss.errai.marshalling.client.protocols.CompactProtocol;
+import org.jboss.errai.marshalling.client.protocols.ErraiProtocol;
+import org.jboss.errai.marshalling.server.JSONDecoder;
+import org.jboss.errai.marshalling.server.JSONStreamDecoder;
 import org.jboss.errai.marshalling.server.MappingContextSingleton;
 import org.jboss.errai.marshalling.server.ServerMarshalling;
+import org.jboss.errai.marshalling.server.StreamingDemarshaller;
 import org.jboss.errai.marshalling.tests.res.AImpl1;
 import org.jboss.errai.marshalling.tests.res.AImpl2;
 import org.jboss.errai.marshalling.tests.res.EntityWithInheritedTypeVariable;
@@ -40,17 +45,22 @@ import org.jboss.errai.marshalling.tests.res.Outer2;
 import org.jboss.errai.marshalling.tests.res.SType;
 import org.jboss.errai.marshalling.tests.res.shared.Role;
 import org.jboss.errai.marshalling.tests.res.shared.User;
+import org.junit.Ignore;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
@@ -507,7 +517,15 @@ public class ServerMarshallingTest {
     private final char[] CHARS = {'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm', 'n', 'o', 'p', 'q',
             'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0'};
 
-    private final Random random = new Random(System.nanoTime());
+    private final Random random;
+
+    ServerRandomProvider() {
+      this(System.nanoTime());
+    }
+
+    ServerRandomProvider(final long seed) {
+      this.random = new Random(seed);
+    }
 
     @Override
     public boolean nextBoolean() {
@@ -569,6 +587,274 @@ public class ServerMarshallingTest {
 //    System.out.println(System.currentTimeMillis() - st);
   }
 
+  @Test
+  public void testMarshallIntoBufferMatchesMarshallToString() {
+    final List<SType> list = new ArrayList<SType>();
+    final ServerRandomProvider random = new ServerRandomProvider(42);
+    for (int i = 0; i < 50; i++) {
+      list.add(SType.create(random));
+    }
+    list.add(list.get(0));
+
+    final Marshaller<Object> marshaller = MappingContextSingleton.get().getMarshaller(ArrayList.class.getName());
+    final String expected = marshaller.marshall(list, MarshallingSessionProviderFactory.getEncoding());
+
+    final StringBuilder buf = new StringBuilder("[");
+    marshaller.marshall(buf, list, MarshallingSessionProviderFactory.getEncoding());
+    buf.append("]");
+    Assert.assertEquals("[" + expected + "]", buf.toString());
+
+    final Object decoded = marshaller.demarshall(ParserFactory.get().parse(buf.toString()).isArray().get(0),
+        MarshallingSessionProviderFactory.getDecoding());
+    Assert.assertEquals(list, decoded);
+  }
+
+  private Map<String, Object> compactProtocolMessage(final int graphs) {
+    // initializes the marshalling session providers used by ErraiProtocol.
+    MappingContextSingleton.get();
+
+    final List<SType> list = new ArrayList<SType>();
+    final ServerRandomProvider random = new ServerRandomProvider(42);
+    for (int i = 0; i < graphs; i++) {
+      list.add(SType.create(random));
+    }
+
+    final Map<String, String> tildes = new HashMap<String, String>();
+    tildes.put("~", "a");
+    tildes.put("~1", "b");
+    tildes.put("~~", "c");
+
+    final Map<String, Object> message = new HashMap<String, Object>();
+    message.put("ToSubject", "CompactProtocolTest");
+    message.put("Value", list);
+    message.put("Tildes", tildes);
+    return message;
+  }
+
+  private static String encodeCompactPayload(final Map<String, Object> message) {
+    final StringBuilder buf = new StringBuilder(256);
+    ErraiProtocol.encodeCompactPayload(buf, message);
+    return buf.toString();
+  }
+
+  @Test
+  public void testCompactProtocolRoundTrip() throws Exception {
+    final Map<String, Object> message = compactProtocolMessage(20);
+    final String encoded = ErraiProtocol.encodePayload(message);
+    final String compacted = encodeCompactPayload(message);
+
+    Assert.assertTrue(compacted.length() < encoded.length());
+    Assert.assertTrue(compacted.startsWith("{\"" + CompactProtocol.TYPE_TABLE + "\":[\""));
+    final String type = "\"" + SType.class.getName() + "\"";
+    Assert.assertTrue(compacted.contains(type));
+    Assert.assertEquals(compacted.indexOf(type), compacted.lastIndexOf(type));
+
+    final EJValue parsed = JSONStreamDecoder.decode(new ByteArrayInputStream(
+        ("[" + compacted + "," + encoded + "]").getBytes("UTF-8")));
+    Assert.assertEquals(message, ErraiProtocol.decodePayload(parsed.isArray().get(0)));
+    Assert.assertEquals(message, ErraiProtocol.decodePayload(parsed.isArray().get(1)));
+  }
+
+  @Test
+  public void testCompactProtocolMessageWithoutObjects() throws Exception {
+    final Map<String, Object> message = new HashMap<String, Object>();
+    message.put("ToSubject", "CompactProtocolTest");
+    message.put("Value", "~0");
+
+    final String compacted = encodeCompactPayload(message);
+    Assert.assertEquals(ErraiProtocol.encodePayload(message), compacted);
+    Assert.assertEquals(message, ErraiProtocol.decodePayload(JSONDecoder.decode(compacted)));
+  }
+
+  /**
+   * Compares the size and the encoding and decoding time of a list-heavy message in the standard and the compact
+   * protocol.
+   */
+  @Test
+  @Ignore
+  public void testCompactProtocolPayloadSize() throws Exception {
+    final Map<String, Object> message = compactProtocolMessage(50);
+    final String encoded = ErraiProtocol.encodePayload(message);
+    final String compacted = encodeCompactPayload(message);
+    System.out.println("standard: " + encoded.getBytes("UTF-8").length + " bytes, compact: "
+        + compacted.getBytes("UTF-8").length + " bytes");
+
+    for (int round = 0; round < 5; round++) {
+      long start = System.nanoTime();
+      for (int i = 0; i < 20; i++) {
+        ErraiProtocol.encodePayload(message);
+      }
+      final long encodeTime = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      for (int i = 0; i < 20; i++) {
+        encodeCompactPayload(message);
+      }
+      final long compactEncodeTime = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      for (int i = 0; i < 20; i++) {
+        ErraiProtocol.decodePayload(JSONDecoder.decode(encoded));
+      }
+      final long decodeTime = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      for (int i = 0; i < 20; i++) {
+        ErraiProtocol.decodePayload(JSONDecoder.decode(compacted));
+      }
+      final long compactDecodeTime = System.nanoTime() - start;
+
+      System.out.println("standard: encoded in " + encodeTime / 1000000 + "ms, decoded in " + decodeTime / 1000000
+          + "ms; compact: encoded in " + compactEncodeTime / 1000000 + "ms, decoded in "
+          + compactDecodeTime / 1000000 + "ms");
+    }
+  }
+
+  private static Object demarshallTree(final byte[] json) throws Exception {
+    final MarshallingSession session = MarshallingSessionProviderFactory.getDecoding();
+    return session.getMarshallerInstance(Object.class.getName())
+        .demarshall(JSONStreamDecoder.decode(new ByteArrayInputStream(json)), session);
+  }
+
+  @Test
+  public void testStreamingDemarshallMatchesTree() throws Exception {
+    final List<Object> list = new ArrayList<Object>();
+    final ServerRandomProvider random = new ServerRandomProvider(42);
+    for (int i = 0; i < 20; i++) {
+      list.add(SType.create(random));
+    }
+    list.add(list.get(0));
+    list.add(null);
+    list.add("a string");
+    list.add(Collections.singletonMap("key", list.get(1)));
+
+    MappingContextSingleton.get();
+    final byte[] json = ServerMarshalling.toJSON(list).getBytes("UTF-8");
+
+    final List<?> streamed = (List<?>) ServerMarshalling.fromJSON(new ByteArrayInputStream(json));
+    Assert.assertEquals(list, streamed);
+    Assert.assertEquals(demarshallTree(json), streamed);
+    Assert.assertSame(streamed.get(0), streamed.get(20));
+    Assert.assertSame(streamed.get(1), ((Map<?, ?>) streamed.get(23)).get("key"));
+  }
+
+  @Test
+  public void testStreamingDemarshallMessages() throws Exception {
+    final Map<String, Object> message = compactProtocolMessage(5);
+    message.put("SessionID", "ignored");
+    final String payload = "[" + encodeCompactPayload(message) + "," + ErraiProtocol.encodePayload(message) + "]";
+
+    final List<Map<String, Object>> messages
+        = StreamingDemarshaller.demarshallMessages(new ByteArrayInputStream(payload.getBytes("UTF-8")));
+    message.remove("SessionID");
+
+    Assert.assertEquals(2, messages.size());
+    Assert.assertEquals(message, messages.get(0));
+    Assert.assertEquals(message, messages.get(1));
+  }
+
+  /**
+   * Compares the time and memory it takes to demarshall a list of entities and a list of {@link SType} graphs from a
+   * stream, and from an {@link EJValue} tree parsed from the same stream.
+   */
+  @Test
+  @Ignore
+  public void testStreamingDemarshallThroughput() throws Exception {
+    final List<User> users = new ArrayList<User>();
+    for (int i = 0; i < 5000; i++) {
+      final User user = new User();
+      user.setUserId(i);
+      user.setUserName("user" + i);
+      user.setPassword("a somewhat longer password " + i);
+      users.add(user);
+    }
+
+    final List<SType> graphs = new ArrayList<SType>();
+    final ServerRandomProvider random = new ServerRandomProvider(42);
+    for (int i = 0; i < 200; i++) {
+      graphs.add(SType.create(random));
+    }
+
+    MappingContextSingleton.get();
+    for (int round = 0; round < 5; round++) {
+      compareStreamingDemarshall("entities", ServerMarshalling.toJSON(users).getBytes("UTF-8"));
+      compareStreamingDemarshall("graphs", ServerMarshalling.toJSON(graphs).getBytes("UTF-8"));
+    }
+  }
+
+  private static void compareStreamingDemarshall(final String label, final byte[] json) throws Exception {
+    final com.sun.management.ThreadMXBean threadMXBean
+        = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final long threadId = Thread.currentThread().getId();
+    final int iterations = 50;
+
+    long allocated = threadMXBean.getThreadAllocatedBytes(threadId);
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      demarshallTree(json);
+    }
+    final long treeTime = System.nanoTime() - start;
+    final long treeBytes = (threadMXBean.getThreadAllocatedBytes(threadId) - allocated) / iterations;
+
+    allocated = threadMXBean.getThreadAllocatedBytes(threadId);
+    start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      ServerMarshalling.fromJSON(new ByteArrayInputStream(json));
+    }
+    final long streamTime = System.nanoTime() - start;
+    final long streamBytes = (threadMXBean.getThreadAllocatedBytes(threadId) - allocated) / iterations;
+
+    System.out.println(label + " (" + json.length / 1024 + "KB): tree " + treeTime / 1000000 + "ms, "
+        + treeBytes / 1024 + "KB allocated per payload; stream " + streamTime / 1000000 + "ms, "
+        + streamBytes / 1024 + "KB allocated per payload");
+  }
+
+  /**
+   * Marshalls and demarshalls a set of {@link SType} graphs, to measure the cost of reading, writing and instantiating
+   * portable types with the marshaller in use. Parsing the JSON is not included in the demarshalling time. Run it once
+   * as is, for the dynamic marshallers, and once with <tt>-Derrai.marshalling.force_static_marshallers=true</tt>, for
+   * the generated ones.
+   */
+  @Test
+  @Ignore
+  public void testSTypeMarshallingThroughput() {
+    final List<SType> graphs = new ArrayList<SType>();
+    final ServerRandomProvider random = new ServerRandomProvider(42);
+    for (int i = 0; i < 100; i++) {
+      graphs.add(SType.create(random));
+    }
+
+    final Marshaller<Object> marshaller = MappingContextSingleton.get().getMarshaller(SType.class.getName());
+    long bestMarshallTime = Long.MAX_VALUE;
+    long bestDemarshallTime = Long.MAX_VALUE;
+    for (int round = 0; round < 15; round++) {
+      final List<String> encoded = new ArrayList<String>(graphs.size() * 20);
+      System.gc();
+      long start = System.nanoTime();
+      for (int i = 0; i < 20; i++) {
+        for (final SType sType : graphs) {
+          encoded.add("[" + marshaller.marshall(sType, MarshallingSessionProviderFactory.getEncoding()) + "]");
+        }
+      }
+      bestMarshallTime = Math.min(bestMarshallTime, System.nanoTime() - start);
+
+      final List<EJValue> parsed = new ArrayList<EJValue>(encoded.size());
+      for (final String enc : encoded) {
+        parsed.add(ParserFactory.get().parse(enc).isArray().get(0));
+      }
+
+      System.gc();
+      start = System.nanoTime();
+      for (final EJValue value : parsed) {
+        marshaller.demarshall(value, MarshallingSessionProviderFactory.getDecoding());
+      }
+      bestDemarshallTime = Math.min(bestDemarshallTime, System.nanoTime() - start);
+    }
+
+    System.out.println(marshaller.getClass().getSimpleName() + ": best of 15 rounds of 2000 graphs: marshalled in "
+        + bestMarshallTime / 1000000 + "ms, demarshalled in " + bestDemarshallTime / 1000000 + "ms");
+  }
+
   @Test
   public void testPrimitiveIntRoundTrip() {
     final int val = 1701;
@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2011 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.tools.monitoring;
+
+
+public enum SubEventType {
+  NONE,
+  TX_REMOTE,
+  RX_REMOTE,
+  INBUS,
+  REMOTE_ATTACHED,
+  REMOTE_DETATCHED,
+  SERVER_SUBSCRIBE,
+  SERVER_UNSUBSCRIBE,
+  REMOTE_SUBSCRIBE,
+  REMOTE_UNSUBSCRIBE
+}
@@ -31,6 +31,7 @@ import org.jboss.errai.ioc.client.container.IOC;
 import org.jboss.errai.ioc.client.container.async.AsyncBeanDef;
 import org.jboss.errai.ui.shared.DomVisit;
 import org.jboss.errai.ui.shared.JSONMap;
+import org.jboss.errai.ui.shared.TemplateUtil;
 import org.jboss.errai.ui.shared.TranslationDomRevisitor;
 import org.jboss.errai.ui.shared.api.annotations.Templated;
 import org.jboss.errai.ui.shared.wrapper.ElementWrapper;
@@ -96,6 +97,7 @@ public abstract class TranslationService {
       locale = locale.toLowerCase();
     }
     dictionary.put(locale, key, value);
+    TemplateUtil.clearTranslatedTemplates();
   }
 
   /**
@@ -234,6 +236,7 @@ public abstract class TranslationService {
    */
   public static void setShouldSearchKeyOnDefaultLocale(final boolean newShouldSearchKeyOnDefaultLocale) {
     shouldSearchKeyOnDefaultLocale = newShouldSearchKeyOnDefaultLocale;
+    TemplateUtil.clearTranslatedTemplates();
   }
 
   /**
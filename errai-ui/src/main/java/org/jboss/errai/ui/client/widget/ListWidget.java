@@ -16,11 +16,16 @@
 
 package org.jboss.errai.ui.client.widget;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import javax.enterprise.context.Dependent;
 
@@ -30,6 +35,7 @@ import org.jboss.errai.common.client.util.CreationalCallback;
 import org.jboss.errai.databinding.client.BindableListWrapper;
 import org.jboss.errai.databinding.client.api.handler.list.BindableListChangeHandler;
 import org.jboss.errai.databinding.client.components.ListComponent;
+import org.jboss.errai.databinding.client.components.ReconcileUtil;
 import org.jboss.errai.ioc.client.container.IOC;
 import org.jboss.errai.ioc.client.container.SyncToAsyncBeanManagerAdapter;
 import org.jboss.errai.ioc.client.container.async.AsyncBeanDef;
@@ -79,6 +85,7 @@ public abstract class ListWidget<M, C extends HasModel<M>> extends Composite
 
   private final List<ComponentCreationalCallback> callbacks = new LinkedList<>();
   private int pendingCallbacks;
+  private Function<? super M, ?> keyExtractor;
 
   private final ValueChangeManager<List<M>, ListWidget<M, C>> valueChangeManager = new ValueChangeManager<>(this);
 
@@ -161,6 +168,24 @@ public abstract class ListWidget<M, C extends HasModel<M>> extends Composite
     }
   }
 
+  /**
+   * Enables keyed reconciliation in {@link #setItems(List)}. When a different list is set while a key extractor is
+   * present, item components already displaying a model with the same key as a model in the new list are reused and
+   * moved into place, and only components for new keys are created. This requires a panel implementing
+   * {@link InsertPanel.ForIsWidget}; otherwise all components are recreated as usual.
+   * <p>
+   * Components for new keys are inserted at the index of their model. When the asynchronous bean manager is used with
+   * an item component declaring @LoadAsync, these components are added in the order they become available.
+   *
+   * @param keyExtractor
+   *          Returns the identifying key of a model, such as its id. Keys are compared with
+   *          {@link Object#equals(Object)} and {@link Object#hashCode()}. If null, keyed reconciliation is disabled (the
+   *          default).
+   */
+  public void setItemKeyExtractor(final Function<? super M, ?> keyExtractor) {
+    this.keyExtractor = keyExtractor;
+  }
+
   private void initializeHandlers() {
     for (final HandlerRegistration reg : registrations) {
       reg.removeHandler();
@@ -175,6 +200,11 @@ public abstract class ListWidget<M, C extends HasModel<M>> extends Composite
     // The AsyncBeanManager API works in both synchronous and asynchronous IOC mode
     AsyncBeanManager bm = IOC.getAsyncBeanManager();
 
+    if (keyExtractor != null && pendingCallbacks == 0 && panel instanceof InsertPanel.ForIsWidget) {
+      reconcile(bm);
+      return;
+    }
+
     // In the case that this method is executed before the first call has
     // successfully processed all of its callbacks, we must cancel those
     // uncompleted callbacks in flight to prevent duplicate data in the
@@ -209,6 +239,86 @@ public abstract class ListWidget<M, C extends HasModel<M>> extends Composite
     }
   }
 
+  /**
+   * Updates the panel to display the current items, reusing the widgets of components whose model has the same key as
+   * one of the items. Reused widgets keep their relative order where possible, so that only the widgets of reordered
+   * items are moved.
+   */
+  private void reconcile(final AsyncBeanManager bm) {
+    callbacks.clear();
+
+    final Map<Object, Deque<Widget>> widgetsByKey = new HashMap<>();
+    for (final Widget widget : panel) {
+      final Object key = keyExtractor.apply(getComponentFromWidget(widget).getModel());
+      widgetsByKey.computeIfAbsent(key, k -> new ArrayDeque<>()).add(widget);
+    }
+
+    final Widget[] reused = new Widget[items.size()];
+    for (int i = 0; i < items.size(); i++) {
+      final M item = items.get(i);
+      final Deque<Widget> candidates = widgetsByKey.get(keyExtractor.apply(item));
+      if (candidates != null && !candidates.isEmpty()) {
+        reused[i] = candidates.poll();
+        final C component = getComponentFromWidget(reused[i]);
+        if (component.getModel() != item) {
+          component.setModel(item);
+        }
+      }
+    }
+
+    for (final Deque<Widget> unused : widgetsByKey.values()) {
+      for (final Widget widget : unused) {
+        panel.remove(widget);
+        bm.destroyBean(getComponentFromWidget(widget));
+      }
+    }
+
+    // Walk the reused widgets backwards, moving every widget that is out of order with respect to the
+    // widget following it. Widgets on a longest increasing run of their current positions never move.
+    final Map<Widget, Integer> positions = new HashMap<>();
+    for (int i = 0; i < panel.getWidgetCount(); i++) {
+      positions.put(panel.getWidget(i), i);
+    }
+    final int[] sources = new int[reused.length];
+    for (int i = 0; i < reused.length; i++) {
+      sources[i] = (reused[i] != null ? positions.get(reused[i]) : -1);
+    }
+    final boolean[] stable = ReconcileUtil.longestIncreasingSubsequence(sources);
+    final InsertPanel.ForIsWidget insertPanel = (InsertPanel.ForIsWidget) panel;
+    Widget next = null;
+    for (int i = reused.length - 1; i > -1; i--) {
+      if (reused[i] != null) {
+        if (!stable[i]) {
+          insertPanel.insert(reused[i], (next != null ? panel.getWidgetIndex(next) : panel.getWidgetCount()));
+        }
+        next = reused[i];
+      }
+    }
+
+    pendingCallbacks = 0;
+    for (final Widget widget : reused) {
+      if (widget == null) {
+        pendingCallbacks++;
+      }
+    }
+    if (pendingCallbacks == 0) {
+      onItemsRendered(items);
+      return;
+    }
+
+    final AsyncBeanDef<C> itemBeanDef = bm.lookupBean(getItemComponentType());
+    if (!itemBeanDef.getScope().equals(Dependent.class))
+      throw new InvalidBeanScopeException("ListWidget cannot contain ApplicationScoped widgets");
+
+    for (int i = 0; i < reused.length; i++) {
+      if (reused[i] == null) {
+        final ComponentCreationalCallback callback = new ComponentCreationalCallback(items.get(i), i);
+        callbacks.add(callback);
+        itemBeanDef.getInstance(callback);
+      }
+    }
+  }
+
   /**
    * Returns the component at the specified index.
    *
@@ -313,9 +423,15 @@ public abstract class ListWidget<M, C extends HasModel<M>> extends Composite
   private class ComponentCreationalCallback implements CreationalCallback<C> {
     private boolean discard;
     private final M item;
+    private final int index;
 
     private ComponentCreationalCallback(M item) {
+      this(item, -1);
+    }
+
+    private ComponentCreationalCallback(M item, int index) {
       this.item = item;
+      this.index = index;
     }
 
     @Override
@@ -324,7 +440,12 @@ public abstract class ListWidget<M, C extends HasModel<M>> extends Composite
         component.setModel(item);
         final IsWidget widget;
         widget = getWidgetForComponent(component);
-        panel.add(widget);
+        if (index > -1 && index < panel.getWidgetCount()) {
+          ((InsertPanel.ForIsWidget) panel).insert(widget, index);
+        }
+        else {
+          panel.add(widget);
+        }
 
         if (--pendingCallbacks == 0) {
           onItemsRendered(items);
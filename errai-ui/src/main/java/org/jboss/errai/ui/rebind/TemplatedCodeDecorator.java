@@ -268,6 +268,11 @@ public class TemplatedCodeDecorator extends IOCDecoratorExtension<Templated> {
         }
       }
 
+      /*
+       * If i18n is enabled for this module, the template is translated once per locale before it is cloned
+       */
+      final boolean translate = !customProvider;
+
       /*
        * Get root Template Element
        */
@@ -280,18 +285,12 @@ public class TemplatedCodeDecorator extends IOCDecoratorExtension<Templated> {
                   (customProvider) ? Variable.get("template") :
                     Stmt.loadVariable(templateVarName).invoke("getContents").invoke("getText"),
                   getTemplateFileName(declaringClass),
-                  getTemplateFragmentName(declaringClass))));
+                  getTemplateFragmentName(declaringClass),
+                  loadLiteral(translate))));
 
       final Statement rootTemplateElement = Stmt.invokeStatic(TemplateUtil.class, "getRootTemplateElement",
               Stmt.loadVariable(parentOfRootTemplateElementVarName));
 
-      /*
-       * If i18n is enabled for this module, translate the root template element here
-       */
-      if (!customProvider) {
-        translateTemplate(decorable, initStmts, rootTemplateElement);
-      }
-
       /*
        * Get a reference to the actual Composite component being created
        */
@@ -304,6 +303,9 @@ public class TemplatedCodeDecorator extends IOCDecoratorExtension<Templated> {
       initStmts.add(Stmt.declareVariable(dataFieldElementsVarName,
           new TypeLiteral<Map<String, Element>>() {},
           Stmt.invokeStatic(TemplateUtil.class, "getDataFieldElements",
+                  getTemplateFileName(declaringClass),
+                  getTemplateFragmentName(declaringClass),
+                  loadLiteral(translate),
                   rootTemplateElement))
       );
 
@@ -755,24 +757,6 @@ public class TemplatedCodeDecorator extends IOCDecoratorExtension<Templated> {
     return (MetaClass) argTypes[0];
   }
 
-  /**
-   * Translates the template using the module's i18n message bundle (only if
-   * i18n is enabled for the module).
-   * @param decorable
-   * @param initStmts
-   * @param rootTemplateElement
-   */
-  private void translateTemplate(final Decorable decorable, final List<Statement> initStmts,
-          final Statement rootTemplateElement) {
-    initStmts.add(
-            Stmt.invokeStatic(
-                    TemplateUtil.class,
-                    "translateTemplate",
-                    getTemplateFileName(decorable.getDecorableDeclaringType()),
-                    rootTemplateElement
-                    ));
-  }
-
   private void generateComponentCompositions(final Decorable decorable,
                                              final List<Statement> initStmts,
                                              final Statement component,
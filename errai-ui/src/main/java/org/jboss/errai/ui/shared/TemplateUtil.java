@@ -24,6 +24,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.function.Supplier;
@@ -284,6 +285,49 @@ public final class TemplateUtil {
   }-*/;
 
   private static Map<String, Element> templateRoots = new HashMap<>();
+  private static Map<String, Element> translatedTemplateRoots = new HashMap<>();
+  private static Map<String, Map<String, int[]>> dataFieldPaths = new HashMap<>();
+
+  /**
+   * Like {@link #getRootTemplateParentElement(String, String, String)}, but if {@code translate} is true and
+   * i18n is enabled, the template is translated into the current locale before it is cached, so that each
+   * instance only pays for cloning the translated template.
+   */
+  public static Element getRootTemplateParentElement(final String templateContents, final String templateFileName,
+          final String rootField, final boolean translate) {
+    if (!translate || !getTranslationService().isEnabled()) {
+      return getRootTemplateParentElement(templateContents, templateFileName, rootField);
+    }
+
+    final String key = templateKey(templateFileName, rootField, true);
+    Element translatedRoot = translatedTemplateRoots.get(key);
+    if (translatedRoot == null) {
+      translatedRoot = getRootTemplateElement(getRootTemplateParentElement(templateContents, templateFileName, rootField));
+      translateTemplate(templateFileName, translatedRoot);
+      translatedTemplateRoots.put(key, translatedRoot);
+    }
+
+    return cloneIntoNewParent(translatedRoot);
+  }
+
+  /**
+   * Discards templates cached in translated form. Called when translations are registered or the translation
+   * lookup rules change.
+   */
+  public static void clearTranslatedTemplates() {
+    translatedTemplateRoots.clear();
+    dataFieldPaths.clear();
+  }
+
+  private static String templateKey(final String templateFileName, final String rootField, final boolean translate) {
+    final String key = templateFileName + "#" + rootField;
+    if (translate && getTranslationService().isEnabled()) {
+      return key + "#" + TranslationService.currentLocale();
+    }
+    else {
+      return key;
+    }
+  }
 
   public static Element getRootTemplateParentElement(final String templateContents, final String templateFileName, final String rootField) {
     final String key = templateFileName + "#" + rootField;
@@ -450,6 +494,95 @@ public final class TemplateUtil {
     return dataFields;
   }
 
+  /**
+   * Like {@link #getDataFieldElements(Element)}, but only the first instance of a template is searched. The
+   * position of each data-field in that instance is remembered as a path of child indexes, and the elements of
+   * later instances are found by following those paths. If a path does not lead to an element tagged with its
+   * data-field, the template is searched again.
+   *
+   * @param translated
+   *          Must match the value passed to {@link #getRootTemplateParentElement(String, String, String, boolean)}
+   *          for this template.
+   */
+  public static Map<String, Element> getDataFieldElements(final String templateFileName, final String rootField,
+          final boolean translated, final Element templateRoot) {
+    final String key = templateKey(templateFileName, rootField, translated);
+    final Map<String, int[]> paths = dataFieldPaths.get(key);
+    if (paths != null) {
+      final Map<String, Element> dataFields = followDataFieldPaths(templateRoot, paths);
+      if (dataFields != null) {
+        return dataFields;
+      }
+      logger.warning("Template " + key + " no longer matches its data-field paths. Searching for fields again.");
+    }
+
+    final Map<String, Element> dataFields = getDataFieldElements(templateRoot);
+    dataFieldPaths.put(key, getDataFieldPaths(templateRoot, dataFields));
+
+    return dataFields;
+  }
+
+  private static Map<String, int[]> getDataFieldPaths(final Element templateRoot, final Map<String, Element> dataFields) {
+    final Map<String, int[]> paths = new LinkedHashMap<>();
+    for (final Entry<String, Element> entry : dataFields.entrySet()) {
+      final List<Integer> indexes = new ArrayList<>();
+      for (Node node = entry.getValue(); node != null && node != templateRoot; node = node.getParentNode()) {
+        int index = 0;
+        for (Node sibling = node.getPreviousSibling(); sibling != null; sibling = sibling.getPreviousSibling()) {
+          index++;
+        }
+        indexes.add(index);
+      }
+
+      final int[] path = new int[indexes.size()];
+      for (int i = 0; i < path.length; i++) {
+        path[i] = indexes.get(path.length - 1 - i);
+      }
+      paths.put(entry.getKey(), path);
+    }
+
+    return paths;
+  }
+
+  private static Map<String, Element> followDataFieldPaths(final Element templateRoot, final Map<String, int[]> paths) {
+    final Map<String, Element> dataFields = new LinkedHashMap<>();
+    for (final Entry<String, int[]> entry : paths.entrySet()) {
+      Node node = templateRoot;
+      for (final int index : entry.getValue()) {
+        if (index >= node.getChildCount()) {
+          return null;
+        }
+        node = node.getChild(index);
+      }
+      if (node.getNodeType() != Node.ELEMENT_NODE
+              || (node != templateRoot && !isTaggedWith(Element.as(node), entry.getKey()))) {
+        return null;
+      }
+      dataFields.put(entry.getKey(), Element.as(node));
+    }
+
+    return dataFields;
+  }
+
+  /**
+   * @return true if the element has the given name as its data-field or id, or as one of its classes.
+   */
+  private static boolean isTaggedWith(final Element element, final String dataFieldName) {
+    for (final AttributeType attrType : AttributeType.values()) {
+      final String attrVal = element.getAttribute(attrType.getAttributeName());
+      if (attrVal != null && !attrVal.isEmpty()) {
+        final String[] attributeValues = (attrType == AttributeType.CLASS) ? attrVal.split(" +") : new String[]{attrVal};
+        for (final String value : attributeValues) {
+          if (dataFieldName.equals(value)) {
+            return true;
+          }
+        }
+      }
+    }
+
+    return false;
+  }
+
   public static void setupNativeEventListener(final Object component, final ElementWrapperWidget wrapper, final EventListener listener,
           final int eventsToSink) {
 
@@ -481,6 +481,43 @@ public class ListWidgetBindingTest extends AbstractErraiCDITest {
     assertItemsRendered(listWidget);
   }
 
+  @Test
+  public void testListBindingAndSetItemsWithKeyExtractor() {
+    BindingTemplateTestApp app = IOC.getBeanManager().lookupBean(BindingTemplateTestApp.class).getInstance();
+    bindingAndSetItemsWithKeyExtractorAssertions(app.getCompositeTemplate().getListWidget());
+    bindingAndSetItemsWithKeyExtractorAssertions(app.getNonCompositeTemplate().getListWidget());
+  }
+
+  private void bindingAndSetItemsWithKeyExtractorAssertions(BindingListWidget<?> listWidget) {
+    listWidget.setItemKeyExtractor(TestModel::getId);
+    List<TestModel> modelList = new ArrayList<TestModel>();
+    modelList.add(new TestModel(0, "0"));
+    modelList.add(new TestModel(2, "2"));
+    modelList.add(new TestModel(1, "1"));
+    modelList.add(new TestModel(5, "5"));
+
+    listWidget.setItems(modelList);
+    BindingItem itemWidget0 = listWidget.getComponent(0);
+    BindingItem itemWidget2 = listWidget.getComponent(1);
+    BindingItem itemWidget1 = listWidget.getComponent(2);
+    int itemsRenderedCalled = listWidget.getItemsRenderedCalled();
+
+    List<TestModel> refreshedList = new ArrayList<TestModel>();
+    refreshedList.add(new TestModel(0, "0"));
+    refreshedList.add(new TestModel(1, "1"));
+    refreshedList.add(new TestModel(2, "2"));
+    refreshedList.add(new TestModel(3, "3"));
+    listWidget.setItems(refreshedList);
+
+    assertItemsRendered(listWidget);
+    assertSame("Component for unchanged key was not reused!", itemWidget0, listWidget.getComponent(0));
+    assertSame("Component for unchanged key was not reused!", itemWidget1, listWidget.getComponent(1));
+    assertSame("Component for unchanged key was not reused!", itemWidget2, listWidget.getComponent(2));
+    assertEquals("onItemsRendered should be called exactly one time", itemsRenderedCalled + 1,
+            listWidget.getItemsRenderedCalled());
+    listWidget.setItemKeyExtractor(null);
+  }
+
   @Test
   public void testListBindingAndRemoveItem() {
     BindingTemplateTestApp app = IOC.getBeanManager().lookupBean(BindingTemplateTestApp.class).getInstance();